@@ -3,27 +3,70 @@ package fr.sedona.liferay.graphql;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.jaxrs.json.JacksonJsonProvider;
+import com.liferay.portal.configuration.metatype.bnd.util.ConfigurableUtil;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.security.permission.PermissionChecker;
+import com.liferay.portal.kernel.security.permission.PermissionThreadLocal;
+import fr.sedona.liferay.graphql.configuration.GraphQLEndpointConfiguration;
 import fr.sedona.liferay.graphql.engine.GraphQLEngine;
+import fr.sedona.liferay.graphql.persisted.PersistedQuery;
+import fr.sedona.liferay.graphql.persisted.PersistedQueryException;
+import fr.sedona.liferay.graphql.persisted.PersistedQueryStore;
 import fr.sedona.liferay.graphql.util.Constants;
+import fr.sedona.liferay.graphql.util.DeferUtil;
+import fr.sedona.liferay.graphql.util.ExecutionResultStreamingOutput;
+import fr.sedona.liferay.graphql.util.InvalidRequestError;
+import fr.sedona.liferay.graphql.util.MultipartStreamingOutput;
+import fr.sedona.liferay.graphql.util.ServerSentEventsSubscriber;
+import graphql.ExecutionInput;
 import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ConfigurationPolicy;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.jaxrs.whiteboard.JaxrsWhiteboardConstants;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.ws.rs.*;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Application;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.sse.Sse;
+import javax.ws.rs.sse.SseEventSink;
 import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 @Component(
         immediate = true,
+        configurationPid = "fr.sedona.liferay.graphql.configuration.GraphQLEndpointConfiguration",
+        configurationPolicy = ConfigurationPolicy.OPTIONAL,
         property = {
                 JaxrsWhiteboardConstants.JAX_RS_APPLICATION_BASE + "=/graphql",
                 JaxrsWhiteboardConstants.JAX_RS_NAME + "=GraphQL.Rest"
@@ -32,11 +75,49 @@ import java.util.Set;
 )
 public class GraphQLEndpoint extends Application {
     private static final Log LOGGER = LogFactoryUtil.getLog(GraphQLEndpoint.class);
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String GZIP_ENCODING = "gzip";
+    private static final String RETRY_AFTER_SECONDS = "5";
+    private static final String CACHE_CONTROL_PUBLIC = "public";
+    private static final String CACHE_CONTROL_PRIVATE = "private";
     private ObjectMapper objectMapper = new ObjectMapper();
+    private volatile boolean gzipEnabled;
+    private volatile long requestTimeoutMillis;
+    private volatile int maximumBatchOperations;
+    private volatile int subscriptionHeartbeatSeconds;
+    private volatile int maximumSubscriptions;
+    private final AtomicInteger subscriptionCount = new AtomicInteger();
+    private final ScheduledExecutorService heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "graphql-subscription-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     @Reference
     private GraphQLEngine graphQLEngine;
 
+    @Reference
+    private PersistedQueryStore persistedQueryStore;
+
+    @Activate
+    @Modified
+    public void activateComponent(Map<String, Object> properties) {
+        configure(ConfigurableUtil.createConfigurable(GraphQLEndpointConfiguration.class, properties));
+    }
+
+    void configure(GraphQLEndpointConfiguration configuration) {
+        gzipEnabled = configuration.gzipEnabled();
+        requestTimeoutMillis = configuration.requestTimeoutMillis();
+        maximumBatchOperations = configuration.maximumBatchOperations();
+        subscriptionHeartbeatSeconds = configuration.subscriptionHeartbeatSeconds();
+        maximumSubscriptions = configuration.maximumSubscriptions();
+    }
+
+    @Deactivate
+    public void deactivateComponent() {
+        heartbeatScheduler.shutdownNow();
+    }
+
     @Override
     public Set<Object> getSingletons() {
         LOGGER.info("Adding GraphQL endpoint");
@@ -51,17 +132,30 @@ public class GraphQLEndpoint extends Application {
     @GET
     @Path(Constants.ENDPOINT_SCHEMA)
     @Produces(MediaType.TEXT_PLAIN)
-    public Response getGraphQLSchema() {
-        return Response.ok(graphQLEngine.getSchema())
+    public Response getGraphQLSchema(@HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch) {
+        // The schema only changes when the module is deployed again, so tooling polling it gets a 304
+        String entityTag = "\"" + graphQLEngine.getSchemaHash() + "\"";
+        Response.ResponseBuilder responseBuilder = entityTag.equals(ifNoneMatch)
+                ? Response.notModified()
+                : Response.ok(graphQLEngine.getSchema());
+        return responseBuilder
+                .header(HttpHeaders.ETAG, entityTag)
                 .build();
     }
 
     @GET
     @Path(Constants.ENDPOINT_API)
-    @Produces(MediaType.APPLICATION_JSON)
-    public Response getGraphQLRequest(@QueryParam(Constants.PARAM_QUERY) String query,
-                                      @QueryParam(Constants.PARAM_OPERATION_NAME) String operationName,
-                                      @QueryParam(Constants.PARAM_VARIABLES) String jsonVars) {
+    @Produces({MediaType.APPLICATION_JSON, Constants.MEDIA_TYPE_MULTIPART_MIXED})
+    public void getGraphQLRequest(@QueryParam(Constants.PARAM_QUERY) String query,
+                                  @QueryParam(Constants.PARAM_OPERATION_NAME) String operationName,
+                                  @QueryParam(Constants.PARAM_VARIABLES) String jsonVars,
+                                  @QueryParam(Constants.PARAM_EXTENSIONS) String jsonExtensions,
+                                  @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch,
+                                  @HeaderParam(Constants.HEADER_TRACING) String tracing,
+                                  @HeaderParam(HttpHeaders.AUTHORIZATION) String authorization,
+                                  @HeaderParam(HttpHeaders.ACCEPT_ENCODING) String acceptEncoding,
+                                  @HeaderParam(HttpHeaders.ACCEPT) String accept,
+                                  @Suspended AsyncResponse asyncResponse) {
         if (query == null) {
             query = "";
         }
@@ -74,52 +168,421 @@ public class GraphQLEndpoint extends Application {
             } catch (IOException e) {
                 String msg = String.format("Could not convert '%s' parameter to Object: %s", Constants.PARAM_VARIABLES, jsonVars);
                 LOGGER.warn(msg);
-                return Response.status(Response.Status.BAD_REQUEST)
+                asyncResponse.resume(Response.status(Response.Status.BAD_REQUEST)
                         .entity(msg)
-                        .build();
+                        .build());
+                return;
             }
         }
 
-        ExecutionResult executionResult = graphQLEngine.executeQuery(query, operationName, variables);
-        Map<String, Object> result = executionResult.toSpecification();
-        return Response.ok(result)
+        Map<String, Object> extensions = null;
+        if (jsonExtensions != null) {
+            try {
+                extensions = objectMapper.readValue(jsonExtensions, new TypeReference<Map<String, Object>>() {
+                });
+            } catch (IOException e) {
+                String msg = String.format("Could not convert '%s' parameter to Object: %s", Constants.PARAM_EXTENSIONS, jsonExtensions);
+                LOGGER.warn(msg);
+                asyncResponse.resume(Response.status(Response.Status.BAD_REQUEST)
+                        .entity(msg)
+                        .build());
+                return;
+            }
+        }
+
+        PersistedQuery persistedQuery;
+        try {
+            persistedQuery = persistedQueryStore.resolve(query, extensions);
+        } catch (PersistedQueryException e) {
+            asyncResponse.resume(ok(new ExecutionResultImpl(e), acceptEncoding)
+                    .build());
+            return;
+        }
+
+        // Read on the request thread, the response being built on the thread completing the execution
+        boolean anonymous = isAnonymous();
+        execute(asyncResponse, persistedQuery.getQuery(), operationName, variables, getContext(tracing, authorization))
+                .thenCompose(executionResult -> awaitDeferredResults(executionResult, accept))
+                .thenApply(executionResult -> getCacheableResponse(persistedQuery, executionResult, ifNoneMatch,
+                        acceptEncoding, anonymous))
+                .whenComplete((response, throwable) -> resume(asyncResponse, response, throwable));
+    }
+
+    private Response getCacheableResponse(PersistedQuery persistedQuery,
+                                          ExecutionResult executionResult,
+                                          String ifNoneMatch,
+                                          String acceptEncoding,
+                                          boolean anonymous) {
+        String cacheControl = getCacheControl(anonymous);
+        if (!persistedQuery.isPersisted() || !persistedQuery.isReadOnly() || !executionResult.getErrors().isEmpty()
+                || DeferUtil.getDeferredResults(executionResult) != null
+                || cacheControl == null || cacheControl.isEmpty()) {
+            return ok(executionResult, acceptEncoding)
+                    .build();
+        }
+
+        // Persisted read-only queries have stable URLs: let the reverse proxies and the client cache them.
+        // The tag only covers the data, as the tracing extension changes on every execution.
+        String entityTag;
+        try {
+            entityTag = getEntityTag(objectMapper.writeValueAsBytes(executionResult.getData()));
+        } catch (IOException e) {
+            LOGGER.warn("Could not serialize GraphQL result", e);
+            return ok(executionResult, acceptEncoding)
+                    .build();
+        }
+
+        Response.ResponseBuilder responseBuilder = entityTag.equals(ifNoneMatch)
+                ? Response.notModified()
+                : ok(executionResult, acceptEncoding);
+        return responseBuilder
+                .header(HttpHeaders.ETAG, entityTag)
+                .header(HttpHeaders.CACHE_CONTROL, cacheControl)
+                .header(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION + ", " + HttpHeaders.COOKIE)
                 .build();
     }
 
+    private String getCacheControl(boolean anonymous) {
+        String cacheControl = persistedQueryStore.getCacheControl();
+        if (anonymous || cacheControl == null) {
+            return cacheControl;
+        }
+
+        // The results of the signed in users depend on their permissions, so shared caches must not store them
+        return Arrays.stream(cacheControl.split(","))
+                .map(String::trim)
+                .map(directive -> CACHE_CONTROL_PUBLIC.equalsIgnoreCase(directive) ? CACHE_CONTROL_PRIVATE : directive)
+                .collect(Collectors.joining(", "));
+    }
+
+    private boolean isAnonymous() {
+        PermissionChecker permissionChecker = PermissionThreadLocal.getPermissionChecker();
+        return permissionChecker != null && !permissionChecker.isSignedIn();
+    }
+
     @POST
     @Path(Constants.ENDPOINT_API)
     @Consumes(MediaType.APPLICATION_JSON)
-    @Produces(MediaType.APPLICATION_JSON)
-    public Response postGraphQLRequestAsJson(Map<String, Object> body) {
-        String query = (String) body.get(Constants.PARAM_QUERY);
+    @Produces({MediaType.APPLICATION_JSON, Constants.MEDIA_TYPE_MULTIPART_MIXED})
+    public void postGraphQLRequestAsJson(Object body,
+                                         @HeaderParam(Constants.HEADER_TRACING) String tracing,
+                                         @HeaderParam(HttpHeaders.AUTHORIZATION) String authorization,
+                                         @HeaderParam(HttpHeaders.ACCEPT_ENCODING) String acceptEncoding,
+                                         @HeaderParam(HttpHeaders.ACCEPT) String accept,
+                                         @Suspended AsyncResponse asyncResponse) {
+        if (body instanceof List) {
+            postGraphQLBatch((List<Object>) body, tracing, authorization, acceptEncoding, asyncResponse);
+            return;
+        }
+
+        if (!(body instanceof Map)) {
+            badRequest(asyncResponse, "The request body is not an object", acceptEncoding);
+            return;
+        }
+
+        Map<String, Object> request = (Map<String, Object>) body;
+        String invalidParameter = getInvalidParameter(request);
+        if (invalidParameter != null) {
+            badRequest(asyncResponse, String.format("The '%s' parameter has an invalid type", invalidParameter),
+                    acceptEncoding);
+            return;
+        }
+
+        String query = (String) request.get(Constants.PARAM_QUERY);
         if (query == null) {
             query = "";
         }
 
-        String operationName = (String) body.get(Constants.PARAM_OPERATION_NAME);
-        Map<String, Object> variables = (Map<String, Object>) body.get(Constants.PARAM_VARIABLES);
+        String operationName = (String) request.get(Constants.PARAM_OPERATION_NAME);
+        Map<String, Object> variables = (Map<String, Object>) request.get(Constants.PARAM_VARIABLES);
         if (variables == null) {
             variables = new LinkedHashMap<>();
         }
 
-        ExecutionResult executionResult = graphQLEngine.executeQuery(query, operationName, variables);
-        Map<String, Object> result = executionResult.toSpecification();
-        return Response.ok(result)
+        PersistedQuery persistedQuery;
+        try {
+            persistedQuery = persistedQueryStore.resolve(query, (Map<String, Object>) request.get(Constants.PARAM_EXTENSIONS));
+        } catch (PersistedQueryException e) {
+            asyncResponse.resume(ok(new ExecutionResultImpl(e), acceptEncoding)
+                    .build());
+            return;
+        }
+
+        execute(asyncResponse, persistedQuery.getQuery(), operationName, variables, getContext(tracing, authorization))
+                .thenCompose(executionResult -> awaitDeferredResults(executionResult, accept))
+                .thenApply(executionResult -> ok(executionResult, acceptEncoding).build())
+                .whenComplete((response, throwable) -> resume(asyncResponse, response, throwable));
+    }
+
+    private void postGraphQLBatch(List<Object> operations,
+                                  String tracing,
+                                  String authorization,
+                                  String acceptEncoding,
+                                  AsyncResponse asyncResponse) {
+        if (operations.size() > maximumBatchOperations) {
+            String msg = String.format("Batched request contains %d operations, the maximum is %d",
+                    operations.size(), maximumBatchOperations);
+            LOGGER.warn(msg);
+            asyncResponse.resume(Response.status(Response.Status.BAD_REQUEST)
+                    .entity(msg)
+                    .build());
+            return;
+        }
+
+        // Operations rejected by the persisted query store keep their place in the response
+        List<ExecutionResult> executionResults = new ArrayList<>(Collections.nCopies(operations.size(), null));
+        List<Integer> executedIndexes = new ArrayList<>();
+        List<ExecutionInput> executionInputs = new ArrayList<>();
+        for (int index = 0; index < operations.size(); index++) {
+            if (!(operations.get(index) instanceof Map)) {
+                badRequest(asyncResponse, String.format("Operation %d of the batched request is not an object", index),
+                        acceptEncoding);
+                return;
+            }
+
+            String invalidParameter = getInvalidParameter((Map<String, Object>) operations.get(index));
+            if (invalidParameter != null) {
+                badRequest(asyncResponse, String.format("The '%s' parameter of operation %d has an invalid type",
+                        invalidParameter, index), acceptEncoding);
+                return;
+            }
+
+            try {
+                executionInputs.add(newExecutionInput((Map<String, Object>) operations.get(index),
+                        getContext(tracing, authorization)));
+                executedIndexes.add(index);
+            } catch (PersistedQueryException e) {
+                executionResults.set(index, new ExecutionResultImpl(e));
+            }
+        }
+
+        setTimeout(asyncResponse);
+        // The result of each operation is a JSON object of the array, so their deferred fields cannot be streamed
+        graphQLEngine.executeQueriesAsync(executionInputs)
+                .thenCompose(results -> {
+                    List<CompletableFuture<ExecutionResult>> mergedResults = new ArrayList<>(results.size());
+                    for (ExecutionResult result : results) {
+                        mergedResults.add(DeferUtil.mergeDeferredResults(result));
+                    }
+                    return CompletableFuture.allOf(mergedResults.toArray(new CompletableFuture[0]))
+                            .thenApply(ignored -> mergedResults.stream()
+                                    .map(CompletableFuture::join)
+                                    .collect(Collectors.toList()));
+                })
+                .thenApply(results -> {
+                    for (int i = 0; i < results.size(); i++) {
+                        executionResults.set(executedIndexes.get(i), results.get(i));
+                    }
+                    return ok(executionResults, acceptEncoding).build();
+                })
+                .whenComplete((response, throwable) -> resume(asyncResponse, response, throwable));
+    }
+
+    private String getInvalidParameter(Map<String, Object> request) {
+        for (String parameter : Arrays.asList(Constants.PARAM_QUERY, Constants.PARAM_OPERATION_NAME)) {
+            if (request.get(parameter) != null && !(request.get(parameter) instanceof String)) {
+                return parameter;
+            }
+        }
+        for (String parameter : Arrays.asList(Constants.PARAM_VARIABLES, Constants.PARAM_EXTENSIONS)) {
+            if (request.get(parameter) != null && !(request.get(parameter) instanceof Map)) {
+                return parameter;
+            }
+        }
+        return null;
+    }
+
+    private void badRequest(AsyncResponse asyncResponse, String msg, String acceptEncoding) {
+        LOGGER.warn(msg);
+        asyncResponse.resume(ok(new ExecutionResultImpl(new InvalidRequestError(msg)), acceptEncoding)
+                .status(Response.Status.BAD_REQUEST)
+                .build());
+    }
+
+    private ExecutionInput newExecutionInput(Map<String, Object> operation, Map<String, Object> context) {
+        String query = (String) operation.get(Constants.PARAM_QUERY);
+        Map<String, Object> variables = (Map<String, Object>) operation.get(Constants.PARAM_VARIABLES);
+        PersistedQuery persistedQuery = persistedQueryStore.resolve(query == null ? "" : query,
+                (Map<String, Object>) operation.get(Constants.PARAM_EXTENSIONS));
+        return ExecutionInput.newExecutionInput()
+                .query(persistedQuery.getQuery())
+                .operationName((String) operation.get(Constants.PARAM_OPERATION_NAME))
+                .variables(variables == null ? new LinkedHashMap<>() : variables)
+                .context(context)
                 .build();
     }
 
     @POST
     @Path(Constants.ENDPOINT_API)
     @Consumes(Constants.MEDIA_TYPE_GRAPHQL)
-    @Produces(MediaType.APPLICATION_JSON)
-    public Response postGraphQLRequestAsGraphQLQuery(String body) {
+    @Produces({MediaType.APPLICATION_JSON, Constants.MEDIA_TYPE_MULTIPART_MIXED})
+    public void postGraphQLRequestAsGraphQLQuery(String body,
+                                                 @HeaderParam(Constants.HEADER_TRACING) String tracing,
+                                                 @HeaderParam(HttpHeaders.AUTHORIZATION) String authorization,
+                                                 @HeaderParam(HttpHeaders.ACCEPT_ENCODING) String acceptEncoding,
+                                                 @HeaderParam(HttpHeaders.ACCEPT) String accept,
+                                                 @Suspended AsyncResponse asyncResponse) {
         if (body == null) {
             body = "";
         }
 
-        ExecutionResult executionResult = graphQLEngine.executeQuery(body);
-        Map<String, Object> result = executionResult.toSpecification();
-        return Response.ok(result)
-                .build();
+        PersistedQuery persistedQuery;
+        try {
+            persistedQuery = persistedQueryStore.resolve(body, null);
+        } catch (PersistedQueryException e) {
+            asyncResponse.resume(ok(new ExecutionResultImpl(e), acceptEncoding)
+                    .build());
+            return;
+        }
+
+        execute(asyncResponse, persistedQuery.getQuery(), null, new LinkedHashMap<>(), getContext(tracing, authorization))
+                .thenCompose(executionResult -> awaitDeferredResults(executionResult, accept))
+                .thenApply(executionResult -> ok(executionResult, acceptEncoding).build())
+                .whenComplete((response, throwable) -> resume(asyncResponse, response, throwable));
+    }
+
+    @GET
+    @Path(Constants.ENDPOINT_SUBSCRIPTIONS)
+    @Produces(Constants.MEDIA_TYPE_EVENT_STREAM)
+    public void getGraphQLSubscription(@QueryParam(Constants.PARAM_QUERY) String query,
+                                       @QueryParam(Constants.PARAM_OPERATION_NAME) String operationName,
+                                       @QueryParam(Constants.PARAM_VARIABLES) String jsonVars,
+                                       @HeaderParam(Constants.HEADER_TRACING) String tracing,
+                                       @HeaderParam(HttpHeaders.AUTHORIZATION) String authorization,
+                                       @Context HttpServletResponse httpServletResponse,
+                                       @Context SseEventSink eventSink,
+                                       @Context Sse sse) {
+        if (query == null) {
+            query = "";
+        }
+
+        Map<String, Object> variables = new LinkedHashMap<>();
+        if (jsonVars != null) {
+            try {
+                variables = objectMapper.readValue(jsonVars, new TypeReference<Map<String, Object>>() {
+                });
+            } catch (IOException e) {
+                String msg = String.format("Could not convert '%s' parameter to Object: %s", Constants.PARAM_VARIABLES, jsonVars);
+                LOGGER.warn(msg);
+                throw new BadRequestException(Response.status(Response.Status.BAD_REQUEST)
+                        .entity(msg)
+                        .build());
+            }
+        }
+
+        // Each subscription keeps its connection open until the client leaves, so their number is capped
+        int count = subscriptionCount.incrementAndGet();
+        if (maximumSubscriptions > 0 && count > maximumSubscriptions) {
+            subscriptionCount.decrementAndGet();
+            String msg = String.format("The maximum number of %d GraphQL subscriptions is reached", maximumSubscriptions);
+            LOGGER.warn(msg);
+            throw new ServiceUnavailableException(Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                    .entity(msg)
+                    .build());
+        }
+
+        // The method returns at once: the events are then written by the sink as the publisher emits them
+        httpServletResponse.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        ServerSentEventsSubscriber subscriber = new ServerSentEventsSubscriber(eventSink, sse, objectMapper,
+                subscriptionCount::decrementAndGet);
+        graphQLEngine.executeQueryAsync(query, operationName, variables, getContext(tracing, authorization))
+                .whenComplete((executionResult, throwable) -> {
+                    if (throwable != null) {
+                        LOGGER.error("Could not execute GraphQL subscription", throwable);
+                        subscriber.close();
+                    } else {
+                        subscriber.stream(executionResult, heartbeatScheduler, subscriptionHeartbeatSeconds);
+                    }
+                });
+    }
+
+    private CompletionStage<ExecutionResult> execute(AsyncResponse asyncResponse,
+                                                     String query,
+                                                     String operationName,
+                                                     Map<String, Object> variables,
+                                                     Map<String, Object> context) {
+        setTimeout(asyncResponse);
+        return graphQLEngine.executeQueryAsync(query, operationName, variables, context);
+    }
+
+    private CompletionStage<ExecutionResult> awaitDeferredResults(ExecutionResult executionResult, String accept) {
+        // Clients not accepting multipart responses get the deferred fields within a single result
+        if (accept != null && accept.contains(Constants.MEDIA_TYPE_MULTIPART_MIXED)) {
+            return CompletableFuture.completedFuture(executionResult);
+        }
+        return DeferUtil.mergeDeferredResults(executionResult);
+    }
+
+    private void setTimeout(AsyncResponse asyncResponse) {
+        // The container thread is released while the data loaders are running
+        if (requestTimeoutMillis > 0) {
+            asyncResponse.setTimeoutHandler(response -> response.resume(Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                    .entity("GraphQL request timed out")
+                    .build()));
+            asyncResponse.setTimeout(requestTimeoutMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void resume(AsyncResponse asyncResponse, Response response, Throwable throwable) {
+        if (throwable != null) {
+            Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                    ? throwable.getCause()
+                    : throwable;
+            LOGGER.error("Could not execute GraphQL request", cause);
+            asyncResponse.resume(cause);
+        } else {
+            // Does nothing when the request already timed out
+            asyncResponse.resume(response);
+        }
+    }
+
+    private Response.ResponseBuilder ok(ExecutionResult executionResult, String acceptEncoding) {
+        if (DeferUtil.getDeferredResults(executionResult) != null) {
+            // The parts are flushed as the deferred fields are resolved, so they are never compressed
+            return Response.ok(new MultipartStreamingOutput(executionResult, objectMapper), MultipartStreamingOutput.MEDIA_TYPE);
+        }
+
+        boolean gzip = isGzip(acceptEncoding);
+        return ok(new ExecutionResultStreamingOutput(executionResult, objectMapper, gzip), gzip);
+    }
+
+    private Response.ResponseBuilder ok(List<ExecutionResult> executionResults, String acceptEncoding) {
+        boolean gzip = isGzip(acceptEncoding);
+        return ok(new ExecutionResultStreamingOutput(executionResults, objectMapper, gzip), gzip);
+    }
+
+    private boolean isGzip(String acceptEncoding) {
+        return gzipEnabled && acceptEncoding != null && acceptEncoding.contains(GZIP_ENCODING);
+    }
+
+    private Response.ResponseBuilder ok(ExecutionResultStreamingOutput output, boolean gzip) {
+        Response.ResponseBuilder responseBuilder = Response.ok(output, MediaType.APPLICATION_JSON);
+        if (gzipEnabled) {
+            responseBuilder.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (gzip) {
+            responseBuilder.header(HttpHeaders.CONTENT_ENCODING, GZIP_ENCODING);
+        }
+        return responseBuilder;
+    }
+
+    private Map<String, Object> getContext(String tracing, String authorization) {
+        Map<String, Object> context = new HashMap<>();
+        context.put(Constants.CONTEXT_TRACING, Boolean.parseBoolean(tracing));
+        if (authorization != null && authorization.startsWith(BEARER_PREFIX)) {
+            context.put(Constants.CONTEXT_ACCESS_TOKEN, authorization.substring(BEARER_PREFIX.length()).trim());
+        }
+        return context;
+    }
+
+    private String getEntityTag(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
     }
 }
@@ -0,0 +1,64 @@
+package fr.sedona.liferay.graphql.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
+import graphql.schema.DataFetchingEnvironment;
+import org.osgi.service.component.annotations.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+@Component(
+        immediate = true,
+        service = CountCache.class
+)
+public class CountCache {
+    private static final Log LOGGER = LogFactoryUtil.getLog(CountCache.class);
+    public static final long DEFAULT_MAXIMUM_SIZE = 1_000;
+    public static final long DEFAULT_EXPIRE_AFTER_WRITE_SECONDS = 30;
+
+    private final Map<String, Cache<String, Long>> partitions = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the number of entities of the given type matching the filter argument,
+     * only running the counter when no count of an equivalent filter is cached
+     */
+    public long getCount(String key, DataFetchingEnvironment environment, LongSupplier counter) {
+        return getPartition(key).get(FilterUtil.getFilterKey(environment), filterKey -> counter.getAsLong());
+    }
+
+    // Any created, updated or removed entity may change the count of every filter of its type
+    public void evictAll(String key) {
+        Cache<String, Long> partition = partitions.get(key);
+        if (partition != null) {
+            partition.invalidateAll();
+        }
+    }
+
+    public CacheStats getStatistics(String key) {
+        Cache<String, Long> partition = partitions.get(key);
+        if (partition == null) {
+            return CacheStats.empty();
+        }
+        return partition.stats();
+    }
+
+    private Cache<String, Long> getPartition(String key) {
+        return partitions.computeIfAbsent(key, this::createPartition);
+    }
+
+    private Cache<String, Long> createPartition(String key) {
+        LOGGER.info("Initializing count cache partition '" + key + "'");
+        return Caffeine.newBuilder()
+                .maximumSize(DEFAULT_MAXIMUM_SIZE)
+                .expireAfterWrite(DEFAULT_EXPIRE_AFTER_WRITE_SECONDS, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+    }
+}
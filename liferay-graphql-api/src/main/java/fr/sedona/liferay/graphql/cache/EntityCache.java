@@ -0,0 +1,98 @@
+package fr.sedona.liferay.graphql.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import fr.sedona.liferay.graphql.loaders.*;
+import org.dataloader.CacheMap;
+import org.osgi.service.component.annotations.Component;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Component(
+        immediate = true,
+        service = EntityCache.class
+)
+public class EntityCache {
+    private static final Log LOGGER = LogFactoryUtil.getLog(EntityCache.class);
+    public static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+    public static final long DEFAULT_EXPIRE_AFTER_WRITE_HOURS = 2;
+    private static final Map<String, Long> MAXIMUM_SIZES;
+
+    static {
+        Map<String, Long> maximumSizes = new HashMap<>();
+        // Small and hot tables, kept in their own partition so they are never evicted by content reads
+        maximumSizes.put(ClassNameBatchLoader.KEY, 2_000L);
+        maximumSizes.put(ListTypeBatchLoader.KEY, 1_000L);
+        maximumSizes.put(CompanyBatchLoader.KEY, 100L);
+        maximumSizes.put(GroupBatchLoader.KEY, 5_000L);
+        maximumSizes.put(RoleBatchLoader.KEY, 1_000L);
+        maximumSizes.put(ExpandoTableBatchLoader.KEY, 1_000L);
+        maximumSizes.put(ExpandoColumnBatchLoader.KEY, 2_000L);
+        maximumSizes.put(DDMStructureBatchLoader.KEY, 2_000L);
+        maximumSizes.put(DDMTemplateBatchLoader.KEY, 2_000L);
+        // Large content tables
+        maximumSizes.put(JournalArticleBatchLoader.KEY, 20_000L);
+        maximumSizes.put(DDMContentBatchLoader.KEY, 5_000L);
+        maximumSizes.put(ExpandoValueBatchLoader.KEY, 20_000L);
+        MAXIMUM_SIZES = Collections.unmodifiableMap(maximumSizes);
+    }
+
+    private final Map<String, Cache<Long, Object>> partitions = new ConcurrentHashMap<>();
+
+    public CacheMap<Long, Object> getCacheMap(String key) {
+        return new EntityCacheMap(getPartition(key));
+    }
+
+    public void evict(String key, long primaryKey) {
+        Cache<Long, Object> partition = partitions.get(key);
+        if (partition != null) {
+            partition.invalidate(primaryKey);
+        }
+    }
+
+    public void evictAll(String key) {
+        Cache<Long, Object> partition = partitions.get(key);
+        if (partition != null) {
+            partition.invalidateAll();
+        }
+    }
+
+    public CacheStats getStatistics(String key) {
+        Cache<Long, Object> partition = partitions.get(key);
+        if (partition == null) {
+            return CacheStats.empty();
+        }
+        return partition.stats();
+    }
+
+    public Map<String, CacheStats> getStatistics() {
+        Map<String, CacheStats> statistics = new HashMap<>();
+        partitions.forEach((key, partition) -> statistics.put(key, partition.stats()));
+        return statistics;
+    }
+
+    public long getMaximumSize(String key) {
+        return MAXIMUM_SIZES.getOrDefault(key, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    private Cache<Long, Object> getPartition(String key) {
+        return partitions.computeIfAbsent(key, this::createPartition);
+    }
+
+    private Cache<Long, Object> createPartition(String key) {
+        long maximumSize = getMaximumSize(key);
+        LOGGER.info("Initializing entity cache partition '" + key + "' with a maximum size of " + maximumSize);
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(DEFAULT_EXPIRE_AFTER_WRITE_HOURS, TimeUnit.HOURS)
+                .recordStats()
+                .build();
+    }
+}
@@ -0,0 +1,72 @@
+package fr.sedona.liferay.graphql.cache;
+
+import com.liferay.portal.kernel.cluster.ClusterExecutorUtil;
+import com.liferay.portal.kernel.cluster.ClusterRequest;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.util.MethodHandler;
+import com.liferay.portal.kernel.util.MethodKey;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+
+@Component(
+        immediate = true,
+        service = EntityCacheInvalidator.class
+)
+public class EntityCacheInvalidator {
+    private static final Log LOGGER = LogFactoryUtil.getLog(EntityCacheInvalidator.class);
+    private static final MethodKey EVICT_LOCALLY_METHOD_KEY = new MethodKey(
+            EntityCacheInvalidator.class, "evictLocally", String.class, long.class);
+    private static volatile EntityCache localEntityCache;
+    private static volatile CountCache localCountCache;
+
+    @Reference
+    private EntityCache entityCache;
+
+    @Reference
+    private CountCache countCache;
+
+    @Activate
+    public void activateComponent() {
+        localEntityCache = entityCache;
+        localCountCache = countCache;
+    }
+
+    @Deactivate
+    public void deactivateComponent() {
+        localEntityCache = null;
+        localCountCache = null;
+    }
+
+    public void invalidate(String key, long primaryKey) {
+        entityCache.evict(key, primaryKey);
+        countCache.evictAll(key);
+
+        if (!ClusterExecutorUtil.isEnabled()) {
+            return;
+        }
+
+        try {
+            MethodHandler methodHandler = new MethodHandler(EVICT_LOCALLY_METHOD_KEY, key, primaryKey);
+            ClusterRequest clusterRequest = ClusterRequest.createMulticastRequest(methodHandler, true);
+            clusterRequest.setFireAndForget(true);
+            ClusterExecutorUtil.execute(clusterRequest);
+        } catch (Exception e) {
+            LOGGER.warn("Could not broadcast eviction of '" + key + "' with id " + primaryKey + " to the cluster", e);
+        }
+    }
+
+    // Invoked through the cluster executor on the other nodes
+    public static void evictLocally(String key, long primaryKey) {
+        EntityCache cache = localEntityCache;
+        if (cache != null) {
+            cache.evict(key, primaryKey);
+        }
+        CountCache counts = localCountCache;
+        if (counts != null) {
+            counts.evictAll(key);
+        }
+    }
+}
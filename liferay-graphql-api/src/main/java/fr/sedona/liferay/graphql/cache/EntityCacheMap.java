@@ -0,0 +1,41 @@
+package fr.sedona.liferay.graphql.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.dataloader.CacheMap;
+
+class EntityCacheMap implements CacheMap<Long, Object> {
+    private final Cache<Long, Object> partition;
+
+    EntityCacheMap(Cache<Long, Object> partition) {
+        this.partition = partition;
+    }
+
+    @Override
+    public boolean containsKey(Long key) {
+        // Goes through the map view so that only the following get() is recorded in the statistics
+        return partition.asMap().containsKey(key);
+    }
+
+    @Override
+    public Object get(Long key) {
+        return partition.getIfPresent(key);
+    }
+
+    @Override
+    public CacheMap<Long, Object> set(Long key, Object value) {
+        partition.put(key, value);
+        return this;
+    }
+
+    @Override
+    public CacheMap<Long, Object> delete(Long key) {
+        partition.invalidate(key);
+        return this;
+    }
+
+    @Override
+    public CacheMap<Long, Object> clear() {
+        partition.invalidateAll();
+        return this;
+    }
+}
@@ -0,0 +1,27 @@
+package fr.sedona.liferay.graphql.configuration;
+
+import aQute.bnd.annotation.metatype.Meta;
+import com.liferay.portal.configuration.metatype.annotations.ExtendedObjectClassDefinition;
+
+@ExtendedObjectClassDefinition(category = "graphql")
+@Meta.OCD(
+        id = "fr.sedona.liferay.graphql.configuration.BatchLoaderExecutorConfiguration",
+        name = "GraphQL batch loader executor"
+)
+public interface BatchLoaderExecutorConfiguration {
+
+    @Meta.AD(deflt = "8", required = false, name = "Core pool size")
+    int corePoolSize();
+
+    @Meta.AD(deflt = "32", required = false, name = "Maximum pool size")
+    int maximumPoolSize();
+
+    @Meta.AD(deflt = "1000", required = false, name = "Queue capacity")
+    int queueCapacity();
+
+    @Meta.AD(deflt = "60", required = false, name = "Keep alive time (seconds)")
+    long keepAliveSeconds();
+
+    @Meta.AD(deflt = "false", required = false, name = "Use virtual threads (JDK 21+)")
+    boolean virtualThreads();
+}
@@ -0,0 +1,18 @@
+package fr.sedona.liferay.graphql.configuration;
+
+import aQute.bnd.annotation.metatype.Meta;
+import com.liferay.portal.configuration.metatype.annotations.ExtendedObjectClassDefinition;
+
+@ExtendedObjectClassDefinition(category = "graphql")
+@Meta.OCD(
+        id = "fr.sedona.liferay.graphql.configuration.BulkMutationConfiguration",
+        name = "GraphQL bulk mutations"
+)
+public interface BulkMutationConfiguration {
+
+    @Meta.AD(deflt = "100", required = false, name = "Number of inputs per transaction")
+    int chunkSize();
+
+    @Meta.AD(deflt = "false", required = false, name = "Continue on error")
+    boolean continueOnError();
+}
@@ -0,0 +1,30 @@
+package fr.sedona.liferay.graphql.configuration;
+
+import aQute.bnd.annotation.metatype.Meta;
+import com.liferay.portal.configuration.metatype.annotations.ExtendedObjectClassDefinition;
+
+@ExtendedObjectClassDefinition(category = "graphql")
+@Meta.OCD(
+        id = "fr.sedona.liferay.graphql.configuration.DataLoaderConfiguration",
+        name = "GraphQL data loaders"
+)
+public interface DataLoaderConfiguration {
+
+    @Meta.AD(deflt = "100", required = false, name = "Default maximum batch size")
+    int defaultMaxBatchSize();
+
+    @Meta.AD(deflt = "", required = false, name = "Maximum batch size per loader (key=size, e.g. user=500)")
+    String[] maxBatchSizes();
+
+    @Meta.AD(deflt = "1000", required = false, name = "Database IN list limit")
+    int inListLimit();
+
+    @Meta.AD(deflt = "false", required = false, name = "Adaptive batch size")
+    boolean adaptiveBatchSize();
+
+    @Meta.AD(deflt = "10", required = false, name = "Minimum adaptive batch size")
+    int minAdaptiveBatchSize();
+
+    @Meta.AD(deflt = "50", required = false, name = "Adaptive batch target latency (ms)")
+    long targetLatencyMillis();
+}
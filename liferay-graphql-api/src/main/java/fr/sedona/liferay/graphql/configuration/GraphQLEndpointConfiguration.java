@@ -0,0 +1,27 @@
+package fr.sedona.liferay.graphql.configuration;
+
+import aQute.bnd.annotation.metatype.Meta;
+import com.liferay.portal.configuration.metatype.annotations.ExtendedObjectClassDefinition;
+
+@ExtendedObjectClassDefinition(category = "graphql")
+@Meta.OCD(
+        id = "fr.sedona.liferay.graphql.configuration.GraphQLEndpointConfiguration",
+        name = "GraphQL endpoint"
+)
+public interface GraphQLEndpointConfiguration {
+
+    @Meta.AD(deflt = "false", required = false, name = "Compress the responses with gzip when the client accepts it")
+    boolean gzipEnabled();
+
+    @Meta.AD(deflt = "30000", required = false, name = "Request timeout in milliseconds, answered with 503 (0 to disable)")
+    long requestTimeoutMillis();
+
+    @Meta.AD(deflt = "20", required = false, name = "Maximum number of operations in a batched request")
+    int maximumBatchOperations();
+
+    @Meta.AD(deflt = "15", required = false, name = "Interval in seconds of the keep-alive comments sent on idle subscription streams")
+    int subscriptionHeartbeatSeconds();
+
+    @Meta.AD(deflt = "200", required = false, name = "Maximum number of open subscription streams, answered with 503 past it (0 to disable)")
+    int maximumSubscriptions();
+}
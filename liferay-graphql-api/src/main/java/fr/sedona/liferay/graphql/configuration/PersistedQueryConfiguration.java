@@ -0,0 +1,27 @@
+package fr.sedona.liferay.graphql.configuration;
+
+import aQute.bnd.annotation.metatype.Meta;
+import com.liferay.portal.configuration.metatype.annotations.ExtendedObjectClassDefinition;
+
+@ExtendedObjectClassDefinition(category = "graphql")
+@Meta.OCD(
+        id = "fr.sedona.liferay.graphql.configuration.PersistedQueryConfiguration",
+        name = "GraphQL persisted queries"
+)
+public interface PersistedQueryConfiguration {
+
+    @Meta.AD(deflt = "true", required = false, name = "Automatic persisted queries enabled")
+    boolean enabled();
+
+    @Meta.AD(deflt = "10000", required = false, name = "Maximum number of automatically persisted queries")
+    long maximumSize();
+
+    @Meta.AD(deflt = "false", required = false, name = "Only execute the queries of the allow-list")
+    boolean allowListOnly();
+
+    @Meta.AD(deflt = "", required = false, name = "Allow-list file (JSON object of sha256 hash to query)")
+    String allowListFile();
+
+    @Meta.AD(deflt = "private, max-age=60", required = false, name = "Cache-Control header of persisted GET queries, public only applying to anonymous requests (empty to disable)")
+    String cacheControl();
+}
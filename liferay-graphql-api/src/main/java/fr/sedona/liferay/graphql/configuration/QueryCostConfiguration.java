@@ -0,0 +1,30 @@
+package fr.sedona.liferay.graphql.configuration;
+
+import aQute.bnd.annotation.metatype.Meta;
+import com.liferay.portal.configuration.metatype.annotations.ExtendedObjectClassDefinition;
+
+@ExtendedObjectClassDefinition(category = "graphql")
+@Meta.OCD(
+        id = "fr.sedona.liferay.graphql.configuration.QueryCostConfiguration",
+        name = "GraphQL query cost"
+)
+public interface QueryCostConfiguration {
+
+    @Meta.AD(deflt = "true", required = false, name = "Reject the queries over the depth or cost limits")
+    boolean enabled();
+
+    @Meta.AD(deflt = "15", required = false, name = "Maximum query depth")
+    int maximumDepth();
+
+    @Meta.AD(deflt = "10000", required = false, name = "Maximum query cost")
+    long maximumCost();
+
+    @Meta.AD(deflt = "", required = false, name = "Maximum query cost per OAuth2 client (clientId=cost)")
+    String[] clientMaximumCosts();
+
+    @Meta.AD(deflt = "10", required = false, name = "Expected size of the lists without start/end or first arguments")
+    int defaultListSize();
+
+    @Meta.AD(deflt = "100", required = false, name = "Expected number of entities loaded per batch")
+    int expectedBatchSize();
+}
@@ -0,0 +1,15 @@
+package fr.sedona.liferay.graphql.configuration;
+
+import aQute.bnd.annotation.metatype.Meta;
+import com.liferay.portal.configuration.metatype.annotations.ExtendedObjectClassDefinition;
+
+@ExtendedObjectClassDefinition(category = "graphql")
+@Meta.OCD(
+        id = "fr.sedona.liferay.graphql.configuration.SubscriptionConfiguration",
+        name = "GraphQL subscriptions"
+)
+public interface SubscriptionConfiguration {
+
+    @Meta.AD(deflt = "100", required = false, name = "Maximum number of events waiting for a slow subscriber, the oldest ones being dropped")
+    int maximumPendingEvents();
+}
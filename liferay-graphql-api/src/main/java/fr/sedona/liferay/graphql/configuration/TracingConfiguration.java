@@ -0,0 +1,27 @@
+package fr.sedona.liferay.graphql.configuration;
+
+import aQute.bnd.annotation.metatype.Meta;
+import com.liferay.portal.configuration.metatype.annotations.ExtendedObjectClassDefinition;
+
+@ExtendedObjectClassDefinition(category = "graphql")
+@Meta.OCD(
+        id = "fr.sedona.liferay.graphql.configuration.TracingConfiguration",
+        name = "GraphQL tracing"
+)
+public interface TracingConfiguration {
+
+    @Meta.AD(deflt = "true", required = false, name = "Trace the requests sending the X-GraphQL-Tracing header")
+    boolean headerEnabled();
+
+    @Meta.AD(deflt = "0", required = false, name = "Ratio of the requests traced without header (0 to 1)")
+    double sampleRate();
+
+    @Meta.AD(deflt = "true", required = false, name = "Add the traces to the response extensions")
+    boolean includeInResponse();
+
+    @Meta.AD(deflt = "false", required = false, name = "Write the traces to the log")
+    boolean logTraces();
+
+    @Meta.AD(deflt = "false", required = false, name = "Trace the fields only reading a property of their parent")
+    boolean traceTrivialFields();
+}
@@ -1,19 +1,36 @@
 package fr.sedona.liferay.graphql.engine;
 
 import aQute.bnd.annotation.ProviderType;
+import graphql.ExecutionInput;
 import graphql.ExecutionResult;
 
 import java.io.BufferedReader;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 
 @ProviderType
 public interface GraphQLEngine {
 
     String getSchema();
 
+    String getSchemaHash();
+
     ExecutionResult executeQuery(String query,
                                  String operationName,
                                  Map<String, Object> variables);
 
+    ExecutionResult executeQuery(String query,
+                                 String operationName,
+                                 Map<String, Object> variables,
+                                 Map<String, Object> context);
+
+    CompletionStage<ExecutionResult> executeQueryAsync(String query,
+                                                       String operationName,
+                                                       Map<String, Object> variables,
+                                                       Map<String, Object> context);
+
+    CompletionStage<List<ExecutionResult>> executeQueriesAsync(List<ExecutionInput> executionInputs);
+
     ExecutionResult executeQuery(String query);
 }
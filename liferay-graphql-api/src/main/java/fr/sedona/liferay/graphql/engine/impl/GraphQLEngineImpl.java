@@ -2,26 +2,83 @@ package fr.sedona.liferay.graphql.engine.impl;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.liferay.asset.kernel.model.AssetCategory;
+import com.liferay.asset.kernel.model.AssetEntry;
+import com.liferay.asset.kernel.model.AssetLink;
+import com.liferay.asset.kernel.model.AssetTag;
+import com.liferay.asset.kernel.model.AssetVocabulary;
+import com.liferay.blogs.model.BlogsEntry;
+import com.liferay.document.library.kernel.model.DLFileEntry;
+import com.liferay.document.library.kernel.model.DLFileEntryMetadata;
+import com.liferay.document.library.kernel.model.DLFileEntryType;
+import com.liferay.document.library.kernel.model.DLFileShortcut;
+import com.liferay.document.library.kernel.model.DLFileVersion;
+import com.liferay.document.library.kernel.model.DLFolder;
+import com.liferay.dynamic.data.mapping.model.DDMContent;
+import com.liferay.dynamic.data.mapping.model.DDMStructure;
+import com.liferay.dynamic.data.mapping.model.DDMTemplate;
+import com.liferay.expando.kernel.model.ExpandoColumn;
+import com.liferay.expando.kernel.model.ExpandoRow;
+import com.liferay.expando.kernel.model.ExpandoTable;
+import com.liferay.expando.kernel.model.ExpandoValue;
+import com.liferay.journal.model.JournalArticle;
+import com.liferay.journal.model.JournalFeed;
+import com.liferay.journal.model.JournalFolder;
+import com.liferay.message.boards.kernel.model.MBCategory;
+import com.liferay.message.boards.kernel.model.MBMessage;
+import com.liferay.message.boards.kernel.model.MBThread;
 import com.liferay.oauth2.provider.constants.GrantType;
+import com.liferay.oauth2.provider.model.OAuth2Application;
+import com.liferay.oauth2.provider.model.OAuth2ApplicationScopeAliases;
+import com.liferay.oauth2.provider.model.OAuth2Authorization;
+import com.liferay.oauth2.provider.model.OAuth2ScopeGrant;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.model.Address;
+import com.liferay.portal.kernel.model.ClassName;
+import com.liferay.portal.kernel.model.Company;
+import com.liferay.portal.kernel.model.Contact;
+import com.liferay.portal.kernel.model.Country;
+import com.liferay.portal.kernel.model.EmailAddress;
+import com.liferay.portal.kernel.model.Group;
+import com.liferay.portal.kernel.model.Layout;
+import com.liferay.portal.kernel.model.ListType;
+import com.liferay.portal.kernel.model.Organization;
+import com.liferay.portal.kernel.model.Phone;
+import com.liferay.portal.kernel.model.Region;
+import com.liferay.portal.kernel.model.Role;
+import com.liferay.portal.kernel.model.User;
+import com.liferay.portal.kernel.model.UserGroup;
+import com.liferay.portal.kernel.model.Website;
+import com.liferay.ratings.kernel.model.RatingsEntry;
 import fr.sedona.liferay.graphql.engine.GraphQLEngine;
+import fr.sedona.liferay.graphql.executor.BulkMutationExecutor;
+import fr.sedona.liferay.graphql.fetchers.GetterDataFetcher;
+import fr.sedona.liferay.graphql.instrumentation.DeferredPathInstrumentation;
+import fr.sedona.liferay.graphql.instrumentation.QueryCostBudget;
+import fr.sedona.liferay.graphql.instrumentation.QueryCostInstrumentation;
+import fr.sedona.liferay.graphql.instrumentation.SampledTracingInstrumentation;
+import fr.sedona.liferay.graphql.loaders.*;
 import fr.sedona.liferay.graphql.resolvers.*;
 import fr.sedona.liferay.graphql.scalars.DateScalar;
 import fr.sedona.liferay.graphql.scalars.LocalizedStringScalar;
+import fr.sedona.liferay.graphql.subscriptions.ModelEventPublisher;
+import fr.sedona.liferay.graphql.subscriptions.ModelEventType;
 import fr.sedona.liferay.graphql.util.Constants;
-import fr.sedona.liferay.graphql.util.GraphQLRegistry;
+import fr.sedona.liferay.graphql.util.DataLoaderRegistryFactory;
+import fr.sedona.liferay.graphql.util.IntrospectionUtil;
 import graphql.ExecutionInput;
 import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
 import graphql.GraphQL;
 import graphql.execution.instrumentation.ChainedInstrumentation;
 import graphql.execution.instrumentation.Instrumentation;
 import graphql.execution.instrumentation.dataloader.DataLoaderDispatcherInstrumentation;
 import graphql.execution.instrumentation.dataloader.DataLoaderDispatcherInstrumentationOptions;
-import graphql.execution.instrumentation.tracing.TracingInstrumentation;
 import graphql.execution.preparsed.PreparsedDocumentEntry;
 import graphql.schema.GraphQLSchema;
 import graphql.schema.idl.*;
+import org.dataloader.DataLoaderRegistry;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -29,9 +86,18 @@ import org.osgi.service.component.annotations.Reference;
 import java.io.BufferedReader;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -42,11 +108,27 @@ import java.util.stream.Collectors;
 @SuppressWarnings("squid:S1192")
 public class GraphQLEngineImpl implements GraphQLEngine {
     private static final Log LOGGER = LogFactoryUtil.getLog(GraphQLEngineImpl.class);
+    private static final int INTROSPECTION_CACHE_SIZE = 100;
     private Cache<String, PreparsedDocumentEntry> cache;
+    private Cache<String, ExecutionResult> introspectionCache;
     private GraphQL graphQL;
+    private String schema;
+    private String schemaHash;
 
     @Reference
-    private GraphQLRegistry graphQLRegistry;
+    private DataLoaderRegistryFactory dataLoaderRegistryFactory;
+
+    @Reference
+    private SampledTracingInstrumentation tracingInstrumentation;
+
+    @Reference
+    private QueryCostInstrumentation queryCostInstrumentation;
+
+    @Reference
+    private BulkMutationExecutor bulkMutationExecutor;
+
+    @Reference
+    private ModelEventPublisher modelEventPublisher;
 
     @Reference
     private AssetCategoryResolvers assetCategoryResolvers;
@@ -199,12 +281,19 @@ public class GraphQLEngineImpl implements GraphQLEngine {
                 .maximumSize(10_000)
                 .expireAfterWrite(5, TimeUnit.MINUTES)
                 .build();
+        // Introspection results only depend on the schema, so they are kept as long as the engine
+        introspectionCache = Caffeine.newBuilder()
+                .maximumSize(INTROSPECTION_CACHE_SIZE)
+                .build();
     }
 
     private void initializeEngine() {
         LOGGER.info("Initializing GraphQL engine");
+        schema = getSchemaFileReader().lines()
+                .collect(Collectors.joining("\n"));
+        schemaHash = sha256(schema);
         SchemaParser schemaParser = new SchemaParser();
-        TypeDefinitionRegistry typeRegistry = schemaParser.parse(getSchemaFileReader());
+        TypeDefinitionRegistry typeRegistry = schemaParser.parse(schema);
         SchemaGenerator schemaGenerator = new SchemaGenerator();
         GraphQLSchema graphQLSchema = schemaGenerator.makeExecutableSchema(typeRegistry, getSchemaWiring());
         graphQL = GraphQL.newGraphQL(graphQLSchema)
@@ -214,14 +303,20 @@ public class GraphQLEngineImpl implements GraphQLEngine {
     }
 
     private ChainedInstrumentation getInstrumentation() {
-        // Instrumentation for data loader
+        // Instrumentation rejecting the queries over the depth or cost limits before their execution
         List<Instrumentation> chainedList = new ArrayList<>();
+        chainedList.add(queryCostInstrumentation);
+
+        // Instrumentation for data loader
         DataLoaderDispatcherInstrumentationOptions options = DataLoaderDispatcherInstrumentationOptions.newOptions()
                 .includeStatistics(true);
         chainedList.add(new DataLoaderDispatcherInstrumentation(options));
 
-        // Instrumentation for tracing
-        chainedList.add(new TracingInstrumentation());
+        // Instrumentation for tracing, only recording the requests asking for it or sampled
+        chainedList.add(tracingInstrumentation);
+
+        // Instrumentation giving the path of each @defer field to the multipart responses
+        chainedList.add(new DeferredPathInstrumentation());
 
         return new ChainedInstrumentation(chainedList);
     }
@@ -231,26 +326,48 @@ public class GraphQLEngineImpl implements GraphQLEngine {
         return new BufferedReader(new InputStreamReader(is));
     }
 
+    private String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(value.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
     @Override
     public String getSchema() {
-        return getSchemaFileReader().lines()
-                .collect(Collectors.joining("\n"));
+        return schema;
+    }
+
+    @Override
+    public String getSchemaHash() {
+        return schemaHash;
     }
 
     private RuntimeWiring getSchemaWiring() {
         LOGGER.info("Loading GraphQL runtime wiring");
-        return RuntimeWiring.newRuntimeWiring()
+        RuntimeWiring.Builder builder = RuntimeWiring.newRuntimeWiring()
                 .scalar(LocalizedStringScalar.INSTANCE)
-                .scalar(DateScalar.INSTANCE)
+                .scalar(DateScalar.INSTANCE);
+        // Properties are read by calling their getter, instead of looking it up by reflection on every value
+        getPropertyWirings().forEach(builder::type);
+        return builder
                 .type(TypeRuntimeWiring.newTypeWiring("Query")
                         // START -- Query resolvers for class com.liferay.asset.kernel.model.AssetCategory
                         .dataFetcher("assetCategories", assetCategoryResolvers.getAssetCategoriesDataFetcher())
+                        .dataFetcher("assetCategoriesConnection", assetCategoryResolvers.getAssetCategoriesConnectionDataFetcher())
+                        .dataFetcher("assetCategoriesCount", assetCategoryResolvers.getAssetCategoriesCountDataFetcher())
                         .dataFetcher("assetCategoriesForAsset", assetCategoryResolvers.getAssetCategoriesForAssetDataFetcher())
                         .dataFetcher("assetCategory", assetCategoryResolvers.getAssetCategoryDataFetcher())
                         // END -- Query resolvers for class com.liferay.asset.kernel.model.AssetCategory
 
                         // START -- Query resolvers for class com.liferay.asset.kernel.model.AssetEntry
                         .dataFetcher("assetEntries", assetEntryResolvers.getAssetEntriesDataFetcher())
+                        .dataFetcher("assetEntriesConnection", assetEntryResolvers.getAssetEntriesConnectionDataFetcher())
+                        .dataFetcher("assetEntriesCount", assetEntryResolvers.getAssetEntriesCountDataFetcher())
+                        .dataFetcher("searchAssetEntries", assetEntryResolvers.getSearchAssetEntriesDataFetcher())
                         .dataFetcher("assetEntriesWithCategory", assetEntryResolvers.getAssetEntriesWithCategoryDataFetcher())
                         .dataFetcher("assetEntriesWithTag", assetEntryResolvers.getAssetEntriesWithTagDataFetcher())
                         .dataFetcher("assetEntry", assetEntryResolvers.getAssetEntryDataFetcher())
@@ -258,137 +375,192 @@ public class GraphQLEngineImpl implements GraphQLEngine {
 
                         // START -- Query resolvers for class com.liferay.asset.kernel.model.AssetLink
                         .dataFetcher("assetLinks", assetLinkResolvers.getAssetLinksDataFetcher())
+                        .dataFetcher("assetLinksConnection", assetLinkResolvers.getAssetLinksConnectionDataFetcher())
+                        .dataFetcher("assetLinksCount", assetLinkResolvers.getAssetLinksCountDataFetcher())
                         .dataFetcher("assetLink", assetLinkResolvers.getAssetLinkDataFetcher())
                         // END -- Query resolvers for class com.liferay.asset.kernel.model.AssetLink
 
                         // START -- Query resolvers for class com.liferay.asset.kernel.model.AssetTag
                         .dataFetcher("assetTags", assetTagResolvers.getAssetTagsDataFetcher())
+                        .dataFetcher("assetTagsConnection", assetTagResolvers.getAssetTagsConnectionDataFetcher())
+                        .dataFetcher("assetTagsCount", assetTagResolvers.getAssetTagsCountDataFetcher())
                         .dataFetcher("assetTagsForAsset", assetTagResolvers.getAssetTagsForAssetDataFetcher())
                         .dataFetcher("assetTag", assetTagResolvers.getAssetTagDataFetcher())
                         // END -- Query resolvers for class com.liferay.asset.kernel.model.AssetTag
 
                         // START -- Query resolvers for class com.liferay.asset.kernel.model.AssetVocabulary
                         .dataFetcher("assetVocabularies", assetVocabularyResolvers.getAssetVocabulariesDataFetcher())
+                        .dataFetcher("assetVocabulariesConnection", assetVocabularyResolvers.getAssetVocabulariesConnectionDataFetcher())
+                        .dataFetcher("assetVocabulariesCount", assetVocabularyResolvers.getAssetVocabulariesCountDataFetcher())
                         .dataFetcher("assetVocabulary", assetVocabularyResolvers.getAssetVocabularyDataFetcher())
                         // END -- Query resolvers for class com.liferay.asset.kernel.model.AssetVocabulary
 
                         // START -- Query resolvers for class com.liferay.blogs.model.BlogsEntry
                         .dataFetcher("blogsEntries", blogsEntryResolvers.getBlogsEntriesDataFetcher())
+                        .dataFetcher("blogsEntriesConnection", blogsEntryResolvers.getBlogsEntriesConnectionDataFetcher())
+                        .dataFetcher("blogsEntriesCount", blogsEntryResolvers.getBlogsEntriesCountDataFetcher())
+                        .dataFetcher("searchBlogsEntries", blogsEntryResolvers.getSearchBlogsEntriesDataFetcher())
                         .dataFetcher("blogsEntry", blogsEntryResolvers.getBlogsEntryDataFetcher())
                         // END -- Query resolvers for class com.liferay.blogs.model.BlogsEntry
 
                         // START -- Query resolvers for class com.liferay.document.library.kernel.model.DLFileEntry
                         .dataFetcher("dlFileEntries", dlFileEntryResolvers.getDLFileEntriesDataFetcher())
+                        .dataFetcher("dlFileEntriesConnection", dlFileEntryResolvers.getDLFileEntriesConnectionDataFetcher())
+                        .dataFetcher("dlFileEntriesCount", dlFileEntryResolvers.getDLFileEntriesCountDataFetcher())
+                        .dataFetcher("searchDLFileEntries", dlFileEntryResolvers.getSearchDLFileEntriesDataFetcher())
                         .dataFetcher("dlFileEntry", dlFileEntryResolvers.getDLFileEntryDataFetcher())
                         // END -- Query resolvers for class com.liferay.document.library.kernel.model.DLFileEntry
 
                         // START -- Query resolvers for class com.liferay.document.library.kernel.model.DLFileEntryMetadata
                         .dataFetcher("dlFileEntryMetadatas", dlFileEntryMetadataResolvers.getDLFileEntryMetadatasDataFetcher())
+                        .dataFetcher("dlFileEntryMetadatasConnection", dlFileEntryMetadataResolvers.getDLFileEntryMetadatasConnectionDataFetcher())
+                        .dataFetcher("dlFileEntryMetadatasCount", dlFileEntryMetadataResolvers.getDLFileEntryMetadatasCountDataFetcher())
                         .dataFetcher("dlFileEntryMetadata", dlFileEntryMetadataResolvers.getDLFileEntryMetadataDataFetcher())
                         // END -- Query resolvers for class com.liferay.document.library.kernel.model.DLFileEntryMetadata
 
                         // START -- Query resolvers for class com.liferay.document.library.kernel.model.DLFileEntryType
                         .dataFetcher("dlFileEntryTypes", dlFileEntryTypeResolvers.getDLFileEntryTypesDataFetcher())
+                        .dataFetcher("dlFileEntryTypesConnection", dlFileEntryTypeResolvers.getDLFileEntryTypesConnectionDataFetcher())
+                        .dataFetcher("dlFileEntryTypesCount", dlFileEntryTypeResolvers.getDLFileEntryTypesCountDataFetcher())
                         .dataFetcher("dlFileEntryTypesForFolder", dlFileEntryTypeResolvers.getDLFileEntryTypesForFolderDataFetcher())
                         .dataFetcher("dlFileEntryType", dlFileEntryTypeResolvers.getDLFileEntryTypeDataFetcher())
                         // END -- Query resolvers for class com.liferay.document.library.kernel.model.DLFileEntryType
 
                         // START -- Query resolvers for class com.liferay.document.library.kernel.model.DLFileShortcut
                         .dataFetcher("dlFileShortcuts", dlFileShortcutResolvers.getDLFileShortcutsDataFetcher())
+                        .dataFetcher("dlFileShortcutsConnection", dlFileShortcutResolvers.getDLFileShortcutsConnectionDataFetcher())
+                        .dataFetcher("dlFileShortcutsCount", dlFileShortcutResolvers.getDLFileShortcutsCountDataFetcher())
                         .dataFetcher("dlFileShortcut", dlFileShortcutResolvers.getDLFileShortcutDataFetcher())
                         // END -- Query resolvers for class com.liferay.document.library.kernel.model.DLFileShortcut
 
                         // START -- Query resolvers for class com.liferay.document.library.kernel.model.DLFileVersion
                         .dataFetcher("dlFileVersions", dlFileVersionResolvers.getDLFileVersionsDataFetcher())
+                        .dataFetcher("dlFileVersionsConnection", dlFileVersionResolvers.getDLFileVersionsConnectionDataFetcher())
+                        .dataFetcher("dlFileVersionsCount", dlFileVersionResolvers.getDLFileVersionsCountDataFetcher())
                         .dataFetcher("dlFileVersion", dlFileVersionResolvers.getDLFileVersionDataFetcher())
                         // END -- Query resolvers for class com.liferay.document.library.kernel.model.DLFileVersion
 
                         // START -- Query resolvers for class com.liferay.document.library.kernel.model.DLFolder
                         .dataFetcher("dlFolders", dlFolderResolvers.getDLFoldersDataFetcher())
+                        .dataFetcher("dlFoldersConnection", dlFolderResolvers.getDLFoldersConnectionDataFetcher())
+                        .dataFetcher("dlFoldersCount", dlFolderResolvers.getDLFoldersCountDataFetcher())
                         .dataFetcher("dlFoldersForType", dlFolderResolvers.getDLFoldersForTypeDataFetcher())
                         .dataFetcher("dlFolder", dlFolderResolvers.getDLFolderDataFetcher())
                         // END -- Query resolvers for class com.liferay.document.library.kernel.model.DLFolder
 
                         // START -- Query resolvers for class com.liferay.dynamic.data.mapping.model.DDMContent
                         .dataFetcher("ddmContents", ddmContentResolvers.getDDMContentsDataFetcher())
+                        .dataFetcher("ddmContentsConnection", ddmContentResolvers.getDDMContentsConnectionDataFetcher())
+                        .dataFetcher("ddmContentsCount", ddmContentResolvers.getDDMContentsCountDataFetcher())
                         .dataFetcher("ddmContent", ddmContentResolvers.getDDMContentDataFetcher())
                         // END -- Query resolvers for class com.liferay.dynamic.data.mapping.model.DDMContent
 
                         // START -- Query resolvers for class com.liferay.dynamic.data.mapping.model.DDMStructure
                         .dataFetcher("ddmStructures", ddmStructureResolvers.getDDMStructuresDataFetcher())
+                        .dataFetcher("ddmStructuresConnection", ddmStructureResolvers.getDDMStructuresConnectionDataFetcher())
+                        .dataFetcher("ddmStructuresCount", ddmStructureResolvers.getDDMStructuresCountDataFetcher())
                         .dataFetcher("ddmStructure", ddmStructureResolvers.getDDMStructureDataFetcher())
                         .dataFetcher("ddmStructureByKey", ddmStructureResolvers.getDDMStructureByKeyDataFetcher())
                         // END -- Query resolvers for class com.liferay.dynamic.data.mapping.model.DDMStructure
 
                         // START -- Query resolvers for class com.liferay.dynamic.data.mapping.model.DDMTemplate
                         .dataFetcher("ddmTemplates", ddmTemplateResolvers.getDDMTemplatesDataFetcher())
+                        .dataFetcher("ddmTemplatesConnection", ddmTemplateResolvers.getDDMTemplatesConnectionDataFetcher())
+                        .dataFetcher("ddmTemplatesCount", ddmTemplateResolvers.getDDMTemplatesCountDataFetcher())
                         .dataFetcher("ddmTemplate", ddmTemplateResolvers.getDDMTemplateDataFetcher())
                         .dataFetcher("ddmTemplateByKey", ddmTemplateResolvers.getDDMTemplateByKeyDataFetcher())
                         // END -- Query resolvers for class com.liferay.dynamic.data.mapping.model.DDMTemplate
 
                         // START -- Query resolvers for class com.liferay.expando.kernel.model.ExpandoColumn
                         .dataFetcher("expandoColumns", expandoColumnResolvers.getExpandoColumnsDataFetcher())
+                        .dataFetcher("expandoColumnsConnection", expandoColumnResolvers.getExpandoColumnsConnectionDataFetcher())
+                        .dataFetcher("expandoColumnsCount", expandoColumnResolvers.getExpandoColumnsCountDataFetcher())
                         .dataFetcher("expandoColumn", expandoColumnResolvers.getExpandoColumnDataFetcher())
                         // END -- Query resolvers for class com.liferay.expando.kernel.model.ExpandoColumn
 
                         // START -- Query resolvers for class com.liferay.expando.kernel.model.ExpandoRow
                         .dataFetcher("expandoRows", expandoRowResolvers.getExpandoRowsDataFetcher())
+                        .dataFetcher("expandoRowsConnection", expandoRowResolvers.getExpandoRowsConnectionDataFetcher())
+                        .dataFetcher("expandoRowsCount", expandoRowResolvers.getExpandoRowsCountDataFetcher())
                         .dataFetcher("expandoRow", expandoRowResolvers.getExpandoRowDataFetcher())
                         // END -- Query resolvers for class com.liferay.expando.kernel.model.ExpandoRow
 
                         // START -- Query resolvers for class com.liferay.expando.kernel.model.ExpandoTable
                         .dataFetcher("expandoTables", expandoTableResolvers.getExpandoTablesDataFetcher())
+                        .dataFetcher("expandoTablesConnection", expandoTableResolvers.getExpandoTablesConnectionDataFetcher())
+                        .dataFetcher("expandoTablesCount", expandoTableResolvers.getExpandoTablesCountDataFetcher())
                         .dataFetcher("expandoTable", expandoTableResolvers.getExpandoTableDataFetcher())
                         // END -- Query resolvers for class com.liferay.expando.kernel.model.ExpandoTable
 
                         // START -- Query resolvers for class com.liferay.expando.kernel.model.ExpandoValue
                         .dataFetcher("expandoValues", expandoValueResolvers.getExpandoValuesDataFetcher())
+                        .dataFetcher("expandoValuesConnection", expandoValueResolvers.getExpandoValuesConnectionDataFetcher())
+                        .dataFetcher("expandoValuesCount", expandoValueResolvers.getExpandoValuesCountDataFetcher())
                         .dataFetcher("expandoValue", expandoValueResolvers.getExpandoValueDataFetcher())
                         // END -- Query resolvers for class com.liferay.expando.kernel.model.ExpandoValue
 
                         // START -- Query resolvers for class com.liferay.journal.model.JournalArticle
                         .dataFetcher("journalArticles", journalArticleResolvers.getJournalArticlesDataFetcher())
+                        .dataFetcher("journalArticlesConnection", journalArticleResolvers.getJournalArticlesConnectionDataFetcher())
+                        .dataFetcher("journalArticlesCount", journalArticleResolvers.getJournalArticlesCountDataFetcher())
+                        .dataFetcher("searchJournalArticles", journalArticleResolvers.getSearchJournalArticlesDataFetcher())
                         .dataFetcher("journalArticle", journalArticleResolvers.getJournalArticleDataFetcher())
                         // END -- Query resolvers for class com.liferay.journal.model.JournalArticle
 
                         // START -- Query resolvers for class com.liferay.journal.model.JournalFeed
                         .dataFetcher("journalFeeds", journalFeedResolvers.getJournalFeedsDataFetcher())
+                        .dataFetcher("journalFeedsConnection", journalFeedResolvers.getJournalFeedsConnectionDataFetcher())
+                        .dataFetcher("journalFeedsCount", journalFeedResolvers.getJournalFeedsCountDataFetcher())
                         .dataFetcher("journalFeed", journalFeedResolvers.getJournalFeedDataFetcher())
                         // END -- Query resolvers for class com.liferay.journal.model.JournalFeed
 
                         // START -- Query resolvers for class com.liferay.journal.model.JournalFolder
                         .dataFetcher("journalFolders", journalFolderResolvers.getJournalFoldersDataFetcher())
+                        .dataFetcher("journalFoldersConnection", journalFolderResolvers.getJournalFoldersConnectionDataFetcher())
+                        .dataFetcher("journalFoldersCount", journalFolderResolvers.getJournalFoldersCountDataFetcher())
                         .dataFetcher("journalFolder", journalFolderResolvers.getJournalFolderDataFetcher())
                         // END -- Query resolvers for class com.liferay.journal.model.JournalFolder
 
                         // START -- Query resolvers for class com.liferay.message.boards.kernel.model.MBCategory
                         .dataFetcher("mbCategories", mbCategoryResolvers.getMBCategoriesDataFetcher())
+                        .dataFetcher("mbCategoriesConnection", mbCategoryResolvers.getMBCategoriesConnectionDataFetcher())
+                        .dataFetcher("mbCategoriesCount", mbCategoryResolvers.getMBCategoriesCountDataFetcher())
                         .dataFetcher("mbCategory", mbCategoryResolvers.getMBCategoryDataFetcher())
                         // END -- Query resolvers for class com.liferay.message.boards.kernel.model.MBCategory
 
                         // START -- Query resolvers for class com.liferay.message.boards.kernel.model.MBMessage
                         .dataFetcher("mbMessages", mbMessageResolvers.getMBMessagesDataFetcher())
+                        .dataFetcher("mbMessagesConnection", mbMessageResolvers.getMBMessagesConnectionDataFetcher())
+                        .dataFetcher("mbMessagesCount", mbMessageResolvers.getMBMessagesCountDataFetcher())
                         .dataFetcher("mbMessage", mbMessageResolvers.getMBMessageDataFetcher())
                         // END -- Query resolvers for class com.liferay.message.boards.kernel.model.MBMessage
 
                         // START -- Query resolvers for class com.liferay.message.boards.kernel.model.MBThread
                         .dataFetcher("mbThreads", mbThreadResolvers.getMBThreadsDataFetcher())
+                        .dataFetcher("mbThreadsConnection", mbThreadResolvers.getMBThreadsConnectionDataFetcher())
+                        .dataFetcher("mbThreadsCount", mbThreadResolvers.getMBThreadsCountDataFetcher())
                         .dataFetcher("mbThread", mbThreadResolvers.getMBThreadDataFetcher())
                         // END -- Query resolvers for class com.liferay.message.boards.kernel.model.MBThread
 
                         // START -- Query resolvers for class com.liferay.oauth2.provider.model.OAuth2Application
                         .dataFetcher("oAuth2Applications", oAuth2ApplicationResolvers.getOAuth2ApplicationsDataFetcher())
+                        .dataFetcher("oAuth2ApplicationsConnection", oAuth2ApplicationResolvers.getOAuth2ApplicationsConnectionDataFetcher())
+                        .dataFetcher("oAuth2ApplicationsCount", oAuth2ApplicationResolvers.getOAuth2ApplicationsCountDataFetcher())
                         .dataFetcher("oAuth2Application", oAuth2ApplicationResolvers.getOAuth2ApplicationDataFetcher())
                         .dataFetcher("oAuth2ApplicationForClient", oAuth2ApplicationResolvers.getOAuth2ApplicationForClientDataFetcher())
                         // END -- Query resolvers for class com.liferay.oauth2.provider.model.OAuth2Application
 
                         // START -- Query resolvers for class com.liferay.oauth2.provider.model.OAuth2ApplicationScopeAliases
                         .dataFetcher("oAuth2ApplicationScopeAliaseses", oAuth2ApplicationScopeAliasesResolvers.getOAuth2ApplicationScopeAliasesesDataFetcher())
+                        .dataFetcher("oAuth2ApplicationScopeAliasesesConnection", oAuth2ApplicationScopeAliasesResolvers.getOAuth2ApplicationScopeAliasesesConnectionDataFetcher())
+                        .dataFetcher("oAuth2ApplicationScopeAliasesesCount", oAuth2ApplicationScopeAliasesResolvers.getOAuth2ApplicationScopeAliasesesCountDataFetcher())
                         .dataFetcher("oAuth2ApplicationScopeAliases", oAuth2ApplicationScopeAliasesResolvers.getOAuth2ApplicationScopeAliasesDataFetcher())
                         // END -- Query resolvers for class com.liferay.oauth2.provider.model.OAuth2ApplicationScopeAliases
 
                         // START -- Query resolvers for class com.liferay.oauth2.provider.model.OAuth2Authorization
                         .dataFetcher("oAuth2Authorizations", oAuth2AuthorizationResolvers.getOAuth2AuthorizationsDataFetcher())
+                        .dataFetcher("oAuth2AuthorizationsConnection", oAuth2AuthorizationResolvers.getOAuth2AuthorizationsConnectionDataFetcher())
+                        .dataFetcher("oAuth2AuthorizationsCount", oAuth2AuthorizationResolvers.getOAuth2AuthorizationsCountDataFetcher())
                         .dataFetcher("oAuth2AuthorizationsForGrant", oAuth2AuthorizationResolvers.getOAuth2AuthorizationsForGrantDataFetcher())
                         .dataFetcher("oAuth2AuthorizationsForUser", oAuth2AuthorizationResolvers.getOAuth2AuthorizationsForUserDataFetcher())
                         .dataFetcher("oAuth2Authorization", oAuth2AuthorizationResolvers.getOAuth2AuthorizationDataFetcher())
@@ -398,30 +570,40 @@ public class GraphQLEngineImpl implements GraphQLEngine {
 
                         // START -- Query resolvers for class com.liferay.oauth2.provider.model.OAuth2ScopeGrant
                         .dataFetcher("oAuth2ScopeGrants", oAuth2ScopeGrantResolvers.getOAuth2ScopeGrantsDataFetcher())
+                        .dataFetcher("oAuth2ScopeGrantsConnection", oAuth2ScopeGrantResolvers.getOAuth2ScopeGrantsConnectionDataFetcher())
+                        .dataFetcher("oAuth2ScopeGrantsCount", oAuth2ScopeGrantResolvers.getOAuth2ScopeGrantsCountDataFetcher())
                         .dataFetcher("oAuth2ScopeGrantsForAuthorization", oAuth2ScopeGrantResolvers.getOAuth2ScopeGrantsForAuthorizationDataFetcher())
                         .dataFetcher("oAuth2ScopeGrant", oAuth2ScopeGrantResolvers.getOAuth2ScopeGrantDataFetcher())
                         // END -- Query resolvers for class com.liferay.oauth2.provider.model.OAuth2ScopeGrant
 
                         // START -- Query resolvers for class com.liferay.portal.kernel.model.Address
                         .dataFetcher("addresses", addressResolvers.getAddressesDataFetcher())
+                        .dataFetcher("addressesConnection", addressResolvers.getAddressesConnectionDataFetcher())
+                        .dataFetcher("addressesCount", addressResolvers.getAddressesCountDataFetcher())
                         .dataFetcher("addressesForEntity", addressResolvers.getAddressesForEntityDataFetcher())
                         .dataFetcher("address", addressResolvers.getAddressDataFetcher())
                         // END -- Query resolvers for class com.liferay.portal.kernel.model.Address
 
                         // START -- Query resolvers for class com.liferay.portal.kernel.model.ClassName
                         .dataFetcher("classNames", classNameResolvers.getClassNamesDataFetcher())
+                        .dataFetcher("classNamesConnection", classNameResolvers.getClassNamesConnectionDataFetcher())
+                        .dataFetcher("classNamesCount", classNameResolvers.getClassNamesCountDataFetcher())
                         .dataFetcher("className", classNameResolvers.getClassNameDataFetcher())
                         .dataFetcher("classNameByName", classNameResolvers.getClassNameByNameDataFetcher())
                         // END -- Query resolvers for class com.liferay.portal.kernel.model.ClassName
 
                         // START -- Query resolvers for class com.liferay.portal.kernel.model.Company
                         .dataFetcher("companies", companyResolvers.getCompaniesDataFetcher())
+                        .dataFetcher("companiesConnection", companyResolvers.getCompaniesConnectionDataFetcher())
+                        .dataFetcher("companiesCount", companyResolvers.getCompaniesCountDataFetcher())
                         .dataFetcher("company", companyResolvers.getCompanyDataFetcher())
                         .dataFetcher("companyByWebId", companyResolvers.getCompanyByWebIdDataFetcher())
                         // END -- Query resolvers for class com.liferay.portal.kernel.model.Company
 
                         // START -- Query resolvers for class com.liferay.portal.kernel.model.Contact
                         .dataFetcher("contacts", contactResolvers.getContactsDataFetcher())
+                        .dataFetcher("contactsConnection", contactResolvers.getContactsConnectionDataFetcher())
+                        .dataFetcher("contactsCount", contactResolvers.getContactsCountDataFetcher())
                         .dataFetcher("contact", contactResolvers.getContactDataFetcher())
                         // END -- Query resolvers for class com.liferay.portal.kernel.model.Contact
 
@@ -435,36 +617,48 @@ public class GraphQLEngineImpl implements GraphQLEngine {
 
                         // START -- Query resolvers for class com.liferay.portal.kernel.model.EmailAddress
                         .dataFetcher("emailAddresses", emailAddressResolvers.getEmailAddressesDataFetcher())
+                        .dataFetcher("emailAddressesConnection", emailAddressResolvers.getEmailAddressesConnectionDataFetcher())
+                        .dataFetcher("emailAddressesCount", emailAddressResolvers.getEmailAddressesCountDataFetcher())
                         .dataFetcher("emailAddressesForEntity", emailAddressResolvers.getEmailAddressesForEntityDataFetcher())
                         .dataFetcher("emailAddress", emailAddressResolvers.getEmailAddressDataFetcher())
                         // END -- Query resolvers for class com.liferay.portal.kernel.model.EmailAddress
 
                         // START -- Query resolvers for class com.liferay.portal.kernel.model.Group
                         .dataFetcher("groups", groupResolvers.getGroupsDataFetcher())
+                        .dataFetcher("groupsConnection", groupResolvers.getGroupsConnectionDataFetcher())
+                        .dataFetcher("groupsCount", groupResolvers.getGroupsCountDataFetcher())
                         .dataFetcher("group", groupResolvers.getGroupDataFetcher())
                         .dataFetcher("groupByKey", groupResolvers.getGroupByKeyDataFetcher())
                         // END -- Query resolvers for class com.liferay.portal.kernel.model.Group
 
                         // START -- Query resolvers for class com.liferay.portal.kernel.model.Layout
                         .dataFetcher("layouts", layoutResolvers.getLayoutsDataFetcher())
+                        .dataFetcher("layoutsConnection", layoutResolvers.getLayoutsConnectionDataFetcher())
+                        .dataFetcher("layoutsCount", layoutResolvers.getLayoutsCountDataFetcher())
                         .dataFetcher("layoutsForGroup", layoutResolvers.getLayoutsForGroupDataFetcher())
                         .dataFetcher("layout", layoutResolvers.getLayoutDataFetcher())
                         // END -- Query resolvers for class com.liferay.portal.kernel.model.Layout
 
                         // START -- Query resolvers for class com.liferay.portal.kernel.model.ListType
                         .dataFetcher("listTypes", listTypeResolvers.getListTypesDataFetcher())
+                        .dataFetcher("listTypesConnection", listTypeResolvers.getListTypesConnectionDataFetcher())
+                        .dataFetcher("listTypesCount", listTypeResolvers.getListTypesCountDataFetcher())
                         .dataFetcher("listTypesByType", listTypeResolvers.getListTypesByTypeDataFetcher())
                         .dataFetcher("listType", listTypeResolvers.getListTypeDataFetcher())
                         // END -- Query resolvers for class com.liferay.portal.kernel.model.ListType
 
                         // START -- Query resolvers for class com.liferay.portal.kernel.model.Organization
                         .dataFetcher("organizations", organizationResolvers.getOrganizationsDataFetcher())
+                        .dataFetcher("organizationsConnection", organizationResolvers.getOrganizationsConnectionDataFetcher())
+                        .dataFetcher("organizationsCount", organizationResolvers.getOrganizationsCountDataFetcher())
                         .dataFetcher("organization", organizationResolvers.getOrganizationDataFetcher())
                         .dataFetcher("organizationByName", organizationResolvers.getOrganizationByNameDataFetcher())
                         // END -- Query resolvers for class com.liferay.portal.kernel.model.Organization
 
                         // START -- Query resolvers for class com.liferay.portal.kernel.model.Phone
                         .dataFetcher("phones", phoneResolvers.getPhonesDataFetcher())
+                        .dataFetcher("phonesConnection", phoneResolvers.getPhonesConnectionDataFetcher())
+                        .dataFetcher("phonesCount", phoneResolvers.getPhonesCountDataFetcher())
                         .dataFetcher("phonesForEntity", phoneResolvers.getPhonesForEntityDataFetcher())
                         .dataFetcher("phone", phoneResolvers.getPhoneDataFetcher())
                         // END -- Query resolvers for class com.liferay.portal.kernel.model.Phone
@@ -477,12 +671,16 @@ public class GraphQLEngineImpl implements GraphQLEngine {
 
                         // START -- Query resolvers for class com.liferay.portal.kernel.model.Role
                         .dataFetcher("roles", roleResolvers.getRolesDataFetcher())
+                        .dataFetcher("rolesConnection", roleResolvers.getRolesConnectionDataFetcher())
+                        .dataFetcher("rolesCount", roleResolvers.getRolesCountDataFetcher())
                         .dataFetcher("role", roleResolvers.getRoleDataFetcher())
                         .dataFetcher("roleByName", roleResolvers.getRoleByNameDataFetcher())
                         // END -- Query resolvers for class com.liferay.portal.kernel.model.Role
 
                         // START -- Query resolvers for class com.liferay.portal.kernel.model.User
                         .dataFetcher("users", userResolvers.getUsersDataFetcher())
+                        .dataFetcher("usersConnection", userResolvers.getUsersConnectionDataFetcher())
+                        .dataFetcher("usersCount", userResolvers.getUsersCountDataFetcher())
                         .dataFetcher("user", userResolvers.getUserDataFetcher())
                         .dataFetcher("userByEmail", userResolvers.getUserByEmailDataFetcher())
                         .dataFetcher("userByScreenName", userResolvers.getUserByScreenNameDataFetcher())
@@ -490,18 +688,24 @@ public class GraphQLEngineImpl implements GraphQLEngine {
 
                         // START -- Query resolvers for class com.liferay.portal.kernel.model.UserGroup
                         .dataFetcher("userGroups", userGroupResolvers.getUserGroupsDataFetcher())
+                        .dataFetcher("userGroupsConnection", userGroupResolvers.getUserGroupsConnectionDataFetcher())
+                        .dataFetcher("userGroupsCount", userGroupResolvers.getUserGroupsCountDataFetcher())
                         .dataFetcher("userGroup", userGroupResolvers.getUserGroupDataFetcher())
                         .dataFetcher("userGroupByName", userGroupResolvers.getUserGroupByNameDataFetcher())
                         // END -- Query resolvers for class com.liferay.portal.kernel.model.UserGroup
 
                         // START -- Query resolvers for class com.liferay.portal.kernel.model.Website
                         .dataFetcher("websites", websiteResolvers.getWebsitesDataFetcher())
+                        .dataFetcher("websitesConnection", websiteResolvers.getWebsitesConnectionDataFetcher())
+                        .dataFetcher("websitesCount", websiteResolvers.getWebsitesCountDataFetcher())
                         .dataFetcher("websitesForEntity", websiteResolvers.getWebsitesForEntityDataFetcher())
                         .dataFetcher("website", websiteResolvers.getWebsiteDataFetcher())
                         // END -- Query resolvers for class com.liferay.portal.kernel.model.Website
 
                         // START -- Query resolvers for class com.liferay.ratings.kernel.model.RatingsEntry
                         .dataFetcher("ratingsEntries", ratingsEntryResolvers.getRatingsEntriesDataFetcher())
+                        .dataFetcher("ratingsEntriesConnection", ratingsEntryResolvers.getRatingsEntriesConnectionDataFetcher())
+                        .dataFetcher("ratingsEntriesCount", ratingsEntryResolvers.getRatingsEntriesCountDataFetcher())
                         .dataFetcher("ratingsEntry", ratingsEntryResolvers.getRatingsEntryDataFetcher())
                         // END -- Query resolvers for class com.liferay.ratings.kernel.model.RatingsEntry
 
@@ -511,6 +715,9 @@ public class GraphQLEngineImpl implements GraphQLEngine {
                         .dataFetcher("createAssetCategory", assetCategoryResolvers.createAssetCategoryDataFetcher())
                         .dataFetcher("updateAssetCategory", assetCategoryResolvers.updateAssetCategoryDataFetcher())
                         .dataFetcher("deleteAssetCategory", assetCategoryResolvers.deleteAssetCategoryDataFetcher())
+                        .dataFetcher("createAssetCategories", bulkMutationExecutor.bulkDataFetcher(assetCategoryResolvers.createAssetCategoryDataFetcher()))
+                        .dataFetcher("updateAssetCategories", bulkMutationExecutor.bulkDataFetcher(assetCategoryResolvers.updateAssetCategoryDataFetcher()))
+                        .dataFetcher("deleteAssetCategories", bulkMutationExecutor.bulkDataFetcher(assetCategoryResolvers.deleteAssetCategoryDataFetcher()))
                         // END -- Mutation resolvers for class com.liferay.asset.kernel.model.AssetCategory
 
                         // START -- Mutation resolvers for class com.liferay.asset.kernel.model.AssetEntry
@@ -524,30 +731,45 @@ public class GraphQLEngineImpl implements GraphQLEngine {
                         .dataFetcher("createAssetLink", assetLinkResolvers.createAssetLinkDataFetcher())
                         .dataFetcher("updateAssetLink", assetLinkResolvers.updateAssetLinkDataFetcher())
                         .dataFetcher("deleteAssetLink", assetLinkResolvers.deleteAssetLinkDataFetcher())
+                        .dataFetcher("createAssetLinks", bulkMutationExecutor.bulkDataFetcher(assetLinkResolvers.createAssetLinkDataFetcher()))
+                        .dataFetcher("updateAssetLinks", bulkMutationExecutor.bulkDataFetcher(assetLinkResolvers.updateAssetLinkDataFetcher()))
+                        .dataFetcher("deleteAssetLinks", bulkMutationExecutor.bulkDataFetcher(assetLinkResolvers.deleteAssetLinkDataFetcher()))
                         // END -- Mutation resolvers for class com.liferay.asset.kernel.model.AssetLink
 
                         // START -- Mutation resolvers for class com.liferay.asset.kernel.model.AssetTag
                         .dataFetcher("createAssetTag", assetTagResolvers.createAssetTagDataFetcher())
                         .dataFetcher("updateAssetTag", assetTagResolvers.updateAssetTagDataFetcher())
                         .dataFetcher("deleteAssetTag", assetTagResolvers.deleteAssetTagDataFetcher())
+                        .dataFetcher("createAssetTags", bulkMutationExecutor.bulkDataFetcher(assetTagResolvers.createAssetTagDataFetcher()))
+                        .dataFetcher("updateAssetTags", bulkMutationExecutor.bulkDataFetcher(assetTagResolvers.updateAssetTagDataFetcher()))
+                        .dataFetcher("deleteAssetTags", bulkMutationExecutor.bulkDataFetcher(assetTagResolvers.deleteAssetTagDataFetcher()))
                         // END -- Mutation resolvers for class com.liferay.asset.kernel.model.AssetTag
 
                         // START -- Mutation resolvers for class com.liferay.asset.kernel.model.AssetVocabulary
                         .dataFetcher("createAssetVocabulary", assetVocabularyResolvers.createAssetVocabularyDataFetcher())
                         .dataFetcher("updateAssetVocabulary", assetVocabularyResolvers.updateAssetVocabularyDataFetcher())
                         .dataFetcher("deleteAssetVocabulary", assetVocabularyResolvers.deleteAssetVocabularyDataFetcher())
+                        .dataFetcher("createAssetVocabularies", bulkMutationExecutor.bulkDataFetcher(assetVocabularyResolvers.createAssetVocabularyDataFetcher()))
+                        .dataFetcher("updateAssetVocabularies", bulkMutationExecutor.bulkDataFetcher(assetVocabularyResolvers.updateAssetVocabularyDataFetcher()))
+                        .dataFetcher("deleteAssetVocabularies", bulkMutationExecutor.bulkDataFetcher(assetVocabularyResolvers.deleteAssetVocabularyDataFetcher()))
                         // END -- Mutation resolvers for class com.liferay.asset.kernel.model.AssetVocabulary
 
                         // START -- Mutation resolvers for class com.liferay.blogs.model.BlogsEntry
                         .dataFetcher("createBlogsEntry", blogsEntryResolvers.createBlogsEntryDataFetcher())
                         .dataFetcher("updateBlogsEntry", blogsEntryResolvers.updateBlogsEntryDataFetcher())
                         .dataFetcher("deleteBlogsEntry", blogsEntryResolvers.deleteBlogsEntryDataFetcher())
+                        .dataFetcher("createBlogsEntries", bulkMutationExecutor.bulkDataFetcher(blogsEntryResolvers.createBlogsEntryDataFetcher()))
+                        .dataFetcher("updateBlogsEntries", bulkMutationExecutor.bulkDataFetcher(blogsEntryResolvers.updateBlogsEntryDataFetcher()))
+                        .dataFetcher("deleteBlogsEntries", bulkMutationExecutor.bulkDataFetcher(blogsEntryResolvers.deleteBlogsEntryDataFetcher()))
                         // END -- Mutation resolvers for class com.liferay.blogs.model.BlogsEntry
 
                         // START -- Mutation resolvers for class com.liferay.document.library.kernel.model.DLFileEntry
                         .dataFetcher("createDLFileEntry", dlFileEntryResolvers.createDLFileEntryDataFetcher())
                         .dataFetcher("updateDLFileEntry", dlFileEntryResolvers.updateDLFileEntryDataFetcher())
                         .dataFetcher("deleteDLFileEntry", dlFileEntryResolvers.deleteDLFileEntryDataFetcher())
+                        .dataFetcher("createDlFileEntries", bulkMutationExecutor.bulkDataFetcher(dlFileEntryResolvers.createDLFileEntryDataFetcher()))
+                        .dataFetcher("updateDlFileEntries", bulkMutationExecutor.bulkDataFetcher(dlFileEntryResolvers.updateDLFileEntryDataFetcher()))
+                        .dataFetcher("deleteDlFileEntries", bulkMutationExecutor.bulkDataFetcher(dlFileEntryResolvers.deleteDLFileEntryDataFetcher()))
                         // END -- Mutation resolvers for class com.liferay.document.library.kernel.model.DLFileEntry
 
                         // START -- Mutation resolvers for class com.liferay.document.library.kernel.model.DLFileEntryMetadata
@@ -558,12 +780,18 @@ public class GraphQLEngineImpl implements GraphQLEngine {
                         .dataFetcher("createDLFileEntryType", dlFileEntryTypeResolvers.createDLFileEntryTypeDataFetcher())
                         .dataFetcher("updateDLFileEntryType", dlFileEntryTypeResolvers.updateDLFileEntryTypeDataFetcher())
                         .dataFetcher("deleteDLFileEntryType", dlFileEntryTypeResolvers.deleteDLFileEntryTypeDataFetcher())
+                        .dataFetcher("createDlFileEntryTypes", bulkMutationExecutor.bulkDataFetcher(dlFileEntryTypeResolvers.createDLFileEntryTypeDataFetcher()))
+                        .dataFetcher("updateDlFileEntryTypes", bulkMutationExecutor.bulkDataFetcher(dlFileEntryTypeResolvers.updateDLFileEntryTypeDataFetcher()))
+                        .dataFetcher("deleteDlFileEntryTypes", bulkMutationExecutor.bulkDataFetcher(dlFileEntryTypeResolvers.deleteDLFileEntryTypeDataFetcher()))
                         // END -- Mutation resolvers for class com.liferay.document.library.kernel.model.DLFileEntryType
 
                         // START -- Mutation resolvers for class com.liferay.document.library.kernel.model.DLFileShortcut
                         .dataFetcher("createDLFileShortcut", dlFileShortcutResolvers.createDLFileShortcutDataFetcher())
                         .dataFetcher("updateDLFileShortcut", dlFileShortcutResolvers.updateDLFileShortcutDataFetcher())
                         .dataFetcher("deleteDLFileShortcut", dlFileShortcutResolvers.deleteDLFileShortcutDataFetcher())
+                        .dataFetcher("createDlFileShortcuts", bulkMutationExecutor.bulkDataFetcher(dlFileShortcutResolvers.createDLFileShortcutDataFetcher()))
+                        .dataFetcher("updateDlFileShortcuts", bulkMutationExecutor.bulkDataFetcher(dlFileShortcutResolvers.updateDLFileShortcutDataFetcher()))
+                        .dataFetcher("deleteDlFileShortcuts", bulkMutationExecutor.bulkDataFetcher(dlFileShortcutResolvers.deleteDLFileShortcutDataFetcher()))
                         // END -- Mutation resolvers for class com.liferay.document.library.kernel.model.DLFileShortcut
 
                         // START -- Mutation resolvers for class com.liferay.document.library.kernel.model.DLFileVersion
@@ -574,12 +802,18 @@ public class GraphQLEngineImpl implements GraphQLEngine {
                         .dataFetcher("createDLFolder", dlFolderResolvers.createDLFolderDataFetcher())
                         .dataFetcher("updateDLFolder", dlFolderResolvers.updateDLFolderDataFetcher())
                         .dataFetcher("deleteDLFolder", dlFolderResolvers.deleteDLFolderDataFetcher())
+                        .dataFetcher("createDlFolders", bulkMutationExecutor.bulkDataFetcher(dlFolderResolvers.createDLFolderDataFetcher()))
+                        .dataFetcher("updateDlFolders", bulkMutationExecutor.bulkDataFetcher(dlFolderResolvers.updateDLFolderDataFetcher()))
+                        .dataFetcher("deleteDlFolders", bulkMutationExecutor.bulkDataFetcher(dlFolderResolvers.deleteDLFolderDataFetcher()))
                         // END -- Mutation resolvers for class com.liferay.document.library.kernel.model.DLFolder
 
                         // START -- Mutation resolvers for class com.liferay.dynamic.data.mapping.model.DDMContent
                         .dataFetcher("createDDMContent", ddmContentResolvers.createDDMContentDataFetcher())
                         .dataFetcher("updateDDMContent", ddmContentResolvers.updateDDMContentDataFetcher())
                         .dataFetcher("deleteDDMContent", ddmContentResolvers.deleteDDMContentDataFetcher())
+                        .dataFetcher("createDdmContents", bulkMutationExecutor.bulkDataFetcher(ddmContentResolvers.createDDMContentDataFetcher()))
+                        .dataFetcher("updateDdmContents", bulkMutationExecutor.bulkDataFetcher(ddmContentResolvers.updateDDMContentDataFetcher()))
+                        .dataFetcher("deleteDdmContents", bulkMutationExecutor.bulkDataFetcher(ddmContentResolvers.deleteDDMContentDataFetcher()))
                         // END -- Mutation resolvers for class com.liferay.dynamic.data.mapping.model.DDMContent
 
                         // START -- Mutation resolvers for class com.liferay.dynamic.data.mapping.model.DDMStructure
@@ -588,29 +822,43 @@ public class GraphQLEngineImpl implements GraphQLEngine {
                         .dataFetcher("updateDDMStructure", ddmStructureResolvers.updateDDMStructureDataFetcher())
                         .dataFetcher("updateDDMStructureForJournalArticle", ddmStructureResolvers.updateDDMStructureForJournalArticleDataFetcher())
                         .dataFetcher("deleteDDMStructure", ddmStructureResolvers.deleteDDMStructureDataFetcher())
+                        .dataFetcher("createDdmStructures", bulkMutationExecutor.bulkDataFetcher(ddmStructureResolvers.createDDMStructureDataFetcher()))
+                        .dataFetcher("updateDdmStructures", bulkMutationExecutor.bulkDataFetcher(ddmStructureResolvers.updateDDMStructureDataFetcher()))
+                        .dataFetcher("deleteDdmStructures", bulkMutationExecutor.bulkDataFetcher(ddmStructureResolvers.deleteDDMStructureDataFetcher()))
                         // END -- Mutation resolvers for class com.liferay.dynamic.data.mapping.model.DDMStructure
 
                         // START -- Mutation resolvers for class com.liferay.dynamic.data.mapping.model.DDMTemplate
                         .dataFetcher("createDDMTemplate", ddmTemplateResolvers.createDDMTemplateDataFetcher())
                         .dataFetcher("updateDDMTemplate", ddmTemplateResolvers.updateDDMTemplateDataFetcher())
                         .dataFetcher("deleteDDMTemplate", ddmTemplateResolvers.deleteDDMTemplateDataFetcher())
+                        .dataFetcher("createDdmTemplates", bulkMutationExecutor.bulkDataFetcher(ddmTemplateResolvers.createDDMTemplateDataFetcher()))
+                        .dataFetcher("updateDdmTemplates", bulkMutationExecutor.bulkDataFetcher(ddmTemplateResolvers.updateDDMTemplateDataFetcher()))
+                        .dataFetcher("deleteDdmTemplates", bulkMutationExecutor.bulkDataFetcher(ddmTemplateResolvers.deleteDDMTemplateDataFetcher()))
                         // END -- Mutation resolvers for class com.liferay.dynamic.data.mapping.model.DDMTemplate
 
                         // START -- Mutation resolvers for class com.liferay.expando.kernel.model.ExpandoColumn
                         .dataFetcher("createExpandoColumn", expandoColumnResolvers.createExpandoColumnDataFetcher())
                         .dataFetcher("updateExpandoColumn", expandoColumnResolvers.updateExpandoColumnDataFetcher())
                         .dataFetcher("deleteExpandoColumn", expandoColumnResolvers.deleteExpandoColumnDataFetcher())
+                        .dataFetcher("createExpandoColumns", bulkMutationExecutor.bulkDataFetcher(expandoColumnResolvers.createExpandoColumnDataFetcher()))
+                        .dataFetcher("updateExpandoColumns", bulkMutationExecutor.bulkDataFetcher(expandoColumnResolvers.updateExpandoColumnDataFetcher()))
+                        .dataFetcher("deleteExpandoColumns", bulkMutationExecutor.bulkDataFetcher(expandoColumnResolvers.deleteExpandoColumnDataFetcher()))
                         // END -- Mutation resolvers for class com.liferay.expando.kernel.model.ExpandoColumn
 
                         // START -- Mutation resolvers for class com.liferay.expando.kernel.model.ExpandoRow
                         .dataFetcher("createExpandoRow", expandoRowResolvers.createExpandoRowDataFetcher())
                         .dataFetcher("deleteExpandoRow", expandoRowResolvers.deleteExpandoRowDataFetcher())
+                        .dataFetcher("createExpandoRows", bulkMutationExecutor.bulkDataFetcher(expandoRowResolvers.createExpandoRowDataFetcher()))
+                        .dataFetcher("deleteExpandoRows", bulkMutationExecutor.bulkDataFetcher(expandoRowResolvers.deleteExpandoRowDataFetcher()))
                         // END -- Mutation resolvers for class com.liferay.expando.kernel.model.ExpandoRow
 
                         // START -- Mutation resolvers for class com.liferay.expando.kernel.model.ExpandoTable
                         .dataFetcher("createExpandoTable", expandoTableResolvers.createExpandoTableDataFetcher())
                         .dataFetcher("updateExpandoTable", expandoTableResolvers.updateExpandoTableDataFetcher())
                         .dataFetcher("deleteExpandoTable", expandoTableResolvers.deleteExpandoTableDataFetcher())
+                        .dataFetcher("createExpandoTables", bulkMutationExecutor.bulkDataFetcher(expandoTableResolvers.createExpandoTableDataFetcher()))
+                        .dataFetcher("updateExpandoTables", bulkMutationExecutor.bulkDataFetcher(expandoTableResolvers.updateExpandoTableDataFetcher()))
+                        .dataFetcher("deleteExpandoTables", bulkMutationExecutor.bulkDataFetcher(expandoTableResolvers.deleteExpandoTableDataFetcher()))
                         // END -- Mutation resolvers for class com.liferay.expando.kernel.model.ExpandoTable
 
                         // START -- Mutation resolvers for class com.liferay.expando.kernel.model.ExpandoValue
@@ -620,59 +868,84 @@ public class GraphQLEngineImpl implements GraphQLEngine {
                         .dataFetcher("createExpandoValueForStringForDouble", expandoValueResolvers.createExpandoValueForDoubleDataFetcher())
                         .dataFetcher("createExpandoValueForStringForBoolean", expandoValueResolvers.createExpandoValueForBooleanDataFetcher())
                         .dataFetcher("deleteExpandoValue", expandoValueResolvers.deleteExpandoValueDataFetcher())
+                        .dataFetcher("deleteExpandoValues", bulkMutationExecutor.bulkDataFetcher(expandoValueResolvers.deleteExpandoValueDataFetcher()))
                         // END -- Mutation resolvers for class com.liferay.expando.kernel.model.ExpandoValue
 
                         // START -- Mutation resolvers for class com.liferay.journal.model.JournalArticle
                         .dataFetcher("createJournalArticle", journalArticleResolvers.createJournalArticleDataFetcher())
                         .dataFetcher("updateJournalArticle", journalArticleResolvers.updateJournalArticleDataFetcher())
                         .dataFetcher("deleteJournalArticle", journalArticleResolvers.deleteJournalArticleDataFetcher())
+                        .dataFetcher("createJournalArticles", bulkMutationExecutor.bulkDataFetcher(journalArticleResolvers.createJournalArticleDataFetcher()))
+                        .dataFetcher("updateJournalArticles", bulkMutationExecutor.bulkDataFetcher(journalArticleResolvers.updateJournalArticleDataFetcher()))
+                        .dataFetcher("deleteJournalArticles", bulkMutationExecutor.bulkDataFetcher(journalArticleResolvers.deleteJournalArticleDataFetcher()))
                         // END -- Mutation resolvers for class com.liferay.journal.model.JournalArticle
 
                         // START -- Mutation resolvers for class com.liferay.journal.model.JournalFeed
                         .dataFetcher("createJournalFeed", journalFeedResolvers.createJournalFeedDataFetcher())
                         .dataFetcher("updateJournalFeed", journalFeedResolvers.updateJournalFeedDataFetcher())
                         .dataFetcher("deleteJournalFeed", journalFeedResolvers.deleteJournalFeedDataFetcher())
+                        .dataFetcher("createJournalFeeds", bulkMutationExecutor.bulkDataFetcher(journalFeedResolvers.createJournalFeedDataFetcher()))
+                        .dataFetcher("updateJournalFeeds", bulkMutationExecutor.bulkDataFetcher(journalFeedResolvers.updateJournalFeedDataFetcher()))
+                        .dataFetcher("deleteJournalFeeds", bulkMutationExecutor.bulkDataFetcher(journalFeedResolvers.deleteJournalFeedDataFetcher()))
                         // END -- Mutation resolvers for class com.liferay.journal.model.JournalFeed
 
                         // START -- Mutation resolvers for class com.liferay.journal.model.JournalFolder
                         .dataFetcher("createJournalFolder", journalFolderResolvers.createJournalFolderDataFetcher())
                         .dataFetcher("updateJournalFolder", journalFolderResolvers.updateJournalFolderDataFetcher())
                         .dataFetcher("deleteJournalFolder", journalFolderResolvers.deleteJournalFolderDataFetcher())
+                        .dataFetcher("createJournalFolders", bulkMutationExecutor.bulkDataFetcher(journalFolderResolvers.createJournalFolderDataFetcher()))
+                        .dataFetcher("updateJournalFolders", bulkMutationExecutor.bulkDataFetcher(journalFolderResolvers.updateJournalFolderDataFetcher()))
+                        .dataFetcher("deleteJournalFolders", bulkMutationExecutor.bulkDataFetcher(journalFolderResolvers.deleteJournalFolderDataFetcher()))
                         // END -- Mutation resolvers for class com.liferay.journal.model.JournalFolder
 
                         // START -- Mutation resolvers for class com.liferay.message.boards.kernel.model.MBCategory
                         .dataFetcher("createMBCategory", mbCategoryResolvers.createMBCategoryDataFetcher())
                         .dataFetcher("updateMBCategory", mbCategoryResolvers.updateMBCategoryDataFetcher())
                         .dataFetcher("deleteMBCategory", mbCategoryResolvers.deleteMBCategoryDataFetcher())
+                        .dataFetcher("createMbCategories", bulkMutationExecutor.bulkDataFetcher(mbCategoryResolvers.createMBCategoryDataFetcher()))
+                        .dataFetcher("updateMbCategories", bulkMutationExecutor.bulkDataFetcher(mbCategoryResolvers.updateMBCategoryDataFetcher()))
+                        .dataFetcher("deleteMbCategories", bulkMutationExecutor.bulkDataFetcher(mbCategoryResolvers.deleteMBCategoryDataFetcher()))
                         // END -- Mutation resolvers for class com.liferay.message.boards.kernel.model.MBCategory
 
                         // START -- Mutation resolvers for class com.liferay.message.boards.kernel.model.MBMessage
                         .dataFetcher("createMBMessage", mbMessageResolvers.createMBMessageDataFetcher())
                         .dataFetcher("updateMBMessage", mbMessageResolvers.updateMBMessageDataFetcher())
                         .dataFetcher("deleteMBMessage", mbMessageResolvers.deleteMBMessageDataFetcher())
+                        .dataFetcher("createMbMessages", bulkMutationExecutor.bulkDataFetcher(mbMessageResolvers.createMBMessageDataFetcher()))
+                        .dataFetcher("updateMbMessages", bulkMutationExecutor.bulkDataFetcher(mbMessageResolvers.updateMBMessageDataFetcher()))
+                        .dataFetcher("deleteMbMessages", bulkMutationExecutor.bulkDataFetcher(mbMessageResolvers.deleteMBMessageDataFetcher()))
                         // END -- Mutation resolvers for class com.liferay.message.boards.kernel.model.MBMessage
 
                         // START -- Mutation resolvers for class com.liferay.message.boards.kernel.model.MBThread
                         .dataFetcher("createMBThread", mbThreadResolvers.createMBThreadDataFetcher())
                         // No update method available
                         .dataFetcher("deleteMBThread", mbThreadResolvers.deleteMBThreadDataFetcher())
+                        .dataFetcher("createMbThreads", bulkMutationExecutor.bulkDataFetcher(mbThreadResolvers.createMBThreadDataFetcher()))
+                        .dataFetcher("deleteMbThreads", bulkMutationExecutor.bulkDataFetcher(mbThreadResolvers.deleteMBThreadDataFetcher()))
                         // END -- Mutation resolvers for class com.liferay.message.boards.kernel.model.MBThread
 
                         // START -- Mutation resolvers for class com.liferay.oauth2.provider.model.OAuth2Application
                         .dataFetcher("createOAuth2Application", oAuth2ApplicationResolvers.createOAuth2ApplicationDataFetcher())
                         .dataFetcher("updateOAuth2Application", oAuth2ApplicationResolvers.updateOAuth2ApplicationDataFetcher())
                         .dataFetcher("deleteOAuth2Application", oAuth2ApplicationResolvers.deleteOAuth2ApplicationDataFetcher())
+                        .dataFetcher("createOAuth2Applications", bulkMutationExecutor.bulkDataFetcher(oAuth2ApplicationResolvers.createOAuth2ApplicationDataFetcher()))
+                        .dataFetcher("updateOAuth2Applications", bulkMutationExecutor.bulkDataFetcher(oAuth2ApplicationResolvers.updateOAuth2ApplicationDataFetcher()))
+                        .dataFetcher("deleteOAuth2Applications", bulkMutationExecutor.bulkDataFetcher(oAuth2ApplicationResolvers.deleteOAuth2ApplicationDataFetcher()))
                         // END -- Mutation resolvers for class com.liferay.oauth2.provider.model.OAuth2Application
 
                         // START -- Mutation resolvers for class com.liferay.oauth2.provider.model.OAuth2ApplicationScopeAliases
                         .dataFetcher("createOAuth2ApplicationScopeAliases", oAuth2ApplicationScopeAliasesResolvers.createOAuth2ApplicationScopeAliasesDataFetcher())
                         // No update method available
                         .dataFetcher("deleteOAuth2ApplicationScopeAliases", oAuth2ApplicationScopeAliasesResolvers.deleteOAuth2ApplicationScopeAliasesDataFetcher())
+                        .dataFetcher("createOAuth2ApplicationScopeAliaseses", bulkMutationExecutor.bulkDataFetcher(oAuth2ApplicationScopeAliasesResolvers.createOAuth2ApplicationScopeAliasesDataFetcher()))
+                        .dataFetcher("deleteOAuth2ApplicationScopeAliaseses", bulkMutationExecutor.bulkDataFetcher(oAuth2ApplicationScopeAliasesResolvers.deleteOAuth2ApplicationScopeAliasesDataFetcher()))
                         // END -- Mutation resolvers for class com.liferay.oauth2.provider.model.OAuth2ApplicationScopeAliases
 
                         // START -- Mutation resolvers for class com.liferay.oauth2.provider.model.OAuth2Authorization
                         .dataFetcher("createOAuth2Authorization", oAuth2AuthorizationResolvers.createOAuth2AuthorizationDataFetcher())
                         .dataFetcher("deleteOAuth2Authorization", oAuth2AuthorizationResolvers.deleteOAuth2AuthorizationDataFetcher())
+                        .dataFetcher("createOAuth2Authorizations", bulkMutationExecutor.bulkDataFetcher(oAuth2AuthorizationResolvers.createOAuth2AuthorizationDataFetcher()))
+                        .dataFetcher("deleteOAuth2Authorizations", bulkMutationExecutor.bulkDataFetcher(oAuth2AuthorizationResolvers.deleteOAuth2AuthorizationDataFetcher()))
                         // END -- Mutation resolvers for class com.liferay.oauth2.provider.model.OAuth2Authorization
 
                         // START -- Mutation resolvers for class com.liferay.oauth2.provider.model.OAuth2ScopeGrant
@@ -684,6 +957,9 @@ public class GraphQLEngineImpl implements GraphQLEngine {
                         .dataFetcher("createAddress", addressResolvers.createAddressDataFetcher())
                         .dataFetcher("updateAddress", addressResolvers.updateAddressDataFetcher())
                         .dataFetcher("deleteAddress", addressResolvers.deleteAddressDataFetcher())
+                        .dataFetcher("createAddresses", bulkMutationExecutor.bulkDataFetcher(addressResolvers.createAddressDataFetcher()))
+                        .dataFetcher("updateAddresses", bulkMutationExecutor.bulkDataFetcher(addressResolvers.updateAddressDataFetcher()))
+                        .dataFetcher("deleteAddresses", bulkMutationExecutor.bulkDataFetcher(addressResolvers.deleteAddressDataFetcher()))
                         // END -- Mutation resolvers for class com.liferay.portal.kernel.model.Address
 
                         // START -- Mutation resolvers for class com.liferay.portal.kernel.model.ClassName
@@ -694,89 +970,306 @@ public class GraphQLEngineImpl implements GraphQLEngine {
                         .dataFetcher("createCompany", companyResolvers.createCompanyDataFetcher())
                         .dataFetcher("updateCompany", companyResolvers.updateCompanyDataFetcher())
                         .dataFetcher("deleteCompany", companyResolvers.deleteCompanyDataFetcher())
+                        .dataFetcher("createCompanies", bulkMutationExecutor.bulkDataFetcher(companyResolvers.createCompanyDataFetcher()))
+                        .dataFetcher("updateCompanies", bulkMutationExecutor.bulkDataFetcher(companyResolvers.updateCompanyDataFetcher()))
+                        .dataFetcher("deleteCompanies", bulkMutationExecutor.bulkDataFetcher(companyResolvers.deleteCompanyDataFetcher()))
                         // END -- Mutation resolvers for class com.liferay.portal.kernel.model.Company
 
                         // START -- Mutation resolvers for class com.liferay.portal.kernel.model.Contact
                         .dataFetcher("createContact", contactResolvers.createContactDataFetcher())
                         .dataFetcher("updateContact", contactResolvers.updateContactDataFetcher())
                         .dataFetcher("deleteContact", contactResolvers.deleteContactDataFetcher())
+                        .dataFetcher("createContacts", bulkMutationExecutor.bulkDataFetcher(contactResolvers.createContactDataFetcher()))
+                        .dataFetcher("updateContacts", bulkMutationExecutor.bulkDataFetcher(contactResolvers.updateContactDataFetcher()))
+                        .dataFetcher("deleteContacts", bulkMutationExecutor.bulkDataFetcher(contactResolvers.deleteContactDataFetcher()))
                         // END -- Mutation resolvers for class com.liferay.portal.kernel.model.Contact
 
                         // START -- Mutation resolvers for class com.liferay.portal.kernel.model.Country
                         .dataFetcher("createCountry", countryResolvers.createCountryDataFetcher())
                         // No update or delete methods available
+                        .dataFetcher("createCountries", bulkMutationExecutor.bulkDataFetcher(countryResolvers.createCountryDataFetcher()))
                         // END -- Mutation resolvers for class com.liferay.portal.kernel.model.Country
 
                         // START -- Mutation resolvers for class com.liferay.portal.kernel.model.EmailAddress
                         .dataFetcher("createEmailAddress", emailAddressResolvers.createEmailAddressDataFetcher())
                         .dataFetcher("updateEmailAddress", emailAddressResolvers.updateEmailAddressDataFetcher())
                         .dataFetcher("deleteEmailAddress", emailAddressResolvers.deleteEmailAddressDataFetcher())
+                        .dataFetcher("createEmailAddresses", bulkMutationExecutor.bulkDataFetcher(emailAddressResolvers.createEmailAddressDataFetcher()))
+                        .dataFetcher("updateEmailAddresses", bulkMutationExecutor.bulkDataFetcher(emailAddressResolvers.updateEmailAddressDataFetcher()))
+                        .dataFetcher("deleteEmailAddresses", bulkMutationExecutor.bulkDataFetcher(emailAddressResolvers.deleteEmailAddressDataFetcher()))
                         // END -- Mutation resolvers for class com.liferay.portal.kernel.model.EmailAddress
 
                         // START -- Mutation resolvers for class com.liferay.portal.kernel.model.Group
                         .dataFetcher("createGroup", groupResolvers.createGroupDataFetcher())
                         .dataFetcher("updateGroup", groupResolvers.updateGroupDataFetcher())
                         .dataFetcher("deleteGroup", groupResolvers.deleteGroupDataFetcher())
+                        .dataFetcher("createGroups", bulkMutationExecutor.bulkDataFetcher(groupResolvers.createGroupDataFetcher()))
+                        .dataFetcher("updateGroups", bulkMutationExecutor.bulkDataFetcher(groupResolvers.updateGroupDataFetcher()))
+                        .dataFetcher("deleteGroups", bulkMutationExecutor.bulkDataFetcher(groupResolvers.deleteGroupDataFetcher()))
                         // END -- Mutation resolvers for class com.liferay.portal.kernel.model.Group
 
                         // START -- Mutation resolvers for class com.liferay.portal.kernel.model.Layout
                         .dataFetcher("createLayout", layoutResolvers.createLayoutDataFetcher())
                         .dataFetcher("updateLayout", layoutResolvers.updateLayoutDataFetcher())
                         .dataFetcher("deleteLayout", layoutResolvers.deleteLayoutDataFetcher())
+                        .dataFetcher("createLayouts", bulkMutationExecutor.bulkDataFetcher(layoutResolvers.createLayoutDataFetcher()))
+                        .dataFetcher("updateLayouts", bulkMutationExecutor.bulkDataFetcher(layoutResolvers.updateLayoutDataFetcher()))
+                        .dataFetcher("deleteLayouts", bulkMutationExecutor.bulkDataFetcher(layoutResolvers.deleteLayoutDataFetcher()))
                         // END -- Mutation resolvers for class com.liferay.portal.kernel.model.Layout
 
                         // START -- Mutation resolvers for class com.liferay.portal.kernel.model.ListType
                         .dataFetcher("createListType", listTypeResolvers.createListTypeDataFetcher())
                         // No update method available
                         .dataFetcher("deleteListType", listTypeResolvers.deleteListTypeDataFetcher())
+                        .dataFetcher("createListTypes", bulkMutationExecutor.bulkDataFetcher(listTypeResolvers.createListTypeDataFetcher()))
+                        .dataFetcher("deleteListTypes", bulkMutationExecutor.bulkDataFetcher(listTypeResolvers.deleteListTypeDataFetcher()))
                         // END -- Mutation resolvers for class com.liferay.portal.kernel.model.ListType
 
                         // START -- Mutation resolvers for class com.liferay.portal.kernel.model.Organization
                         .dataFetcher("createOrganization", organizationResolvers.createOrganizationDataFetcher())
                         .dataFetcher("updateOrganization", organizationResolvers.updateOrganizationDataFetcher())
                         .dataFetcher("deleteOrganization", organizationResolvers.deleteOrganizationDataFetcher())
+                        .dataFetcher("createOrganizations", bulkMutationExecutor.bulkDataFetcher(organizationResolvers.createOrganizationDataFetcher()))
+                        .dataFetcher("updateOrganizations", bulkMutationExecutor.bulkDataFetcher(organizationResolvers.updateOrganizationDataFetcher()))
+                        .dataFetcher("deleteOrganizations", bulkMutationExecutor.bulkDataFetcher(organizationResolvers.deleteOrganizationDataFetcher()))
                         // END -- Mutation resolvers for class com.liferay.portal.kernel.model.Organization
 
                         // START -- Mutation resolvers for class com.liferay.portal.kernel.model.Phone
                         .dataFetcher("createPhone", phoneResolvers.createPhoneDataFetcher())
                         .dataFetcher("updatePhone", phoneResolvers.updatePhoneDataFetcher())
                         .dataFetcher("deletePhone", phoneResolvers.deletePhoneDataFetcher())
+                        .dataFetcher("createPhones", bulkMutationExecutor.bulkDataFetcher(phoneResolvers.createPhoneDataFetcher()))
+                        .dataFetcher("updatePhones", bulkMutationExecutor.bulkDataFetcher(phoneResolvers.updatePhoneDataFetcher()))
+                        .dataFetcher("deletePhones", bulkMutationExecutor.bulkDataFetcher(phoneResolvers.deletePhoneDataFetcher()))
                         // END -- Mutation resolvers for class com.liferay.portal.kernel.model.Phone
 
                         // START -- Mutation resolvers for class com.liferay.portal.kernel.model.Region
                         .dataFetcher("createRegion", regionResolvers.createRegionDataFetcher())
                         // No update or delete methods available
+                        .dataFetcher("createRegions", bulkMutationExecutor.bulkDataFetcher(regionResolvers.createRegionDataFetcher()))
                         // END -- Mutation resolvers for class com.liferay.portal.kernel.model.Region
 
                         // START -- Mutation resolvers for class com.liferay.portal.kernel.model.Role
                         .dataFetcher("createRole", roleResolvers.createRoleDataFetcher())
                         .dataFetcher("updateRole", roleResolvers.updateRoleDataFetcher())
                         .dataFetcher("deleteRole", roleResolvers.deleteRoleDataFetcher())
+                        .dataFetcher("createRoles", bulkMutationExecutor.bulkDataFetcher(roleResolvers.createRoleDataFetcher()))
+                        .dataFetcher("updateRoles", bulkMutationExecutor.bulkDataFetcher(roleResolvers.updateRoleDataFetcher()))
+                        .dataFetcher("deleteRoles", bulkMutationExecutor.bulkDataFetcher(roleResolvers.deleteRoleDataFetcher()))
                         // END -- Mutation resolvers for class com.liferay.portal.kernel.model.Role
 
                         // START -- Mutation resolvers for class com.liferay.portal.kernel.model.User
                         .dataFetcher("createUser", userResolvers.createUserDataFetcher())
                         .dataFetcher("updateUser", userResolvers.updateUserDataFetcher())
                         .dataFetcher("deleteUser", userResolvers.deleteUserDataFetcher())
+                        .dataFetcher("createUsers", bulkMutationExecutor.bulkDataFetcher(userResolvers.createUserDataFetcher()))
+                        .dataFetcher("updateUsers", bulkMutationExecutor.bulkDataFetcher(userResolvers.updateUserDataFetcher()))
+                        .dataFetcher("deleteUsers", bulkMutationExecutor.bulkDataFetcher(userResolvers.deleteUserDataFetcher()))
                         // END -- Mutation resolvers for class com.liferay.portal.kernel.model.User
 
                         // START -- Mutation resolvers for class com.liferay.portal.kernel.model.UserGroup
                         .dataFetcher("createUserGroup", userGroupResolvers.createUserGroupDataFetcher())
                         .dataFetcher("updateUserGroup", userGroupResolvers.updateUserGroupDataFetcher())
                         .dataFetcher("deleteUserGroup", userGroupResolvers.deleteUserGroupDataFetcher())
+                        .dataFetcher("createUserGroups", bulkMutationExecutor.bulkDataFetcher(userGroupResolvers.createUserGroupDataFetcher()))
+                        .dataFetcher("updateUserGroups", bulkMutationExecutor.bulkDataFetcher(userGroupResolvers.updateUserGroupDataFetcher()))
+                        .dataFetcher("deleteUserGroups", bulkMutationExecutor.bulkDataFetcher(userGroupResolvers.deleteUserGroupDataFetcher()))
                         // END -- Mutation resolvers for class com.liferay.portal.kernel.model.UserGroup
 
                         // START -- Mutation resolvers for class com.liferay.portal.kernel.model.Website
                         .dataFetcher("createWebsite", websiteResolvers.createWebsiteDataFetcher())
                         .dataFetcher("updateWebsite", websiteResolvers.updateWebsiteDataFetcher())
                         .dataFetcher("deleteWebsite", websiteResolvers.deleteWebsiteDataFetcher())
+                        .dataFetcher("createWebsites", bulkMutationExecutor.bulkDataFetcher(websiteResolvers.createWebsiteDataFetcher()))
+                        .dataFetcher("updateWebsites", bulkMutationExecutor.bulkDataFetcher(websiteResolvers.updateWebsiteDataFetcher()))
+                        .dataFetcher("deleteWebsites", bulkMutationExecutor.bulkDataFetcher(websiteResolvers.deleteWebsiteDataFetcher()))
                         // END -- Mutation resolvers for class com.liferay.portal.kernel.model.Website
 
                         // START -- Mutation resolvers for class com.liferay.ratings.kernel.model.RatingsEntry
                         .dataFetcher("createRatingsEntry", ratingsEntryResolvers.createRatingsEntryDataFetcher())
                         .dataFetcher("deleteRatingsEntry", ratingsEntryResolvers.deleteRatingsEntryDataFetcher())
+                        .dataFetcher("createRatingsEntries", bulkMutationExecutor.bulkDataFetcher(ratingsEntryResolvers.createRatingsEntryDataFetcher()))
+                        .dataFetcher("deleteRatingsEntries", bulkMutationExecutor.bulkDataFetcher(ratingsEntryResolvers.deleteRatingsEntryDataFetcher()))
                         // END -- Mutation resolvers for class com.liferay.ratings.kernel.model.RatingsEntry
 
+                )
+                .type(TypeRuntimeWiring.newTypeWiring("Subscription")
+                        // START -- Subscription resolvers for class com.liferay.asset.kernel.model.AssetCategory
+                        .dataFetcher("assetCategoryChanged", modelEventPublisher.subscriptionDataFetcher(AssetCategoryBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.asset.kernel.model.AssetCategory
+
+                        // START -- Subscription resolvers for class com.liferay.asset.kernel.model.AssetEntry
+                        .dataFetcher("assetEntryChanged", modelEventPublisher.subscriptionDataFetcher(AssetEntryBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.asset.kernel.model.AssetEntry
+
+                        // START -- Subscription resolvers for class com.liferay.asset.kernel.model.AssetLink
+                        .dataFetcher("assetLinkChanged", modelEventPublisher.subscriptionDataFetcher(AssetLinkBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.asset.kernel.model.AssetLink
+
+                        // START -- Subscription resolvers for class com.liferay.asset.kernel.model.AssetTag
+                        .dataFetcher("assetTagChanged", modelEventPublisher.subscriptionDataFetcher(AssetTagBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.asset.kernel.model.AssetTag
+
+                        // START -- Subscription resolvers for class com.liferay.asset.kernel.model.AssetVocabulary
+                        .dataFetcher("assetVocabularyChanged", modelEventPublisher.subscriptionDataFetcher(AssetVocabularyBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.asset.kernel.model.AssetVocabulary
+
+                        // START -- Subscription resolvers for class com.liferay.blogs.model.BlogsEntry
+                        .dataFetcher("blogsEntryChanged", modelEventPublisher.subscriptionDataFetcher(BlogsEntryBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.blogs.model.BlogsEntry
+
+                        // START -- Subscription resolvers for class com.liferay.document.library.kernel.model.DLFileEntry
+                        .dataFetcher("dlFileEntryChanged", modelEventPublisher.subscriptionDataFetcher(DLFileEntryBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.document.library.kernel.model.DLFileEntry
+
+                        // START -- Subscription resolvers for class com.liferay.document.library.kernel.model.DLFileEntryMetadata
+                        .dataFetcher("dlFileEntryMetadataChanged", modelEventPublisher.subscriptionDataFetcher(DLFileEntryMetadataBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.document.library.kernel.model.DLFileEntryMetadata
+
+                        // START -- Subscription resolvers for class com.liferay.document.library.kernel.model.DLFileEntryType
+                        .dataFetcher("dlFileEntryTypeChanged", modelEventPublisher.subscriptionDataFetcher(DLFileEntryTypeBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.document.library.kernel.model.DLFileEntryType
+
+                        // START -- Subscription resolvers for class com.liferay.document.library.kernel.model.DLFileShortcut
+                        .dataFetcher("dlFileShortcutChanged", modelEventPublisher.subscriptionDataFetcher(DLFileShortcutBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.document.library.kernel.model.DLFileShortcut
+
+                        // START -- Subscription resolvers for class com.liferay.document.library.kernel.model.DLFileVersion
+                        .dataFetcher("dlFileVersionChanged", modelEventPublisher.subscriptionDataFetcher(DLFileVersionBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.document.library.kernel.model.DLFileVersion
+
+                        // START -- Subscription resolvers for class com.liferay.document.library.kernel.model.DLFolder
+                        .dataFetcher("dlFolderChanged", modelEventPublisher.subscriptionDataFetcher(DLFolderBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.document.library.kernel.model.DLFolder
+
+                        // START -- Subscription resolvers for class com.liferay.dynamic.data.mapping.model.DDMContent
+                        .dataFetcher("ddmContentChanged", modelEventPublisher.subscriptionDataFetcher(DDMContentBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.dynamic.data.mapping.model.DDMContent
+
+                        // START -- Subscription resolvers for class com.liferay.dynamic.data.mapping.model.DDMStructure
+                        .dataFetcher("ddmStructureChanged", modelEventPublisher.subscriptionDataFetcher(DDMStructureBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.dynamic.data.mapping.model.DDMStructure
+
+                        // START -- Subscription resolvers for class com.liferay.dynamic.data.mapping.model.DDMTemplate
+                        .dataFetcher("ddmTemplateChanged", modelEventPublisher.subscriptionDataFetcher(DDMTemplateBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.dynamic.data.mapping.model.DDMTemplate
+
+                        // START -- Subscription resolvers for class com.liferay.expando.kernel.model.ExpandoColumn
+                        .dataFetcher("expandoColumnChanged", modelEventPublisher.subscriptionDataFetcher(ExpandoColumnBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.expando.kernel.model.ExpandoColumn
+
+                        // START -- Subscription resolvers for class com.liferay.expando.kernel.model.ExpandoRow
+                        .dataFetcher("expandoRowChanged", modelEventPublisher.subscriptionDataFetcher(ExpandoRowBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.expando.kernel.model.ExpandoRow
+
+                        // START -- Subscription resolvers for class com.liferay.expando.kernel.model.ExpandoTable
+                        .dataFetcher("expandoTableChanged", modelEventPublisher.subscriptionDataFetcher(ExpandoTableBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.expando.kernel.model.ExpandoTable
+
+                        // START -- Subscription resolvers for class com.liferay.expando.kernel.model.ExpandoValue
+                        .dataFetcher("expandoValueChanged", modelEventPublisher.subscriptionDataFetcher(ExpandoValueBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.expando.kernel.model.ExpandoValue
+
+                        // START -- Subscription resolvers for class com.liferay.journal.model.JournalArticle
+                        .dataFetcher("journalArticleChanged", modelEventPublisher.subscriptionDataFetcher(JournalArticleBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.journal.model.JournalArticle
+
+                        // START -- Subscription resolvers for class com.liferay.journal.model.JournalFeed
+                        .dataFetcher("journalFeedChanged", modelEventPublisher.subscriptionDataFetcher(JournalFeedBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.journal.model.JournalFeed
+
+                        // START -- Subscription resolvers for class com.liferay.journal.model.JournalFolder
+                        .dataFetcher("journalFolderChanged", modelEventPublisher.subscriptionDataFetcher(JournalFolderBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.journal.model.JournalFolder
+
+                        // START -- Subscription resolvers for class com.liferay.message.boards.kernel.model.MBCategory
+                        .dataFetcher("mbCategoryChanged", modelEventPublisher.subscriptionDataFetcher(MBCategoryBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.message.boards.kernel.model.MBCategory
+
+                        // START -- Subscription resolvers for class com.liferay.message.boards.kernel.model.MBMessage
+                        .dataFetcher("mbMessageChanged", modelEventPublisher.subscriptionDataFetcher(MBMessageBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.message.boards.kernel.model.MBMessage
+
+                        // START -- Subscription resolvers for class com.liferay.message.boards.kernel.model.MBThread
+                        .dataFetcher("mbThreadChanged", modelEventPublisher.subscriptionDataFetcher(MBThreadBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.message.boards.kernel.model.MBThread
+
+                        // START -- Subscription resolvers for class com.liferay.oauth2.provider.model.OAuth2Application
+                        .dataFetcher("oAuth2ApplicationChanged", modelEventPublisher.subscriptionDataFetcher(OAuth2ApplicationBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.oauth2.provider.model.OAuth2Application
+
+                        // START -- Subscription resolvers for class com.liferay.oauth2.provider.model.OAuth2ApplicationScopeAliases
+                        .dataFetcher("oAuth2ApplicationScopeAliasesChanged", modelEventPublisher.subscriptionDataFetcher(OAuth2ApplicationScopeAliasesBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.oauth2.provider.model.OAuth2ApplicationScopeAliases
+
+                        // START -- Subscription resolvers for class com.liferay.oauth2.provider.model.OAuth2Authorization
+                        .dataFetcher("oAuth2AuthorizationChanged", modelEventPublisher.subscriptionDataFetcher(OAuth2AuthorizationBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.oauth2.provider.model.OAuth2Authorization
+
+                        // START -- Subscription resolvers for class com.liferay.oauth2.provider.model.OAuth2ScopeGrant
+                        .dataFetcher("oAuth2ScopeGrantChanged", modelEventPublisher.subscriptionDataFetcher(OAuth2ScopeGrantBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.oauth2.provider.model.OAuth2ScopeGrant
+
+                        // START -- Subscription resolvers for class com.liferay.portal.kernel.model.Address
+                        .dataFetcher("addressChanged", modelEventPublisher.subscriptionDataFetcher(AddressBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.portal.kernel.model.Address
+
+                        // START -- Subscription resolvers for class com.liferay.portal.kernel.model.ClassName
+                        .dataFetcher("classNameChanged", modelEventPublisher.subscriptionDataFetcher(ClassNameBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.portal.kernel.model.ClassName
+
+                        // START -- Subscription resolvers for class com.liferay.portal.kernel.model.Company
+                        .dataFetcher("companyChanged", modelEventPublisher.subscriptionDataFetcher(CompanyBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.portal.kernel.model.Company
+
+                        // START -- Subscription resolvers for class com.liferay.portal.kernel.model.Contact
+                        .dataFetcher("contactChanged", modelEventPublisher.subscriptionDataFetcher(ContactBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.portal.kernel.model.Contact
+
+                        // START -- Subscription resolvers for class com.liferay.portal.kernel.model.EmailAddress
+                        .dataFetcher("emailAddressChanged", modelEventPublisher.subscriptionDataFetcher(EmailAddressBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.portal.kernel.model.EmailAddress
+
+                        // START -- Subscription resolvers for class com.liferay.portal.kernel.model.Group
+                        .dataFetcher("groupChanged", modelEventPublisher.subscriptionDataFetcher(GroupBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.portal.kernel.model.Group
+
+                        // START -- Subscription resolvers for class com.liferay.portal.kernel.model.Layout
+                        .dataFetcher("layoutChanged", modelEventPublisher.subscriptionDataFetcher(LayoutBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.portal.kernel.model.Layout
+
+                        // START -- Subscription resolvers for class com.liferay.portal.kernel.model.ListType
+                        .dataFetcher("listTypeChanged", modelEventPublisher.subscriptionDataFetcher(ListTypeBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.portal.kernel.model.ListType
+
+                        // START -- Subscription resolvers for class com.liferay.portal.kernel.model.Organization
+                        .dataFetcher("organizationChanged", modelEventPublisher.subscriptionDataFetcher(OrganizationBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.portal.kernel.model.Organization
+
+                        // START -- Subscription resolvers for class com.liferay.portal.kernel.model.Phone
+                        .dataFetcher("phoneChanged", modelEventPublisher.subscriptionDataFetcher(PhoneBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.portal.kernel.model.Phone
+
+                        // START -- Subscription resolvers for class com.liferay.portal.kernel.model.Role
+                        .dataFetcher("roleChanged", modelEventPublisher.subscriptionDataFetcher(RoleBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.portal.kernel.model.Role
+
+                        // START -- Subscription resolvers for class com.liferay.portal.kernel.model.User
+                        .dataFetcher("userChanged", modelEventPublisher.subscriptionDataFetcher(UserBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.portal.kernel.model.User
+
+                        // START -- Subscription resolvers for class com.liferay.portal.kernel.model.UserGroup
+                        .dataFetcher("userGroupChanged", modelEventPublisher.subscriptionDataFetcher(UserGroupBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.portal.kernel.model.UserGroup
+
+                        // START -- Subscription resolvers for class com.liferay.portal.kernel.model.Website
+                        .dataFetcher("websiteChanged", modelEventPublisher.subscriptionDataFetcher(WebsiteBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.portal.kernel.model.Website
+
+                        // START -- Subscription resolvers for class com.liferay.ratings.kernel.model.RatingsEntry
+                        .dataFetcher("ratingsEntryChanged", modelEventPublisher.subscriptionDataFetcher(RatingsEntryBatchLoader.KEY))
+                        // END -- Subscription resolvers for class com.liferay.ratings.kernel.model.RatingsEntry
+
                 )
                 .type(TypeRuntimeWiring.newTypeWiring("AssetCategory")
                         .dataFetcher("company", companyResolvers.getCompanyDataFetcher())
@@ -791,6 +1284,8 @@ public class GraphQLEngineImpl implements GraphQLEngine {
                         .dataFetcher("company", companyResolvers.getCompanyDataFetcher())
                         .dataFetcher("group", groupResolvers.getGroupDataFetcher())
                         .dataFetcher("user", userResolvers.getUserDataFetcher())
+                        .dataFetcher("categories", assetCategoryResolvers.getAssetCategoriesForAssetDataFetcher())
+                        .dataFetcher("tags", assetTagResolvers.getAssetTagsForAssetDataFetcher())
                 )
                 .type(TypeRuntimeWiring.newTypeWiring("AssetLink")
                         .dataFetcher("company", companyResolvers.getCompanyDataFetcher())
@@ -950,6 +1445,10 @@ public class GraphQLEngineImpl implements GraphQLEngine {
                         .dataFetcher("parentContact", contactResolvers.getContactDataFetcher())
                         .dataFetcher("prefix", listTypeResolvers.getListTypeDataFetcher())
                         .dataFetcher("suffix", listTypeResolvers.getListTypeDataFetcher())
+                        .dataFetcher("addresses", addressResolvers.getAddressesForEntityDataFetcher())
+                        .dataFetcher("emailAddresses", emailAddressResolvers.getEmailAddressesForEntityDataFetcher())
+                        .dataFetcher("phones", phoneResolvers.getPhonesForEntityDataFetcher())
+                        .dataFetcher("websites", websiteResolvers.getWebsitesForEntityDataFetcher())
                 )
                 .type(TypeRuntimeWiring.newTypeWiring("EmailAddress")
                         .dataFetcher("company", companyResolvers.getCompanyDataFetcher())
@@ -961,6 +1460,7 @@ public class GraphQLEngineImpl implements GraphQLEngine {
                         .dataFetcher("creatorUser", userResolvers.getUserDataFetcher())
                         .dataFetcher("liveGroup", groupResolvers.getGroupDataFetcher())
                         .dataFetcher("parentGroup", groupResolvers.getGroupDataFetcher())
+                        .dataFetcher("layouts", layoutResolvers.getLayoutsForGroupDataFetcher())
                 )
                 .type(TypeRuntimeWiring.newTypeWiring("Layout")
                         .dataFetcher("company", companyResolvers.getCompanyDataFetcher())
@@ -973,6 +1473,10 @@ public class GraphQLEngineImpl implements GraphQLEngine {
                         .dataFetcher("parentOrganization", organizationResolvers.getOrganizationDataFetcher())
                         .dataFetcher("country", countryResolvers.getCountryDataFetcher())
                         .dataFetcher("region", regionResolvers.getRegionDataFetcher())
+                        .dataFetcher("addresses", addressResolvers.getAddressesForEntityDataFetcher())
+                        .dataFetcher("emailAddresses", emailAddressResolvers.getEmailAddressesForEntityDataFetcher())
+                        .dataFetcher("phones", phoneResolvers.getPhonesForEntityDataFetcher())
+                        .dataFetcher("websites", websiteResolvers.getWebsitesForEntityDataFetcher())
                 )
                 .type(TypeRuntimeWiring.newTypeWiring("Phone")
                         .dataFetcher("company", companyResolvers.getCompanyDataFetcher())
@@ -983,9 +1487,13 @@ public class GraphQLEngineImpl implements GraphQLEngine {
                         .dataFetcher("company", companyResolvers.getCompanyDataFetcher())
                         .dataFetcher("user", userResolvers.getUserDataFetcher())
                 )
-                .type(TypeRuntimeWiring.newTypeWiring("Role")
+                .type(TypeRuntimeWiring.newTypeWiring("User")
                         .dataFetcher("company", companyResolvers.getCompanyDataFetcher())
                         .dataFetcher("contact", contactResolvers.getContactDataFetcher())
+                        .dataFetcher("addresses", addressResolvers.getAddressesForEntityDataFetcher())
+                        .dataFetcher("emailAddresses", emailAddressResolvers.getEmailAddressesForEntityDataFetcher())
+                        .dataFetcher("phones", phoneResolvers.getPhonesForEntityDataFetcher())
+                        .dataFetcher("websites", websiteResolvers.getWebsitesForEntityDataFetcher())
                 )
                 .type(TypeRuntimeWiring.newTypeWiring("UserGroup")
                         .dataFetcher("company", companyResolvers.getCompanyDataFetcher())
@@ -1004,28 +1512,1307 @@ public class GraphQLEngineImpl implements GraphQLEngine {
                 .type(TypeRuntimeWiring.newTypeWiring("GrantType")
                         .enumValues(GrantType::valueOf)
                 )
+                .type(TypeRuntimeWiring.newTypeWiring("ModelEventType")
+                        .enumValues(ModelEventType::valueOf)
+                )
                 .build();
     }
 
+    private List<TypeRuntimeWiring> getPropertyWirings() {
+        return Arrays.asList(
+                TypeRuntimeWiring.newTypeWiring("AssetCategory")
+                        .dataFetcher("availableLanguageIds", GetterDataFetcher.of(AssetCategory.class, AssetCategory::getAvailableLanguageIds))
+                        .dataFetcher("categoryId", GetterDataFetcher.of(AssetCategory.class, AssetCategory::getCategoryId))
+                        .dataFetcher("companyId", GetterDataFetcher.of(AssetCategory.class, AssetCategory::getCompanyId))
+                        .dataFetcher("createDate", GetterDataFetcher.of(AssetCategory.class, AssetCategory::getCreateDate))
+                        .dataFetcher("defaultLanguageId", GetterDataFetcher.of(AssetCategory.class, AssetCategory::getDefaultLanguageId))
+                        .dataFetcher("description", GetterDataFetcher.of(AssetCategory.class, AssetCategory::getDescription))
+                        .dataFetcher("descriptionCurrentLanguageId", GetterDataFetcher.of(AssetCategory.class, AssetCategory::getDescriptionCurrentLanguageId))
+                        .dataFetcher("descriptionCurrentValue", GetterDataFetcher.of(AssetCategory.class, AssetCategory::getDescriptionCurrentValue))
+                        .dataFetcher("descriptionMap", GetterDataFetcher.of(AssetCategory.class, AssetCategory::getDescriptionMap))
+                        .dataFetcher("externalReferenceCode", GetterDataFetcher.of(AssetCategory.class, AssetCategory::getExternalReferenceCode))
+                        .dataFetcher("groupId", GetterDataFetcher.of(AssetCategory.class, AssetCategory::getGroupId))
+                        .dataFetcher("lastPublishDate", GetterDataFetcher.of(AssetCategory.class, AssetCategory::getLastPublishDate))
+                        .dataFetcher("leftCategoryId", GetterDataFetcher.of(AssetCategory.class, AssetCategory::getLeftCategoryId))
+                        .dataFetcher("modifiedDate", GetterDataFetcher.of(AssetCategory.class, AssetCategory::getModifiedDate))
+                        .dataFetcher("name", GetterDataFetcher.of(AssetCategory.class, AssetCategory::getName))
+                        .dataFetcher("parentCategoryId", GetterDataFetcher.of(AssetCategory.class, AssetCategory::getParentCategoryId))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(AssetCategory.class, AssetCategory::getPrimaryKey))
+                        .dataFetcher("rightCategoryId", GetterDataFetcher.of(AssetCategory.class, AssetCategory::getRightCategoryId))
+                        .dataFetcher("title", GetterDataFetcher.of(AssetCategory.class, AssetCategory::getTitle))
+                        .dataFetcher("titleCurrentLanguageId", GetterDataFetcher.of(AssetCategory.class, AssetCategory::getTitleCurrentLanguageId))
+                        .dataFetcher("titleCurrentValue", GetterDataFetcher.of(AssetCategory.class, AssetCategory::getTitleCurrentValue))
+                        .dataFetcher("titleMap", GetterDataFetcher.of(AssetCategory.class, AssetCategory::getTitleMap))
+                        .dataFetcher("userId", GetterDataFetcher.of(AssetCategory.class, AssetCategory::getUserId))
+                        .dataFetcher("userName", GetterDataFetcher.of(AssetCategory.class, AssetCategory::getUserName))
+                        .dataFetcher("userUuid", GetterDataFetcher.of(AssetCategory.class, AssetCategory::getUserUuid))
+                        .dataFetcher("uuid", GetterDataFetcher.of(AssetCategory.class, AssetCategory::getUuid))
+                        .dataFetcher("vocabularyId", GetterDataFetcher.of(AssetCategory.class, AssetCategory::getVocabularyId))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("AssetEntry")
+                        .dataFetcher("availableLanguageIds", GetterDataFetcher.of(AssetEntry.class, AssetEntry::getAvailableLanguageIds))
+                        .dataFetcher("className", GetterDataFetcher.of(AssetEntry.class, AssetEntry::getClassName))
+                        .dataFetcher("classNameId", GetterDataFetcher.of(AssetEntry.class, AssetEntry::getClassNameId))
+                        .dataFetcher("classPK", GetterDataFetcher.of(AssetEntry.class, AssetEntry::getClassPK))
+                        .dataFetcher("classTypeId", GetterDataFetcher.of(AssetEntry.class, AssetEntry::getClassTypeId))
+                        .dataFetcher("classUuid", GetterDataFetcher.of(AssetEntry.class, AssetEntry::getClassUuid))
+                        .dataFetcher("companyId", GetterDataFetcher.of(AssetEntry.class, AssetEntry::getCompanyId))
+                        .dataFetcher("createDate", GetterDataFetcher.of(AssetEntry.class, AssetEntry::getCreateDate))
+                        .dataFetcher("defaultLanguageId", GetterDataFetcher.of(AssetEntry.class, AssetEntry::getDefaultLanguageId))
+                        .dataFetcher("description", GetterDataFetcher.of(AssetEntry.class, AssetEntry::getDescription))
+                        .dataFetcher("descriptionCurrentLanguageId", GetterDataFetcher.of(AssetEntry.class, AssetEntry::getDescriptionCurrentLanguageId))
+                        .dataFetcher("descriptionCurrentValue", GetterDataFetcher.of(AssetEntry.class, AssetEntry::getDescriptionCurrentValue))
+                        .dataFetcher("descriptionMap", GetterDataFetcher.of(AssetEntry.class, AssetEntry::getDescriptionMap))
+                        .dataFetcher("endDate", GetterDataFetcher.of(AssetEntry.class, AssetEntry::getEndDate))
+                        .dataFetcher("entryId", GetterDataFetcher.of(AssetEntry.class, AssetEntry::getEntryId))
+                        .dataFetcher("expirationDate", GetterDataFetcher.of(AssetEntry.class, AssetEntry::getExpirationDate))
+                        .dataFetcher("groupId", GetterDataFetcher.of(AssetEntry.class, AssetEntry::getGroupId))
+                        .dataFetcher("height", GetterDataFetcher.of(AssetEntry.class, AssetEntry::getHeight))
+                        .dataFetcher("layoutUuid", GetterDataFetcher.of(AssetEntry.class, AssetEntry::getLayoutUuid))
+                        .dataFetcher("listable", GetterDataFetcher.of(AssetEntry.class, AssetEntry::getListable))
+                        .dataFetcher("mimeType", GetterDataFetcher.of(AssetEntry.class, AssetEntry::getMimeType))
+                        .dataFetcher("modifiedDate", GetterDataFetcher.of(AssetEntry.class, AssetEntry::getModifiedDate))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(AssetEntry.class, AssetEntry::getPrimaryKey))
+                        .dataFetcher("priority", GetterDataFetcher.of(AssetEntry.class, AssetEntry::getPriority))
+                        .dataFetcher("publishDate", GetterDataFetcher.of(AssetEntry.class, AssetEntry::getPublishDate))
+                        .dataFetcher("startDate", GetterDataFetcher.of(AssetEntry.class, AssetEntry::getStartDate))
+                        .dataFetcher("summary", GetterDataFetcher.of(AssetEntry.class, AssetEntry::getSummary))
+                        .dataFetcher("summaryCurrentLanguageId", GetterDataFetcher.of(AssetEntry.class, AssetEntry::getSummaryCurrentLanguageId))
+                        .dataFetcher("summaryCurrentValue", GetterDataFetcher.of(AssetEntry.class, AssetEntry::getSummaryCurrentValue))
+                        .dataFetcher("summaryMap", GetterDataFetcher.of(AssetEntry.class, AssetEntry::getSummaryMap))
+                        .dataFetcher("title", GetterDataFetcher.of(AssetEntry.class, AssetEntry::getTitle))
+                        .dataFetcher("titleCurrentLanguageId", GetterDataFetcher.of(AssetEntry.class, AssetEntry::getTitleCurrentLanguageId))
+                        .dataFetcher("titleCurrentValue", GetterDataFetcher.of(AssetEntry.class, AssetEntry::getTitleCurrentValue))
+                        .dataFetcher("titleMap", GetterDataFetcher.of(AssetEntry.class, AssetEntry::getTitleMap))
+                        .dataFetcher("url", GetterDataFetcher.of(AssetEntry.class, AssetEntry::getUrl))
+                        .dataFetcher("userId", GetterDataFetcher.of(AssetEntry.class, AssetEntry::getUserId))
+                        .dataFetcher("userName", GetterDataFetcher.of(AssetEntry.class, AssetEntry::getUserName))
+                        .dataFetcher("userUuid", GetterDataFetcher.of(AssetEntry.class, AssetEntry::getUserUuid))
+                        .dataFetcher("viewCount", GetterDataFetcher.of(AssetEntry.class, AssetEntry::getViewCount))
+                        .dataFetcher("visible", GetterDataFetcher.of(AssetEntry.class, AssetEntry::getVisible))
+                        .dataFetcher("width", GetterDataFetcher.of(AssetEntry.class, AssetEntry::getWidth))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("AssetLink")
+                        .dataFetcher("companyId", GetterDataFetcher.of(AssetLink.class, AssetLink::getCompanyId))
+                        .dataFetcher("createDate", GetterDataFetcher.of(AssetLink.class, AssetLink::getCreateDate))
+                        .dataFetcher("entryId1", GetterDataFetcher.of(AssetLink.class, AssetLink::getEntryId1))
+                        .dataFetcher("entryId2", GetterDataFetcher.of(AssetLink.class, AssetLink::getEntryId2))
+                        .dataFetcher("linkId", GetterDataFetcher.of(AssetLink.class, AssetLink::getLinkId))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(AssetLink.class, AssetLink::getPrimaryKey))
+                        .dataFetcher("type", GetterDataFetcher.of(AssetLink.class, AssetLink::getType))
+                        .dataFetcher("userId", GetterDataFetcher.of(AssetLink.class, AssetLink::getUserId))
+                        .dataFetcher("userName", GetterDataFetcher.of(AssetLink.class, AssetLink::getUserName))
+                        .dataFetcher("userUuid", GetterDataFetcher.of(AssetLink.class, AssetLink::getUserUuid))
+                        .dataFetcher("weight", GetterDataFetcher.of(AssetLink.class, AssetLink::getWeight))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("AssetTag")
+                        .dataFetcher("assetCount", GetterDataFetcher.of(AssetTag.class, AssetTag::getAssetCount))
+                        .dataFetcher("companyId", GetterDataFetcher.of(AssetTag.class, AssetTag::getCompanyId))
+                        .dataFetcher("createDate", GetterDataFetcher.of(AssetTag.class, AssetTag::getCreateDate))
+                        .dataFetcher("groupId", GetterDataFetcher.of(AssetTag.class, AssetTag::getGroupId))
+                        .dataFetcher("lastPublishDate", GetterDataFetcher.of(AssetTag.class, AssetTag::getLastPublishDate))
+                        .dataFetcher("modifiedDate", GetterDataFetcher.of(AssetTag.class, AssetTag::getModifiedDate))
+                        .dataFetcher("name", GetterDataFetcher.of(AssetTag.class, AssetTag::getName))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(AssetTag.class, AssetTag::getPrimaryKey))
+                        .dataFetcher("tagId", GetterDataFetcher.of(AssetTag.class, AssetTag::getTagId))
+                        .dataFetcher("userId", GetterDataFetcher.of(AssetTag.class, AssetTag::getUserId))
+                        .dataFetcher("userName", GetterDataFetcher.of(AssetTag.class, AssetTag::getUserName))
+                        .dataFetcher("userUuid", GetterDataFetcher.of(AssetTag.class, AssetTag::getUserUuid))
+                        .dataFetcher("uuid", GetterDataFetcher.of(AssetTag.class, AssetTag::getUuid))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("AssetVocabulary")
+                        .dataFetcher("availableLanguageIds", GetterDataFetcher.of(AssetVocabulary.class, AssetVocabulary::getAvailableLanguageIds))
+                        .dataFetcher("companyId", GetterDataFetcher.of(AssetVocabulary.class, AssetVocabulary::getCompanyId))
+                        .dataFetcher("createDate", GetterDataFetcher.of(AssetVocabulary.class, AssetVocabulary::getCreateDate))
+                        .dataFetcher("defaultLanguageId", GetterDataFetcher.of(AssetVocabulary.class, AssetVocabulary::getDefaultLanguageId))
+                        .dataFetcher("description", GetterDataFetcher.of(AssetVocabulary.class, AssetVocabulary::getDescription))
+                        .dataFetcher("descriptionCurrentLanguageId", GetterDataFetcher.of(AssetVocabulary.class, AssetVocabulary::getDescriptionCurrentLanguageId))
+                        .dataFetcher("descriptionCurrentValue", GetterDataFetcher.of(AssetVocabulary.class, AssetVocabulary::getDescriptionCurrentValue))
+                        .dataFetcher("descriptionMap", GetterDataFetcher.of(AssetVocabulary.class, AssetVocabulary::getDescriptionMap))
+                        .dataFetcher("externalReferenceCode", GetterDataFetcher.of(AssetVocabulary.class, AssetVocabulary::getExternalReferenceCode))
+                        .dataFetcher("groupId", GetterDataFetcher.of(AssetVocabulary.class, AssetVocabulary::getGroupId))
+                        .dataFetcher("lastPublishDate", GetterDataFetcher.of(AssetVocabulary.class, AssetVocabulary::getLastPublishDate))
+                        .dataFetcher("modifiedDate", GetterDataFetcher.of(AssetVocabulary.class, AssetVocabulary::getModifiedDate))
+                        .dataFetcher("name", GetterDataFetcher.of(AssetVocabulary.class, AssetVocabulary::getName))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(AssetVocabulary.class, AssetVocabulary::getPrimaryKey))
+                        .dataFetcher("settings", GetterDataFetcher.of(AssetVocabulary.class, AssetVocabulary::getSettings))
+                        .dataFetcher("title", GetterDataFetcher.of(AssetVocabulary.class, AssetVocabulary::getTitle))
+                        .dataFetcher("titleCurrentLanguageId", GetterDataFetcher.of(AssetVocabulary.class, AssetVocabulary::getTitleCurrentLanguageId))
+                        .dataFetcher("titleCurrentValue", GetterDataFetcher.of(AssetVocabulary.class, AssetVocabulary::getTitleCurrentValue))
+                        .dataFetcher("titleMap", GetterDataFetcher.of(AssetVocabulary.class, AssetVocabulary::getTitleMap))
+                        .dataFetcher("userId", GetterDataFetcher.of(AssetVocabulary.class, AssetVocabulary::getUserId))
+                        .dataFetcher("userName", GetterDataFetcher.of(AssetVocabulary.class, AssetVocabulary::getUserName))
+                        .dataFetcher("userUuid", GetterDataFetcher.of(AssetVocabulary.class, AssetVocabulary::getUserUuid))
+                        .dataFetcher("uuid", GetterDataFetcher.of(AssetVocabulary.class, AssetVocabulary::getUuid))
+                        .dataFetcher("vocabularyId", GetterDataFetcher.of(AssetVocabulary.class, AssetVocabulary::getVocabularyId))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("BlogsEntry")
+                        .dataFetcher("allowPingbacks", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::getAllowPingbacks))
+                        .dataFetcher("allowTrackbacks", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::getAllowTrackbacks))
+                        .dataFetcher("companyId", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::getCompanyId))
+                        .dataFetcher("content", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::getContent))
+                        .dataFetcher("coverImageCaption", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::getCoverImageCaption))
+                        .dataFetcher("coverImageFileEntryId", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::getCoverImageFileEntryId))
+                        .dataFetcher("coverImageURL", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::getCoverImageURL))
+                        .dataFetcher("createDate", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::getCreateDate))
+                        .dataFetcher("description", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::getDescription))
+                        .dataFetcher("displayDate", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::getDisplayDate))
+                        .dataFetcher("entryId", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::getEntryId))
+                        .dataFetcher("groupId", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::getGroupId))
+                        .dataFetcher("lastPublishDate", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::getLastPublishDate))
+                        .dataFetcher("modifiedDate", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::getModifiedDate))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::getPrimaryKey))
+                        .dataFetcher("smallImage", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::getSmallImage))
+                        .dataFetcher("smallImageFileEntryId", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::getSmallImageFileEntryId))
+                        .dataFetcher("smallImageId", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::getSmallImageId))
+                        .dataFetcher("smallImageURL", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::getSmallImageURL))
+                        .dataFetcher("status", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::getStatus))
+                        .dataFetcher("statusByUserId", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::getStatusByUserId))
+                        .dataFetcher("statusByUserName", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::getStatusByUserName))
+                        .dataFetcher("statusByUserUuid", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::getStatusByUserUuid))
+                        .dataFetcher("statusDate", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::getStatusDate))
+                        .dataFetcher("subtitle", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::getSubtitle))
+                        .dataFetcher("title", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::getTitle))
+                        .dataFetcher("trackbacks", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::getTrackbacks))
+                        .dataFetcher("trashEntryClassPK", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::getTrashEntryClassPK))
+                        .dataFetcher("urlTitle", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::getUrlTitle))
+                        .dataFetcher("userId", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::getUserId))
+                        .dataFetcher("userName", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::getUserName))
+                        .dataFetcher("userUuid", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::getUserUuid))
+                        .dataFetcher("uuid", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::getUuid))
+                        .dataFetcher("approved", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::isApproved))
+                        .dataFetcher("denied", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::isDenied))
+                        .dataFetcher("draft", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::isDraft))
+                        .dataFetcher("expired", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::isExpired))
+                        .dataFetcher("inTrash", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::isInTrash))
+                        .dataFetcher("inTrashContainer", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::isInTrashContainer))
+                        .dataFetcher("inTrashExplicitly", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::isInTrashExplicitly))
+                        .dataFetcher("inTrashImplicitly", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::isInTrashImplicitly))
+                        .dataFetcher("inactive", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::isInactive))
+                        .dataFetcher("incomplete", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::isIncomplete))
+                        .dataFetcher("pending", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::isPending))
+                        .dataFetcher("scheduled", GetterDataFetcher.of(BlogsEntry.class, BlogsEntry::isScheduled))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("DLFileEntry")
+                        .dataFetcher("className", GetterDataFetcher.of(DLFileEntry.class, DLFileEntry::getClassName))
+                        .dataFetcher("classNameId", GetterDataFetcher.of(DLFileEntry.class, DLFileEntry::getClassNameId))
+                        .dataFetcher("classPK", GetterDataFetcher.of(DLFileEntry.class, DLFileEntry::getClassPK))
+                        .dataFetcher("companyId", GetterDataFetcher.of(DLFileEntry.class, DLFileEntry::getCompanyId))
+                        .dataFetcher("createDate", GetterDataFetcher.of(DLFileEntry.class, DLFileEntry::getCreateDate))
+                        .dataFetcher("custom1ImageId", GetterDataFetcher.of(DLFileEntry.class, DLFileEntry::getCustom1ImageId))
+                        .dataFetcher("custom2ImageId", GetterDataFetcher.of(DLFileEntry.class, DLFileEntry::getCustom2ImageId))
+                        .dataFetcher("description", GetterDataFetcher.of(DLFileEntry.class, DLFileEntry::getDescription))
+                        .dataFetcher("extension", GetterDataFetcher.of(DLFileEntry.class, DLFileEntry::getExtension))
+                        .dataFetcher("extraSettings", GetterDataFetcher.of(DLFileEntry.class, DLFileEntry::getExtraSettings))
+                        .dataFetcher("fileEntryId", GetterDataFetcher.of(DLFileEntry.class, DLFileEntry::getFileEntryId))
+                        .dataFetcher("fileEntryTypeId", GetterDataFetcher.of(DLFileEntry.class, DLFileEntry::getFileEntryTypeId))
+                        .dataFetcher("fileName", GetterDataFetcher.of(DLFileEntry.class, DLFileEntry::getFileName))
+                        .dataFetcher("folderId", GetterDataFetcher.of(DLFileEntry.class, DLFileEntry::getFolderId))
+                        .dataFetcher("groupId", GetterDataFetcher.of(DLFileEntry.class, DLFileEntry::getGroupId))
+                        .dataFetcher("largeImageId", GetterDataFetcher.of(DLFileEntry.class, DLFileEntry::getLargeImageId))
+                        .dataFetcher("lastPublishDate", GetterDataFetcher.of(DLFileEntry.class, DLFileEntry::getLastPublishDate))
+                        .dataFetcher("manualCheckInRequired", GetterDataFetcher.of(DLFileEntry.class, DLFileEntry::getManualCheckInRequired))
+                        .dataFetcher("mimeType", GetterDataFetcher.of(DLFileEntry.class, DLFileEntry::getMimeType))
+                        .dataFetcher("modifiedDate", GetterDataFetcher.of(DLFileEntry.class, DLFileEntry::getModifiedDate))
+                        .dataFetcher("name", GetterDataFetcher.of(DLFileEntry.class, DLFileEntry::getName))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(DLFileEntry.class, DLFileEntry::getPrimaryKey))
+                        .dataFetcher("readCount", GetterDataFetcher.of(DLFileEntry.class, DLFileEntry::getReadCount))
+                        .dataFetcher("repositoryId", GetterDataFetcher.of(DLFileEntry.class, DLFileEntry::getRepositoryId))
+                        .dataFetcher("size", GetterDataFetcher.of(DLFileEntry.class, DLFileEntry::getSize))
+                        .dataFetcher("smallImageId", GetterDataFetcher.of(DLFileEntry.class, DLFileEntry::getSmallImageId))
+                        .dataFetcher("status", GetterDataFetcher.of(DLFileEntry.class, DLFileEntry::getStatus))
+                        .dataFetcher("title", GetterDataFetcher.of(DLFileEntry.class, DLFileEntry::getTitle))
+                        .dataFetcher("trashEntryClassPK", GetterDataFetcher.of(DLFileEntry.class, DLFileEntry::getTrashEntryClassPK))
+                        .dataFetcher("treePath", GetterDataFetcher.of(DLFileEntry.class, DLFileEntry::getTreePath))
+                        .dataFetcher("userId", GetterDataFetcher.of(DLFileEntry.class, DLFileEntry::getUserId))
+                        .dataFetcher("userName", GetterDataFetcher.of(DLFileEntry.class, DLFileEntry::getUserName))
+                        .dataFetcher("userUuid", GetterDataFetcher.of(DLFileEntry.class, DLFileEntry::getUserUuid))
+                        .dataFetcher("uuid", GetterDataFetcher.of(DLFileEntry.class, DLFileEntry::getUuid))
+                        .dataFetcher("version", GetterDataFetcher.of(DLFileEntry.class, DLFileEntry::getVersion))
+                        .dataFetcher("inTrash", GetterDataFetcher.of(DLFileEntry.class, DLFileEntry::isInTrash))
+                        .dataFetcher("inTrashContainer", GetterDataFetcher.of(DLFileEntry.class, DLFileEntry::isInTrashContainer))
+                        .dataFetcher("inTrashExplicitly", GetterDataFetcher.of(DLFileEntry.class, DLFileEntry::isInTrashExplicitly))
+                        .dataFetcher("inTrashImplicitly", GetterDataFetcher.of(DLFileEntry.class, DLFileEntry::isInTrashImplicitly))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("DLFileEntryMetadata")
+                        .dataFetcher("companyId", GetterDataFetcher.of(DLFileEntryMetadata.class, DLFileEntryMetadata::getCompanyId))
+                        .dataFetcher("DDMStorageId", GetterDataFetcher.of(DLFileEntryMetadata.class, DLFileEntryMetadata::getDDMStorageId))
+                        .dataFetcher("DDMStructureId", GetterDataFetcher.of(DLFileEntryMetadata.class, DLFileEntryMetadata::getDDMStructureId))
+                        .dataFetcher("fileEntryId", GetterDataFetcher.of(DLFileEntryMetadata.class, DLFileEntryMetadata::getFileEntryId))
+                        .dataFetcher("fileEntryMetadataId", GetterDataFetcher.of(DLFileEntryMetadata.class, DLFileEntryMetadata::getFileEntryMetadataId))
+                        .dataFetcher("fileVersionId", GetterDataFetcher.of(DLFileEntryMetadata.class, DLFileEntryMetadata::getFileVersionId))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(DLFileEntryMetadata.class, DLFileEntryMetadata::getPrimaryKey))
+                        .dataFetcher("uuid", GetterDataFetcher.of(DLFileEntryMetadata.class, DLFileEntryMetadata::getUuid))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("DLFileEntryType")
+                        .dataFetcher("availableLanguageIds", GetterDataFetcher.of(DLFileEntryType.class, DLFileEntryType::getAvailableLanguageIds))
+                        .dataFetcher("companyId", GetterDataFetcher.of(DLFileEntryType.class, DLFileEntryType::getCompanyId))
+                        .dataFetcher("createDate", GetterDataFetcher.of(DLFileEntryType.class, DLFileEntryType::getCreateDate))
+                        .dataFetcher("defaultLanguageId", GetterDataFetcher.of(DLFileEntryType.class, DLFileEntryType::getDefaultLanguageId))
+                        .dataFetcher("description", GetterDataFetcher.of(DLFileEntryType.class, DLFileEntryType::getDescription))
+                        .dataFetcher("descriptionCurrentLanguageId", GetterDataFetcher.of(DLFileEntryType.class, DLFileEntryType::getDescriptionCurrentLanguageId))
+                        .dataFetcher("descriptionCurrentValue", GetterDataFetcher.of(DLFileEntryType.class, DLFileEntryType::getDescriptionCurrentValue))
+                        .dataFetcher("descriptionMap", GetterDataFetcher.of(DLFileEntryType.class, DLFileEntryType::getDescriptionMap))
+                        .dataFetcher("fileEntryTypeId", GetterDataFetcher.of(DLFileEntryType.class, DLFileEntryType::getFileEntryTypeId))
+                        .dataFetcher("fileEntryTypeKey", GetterDataFetcher.of(DLFileEntryType.class, DLFileEntryType::getFileEntryTypeKey))
+                        .dataFetcher("groupId", GetterDataFetcher.of(DLFileEntryType.class, DLFileEntryType::getGroupId))
+                        .dataFetcher("lastPublishDate", GetterDataFetcher.of(DLFileEntryType.class, DLFileEntryType::getLastPublishDate))
+                        .dataFetcher("modifiedDate", GetterDataFetcher.of(DLFileEntryType.class, DLFileEntryType::getModifiedDate))
+                        .dataFetcher("name", GetterDataFetcher.of(DLFileEntryType.class, DLFileEntryType::getName))
+                        .dataFetcher("nameCurrentLanguageId", GetterDataFetcher.of(DLFileEntryType.class, DLFileEntryType::getNameCurrentLanguageId))
+                        .dataFetcher("nameCurrentValue", GetterDataFetcher.of(DLFileEntryType.class, DLFileEntryType::getNameCurrentValue))
+                        .dataFetcher("nameMap", GetterDataFetcher.of(DLFileEntryType.class, DLFileEntryType::getNameMap))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(DLFileEntryType.class, DLFileEntryType::getPrimaryKey))
+                        .dataFetcher("userId", GetterDataFetcher.of(DLFileEntryType.class, DLFileEntryType::getUserId))
+                        .dataFetcher("userName", GetterDataFetcher.of(DLFileEntryType.class, DLFileEntryType::getUserName))
+                        .dataFetcher("userUuid", GetterDataFetcher.of(DLFileEntryType.class, DLFileEntryType::getUserUuid))
+                        .dataFetcher("uuid", GetterDataFetcher.of(DLFileEntryType.class, DLFileEntryType::getUuid))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("DLFileShortcut")
+                        .dataFetcher("active", GetterDataFetcher.of(DLFileShortcut.class, DLFileShortcut::getActive))
+                        .dataFetcher("companyId", GetterDataFetcher.of(DLFileShortcut.class, DLFileShortcut::getCompanyId))
+                        .dataFetcher("createDate", GetterDataFetcher.of(DLFileShortcut.class, DLFileShortcut::getCreateDate))
+                        .dataFetcher("fileShortcutId", GetterDataFetcher.of(DLFileShortcut.class, DLFileShortcut::getFileShortcutId))
+                        .dataFetcher("folderId", GetterDataFetcher.of(DLFileShortcut.class, DLFileShortcut::getFolderId))
+                        .dataFetcher("groupId", GetterDataFetcher.of(DLFileShortcut.class, DLFileShortcut::getGroupId))
+                        .dataFetcher("lastPublishDate", GetterDataFetcher.of(DLFileShortcut.class, DLFileShortcut::getLastPublishDate))
+                        .dataFetcher("modifiedDate", GetterDataFetcher.of(DLFileShortcut.class, DLFileShortcut::getModifiedDate))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(DLFileShortcut.class, DLFileShortcut::getPrimaryKey))
+                        .dataFetcher("repositoryId", GetterDataFetcher.of(DLFileShortcut.class, DLFileShortcut::getRepositoryId))
+                        .dataFetcher("status", GetterDataFetcher.of(DLFileShortcut.class, DLFileShortcut::getStatus))
+                        .dataFetcher("statusByUserId", GetterDataFetcher.of(DLFileShortcut.class, DLFileShortcut::getStatusByUserId))
+                        .dataFetcher("statusByUserName", GetterDataFetcher.of(DLFileShortcut.class, DLFileShortcut::getStatusByUserName))
+                        .dataFetcher("statusByUserUuid", GetterDataFetcher.of(DLFileShortcut.class, DLFileShortcut::getStatusByUserUuid))
+                        .dataFetcher("statusDate", GetterDataFetcher.of(DLFileShortcut.class, DLFileShortcut::getStatusDate))
+                        .dataFetcher("toFileEntryId", GetterDataFetcher.of(DLFileShortcut.class, DLFileShortcut::getToFileEntryId))
+                        .dataFetcher("trashEntryClassPK", GetterDataFetcher.of(DLFileShortcut.class, DLFileShortcut::getTrashEntryClassPK))
+                        .dataFetcher("treePath", GetterDataFetcher.of(DLFileShortcut.class, DLFileShortcut::getTreePath))
+                        .dataFetcher("userId", GetterDataFetcher.of(DLFileShortcut.class, DLFileShortcut::getUserId))
+                        .dataFetcher("userName", GetterDataFetcher.of(DLFileShortcut.class, DLFileShortcut::getUserName))
+                        .dataFetcher("userUuid", GetterDataFetcher.of(DLFileShortcut.class, DLFileShortcut::getUserUuid))
+                        .dataFetcher("uuid", GetterDataFetcher.of(DLFileShortcut.class, DLFileShortcut::getUuid))
+                        .dataFetcher("approved", GetterDataFetcher.of(DLFileShortcut.class, DLFileShortcut::isApproved))
+                        .dataFetcher("denied", GetterDataFetcher.of(DLFileShortcut.class, DLFileShortcut::isDenied))
+                        .dataFetcher("draft", GetterDataFetcher.of(DLFileShortcut.class, DLFileShortcut::isDraft))
+                        .dataFetcher("expired", GetterDataFetcher.of(DLFileShortcut.class, DLFileShortcut::isExpired))
+                        .dataFetcher("inTrash", GetterDataFetcher.of(DLFileShortcut.class, DLFileShortcut::isInTrash))
+                        .dataFetcher("inTrashContainer", GetterDataFetcher.of(DLFileShortcut.class, DLFileShortcut::isInTrashContainer))
+                        .dataFetcher("inTrashExplicitly", GetterDataFetcher.of(DLFileShortcut.class, DLFileShortcut::isInTrashExplicitly))
+                        .dataFetcher("inTrashImplicitly", GetterDataFetcher.of(DLFileShortcut.class, DLFileShortcut::isInTrashImplicitly))
+                        .dataFetcher("inactive", GetterDataFetcher.of(DLFileShortcut.class, DLFileShortcut::isInactive))
+                        .dataFetcher("incomplete", GetterDataFetcher.of(DLFileShortcut.class, DLFileShortcut::isIncomplete))
+                        .dataFetcher("pending", GetterDataFetcher.of(DLFileShortcut.class, DLFileShortcut::isPending))
+                        .dataFetcher("scheduled", GetterDataFetcher.of(DLFileShortcut.class, DLFileShortcut::isScheduled))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("DLFileVersion")
+                        .dataFetcher("changeLog", GetterDataFetcher.of(DLFileVersion.class, DLFileVersion::getChangeLog))
+                        .dataFetcher("checksum", GetterDataFetcher.of(DLFileVersion.class, DLFileVersion::getChecksum))
+                        .dataFetcher("companyId", GetterDataFetcher.of(DLFileVersion.class, DLFileVersion::getCompanyId))
+                        .dataFetcher("createDate", GetterDataFetcher.of(DLFileVersion.class, DLFileVersion::getCreateDate))
+                        .dataFetcher("description", GetterDataFetcher.of(DLFileVersion.class, DLFileVersion::getDescription))
+                        .dataFetcher("extension", GetterDataFetcher.of(DLFileVersion.class, DLFileVersion::getExtension))
+                        .dataFetcher("extraSettings", GetterDataFetcher.of(DLFileVersion.class, DLFileVersion::getExtraSettings))
+                        .dataFetcher("fileEntryId", GetterDataFetcher.of(DLFileVersion.class, DLFileVersion::getFileEntryId))
+                        .dataFetcher("fileEntryTypeId", GetterDataFetcher.of(DLFileVersion.class, DLFileVersion::getFileEntryTypeId))
+                        .dataFetcher("fileName", GetterDataFetcher.of(DLFileVersion.class, DLFileVersion::getFileName))
+                        .dataFetcher("fileVersionId", GetterDataFetcher.of(DLFileVersion.class, DLFileVersion::getFileVersionId))
+                        .dataFetcher("folderId", GetterDataFetcher.of(DLFileVersion.class, DLFileVersion::getFolderId))
+                        .dataFetcher("groupId", GetterDataFetcher.of(DLFileVersion.class, DLFileVersion::getGroupId))
+                        .dataFetcher("lastPublishDate", GetterDataFetcher.of(DLFileVersion.class, DLFileVersion::getLastPublishDate))
+                        .dataFetcher("mimeType", GetterDataFetcher.of(DLFileVersion.class, DLFileVersion::getMimeType))
+                        .dataFetcher("modifiedDate", GetterDataFetcher.of(DLFileVersion.class, DLFileVersion::getModifiedDate))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(DLFileVersion.class, DLFileVersion::getPrimaryKey))
+                        .dataFetcher("repositoryId", GetterDataFetcher.of(DLFileVersion.class, DLFileVersion::getRepositoryId))
+                        .dataFetcher("size", GetterDataFetcher.of(DLFileVersion.class, DLFileVersion::getSize))
+                        .dataFetcher("status", GetterDataFetcher.of(DLFileVersion.class, DLFileVersion::getStatus))
+                        .dataFetcher("statusByUserId", GetterDataFetcher.of(DLFileVersion.class, DLFileVersion::getStatusByUserId))
+                        .dataFetcher("statusByUserName", GetterDataFetcher.of(DLFileVersion.class, DLFileVersion::getStatusByUserName))
+                        .dataFetcher("statusByUserUuid", GetterDataFetcher.of(DLFileVersion.class, DLFileVersion::getStatusByUserUuid))
+                        .dataFetcher("statusDate", GetterDataFetcher.of(DLFileVersion.class, DLFileVersion::getStatusDate))
+                        .dataFetcher("title", GetterDataFetcher.of(DLFileVersion.class, DLFileVersion::getTitle))
+                        .dataFetcher("treePath", GetterDataFetcher.of(DLFileVersion.class, DLFileVersion::getTreePath))
+                        .dataFetcher("userId", GetterDataFetcher.of(DLFileVersion.class, DLFileVersion::getUserId))
+                        .dataFetcher("userName", GetterDataFetcher.of(DLFileVersion.class, DLFileVersion::getUserName))
+                        .dataFetcher("userUuid", GetterDataFetcher.of(DLFileVersion.class, DLFileVersion::getUserUuid))
+                        .dataFetcher("uuid", GetterDataFetcher.of(DLFileVersion.class, DLFileVersion::getUuid))
+                        .dataFetcher("version", GetterDataFetcher.of(DLFileVersion.class, DLFileVersion::getVersion))
+                        .dataFetcher("approved", GetterDataFetcher.of(DLFileVersion.class, DLFileVersion::isApproved))
+                        .dataFetcher("denied", GetterDataFetcher.of(DLFileVersion.class, DLFileVersion::isDenied))
+                        .dataFetcher("draft", GetterDataFetcher.of(DLFileVersion.class, DLFileVersion::isDraft))
+                        .dataFetcher("expired", GetterDataFetcher.of(DLFileVersion.class, DLFileVersion::isExpired))
+                        .dataFetcher("inactive", GetterDataFetcher.of(DLFileVersion.class, DLFileVersion::isInactive))
+                        .dataFetcher("incomplete", GetterDataFetcher.of(DLFileVersion.class, DLFileVersion::isIncomplete))
+                        .dataFetcher("pending", GetterDataFetcher.of(DLFileVersion.class, DLFileVersion::isPending))
+                        .dataFetcher("scheduled", GetterDataFetcher.of(DLFileVersion.class, DLFileVersion::isScheduled))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("DLFolder")
+                        .dataFetcher("companyId", GetterDataFetcher.of(DLFolder.class, DLFolder::getCompanyId))
+                        .dataFetcher("containerModelId", GetterDataFetcher.of(DLFolder.class, DLFolder::getContainerModelId))
+                        .dataFetcher("containerModelName", GetterDataFetcher.of(DLFolder.class, DLFolder::getContainerModelName))
+                        .dataFetcher("createDate", GetterDataFetcher.of(DLFolder.class, DLFolder::getCreateDate))
+                        .dataFetcher("defaultFileEntryTypeId", GetterDataFetcher.of(DLFolder.class, DLFolder::getDefaultFileEntryTypeId))
+                        .dataFetcher("description", GetterDataFetcher.of(DLFolder.class, DLFolder::getDescription))
+                        .dataFetcher("folderId", GetterDataFetcher.of(DLFolder.class, DLFolder::getFolderId))
+                        .dataFetcher("groupId", GetterDataFetcher.of(DLFolder.class, DLFolder::getGroupId))
+                        .dataFetcher("hidden", GetterDataFetcher.of(DLFolder.class, DLFolder::getHidden))
+                        .dataFetcher("lastPostDate", GetterDataFetcher.of(DLFolder.class, DLFolder::getLastPostDate))
+                        .dataFetcher("lastPublishDate", GetterDataFetcher.of(DLFolder.class, DLFolder::getLastPublishDate))
+                        .dataFetcher("modifiedDate", GetterDataFetcher.of(DLFolder.class, DLFolder::getModifiedDate))
+                        .dataFetcher("mountPoint", GetterDataFetcher.of(DLFolder.class, DLFolder::getMountPoint))
+                        .dataFetcher("name", GetterDataFetcher.of(DLFolder.class, DLFolder::getName))
+                        .dataFetcher("parentContainerModelId", GetterDataFetcher.of(DLFolder.class, DLFolder::getParentContainerModelId))
+                        .dataFetcher("parentFolderId", GetterDataFetcher.of(DLFolder.class, DLFolder::getParentFolderId))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(DLFolder.class, DLFolder::getPrimaryKey))
+                        .dataFetcher("repositoryId", GetterDataFetcher.of(DLFolder.class, DLFolder::getRepositoryId))
+                        .dataFetcher("restrictionType", GetterDataFetcher.of(DLFolder.class, DLFolder::getRestrictionType))
+                        .dataFetcher("status", GetterDataFetcher.of(DLFolder.class, DLFolder::getStatus))
+                        .dataFetcher("statusByUserId", GetterDataFetcher.of(DLFolder.class, DLFolder::getStatusByUserId))
+                        .dataFetcher("statusByUserName", GetterDataFetcher.of(DLFolder.class, DLFolder::getStatusByUserName))
+                        .dataFetcher("statusByUserUuid", GetterDataFetcher.of(DLFolder.class, DLFolder::getStatusByUserUuid))
+                        .dataFetcher("statusDate", GetterDataFetcher.of(DLFolder.class, DLFolder::getStatusDate))
+                        .dataFetcher("trashEntryClassPK", GetterDataFetcher.of(DLFolder.class, DLFolder::getTrashEntryClassPK))
+                        .dataFetcher("treePath", GetterDataFetcher.of(DLFolder.class, DLFolder::getTreePath))
+                        .dataFetcher("userId", GetterDataFetcher.of(DLFolder.class, DLFolder::getUserId))
+                        .dataFetcher("userName", GetterDataFetcher.of(DLFolder.class, DLFolder::getUserName))
+                        .dataFetcher("userUuid", GetterDataFetcher.of(DLFolder.class, DLFolder::getUserUuid))
+                        .dataFetcher("uuid", GetterDataFetcher.of(DLFolder.class, DLFolder::getUuid))
+                        .dataFetcher("approved", GetterDataFetcher.of(DLFolder.class, DLFolder::isApproved))
+                        .dataFetcher("denied", GetterDataFetcher.of(DLFolder.class, DLFolder::isDenied))
+                        .dataFetcher("draft", GetterDataFetcher.of(DLFolder.class, DLFolder::isDraft))
+                        .dataFetcher("expired", GetterDataFetcher.of(DLFolder.class, DLFolder::isExpired))
+                        .dataFetcher("inTrash", GetterDataFetcher.of(DLFolder.class, DLFolder::isInTrash))
+                        .dataFetcher("inTrashContainer", GetterDataFetcher.of(DLFolder.class, DLFolder::isInTrashContainer))
+                        .dataFetcher("inTrashExplicitly", GetterDataFetcher.of(DLFolder.class, DLFolder::isInTrashExplicitly))
+                        .dataFetcher("inTrashImplicitly", GetterDataFetcher.of(DLFolder.class, DLFolder::isInTrashImplicitly))
+                        .dataFetcher("inactive", GetterDataFetcher.of(DLFolder.class, DLFolder::isInactive))
+                        .dataFetcher("incomplete", GetterDataFetcher.of(DLFolder.class, DLFolder::isIncomplete))
+                        .dataFetcher("pending", GetterDataFetcher.of(DLFolder.class, DLFolder::isPending))
+                        .dataFetcher("scheduled", GetterDataFetcher.of(DLFolder.class, DLFolder::isScheduled))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("DDMContent")
+                        .dataFetcher("availableLanguageIds", GetterDataFetcher.of(DDMContent.class, DDMContent::getAvailableLanguageIds))
+                        .dataFetcher("companyId", GetterDataFetcher.of(DDMContent.class, DDMContent::getCompanyId))
+                        .dataFetcher("contentId", GetterDataFetcher.of(DDMContent.class, DDMContent::getContentId))
+                        .dataFetcher("createDate", GetterDataFetcher.of(DDMContent.class, DDMContent::getCreateDate))
+                        .dataFetcher("data", GetterDataFetcher.of(DDMContent.class, DDMContent::getData))
+                        .dataFetcher("defaultLanguageId", GetterDataFetcher.of(DDMContent.class, DDMContent::getDefaultLanguageId))
+                        .dataFetcher("description", GetterDataFetcher.of(DDMContent.class, DDMContent::getDescription))
+                        .dataFetcher("groupId", GetterDataFetcher.of(DDMContent.class, DDMContent::getGroupId))
+                        .dataFetcher("modifiedDate", GetterDataFetcher.of(DDMContent.class, DDMContent::getModifiedDate))
+                        .dataFetcher("name", GetterDataFetcher.of(DDMContent.class, DDMContent::getName))
+                        .dataFetcher("nameCurrentLanguageId", GetterDataFetcher.of(DDMContent.class, DDMContent::getNameCurrentLanguageId))
+                        .dataFetcher("nameCurrentValue", GetterDataFetcher.of(DDMContent.class, DDMContent::getNameCurrentValue))
+                        .dataFetcher("nameMap", GetterDataFetcher.of(DDMContent.class, DDMContent::getNameMap))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(DDMContent.class, DDMContent::getPrimaryKey))
+                        .dataFetcher("userId", GetterDataFetcher.of(DDMContent.class, DDMContent::getUserId))
+                        .dataFetcher("userName", GetterDataFetcher.of(DDMContent.class, DDMContent::getUserName))
+                        .dataFetcher("userUuid", GetterDataFetcher.of(DDMContent.class, DDMContent::getUserUuid))
+                        .dataFetcher("uuid", GetterDataFetcher.of(DDMContent.class, DDMContent::getUuid))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("DDMStructure")
+                        .dataFetcher("availableLanguageIds", GetterDataFetcher.of(DDMStructure.class, DDMStructure::getAvailableLanguageIds))
+                        .dataFetcher("className", GetterDataFetcher.of(DDMStructure.class, DDMStructure::getClassName))
+                        .dataFetcher("classNameId", GetterDataFetcher.of(DDMStructure.class, DDMStructure::getClassNameId))
+                        .dataFetcher("companyId", GetterDataFetcher.of(DDMStructure.class, DDMStructure::getCompanyId))
+                        .dataFetcher("createDate", GetterDataFetcher.of(DDMStructure.class, DDMStructure::getCreateDate))
+                        .dataFetcher("defaultLanguageId", GetterDataFetcher.of(DDMStructure.class, DDMStructure::getDefaultLanguageId))
+                        .dataFetcher("definition", GetterDataFetcher.of(DDMStructure.class, DDMStructure::getDefinition))
+                        .dataFetcher("description", GetterDataFetcher.of(DDMStructure.class, DDMStructure::getDescription))
+                        .dataFetcher("descriptionCurrentLanguageId", GetterDataFetcher.of(DDMStructure.class, DDMStructure::getDescriptionCurrentLanguageId))
+                        .dataFetcher("descriptionCurrentValue", GetterDataFetcher.of(DDMStructure.class, DDMStructure::getDescriptionCurrentValue))
+                        .dataFetcher("descriptionMap", GetterDataFetcher.of(DDMStructure.class, DDMStructure::getDescriptionMap))
+                        .dataFetcher("groupId", GetterDataFetcher.of(DDMStructure.class, DDMStructure::getGroupId))
+                        .dataFetcher("lastPublishDate", GetterDataFetcher.of(DDMStructure.class, DDMStructure::getLastPublishDate))
+                        .dataFetcher("modifiedDate", GetterDataFetcher.of(DDMStructure.class, DDMStructure::getModifiedDate))
+                        .dataFetcher("name", GetterDataFetcher.of(DDMStructure.class, DDMStructure::getName))
+                        .dataFetcher("nameCurrentLanguageId", GetterDataFetcher.of(DDMStructure.class, DDMStructure::getNameCurrentLanguageId))
+                        .dataFetcher("nameCurrentValue", GetterDataFetcher.of(DDMStructure.class, DDMStructure::getNameCurrentValue))
+                        .dataFetcher("nameMap", GetterDataFetcher.of(DDMStructure.class, DDMStructure::getNameMap))
+                        .dataFetcher("parentStructureId", GetterDataFetcher.of(DDMStructure.class, DDMStructure::getParentStructureId))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(DDMStructure.class, DDMStructure::getPrimaryKey))
+                        .dataFetcher("storageType", GetterDataFetcher.of(DDMStructure.class, DDMStructure::getStorageType))
+                        .dataFetcher("structureId", GetterDataFetcher.of(DDMStructure.class, DDMStructure::getStructureId))
+                        .dataFetcher("structureKey", GetterDataFetcher.of(DDMStructure.class, DDMStructure::getStructureKey))
+                        .dataFetcher("type", GetterDataFetcher.of(DDMStructure.class, DDMStructure::getType))
+                        .dataFetcher("userId", GetterDataFetcher.of(DDMStructure.class, DDMStructure::getUserId))
+                        .dataFetcher("userName", GetterDataFetcher.of(DDMStructure.class, DDMStructure::getUserName))
+                        .dataFetcher("userUuid", GetterDataFetcher.of(DDMStructure.class, DDMStructure::getUserUuid))
+                        .dataFetcher("uuid", GetterDataFetcher.of(DDMStructure.class, DDMStructure::getUuid))
+                        .dataFetcher("version", GetterDataFetcher.of(DDMStructure.class, DDMStructure::getVersion))
+                        .dataFetcher("versionUserId", GetterDataFetcher.of(DDMStructure.class, DDMStructure::getVersionUserId))
+                        .dataFetcher("versionUserName", GetterDataFetcher.of(DDMStructure.class, DDMStructure::getVersionUserName))
+                        .dataFetcher("versionUserUuid", GetterDataFetcher.of(DDMStructure.class, DDMStructure::getVersionUserUuid))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("DDMTemplate")
+                        .dataFetcher("availableLanguageIds", GetterDataFetcher.of(DDMTemplate.class, DDMTemplate::getAvailableLanguageIds))
+                        .dataFetcher("cacheable", GetterDataFetcher.of(DDMTemplate.class, DDMTemplate::getCacheable))
+                        .dataFetcher("className", GetterDataFetcher.of(DDMTemplate.class, DDMTemplate::getClassName))
+                        .dataFetcher("classNameId", GetterDataFetcher.of(DDMTemplate.class, DDMTemplate::getClassNameId))
+                        .dataFetcher("classPK", GetterDataFetcher.of(DDMTemplate.class, DDMTemplate::getClassPK))
+                        .dataFetcher("companyId", GetterDataFetcher.of(DDMTemplate.class, DDMTemplate::getCompanyId))
+                        .dataFetcher("createDate", GetterDataFetcher.of(DDMTemplate.class, DDMTemplate::getCreateDate))
+                        .dataFetcher("defaultLanguageId", GetterDataFetcher.of(DDMTemplate.class, DDMTemplate::getDefaultLanguageId))
+                        .dataFetcher("description", GetterDataFetcher.of(DDMTemplate.class, DDMTemplate::getDescription))
+                        .dataFetcher("descriptionCurrentLanguageId", GetterDataFetcher.of(DDMTemplate.class, DDMTemplate::getDescriptionCurrentLanguageId))
+                        .dataFetcher("descriptionCurrentValue", GetterDataFetcher.of(DDMTemplate.class, DDMTemplate::getDescriptionCurrentValue))
+                        .dataFetcher("descriptionMap", GetterDataFetcher.of(DDMTemplate.class, DDMTemplate::getDescriptionMap))
+                        .dataFetcher("groupId", GetterDataFetcher.of(DDMTemplate.class, DDMTemplate::getGroupId))
+                        .dataFetcher("language", GetterDataFetcher.of(DDMTemplate.class, DDMTemplate::getLanguage))
+                        .dataFetcher("lastPublishDate", GetterDataFetcher.of(DDMTemplate.class, DDMTemplate::getLastPublishDate))
+                        .dataFetcher("mode", GetterDataFetcher.of(DDMTemplate.class, DDMTemplate::getMode))
+                        .dataFetcher("modifiedDate", GetterDataFetcher.of(DDMTemplate.class, DDMTemplate::getModifiedDate))
+                        .dataFetcher("name", GetterDataFetcher.of(DDMTemplate.class, DDMTemplate::getName))
+                        .dataFetcher("nameCurrentLanguageId", GetterDataFetcher.of(DDMTemplate.class, DDMTemplate::getNameCurrentLanguageId))
+                        .dataFetcher("nameCurrentValue", GetterDataFetcher.of(DDMTemplate.class, DDMTemplate::getNameCurrentValue))
+                        .dataFetcher("nameMap", GetterDataFetcher.of(DDMTemplate.class, DDMTemplate::getNameMap))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(DDMTemplate.class, DDMTemplate::getPrimaryKey))
+                        .dataFetcher("resourceClassNameId", GetterDataFetcher.of(DDMTemplate.class, DDMTemplate::getResourceClassNameId))
+                        .dataFetcher("script", GetterDataFetcher.of(DDMTemplate.class, DDMTemplate::getScript))
+                        .dataFetcher("smallImage", GetterDataFetcher.of(DDMTemplate.class, DDMTemplate::getSmallImage))
+                        .dataFetcher("smallImageId", GetterDataFetcher.of(DDMTemplate.class, DDMTemplate::getSmallImageId))
+                        .dataFetcher("smallImageURL", GetterDataFetcher.of(DDMTemplate.class, DDMTemplate::getSmallImageURL))
+                        .dataFetcher("templateId", GetterDataFetcher.of(DDMTemplate.class, DDMTemplate::getTemplateId))
+                        .dataFetcher("templateKey", GetterDataFetcher.of(DDMTemplate.class, DDMTemplate::getTemplateKey))
+                        .dataFetcher("type", GetterDataFetcher.of(DDMTemplate.class, DDMTemplate::getType))
+                        .dataFetcher("userId", GetterDataFetcher.of(DDMTemplate.class, DDMTemplate::getUserId))
+                        .dataFetcher("userName", GetterDataFetcher.of(DDMTemplate.class, DDMTemplate::getUserName))
+                        .dataFetcher("userUuid", GetterDataFetcher.of(DDMTemplate.class, DDMTemplate::getUserUuid))
+                        .dataFetcher("uuid", GetterDataFetcher.of(DDMTemplate.class, DDMTemplate::getUuid))
+                        .dataFetcher("version", GetterDataFetcher.of(DDMTemplate.class, DDMTemplate::getVersion))
+                        .dataFetcher("versionUserId", GetterDataFetcher.of(DDMTemplate.class, DDMTemplate::getVersionUserId))
+                        .dataFetcher("versionUserName", GetterDataFetcher.of(DDMTemplate.class, DDMTemplate::getVersionUserName))
+                        .dataFetcher("versionUserUuid", GetterDataFetcher.of(DDMTemplate.class, DDMTemplate::getVersionUserUuid))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("ExpandoColumn")
+                        .dataFetcher("columnId", GetterDataFetcher.of(ExpandoColumn.class, ExpandoColumn::getColumnId))
+                        .dataFetcher("companyId", GetterDataFetcher.of(ExpandoColumn.class, ExpandoColumn::getCompanyId))
+                        .dataFetcher("defaultData", GetterDataFetcher.of(ExpandoColumn.class, ExpandoColumn::getDefaultData))
+                        .dataFetcher("name", GetterDataFetcher.of(ExpandoColumn.class, ExpandoColumn::getName))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(ExpandoColumn.class, ExpandoColumn::getPrimaryKey))
+                        .dataFetcher("tableId", GetterDataFetcher.of(ExpandoColumn.class, ExpandoColumn::getTableId))
+                        .dataFetcher("type", GetterDataFetcher.of(ExpandoColumn.class, ExpandoColumn::getType))
+                        .dataFetcher("typeSettings", GetterDataFetcher.of(ExpandoColumn.class, ExpandoColumn::getTypeSettings))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("ExpandoRow")
+                        .dataFetcher("classPK", GetterDataFetcher.of(ExpandoRow.class, ExpandoRow::getClassPK))
+                        .dataFetcher("companyId", GetterDataFetcher.of(ExpandoRow.class, ExpandoRow::getCompanyId))
+                        .dataFetcher("modifiedDate", GetterDataFetcher.of(ExpandoRow.class, ExpandoRow::getModifiedDate))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(ExpandoRow.class, ExpandoRow::getPrimaryKey))
+                        .dataFetcher("rowId", GetterDataFetcher.of(ExpandoRow.class, ExpandoRow::getRowId))
+                        .dataFetcher("tableId", GetterDataFetcher.of(ExpandoRow.class, ExpandoRow::getTableId))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("ExpandoTable")
+                        .dataFetcher("className", GetterDataFetcher.of(ExpandoTable.class, ExpandoTable::getClassName))
+                        .dataFetcher("classNameId", GetterDataFetcher.of(ExpandoTable.class, ExpandoTable::getClassNameId))
+                        .dataFetcher("companyId", GetterDataFetcher.of(ExpandoTable.class, ExpandoTable::getCompanyId))
+                        .dataFetcher("name", GetterDataFetcher.of(ExpandoTable.class, ExpandoTable::getName))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(ExpandoTable.class, ExpandoTable::getPrimaryKey))
+                        .dataFetcher("tableId", GetterDataFetcher.of(ExpandoTable.class, ExpandoTable::getTableId))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("ExpandoValue")
+                        .dataFetcher("className", GetterDataFetcher.of(ExpandoValue.class, ExpandoValue::getClassName))
+                        .dataFetcher("classNameId", GetterDataFetcher.of(ExpandoValue.class, ExpandoValue::getClassNameId))
+                        .dataFetcher("classPK", GetterDataFetcher.of(ExpandoValue.class, ExpandoValue::getClassPK))
+                        .dataFetcher("columnId", GetterDataFetcher.of(ExpandoValue.class, ExpandoValue::getColumnId))
+                        .dataFetcher("companyId", GetterDataFetcher.of(ExpandoValue.class, ExpandoValue::getCompanyId))
+                        .dataFetcher("data", GetterDataFetcher.of(ExpandoValue.class, ExpandoValue::getData))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(ExpandoValue.class, ExpandoValue::getPrimaryKey))
+                        .dataFetcher("rowId", GetterDataFetcher.of(ExpandoValue.class, ExpandoValue::getRowId))
+                        .dataFetcher("tableId", GetterDataFetcher.of(ExpandoValue.class, ExpandoValue::getTableId))
+                        .dataFetcher("valueId", GetterDataFetcher.of(ExpandoValue.class, ExpandoValue::getValueId))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("JournalArticle")
+                        .dataFetcher("articleId", GetterDataFetcher.of(JournalArticle.class, JournalArticle::getArticleId))
+                        .dataFetcher("className", GetterDataFetcher.of(JournalArticle.class, JournalArticle::getClassName))
+                        .dataFetcher("classNameId", GetterDataFetcher.of(JournalArticle.class, JournalArticle::getClassNameId))
+                        .dataFetcher("classPK", GetterDataFetcher.of(JournalArticle.class, JournalArticle::getClassPK))
+                        .dataFetcher("companyId", GetterDataFetcher.of(JournalArticle.class, JournalArticle::getCompanyId))
+                        .dataFetcher("content", GetterDataFetcher.of(JournalArticle.class, JournalArticle::getContent))
+                        .dataFetcher("createDate", GetterDataFetcher.of(JournalArticle.class, JournalArticle::getCreateDate))
+                        .dataFetcher("ddmStructureKey", GetterDataFetcher.of(JournalArticle.class, JournalArticle::getDdmStructureKey))
+                        .dataFetcher("ddmTemplateKey", GetterDataFetcher.of(JournalArticle.class, JournalArticle::getDdmTemplateKey))
+                        .dataFetcher("defaultLanguageId", GetterDataFetcher.of(JournalArticle.class, JournalArticle::getDefaultLanguageId))
+                        .dataFetcher("displayDate", GetterDataFetcher.of(JournalArticle.class, JournalArticle::getDisplayDate))
+                        .dataFetcher("expirationDate", GetterDataFetcher.of(JournalArticle.class, JournalArticle::getExpirationDate))
+                        .dataFetcher("folderId", GetterDataFetcher.of(JournalArticle.class, JournalArticle::getFolderId))
+                        .dataFetcher("groupId", GetterDataFetcher.of(JournalArticle.class, JournalArticle::getGroupId))
+                        .dataFetcher("id", GetterDataFetcher.of(JournalArticle.class, JournalArticle::getId))
+                        .dataFetcher("indexable", GetterDataFetcher.of(JournalArticle.class, JournalArticle::getIndexable))
+                        .dataFetcher("lastPublishDate", GetterDataFetcher.of(JournalArticle.class, JournalArticle::getLastPublishDate))
+                        .dataFetcher("layoutUuid", GetterDataFetcher.of(JournalArticle.class, JournalArticle::getLayoutUuid))
+                        .dataFetcher("modifiedDate", GetterDataFetcher.of(JournalArticle.class, JournalArticle::getModifiedDate))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(JournalArticle.class, JournalArticle::getPrimaryKey))
+                        .dataFetcher("resourcePrimKey", GetterDataFetcher.of(JournalArticle.class, JournalArticle::getResourcePrimKey))
+                        .dataFetcher("reviewDate", GetterDataFetcher.of(JournalArticle.class, JournalArticle::getReviewDate))
+                        .dataFetcher("smallImage", GetterDataFetcher.of(JournalArticle.class, JournalArticle::getSmallImage))
+                        .dataFetcher("smallImageId", GetterDataFetcher.of(JournalArticle.class, JournalArticle::getSmallImageId))
+                        .dataFetcher("smallImageURL", GetterDataFetcher.of(JournalArticle.class, JournalArticle::getSmallImageURL))
+                        .dataFetcher("status", GetterDataFetcher.of(JournalArticle.class, JournalArticle::getStatus))
+                        .dataFetcher("statusByUserId", GetterDataFetcher.of(JournalArticle.class, JournalArticle::getStatusByUserId))
+                        .dataFetcher("statusByUserName", GetterDataFetcher.of(JournalArticle.class, JournalArticle::getStatusByUserName))
+                        .dataFetcher("statusByUserUuid", GetterDataFetcher.of(JournalArticle.class, JournalArticle::getStatusByUserUuid))
+                        .dataFetcher("statusDate", GetterDataFetcher.of(JournalArticle.class, JournalArticle::getStatusDate))
+                        .dataFetcher("trashEntryClassPK", GetterDataFetcher.of(JournalArticle.class, JournalArticle::getTrashEntryClassPK))
+                        .dataFetcher("treePath", GetterDataFetcher.of(JournalArticle.class, JournalArticle::getTreePath))
+                        .dataFetcher("urlTitle", GetterDataFetcher.of(JournalArticle.class, JournalArticle::getUrlTitle))
+                        .dataFetcher("userId", GetterDataFetcher.of(JournalArticle.class, JournalArticle::getUserId))
+                        .dataFetcher("userName", GetterDataFetcher.of(JournalArticle.class, JournalArticle::getUserName))
+                        .dataFetcher("userUuid", GetterDataFetcher.of(JournalArticle.class, JournalArticle::getUserUuid))
+                        .dataFetcher("uuid", GetterDataFetcher.of(JournalArticle.class, JournalArticle::getUuid))
+                        .dataFetcher("version", GetterDataFetcher.of(JournalArticle.class, JournalArticle::getVersion))
+                        .dataFetcher("approved", GetterDataFetcher.of(JournalArticle.class, JournalArticle::isApproved))
+                        .dataFetcher("denied", GetterDataFetcher.of(JournalArticle.class, JournalArticle::isDenied))
+                        .dataFetcher("draft", GetterDataFetcher.of(JournalArticle.class, JournalArticle::isDraft))
+                        .dataFetcher("expired", GetterDataFetcher.of(JournalArticle.class, JournalArticle::isExpired))
+                        .dataFetcher("inTrash", GetterDataFetcher.of(JournalArticle.class, JournalArticle::isInTrash))
+                        .dataFetcher("inTrashContainer", GetterDataFetcher.of(JournalArticle.class, JournalArticle::isInTrashContainer))
+                        .dataFetcher("inTrashExplicitly", GetterDataFetcher.of(JournalArticle.class, JournalArticle::isInTrashExplicitly))
+                        .dataFetcher("inTrashImplicitly", GetterDataFetcher.of(JournalArticle.class, JournalArticle::isInTrashImplicitly))
+                        .dataFetcher("inactive", GetterDataFetcher.of(JournalArticle.class, JournalArticle::isInactive))
+                        .dataFetcher("incomplete", GetterDataFetcher.of(JournalArticle.class, JournalArticle::isIncomplete))
+                        .dataFetcher("pending", GetterDataFetcher.of(JournalArticle.class, JournalArticle::isPending))
+                        .dataFetcher("resourceMain", GetterDataFetcher.of(JournalArticle.class, JournalArticle::isResourceMain))
+                        .dataFetcher("scheduled", GetterDataFetcher.of(JournalArticle.class, JournalArticle::isScheduled))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("JournalFeed")
+                        .dataFetcher("companyId", GetterDataFetcher.of(JournalFeed.class, JournalFeed::getCompanyId))
+                        .dataFetcher("contentField", GetterDataFetcher.of(JournalFeed.class, JournalFeed::getContentField))
+                        .dataFetcher("createDate", GetterDataFetcher.of(JournalFeed.class, JournalFeed::getCreateDate))
+                        .dataFetcher("DDMRendererTemplateKey", GetterDataFetcher.of(JournalFeed.class, JournalFeed::getDDMRendererTemplateKey))
+                        .dataFetcher("DDMStructureKey", GetterDataFetcher.of(JournalFeed.class, JournalFeed::getDDMStructureKey))
+                        .dataFetcher("DDMTemplateKey", GetterDataFetcher.of(JournalFeed.class, JournalFeed::getDDMTemplateKey))
+                        .dataFetcher("delta", GetterDataFetcher.of(JournalFeed.class, JournalFeed::getDelta))
+                        .dataFetcher("description", GetterDataFetcher.of(JournalFeed.class, JournalFeed::getDescription))
+                        .dataFetcher("feedFormat", GetterDataFetcher.of(JournalFeed.class, JournalFeed::getFeedFormat))
+                        .dataFetcher("feedId", GetterDataFetcher.of(JournalFeed.class, JournalFeed::getFeedId))
+                        .dataFetcher("feedVersion", GetterDataFetcher.of(JournalFeed.class, JournalFeed::getFeedVersion))
+                        .dataFetcher("groupId", GetterDataFetcher.of(JournalFeed.class, JournalFeed::getGroupId))
+                        .dataFetcher("id", GetterDataFetcher.of(JournalFeed.class, JournalFeed::getId))
+                        .dataFetcher("lastPublishDate", GetterDataFetcher.of(JournalFeed.class, JournalFeed::getLastPublishDate))
+                        .dataFetcher("modifiedDate", GetterDataFetcher.of(JournalFeed.class, JournalFeed::getModifiedDate))
+                        .dataFetcher("name", GetterDataFetcher.of(JournalFeed.class, JournalFeed::getName))
+                        .dataFetcher("orderByCol", GetterDataFetcher.of(JournalFeed.class, JournalFeed::getOrderByCol))
+                        .dataFetcher("orderByType", GetterDataFetcher.of(JournalFeed.class, JournalFeed::getOrderByType))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(JournalFeed.class, JournalFeed::getPrimaryKey))
+                        .dataFetcher("targetLayoutFriendlyUrl", GetterDataFetcher.of(JournalFeed.class, JournalFeed::getTargetLayoutFriendlyUrl))
+                        .dataFetcher("targetPortletId", GetterDataFetcher.of(JournalFeed.class, JournalFeed::getTargetPortletId))
+                        .dataFetcher("userId", GetterDataFetcher.of(JournalFeed.class, JournalFeed::getUserId))
+                        .dataFetcher("userName", GetterDataFetcher.of(JournalFeed.class, JournalFeed::getUserName))
+                        .dataFetcher("userUuid", GetterDataFetcher.of(JournalFeed.class, JournalFeed::getUserUuid))
+                        .dataFetcher("uuid", GetterDataFetcher.of(JournalFeed.class, JournalFeed::getUuid))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("JournalFolder")
+                        .dataFetcher("companyId", GetterDataFetcher.of(JournalFolder.class, JournalFolder::getCompanyId))
+                        .dataFetcher("containerModelId", GetterDataFetcher.of(JournalFolder.class, JournalFolder::getContainerModelId))
+                        .dataFetcher("containerModelName", GetterDataFetcher.of(JournalFolder.class, JournalFolder::getContainerModelName))
+                        .dataFetcher("createDate", GetterDataFetcher.of(JournalFolder.class, JournalFolder::getCreateDate))
+                        .dataFetcher("description", GetterDataFetcher.of(JournalFolder.class, JournalFolder::getDescription))
+                        .dataFetcher("folderId", GetterDataFetcher.of(JournalFolder.class, JournalFolder::getFolderId))
+                        .dataFetcher("groupId", GetterDataFetcher.of(JournalFolder.class, JournalFolder::getGroupId))
+                        .dataFetcher("lastPublishDate", GetterDataFetcher.of(JournalFolder.class, JournalFolder::getLastPublishDate))
+                        .dataFetcher("modifiedDate", GetterDataFetcher.of(JournalFolder.class, JournalFolder::getModifiedDate))
+                        .dataFetcher("name", GetterDataFetcher.of(JournalFolder.class, JournalFolder::getName))
+                        .dataFetcher("parentContainerModelId", GetterDataFetcher.of(JournalFolder.class, JournalFolder::getParentContainerModelId))
+                        .dataFetcher("parentFolderId", GetterDataFetcher.of(JournalFolder.class, JournalFolder::getParentFolderId))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(JournalFolder.class, JournalFolder::getPrimaryKey))
+                        .dataFetcher("restrictionType", GetterDataFetcher.of(JournalFolder.class, JournalFolder::getRestrictionType))
+                        .dataFetcher("status", GetterDataFetcher.of(JournalFolder.class, JournalFolder::getStatus))
+                        .dataFetcher("statusByUserId", GetterDataFetcher.of(JournalFolder.class, JournalFolder::getStatusByUserId))
+                        .dataFetcher("statusByUserName", GetterDataFetcher.of(JournalFolder.class, JournalFolder::getStatusByUserName))
+                        .dataFetcher("statusByUserUuid", GetterDataFetcher.of(JournalFolder.class, JournalFolder::getStatusByUserUuid))
+                        .dataFetcher("statusDate", GetterDataFetcher.of(JournalFolder.class, JournalFolder::getStatusDate))
+                        .dataFetcher("trashEntryClassPK", GetterDataFetcher.of(JournalFolder.class, JournalFolder::getTrashEntryClassPK))
+                        .dataFetcher("treePath", GetterDataFetcher.of(JournalFolder.class, JournalFolder::getTreePath))
+                        .dataFetcher("userId", GetterDataFetcher.of(JournalFolder.class, JournalFolder::getUserId))
+                        .dataFetcher("userName", GetterDataFetcher.of(JournalFolder.class, JournalFolder::getUserName))
+                        .dataFetcher("userUuid", GetterDataFetcher.of(JournalFolder.class, JournalFolder::getUserUuid))
+                        .dataFetcher("uuid", GetterDataFetcher.of(JournalFolder.class, JournalFolder::getUuid))
+                        .dataFetcher("approved", GetterDataFetcher.of(JournalFolder.class, JournalFolder::isApproved))
+                        .dataFetcher("denied", GetterDataFetcher.of(JournalFolder.class, JournalFolder::isDenied))
+                        .dataFetcher("draft", GetterDataFetcher.of(JournalFolder.class, JournalFolder::isDraft))
+                        .dataFetcher("expired", GetterDataFetcher.of(JournalFolder.class, JournalFolder::isExpired))
+                        .dataFetcher("inTrash", GetterDataFetcher.of(JournalFolder.class, JournalFolder::isInTrash))
+                        .dataFetcher("inTrashContainer", GetterDataFetcher.of(JournalFolder.class, JournalFolder::isInTrashContainer))
+                        .dataFetcher("inTrashExplicitly", GetterDataFetcher.of(JournalFolder.class, JournalFolder::isInTrashExplicitly))
+                        .dataFetcher("inTrashImplicitly", GetterDataFetcher.of(JournalFolder.class, JournalFolder::isInTrashImplicitly))
+                        .dataFetcher("inactive", GetterDataFetcher.of(JournalFolder.class, JournalFolder::isInactive))
+                        .dataFetcher("incomplete", GetterDataFetcher.of(JournalFolder.class, JournalFolder::isIncomplete))
+                        .dataFetcher("pending", GetterDataFetcher.of(JournalFolder.class, JournalFolder::isPending))
+                        .dataFetcher("scheduled", GetterDataFetcher.of(JournalFolder.class, JournalFolder::isScheduled))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("MBCategory")
+                        .dataFetcher("categoryId", GetterDataFetcher.of(MBCategory.class, MBCategory::getCategoryId))
+                        .dataFetcher("companyId", GetterDataFetcher.of(MBCategory.class, MBCategory::getCompanyId))
+                        .dataFetcher("containerModelId", GetterDataFetcher.of(MBCategory.class, MBCategory::getContainerModelId))
+                        .dataFetcher("containerModelName", GetterDataFetcher.of(MBCategory.class, MBCategory::getContainerModelName))
+                        .dataFetcher("createDate", GetterDataFetcher.of(MBCategory.class, MBCategory::getCreateDate))
+                        .dataFetcher("description", GetterDataFetcher.of(MBCategory.class, MBCategory::getDescription))
+                        .dataFetcher("displayStyle", GetterDataFetcher.of(MBCategory.class, MBCategory::getDisplayStyle))
+                        .dataFetcher("groupId", GetterDataFetcher.of(MBCategory.class, MBCategory::getGroupId))
+                        .dataFetcher("lastPostDate", GetterDataFetcher.of(MBCategory.class, MBCategory::getLastPostDate))
+                        .dataFetcher("lastPublishDate", GetterDataFetcher.of(MBCategory.class, MBCategory::getLastPublishDate))
+                        .dataFetcher("messageCount", GetterDataFetcher.of(MBCategory.class, MBCategory::getMessageCount))
+                        .dataFetcher("modifiedDate", GetterDataFetcher.of(MBCategory.class, MBCategory::getModifiedDate))
+                        .dataFetcher("name", GetterDataFetcher.of(MBCategory.class, MBCategory::getName))
+                        .dataFetcher("parentCategoryId", GetterDataFetcher.of(MBCategory.class, MBCategory::getParentCategoryId))
+                        .dataFetcher("parentContainerModelId", GetterDataFetcher.of(MBCategory.class, MBCategory::getParentContainerModelId))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(MBCategory.class, MBCategory::getPrimaryKey))
+                        .dataFetcher("status", GetterDataFetcher.of(MBCategory.class, MBCategory::getStatus))
+                        .dataFetcher("statusByUserId", GetterDataFetcher.of(MBCategory.class, MBCategory::getStatusByUserId))
+                        .dataFetcher("statusByUserName", GetterDataFetcher.of(MBCategory.class, MBCategory::getStatusByUserName))
+                        .dataFetcher("statusByUserUuid", GetterDataFetcher.of(MBCategory.class, MBCategory::getStatusByUserUuid))
+                        .dataFetcher("statusDate", GetterDataFetcher.of(MBCategory.class, MBCategory::getStatusDate))
+                        .dataFetcher("threadCount", GetterDataFetcher.of(MBCategory.class, MBCategory::getThreadCount))
+                        .dataFetcher("trashEntryClassPK", GetterDataFetcher.of(MBCategory.class, MBCategory::getTrashEntryClassPK))
+                        .dataFetcher("userId", GetterDataFetcher.of(MBCategory.class, MBCategory::getUserId))
+                        .dataFetcher("userName", GetterDataFetcher.of(MBCategory.class, MBCategory::getUserName))
+                        .dataFetcher("userUuid", GetterDataFetcher.of(MBCategory.class, MBCategory::getUserUuid))
+                        .dataFetcher("uuid", GetterDataFetcher.of(MBCategory.class, MBCategory::getUuid))
+                        .dataFetcher("approved", GetterDataFetcher.of(MBCategory.class, MBCategory::isApproved))
+                        .dataFetcher("denied", GetterDataFetcher.of(MBCategory.class, MBCategory::isDenied))
+                        .dataFetcher("draft", GetterDataFetcher.of(MBCategory.class, MBCategory::isDraft))
+                        .dataFetcher("expired", GetterDataFetcher.of(MBCategory.class, MBCategory::isExpired))
+                        .dataFetcher("inTrash", GetterDataFetcher.of(MBCategory.class, MBCategory::isInTrash))
+                        .dataFetcher("inTrashContainer", GetterDataFetcher.of(MBCategory.class, MBCategory::isInTrashContainer))
+                        .dataFetcher("inTrashExplicitly", GetterDataFetcher.of(MBCategory.class, MBCategory::isInTrashExplicitly))
+                        .dataFetcher("inTrashImplicitly", GetterDataFetcher.of(MBCategory.class, MBCategory::isInTrashImplicitly))
+                        .dataFetcher("inactive", GetterDataFetcher.of(MBCategory.class, MBCategory::isInactive))
+                        .dataFetcher("incomplete", GetterDataFetcher.of(MBCategory.class, MBCategory::isIncomplete))
+                        .dataFetcher("pending", GetterDataFetcher.of(MBCategory.class, MBCategory::isPending))
+                        .dataFetcher("scheduled", GetterDataFetcher.of(MBCategory.class, MBCategory::isScheduled))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("MBMessage")
+                        .dataFetcher("allowPingbacks", GetterDataFetcher.of(MBMessage.class, MBMessage::getAllowPingbacks))
+                        .dataFetcher("anonymous", GetterDataFetcher.of(MBMessage.class, MBMessage::getAnonymous))
+                        .dataFetcher("answer", GetterDataFetcher.of(MBMessage.class, MBMessage::getAnswer))
+                        .dataFetcher("body", GetterDataFetcher.of(MBMessage.class, MBMessage::getBody))
+                        .dataFetcher("categoryId", GetterDataFetcher.of(MBMessage.class, MBMessage::getCategoryId))
+                        .dataFetcher("className", GetterDataFetcher.of(MBMessage.class, MBMessage::getClassName))
+                        .dataFetcher("classNameId", GetterDataFetcher.of(MBMessage.class, MBMessage::getClassNameId))
+                        .dataFetcher("classPK", GetterDataFetcher.of(MBMessage.class, MBMessage::getClassPK))
+                        .dataFetcher("companyId", GetterDataFetcher.of(MBMessage.class, MBMessage::getCompanyId))
+                        .dataFetcher("createDate", GetterDataFetcher.of(MBMessage.class, MBMessage::getCreateDate))
+                        .dataFetcher("format", GetterDataFetcher.of(MBMessage.class, MBMessage::getFormat))
+                        .dataFetcher("groupId", GetterDataFetcher.of(MBMessage.class, MBMessage::getGroupId))
+                        .dataFetcher("lastPublishDate", GetterDataFetcher.of(MBMessage.class, MBMessage::getLastPublishDate))
+                        .dataFetcher("messageId", GetterDataFetcher.of(MBMessage.class, MBMessage::getMessageId))
+                        .dataFetcher("modifiedDate", GetterDataFetcher.of(MBMessage.class, MBMessage::getModifiedDate))
+                        .dataFetcher("parentMessageId", GetterDataFetcher.of(MBMessage.class, MBMessage::getParentMessageId))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(MBMessage.class, MBMessage::getPrimaryKey))
+                        .dataFetcher("priority", GetterDataFetcher.of(MBMessage.class, MBMessage::getPriority))
+                        .dataFetcher("rootMessageId", GetterDataFetcher.of(MBMessage.class, MBMessage::getRootMessageId))
+                        .dataFetcher("status", GetterDataFetcher.of(MBMessage.class, MBMessage::getStatus))
+                        .dataFetcher("statusByUserId", GetterDataFetcher.of(MBMessage.class, MBMessage::getStatusByUserId))
+                        .dataFetcher("statusByUserName", GetterDataFetcher.of(MBMessage.class, MBMessage::getStatusByUserName))
+                        .dataFetcher("statusByUserUuid", GetterDataFetcher.of(MBMessage.class, MBMessage::getStatusByUserUuid))
+                        .dataFetcher("statusDate", GetterDataFetcher.of(MBMessage.class, MBMessage::getStatusDate))
+                        .dataFetcher("subject", GetterDataFetcher.of(MBMessage.class, MBMessage::getSubject))
+                        .dataFetcher("threadId", GetterDataFetcher.of(MBMessage.class, MBMessage::getThreadId))
+                        .dataFetcher("trashEntryClassPK", GetterDataFetcher.of(MBMessage.class, MBMessage::getTrashEntryClassPK))
+                        .dataFetcher("userId", GetterDataFetcher.of(MBMessage.class, MBMessage::getUserId))
+                        .dataFetcher("userName", GetterDataFetcher.of(MBMessage.class, MBMessage::getUserName))
+                        .dataFetcher("userUuid", GetterDataFetcher.of(MBMessage.class, MBMessage::getUserUuid))
+                        .dataFetcher("uuid", GetterDataFetcher.of(MBMessage.class, MBMessage::getUuid))
+                        .dataFetcher("approved", GetterDataFetcher.of(MBMessage.class, MBMessage::isApproved))
+                        .dataFetcher("denied", GetterDataFetcher.of(MBMessage.class, MBMessage::isDenied))
+                        .dataFetcher("draft", GetterDataFetcher.of(MBMessage.class, MBMessage::isDraft))
+                        .dataFetcher("expired", GetterDataFetcher.of(MBMessage.class, MBMessage::isExpired))
+                        .dataFetcher("inTrash", GetterDataFetcher.of(MBMessage.class, MBMessage::isInTrash))
+                        .dataFetcher("inTrashContainer", GetterDataFetcher.of(MBMessage.class, MBMessage::isInTrashContainer))
+                        .dataFetcher("inTrashExplicitly", GetterDataFetcher.of(MBMessage.class, MBMessage::isInTrashExplicitly))
+                        .dataFetcher("inTrashImplicitly", GetterDataFetcher.of(MBMessage.class, MBMessage::isInTrashImplicitly))
+                        .dataFetcher("inactive", GetterDataFetcher.of(MBMessage.class, MBMessage::isInactive))
+                        .dataFetcher("incomplete", GetterDataFetcher.of(MBMessage.class, MBMessage::isIncomplete))
+                        .dataFetcher("pending", GetterDataFetcher.of(MBMessage.class, MBMessage::isPending))
+                        .dataFetcher("scheduled", GetterDataFetcher.of(MBMessage.class, MBMessage::isScheduled))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("MBThread")
+                        .dataFetcher("categoryId", GetterDataFetcher.of(MBThread.class, MBThread::getCategoryId))
+                        .dataFetcher("companyId", GetterDataFetcher.of(MBThread.class, MBThread::getCompanyId))
+                        .dataFetcher("containerModelId", GetterDataFetcher.of(MBThread.class, MBThread::getContainerModelId))
+                        .dataFetcher("containerModelName", GetterDataFetcher.of(MBThread.class, MBThread::getContainerModelName))
+                        .dataFetcher("createDate", GetterDataFetcher.of(MBThread.class, MBThread::getCreateDate))
+                        .dataFetcher("groupId", GetterDataFetcher.of(MBThread.class, MBThread::getGroupId))
+                        .dataFetcher("lastPostByUserId", GetterDataFetcher.of(MBThread.class, MBThread::getLastPostByUserId))
+                        .dataFetcher("lastPostByUserUuid", GetterDataFetcher.of(MBThread.class, MBThread::getLastPostByUserUuid))
+                        .dataFetcher("lastPostDate", GetterDataFetcher.of(MBThread.class, MBThread::getLastPostDate))
+                        .dataFetcher("lastPublishDate", GetterDataFetcher.of(MBThread.class, MBThread::getLastPublishDate))
+                        .dataFetcher("messageCount", GetterDataFetcher.of(MBThread.class, MBThread::getMessageCount))
+                        .dataFetcher("modifiedDate", GetterDataFetcher.of(MBThread.class, MBThread::getModifiedDate))
+                        .dataFetcher("parentContainerModelId", GetterDataFetcher.of(MBThread.class, MBThread::getParentContainerModelId))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(MBThread.class, MBThread::getPrimaryKey))
+                        .dataFetcher("priority", GetterDataFetcher.of(MBThread.class, MBThread::getPriority))
+                        .dataFetcher("question", GetterDataFetcher.of(MBThread.class, MBThread::getQuestion))
+                        .dataFetcher("rootMessageId", GetterDataFetcher.of(MBThread.class, MBThread::getRootMessageId))
+                        .dataFetcher("rootMessageUserId", GetterDataFetcher.of(MBThread.class, MBThread::getRootMessageUserId))
+                        .dataFetcher("rootMessageUserUuid", GetterDataFetcher.of(MBThread.class, MBThread::getRootMessageUserUuid))
+                        .dataFetcher("status", GetterDataFetcher.of(MBThread.class, MBThread::getStatus))
+                        .dataFetcher("statusByUserId", GetterDataFetcher.of(MBThread.class, MBThread::getStatusByUserId))
+                        .dataFetcher("statusByUserName", GetterDataFetcher.of(MBThread.class, MBThread::getStatusByUserName))
+                        .dataFetcher("statusByUserUuid", GetterDataFetcher.of(MBThread.class, MBThread::getStatusByUserUuid))
+                        .dataFetcher("statusDate", GetterDataFetcher.of(MBThread.class, MBThread::getStatusDate))
+                        .dataFetcher("threadId", GetterDataFetcher.of(MBThread.class, MBThread::getThreadId))
+                        .dataFetcher("trashEntryClassPK", GetterDataFetcher.of(MBThread.class, MBThread::getTrashEntryClassPK))
+                        .dataFetcher("userId", GetterDataFetcher.of(MBThread.class, MBThread::getUserId))
+                        .dataFetcher("userName", GetterDataFetcher.of(MBThread.class, MBThread::getUserName))
+                        .dataFetcher("userUuid", GetterDataFetcher.of(MBThread.class, MBThread::getUserUuid))
+                        .dataFetcher("uuid", GetterDataFetcher.of(MBThread.class, MBThread::getUuid))
+                        .dataFetcher("viewCount", GetterDataFetcher.of(MBThread.class, MBThread::getViewCount))
+                        .dataFetcher("approved", GetterDataFetcher.of(MBThread.class, MBThread::isApproved))
+                        .dataFetcher("denied", GetterDataFetcher.of(MBThread.class, MBThread::isDenied))
+                        .dataFetcher("draft", GetterDataFetcher.of(MBThread.class, MBThread::isDraft))
+                        .dataFetcher("expired", GetterDataFetcher.of(MBThread.class, MBThread::isExpired))
+                        .dataFetcher("inTrash", GetterDataFetcher.of(MBThread.class, MBThread::isInTrash))
+                        .dataFetcher("inTrashContainer", GetterDataFetcher.of(MBThread.class, MBThread::isInTrashContainer))
+                        .dataFetcher("inTrashExplicitly", GetterDataFetcher.of(MBThread.class, MBThread::isInTrashExplicitly))
+                        .dataFetcher("inTrashImplicitly", GetterDataFetcher.of(MBThread.class, MBThread::isInTrashImplicitly))
+                        .dataFetcher("inactive", GetterDataFetcher.of(MBThread.class, MBThread::isInactive))
+                        .dataFetcher("incomplete", GetterDataFetcher.of(MBThread.class, MBThread::isIncomplete))
+                        .dataFetcher("pending", GetterDataFetcher.of(MBThread.class, MBThread::isPending))
+                        .dataFetcher("scheduled", GetterDataFetcher.of(MBThread.class, MBThread::isScheduled))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("OAuth2Application")
+                        .dataFetcher("allowedGrantTypes", GetterDataFetcher.of(OAuth2Application.class, OAuth2Application::getAllowedGrantTypes))
+                        .dataFetcher("clientId", GetterDataFetcher.of(OAuth2Application.class, OAuth2Application::getClientId))
+                        .dataFetcher("clientProfile", GetterDataFetcher.of(OAuth2Application.class, OAuth2Application::getClientProfile))
+                        .dataFetcher("clientSecret", GetterDataFetcher.of(OAuth2Application.class, OAuth2Application::getClientSecret))
+                        .dataFetcher("companyId", GetterDataFetcher.of(OAuth2Application.class, OAuth2Application::getCompanyId))
+                        .dataFetcher("createDate", GetterDataFetcher.of(OAuth2Application.class, OAuth2Application::getCreateDate))
+                        .dataFetcher("description", GetterDataFetcher.of(OAuth2Application.class, OAuth2Application::getDescription))
+                        .dataFetcher("features", GetterDataFetcher.of(OAuth2Application.class, OAuth2Application::getFeatures))
+                        .dataFetcher("homePageURL", GetterDataFetcher.of(OAuth2Application.class, OAuth2Application::getHomePageURL))
+                        .dataFetcher("iconFileEntryId", GetterDataFetcher.of(OAuth2Application.class, OAuth2Application::getIconFileEntryId))
+                        .dataFetcher("modifiedDate", GetterDataFetcher.of(OAuth2Application.class, OAuth2Application::getModifiedDate))
+                        .dataFetcher("name", GetterDataFetcher.of(OAuth2Application.class, OAuth2Application::getName))
+                        .dataFetcher("OAuth2ApplicationId", GetterDataFetcher.of(OAuth2Application.class, OAuth2Application::getOAuth2ApplicationId))
+                        .dataFetcher("OAuth2ApplicationScopeAliasesId", GetterDataFetcher.of(OAuth2Application.class, OAuth2Application::getOAuth2ApplicationScopeAliasesId))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(OAuth2Application.class, OAuth2Application::getPrimaryKey))
+                        .dataFetcher("privacyPolicyURL", GetterDataFetcher.of(OAuth2Application.class, OAuth2Application::getPrivacyPolicyURL))
+                        .dataFetcher("redirectURIs", GetterDataFetcher.of(OAuth2Application.class, OAuth2Application::getRedirectURIs))
+                        .dataFetcher("userId", GetterDataFetcher.of(OAuth2Application.class, OAuth2Application::getUserId))
+                        .dataFetcher("userName", GetterDataFetcher.of(OAuth2Application.class, OAuth2Application::getUserName))
+                        .dataFetcher("userUuid", GetterDataFetcher.of(OAuth2Application.class, OAuth2Application::getUserUuid))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("OAuth2ApplicationScopeAliases")
+                        .dataFetcher("companyId", GetterDataFetcher.of(OAuth2ApplicationScopeAliases.class, OAuth2ApplicationScopeAliases::getCompanyId))
+                        .dataFetcher("createDate", GetterDataFetcher.of(OAuth2ApplicationScopeAliases.class, OAuth2ApplicationScopeAliases::getCreateDate))
+                        .dataFetcher("OAuth2ApplicationId", GetterDataFetcher.of(OAuth2ApplicationScopeAliases.class, OAuth2ApplicationScopeAliases::getOAuth2ApplicationId))
+                        .dataFetcher("OAuth2ApplicationScopeAliasesId", GetterDataFetcher.of(OAuth2ApplicationScopeAliases.class, OAuth2ApplicationScopeAliases::getOAuth2ApplicationScopeAliasesId))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(OAuth2ApplicationScopeAliases.class, OAuth2ApplicationScopeAliases::getPrimaryKey))
+                        .dataFetcher("scopeAliases", GetterDataFetcher.of(OAuth2ApplicationScopeAliases.class, OAuth2ApplicationScopeAliases::getScopeAliases))
+                        .dataFetcher("scopeAliasesHash", GetterDataFetcher.of(OAuth2ApplicationScopeAliases.class, OAuth2ApplicationScopeAliases::getScopeAliasesHash))
+                        .dataFetcher("userId", GetterDataFetcher.of(OAuth2ApplicationScopeAliases.class, OAuth2ApplicationScopeAliases::getUserId))
+                        .dataFetcher("userName", GetterDataFetcher.of(OAuth2ApplicationScopeAliases.class, OAuth2ApplicationScopeAliases::getUserName))
+                        .dataFetcher("userUuid", GetterDataFetcher.of(OAuth2ApplicationScopeAliases.class, OAuth2ApplicationScopeAliases::getUserUuid))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("OAuth2Authorization")
+                        .dataFetcher("accessTokenContent", GetterDataFetcher.of(OAuth2Authorization.class, OAuth2Authorization::getAccessTokenContent))
+                        .dataFetcher("accessTokenContentHash", GetterDataFetcher.of(OAuth2Authorization.class, OAuth2Authorization::getAccessTokenContentHash))
+                        .dataFetcher("accessTokenCreateDate", GetterDataFetcher.of(OAuth2Authorization.class, OAuth2Authorization::getAccessTokenCreateDate))
+                        .dataFetcher("accessTokenExpirationDate", GetterDataFetcher.of(OAuth2Authorization.class, OAuth2Authorization::getAccessTokenExpirationDate))
+                        .dataFetcher("companyId", GetterDataFetcher.of(OAuth2Authorization.class, OAuth2Authorization::getCompanyId))
+                        .dataFetcher("createDate", GetterDataFetcher.of(OAuth2Authorization.class, OAuth2Authorization::getCreateDate))
+                        .dataFetcher("OAuth2ApplicationId", GetterDataFetcher.of(OAuth2Authorization.class, OAuth2Authorization::getOAuth2ApplicationId))
+                        .dataFetcher("OAuth2ApplicationScopeAliasesId", GetterDataFetcher.of(OAuth2Authorization.class, OAuth2Authorization::getOAuth2ApplicationScopeAliasesId))
+                        .dataFetcher("OAuth2AuthorizationId", GetterDataFetcher.of(OAuth2Authorization.class, OAuth2Authorization::getOAuth2AuthorizationId))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(OAuth2Authorization.class, OAuth2Authorization::getPrimaryKey))
+                        .dataFetcher("refreshTokenContent", GetterDataFetcher.of(OAuth2Authorization.class, OAuth2Authorization::getRefreshTokenContent))
+                        .dataFetcher("refreshTokenContentHash", GetterDataFetcher.of(OAuth2Authorization.class, OAuth2Authorization::getRefreshTokenContentHash))
+                        .dataFetcher("refreshTokenCreateDate", GetterDataFetcher.of(OAuth2Authorization.class, OAuth2Authorization::getRefreshTokenCreateDate))
+                        .dataFetcher("refreshTokenExpirationDate", GetterDataFetcher.of(OAuth2Authorization.class, OAuth2Authorization::getRefreshTokenExpirationDate))
+                        .dataFetcher("remoteIPInfo", GetterDataFetcher.of(OAuth2Authorization.class, OAuth2Authorization::getRemoteIPInfo))
+                        .dataFetcher("userId", GetterDataFetcher.of(OAuth2Authorization.class, OAuth2Authorization::getUserId))
+                        .dataFetcher("userName", GetterDataFetcher.of(OAuth2Authorization.class, OAuth2Authorization::getUserName))
+                        .dataFetcher("userUuid", GetterDataFetcher.of(OAuth2Authorization.class, OAuth2Authorization::getUserUuid))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("OAuth2ScopeGrant")
+                        .dataFetcher("applicationName", GetterDataFetcher.of(OAuth2ScopeGrant.class, OAuth2ScopeGrant::getApplicationName))
+                        .dataFetcher("bundleSymbolicName", GetterDataFetcher.of(OAuth2ScopeGrant.class, OAuth2ScopeGrant::getBundleSymbolicName))
+                        .dataFetcher("companyId", GetterDataFetcher.of(OAuth2ScopeGrant.class, OAuth2ScopeGrant::getCompanyId))
+                        .dataFetcher("OAuth2ApplicationScopeAliasesId", GetterDataFetcher.of(OAuth2ScopeGrant.class, OAuth2ScopeGrant::getOAuth2ApplicationScopeAliasesId))
+                        .dataFetcher("OAuth2ScopeGrantId", GetterDataFetcher.of(OAuth2ScopeGrant.class, OAuth2ScopeGrant::getOAuth2ScopeGrantId))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(OAuth2ScopeGrant.class, OAuth2ScopeGrant::getPrimaryKey))
+                        .dataFetcher("scope", GetterDataFetcher.of(OAuth2ScopeGrant.class, OAuth2ScopeGrant::getScope))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("Address")
+                        .dataFetcher("addressId", GetterDataFetcher.of(Address.class, Address::getAddressId))
+                        .dataFetcher("city", GetterDataFetcher.of(Address.class, Address::getCity))
+                        .dataFetcher("className", GetterDataFetcher.of(Address.class, Address::getClassName))
+                        .dataFetcher("classNameId", GetterDataFetcher.of(Address.class, Address::getClassNameId))
+                        .dataFetcher("classPK", GetterDataFetcher.of(Address.class, Address::getClassPK))
+                        .dataFetcher("companyId", GetterDataFetcher.of(Address.class, Address::getCompanyId))
+                        .dataFetcher("countryId", GetterDataFetcher.of(Address.class, Address::getCountryId))
+                        .dataFetcher("createDate", GetterDataFetcher.of(Address.class, Address::getCreateDate))
+                        .dataFetcher("mailing", GetterDataFetcher.of(Address.class, Address::getMailing))
+                        .dataFetcher("modifiedDate", GetterDataFetcher.of(Address.class, Address::getModifiedDate))
+                        .dataFetcher("mvccVersion", GetterDataFetcher.of(Address.class, Address::getMvccVersion))
+                        .dataFetcher("primary", GetterDataFetcher.of(Address.class, Address::getPrimary))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(Address.class, Address::getPrimaryKey))
+                        .dataFetcher("regionId", GetterDataFetcher.of(Address.class, Address::getRegionId))
+                        .dataFetcher("street1", GetterDataFetcher.of(Address.class, Address::getStreet1))
+                        .dataFetcher("street2", GetterDataFetcher.of(Address.class, Address::getStreet2))
+                        .dataFetcher("street3", GetterDataFetcher.of(Address.class, Address::getStreet3))
+                        .dataFetcher("typeId", GetterDataFetcher.of(Address.class, Address::getTypeId))
+                        .dataFetcher("userId", GetterDataFetcher.of(Address.class, Address::getUserId))
+                        .dataFetcher("userName", GetterDataFetcher.of(Address.class, Address::getUserName))
+                        .dataFetcher("userUuid", GetterDataFetcher.of(Address.class, Address::getUserUuid))
+                        .dataFetcher("uuid", GetterDataFetcher.of(Address.class, Address::getUuid))
+                        .dataFetcher("zip", GetterDataFetcher.of(Address.class, Address::getZip))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("ClassName")
+                        .dataFetcher("className", GetterDataFetcher.of(ClassName.class, ClassName::getClassName))
+                        .dataFetcher("classNameId", GetterDataFetcher.of(ClassName.class, ClassName::getClassNameId))
+                        .dataFetcher("mvccVersion", GetterDataFetcher.of(ClassName.class, ClassName::getMvccVersion))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(ClassName.class, ClassName::getPrimaryKey))
+                        .dataFetcher("value", GetterDataFetcher.of(ClassName.class, ClassName::getValue))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("Company")
+                        .dataFetcher("accountId", GetterDataFetcher.of(Company.class, Company::getAccountId))
+                        .dataFetcher("active", GetterDataFetcher.of(Company.class, Company::getActive))
+                        .dataFetcher("companyId", GetterDataFetcher.of(Company.class, Company::getCompanyId))
+                        .dataFetcher("homeURL", GetterDataFetcher.of(Company.class, Company::getHomeURL))
+                        .dataFetcher("key", GetterDataFetcher.of(Company.class, Company::getKey))
+                        .dataFetcher("logoId", GetterDataFetcher.of(Company.class, Company::getLogoId))
+                        .dataFetcher("maxUsers", GetterDataFetcher.of(Company.class, Company::getMaxUsers))
+                        .dataFetcher("mvccVersion", GetterDataFetcher.of(Company.class, Company::getMvccVersion))
+                        .dataFetcher("mx", GetterDataFetcher.of(Company.class, Company::getMx))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(Company.class, Company::getPrimaryKey))
+                        .dataFetcher("system", GetterDataFetcher.of(Company.class, Company::getSystem))
+                        .dataFetcher("webId", GetterDataFetcher.of(Company.class, Company::getWebId))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("Contact")
+                        .dataFetcher("accountId", GetterDataFetcher.of(Contact.class, Contact::getAccountId))
+                        .dataFetcher("birthday", GetterDataFetcher.of(Contact.class, Contact::getBirthday))
+                        .dataFetcher("className", GetterDataFetcher.of(Contact.class, Contact::getClassName))
+                        .dataFetcher("classNameId", GetterDataFetcher.of(Contact.class, Contact::getClassNameId))
+                        .dataFetcher("classPK", GetterDataFetcher.of(Contact.class, Contact::getClassPK))
+                        .dataFetcher("companyId", GetterDataFetcher.of(Contact.class, Contact::getCompanyId))
+                        .dataFetcher("contactId", GetterDataFetcher.of(Contact.class, Contact::getContactId))
+                        .dataFetcher("createDate", GetterDataFetcher.of(Contact.class, Contact::getCreateDate))
+                        .dataFetcher("emailAddress", GetterDataFetcher.of(Contact.class, Contact::getEmailAddress))
+                        .dataFetcher("employeeNumber", GetterDataFetcher.of(Contact.class, Contact::getEmployeeNumber))
+                        .dataFetcher("employeeStatusId", GetterDataFetcher.of(Contact.class, Contact::getEmployeeStatusId))
+                        .dataFetcher("facebookSn", GetterDataFetcher.of(Contact.class, Contact::getFacebookSn))
+                        .dataFetcher("firstName", GetterDataFetcher.of(Contact.class, Contact::getFirstName))
+                        .dataFetcher("hoursOfOperation", GetterDataFetcher.of(Contact.class, Contact::getHoursOfOperation))
+                        .dataFetcher("jabberSn", GetterDataFetcher.of(Contact.class, Contact::getJabberSn))
+                        .dataFetcher("jobClass", GetterDataFetcher.of(Contact.class, Contact::getJobClass))
+                        .dataFetcher("jobTitle", GetterDataFetcher.of(Contact.class, Contact::getJobTitle))
+                        .dataFetcher("lastName", GetterDataFetcher.of(Contact.class, Contact::getLastName))
+                        .dataFetcher("male", GetterDataFetcher.of(Contact.class, Contact::getMale))
+                        .dataFetcher("middleName", GetterDataFetcher.of(Contact.class, Contact::getMiddleName))
+                        .dataFetcher("modifiedDate", GetterDataFetcher.of(Contact.class, Contact::getModifiedDate))
+                        .dataFetcher("mvccVersion", GetterDataFetcher.of(Contact.class, Contact::getMvccVersion))
+                        .dataFetcher("parentContactId", GetterDataFetcher.of(Contact.class, Contact::getParentContactId))
+                        .dataFetcher("prefixId", GetterDataFetcher.of(Contact.class, Contact::getPrefixId))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(Contact.class, Contact::getPrimaryKey))
+                        .dataFetcher("skypeSn", GetterDataFetcher.of(Contact.class, Contact::getSkypeSn))
+                        .dataFetcher("smsSn", GetterDataFetcher.of(Contact.class, Contact::getSmsSn))
+                        .dataFetcher("suffixId", GetterDataFetcher.of(Contact.class, Contact::getSuffixId))
+                        .dataFetcher("twitterSn", GetterDataFetcher.of(Contact.class, Contact::getTwitterSn))
+                        .dataFetcher("userId", GetterDataFetcher.of(Contact.class, Contact::getUserId))
+                        .dataFetcher("userName", GetterDataFetcher.of(Contact.class, Contact::getUserName))
+                        .dataFetcher("userUuid", GetterDataFetcher.of(Contact.class, Contact::getUserUuid))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("Country")
+                        .dataFetcher("a2", GetterDataFetcher.of(Country.class, Country::getA2))
+                        .dataFetcher("a3", GetterDataFetcher.of(Country.class, Country::getA3))
+                        .dataFetcher("active", GetterDataFetcher.of(Country.class, Country::getActive))
+                        .dataFetcher("countryId", GetterDataFetcher.of(Country.class, Country::getCountryId))
+                        .dataFetcher("idd", GetterDataFetcher.of(Country.class, Country::getIdd))
+                        .dataFetcher("mvccVersion", GetterDataFetcher.of(Country.class, Country::getMvccVersion))
+                        .dataFetcher("name", GetterDataFetcher.of(Country.class, Country::getName))
+                        .dataFetcher("number", GetterDataFetcher.of(Country.class, Country::getNumber))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(Country.class, Country::getPrimaryKey))
+                        .dataFetcher("zipRequired", GetterDataFetcher.of(Country.class, Country::getZipRequired))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("EmailAddress")
+                        .dataFetcher("address", GetterDataFetcher.of(EmailAddress.class, EmailAddress::getAddress))
+                        .dataFetcher("className", GetterDataFetcher.of(EmailAddress.class, EmailAddress::getClassName))
+                        .dataFetcher("classNameId", GetterDataFetcher.of(EmailAddress.class, EmailAddress::getClassNameId))
+                        .dataFetcher("classPK", GetterDataFetcher.of(EmailAddress.class, EmailAddress::getClassPK))
+                        .dataFetcher("companyId", GetterDataFetcher.of(EmailAddress.class, EmailAddress::getCompanyId))
+                        .dataFetcher("createDate", GetterDataFetcher.of(EmailAddress.class, EmailAddress::getCreateDate))
+                        .dataFetcher("emailAddressId", GetterDataFetcher.of(EmailAddress.class, EmailAddress::getEmailAddressId))
+                        .dataFetcher("modifiedDate", GetterDataFetcher.of(EmailAddress.class, EmailAddress::getModifiedDate))
+                        .dataFetcher("mvccVersion", GetterDataFetcher.of(EmailAddress.class, EmailAddress::getMvccVersion))
+                        .dataFetcher("primary", GetterDataFetcher.of(EmailAddress.class, EmailAddress::getPrimary))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(EmailAddress.class, EmailAddress::getPrimaryKey))
+                        .dataFetcher("typeId", GetterDataFetcher.of(EmailAddress.class, EmailAddress::getTypeId))
+                        .dataFetcher("userId", GetterDataFetcher.of(EmailAddress.class, EmailAddress::getUserId))
+                        .dataFetcher("userName", GetterDataFetcher.of(EmailAddress.class, EmailAddress::getUserName))
+                        .dataFetcher("userUuid", GetterDataFetcher.of(EmailAddress.class, EmailAddress::getUserUuid))
+                        .dataFetcher("uuid", GetterDataFetcher.of(EmailAddress.class, EmailAddress::getUuid))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("Group")
+                        .dataFetcher("active", GetterDataFetcher.of(Group.class, Group::getActive))
+                        .dataFetcher("availableLanguageIds", GetterDataFetcher.of(Group.class, Group::getAvailableLanguageIds))
+                        .dataFetcher("className", GetterDataFetcher.of(Group.class, Group::getClassName))
+                        .dataFetcher("classNameId", GetterDataFetcher.of(Group.class, Group::getClassNameId))
+                        .dataFetcher("classPK", GetterDataFetcher.of(Group.class, Group::getClassPK))
+                        .dataFetcher("companyId", GetterDataFetcher.of(Group.class, Group::getCompanyId))
+                        .dataFetcher("creatorUserId", GetterDataFetcher.of(Group.class, Group::getCreatorUserId))
+                        .dataFetcher("creatorUserUuid", GetterDataFetcher.of(Group.class, Group::getCreatorUserUuid))
+                        .dataFetcher("defaultLanguageId", GetterDataFetcher.of(Group.class, Group::getDefaultLanguageId))
+                        .dataFetcher("description", GetterDataFetcher.of(Group.class, Group::getDescription))
+                        .dataFetcher("descriptionCurrentLanguageId", GetterDataFetcher.of(Group.class, Group::getDescriptionCurrentLanguageId))
+                        .dataFetcher("descriptionCurrentValue", GetterDataFetcher.of(Group.class, Group::getDescriptionCurrentValue))
+                        .dataFetcher("descriptionMap", GetterDataFetcher.of(Group.class, Group::getDescriptionMap))
+                        .dataFetcher("friendlyURL", GetterDataFetcher.of(Group.class, Group::getFriendlyURL))
+                        .dataFetcher("groupId", GetterDataFetcher.of(Group.class, Group::getGroupId))
+                        .dataFetcher("groupKey", GetterDataFetcher.of(Group.class, Group::getGroupKey))
+                        .dataFetcher("inheritContent", GetterDataFetcher.of(Group.class, Group::getInheritContent))
+                        .dataFetcher("liveGroupId", GetterDataFetcher.of(Group.class, Group::getLiveGroupId))
+                        .dataFetcher("manualMembership", GetterDataFetcher.of(Group.class, Group::getManualMembership))
+                        .dataFetcher("membershipRestriction", GetterDataFetcher.of(Group.class, Group::getMembershipRestriction))
+                        .dataFetcher("mvccVersion", GetterDataFetcher.of(Group.class, Group::getMvccVersion))
+                        .dataFetcher("name", GetterDataFetcher.of(Group.class, Group::getName))
+                        .dataFetcher("nameCurrentLanguageId", GetterDataFetcher.of(Group.class, Group::getNameCurrentLanguageId))
+                        .dataFetcher("nameCurrentValue", GetterDataFetcher.of(Group.class, Group::getNameCurrentValue))
+                        .dataFetcher("nameMap", GetterDataFetcher.of(Group.class, Group::getNameMap))
+                        .dataFetcher("parentGroupId", GetterDataFetcher.of(Group.class, Group::getParentGroupId))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(Group.class, Group::getPrimaryKey))
+                        .dataFetcher("remoteStagingGroupCount", GetterDataFetcher.of(Group.class, Group::getRemoteStagingGroupCount))
+                        .dataFetcher("site", GetterDataFetcher.of(Group.class, Group::getSite))
+                        .dataFetcher("treePath", GetterDataFetcher.of(Group.class, Group::getTreePath))
+                        .dataFetcher("type", GetterDataFetcher.of(Group.class, Group::getType))
+                        .dataFetcher("typeSettings", GetterDataFetcher.of(Group.class, Group::getTypeSettings))
+                        .dataFetcher("uuid", GetterDataFetcher.of(Group.class, Group::getUuid))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("Layout")
+                        .dataFetcher("availableLanguageIds", GetterDataFetcher.of(Layout.class, Layout::getAvailableLanguageIds))
+                        .dataFetcher("colorSchemeId", GetterDataFetcher.of(Layout.class, Layout::getColorSchemeId))
+                        .dataFetcher("companyId", GetterDataFetcher.of(Layout.class, Layout::getCompanyId))
+                        .dataFetcher("createDate", GetterDataFetcher.of(Layout.class, Layout::getCreateDate))
+                        .dataFetcher("css", GetterDataFetcher.of(Layout.class, Layout::getCss))
+                        .dataFetcher("defaultLanguageId", GetterDataFetcher.of(Layout.class, Layout::getDefaultLanguageId))
+                        .dataFetcher("description", GetterDataFetcher.of(Layout.class, Layout::getDescription))
+                        .dataFetcher("descriptionCurrentLanguageId", GetterDataFetcher.of(Layout.class, Layout::getDescriptionCurrentLanguageId))
+                        .dataFetcher("descriptionCurrentValue", GetterDataFetcher.of(Layout.class, Layout::getDescriptionCurrentValue))
+                        .dataFetcher("descriptionMap", GetterDataFetcher.of(Layout.class, Layout::getDescriptionMap))
+                        .dataFetcher("friendlyURL", GetterDataFetcher.of(Layout.class, Layout::getFriendlyURL))
+                        .dataFetcher("groupId", GetterDataFetcher.of(Layout.class, Layout::getGroupId))
+                        .dataFetcher("hidden", GetterDataFetcher.of(Layout.class, Layout::getHidden))
+                        .dataFetcher("iconImageId", GetterDataFetcher.of(Layout.class, Layout::getIconImageId))
+                        .dataFetcher("keywords", GetterDataFetcher.of(Layout.class, Layout::getKeywords))
+                        .dataFetcher("keywordsCurrentLanguageId", GetterDataFetcher.of(Layout.class, Layout::getKeywordsCurrentLanguageId))
+                        .dataFetcher("keywordsCurrentValue", GetterDataFetcher.of(Layout.class, Layout::getKeywordsCurrentValue))
+                        .dataFetcher("keywordsMap", GetterDataFetcher.of(Layout.class, Layout::getKeywordsMap))
+                        .dataFetcher("lastPublishDate", GetterDataFetcher.of(Layout.class, Layout::getLastPublishDate))
+                        .dataFetcher("layoutId", GetterDataFetcher.of(Layout.class, Layout::getLayoutId))
+                        .dataFetcher("layoutPrototypeLinkEnabled", GetterDataFetcher.of(Layout.class, Layout::getLayoutPrototypeLinkEnabled))
+                        .dataFetcher("layoutPrototypeUuid", GetterDataFetcher.of(Layout.class, Layout::getLayoutPrototypeUuid))
+                        .dataFetcher("modifiedDate", GetterDataFetcher.of(Layout.class, Layout::getModifiedDate))
+                        .dataFetcher("mvccVersion", GetterDataFetcher.of(Layout.class, Layout::getMvccVersion))
+                        .dataFetcher("name", GetterDataFetcher.of(Layout.class, Layout::getName))
+                        .dataFetcher("nameCurrentLanguageId", GetterDataFetcher.of(Layout.class, Layout::getNameCurrentLanguageId))
+                        .dataFetcher("nameCurrentValue", GetterDataFetcher.of(Layout.class, Layout::getNameCurrentValue))
+                        .dataFetcher("nameMap", GetterDataFetcher.of(Layout.class, Layout::getNameMap))
+                        .dataFetcher("parentLayoutId", GetterDataFetcher.of(Layout.class, Layout::getParentLayoutId))
+                        .dataFetcher("plid", GetterDataFetcher.of(Layout.class, Layout::getPlid))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(Layout.class, Layout::getPrimaryKey))
+                        .dataFetcher("priority", GetterDataFetcher.of(Layout.class, Layout::getPriority))
+                        .dataFetcher("privateLayout", GetterDataFetcher.of(Layout.class, Layout::getPrivateLayout))
+                        .dataFetcher("robots", GetterDataFetcher.of(Layout.class, Layout::getRobots))
+                        .dataFetcher("robotsCurrentLanguageId", GetterDataFetcher.of(Layout.class, Layout::getRobotsCurrentLanguageId))
+                        .dataFetcher("robotsCurrentValue", GetterDataFetcher.of(Layout.class, Layout::getRobotsCurrentValue))
+                        .dataFetcher("robotsMap", GetterDataFetcher.of(Layout.class, Layout::getRobotsMap))
+                        .dataFetcher("sourcePrototypeLayoutUuid", GetterDataFetcher.of(Layout.class, Layout::getSourcePrototypeLayoutUuid))
+                        .dataFetcher("themeId", GetterDataFetcher.of(Layout.class, Layout::getThemeId))
+                        .dataFetcher("title", GetterDataFetcher.of(Layout.class, Layout::getTitle))
+                        .dataFetcher("titleCurrentLanguageId", GetterDataFetcher.of(Layout.class, Layout::getTitleCurrentLanguageId))
+                        .dataFetcher("titleCurrentValue", GetterDataFetcher.of(Layout.class, Layout::getTitleCurrentValue))
+                        .dataFetcher("titleMap", GetterDataFetcher.of(Layout.class, Layout::getTitleMap))
+                        .dataFetcher("type", GetterDataFetcher.of(Layout.class, Layout::getType))
+                        .dataFetcher("typeSettings", GetterDataFetcher.of(Layout.class, Layout::getTypeSettings))
+                        .dataFetcher("userId", GetterDataFetcher.of(Layout.class, Layout::getUserId))
+                        .dataFetcher("userName", GetterDataFetcher.of(Layout.class, Layout::getUserName))
+                        .dataFetcher("userUuid", GetterDataFetcher.of(Layout.class, Layout::getUserUuid))
+                        .dataFetcher("uuid", GetterDataFetcher.of(Layout.class, Layout::getUuid))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("ListType")
+                        .dataFetcher("listTypeId", GetterDataFetcher.of(ListType.class, ListType::getListTypeId))
+                        .dataFetcher("mvccVersion", GetterDataFetcher.of(ListType.class, ListType::getMvccVersion))
+                        .dataFetcher("name", GetterDataFetcher.of(ListType.class, ListType::getName))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(ListType.class, ListType::getPrimaryKey))
+                        .dataFetcher("type", GetterDataFetcher.of(ListType.class, ListType::getType))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("Organization")
+                        .dataFetcher("comments", GetterDataFetcher.of(Organization.class, Organization::getComments))
+                        .dataFetcher("companyId", GetterDataFetcher.of(Organization.class, Organization::getCompanyId))
+                        .dataFetcher("countryId", GetterDataFetcher.of(Organization.class, Organization::getCountryId))
+                        .dataFetcher("createDate", GetterDataFetcher.of(Organization.class, Organization::getCreateDate))
+                        .dataFetcher("externalReferenceCode", GetterDataFetcher.of(Organization.class, Organization::getExternalReferenceCode))
+                        .dataFetcher("logoId", GetterDataFetcher.of(Organization.class, Organization::getLogoId))
+                        .dataFetcher("modifiedDate", GetterDataFetcher.of(Organization.class, Organization::getModifiedDate))
+                        .dataFetcher("mvccVersion", GetterDataFetcher.of(Organization.class, Organization::getMvccVersion))
+                        .dataFetcher("name", GetterDataFetcher.of(Organization.class, Organization::getName))
+                        .dataFetcher("organizationId", GetterDataFetcher.of(Organization.class, Organization::getOrganizationId))
+                        .dataFetcher("parentOrganizationId", GetterDataFetcher.of(Organization.class, Organization::getParentOrganizationId))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(Organization.class, Organization::getPrimaryKey))
+                        .dataFetcher("recursable", GetterDataFetcher.of(Organization.class, Organization::getRecursable))
+                        .dataFetcher("regionId", GetterDataFetcher.of(Organization.class, Organization::getRegionId))
+                        .dataFetcher("statusId", GetterDataFetcher.of(Organization.class, Organization::getStatusId))
+                        .dataFetcher("treePath", GetterDataFetcher.of(Organization.class, Organization::getTreePath))
+                        .dataFetcher("type", GetterDataFetcher.of(Organization.class, Organization::getType))
+                        .dataFetcher("userId", GetterDataFetcher.of(Organization.class, Organization::getUserId))
+                        .dataFetcher("userName", GetterDataFetcher.of(Organization.class, Organization::getUserName))
+                        .dataFetcher("userUuid", GetterDataFetcher.of(Organization.class, Organization::getUserUuid))
+                        .dataFetcher("uuid", GetterDataFetcher.of(Organization.class, Organization::getUuid))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("Phone")
+                        .dataFetcher("className", GetterDataFetcher.of(Phone.class, Phone::getClassName))
+                        .dataFetcher("classNameId", GetterDataFetcher.of(Phone.class, Phone::getClassNameId))
+                        .dataFetcher("classPK", GetterDataFetcher.of(Phone.class, Phone::getClassPK))
+                        .dataFetcher("companyId", GetterDataFetcher.of(Phone.class, Phone::getCompanyId))
+                        .dataFetcher("createDate", GetterDataFetcher.of(Phone.class, Phone::getCreateDate))
+                        .dataFetcher("extension", GetterDataFetcher.of(Phone.class, Phone::getExtension))
+                        .dataFetcher("modifiedDate", GetterDataFetcher.of(Phone.class, Phone::getModifiedDate))
+                        .dataFetcher("mvccVersion", GetterDataFetcher.of(Phone.class, Phone::getMvccVersion))
+                        .dataFetcher("number", GetterDataFetcher.of(Phone.class, Phone::getNumber))
+                        .dataFetcher("phoneId", GetterDataFetcher.of(Phone.class, Phone::getPhoneId))
+                        .dataFetcher("primary", GetterDataFetcher.of(Phone.class, Phone::getPrimary))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(Phone.class, Phone::getPrimaryKey))
+                        .dataFetcher("typeId", GetterDataFetcher.of(Phone.class, Phone::getTypeId))
+                        .dataFetcher("userId", GetterDataFetcher.of(Phone.class, Phone::getUserId))
+                        .dataFetcher("userName", GetterDataFetcher.of(Phone.class, Phone::getUserName))
+                        .dataFetcher("userUuid", GetterDataFetcher.of(Phone.class, Phone::getUserUuid))
+                        .dataFetcher("uuid", GetterDataFetcher.of(Phone.class, Phone::getUuid))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("Region")
+                        .dataFetcher("active", GetterDataFetcher.of(Region.class, Region::getActive))
+                        .dataFetcher("countryId", GetterDataFetcher.of(Region.class, Region::getCountryId))
+                        .dataFetcher("mvccVersion", GetterDataFetcher.of(Region.class, Region::getMvccVersion))
+                        .dataFetcher("name", GetterDataFetcher.of(Region.class, Region::getName))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(Region.class, Region::getPrimaryKey))
+                        .dataFetcher("regionCode", GetterDataFetcher.of(Region.class, Region::getRegionCode))
+                        .dataFetcher("regionId", GetterDataFetcher.of(Region.class, Region::getRegionId))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("Role")
+                        .dataFetcher("availableLanguageIds", GetterDataFetcher.of(Role.class, Role::getAvailableLanguageIds))
+                        .dataFetcher("className", GetterDataFetcher.of(Role.class, Role::getClassName))
+                        .dataFetcher("classNameId", GetterDataFetcher.of(Role.class, Role::getClassNameId))
+                        .dataFetcher("classPK", GetterDataFetcher.of(Role.class, Role::getClassPK))
+                        .dataFetcher("companyId", GetterDataFetcher.of(Role.class, Role::getCompanyId))
+                        .dataFetcher("createDate", GetterDataFetcher.of(Role.class, Role::getCreateDate))
+                        .dataFetcher("defaultLanguageId", GetterDataFetcher.of(Role.class, Role::getDefaultLanguageId))
+                        .dataFetcher("description", GetterDataFetcher.of(Role.class, Role::getDescription))
+                        .dataFetcher("descriptionCurrentLanguageId", GetterDataFetcher.of(Role.class, Role::getDescriptionCurrentLanguageId))
+                        .dataFetcher("descriptionCurrentValue", GetterDataFetcher.of(Role.class, Role::getDescriptionCurrentValue))
+                        .dataFetcher("descriptionMap", GetterDataFetcher.of(Role.class, Role::getDescriptionMap))
+                        .dataFetcher("modifiedDate", GetterDataFetcher.of(Role.class, Role::getModifiedDate))
+                        .dataFetcher("mvccVersion", GetterDataFetcher.of(Role.class, Role::getMvccVersion))
+                        .dataFetcher("name", GetterDataFetcher.of(Role.class, Role::getName))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(Role.class, Role::getPrimaryKey))
+                        .dataFetcher("roleId", GetterDataFetcher.of(Role.class, Role::getRoleId))
+                        .dataFetcher("subtype", GetterDataFetcher.of(Role.class, Role::getSubtype))
+                        .dataFetcher("title", GetterDataFetcher.of(Role.class, Role::getTitle))
+                        .dataFetcher("titleCurrentLanguageId", GetterDataFetcher.of(Role.class, Role::getTitleCurrentLanguageId))
+                        .dataFetcher("titleCurrentValue", GetterDataFetcher.of(Role.class, Role::getTitleCurrentValue))
+                        .dataFetcher("titleMap", GetterDataFetcher.of(Role.class, Role::getTitleMap))
+                        .dataFetcher("type", GetterDataFetcher.of(Role.class, Role::getType))
+                        .dataFetcher("userId", GetterDataFetcher.of(Role.class, Role::getUserId))
+                        .dataFetcher("userName", GetterDataFetcher.of(Role.class, Role::getUserName))
+                        .dataFetcher("userUuid", GetterDataFetcher.of(Role.class, Role::getUserUuid))
+                        .dataFetcher("uuid", GetterDataFetcher.of(Role.class, Role::getUuid))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("User")
+                        .dataFetcher("agreedToTermsOfUse", GetterDataFetcher.of(User.class, User::getAgreedToTermsOfUse))
+                        .dataFetcher("comments", GetterDataFetcher.of(User.class, User::getComments))
+                        .dataFetcher("companyId", GetterDataFetcher.of(User.class, User::getCompanyId))
+                        .dataFetcher("contactId", GetterDataFetcher.of(User.class, User::getContactId))
+                        .dataFetcher("createDate", GetterDataFetcher.of(User.class, User::getCreateDate))
+                        .dataFetcher("defaultUser", GetterDataFetcher.of(User.class, User::getDefaultUser))
+                        .dataFetcher("digest", GetterDataFetcher.of(User.class, User::getDigest))
+                        .dataFetcher("emailAddress", GetterDataFetcher.of(User.class, User::getEmailAddress))
+                        .dataFetcher("emailAddressVerified", GetterDataFetcher.of(User.class, User::getEmailAddressVerified))
+                        .dataFetcher("externalReferenceCode", GetterDataFetcher.of(User.class, User::getExternalReferenceCode))
+                        .dataFetcher("facebookId", GetterDataFetcher.of(User.class, User::getFacebookId))
+                        .dataFetcher("failedLoginAttempts", GetterDataFetcher.of(User.class, User::getFailedLoginAttempts))
+                        .dataFetcher("firstName", GetterDataFetcher.of(User.class, User::getFirstName))
+                        .dataFetcher("googleUserId", GetterDataFetcher.of(User.class, User::getGoogleUserId))
+                        .dataFetcher("graceLoginCount", GetterDataFetcher.of(User.class, User::getGraceLoginCount))
+                        .dataFetcher("greeting", GetterDataFetcher.of(User.class, User::getGreeting))
+                        .dataFetcher("jobTitle", GetterDataFetcher.of(User.class, User::getJobTitle))
+                        .dataFetcher("languageId", GetterDataFetcher.of(User.class, User::getLanguageId))
+                        .dataFetcher("lastFailedLoginDate", GetterDataFetcher.of(User.class, User::getLastFailedLoginDate))
+                        .dataFetcher("lastLoginDate", GetterDataFetcher.of(User.class, User::getLastLoginDate))
+                        .dataFetcher("lastLoginIP", GetterDataFetcher.of(User.class, User::getLastLoginIP))
+                        .dataFetcher("lastName", GetterDataFetcher.of(User.class, User::getLastName))
+                        .dataFetcher("ldapServerId", GetterDataFetcher.of(User.class, User::getLdapServerId))
+                        .dataFetcher("lockout", GetterDataFetcher.of(User.class, User::getLockout))
+                        .dataFetcher("lockoutDate", GetterDataFetcher.of(User.class, User::getLockoutDate))
+                        .dataFetcher("loginDate", GetterDataFetcher.of(User.class, User::getLoginDate))
+                        .dataFetcher("loginIP", GetterDataFetcher.of(User.class, User::getLoginIP))
+                        .dataFetcher("middleName", GetterDataFetcher.of(User.class, User::getMiddleName))
+                        .dataFetcher("modifiedDate", GetterDataFetcher.of(User.class, User::getModifiedDate))
+                        .dataFetcher("mvccVersion", GetterDataFetcher.of(User.class, User::getMvccVersion))
+                        .dataFetcher("openId", GetterDataFetcher.of(User.class, User::getOpenId))
+                        .dataFetcher("password", GetterDataFetcher.of(User.class, User::getPassword))
+                        .dataFetcher("passwordEncrypted", GetterDataFetcher.of(User.class, User::getPasswordEncrypted))
+                        .dataFetcher("passwordModifiedDate", GetterDataFetcher.of(User.class, User::getPasswordModifiedDate))
+                        .dataFetcher("passwordReset", GetterDataFetcher.of(User.class, User::getPasswordReset))
+                        .dataFetcher("portraitId", GetterDataFetcher.of(User.class, User::getPortraitId))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(User.class, User::getPrimaryKey))
+                        .dataFetcher("reminderQueryAnswer", GetterDataFetcher.of(User.class, User::getReminderQueryAnswer))
+                        .dataFetcher("reminderQueryQuestion", GetterDataFetcher.of(User.class, User::getReminderQueryQuestion))
+                        .dataFetcher("screenName", GetterDataFetcher.of(User.class, User::getScreenName))
+                        .dataFetcher("status", GetterDataFetcher.of(User.class, User::getStatus))
+                        .dataFetcher("timeZoneId", GetterDataFetcher.of(User.class, User::getTimeZoneId))
+                        .dataFetcher("userId", GetterDataFetcher.of(User.class, User::getUserId))
+                        .dataFetcher("userUuid", GetterDataFetcher.of(User.class, User::getUserUuid))
+                        .dataFetcher("uuid", GetterDataFetcher.of(User.class, User::getUuid))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("UserGroup")
+                        .dataFetcher("addedByLDAPImport", GetterDataFetcher.of(UserGroup.class, UserGroup::getAddedByLDAPImport))
+                        .dataFetcher("companyId", GetterDataFetcher.of(UserGroup.class, UserGroup::getCompanyId))
+                        .dataFetcher("createDate", GetterDataFetcher.of(UserGroup.class, UserGroup::getCreateDate))
+                        .dataFetcher("description", GetterDataFetcher.of(UserGroup.class, UserGroup::getDescription))
+                        .dataFetcher("externalReferenceCode", GetterDataFetcher.of(UserGroup.class, UserGroup::getExternalReferenceCode))
+                        .dataFetcher("modifiedDate", GetterDataFetcher.of(UserGroup.class, UserGroup::getModifiedDate))
+                        .dataFetcher("mvccVersion", GetterDataFetcher.of(UserGroup.class, UserGroup::getMvccVersion))
+                        .dataFetcher("name", GetterDataFetcher.of(UserGroup.class, UserGroup::getName))
+                        .dataFetcher("parentUserGroupId", GetterDataFetcher.of(UserGroup.class, UserGroup::getParentUserGroupId))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(UserGroup.class, UserGroup::getPrimaryKey))
+                        .dataFetcher("userGroupId", GetterDataFetcher.of(UserGroup.class, UserGroup::getUserGroupId))
+                        .dataFetcher("userId", GetterDataFetcher.of(UserGroup.class, UserGroup::getUserId))
+                        .dataFetcher("userName", GetterDataFetcher.of(UserGroup.class, UserGroup::getUserName))
+                        .dataFetcher("userUuid", GetterDataFetcher.of(UserGroup.class, UserGroup::getUserUuid))
+                        .dataFetcher("uuid", GetterDataFetcher.of(UserGroup.class, UserGroup::getUuid))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("Website")
+                        .dataFetcher("className", GetterDataFetcher.of(Website.class, Website::getClassName))
+                        .dataFetcher("classNameId", GetterDataFetcher.of(Website.class, Website::getClassNameId))
+                        .dataFetcher("classPK", GetterDataFetcher.of(Website.class, Website::getClassPK))
+                        .dataFetcher("companyId", GetterDataFetcher.of(Website.class, Website::getCompanyId))
+                        .dataFetcher("createDate", GetterDataFetcher.of(Website.class, Website::getCreateDate))
+                        .dataFetcher("lastPublishDate", GetterDataFetcher.of(Website.class, Website::getLastPublishDate))
+                        .dataFetcher("modifiedDate", GetterDataFetcher.of(Website.class, Website::getModifiedDate))
+                        .dataFetcher("mvccVersion", GetterDataFetcher.of(Website.class, Website::getMvccVersion))
+                        .dataFetcher("primary", GetterDataFetcher.of(Website.class, Website::getPrimary))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(Website.class, Website::getPrimaryKey))
+                        .dataFetcher("typeId", GetterDataFetcher.of(Website.class, Website::getTypeId))
+                        .dataFetcher("url", GetterDataFetcher.of(Website.class, Website::getUrl))
+                        .dataFetcher("userId", GetterDataFetcher.of(Website.class, Website::getUserId))
+                        .dataFetcher("userName", GetterDataFetcher.of(Website.class, Website::getUserName))
+                        .dataFetcher("userUuid", GetterDataFetcher.of(Website.class, Website::getUserUuid))
+                        .dataFetcher("uuid", GetterDataFetcher.of(Website.class, Website::getUuid))
+                        .dataFetcher("websiteId", GetterDataFetcher.of(Website.class, Website::getWebsiteId))
+                        .build(),
+                TypeRuntimeWiring.newTypeWiring("RatingsEntry")
+                        .dataFetcher("className", GetterDataFetcher.of(RatingsEntry.class, RatingsEntry::getClassName))
+                        .dataFetcher("classNameId", GetterDataFetcher.of(RatingsEntry.class, RatingsEntry::getClassNameId))
+                        .dataFetcher("classPK", GetterDataFetcher.of(RatingsEntry.class, RatingsEntry::getClassPK))
+                        .dataFetcher("companyId", GetterDataFetcher.of(RatingsEntry.class, RatingsEntry::getCompanyId))
+                        .dataFetcher("createDate", GetterDataFetcher.of(RatingsEntry.class, RatingsEntry::getCreateDate))
+                        .dataFetcher("entryId", GetterDataFetcher.of(RatingsEntry.class, RatingsEntry::getEntryId))
+                        .dataFetcher("modifiedDate", GetterDataFetcher.of(RatingsEntry.class, RatingsEntry::getModifiedDate))
+                        .dataFetcher("primaryKey", GetterDataFetcher.of(RatingsEntry.class, RatingsEntry::getPrimaryKey))
+                        .dataFetcher("score", GetterDataFetcher.of(RatingsEntry.class, RatingsEntry::getScore))
+                        .dataFetcher("userId", GetterDataFetcher.of(RatingsEntry.class, RatingsEntry::getUserId))
+                        .dataFetcher("userName", GetterDataFetcher.of(RatingsEntry.class, RatingsEntry::getUserName))
+                        .dataFetcher("userUuid", GetterDataFetcher.of(RatingsEntry.class, RatingsEntry::getUserUuid))
+                        .dataFetcher("uuid", GetterDataFetcher.of(RatingsEntry.class, RatingsEntry::getUuid))
+                        .build()
+        );
+    }
+
     @Override
     public ExecutionResult executeQuery(String query,
                                         String operationName,
                                         Map<String, Object> variables) {
-        ExecutionInput executionInput = ExecutionInput.newExecutionInput()
+        return executeQuery(query, operationName, variables, new HashMap<>());
+    }
+
+    @Override
+    public ExecutionResult executeQuery(String query,
+                                        String operationName,
+                                        Map<String, Object> variables,
+                                        Map<String, Object> context) {
+        try {
+            return executeQueryAsync(query, operationName, variables, context)
+                    .toCompletableFuture()
+                    .join();
+        } catch (CompletionException e) {
+            // Same as GraphQL.execute, which rethrows the runtime exceptions of the execution
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletionStage<ExecutionResult> executeQueryAsync(String query,
+                                                              String operationName,
+                                                              Map<String, Object> variables,
+                                                              Map<String, Object> context) {
+        if (!IntrospectionUtil.mayBeIntrospectionQuery(query)) {
+            return graphQL.executeAsync(newExecutionInput(query, operationName, variables, context));
+        }
+
+        String introspectionKey = operationName + "\n" + variables + "\n" + query;
+        ExecutionResult cachedResult = introspectionCache.getIfPresent(introspectionKey);
+        if (cachedResult != null) {
+            return CompletableFuture.completedFuture(cachedResult);
+        }
+
+        CompletableFuture<ExecutionResult> result = graphQL.executeAsync(
+                newExecutionInput(query, operationName, variables, context));
+        if (!IntrospectionUtil.isIntrospectionQuery(query)) {
+            return result;
+        }
+        return result.thenApply(executionResult -> {
+            if (executionResult.getErrors().isEmpty()) {
+                // The extensions, such as the tracing, are specific to each execution
+                introspectionCache.put(introspectionKey, new ExecutionResultImpl(executionResult.getData(), null));
+            }
+            return executionResult;
+        });
+    }
+
+    @Override
+    public CompletionStage<List<ExecutionResult>> executeQueriesAsync(List<ExecutionInput> executionInputs) {
+        // The operations share their data loaders, so an entity requested by several of them is loaded once, and
+        // their cost budget, so that the whole request is checked against the maximum cost
+        DataLoaderRegistry dataLoaderRegistry = dataLoaderRegistryFactory.newDataLoaderRegistry();
+        QueryCostBudget costBudget = new QueryCostBudget();
+        List<CompletableFuture<ExecutionResult>> executionResults = executionInputs.stream()
+                .map(executionInput -> graphQL.executeAsync(executionInput.transform(builder -> builder
+                        .context(withCostBudget(executionInput.getContext(), costBudget))
+                        .dataLoaderRegistry(dataLoaderRegistry))))
+                .collect(Collectors.toList());
+        return CompletableFuture.allOf(executionResults.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> executionResults.stream()
+                        .map(CompletableFuture::join)
+                        .collect(Collectors.toList()));
+    }
+
+    private Object withCostBudget(Object context, QueryCostBudget costBudget) {
+        if (!(context instanceof Map)) {
+            return context;
+        }
+
+        Map<String, Object> budgetedContext = new HashMap<>((Map<String, Object>) context);
+        budgetedContext.put(Constants.CONTEXT_COST_BUDGET, costBudget);
+        return budgetedContext;
+    }
+
+    private ExecutionInput newExecutionInput(String query,
+                                             String operationName,
+                                             Map<String, Object> variables,
+                                             Map<String, Object> context) {
+        return ExecutionInput.newExecutionInput()
                 .query(query)
                 .operationName(operationName)
                 .variables(variables)
-                .dataLoaderRegistry(graphQLRegistry)
+                .context(context)
+                .dataLoaderRegistry(dataLoaderRegistryFactory.newDataLoaderRegistry())
                 .build();
-        return graphQL.execute(executionInput);
     }
 
     @Override
     public ExecutionResult executeQuery(String query) {
-        ExecutionInput executionInput = ExecutionInput.newExecutionInput()
-                .query(query)
-                .dataLoaderRegistry(graphQLRegistry)
-                .build();
-        return graphQL.execute(executionInput);
+        return executeQuery(query, null, new HashMap<>(), new HashMap<>());
     }
 }
@@ -0,0 +1,185 @@
+package fr.sedona.liferay.graphql.executor;
+
+import com.liferay.portal.configuration.metatype.bnd.util.ConfigurableUtil;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import fr.sedona.liferay.graphql.configuration.BatchLoaderExecutorConfiguration;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ConfigurationPolicy;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
+
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component(
+        immediate = true,
+        configurationPid = "fr.sedona.liferay.graphql.configuration.BatchLoaderExecutorConfiguration",
+        configurationPolicy = ConfigurationPolicy.OPTIONAL,
+        service = BatchLoaderExecutor.class
+)
+public class BatchLoaderExecutor implements Executor {
+    private static final Log LOGGER = LogFactoryUtil.getLog(BatchLoaderExecutor.class);
+    private static final String THREAD_NAME_PREFIX = "graphql-batch-loader-";
+
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private volatile ExecutorService executorService;
+    private volatile ThreadPoolExecutor threadPoolExecutor;
+
+    @Activate
+    @Modified
+    public void activateComponent(Map<String, Object> properties) {
+        configure(ConfigurableUtil.createConfigurable(BatchLoaderExecutorConfiguration.class, properties));
+    }
+
+    void configure(BatchLoaderExecutorConfiguration configuration) {
+        ExecutorService previous = executorService;
+        executorService = createExecutorService(configuration);
+        if (previous != null) {
+            previous.shutdown();
+        }
+    }
+
+    @Deactivate
+    public void deactivateComponent() {
+        ExecutorService previous = executorService;
+        executorService = null;
+        threadPoolExecutor = null;
+        if (previous != null) {
+            previous.shutdown();
+        }
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        ExecutorService current = executorService;
+        while (current != null) {
+            try {
+                current.execute(command);
+                return;
+            } catch (RejectedExecutionException e) {
+                // A reconfiguration shut this executor down after it was read: hand the command to its successor
+                ExecutorService next = executorService;
+                if (!current.isShutdown() || next == current) {
+                    throw e;
+                }
+                current = next;
+            }
+        }
+        throw new RejectedExecutionException("Batch loader executor is not active");
+    }
+
+    /**
+     * Unlike {@link #execute(Runnable)}, a saturated executor rejects the command instead of running it on the
+     * calling thread
+     */
+    public void executeDetached(Runnable command) {
+        execute(new DetachedCommand(command));
+    }
+
+    public boolean isVirtualThreads() {
+        return executorService != null && threadPoolExecutor == null;
+    }
+
+    public int getQueueSize() {
+        ThreadPoolExecutor current = threadPoolExecutor;
+        return current == null ? 0 : current.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        ThreadPoolExecutor current = threadPoolExecutor;
+        return current == null ? 0 : current.getActiveCount();
+    }
+
+    public int getPoolSize() {
+        ThreadPoolExecutor current = threadPoolExecutor;
+        return current == null ? 0 : current.getPoolSize();
+    }
+
+    public long getCompletedTaskCount() {
+        ThreadPoolExecutor current = threadPoolExecutor;
+        return current == null ? 0 : current.getCompletedTaskCount();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    private ExecutorService createExecutorService(BatchLoaderExecutorConfiguration configuration) {
+        if (configuration.virtualThreads()) {
+            ExecutorService virtualExecutorService = createVirtualThreadExecutorService();
+            if (virtualExecutorService != null) {
+                threadPoolExecutor = null;
+                LOGGER.info("Batch loaders run on virtual threads");
+                return virtualExecutorService;
+            }
+            LOGGER.warn("Virtual threads are not available on this JVM, falling back to a thread pool");
+        }
+
+        int maximumPoolSize = Math.max(1, configuration.maximumPoolSize());
+        int corePoolSize = Math.max(1, Math.min(configuration.corePoolSize(), maximumPoolSize));
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                corePoolSize,
+                maximumPoolSize,
+                configuration.keepAliveSeconds(),
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, configuration.queueCapacity())),
+                new NamedThreadFactory(),
+                this::rejectedExecution);
+        executor.allowCoreThreadTimeOut(true);
+        threadPoolExecutor = executor;
+        LOGGER.info("Batch loaders run on a pool of " + corePoolSize + " to " + maximumPoolSize
+                + " threads with a queue of " + configuration.queueCapacity() + " tasks");
+        return executor;
+    }
+
+    private void rejectedExecution(Runnable command, ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("Batch loader executor has been shut down");
+        }
+        rejectedCount.incrementAndGet();
+        if (command instanceof DetachedCommand) {
+            throw new RejectedExecutionException("Batch loader executor is saturated");
+        }
+        // Saturated: slow down the caller rather than failing the whole request
+        LOGGER.warn("Batch loader executor is saturated, running batch on the calling thread");
+        command.run();
+    }
+
+    private static ExecutorService createVirtualThreadExecutorService() {
+        try {
+            return (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static class DetachedCommand implements Runnable {
+        private final Runnable command;
+
+        DetachedCommand(Runnable command) {
+            this.command = command;
+        }
+
+        @Override
+        public void run() {
+            command.run();
+        }
+    }
+
+    private static class NamedThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
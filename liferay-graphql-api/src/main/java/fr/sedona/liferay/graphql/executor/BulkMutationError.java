@@ -0,0 +1,37 @@
+package fr.sedona.liferay.graphql.executor;
+
+import graphql.ErrorType;
+import graphql.GraphQLError;
+import graphql.language.SourceLocation;
+
+import java.util.List;
+
+public class BulkMutationError implements GraphQLError {
+    private final String message;
+    private final List<Object> path;
+
+    public BulkMutationError(String message, List<Object> path) {
+        this.message = message;
+        this.path = path;
+    }
+
+    @Override
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public List<Object> getPath() {
+        return path;
+    }
+
+    @Override
+    public List<SourceLocation> getLocations() {
+        return null;
+    }
+
+    @Override
+    public ErrorType getErrorType() {
+        return ErrorType.DataFetchingException;
+    }
+}
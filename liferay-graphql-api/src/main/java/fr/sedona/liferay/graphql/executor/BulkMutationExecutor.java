@@ -0,0 +1,175 @@
+package fr.sedona.liferay.graphql.executor;
+
+import com.liferay.portal.configuration.metatype.bnd.util.ConfigurableUtil;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.transaction.Propagation;
+import com.liferay.portal.kernel.transaction.TransactionConfig;
+import com.liferay.portal.kernel.transaction.TransactionInvokerUtil;
+import fr.sedona.liferay.graphql.configuration.BulkMutationConfiguration;
+import graphql.GraphQLError;
+import graphql.execution.DataFetcherResult;
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingEnvironmentBuilder;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ConfigurationPolicy;
+import org.osgi.service.component.annotations.Modified;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+@Component(
+        immediate = true,
+        configurationPid = "fr.sedona.liferay.graphql.configuration.BulkMutationConfiguration",
+        configurationPolicy = ConfigurationPolicy.OPTIONAL,
+        service = BulkMutationExecutor.class
+)
+public class BulkMutationExecutor {
+    private static final Log LOGGER = LogFactoryUtil.getLog(BulkMutationExecutor.class);
+    private static final String ARGUMENT_INPUTS = "inputs";
+    private static final TransactionConfig TRANSACTION_CONFIG = TransactionConfig.Factory.create(
+            Propagation.REQUIRED, new Class<?>[]{Exception.class});
+
+    private volatile BulkMutationConfiguration configuration;
+
+    @Activate
+    @Modified
+    public void activateComponent(Map<String, Object> properties) {
+        configure(ConfigurableUtil.createConfigurable(BulkMutationConfiguration.class, properties));
+    }
+
+    void configure(BulkMutationConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    public <T> DataFetcher<DataFetcherResult<List<T>>> bulkDataFetcher(DataFetcher<T> dataFetcher) {
+        return environment -> execute(dataFetcher, environment);
+    }
+
+    private <T> DataFetcherResult<List<T>> execute(DataFetcher<T> dataFetcher, DataFetchingEnvironment environment) {
+        List<Map<String, Object>> inputs = environment.getArgument(ARGUMENT_INPUTS);
+        if (inputs == null || inputs.isEmpty()) {
+            return new DataFetcherResult<>(Collections.emptyList(), Collections.emptyList());
+        }
+
+        BulkMutationConfiguration current = configuration;
+        int chunkSize = Math.max(1, current.chunkSize());
+        List<T> results = new ArrayList<>(Collections.nCopies(inputs.size(), null));
+        SortedMap<Integer, String> errors = new TreeMap<>();
+        for (int start = 0; start < inputs.size(); start += chunkSize) {
+            int end = Math.min(start + chunkSize, inputs.size());
+            boolean succeeded = executeChunk(dataFetcher, environment, inputs, start, end, current.continueOnError(),
+                    results, errors);
+            if (!succeeded && !current.continueOnError()) {
+                for (int index = end; index < inputs.size(); index++) {
+                    errors.put(index, "Cancelled after a previous failure");
+                }
+                break;
+            }
+        }
+        return new DataFetcherResult<>(results, toGraphQLErrors(errors));
+    }
+
+    private <T> boolean executeChunk(DataFetcher<T> dataFetcher,
+                                     DataFetchingEnvironment environment,
+                                     List<Map<String, Object>> inputs,
+                                     int start,
+                                     int end,
+                                     boolean continueOnError,
+                                     List<T> results,
+                                     SortedMap<Integer, String> errors) {
+        Set<Integer> failedIndexes = new HashSet<>();
+        while (true) {
+            int[] currentIndex = {-1};
+            List<T> chunkResults;
+            try {
+                chunkResults = TransactionInvokerUtil.invoke(TRANSACTION_CONFIG, () -> {
+                    List<T> transactionResults = new ArrayList<>(end - start);
+                    for (int index = start; index < end; index++) {
+                        currentIndex[0] = index;
+                        transactionResults.add(failedIndexes.contains(index)
+                                ? null
+                                : fetch(dataFetcher, environment, inputs.get(index)));
+                    }
+                    currentIndex[0] = -1;
+                    return transactionResults;
+                });
+            } catch (Throwable t) {
+                int failedIndex = currentIndex[0];
+                if (failedIndex < 0) {
+                    // The commit itself failed: none of the inputs of the chunk were saved
+                    LOGGER.warn("Bulk mutation chunk " + start + "-" + (end - 1) + " could not be committed", t);
+                    cancel(start, end, failedIndexes, "Rolled back: " + getMessage(t), errors);
+                    return false;
+                }
+
+                failedIndexes.add(failedIndex);
+                errors.put(failedIndex, getMessage(t));
+                if (!continueOnError) {
+                    cancel(start, end, failedIndexes, "Cancelled after the failure of input " + failedIndex, errors);
+                    return false;
+                }
+
+                // The transaction was rolled back: replay the chunk without the failed inputs
+                continue;
+            }
+
+            for (int index = start; index < end; index++) {
+                results.set(index, chunkResults.get(index - start));
+            }
+            return failedIndexes.isEmpty();
+        }
+    }
+
+    private <T> T fetch(DataFetcher<T> dataFetcher,
+                        DataFetchingEnvironment environment,
+                        Map<String, Object> input) throws Exception {
+        DataFetchingEnvironment inputEnvironment = DataFetchingEnvironmentBuilder
+                .newDataFetchingEnvironment(environment)
+                .arguments(input)
+                .build();
+        Object result = dataFetcher.get(inputEnvironment);
+        if (result instanceof CompletionStage) {
+            try {
+                return ((CompletionStage<T>) result).toCompletableFuture().join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+            }
+        }
+        return (T) result;
+    }
+
+    private void cancel(int start, int end, Set<Integer> failedIndexes, String message,
+                        SortedMap<Integer, String> errors) {
+        for (int index = start; index < end; index++) {
+            if (!failedIndexes.contains(index)) {
+                errors.put(index, message);
+            }
+        }
+    }
+
+    private String getMessage(Throwable t) {
+        return t.getMessage() == null ? t.getClass().getName() : t.getMessage();
+    }
+
+    private List<GraphQLError> toGraphQLErrors(SortedMap<Integer, String> errors) {
+        List<GraphQLError> graphQLErrors = new ArrayList<>(errors.size());
+        for (Map.Entry<Integer, String> error : errors.entrySet()) {
+            // Paths are relative to the bulk mutation field
+            graphQLErrors.add(new BulkMutationError(
+                    "Input " + error.getKey() + ": " + error.getValue(),
+                    Collections.singletonList(error.getKey())));
+        }
+        return graphQLErrors;
+    }
+}
@@ -0,0 +1,35 @@
+package fr.sedona.liferay.graphql.fetchers;
+
+import fr.sedona.liferay.graphql.projection.ProjectedRow;
+import graphql.schema.DataFetchingEnvironment;
+
+import java.util.function.Function;
+
+public class GetterDataFetcher<S, T> implements TrivialDataFetcher<T> {
+    private final Class<S> sourceClass;
+    private final Function<S, T> getter;
+
+    private GetterDataFetcher(Class<S> sourceClass, Function<S, T> getter) {
+        this.sourceClass = sourceClass;
+        this.getter = getter;
+    }
+
+    // The source class is given explicitly, so that overloaded getters such as getTitle() can be referenced
+    public static <S, T> GetterDataFetcher<S, T> of(Class<S> sourceClass, Function<S, T> getter) {
+        return new GetterDataFetcher<>(sourceClass, getter);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(DataFetchingEnvironment environment) {
+        Object source = environment.getSource();
+        if (source == null) {
+            return null;
+        }
+        if (source instanceof ProjectedRow) {
+            // Only the selected columns were read, keyed by their field name
+            return (T) ((ProjectedRow) source).get(environment.getField().getName());
+        }
+        return getter.apply(sourceClass.cast(source));
+    }
+}
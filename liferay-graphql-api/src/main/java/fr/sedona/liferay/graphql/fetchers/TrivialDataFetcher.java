@@ -0,0 +1,9 @@
+package fr.sedona.liferay.graphql.fetchers;
+
+import graphql.schema.DataFetcher;
+
+/**
+ * Marks the data fetchers only reading a value already loaded in memory, which are not traced
+ */
+public interface TrivialDataFetcher<T> extends DataFetcher<T> {
+}
@@ -0,0 +1,22 @@
+package fr.sedona.liferay.graphql.instrumentation;
+
+import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
+
+import java.util.List;
+
+public class DeferredExecutionResult extends ExecutionResultImpl {
+    private final List<Object> path;
+
+    public DeferredExecutionResult(List<Object> path, ExecutionResult executionResult) {
+        super(executionResult.getData(), executionResult.getErrors(), executionResult.getExtensions());
+        this.path = path;
+    }
+
+    /**
+     * Path of the deferred field, its data being the value of this field
+     */
+    public List<Object> getPath() {
+        return path;
+    }
+}
@@ -0,0 +1,82 @@
+package fr.sedona.liferay.graphql.instrumentation;
+
+import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
+import graphql.GraphQL;
+import graphql.execution.instrumentation.DeferredFieldInstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimpleInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationCreateStateParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationDeferredFieldParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public class DeferredPathInstrumentation extends SimpleInstrumentation {
+
+    private static class DeferredPathState implements InstrumentationState {
+        private final Queue<List<Object>> paths = new ConcurrentLinkedQueue<>();
+    }
+
+    @Override
+    public InstrumentationState createState(InstrumentationCreateStateParameters parameters) {
+        return new DeferredPathState();
+    }
+
+    @Override
+    public DeferredFieldInstrumentationContext beginDeferredField(InstrumentationDeferredFieldParameters parameters) {
+        // The deferred fields are resolved one after the other, each one being published before the next one begins
+        DeferredPathState state = parameters.getInstrumentationState();
+        state.paths.add(parameters.getExecutionStepInfo().getPath().toList());
+        return super.beginDeferredField(parameters);
+    }
+
+    @Override
+    public CompletableFuture<ExecutionResult> instrumentExecutionResult(ExecutionResult executionResult,
+                                                                        InstrumentationExecutionParameters parameters) {
+        Map<Object, Object> extensions = executionResult.getExtensions();
+        if (extensions == null || !(extensions.get(GraphQL.DEFERRED_RESULTS) instanceof Publisher)) {
+            return CompletableFuture.completedFuture(executionResult);
+        }
+
+        DeferredPathState state = parameters.getInstrumentationState();
+        Publisher<ExecutionResult> deferredResults = (Publisher<ExecutionResult>) extensions.get(GraphQL.DEFERRED_RESULTS);
+        Map<Object, Object> pathExtensions = new LinkedHashMap<>(extensions);
+        pathExtensions.put(GraphQL.DEFERRED_RESULTS, withPaths(deferredResults, state.paths));
+        return CompletableFuture.completedFuture(new ExecutionResultImpl(executionResult.getData(),
+                executionResult.getErrors(), pathExtensions));
+    }
+
+    private Publisher<DeferredExecutionResult> withPaths(Publisher<ExecutionResult> deferredResults,
+                                                         Queue<List<Object>> paths) {
+        return subscriber -> deferredResults.subscribe(new Subscriber<ExecutionResult>() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscriber.onSubscribe(subscription);
+            }
+
+            @Override
+            public void onNext(ExecutionResult deferredResult) {
+                subscriber.onNext(new DeferredExecutionResult(paths.poll(), deferredResult));
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                subscriber.onError(t);
+            }
+
+            @Override
+            public void onComplete() {
+                subscriber.onComplete();
+            }
+        });
+    }
+}
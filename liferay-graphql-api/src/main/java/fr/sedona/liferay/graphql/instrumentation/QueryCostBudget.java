@@ -0,0 +1,31 @@
+package fr.sedona.liferay.graphql.instrumentation;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cost shared by the operations of a batched request, so that the whole request is checked against the maximum cost
+ * instead of each of its operations
+ */
+public class QueryCostBudget {
+    private final AtomicLong spentCost = new AtomicLong();
+
+    /**
+     * Adds the cost of an operation to the budget, unless the spent cost would then exceed the maximum cost
+     *
+     * @return false when the operation was not charged because the budget is exhausted
+     */
+    public boolean trySpend(long cost, long maximumCost) {
+        long spent;
+        do {
+            spent = spentCost.get();
+            if (spent + cost > maximumCost || spent + cost < spent) {
+                return false;
+            }
+        } while (!spentCost.compareAndSet(spent, spent + cost));
+        return true;
+    }
+
+    public long getSpentCost() {
+        return spentCost.get();
+    }
+}
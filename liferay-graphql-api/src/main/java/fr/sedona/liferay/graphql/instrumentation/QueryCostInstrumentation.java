@@ -0,0 +1,323 @@
+package fr.sedona.liferay.graphql.instrumentation;
+
+import com.liferay.oauth2.provider.model.OAuth2Application;
+import com.liferay.oauth2.provider.model.OAuth2Authorization;
+import com.liferay.oauth2.provider.service.OAuth2ApplicationLocalService;
+import com.liferay.oauth2.provider.service.OAuth2AuthorizationLocalService;
+import com.liferay.portal.configuration.metatype.bnd.util.ConfigurableUtil;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import fr.sedona.liferay.graphql.configuration.QueryCostConfiguration;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.Constants;
+import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
+import graphql.analysis.QueryTraversal;
+import graphql.analysis.QueryVisitorFieldEnvironment;
+import graphql.analysis.QueryVisitorStub;
+import graphql.execution.AbortExecutionException;
+import graphql.execution.ExecutionContext;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimpleInstrumentation;
+import graphql.execution.instrumentation.SimpleInstrumentationContext;
+import graphql.execution.instrumentation.parameters.InstrumentationCreateStateParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLType;
+import graphql.schema.GraphQLTypeUtil;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ConfigurationPolicy;
+import org.osgi.service.component.annotations.Modified;
+import org.osgi.service.component.annotations.Reference;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+@Component(
+        immediate = true,
+        configurationPid = "fr.sedona.liferay.graphql.configuration.QueryCostConfiguration",
+        configurationPolicy = ConfigurationPolicy.OPTIONAL,
+        service = QueryCostInstrumentation.class
+)
+public class QueryCostInstrumentation extends SimpleInstrumentation {
+    private static final Log LOGGER = LogFactoryUtil.getLog(QueryCostInstrumentation.class);
+    private static final String EXTENSION_COST = "cost";
+    private static final String ARGUMENT_START = "start";
+    private static final String ARGUMENT_END = "end";
+    private static final String ARGUMENT_FIRST = "first";
+    private static final String ARGUMENT_INPUTS = "inputs";
+    private static final String FIELD_TOTAL_COUNT = "totalCount";
+
+    @Reference
+    private OAuth2AuthorizationLocalService oAuth2AuthorizationLocalService;
+
+    @Reference
+    private OAuth2ApplicationLocalService oAuth2ApplicationLocalService;
+
+    private volatile QueryCostConfiguration configuration;
+    private volatile Map<String, Long> clientMaximumCosts = Collections.emptyMap();
+
+    @Activate
+    @Modified
+    public void activateComponent(Map<String, Object> properties) {
+        configure(ConfigurableUtil.createConfigurable(QueryCostConfiguration.class, properties));
+    }
+
+    void configure(QueryCostConfiguration configuration) {
+        clientMaximumCosts = parseClientMaximumCosts(configuration.clientMaximumCosts());
+        this.configuration = configuration;
+    }
+
+    private Map<String, Long> parseClientMaximumCosts(String[] clientMaximumCosts) {
+        Map<String, Long> maximumCosts = new HashMap<>();
+        if (clientMaximumCosts == null) {
+            return maximumCosts;
+        }
+
+        for (String clientMaximumCost : clientMaximumCosts) {
+            int separatorIndex = clientMaximumCost.indexOf('=');
+            if (separatorIndex <= 0) {
+                continue;
+            }
+
+            String clientId = clientMaximumCost.substring(0, separatorIndex).trim();
+            try {
+                maximumCosts.put(clientId, Long.parseLong(clientMaximumCost.substring(separatorIndex + 1).trim()));
+            } catch (NumberFormatException e) {
+                LOGGER.warn("Ignoring invalid maximum cost for client '" + clientId + "': " + clientMaximumCost);
+            }
+        }
+        return maximumCosts;
+    }
+
+    @Override
+    public InstrumentationState createState(InstrumentationCreateStateParameters parameters) {
+        if (!configuration.enabled()) {
+            return null;
+        }
+        Object context = parameters.getExecutionInput().getContext();
+        return new QueryCostState(getMaximumCost(context), getBudget(context));
+    }
+
+    private QueryCostBudget getBudget(Object context) {
+        if (context instanceof Map) {
+            Object budget = ((Map) context).get(Constants.CONTEXT_COST_BUDGET);
+            return budget instanceof QueryCostBudget ? (QueryCostBudget) budget : null;
+        }
+        return null;
+    }
+
+    private long getMaximumCost(Object context) {
+        if (!clientMaximumCosts.isEmpty() && context instanceof Map) {
+            String clientId = getClientId((String) ((Map) context).get(Constants.CONTEXT_ACCESS_TOKEN));
+            Long maximumCost = clientId == null ? null : clientMaximumCosts.get(clientId);
+            if (maximumCost != null) {
+                return maximumCost;
+            }
+        }
+        return configuration.maximumCost();
+    }
+
+    private String getClientId(String accessToken) {
+        if (accessToken == null) {
+            return null;
+        }
+
+        OAuth2Authorization authorization = oAuth2AuthorizationLocalService
+                .fetchOAuth2AuthorizationByAccessTokenContent(accessToken);
+        if (authorization == null) {
+            return null;
+        }
+
+        OAuth2Application application = oAuth2ApplicationLocalService
+                .fetchOAuth2Application(authorization.getOAuth2ApplicationId());
+        return application == null ? null : application.getClientId();
+    }
+
+    @Override
+    public InstrumentationContext<ExecutionResult> beginExecuteOperation(InstrumentationExecuteOperationParameters parameters) {
+        QueryCostState state = parameters.getInstrumentationState();
+        if (state == null) {
+            return new SimpleInstrumentationContext<>();
+        }
+
+        // Runs before any data fetcher is called, on every execution: the documents found in the preparsed document
+        // cache skip the validation, and the same document may be sent again with larger ranges in its variables
+        analyze(parameters.getExecutionContext(), state);
+        if (state.depth > configuration.maximumDepth()) {
+            throw new AbortExecutionException("Query depth " + state.depth
+                    + " exceeds the maximum depth " + configuration.maximumDepth());
+        }
+        if (state.cost > state.maximumCost) {
+            throw new AbortExecutionException("Query cost " + state.cost
+                    + " exceeds the maximum cost " + state.maximumCost);
+        }
+        if (state.budget != null && !state.budget.trySpend(state.cost, state.maximumCost)) {
+            throw new AbortExecutionException("Batch cost " + saturatedAdd(state.budget.getSpentCost(), state.cost)
+                    + " exceeds the maximum cost " + state.maximumCost);
+        }
+        return new SimpleInstrumentationContext<>();
+    }
+
+    private void analyze(ExecutionContext executionContext, QueryCostState state) {
+        Map<QueryVisitorFieldEnvironment, FieldCost> fieldCosts = new HashMap<>();
+        QueryTraversal.newQueryTraversal()
+                .schema(executionContext.getGraphQLSchema())
+                .document(executionContext.getDocument())
+                .operationName(executionContext.getOperationDefinition().getName())
+                .variables(executionContext.getVariables())
+                .build()
+                .visitPreOrder(new QueryVisitorStub() {
+                    @Override
+                    public void visitField(QueryVisitorFieldEnvironment environment) {
+                        FieldCost parentCost = environment.getParentEnvironment() == null
+                                ? null
+                                : fieldCosts.get(environment.getParentEnvironment());
+                        FieldCost fieldCost = getFieldCost(environment, parentCost);
+                        fieldCosts.put(environment, fieldCost);
+                        state.cost = saturatedAdd(state.cost, fieldCost.cost);
+                        state.depth = Math.max(state.depth, fieldCost.depth);
+                    }
+                });
+        state.analyzed = true;
+    }
+
+    private FieldCost getFieldCost(QueryVisitorFieldEnvironment environment, FieldCost parentCost) {
+        long multiplier = parentCost == null ? 1 : parentCost.multiplier;
+        int depth = parentCost == null ? 1 : parentCost.depth + 1;
+        GraphQLFieldDefinition fieldDefinition = environment.getFieldDefinition();
+        GraphQLType type = GraphQLTypeUtil.unwrapNonNull(fieldDefinition.getType());
+        String parentTypeName = environment.getFieldsContainer().getName();
+
+        // Introspection, plain properties and the connection wrappers built in memory cost nothing
+        if (environment.isTypeNameIntrospectionField()
+                || fieldDefinition.getName().startsWith("__")
+                || parentTypeName.startsWith("__")) {
+            return new FieldCost(multiplier, depth, 0);
+        }
+        if (GraphQLTypeUtil.isLeaf(GraphQLTypeUtil.unwrapAll(type))) {
+            // Except the root count queries and the totalCount of the connections, which run one count query
+            boolean counted = parentCost == null || FIELD_TOTAL_COUNT.equals(fieldDefinition.getName());
+            return new FieldCost(multiplier, depth, counted ? 1 : 0);
+        }
+
+        boolean inMemory = parentTypeName.endsWith("Connection") || parentTypeName.endsWith("Edge");
+        long size = getSize(fieldDefinition, environment.getArguments(), GraphQLTypeUtil.isList(type), inMemory);
+        long childMultiplier = saturatedMultiply(multiplier, size);
+        if (inMemory) {
+            return new FieldCost(childMultiplier, depth, 0);
+        }
+        if (parentCost == null) {
+            // Root fields run one range query reading the requested rows
+            return new FieldCost(childMultiplier, depth, Math.max(1, size));
+        }
+
+        // Nested fields go through the data loaders: one query per batch of parents, plus the rows of the lists
+        long batchSize = Math.max(1, configuration.expectedBatchSize());
+        long cost = saturatedAdd(multiplier, batchSize - 1) / batchSize;
+        if (GraphQLTypeUtil.isList(type)) {
+            cost = saturatedAdd(cost, childMultiplier);
+        }
+        return new FieldCost(childMultiplier, depth, cost);
+    }
+
+    private long getSize(GraphQLFieldDefinition fieldDefinition,
+                         Map<String, Object> arguments,
+                         boolean list,
+                         boolean inMemory) {
+        if (fieldDefinition.getArgument(ARGUMENT_FIRST) != null) {
+            int first = getIntArgument(arguments, ARGUMENT_FIRST, ConnectionUtil.DEFAULT_PAGE_SIZE);
+            return first <= 0 ? ConnectionUtil.DEFAULT_PAGE_SIZE : Math.min(first, ConnectionUtil.MAX_PAGE_SIZE);
+        }
+        if (fieldDefinition.getArgument(ARGUMENT_END) != null) {
+            int start = getIntArgument(arguments, ARGUMENT_START, 0);
+            int end = getIntArgument(arguments, ARGUMENT_END, configuration.defaultListSize());
+            if (start < 0 || end < 0) {
+                // QueryUtil.ALL_POS: a fetcher passing the bounds to Liferay as is would read every row
+                return Long.MAX_VALUE;
+            }
+            return Math.max(0, (long) end - start);
+        }
+        if (arguments.get(ARGUMENT_INPUTS) instanceof List) {
+            // Bulk mutations write one entity per input
+            return ((List) arguments.get(ARGUMENT_INPUTS)).size();
+        }
+        if (list && !inMemory) {
+            return configuration.defaultListSize();
+        }
+        return 1;
+    }
+
+    private int getIntArgument(Map<String, Object> arguments, String name, int defaultValue) {
+        Object value = arguments.get(name);
+        return value instanceof Number ? ((Number) value).intValue() : defaultValue;
+    }
+
+    private static long saturatedAdd(long a, long b) {
+        long result = a + b;
+        return result < 0 ? Long.MAX_VALUE : result;
+    }
+
+    private static long saturatedMultiply(long a, long b) {
+        try {
+            return Math.multiplyExact(a, b);
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    @Override
+    public CompletableFuture<ExecutionResult> instrumentExecutionResult(ExecutionResult executionResult,
+                                                                        InstrumentationExecutionParameters parameters) {
+        QueryCostState state = parameters.getInstrumentationState();
+        if (state == null || !state.analyzed) {
+            return CompletableFuture.completedFuture(executionResult);
+        }
+
+        Map<String, Object> cost = new LinkedHashMap<>();
+        cost.put("requestedQueryCost", state.cost);
+        cost.put("maximumCost", state.maximumCost);
+        cost.put("depth", state.depth);
+        cost.put("maximumDepth", configuration.maximumDepth());
+
+        Map<Object, Object> extensions = new LinkedHashMap<>();
+        if (executionResult.getExtensions() != null) {
+            extensions.putAll(executionResult.getExtensions());
+        }
+        extensions.put(EXTENSION_COST, cost);
+        return CompletableFuture.completedFuture(
+                new ExecutionResultImpl(executionResult.getData(), executionResult.getErrors(), extensions));
+    }
+
+    private static class FieldCost {
+        final long multiplier;
+        final int depth;
+        final long cost;
+
+        FieldCost(long multiplier, int depth, long cost) {
+            this.multiplier = multiplier;
+            this.depth = depth;
+            this.cost = cost;
+        }
+    }
+
+    static class QueryCostState implements InstrumentationState {
+        final long maximumCost;
+        final QueryCostBudget budget;
+        long cost;
+        int depth;
+        boolean analyzed;
+
+        QueryCostState(long maximumCost, QueryCostBudget budget) {
+            this.maximumCost = maximumCost;
+            this.budget = budget;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package fr.sedona.liferay.graphql.instrumentation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.liferay.portal.configuration.metatype.bnd.util.ConfigurableUtil;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import fr.sedona.liferay.graphql.configuration.TracingConfiguration;
+import fr.sedona.liferay.graphql.fetchers.TrivialDataFetcher;
+import fr.sedona.liferay.graphql.util.Constants;
+import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimpleInstrumentationContext;
+import graphql.execution.instrumentation.parameters.InstrumentationCreateStateParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationValidationParameters;
+import graphql.execution.instrumentation.tracing.TracingInstrumentation;
+import graphql.language.Document;
+import graphql.validation.ValidationError;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ConfigurationPolicy;
+import org.osgi.service.component.annotations.Modified;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Component(
+        immediate = true,
+        configurationPid = "fr.sedona.liferay.graphql.configuration.TracingConfiguration",
+        configurationPolicy = ConfigurationPolicy.OPTIONAL,
+        service = SampledTracingInstrumentation.class
+)
+public class SampledTracingInstrumentation extends TracingInstrumentation {
+    private static final Log LOGGER = LogFactoryUtil.getLog(SampledTracingInstrumentation.class);
+    private static final String EXTENSION_TRACING = "tracing";
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    private volatile TracingConfiguration configuration;
+
+    @Activate
+    @Modified
+    public void activateComponent(Map<String, Object> properties) {
+        configure(ConfigurableUtil.createConfigurable(TracingConfiguration.class, properties));
+    }
+
+    void configure(TracingConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    @Override
+    public InstrumentationState createState(InstrumentationCreateStateParameters parameters) {
+        // Untraced requests get no state, so that no timing is recorded for their fields
+        return isTraced(parameters.getExecutionInput().getContext()) ? createState() : null;
+    }
+
+    private boolean isTraced(Object context) {
+        if (configuration.headerEnabled() && context instanceof Map
+                && Boolean.TRUE.equals(((Map) context).get(Constants.CONTEXT_TRACING))) {
+            return true;
+        }
+
+        double sampleRate = configuration.sampleRate();
+        return sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    @Override
+    public CompletableFuture<ExecutionResult> instrumentExecutionResult(ExecutionResult executionResult,
+                                                                        InstrumentationExecutionParameters parameters) {
+        if (parameters.getInstrumentationState() == null) {
+            return CompletableFuture.completedFuture(executionResult);
+        }
+
+        return super.instrumentExecutionResult(executionResult, parameters)
+                .thenApply(tracedResult -> exportTrace(tracedResult, parameters));
+    }
+
+    private ExecutionResult exportTrace(ExecutionResult tracedResult, InstrumentationExecutionParameters parameters) {
+        Object trace = tracedResult.getExtensions().get(EXTENSION_TRACING);
+        if (configuration.logTraces() && LOGGER.isInfoEnabled()) {
+            try {
+                LOGGER.info("GraphQL trace of operation " + parameters.getOperation() + ": "
+                        + objectMapper.writeValueAsString(trace));
+            } catch (JsonProcessingException e) {
+                LOGGER.warn("Could not serialize GraphQL trace", e);
+            }
+        }
+
+        if (configuration.includeInResponse()) {
+            return tracedResult;
+        }
+
+        Map<Object, Object> extensions = new LinkedHashMap<>(tracedResult.getExtensions());
+        extensions.remove(EXTENSION_TRACING);
+        return new ExecutionResultImpl(tracedResult.getData(), tracedResult.getErrors(),
+                extensions.isEmpty() ? null : extensions);
+    }
+
+    @Override
+    public InstrumentationContext<Object> beginFieldFetch(InstrumentationFieldFetchParameters parameters) {
+        if (parameters.getInstrumentationState() == null || isUntracedTrivialField(parameters)) {
+            return new SimpleInstrumentationContext<>();
+        }
+        return super.beginFieldFetch(parameters);
+    }
+
+    private boolean isUntracedTrivialField(InstrumentationFieldFetchParameters parameters) {
+        return !configuration.traceTrivialFields()
+                && parameters.getField().getDataFetcher() instanceof TrivialDataFetcher;
+    }
+
+    @Override
+    public InstrumentationContext<Document> beginParse(InstrumentationExecutionParameters parameters) {
+        if (parameters.getInstrumentationState() == null) {
+            return new SimpleInstrumentationContext<>();
+        }
+        return super.beginParse(parameters);
+    }
+
+    @Override
+    public InstrumentationContext<List<ValidationError>> beginValidation(InstrumentationValidationParameters parameters) {
+        if (parameters.getInstrumentationState() == null) {
+            return new SimpleInstrumentationContext<>();
+        }
+        return super.beginValidation(parameters);
+    }
+}
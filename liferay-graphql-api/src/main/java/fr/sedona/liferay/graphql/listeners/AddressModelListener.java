@@ -0,0 +1,36 @@
+package fr.sedona.liferay.graphql.listeners;
+
+import com.liferay.portal.kernel.model.Address;
+import com.liferay.portal.kernel.model.ModelListener;
+import fr.sedona.liferay.graphql.cache.EntityCacheInvalidator;
+import fr.sedona.liferay.graphql.loaders.AddressBatchLoader;
+import fr.sedona.liferay.graphql.subscriptions.ModelEventPublisher;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+@Component(
+        immediate = true,
+        service = ModelListener.class
+)
+public class AddressModelListener extends EntityCacheModelListener<Address> {
+
+    @Reference(unbind = "-")
+    public void setEntityCacheInvalidator(EntityCacheInvalidator entityCacheInvalidator) {
+        this.entityCacheInvalidator = entityCacheInvalidator;
+    }
+
+    @Reference(unbind = "-")
+    public void setModelEventPublisher(ModelEventPublisher modelEventPublisher) {
+        this.modelEventPublisher = modelEventPublisher;
+    }
+
+    @Override
+    protected String getLoaderKey() {
+        return AddressBatchLoader.KEY;
+    }
+
+    @Override
+    protected long getCacheKey(Address model) {
+        return model.getAddressId();
+    }
+}
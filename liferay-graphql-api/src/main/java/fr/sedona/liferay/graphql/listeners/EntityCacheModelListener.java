@@ -0,0 +1,46 @@
+package fr.sedona.liferay.graphql.listeners;
+
+import com.liferay.portal.kernel.exception.ModelListenerException;
+import com.liferay.portal.kernel.model.BaseModel;
+import com.liferay.portal.kernel.model.BaseModelListener;
+import com.liferay.portal.kernel.transaction.TransactionCommitCallbackUtil;
+import fr.sedona.liferay.graphql.cache.EntityCacheInvalidator;
+import fr.sedona.liferay.graphql.subscriptions.ModelEventPublisher;
+import fr.sedona.liferay.graphql.subscriptions.ModelEventType;
+
+public abstract class EntityCacheModelListener<T extends BaseModel<T>> extends BaseModelListener<T> {
+    protected EntityCacheInvalidator entityCacheInvalidator;
+    protected ModelEventPublisher modelEventPublisher;
+
+    protected abstract String getLoaderKey();
+
+    protected abstract long getCacheKey(T model);
+
+    @Override
+    public void onAfterCreate(T model) throws ModelListenerException {
+        // A previous lookup may have cached a missing entity for this id
+        invalidate(model, ModelEventType.CREATE);
+    }
+
+    @Override
+    public void onAfterUpdate(T model) throws ModelListenerException {
+        invalidate(model, ModelEventType.UPDATE);
+    }
+
+    @Override
+    public void onAfterRemove(T model) throws ModelListenerException {
+        invalidate(model, ModelEventType.REMOVE);
+    }
+
+    private void invalidate(T model, ModelEventType eventType) {
+        String key = getLoaderKey();
+        long cacheKey = getCacheKey(model);
+        // Evicting before the commit would let a concurrent read cache the previous version again
+        TransactionCommitCallbackUtil.registerCallback(() -> {
+            entityCacheInvalidator.invalidate(key, cacheKey);
+            // Subscribers are only notified of committed changes, once the previous version is evicted
+            modelEventPublisher.publish(key, eventType, cacheKey, model);
+            return null;
+        });
+    }
+}
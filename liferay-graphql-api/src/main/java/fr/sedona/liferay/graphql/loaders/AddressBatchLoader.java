@@ -5,6 +5,8 @@ import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
 import com.liferay.portal.kernel.model.Address;
 import com.liferay.portal.kernel.service.AddressLocalService;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
 import org.dataloader.BatchLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,12 +23,18 @@ import java.util.concurrent.CompletionStage;
 public class AddressBatchLoader implements BatchLoader<Long, Address> {
     public static final String KEY = "address";
     private AddressLocalService addressLocalService;
+    private BatchLoaderExecutor batchLoaderExecutor;
 
     @Reference(unbind = "-")
     public void setAddressLocalService(AddressLocalService addressLocalService) {
         this.addressLocalService = addressLocalService;
     }
 
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
     @Override
     public CompletionStage<List<Address>> load(List<Long> keys) {
         return CompletableFuture.supplyAsync(() -> {
@@ -39,7 +47,8 @@ public class AddressBatchLoader implements BatchLoader<Long, Address> {
                     .in(keys.stream()
                             .mapToLong(l -> l)
                             .toArray()));
-            return addressLocalService.dynamicQuery(query);
-        });
+            List<Address> results = addressLocalService.dynamicQuery(query);
+            return BatchLoaderUtil.orderByKeys(keys, results, Address::getAddressId);
+        }, batchLoaderExecutor);
     }
 }
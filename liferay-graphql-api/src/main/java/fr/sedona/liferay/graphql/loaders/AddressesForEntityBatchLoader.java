@@ -0,0 +1,45 @@
+package fr.sedona.liferay.graphql.loaders;
+
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.OrderFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import com.liferay.portal.kernel.model.Address;
+import com.liferay.portal.kernel.service.AddressLocalService;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+import java.util.List;
+import java.util.Map;
+
+@Component(
+        immediate = true,
+        service = AddressesForEntityBatchLoader.class
+)
+public class AddressesForEntityBatchLoader extends ToManyBatchLoader<EntityKey, Address> {
+    public static final String KEY = "addressesForEntity";
+    private AddressLocalService addressLocalService;
+
+    @Reference(unbind = "-")
+    public void setAddressLocalService(AddressLocalService addressLocalService) {
+        this.addressLocalService = addressLocalService;
+    }
+
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
+    @Override
+    protected Map<EntityKey, List<Address>> loadChildren(List<EntityKey> keys) {
+        DynamicQuery query = DynamicQueryFactoryUtil.forClass(Address.class);
+        query.add(PropertyFactoryUtil.forName("classNameId")
+                .in(toClassNameIds(keys)));
+        query.add(PropertyFactoryUtil.forName("classPK")
+                .in(toClassPKs(keys)));
+        query.addOrder(OrderFactoryUtil.asc("createDate"));
+        List<Address> addresses = addressLocalService.dynamicQuery(query);
+        return groupByParentKey(addresses, address -> new EntityKey(address.getClassNameId(), address.getClassPK()));
+    }
+}
@@ -0,0 +1,37 @@
+package fr.sedona.liferay.graphql.loaders;
+
+import com.liferay.asset.kernel.model.AssetCategory;
+import com.liferay.asset.kernel.service.AssetCategoryLocalService;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+import java.util.List;
+
+/**
+ * The categories of an asset entry are stored in the AssetEntries_AssetCategories mapping table, which Liferay 7.1 only exposes
+ * one entry at a time: a batch runs one query per entry, in parallel.
+ */
+@Component(
+        immediate = true,
+        service = AssetCategoriesForAssetBatchLoader.class
+)
+public class AssetCategoriesForAssetBatchLoader extends PerKeyToManyBatchLoader<Long, AssetCategory> {
+    public static final String KEY = "assetCategoriesForAsset";
+    private AssetCategoryLocalService assetCategoryLocalService;
+
+    @Reference(unbind = "-")
+    public void setAssetCategoryLocalService(AssetCategoryLocalService assetCategoryLocalService) {
+        this.assetCategoryLocalService = assetCategoryLocalService;
+    }
+
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
+    @Override
+    protected List<AssetCategory> loadChildren(Long entryId) {
+        return assetCategoryLocalService.getAssetEntryAssetCategories(entryId);
+    }
+}
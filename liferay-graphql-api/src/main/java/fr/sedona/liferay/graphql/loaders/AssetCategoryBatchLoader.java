@@ -5,6 +5,8 @@ import com.liferay.asset.kernel.service.AssetCategoryLocalService;
 import com.liferay.portal.kernel.dao.orm.DynamicQuery;
 import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
 import org.dataloader.BatchLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,12 +23,18 @@ import java.util.concurrent.CompletionStage;
 public class AssetCategoryBatchLoader implements BatchLoader<Long, AssetCategory> {
     public static final String KEY = "assetCategory";
     private AssetCategoryLocalService assetCategoryLocalService;
+    private BatchLoaderExecutor batchLoaderExecutor;
 
     @Reference(unbind = "-")
     public void setAssetCategoryLocalService(AssetCategoryLocalService assetCategoryLocalService) {
         this.assetCategoryLocalService = assetCategoryLocalService;
     }
 
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
     @Override
     public CompletionStage<List<AssetCategory>> load(List<Long> keys) {
         return CompletableFuture.supplyAsync(() -> {
@@ -39,7 +47,8 @@ public class AssetCategoryBatchLoader implements BatchLoader<Long, AssetCategory
                     .in(keys.stream()
                             .mapToLong(l -> l)
                             .toArray()));
-            return assetCategoryLocalService.dynamicQuery(query);
-        });
+            List<AssetCategory> results = assetCategoryLocalService.dynamicQuery(query);
+            return BatchLoaderUtil.orderByKeys(keys, results, AssetCategory::getCategoryId);
+        }, batchLoaderExecutor);
     }
 }
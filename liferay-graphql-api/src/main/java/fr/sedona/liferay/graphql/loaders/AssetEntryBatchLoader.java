@@ -5,6 +5,8 @@ import com.liferay.asset.kernel.service.AssetEntryLocalService;
 import com.liferay.portal.kernel.dao.orm.DynamicQuery;
 import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
 import org.dataloader.BatchLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,12 +23,18 @@ import java.util.concurrent.CompletionStage;
 public class AssetEntryBatchLoader implements BatchLoader<Long, AssetEntry> {
     public static final String KEY = "assetEntry";
     private AssetEntryLocalService assetEntryLocalService;
+    private BatchLoaderExecutor batchLoaderExecutor;
 
     @Reference(unbind = "-")
     public void setAssetEntryLocalService(AssetEntryLocalService assetEntryLocalService) {
         this.assetEntryLocalService = assetEntryLocalService;
     }
 
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
     @Override
     public CompletionStage<List<AssetEntry>> load(List<Long> keys) {
         return CompletableFuture.supplyAsync(() -> {
@@ -39,7 +47,8 @@ public class AssetEntryBatchLoader implements BatchLoader<Long, AssetEntry> {
                     .in(keys.stream()
                             .mapToLong(l -> l)
                             .toArray()));
-            return assetEntryLocalService.dynamicQuery(query);
-        });
+            List<AssetEntry> results = assetEntryLocalService.dynamicQuery(query);
+            return BatchLoaderUtil.orderByKeys(keys, results, AssetEntry::getEntryId);
+        }, batchLoaderExecutor);
     }
 }
@@ -5,6 +5,8 @@ import com.liferay.asset.kernel.service.AssetLinkLocalService;
 import com.liferay.portal.kernel.dao.orm.DynamicQuery;
 import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
 import org.dataloader.BatchLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,12 +23,18 @@ import java.util.concurrent.CompletionStage;
 public class AssetLinkBatchLoader implements BatchLoader<Long, AssetLink> {
     public static final String KEY = "assetLink";
     private AssetLinkLocalService assetLinkLocalService;
+    private BatchLoaderExecutor batchLoaderExecutor;
 
     @Reference(unbind = "-")
     public void setAssetLinkLocalService(AssetLinkLocalService assetLinkLocalService) {
         this.assetLinkLocalService = assetLinkLocalService;
     }
 
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
     @Override
     public CompletionStage<List<AssetLink>> load(List<Long> keys) {
         return CompletableFuture.supplyAsync(() -> {
@@ -39,7 +47,8 @@ public class AssetLinkBatchLoader implements BatchLoader<Long, AssetLink> {
                     .in(keys.stream()
                             .mapToLong(l -> l)
                             .toArray()));
-            return assetLinkLocalService.dynamicQuery(query);
-        });
+            List<AssetLink> results = assetLinkLocalService.dynamicQuery(query);
+            return BatchLoaderUtil.orderByKeys(keys, results, AssetLink::getLinkId);
+        }, batchLoaderExecutor);
     }
 }
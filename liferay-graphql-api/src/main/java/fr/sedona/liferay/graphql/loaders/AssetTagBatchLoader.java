@@ -5,6 +5,8 @@ import com.liferay.asset.kernel.service.AssetTagLocalService;
 import com.liferay.portal.kernel.dao.orm.DynamicQuery;
 import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
 import org.dataloader.BatchLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,12 +23,18 @@ import java.util.concurrent.CompletionStage;
 public class AssetTagBatchLoader implements BatchLoader<Long, AssetTag> {
     public static final String KEY = "assetTag";
     private AssetTagLocalService assetTagLocalService;
+    private BatchLoaderExecutor batchLoaderExecutor;
 
     @Reference(unbind = "-")
     public void setAssetTagLocalService(AssetTagLocalService assetTagLocalService) {
         this.assetTagLocalService = assetTagLocalService;
     }
 
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
     @Override
     public CompletionStage<List<AssetTag>> load(List<Long> keys) {
         return CompletableFuture.supplyAsync(() -> {
@@ -39,7 +47,8 @@ public class AssetTagBatchLoader implements BatchLoader<Long, AssetTag> {
                     .in(keys.stream()
                             .mapToLong(l -> l)
                             .toArray()));
-            return assetTagLocalService.dynamicQuery(query);
-        });
+            List<AssetTag> results = assetTagLocalService.dynamicQuery(query);
+            return BatchLoaderUtil.orderByKeys(keys, results, AssetTag::getTagId);
+        }, batchLoaderExecutor);
     }
 }
@@ -0,0 +1,37 @@
+package fr.sedona.liferay.graphql.loaders;
+
+import com.liferay.asset.kernel.model.AssetTag;
+import com.liferay.asset.kernel.service.AssetTagLocalService;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+import java.util.List;
+
+/**
+ * The tags of an asset entry are stored in the AssetEntries_AssetTags mapping table, which Liferay 7.1 only exposes
+ * one entry at a time: a batch runs one query per entry, in parallel.
+ */
+@Component(
+        immediate = true,
+        service = AssetTagsForAssetBatchLoader.class
+)
+public class AssetTagsForAssetBatchLoader extends PerKeyToManyBatchLoader<Long, AssetTag> {
+    public static final String KEY = "assetTagsForAsset";
+    private AssetTagLocalService assetTagLocalService;
+
+    @Reference(unbind = "-")
+    public void setAssetTagLocalService(AssetTagLocalService assetTagLocalService) {
+        this.assetTagLocalService = assetTagLocalService;
+    }
+
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
+    @Override
+    protected List<AssetTag> loadChildren(Long entryId) {
+        return assetTagLocalService.getAssetEntryAssetTags(entryId);
+    }
+}
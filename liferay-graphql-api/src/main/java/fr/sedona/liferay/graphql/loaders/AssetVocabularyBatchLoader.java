@@ -5,6 +5,8 @@ import com.liferay.asset.kernel.service.AssetVocabularyLocalService;
 import com.liferay.portal.kernel.dao.orm.DynamicQuery;
 import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
 import org.dataloader.BatchLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,12 +23,18 @@ import java.util.concurrent.CompletionStage;
 public class AssetVocabularyBatchLoader implements BatchLoader<Long, AssetVocabulary> {
     public static final String KEY = "assetVocabulary";
     private AssetVocabularyLocalService assetVocabularyLocalService;
+    private BatchLoaderExecutor batchLoaderExecutor;
 
     @Reference(unbind = "-")
     public void setAssetVocabularyLocalService(AssetVocabularyLocalService assetVocabularyLocalService) {
         this.assetVocabularyLocalService = assetVocabularyLocalService;
     }
 
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
     @Override
     public CompletionStage<List<AssetVocabulary>> load(List<Long> keys) {
         return CompletableFuture.supplyAsync(() -> {
@@ -39,7 +47,8 @@ public class AssetVocabularyBatchLoader implements BatchLoader<Long, AssetVocabu
                     .in(keys.stream()
                             .mapToLong(l -> l)
                             .toArray()));
-            return assetVocabularyLocalService.dynamicQuery(query);
-        });
+            List<AssetVocabulary> results = assetVocabularyLocalService.dynamicQuery(query);
+            return BatchLoaderUtil.orderByKeys(keys, results, AssetVocabulary::getVocabularyId);
+        }, batchLoaderExecutor);
     }
 }
@@ -5,6 +5,8 @@ import com.liferay.blogs.service.BlogsEntryLocalService;
 import com.liferay.portal.kernel.dao.orm.DynamicQuery;
 import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
 import org.dataloader.BatchLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,12 +23,18 @@ import java.util.concurrent.CompletionStage;
 public class BlogsEntryBatchLoader implements BatchLoader<Long, BlogsEntry> {
     public static final String KEY = "blogsEntry";
     private BlogsEntryLocalService blogsEntryLocalService;
+    private BatchLoaderExecutor batchLoaderExecutor;
 
     @Reference(unbind = "-")
     public void setBlogsEntryLocalService(BlogsEntryLocalService blogsEntryLocalService) {
         this.blogsEntryLocalService = blogsEntryLocalService;
     }
 
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
     @Override
     public CompletionStage<List<BlogsEntry>> load(List<Long> keys) {
         return CompletableFuture.supplyAsync(() -> {
@@ -39,7 +47,8 @@ public class BlogsEntryBatchLoader implements BatchLoader<Long, BlogsEntry> {
                     .in(keys.stream()
                             .mapToLong(l -> l)
                             .toArray()));
-            return blogsEntryLocalService.dynamicQuery(query);
-        });
+            List<BlogsEntry> results = blogsEntryLocalService.dynamicQuery(query);
+            return BatchLoaderUtil.orderByKeys(keys, results, BlogsEntry::getEntryId);
+        }, batchLoaderExecutor);
     }
 }
@@ -5,6 +5,8 @@ import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
 import com.liferay.portal.kernel.model.ClassName;
 import com.liferay.portal.kernel.service.ClassNameLocalService;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
 import org.dataloader.BatchLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,12 +23,18 @@ import java.util.concurrent.CompletionStage;
 public class ClassNameBatchLoader implements BatchLoader<Long, ClassName> {
     public static final String KEY = "className";
     private ClassNameLocalService classNameLocalService;
+    private BatchLoaderExecutor batchLoaderExecutor;
 
     @Reference(unbind = "-")
     public void setClassNameLocalService(ClassNameLocalService classNameLocalService) {
         this.classNameLocalService = classNameLocalService;
     }
 
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
     @Override
     public CompletionStage<List<ClassName>> load(List<Long> keys) {
         return CompletableFuture.supplyAsync(() -> {
@@ -39,7 +47,8 @@ public class ClassNameBatchLoader implements BatchLoader<Long, ClassName> {
                     .in(keys.stream()
                             .mapToLong(l -> l)
                             .toArray()));
-            return classNameLocalService.dynamicQuery(query);
-        });
+            List<ClassName> results = classNameLocalService.dynamicQuery(query);
+            return BatchLoaderUtil.orderByKeys(keys, results, ClassName::getClassNameId);
+        }, batchLoaderExecutor);
     }
 }
@@ -5,6 +5,8 @@ import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
 import com.liferay.portal.kernel.model.Company;
 import com.liferay.portal.kernel.service.CompanyLocalService;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
 import org.dataloader.BatchLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,12 +23,18 @@ import java.util.concurrent.CompletionStage;
 public class CompanyBatchLoader implements BatchLoader<Long, Company> {
     public static final String KEY = "company";
     private CompanyLocalService companyLocalService;
+    private BatchLoaderExecutor batchLoaderExecutor;
 
     @Reference(unbind = "-")
     public void setCompanyLocalService(CompanyLocalService companyLocalService) {
         this.companyLocalService = companyLocalService;
     }
 
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
     @Override
     public CompletionStage<List<Company>> load(List<Long> keys) {
         return CompletableFuture.supplyAsync(() -> {
@@ -39,7 +47,8 @@ public class CompanyBatchLoader implements BatchLoader<Long, Company> {
                     .in(keys.stream()
                             .mapToLong(l -> l)
                             .toArray()));
-            return companyLocalService.dynamicQuery(query);
-        });
+            List<Company> results = companyLocalService.dynamicQuery(query);
+            return BatchLoaderUtil.orderByKeys(keys, results, Company::getCompanyId);
+        }, batchLoaderExecutor);
     }
 }
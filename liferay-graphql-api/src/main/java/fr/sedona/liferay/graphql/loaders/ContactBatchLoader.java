@@ -5,6 +5,8 @@ import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
 import com.liferay.portal.kernel.model.Contact;
 import com.liferay.portal.kernel.service.ContactLocalService;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
 import org.dataloader.BatchLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,12 +23,18 @@ import java.util.concurrent.CompletionStage;
 public class ContactBatchLoader implements BatchLoader<Long, Contact> {
     public static final String KEY = "contact";
     private ContactLocalService contactLocalService;
+    private BatchLoaderExecutor batchLoaderExecutor;
 
     @Reference(unbind = "-")
     public void setContactLocalService(ContactLocalService contactLocalService) {
         this.contactLocalService = contactLocalService;
     }
 
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
     @Override
     public CompletionStage<List<Contact>> load(List<Long> keys) {
         return CompletableFuture.supplyAsync(() -> {
@@ -39,7 +47,8 @@ public class ContactBatchLoader implements BatchLoader<Long, Contact> {
                     .in(keys.stream()
                             .mapToLong(l -> l)
                             .toArray()));
-            return contactLocalService.dynamicQuery(query);
-        });
+            List<Contact> results = contactLocalService.dynamicQuery(query);
+            return BatchLoaderUtil.orderByKeys(keys, results, Contact::getContactId);
+        }, batchLoaderExecutor);
     }
 }
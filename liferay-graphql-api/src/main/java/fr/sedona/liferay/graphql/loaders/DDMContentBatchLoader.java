@@ -5,6 +5,8 @@ import com.liferay.dynamic.data.mapping.service.DDMContentLocalService;
 import com.liferay.portal.kernel.dao.orm.DynamicQuery;
 import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
 import org.dataloader.BatchLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,12 +23,18 @@ import java.util.concurrent.CompletionStage;
 public class DDMContentBatchLoader implements BatchLoader<Long, DDMContent> {
     public static final String KEY = "ddmContent";
     private DDMContentLocalService ddmContentLocalService;
+    private BatchLoaderExecutor batchLoaderExecutor;
 
     @Reference(unbind = "-")
     public void setDDMContentLocalService(DDMContentLocalService ddmContentLocalService) {
         this.ddmContentLocalService = ddmContentLocalService;
     }
 
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
     @Override
     public CompletionStage<List<DDMContent>> load(List<Long> keys) {
         return CompletableFuture.supplyAsync(() -> {
@@ -39,7 +47,8 @@ public class DDMContentBatchLoader implements BatchLoader<Long, DDMContent> {
                     .in(keys.stream()
                             .mapToLong(l -> l)
                             .toArray()));
-            return ddmContentLocalService.dynamicQuery(query);
-        });
+            List<DDMContent> results = ddmContentLocalService.dynamicQuery(query);
+            return BatchLoaderUtil.orderByKeys(keys, results, DDMContent::getContentId);
+        }, batchLoaderExecutor);
     }
 }
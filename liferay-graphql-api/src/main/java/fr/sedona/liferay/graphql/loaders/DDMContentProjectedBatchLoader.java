@@ -0,0 +1,67 @@
+package fr.sedona.liferay.graphql.loaders;
+
+import com.liferay.dynamic.data.mapping.service.DDMContentLocalService;
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import fr.sedona.liferay.graphql.cache.EntityCache;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.projection.EntityProjection;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+import java.util.List;
+
+@Component(
+        immediate = true,
+        service = DDMContentProjectedBatchLoader.class
+)
+public class DDMContentProjectedBatchLoader extends ProjectedBatchLoader {
+    public static final String KEY = "ddmContentProjected";
+    // The localized name fields are parsed by the entity, only the raw columns can be projected
+    public static final EntityProjection PROJECTION = EntityProjection.newEntityProjection("contentId")
+            .property("companyId")
+            .property("contentId")
+            .property("createDate")
+            .property("data")
+            .property("description")
+            .property("groupId")
+            .property("modifiedDate")
+            .property("name")
+            .property("primaryKey", "contentId")
+            .property("userId")
+            .property("userName")
+            .property("uuid")
+            .relation("company", "companyId")
+            .relation("group", "groupId")
+            .relation("user", "userId")
+            .build();
+    private DDMContentLocalService ddmContentLocalService;
+
+    public DDMContentProjectedBatchLoader() {
+        super(DDMContentBatchLoader.KEY, PROJECTION);
+    }
+
+    @Reference(unbind = "-")
+    public void setDDMContentLocalService(DDMContentLocalService ddmContentLocalService) {
+        this.ddmContentLocalService = ddmContentLocalService;
+    }
+
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
+    @Reference(unbind = "-")
+    public void setEntityCache(EntityCache entityCache) {
+        this.entityCache = entityCache;
+    }
+
+    @Override
+    protected DynamicQuery newDynamicQuery() {
+        return ddmContentLocalService.dynamicQuery();
+    }
+
+    @Override
+    protected List<Object> dynamicQuery(DynamicQuery query) {
+        return ddmContentLocalService.dynamicQuery(query);
+    }
+}
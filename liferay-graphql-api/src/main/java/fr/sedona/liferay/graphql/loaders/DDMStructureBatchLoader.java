@@ -5,6 +5,8 @@ import com.liferay.dynamic.data.mapping.service.DDMStructureLocalService;
 import com.liferay.portal.kernel.dao.orm.DynamicQuery;
 import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
 import org.dataloader.BatchLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,12 +23,18 @@ import java.util.concurrent.CompletionStage;
 public class DDMStructureBatchLoader implements BatchLoader<Long, DDMStructure> {
     public static final String KEY = "ddmStructure";
     private DDMStructureLocalService ddmStructureLocalService;
+    private BatchLoaderExecutor batchLoaderExecutor;
 
     @Reference(unbind = "-")
     public void setDDMStructureLocalService(DDMStructureLocalService ddmStructureLocalService) {
         this.ddmStructureLocalService = ddmStructureLocalService;
     }
 
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
     @Override
     public CompletionStage<List<DDMStructure>> load(List<Long> keys) {
         return CompletableFuture.supplyAsync(() -> {
@@ -39,7 +47,8 @@ public class DDMStructureBatchLoader implements BatchLoader<Long, DDMStructure>
                     .in(keys.stream()
                             .mapToLong(l -> l)
                             .toArray()));
-            return ddmStructureLocalService.dynamicQuery(query);
-        });
+            List<DDMStructure> results = ddmStructureLocalService.dynamicQuery(query);
+            return BatchLoaderUtil.orderByKeys(keys, results, DDMStructure::getStructureId);
+        }, batchLoaderExecutor);
     }
 }
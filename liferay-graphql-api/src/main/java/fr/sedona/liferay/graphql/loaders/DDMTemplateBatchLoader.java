@@ -5,6 +5,8 @@ import com.liferay.dynamic.data.mapping.service.DDMTemplateLocalService;
 import com.liferay.portal.kernel.dao.orm.DynamicQuery;
 import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
 import org.dataloader.BatchLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,12 +23,18 @@ import java.util.concurrent.CompletionStage;
 public class DDMTemplateBatchLoader implements BatchLoader<Long, DDMTemplate> {
     public static final String KEY = "ddmTemplate";
     private DDMTemplateLocalService ddmTemplateLocalService;
+    private BatchLoaderExecutor batchLoaderExecutor;
 
     @Reference(unbind = "-")
     public void setDDMTemplateLocalService(DDMTemplateLocalService ddmTemplateLocalService) {
         this.ddmTemplateLocalService = ddmTemplateLocalService;
     }
 
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
     @Override
     public CompletionStage<List<DDMTemplate>> load(List<Long> keys) {
         return CompletableFuture.supplyAsync(() -> {
@@ -39,7 +47,8 @@ public class DDMTemplateBatchLoader implements BatchLoader<Long, DDMTemplate> {
                     .in(keys.stream()
                             .mapToLong(l -> l)
                             .toArray()));
-            return ddmTemplateLocalService.dynamicQuery(query);
-        });
+            List<DDMTemplate> results = ddmTemplateLocalService.dynamicQuery(query);
+            return BatchLoaderUtil.orderByKeys(keys, results, DDMTemplate::getTemplateId);
+        }, batchLoaderExecutor);
     }
 }
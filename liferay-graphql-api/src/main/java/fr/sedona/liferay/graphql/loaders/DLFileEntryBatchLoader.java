@@ -5,6 +5,8 @@ import com.liferay.document.library.kernel.service.DLFileEntryLocalService;
 import com.liferay.portal.kernel.dao.orm.DynamicQuery;
 import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
 import org.dataloader.BatchLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,12 +23,18 @@ import java.util.concurrent.CompletionStage;
 public class DLFileEntryBatchLoader implements BatchLoader<Long, DLFileEntry> {
     public static final String KEY = "dlFileEntry";
     private DLFileEntryLocalService dlFileEntryLocalService;
+    private BatchLoaderExecutor batchLoaderExecutor;
 
     @Reference(unbind = "-")
     public void setDLFileEntryLocalService(DLFileEntryLocalService dlFileEntryLocalService) {
         this.dlFileEntryLocalService = dlFileEntryLocalService;
     }
 
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
     @Override
     public CompletionStage<List<DLFileEntry>> load(List<Long> keys) {
         return CompletableFuture.supplyAsync(() -> {
@@ -39,7 +47,8 @@ public class DLFileEntryBatchLoader implements BatchLoader<Long, DLFileEntry> {
                     .in(keys.stream()
                             .mapToLong(l -> l)
                             .toArray()));
-            return dlFileEntryLocalService.dynamicQuery(query);
-        });
+            List<DLFileEntry> results = dlFileEntryLocalService.dynamicQuery(query);
+            return BatchLoaderUtil.orderByKeys(keys, results, DLFileEntry::getFileEntryId);
+        }, batchLoaderExecutor);
     }
 }
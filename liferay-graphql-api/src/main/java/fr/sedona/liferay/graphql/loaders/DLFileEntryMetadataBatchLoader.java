@@ -5,6 +5,8 @@ import com.liferay.document.library.kernel.service.DLFileEntryMetadataLocalServi
 import com.liferay.portal.kernel.dao.orm.DynamicQuery;
 import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
 import org.dataloader.BatchLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,12 +23,18 @@ import java.util.concurrent.CompletionStage;
 public class DLFileEntryMetadataBatchLoader implements BatchLoader<Long, DLFileEntryMetadata> {
     public static final String KEY = "dlFileEntryMetadata";
     private DLFileEntryMetadataLocalService dlFileEntryMetadataLocalService;
+    private BatchLoaderExecutor batchLoaderExecutor;
 
     @Reference(unbind = "-")
     public void setDLFileEntryMetadataLocalService(DLFileEntryMetadataLocalService dlFileEntryMetadataLocalService) {
         this.dlFileEntryMetadataLocalService = dlFileEntryMetadataLocalService;
     }
 
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
     @Override
     public CompletionStage<List<DLFileEntryMetadata>> load(List<Long> keys) {
         return CompletableFuture.supplyAsync(() -> {
@@ -39,7 +47,8 @@ public class DLFileEntryMetadataBatchLoader implements BatchLoader<Long, DLFileE
                     .in(keys.stream()
                             .mapToLong(l -> l)
                             .toArray()));
-            return dlFileEntryMetadataLocalService.dynamicQuery(query);
-        });
+            List<DLFileEntryMetadata> results = dlFileEntryMetadataLocalService.dynamicQuery(query);
+            return BatchLoaderUtil.orderByKeys(keys, results, DLFileEntryMetadata::getFileEntryMetadataId);
+        }, batchLoaderExecutor);
     }
 }
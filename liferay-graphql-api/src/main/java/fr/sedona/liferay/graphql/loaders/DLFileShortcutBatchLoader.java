@@ -5,6 +5,8 @@ import com.liferay.document.library.kernel.service.DLFileShortcutLocalService;
 import com.liferay.portal.kernel.dao.orm.DynamicQuery;
 import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
 import org.dataloader.BatchLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,12 +23,18 @@ import java.util.concurrent.CompletionStage;
 public class DLFileShortcutBatchLoader implements BatchLoader<Long, DLFileShortcut> {
     public static final String KEY = "dlFileShortcut";
     private DLFileShortcutLocalService dlFileShortcutLocalService;
+    private BatchLoaderExecutor batchLoaderExecutor;
 
     @Reference(unbind = "-")
     public void setDLFileShortcutLocalService(DLFileShortcutLocalService dlFileShortcutLocalService) {
         this.dlFileShortcutLocalService = dlFileShortcutLocalService;
     }
 
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
     @Override
     public CompletionStage<List<DLFileShortcut>> load(List<Long> keys) {
         return CompletableFuture.supplyAsync(() -> {
@@ -39,7 +47,8 @@ public class DLFileShortcutBatchLoader implements BatchLoader<Long, DLFileShortc
                     .in(keys.stream()
                             .mapToLong(l -> l)
                             .toArray()));
-            return dlFileShortcutLocalService.dynamicQuery(query);
-        });
+            List<DLFileShortcut> results = dlFileShortcutLocalService.dynamicQuery(query);
+            return BatchLoaderUtil.orderByKeys(keys, results, DLFileShortcut::getFileShortcutId);
+        }, batchLoaderExecutor);
     }
 }
@@ -5,6 +5,8 @@ import com.liferay.document.library.kernel.service.DLFileVersionLocalService;
 import com.liferay.portal.kernel.dao.orm.DynamicQuery;
 import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
 import org.dataloader.BatchLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,12 +23,18 @@ import java.util.concurrent.CompletionStage;
 public class DLFileVersionBatchLoader implements BatchLoader<Long, DLFileVersion> {
     public static final String KEY = "dlFileVersion";
     private DLFileVersionLocalService dlFileVersionLocalService;
+    private BatchLoaderExecutor batchLoaderExecutor;
 
     @Reference(unbind = "-")
     public void setDLFileVersionLocalService(DLFileVersionLocalService dlFileVersionLocalService) {
         this.dlFileVersionLocalService = dlFileVersionLocalService;
     }
 
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
     @Override
     public CompletionStage<List<DLFileVersion>> load(List<Long> keys) {
         return CompletableFuture.supplyAsync(() -> {
@@ -39,7 +47,8 @@ public class DLFileVersionBatchLoader implements BatchLoader<Long, DLFileVersion
                     .in(keys.stream()
                             .mapToLong(l -> l)
                             .toArray()));
-            return dlFileVersionLocalService.dynamicQuery(query);
-        });
+            List<DLFileVersion> results = dlFileVersionLocalService.dynamicQuery(query);
+            return BatchLoaderUtil.orderByKeys(keys, results, DLFileVersion::getFileVersionId);
+        }, batchLoaderExecutor);
     }
 }
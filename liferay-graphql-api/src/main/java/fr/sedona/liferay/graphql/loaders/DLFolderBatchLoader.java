@@ -5,6 +5,8 @@ import com.liferay.document.library.kernel.service.DLFolderLocalService;
 import com.liferay.portal.kernel.dao.orm.DynamicQuery;
 import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
 import org.dataloader.BatchLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,12 +23,18 @@ import java.util.concurrent.CompletionStage;
 public class DLFolderBatchLoader implements BatchLoader<Long, DLFolder> {
     public static final String KEY = "dlFolder";
     private DLFolderLocalService dlFolderLocalService;
+    private BatchLoaderExecutor batchLoaderExecutor;
 
     @Reference(unbind = "-")
     public void setDLFolderLocalService(DLFolderLocalService dlFolderLocalService) {
         this.dlFolderLocalService = dlFolderLocalService;
     }
 
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
     @Override
     public CompletionStage<List<DLFolder>> load(List<Long> keys) {
         return CompletableFuture.supplyAsync(() -> {
@@ -39,7 +47,8 @@ public class DLFolderBatchLoader implements BatchLoader<Long, DLFolder> {
                     .in(keys.stream()
                             .mapToLong(l -> l)
                             .toArray()));
-            return dlFolderLocalService.dynamicQuery(query);
-        });
+            List<DLFolder> results = dlFolderLocalService.dynamicQuery(query);
+            return BatchLoaderUtil.orderByKeys(keys, results, DLFolder::getFolderId);
+        }, batchLoaderExecutor);
     }
 }
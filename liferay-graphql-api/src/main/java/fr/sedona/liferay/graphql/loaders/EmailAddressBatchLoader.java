@@ -5,6 +5,8 @@ import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
 import com.liferay.portal.kernel.model.EmailAddress;
 import com.liferay.portal.kernel.service.EmailAddressLocalService;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
 import org.dataloader.BatchLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,12 +23,18 @@ import java.util.concurrent.CompletionStage;
 public class EmailAddressBatchLoader implements BatchLoader<Long, EmailAddress> {
     public static final String KEY = "emailAddress";
     private EmailAddressLocalService emailAddressLocalService;
+    private BatchLoaderExecutor batchLoaderExecutor;
 
     @Reference(unbind = "-")
     public void setEmailAddressLocalService(EmailAddressLocalService emailAddressLocalService) {
         this.emailAddressLocalService = emailAddressLocalService;
     }
 
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
     @Override
     public CompletionStage<List<EmailAddress>> load(List<Long> keys) {
         return CompletableFuture.supplyAsync(() -> {
@@ -39,7 +47,8 @@ public class EmailAddressBatchLoader implements BatchLoader<Long, EmailAddress>
                     .in(keys.stream()
                             .mapToLong(l -> l)
                             .toArray()));
-            return emailAddressLocalService.dynamicQuery(query);
-        });
+            List<EmailAddress> results = emailAddressLocalService.dynamicQuery(query);
+            return BatchLoaderUtil.orderByKeys(keys, results, EmailAddress::getEmailAddressId);
+        }, batchLoaderExecutor);
     }
 }
@@ -0,0 +1,45 @@
+package fr.sedona.liferay.graphql.loaders;
+
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.OrderFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import com.liferay.portal.kernel.model.EmailAddress;
+import com.liferay.portal.kernel.service.EmailAddressLocalService;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+import java.util.List;
+import java.util.Map;
+
+@Component(
+        immediate = true,
+        service = EmailAddressesForEntityBatchLoader.class
+)
+public class EmailAddressesForEntityBatchLoader extends ToManyBatchLoader<EntityKey, EmailAddress> {
+    public static final String KEY = "emailAddressesForEntity";
+    private EmailAddressLocalService emailAddressLocalService;
+
+    @Reference(unbind = "-")
+    public void setEmailAddressLocalService(EmailAddressLocalService emailAddressLocalService) {
+        this.emailAddressLocalService = emailAddressLocalService;
+    }
+
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
+    @Override
+    protected Map<EntityKey, List<EmailAddress>> loadChildren(List<EntityKey> keys) {
+        DynamicQuery query = DynamicQueryFactoryUtil.forClass(EmailAddress.class);
+        query.add(PropertyFactoryUtil.forName("classNameId")
+                .in(toClassNameIds(keys)));
+        query.add(PropertyFactoryUtil.forName("classPK")
+                .in(toClassPKs(keys)));
+        query.addOrder(OrderFactoryUtil.asc("createDate"));
+        List<EmailAddress> emailAddresses = emailAddressLocalService.dynamicQuery(query);
+        return groupByParentKey(emailAddresses, emailAddress -> new EntityKey(emailAddress.getClassNameId(), emailAddress.getClassPK()));
+    }
+}
@@ -0,0 +1,43 @@
+package fr.sedona.liferay.graphql.loaders;
+
+import java.util.Objects;
+
+public final class EntityKey {
+    private final long classNameId;
+    private final long classPK;
+
+    public EntityKey(long classNameId, long classPK) {
+        this.classNameId = classNameId;
+        this.classPK = classPK;
+    }
+
+    public long getClassNameId() {
+        return classNameId;
+    }
+
+    public long getClassPK() {
+        return classPK;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        EntityKey entityKey = (EntityKey) o;
+        return classNameId == entityKey.classNameId && classPK == entityKey.classPK;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(classNameId, classPK);
+    }
+
+    @Override
+    public String toString() {
+        return classNameId + ":" + classPK;
+    }
+}
@@ -5,6 +5,8 @@ import com.liferay.expando.kernel.service.ExpandoColumnLocalService;
 import com.liferay.portal.kernel.dao.orm.DynamicQuery;
 import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
 import org.dataloader.BatchLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,12 +23,18 @@ import java.util.concurrent.CompletionStage;
 public class ExpandoColumnBatchLoader implements BatchLoader<Long, ExpandoColumn> {
     public static final String KEY = "expandoColumn";
     private ExpandoColumnLocalService expandoColumnLocalService;
+    private BatchLoaderExecutor batchLoaderExecutor;
 
     @Reference(unbind = "-")
     public void setExpandoColumnLocalService(ExpandoColumnLocalService expandoColumnLocalService) {
         this.expandoColumnLocalService = expandoColumnLocalService;
     }
 
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
     @Override
     public CompletionStage<List<ExpandoColumn>> load(List<Long> keys) {
         return CompletableFuture.supplyAsync(() -> {
@@ -39,7 +47,8 @@ public class ExpandoColumnBatchLoader implements BatchLoader<Long, ExpandoColumn
                     .in(keys.stream()
                             .mapToLong(l -> l)
                             .toArray()));
-            return expandoColumnLocalService.dynamicQuery(query);
-        });
+            List<ExpandoColumn> results = expandoColumnLocalService.dynamicQuery(query);
+            return BatchLoaderUtil.orderByKeys(keys, results, ExpandoColumn::getColumnId);
+        }, batchLoaderExecutor);
     }
 }
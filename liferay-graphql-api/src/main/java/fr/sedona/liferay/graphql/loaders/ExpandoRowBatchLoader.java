@@ -5,6 +5,8 @@ import com.liferay.expando.kernel.service.ExpandoRowLocalService;
 import com.liferay.portal.kernel.dao.orm.DynamicQuery;
 import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
 import org.dataloader.BatchLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,12 +23,18 @@ import java.util.concurrent.CompletionStage;
 public class ExpandoRowBatchLoader implements BatchLoader<Long, ExpandoRow> {
     public static final String KEY = "expandoRow";
     private ExpandoRowLocalService expandoRowLocalService;
+    private BatchLoaderExecutor batchLoaderExecutor;
 
     @Reference(unbind = "-")
     public void setExpandoRowLocalService(ExpandoRowLocalService expandoRowLocalService) {
         this.expandoRowLocalService = expandoRowLocalService;
     }
 
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
     @Override
     public CompletionStage<List<ExpandoRow>> load(List<Long> keys) {
         return CompletableFuture.supplyAsync(() -> {
@@ -39,7 +47,8 @@ public class ExpandoRowBatchLoader implements BatchLoader<Long, ExpandoRow> {
                     .in(keys.stream()
                             .mapToLong(l -> l)
                             .toArray()));
-            return expandoRowLocalService.dynamicQuery(query);
-        });
+            List<ExpandoRow> results = expandoRowLocalService.dynamicQuery(query);
+            return BatchLoaderUtil.orderByKeys(keys, results, ExpandoRow::getRowId);
+        }, batchLoaderExecutor);
     }
 }
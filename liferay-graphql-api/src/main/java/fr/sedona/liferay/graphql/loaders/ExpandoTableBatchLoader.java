@@ -5,6 +5,8 @@ import com.liferay.expando.kernel.service.ExpandoTableLocalService;
 import com.liferay.portal.kernel.dao.orm.DynamicQuery;
 import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
 import org.dataloader.BatchLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,12 +23,18 @@ import java.util.concurrent.CompletionStage;
 public class ExpandoTableBatchLoader implements BatchLoader<Long, ExpandoTable> {
     public static final String KEY = "expandoTable";
     private ExpandoTableLocalService expandoTableLocalService;
+    private BatchLoaderExecutor batchLoaderExecutor;
 
     @Reference(unbind = "-")
     public void setExpandoTableLocalService(ExpandoTableLocalService expandoTableLocalService) {
         this.expandoTableLocalService = expandoTableLocalService;
     }
 
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
     @Override
     public CompletionStage<List<ExpandoTable>> load(List<Long> keys) {
         return CompletableFuture.supplyAsync(() -> {
@@ -39,7 +47,8 @@ public class ExpandoTableBatchLoader implements BatchLoader<Long, ExpandoTable>
                     .in(keys.stream()
                             .mapToLong(l -> l)
                             .toArray()));
-            return expandoTableLocalService.dynamicQuery(query);
-        });
+            List<ExpandoTable> results = expandoTableLocalService.dynamicQuery(query);
+            return BatchLoaderUtil.orderByKeys(keys, results, ExpandoTable::getTableId);
+        }, batchLoaderExecutor);
     }
 }
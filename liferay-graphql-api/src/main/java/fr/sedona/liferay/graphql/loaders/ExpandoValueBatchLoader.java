@@ -5,6 +5,8 @@ import com.liferay.expando.kernel.service.ExpandoValueLocalService;
 import com.liferay.portal.kernel.dao.orm.DynamicQuery;
 import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
 import org.dataloader.BatchLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,12 +23,18 @@ import java.util.concurrent.CompletionStage;
 public class ExpandoValueBatchLoader implements BatchLoader<Long, ExpandoValue> {
     public static final String KEY = "expandoValue";
     private ExpandoValueLocalService expandoValueLocalService;
+    private BatchLoaderExecutor batchLoaderExecutor;
 
     @Reference(unbind = "-")
     public void setExpandoValueLocalService(ExpandoValueLocalService expandoValueLocalService) {
         this.expandoValueLocalService = expandoValueLocalService;
     }
 
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
     @Override
     public CompletionStage<List<ExpandoValue>> load(List<Long> keys) {
         return CompletableFuture.supplyAsync(() -> {
@@ -39,7 +47,8 @@ public class ExpandoValueBatchLoader implements BatchLoader<Long, ExpandoValue>
                     .in(keys.stream()
                             .mapToLong(l -> l)
                             .toArray()));
-            return expandoValueLocalService.dynamicQuery(query);
-        });
+            List<ExpandoValue> results = expandoValueLocalService.dynamicQuery(query);
+            return BatchLoaderUtil.orderByKeys(keys, results, ExpandoValue::getValueId);
+        }, batchLoaderExecutor);
     }
 }
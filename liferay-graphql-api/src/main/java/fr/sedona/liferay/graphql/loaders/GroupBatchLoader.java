@@ -5,6 +5,8 @@ import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
 import com.liferay.portal.kernel.model.Group;
 import com.liferay.portal.kernel.service.GroupLocalService;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
 import org.dataloader.BatchLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,12 +23,18 @@ import java.util.concurrent.CompletionStage;
 public class GroupBatchLoader implements BatchLoader<Long, Group> {
     public static final String KEY = "group";
     private GroupLocalService groupLocalService;
+    private BatchLoaderExecutor batchLoaderExecutor;
 
     @Reference(unbind = "-")
     public void setGroupLocalService(GroupLocalService groupLocalService) {
         this.groupLocalService = groupLocalService;
     }
 
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
     @Override
     public CompletionStage<List<Group>> load(List<Long> keys) {
         return CompletableFuture.supplyAsync(() -> {
@@ -39,7 +47,8 @@ public class GroupBatchLoader implements BatchLoader<Long, Group> {
                     .in(keys.stream()
                             .mapToLong(l -> l)
                             .toArray()));
-            return groupLocalService.dynamicQuery(query);
-        });
+            List<Group> results = groupLocalService.dynamicQuery(query);
+            return BatchLoaderUtil.orderByKeys(keys, results, Group::getGroupId);
+        }, batchLoaderExecutor);
     }
 }
@@ -5,6 +5,8 @@ import com.liferay.journal.service.JournalArticleLocalService;
 import com.liferay.portal.kernel.dao.orm.DynamicQuery;
 import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
 import org.dataloader.BatchLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,12 +23,18 @@ import java.util.concurrent.CompletionStage;
 public class JournalArticleBatchLoader implements BatchLoader<Long, JournalArticle> {
     public static final String KEY = "journalArticle";
     private JournalArticleLocalService journalArticleLocalService;
+    private BatchLoaderExecutor batchLoaderExecutor;
 
     @Reference(unbind = "-")
     public void setJournalArticleLocalService(JournalArticleLocalService journalArticleLocalService) {
         this.journalArticleLocalService = journalArticleLocalService;
     }
 
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
     @Override
     public CompletionStage<List<JournalArticle>> load(List<Long> keys) {
         return CompletableFuture.supplyAsync(() -> {
@@ -39,7 +47,8 @@ public class JournalArticleBatchLoader implements BatchLoader<Long, JournalArtic
                     .in(keys.stream()
                             .mapToLong(l -> l)
                             .toArray()));
-            return journalArticleLocalService.dynamicQuery(query);
-        });
+            List<JournalArticle> results = journalArticleLocalService.dynamicQuery(query);
+            return BatchLoaderUtil.orderByKeys(keys, results, JournalArticle::getId);
+        }, batchLoaderExecutor);
     }
 }
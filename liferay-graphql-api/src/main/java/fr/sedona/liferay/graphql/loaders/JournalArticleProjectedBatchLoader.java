@@ -0,0 +1,90 @@
+package fr.sedona.liferay.graphql.loaders;
+
+import com.liferay.journal.service.JournalArticleLocalService;
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import fr.sedona.liferay.graphql.cache.EntityCache;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.projection.EntityProjection;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+import java.util.List;
+
+@Component(
+        immediate = true,
+        service = JournalArticleProjectedBatchLoader.class
+)
+public class JournalArticleProjectedBatchLoader extends ProjectedBatchLoader {
+    public static final String KEY = "journalArticleProjected";
+    // Only the columns of the article table: the other fields are computed by the entity
+    public static final EntityProjection PROJECTION = EntityProjection.newEntityProjection("id")
+            .property("articleId")
+            .property("classNameId")
+            .property("classPK")
+            .property("companyId")
+            .property("content")
+            .property("createDate")
+            .property("ddmStructureKey", "DDMStructureKey")
+            .property("ddmTemplateKey", "DDMTemplateKey")
+            .property("defaultLanguageId")
+            .property("displayDate")
+            .property("expirationDate")
+            .property("folderId")
+            .property("groupId")
+            .property("id")
+            .property("indexable")
+            .property("lastPublishDate")
+            .property("layoutUuid")
+            .property("modifiedDate")
+            .property("primaryKey", "id")
+            .property("resourcePrimKey")
+            .property("reviewDate")
+            .property("smallImage")
+            .property("smallImageId")
+            .property("smallImageURL")
+            .property("status")
+            .property("statusByUserId")
+            .property("statusByUserName")
+            .property("statusDate")
+            .property("treePath")
+            .property("urlTitle")
+            .property("userId")
+            .property("userName")
+            .property("uuid")
+            .property("version")
+            .relation("company", "companyId")
+            .relation("group", "groupId")
+            .relation("user", "userId")
+            .relation("folder", "folderId")
+            .build();
+    private JournalArticleLocalService journalArticleLocalService;
+
+    public JournalArticleProjectedBatchLoader() {
+        super(JournalArticleBatchLoader.KEY, PROJECTION);
+    }
+
+    @Reference(unbind = "-")
+    public void setJournalArticleLocalService(JournalArticleLocalService journalArticleLocalService) {
+        this.journalArticleLocalService = journalArticleLocalService;
+    }
+
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
+    @Reference(unbind = "-")
+    public void setEntityCache(EntityCache entityCache) {
+        this.entityCache = entityCache;
+    }
+
+    @Override
+    protected DynamicQuery newDynamicQuery() {
+        return journalArticleLocalService.dynamicQuery();
+    }
+
+    @Override
+    protected List<Object> dynamicQuery(DynamicQuery query) {
+        return journalArticleLocalService.dynamicQuery(query);
+    }
+}
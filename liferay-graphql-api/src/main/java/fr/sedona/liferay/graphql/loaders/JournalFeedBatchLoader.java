@@ -5,6 +5,8 @@ import com.liferay.journal.service.JournalFeedLocalService;
 import com.liferay.portal.kernel.dao.orm.DynamicQuery;
 import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
 import org.dataloader.BatchLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,12 +23,18 @@ import java.util.concurrent.CompletionStage;
 public class JournalFeedBatchLoader implements BatchLoader<Long, JournalFeed> {
     public static final String KEY = "journalFeed";
     private JournalFeedLocalService journalFeedLocalService;
+    private BatchLoaderExecutor batchLoaderExecutor;
 
     @Reference(unbind = "-")
     public void setJournalFeedLocalService(JournalFeedLocalService journalFeedLocalService) {
         this.journalFeedLocalService = journalFeedLocalService;
     }
 
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
     @Override
     public CompletionStage<List<JournalFeed>> load(List<Long> keys) {
         return CompletableFuture.supplyAsync(() -> {
@@ -39,7 +47,8 @@ public class JournalFeedBatchLoader implements BatchLoader<Long, JournalFeed> {
                     .in(keys.stream()
                             .mapToLong(l -> l)
                             .toArray()));
-            return journalFeedLocalService.dynamicQuery(query);
-        });
+            List<JournalFeed> results = journalFeedLocalService.dynamicQuery(query);
+            return BatchLoaderUtil.orderByKeys(keys, results, JournalFeed::getId);
+        }, batchLoaderExecutor);
     }
 }
@@ -5,6 +5,8 @@ import com.liferay.journal.service.JournalFolderLocalService;
 import com.liferay.portal.kernel.dao.orm.DynamicQuery;
 import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
 import org.dataloader.BatchLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,12 +23,18 @@ import java.util.concurrent.CompletionStage;
 public class JournalFolderBatchLoader implements BatchLoader<Long, JournalFolder> {
     public static final String KEY = "journalFolder";
     private JournalFolderLocalService journalFolderLocalService;
+    private BatchLoaderExecutor batchLoaderExecutor;
 
     @Reference(unbind = "-")
     public void setJournalFolderLocalService(JournalFolderLocalService journalFolderLocalService) {
         this.journalFolderLocalService = journalFolderLocalService;
     }
 
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
     @Override
     public CompletionStage<List<JournalFolder>> load(List<Long> keys) {
         return CompletableFuture.supplyAsync(() -> {
@@ -39,7 +47,8 @@ public class JournalFolderBatchLoader implements BatchLoader<Long, JournalFolder
                     .in(keys.stream()
                             .mapToLong(l -> l)
                             .toArray()));
-            return journalFolderLocalService.dynamicQuery(query);
-        });
+            List<JournalFolder> results = journalFolderLocalService.dynamicQuery(query);
+            return BatchLoaderUtil.orderByKeys(keys, results, JournalFolder::getFolderId);
+        }, batchLoaderExecutor);
     }
 }
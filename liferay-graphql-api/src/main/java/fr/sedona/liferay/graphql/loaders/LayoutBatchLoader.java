@@ -5,6 +5,8 @@ import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
 import com.liferay.portal.kernel.model.Layout;
 import com.liferay.portal.kernel.service.LayoutLocalService;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
 import org.dataloader.BatchLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,12 +23,18 @@ import java.util.concurrent.CompletionStage;
 public class LayoutBatchLoader implements BatchLoader<Long, Layout> {
     public static final String KEY = "layout";
     private LayoutLocalService layoutLocalService;
+    private BatchLoaderExecutor batchLoaderExecutor;
 
     @Reference(unbind = "-")
     public void setLayoutLocalService(LayoutLocalService layoutLocalService) {
         this.layoutLocalService = layoutLocalService;
     }
 
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
     @Override
     public CompletionStage<List<Layout>> load(List<Long> keys) {
         return CompletableFuture.supplyAsync(() -> {
@@ -39,7 +47,8 @@ public class LayoutBatchLoader implements BatchLoader<Long, Layout> {
                     .in(keys.stream()
                             .mapToLong(l -> l)
                             .toArray()));
-            return layoutLocalService.dynamicQuery(query);
-        });
+            List<Layout> results = layoutLocalService.dynamicQuery(query);
+            return BatchLoaderUtil.orderByKeys(keys, results, Layout::getLayoutId);
+        }, batchLoaderExecutor);
     }
 }
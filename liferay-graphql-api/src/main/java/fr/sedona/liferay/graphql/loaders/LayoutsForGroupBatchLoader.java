@@ -0,0 +1,46 @@
+package fr.sedona.liferay.graphql.loaders;
+
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.OrderFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import com.liferay.portal.kernel.model.Layout;
+import com.liferay.portal.kernel.service.LayoutLocalService;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+import java.util.List;
+import java.util.Map;
+
+@Component(
+        immediate = true,
+        service = LayoutsForGroupBatchLoader.class
+)
+public class LayoutsForGroupBatchLoader extends ToManyBatchLoader<Long, Layout> {
+    public static final String KEY = "layoutsForGroup";
+    private LayoutLocalService layoutLocalService;
+
+    @Reference(unbind = "-")
+    public void setLayoutLocalService(LayoutLocalService layoutLocalService) {
+        this.layoutLocalService = layoutLocalService;
+    }
+
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
+    @Override
+    protected Map<Long, List<Layout>> loadChildren(List<Long> keys) {
+        DynamicQuery query = DynamicQueryFactoryUtil.forClass(Layout.class);
+        query.add(PropertyFactoryUtil.forName("groupId")
+                .in(keys.stream()
+                        .mapToLong(l -> l)
+                        .toArray()));
+        query.addOrder(OrderFactoryUtil.asc("parentLayoutId"));
+        query.addOrder(OrderFactoryUtil.asc("priority"));
+        List<Layout> layouts = layoutLocalService.dynamicQuery(query);
+        return groupByParentKey(layouts, Layout::getGroupId);
+    }
+}
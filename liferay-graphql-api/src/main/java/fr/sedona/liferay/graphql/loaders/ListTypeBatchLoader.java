@@ -5,6 +5,8 @@ import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
 import com.liferay.portal.kernel.model.ListType;
 import com.liferay.portal.kernel.service.ListTypeLocalService;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
 import org.dataloader.BatchLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,12 +23,18 @@ import java.util.concurrent.CompletionStage;
 public class ListTypeBatchLoader implements BatchLoader<Long, ListType> {
     public static final String KEY = "listType";
     private ListTypeLocalService listTypeLocalService;
+    private BatchLoaderExecutor batchLoaderExecutor;
 
     @Reference(unbind = "-")
     public void setListTypeLocalService(ListTypeLocalService listTypeLocalService) {
         this.listTypeLocalService = listTypeLocalService;
     }
 
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
     @Override
     public CompletionStage<List<ListType>> load(List<Long> keys) {
         return CompletableFuture.supplyAsync(() -> {
@@ -39,7 +47,8 @@ public class ListTypeBatchLoader implements BatchLoader<Long, ListType> {
                     .in(keys.stream()
                             .mapToLong(l -> l)
                             .toArray()));
-            return listTypeLocalService.dynamicQuery(query);
-        });
+            List<ListType> results = listTypeLocalService.dynamicQuery(query);
+            return BatchLoaderUtil.orderByKeys(keys, results, ListType::getListTypeId);
+        }, batchLoaderExecutor);
     }
 }
@@ -5,6 +5,8 @@ import com.liferay.message.boards.kernel.service.MBCategoryLocalService;
 import com.liferay.portal.kernel.dao.orm.DynamicQuery;
 import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
 import org.dataloader.BatchLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,12 +23,18 @@ import java.util.concurrent.CompletionStage;
 public class MBCategoryBatchLoader implements BatchLoader<Long, MBCategory> {
     public static final String KEY = "mbCategory";
     private MBCategoryLocalService mbCategoryLocalService;
+    private BatchLoaderExecutor batchLoaderExecutor;
 
     @Reference(unbind = "-")
     public void setMBCategoryLocalService(MBCategoryLocalService mbCategoryLocalService) {
         this.mbCategoryLocalService = mbCategoryLocalService;
     }
 
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
     @Override
     public CompletionStage<List<MBCategory>> load(List<Long> keys) {
         return CompletableFuture.supplyAsync(() -> {
@@ -39,7 +47,8 @@ public class MBCategoryBatchLoader implements BatchLoader<Long, MBCategory> {
                     .in(keys.stream()
                             .mapToLong(l -> l)
                             .toArray()));
-            return mbCategoryLocalService.dynamicQuery(query);
-        });
+            List<MBCategory> results = mbCategoryLocalService.dynamicQuery(query);
+            return BatchLoaderUtil.orderByKeys(keys, results, MBCategory::getCategoryId);
+        }, batchLoaderExecutor);
     }
 }
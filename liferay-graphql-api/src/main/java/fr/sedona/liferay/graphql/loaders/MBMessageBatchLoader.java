@@ -5,6 +5,8 @@ import com.liferay.message.boards.kernel.service.MBMessageLocalService;
 import com.liferay.portal.kernel.dao.orm.DynamicQuery;
 import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
 import org.dataloader.BatchLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,12 +23,18 @@ import java.util.concurrent.CompletionStage;
 public class MBMessageBatchLoader implements BatchLoader<Long, MBMessage> {
     public static final String KEY = "mbMessage";
     private MBMessageLocalService mbMessageLocalService;
+    private BatchLoaderExecutor batchLoaderExecutor;
 
     @Reference(unbind = "-")
     public void setMBMessageLocalService(MBMessageLocalService mbMessageLocalService) {
         this.mbMessageLocalService = mbMessageLocalService;
     }
 
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
     @Override
     public CompletionStage<List<MBMessage>> load(List<Long> keys) {
         return CompletableFuture.supplyAsync(() -> {
@@ -39,7 +47,8 @@ public class MBMessageBatchLoader implements BatchLoader<Long, MBMessage> {
                     .in(keys.stream()
                             .mapToLong(l -> l)
                             .toArray()));
-            return mbMessageLocalService.dynamicQuery(query);
-        });
+            List<MBMessage> results = mbMessageLocalService.dynamicQuery(query);
+            return BatchLoaderUtil.orderByKeys(keys, results, MBMessage::getMessageId);
+        }, batchLoaderExecutor);
     }
 }
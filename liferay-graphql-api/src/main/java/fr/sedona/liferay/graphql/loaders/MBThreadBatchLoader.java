@@ -5,6 +5,8 @@ import com.liferay.message.boards.kernel.service.MBThreadLocalService;
 import com.liferay.portal.kernel.dao.orm.DynamicQuery;
 import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
 import org.dataloader.BatchLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,12 +23,18 @@ import java.util.concurrent.CompletionStage;
 public class MBThreadBatchLoader implements BatchLoader<Long, MBThread> {
     public static final String KEY = "mbThread";
     private MBThreadLocalService mbThreadLocalService;
+    private BatchLoaderExecutor batchLoaderExecutor;
 
     @Reference(unbind = "-")
     public void setMBThreadLocalService(MBThreadLocalService mbThreadLocalService) {
         this.mbThreadLocalService = mbThreadLocalService;
     }
 
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
     @Override
     public CompletionStage<List<MBThread>> load(List<Long> keys) {
         return CompletableFuture.supplyAsync(() -> {
@@ -39,7 +47,8 @@ public class MBThreadBatchLoader implements BatchLoader<Long, MBThread> {
                     .in(keys.stream()
                             .mapToLong(l -> l)
                             .toArray()));
-            return mbThreadLocalService.dynamicQuery(query);
-        });
+            List<MBThread> results = mbThreadLocalService.dynamicQuery(query);
+            return BatchLoaderUtil.orderByKeys(keys, results, MBThread::getThreadId);
+        }, batchLoaderExecutor);
     }
 }
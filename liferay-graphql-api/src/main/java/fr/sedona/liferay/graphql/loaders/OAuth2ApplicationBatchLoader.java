@@ -5,6 +5,8 @@ import com.liferay.oauth2.provider.service.OAuth2ApplicationLocalService;
 import com.liferay.portal.kernel.dao.orm.DynamicQuery;
 import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
 import org.dataloader.BatchLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,12 +23,18 @@ import java.util.concurrent.CompletionStage;
 public class OAuth2ApplicationBatchLoader implements BatchLoader<Long, OAuth2Application> {
     public static final String KEY = "oAuth2Application";
     private OAuth2ApplicationLocalService oAuth2ApplicationLocalService;
+    private BatchLoaderExecutor batchLoaderExecutor;
 
     @Reference(unbind = "-")
     public void setOAuth2ApplicationLocalService(OAuth2ApplicationLocalService oAuth2ApplicationLocalService) {
         this.oAuth2ApplicationLocalService = oAuth2ApplicationLocalService;
     }
 
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
     @Override
     public CompletionStage<List<OAuth2Application>> load(List<Long> keys) {
         return CompletableFuture.supplyAsync(() -> {
@@ -39,7 +47,8 @@ public class OAuth2ApplicationBatchLoader implements BatchLoader<Long, OAuth2App
                     .in(keys.stream()
                             .mapToLong(l -> l)
                             .toArray()));
-            return oAuth2ApplicationLocalService.dynamicQuery(query);
-        });
+            List<OAuth2Application> results = oAuth2ApplicationLocalService.dynamicQuery(query);
+            return BatchLoaderUtil.orderByKeys(keys, results, OAuth2Application::getOAuth2ApplicationId);
+        }, batchLoaderExecutor);
     }
 }
@@ -5,6 +5,8 @@ import com.liferay.oauth2.provider.service.OAuth2ApplicationScopeAliasesLocalSer
 import com.liferay.portal.kernel.dao.orm.DynamicQuery;
 import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
 import org.dataloader.BatchLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,12 +23,18 @@ import java.util.concurrent.CompletionStage;
 public class OAuth2ApplicationScopeAliasesBatchLoader implements BatchLoader<Long, OAuth2ApplicationScopeAliases> {
     public static final String KEY = "oAuth2ApplicationScopeAliases";
     private OAuth2ApplicationScopeAliasesLocalService oAuth2ApplicationScopeAliasesLocalService;
+    private BatchLoaderExecutor batchLoaderExecutor;
 
     @Reference(unbind = "-")
     public void setOAuth2ApplicationScopeAliasesLocalService(OAuth2ApplicationScopeAliasesLocalService oAuth2ApplicationScopeAliasesLocalService) {
         this.oAuth2ApplicationScopeAliasesLocalService = oAuth2ApplicationScopeAliasesLocalService;
     }
 
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
     @Override
     public CompletionStage<List<OAuth2ApplicationScopeAliases>> load(List<Long> keys) {
         return CompletableFuture.supplyAsync(() -> {
@@ -39,7 +47,8 @@ public class OAuth2ApplicationScopeAliasesBatchLoader implements BatchLoader<Lon
                     .in(keys.stream()
                             .mapToLong(l -> l)
                             .toArray()));
-            return oAuth2ApplicationScopeAliasesLocalService.dynamicQuery(query);
-        });
+            List<OAuth2ApplicationScopeAliases> results = oAuth2ApplicationScopeAliasesLocalService.dynamicQuery(query);
+            return BatchLoaderUtil.orderByKeys(keys, results, OAuth2ApplicationScopeAliases::getOAuth2ApplicationScopeAliasesId);
+        }, batchLoaderExecutor);
     }
 }
@@ -5,6 +5,8 @@ import com.liferay.oauth2.provider.service.OAuth2AuthorizationLocalService;
 import com.liferay.portal.kernel.dao.orm.DynamicQuery;
 import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
 import org.dataloader.BatchLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,12 +23,18 @@ import java.util.concurrent.CompletionStage;
 public class OAuth2AuthorizationBatchLoader implements BatchLoader<Long, OAuth2Authorization> {
     public static final String KEY = "oAuth2Authorization";
     private OAuth2AuthorizationLocalService oAuth2AuthorizationLocalService;
+    private BatchLoaderExecutor batchLoaderExecutor;
 
     @Reference(unbind = "-")
     public void setOAuth2AuthorizationLocalService(OAuth2AuthorizationLocalService oAuth2AuthorizationLocalService) {
         this.oAuth2AuthorizationLocalService = oAuth2AuthorizationLocalService;
     }
 
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
     @Override
     public CompletionStage<List<OAuth2Authorization>> load(List<Long> keys) {
         return CompletableFuture.supplyAsync(() -> {
@@ -39,7 +47,8 @@ public class OAuth2AuthorizationBatchLoader implements BatchLoader<Long, OAuth2A
                     .in(keys.stream()
                             .mapToLong(l -> l)
                             .toArray()));
-            return oAuth2AuthorizationLocalService.dynamicQuery(query);
-        });
+            List<OAuth2Authorization> results = oAuth2AuthorizationLocalService.dynamicQuery(query);
+            return BatchLoaderUtil.orderByKeys(keys, results, OAuth2Authorization::getOAuth2AuthorizationId);
+        }, batchLoaderExecutor);
     }
 }
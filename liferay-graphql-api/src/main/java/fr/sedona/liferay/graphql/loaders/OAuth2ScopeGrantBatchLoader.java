@@ -5,6 +5,8 @@ import com.liferay.oauth2.provider.service.OAuth2ScopeGrantLocalService;
 import com.liferay.portal.kernel.dao.orm.DynamicQuery;
 import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
 import org.dataloader.BatchLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,12 +23,18 @@ import java.util.concurrent.CompletionStage;
 public class OAuth2ScopeGrantBatchLoader implements BatchLoader<Long, OAuth2ScopeGrant> {
     public static final String KEY = "oAuth2ScopeGrant";
     private OAuth2ScopeGrantLocalService oAuth2ScopeGrantLocalService;
+    private BatchLoaderExecutor batchLoaderExecutor;
 
     @Reference(unbind = "-")
     public void setOAuth2ScopeGrantLocalService(OAuth2ScopeGrantLocalService oAuth2ScopeGrantLocalService) {
         this.oAuth2ScopeGrantLocalService = oAuth2ScopeGrantLocalService;
     }
 
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
     @Override
     public CompletionStage<List<OAuth2ScopeGrant>> load(List<Long> keys) {
         return CompletableFuture.supplyAsync(() -> {
@@ -39,7 +47,8 @@ public class OAuth2ScopeGrantBatchLoader implements BatchLoader<Long, OAuth2Scop
                     .in(keys.stream()
                             .mapToLong(l -> l)
                             .toArray()));
-            return oAuth2ScopeGrantLocalService.dynamicQuery(query);
-        });
+            List<OAuth2ScopeGrant> results = oAuth2ScopeGrantLocalService.dynamicQuery(query);
+            return BatchLoaderUtil.orderByKeys(keys, results, OAuth2ScopeGrant::getOAuth2ScopeGrantId);
+        }, batchLoaderExecutor);
     }
 }
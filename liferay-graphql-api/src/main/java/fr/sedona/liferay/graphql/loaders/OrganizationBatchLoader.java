@@ -5,6 +5,8 @@ import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
 import com.liferay.portal.kernel.model.Organization;
 import com.liferay.portal.kernel.service.OrganizationLocalService;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
 import org.dataloader.BatchLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,12 +23,18 @@ import java.util.concurrent.CompletionStage;
 public class OrganizationBatchLoader implements BatchLoader<Long, Organization> {
     public static final String KEY = "organization";
     private OrganizationLocalService organizationLocalService;
+    private BatchLoaderExecutor batchLoaderExecutor;
 
     @Reference(unbind = "-")
     public void setOrganizationLocalService(OrganizationLocalService organizationLocalService) {
         this.organizationLocalService = organizationLocalService;
     }
 
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
     @Override
     public CompletionStage<List<Organization>> load(List<Long> keys) {
         return CompletableFuture.supplyAsync(() -> {
@@ -39,7 +47,8 @@ public class OrganizationBatchLoader implements BatchLoader<Long, Organization>
                     .in(keys.stream()
                             .mapToLong(l -> l)
                             .toArray()));
-            return organizationLocalService.dynamicQuery(query);
-        });
+            List<Organization> results = organizationLocalService.dynamicQuery(query);
+            return BatchLoaderUtil.orderByKeys(keys, results, Organization::getOrganizationId);
+        }, batchLoaderExecutor);
     }
 }
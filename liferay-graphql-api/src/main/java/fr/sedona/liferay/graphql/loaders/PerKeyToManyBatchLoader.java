@@ -0,0 +1,37 @@
+package fr.sedona.liferay.graphql.loaders;
+
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import org.dataloader.BatchLoader;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+
+/**
+ * Batch loader of the to-many relations that cannot be grouped in a single query, such as the Liferay mapping tables
+ * which are only reachable one parent at a time. The keys of a batch are loaded in parallel on the batch loader
+ * executor, so a batch costs one round trip per key, but no longer the sum of their durations.
+ */
+public abstract class PerKeyToManyBatchLoader<K, V> implements BatchLoader<K, List<V>> {
+    protected BatchLoaderExecutor batchLoaderExecutor;
+
+    protected abstract List<V> loadChildren(K key);
+
+    @Override
+    public CompletionStage<List<List<V>>> load(List<K> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+
+        // No thread waits for the other keys, a saturated executor cannot deadlock on its own batches
+        List<CompletableFuture<List<V>>> childrenByKey = keys.stream()
+                .map(key -> CompletableFuture.supplyAsync(() -> loadChildren(key), batchLoaderExecutor))
+                .collect(Collectors.toList());
+        return CompletableFuture.allOf(childrenByKey.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> childrenByKey.stream()
+                        .map(CompletableFuture::join)
+                        .collect(Collectors.toList()));
+    }
+}
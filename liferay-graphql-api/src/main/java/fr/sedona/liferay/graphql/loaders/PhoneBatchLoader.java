@@ -5,6 +5,8 @@ import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
 import com.liferay.portal.kernel.model.Phone;
 import com.liferay.portal.kernel.service.PhoneLocalService;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
 import org.dataloader.BatchLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,12 +23,18 @@ import java.util.concurrent.CompletionStage;
 public class PhoneBatchLoader implements BatchLoader<Long, Phone> {
     public static final String KEY = "phone";
     private PhoneLocalService phoneLocalService;
+    private BatchLoaderExecutor batchLoaderExecutor;
 
     @Reference(unbind = "-")
     public void setPhoneLocalService(PhoneLocalService phoneLocalService) {
         this.phoneLocalService = phoneLocalService;
     }
 
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
     @Override
     public CompletionStage<List<Phone>> load(List<Long> keys) {
         return CompletableFuture.supplyAsync(() -> {
@@ -39,7 +47,8 @@ public class PhoneBatchLoader implements BatchLoader<Long, Phone> {
                     .in(keys.stream()
                             .mapToLong(l -> l)
                             .toArray()));
-            return phoneLocalService.dynamicQuery(query);
-        });
+            List<Phone> results = phoneLocalService.dynamicQuery(query);
+            return BatchLoaderUtil.orderByKeys(keys, results, Phone::getPhoneId);
+        }, batchLoaderExecutor);
     }
 }
@@ -0,0 +1,45 @@
+package fr.sedona.liferay.graphql.loaders;
+
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.OrderFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import com.liferay.portal.kernel.model.Phone;
+import com.liferay.portal.kernel.service.PhoneLocalService;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+import java.util.List;
+import java.util.Map;
+
+@Component(
+        immediate = true,
+        service = PhonesForEntityBatchLoader.class
+)
+public class PhonesForEntityBatchLoader extends ToManyBatchLoader<EntityKey, Phone> {
+    public static final String KEY = "phonesForEntity";
+    private PhoneLocalService phoneLocalService;
+
+    @Reference(unbind = "-")
+    public void setPhoneLocalService(PhoneLocalService phoneLocalService) {
+        this.phoneLocalService = phoneLocalService;
+    }
+
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
+    @Override
+    protected Map<EntityKey, List<Phone>> loadChildren(List<EntityKey> keys) {
+        DynamicQuery query = DynamicQueryFactoryUtil.forClass(Phone.class);
+        query.add(PropertyFactoryUtil.forName("classNameId")
+                .in(toClassNameIds(keys)));
+        query.add(PropertyFactoryUtil.forName("classPK")
+                .in(toClassPKs(keys)));
+        query.addOrder(OrderFactoryUtil.asc("createDate"));
+        List<Phone> phones = phoneLocalService.dynamicQuery(query);
+        return groupByParentKey(phones, phone -> new EntityKey(phone.getClassNameId(), phone.getClassPK()));
+    }
+}
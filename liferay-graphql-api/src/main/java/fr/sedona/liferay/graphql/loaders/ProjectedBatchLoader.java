@@ -0,0 +1,92 @@
+package fr.sedona.liferay.graphql.loaders;
+
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import fr.sedona.liferay.graphql.cache.EntityCache;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.projection.EntityProjection;
+import fr.sedona.liferay.graphql.projection.ProjectedKey;
+import fr.sedona.liferay.graphql.projection.ProjectedRow;
+import org.dataloader.BatchLoader;
+import org.dataloader.CacheMap;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+public abstract class ProjectedBatchLoader implements BatchLoader<ProjectedKey, Object> {
+    private final String entityLoaderKey;
+    private final EntityProjection projection;
+    protected BatchLoaderExecutor batchLoaderExecutor;
+    protected EntityCache entityCache;
+
+    protected ProjectedBatchLoader(String entityLoaderKey, EntityProjection projection) {
+        this.entityLoaderKey = entityLoaderKey;
+        this.projection = projection;
+    }
+
+    protected abstract DynamicQuery newDynamicQuery();
+
+    protected abstract List<Object> dynamicQuery(DynamicQuery query);
+
+    @Override
+    public CompletionStage<List<Object>> load(List<ProjectedKey> keys) {
+        return CompletableFuture.supplyAsync(() -> {
+            if (keys == null || keys.isEmpty()) {
+                return Collections.emptyList();
+            }
+
+            CacheMap<Long, Object> entities = entityCache.getCacheMap(entityLoaderKey);
+            Map<ProjectedKey, Object> resultsByKey = new HashMap<>();
+            Map<List<String>, List<Long>> primaryKeysByFields = new LinkedHashMap<>();
+            for (ProjectedKey key : keys) {
+                Object entity = getCachedEntity(entities, key.getPrimaryKey());
+                if (entity != null) {
+                    // Already hydrated by a previous request, which is cheaper than any query
+                    resultsByKey.put(key, entity);
+                } else {
+                    primaryKeysByFields.computeIfAbsent(key.getFields(), fields -> new ArrayList<>())
+                            .add(key.getPrimaryKey());
+                }
+            }
+
+            // The keys of a batch usually come from the same selection, hence a single query
+            primaryKeysByFields.forEach((fields, primaryKeys) -> {
+                DynamicQuery query = newDynamicQuery();
+                query.setProjection(projection.toProjectionList(fields));
+                query.add(PropertyFactoryUtil.forName(projection.getPrimaryKeyPropertyName())
+                        .in(primaryKeys.stream()
+                                .mapToLong(l -> l)
+                                .toArray()));
+                for (ProjectedRow row : projection.toRows(fields, dynamicQuery(query))) {
+                    resultsByKey.put(new ProjectedKey(row.getLong(projection.getPrimaryKeyField()), fields), row);
+                }
+            });
+
+            List<Object> results = new ArrayList<>(keys.size());
+            for (ProjectedKey key : keys) {
+                results.add(resultsByKey.get(key));
+            }
+            return results;
+        }, batchLoaderExecutor);
+    }
+
+    private Object getCachedEntity(CacheMap<Long, Object> entities, long primaryKey) {
+        if (!entities.containsKey(primaryKey)) {
+            return null;
+        }
+
+        // The data loaders cache the futures of their results
+        Object cachedValue = entities.get(primaryKey);
+        if (!(cachedValue instanceof CompletableFuture)) {
+            return null;
+        }
+        CompletableFuture<?> cachedEntity = (CompletableFuture<?>) cachedValue;
+        return cachedEntity.isDone() && !cachedEntity.isCompletedExceptionally() ? cachedEntity.join() : null;
+    }
+}
@@ -5,6 +5,8 @@ import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
 import com.liferay.ratings.kernel.model.RatingsEntry;
 import com.liferay.ratings.kernel.service.RatingsEntryLocalService;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
 import org.dataloader.BatchLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,12 +23,18 @@ import java.util.concurrent.CompletionStage;
 public class RatingsEntryBatchLoader implements BatchLoader<Long, RatingsEntry> {
     public static final String KEY = "ratingsEntry";
     private RatingsEntryLocalService ratingsEntryLocalService;
+    private BatchLoaderExecutor batchLoaderExecutor;
 
     @Reference(unbind = "-")
     public void setRatingsEntryLocalService(RatingsEntryLocalService ratingsEntryLocalService) {
         this.ratingsEntryLocalService = ratingsEntryLocalService;
     }
 
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
     @Override
     public CompletionStage<List<RatingsEntry>> load(List<Long> keys) {
         return CompletableFuture.supplyAsync(() -> {
@@ -39,7 +47,8 @@ public class RatingsEntryBatchLoader implements BatchLoader<Long, RatingsEntry>
                     .in(keys.stream()
                             .mapToLong(l -> l)
                             .toArray()));
-            return ratingsEntryLocalService.dynamicQuery(query);
-        });
+            List<RatingsEntry> results = ratingsEntryLocalService.dynamicQuery(query);
+            return BatchLoaderUtil.orderByKeys(keys, results, RatingsEntry::getEntryId);
+        }, batchLoaderExecutor);
     }
 }
@@ -5,6 +5,8 @@ import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
 import com.liferay.portal.kernel.model.Role;
 import com.liferay.portal.kernel.service.RoleLocalService;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
 import org.dataloader.BatchLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,12 +23,18 @@ import java.util.concurrent.CompletionStage;
 public class RoleBatchLoader implements BatchLoader<Long, Role> {
     public static final String KEY = "role";
     private RoleLocalService roleLocalService;
+    private BatchLoaderExecutor batchLoaderExecutor;
 
     @Reference(unbind = "-")
     public void setRoleLocalService(RoleLocalService roleLocalService) {
         this.roleLocalService = roleLocalService;
     }
 
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
     @Override
     public CompletionStage<List<Role>> load(List<Long> keys) {
         return CompletableFuture.supplyAsync(() -> {
@@ -39,7 +47,8 @@ public class RoleBatchLoader implements BatchLoader<Long, Role> {
                     .in(keys.stream()
                             .mapToLong(l -> l)
                             .toArray()));
-            return roleLocalService.dynamicQuery(query);
-        });
+            List<Role> results = roleLocalService.dynamicQuery(query);
+            return BatchLoaderUtil.orderByKeys(keys, results, Role::getRoleId);
+        }, batchLoaderExecutor);
     }
 }
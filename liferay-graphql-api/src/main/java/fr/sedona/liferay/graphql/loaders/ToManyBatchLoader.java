@@ -0,0 +1,54 @@
+package fr.sedona.liferay.graphql.loaders;
+
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import org.dataloader.BatchLoader;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+public abstract class ToManyBatchLoader<K, V> implements BatchLoader<K, List<V>> {
+    protected BatchLoaderExecutor batchLoaderExecutor;
+
+    protected abstract Map<K, List<V>> loadChildren(List<K> keys);
+
+    @Override
+    public CompletionStage<List<List<V>>> load(List<K> keys) {
+        return CompletableFuture.supplyAsync(() -> {
+            if (keys == null || keys.isEmpty()) {
+                return Collections.emptyList();
+            }
+
+            Map<K, List<V>> childrenByKey = loadChildren(keys);
+            List<List<V>> results = new ArrayList<>(keys.size());
+            for (K key : keys) {
+                results.add(childrenByKey.getOrDefault(key, Collections.emptyList()));
+            }
+            return results;
+        }, batchLoaderExecutor);
+    }
+
+    protected static <K, V> Map<K, List<V>> groupByParentKey(List<V> children, Function<V, K> parentKeyMapper) {
+        Map<K, List<V>> childrenByKey = new HashMap<>();
+        for (V child : children) {
+            childrenByKey.computeIfAbsent(parentKeyMapper.apply(child), key -> new ArrayList<>())
+                    .add(child);
+        }
+        return childrenByKey;
+    }
+
+    protected static long[] toClassNameIds(List<EntityKey> keys) {
+        return keys.stream()
+                .mapToLong(EntityKey::getClassNameId)
+                .distinct()
+                .toArray();
+    }
+
+    protected static long[] toClassPKs(List<EntityKey> keys) {
+        return keys.stream()
+                .mapToLong(EntityKey::getClassPK)
+                .distinct()
+                .toArray();
+    }
+}
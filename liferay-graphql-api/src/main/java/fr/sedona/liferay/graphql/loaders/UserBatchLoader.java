@@ -5,6 +5,8 @@ import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
 import com.liferay.portal.kernel.model.User;
 import com.liferay.portal.kernel.service.UserLocalService;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
 import org.dataloader.BatchLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,12 +23,18 @@ import java.util.concurrent.CompletionStage;
 public class UserBatchLoader implements BatchLoader<Long, User> {
     public static final String KEY = "user";
     private UserLocalService userLocalService;
+    private BatchLoaderExecutor batchLoaderExecutor;
 
     @Reference(unbind = "-")
     public void setUserLocalService(UserLocalService userLocalService) {
         this.userLocalService = userLocalService;
     }
 
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
     @Override
     public CompletionStage<List<User>> load(List<Long> keys) {
         return CompletableFuture.supplyAsync(() -> {
@@ -39,7 +47,8 @@ public class UserBatchLoader implements BatchLoader<Long, User> {
                     .in(keys.stream()
                             .mapToLong(l -> l)
                             .toArray()));
-            return userLocalService.dynamicQuery(query);
-        });
+            List<User> results = userLocalService.dynamicQuery(query);
+            return BatchLoaderUtil.orderByKeys(keys, results, User::getUserId);
+        }, batchLoaderExecutor);
     }
 }
@@ -5,6 +5,8 @@ import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
 import com.liferay.portal.kernel.model.UserGroup;
 import com.liferay.portal.kernel.service.UserGroupLocalService;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
 import org.dataloader.BatchLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,12 +23,18 @@ import java.util.concurrent.CompletionStage;
 public class UserGroupBatchLoader implements BatchLoader<Long, UserGroup> {
     public static final String KEY = "userGroup";
     private UserGroupLocalService userGroupLocalService;
+    private BatchLoaderExecutor batchLoaderExecutor;
 
     @Reference(unbind = "-")
     public void setUserGroupLocalService(UserGroupLocalService userGroupLocalService) {
         this.userGroupLocalService = userGroupLocalService;
     }
 
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
     @Override
     public CompletionStage<List<UserGroup>> load(List<Long> keys) {
         return CompletableFuture.supplyAsync(() -> {
@@ -39,7 +47,8 @@ public class UserGroupBatchLoader implements BatchLoader<Long, UserGroup> {
                     .in(keys.stream()
                             .mapToLong(l -> l)
                             .toArray()));
-            return userGroupLocalService.dynamicQuery(query);
-        });
+            List<UserGroup> results = userGroupLocalService.dynamicQuery(query);
+            return BatchLoaderUtil.orderByKeys(keys, results, UserGroup::getUserGroupId);
+        }, batchLoaderExecutor);
     }
 }
@@ -5,6 +5,8 @@ import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
 import com.liferay.portal.kernel.model.Website;
 import com.liferay.portal.kernel.service.WebsiteLocalService;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
 import org.dataloader.BatchLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,12 +23,18 @@ import java.util.concurrent.CompletionStage;
 public class WebsiteBatchLoader implements BatchLoader<Long, Website> {
     public static final String KEY = "website";
     private WebsiteLocalService websiteLocalService;
+    private BatchLoaderExecutor batchLoaderExecutor;
 
     @Reference(unbind = "-")
     public void setWebsiteLocalService(WebsiteLocalService websiteLocalService) {
         this.websiteLocalService = websiteLocalService;
     }
 
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
     @Override
     public CompletionStage<List<Website>> load(List<Long> keys) {
         return CompletableFuture.supplyAsync(() -> {
@@ -39,7 +47,8 @@ public class WebsiteBatchLoader implements BatchLoader<Long, Website> {
                     .in(keys.stream()
                             .mapToLong(l -> l)
                             .toArray()));
-            return websiteLocalService.dynamicQuery(query);
-        });
+            List<Website> results = websiteLocalService.dynamicQuery(query);
+            return BatchLoaderUtil.orderByKeys(keys, results, Website::getWebsiteId);
+        }, batchLoaderExecutor);
     }
 }
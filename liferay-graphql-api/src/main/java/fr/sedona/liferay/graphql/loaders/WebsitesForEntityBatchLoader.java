@@ -0,0 +1,45 @@
+package fr.sedona.liferay.graphql.loaders;
+
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.OrderFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import com.liferay.portal.kernel.model.Website;
+import com.liferay.portal.kernel.service.WebsiteLocalService;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+import java.util.List;
+import java.util.Map;
+
+@Component(
+        immediate = true,
+        service = WebsitesForEntityBatchLoader.class
+)
+public class WebsitesForEntityBatchLoader extends ToManyBatchLoader<EntityKey, Website> {
+    public static final String KEY = "websitesForEntity";
+    private WebsiteLocalService websiteLocalService;
+
+    @Reference(unbind = "-")
+    public void setWebsiteLocalService(WebsiteLocalService websiteLocalService) {
+        this.websiteLocalService = websiteLocalService;
+    }
+
+    @Reference(unbind = "-")
+    public void setBatchLoaderExecutor(BatchLoaderExecutor batchLoaderExecutor) {
+        this.batchLoaderExecutor = batchLoaderExecutor;
+    }
+
+    @Override
+    protected Map<EntityKey, List<Website>> loadChildren(List<EntityKey> keys) {
+        DynamicQuery query = DynamicQueryFactoryUtil.forClass(Website.class);
+        query.add(PropertyFactoryUtil.forName("classNameId")
+                .in(toClassNameIds(keys)));
+        query.add(PropertyFactoryUtil.forName("classPK")
+                .in(toClassPKs(keys)));
+        query.addOrder(OrderFactoryUtil.asc("createDate"));
+        List<Website> websites = websiteLocalService.dynamicQuery(query);
+        return groupByParentKey(websites, website -> new EntityKey(website.getClassNameId(), website.getClassPK()));
+    }
+}
@@ -0,0 +1,29 @@
+package fr.sedona.liferay.graphql.persisted;
+
+public final class PersistedQuery {
+    private final String hash;
+    private final String query;
+    private final boolean readOnly;
+
+    public PersistedQuery(String hash, String query, boolean readOnly) {
+        this.hash = hash;
+        this.query = query;
+        this.readOnly = readOnly;
+    }
+
+    public String getHash() {
+        return hash;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public boolean isPersisted() {
+        return hash != null;
+    }
+
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+}
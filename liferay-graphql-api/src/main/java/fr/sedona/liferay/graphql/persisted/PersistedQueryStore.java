@@ -0,0 +1,181 @@
+package fr.sedona.liferay.graphql.persisted;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.liferay.portal.configuration.metatype.bnd.util.ConfigurableUtil;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import fr.sedona.liferay.graphql.configuration.PersistedQueryConfiguration;
+import graphql.language.Document;
+import graphql.language.OperationDefinition;
+import graphql.parser.Parser;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ConfigurationPolicy;
+import org.osgi.service.component.annotations.Modified;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+@Component(
+        immediate = true,
+        configurationPid = "fr.sedona.liferay.graphql.configuration.PersistedQueryConfiguration",
+        configurationPolicy = ConfigurationPolicy.OPTIONAL,
+        service = PersistedQueryStore.class
+)
+public class PersistedQueryStore {
+    private static final Log LOGGER = LogFactoryUtil.getLog(PersistedQueryStore.class);
+    private static final String EXTENSION_PERSISTED_QUERY = "persistedQuery";
+    private static final String EXTENSION_SHA256_HASH = "sha256Hash";
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private volatile PersistedQueryConfiguration configuration;
+    private volatile Cache<String, PersistedQuery> automaticQueries;
+    private volatile Map<String, PersistedQuery> allowedQueries = Collections.emptyMap();
+
+    @Activate
+    @Modified
+    public void activateComponent(Map<String, Object> properties) {
+        configure(ConfigurableUtil.createConfigurable(PersistedQueryConfiguration.class, properties));
+    }
+
+    void configure(PersistedQueryConfiguration configuration) {
+        automaticQueries = Caffeine.newBuilder()
+                .maximumSize(configuration.maximumSize())
+                .build();
+        allowedQueries = loadAllowList(configuration.allowListFile());
+        this.configuration = configuration;
+    }
+
+    public String getCacheControl() {
+        return configuration.cacheControl();
+    }
+
+    public PersistedQuery resolve(String query, Map<String, Object> extensions) {
+        String hash = getHash(extensions);
+        boolean hasQuery = query != null && !query.isEmpty();
+        if (configuration.allowListOnly()) {
+            return resolveFromAllowList(hasQuery ? sha256(query) : hash, hash);
+        }
+
+        if (hash == null || !configuration.enabled()) {
+            if (!hasQuery && hash != null) {
+                throw new PersistedQueryException(PersistedQueryException.PERSISTED_QUERY_NOT_SUPPORTED,
+                        "PersistedQueryNotSupported");
+            }
+            return new PersistedQuery(null, query, false);
+        }
+
+        PersistedQuery persistedQuery = allowedQueries.get(hash);
+        if (persistedQuery == null) {
+            persistedQuery = automaticQueries.getIfPresent(hash);
+        }
+        if (persistedQuery != null) {
+            return persistedQuery;
+        }
+
+        if (!hasQuery) {
+            throw new PersistedQueryException(PersistedQueryException.PERSISTED_QUERY_NOT_FOUND,
+                    "PersistedQueryNotFound");
+        }
+        if (!hash.equalsIgnoreCase(sha256(query))) {
+            throw new PersistedQueryException(PersistedQueryException.PERSISTED_QUERY_HASH_MISMATCH,
+                    "Provided sha256Hash does not match query");
+        }
+
+        // The stored instance is reused by the next requests, so the document cache lookup does not hash it again
+        persistedQuery = new PersistedQuery(hash, query, isReadOnly(query));
+        automaticQueries.put(hash, persistedQuery);
+        return persistedQuery;
+    }
+
+    private PersistedQuery resolveFromAllowList(String queryHash, String hash) {
+        PersistedQuery persistedQuery = queryHash == null ? null : allowedQueries.get(queryHash);
+        if (persistedQuery == null) {
+            throw new PersistedQueryException(PersistedQueryException.PERSISTED_QUERY_NOT_ALLOWED,
+                    "PersistedQueryNotAllowed");
+        }
+        if (hash != null && !hash.equalsIgnoreCase(queryHash)) {
+            throw new PersistedQueryException(PersistedQueryException.PERSISTED_QUERY_HASH_MISMATCH,
+                    "Provided sha256Hash does not match query");
+        }
+        return persistedQuery;
+    }
+
+    private String getHash(Map<String, Object> extensions) {
+        if (extensions == null) {
+            return null;
+        }
+
+        Object persistedQuery = extensions.get(EXTENSION_PERSISTED_QUERY);
+        if (!(persistedQuery instanceof Map)) {
+            return null;
+        }
+
+        Object hash = ((Map) persistedQuery).get(EXTENSION_SHA256_HASH);
+        return hash instanceof String ? ((String) hash).toLowerCase() : null;
+    }
+
+    private Map<String, PersistedQuery> loadAllowList(String allowListFile) {
+        if (allowListFile == null || allowListFile.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, String> queries;
+        try {
+            queries = new ObjectMapper().readValue(new File(allowListFile), new TypeReference<Map<String, String>>() {
+            });
+        } catch (IOException e) {
+            LOGGER.error("Could not load persisted query allow-list " + allowListFile, e);
+            return Collections.emptyMap();
+        }
+
+        Map<String, PersistedQuery> allowList = new HashMap<>();
+        for (Map.Entry<String, String> entry : queries.entrySet()) {
+            String hash = sha256(entry.getValue());
+            if (!hash.equalsIgnoreCase(entry.getKey())) {
+                LOGGER.warn("Ignoring allow-list entry " + entry.getKey() + ": hash does not match query");
+                continue;
+            }
+            allowList.put(hash, new PersistedQuery(hash, entry.getValue(), isReadOnly(entry.getValue())));
+        }
+        LOGGER.info(allowList.size() + " persisted queries loaded from allow-list " + allowListFile);
+        return allowList;
+    }
+
+    static boolean isReadOnly(String query) {
+        try {
+            Document document = new Parser().parseDocument(query);
+            return document.getDefinitions().stream()
+                    .filter(OperationDefinition.class::isInstance)
+                    .map(OperationDefinition.class::cast)
+                    .allMatch(operation -> operation.getOperation() == OperationDefinition.Operation.QUERY);
+        } catch (RuntimeException e) {
+            // Invalid queries are reported by the engine
+            return false;
+        }
+    }
+
+    static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(value.getBytes(StandardCharsets.UTF_8));
+            char[] hex = new char[digest.length * 2];
+            for (int i = 0; i < digest.length; i++) {
+                hex[i * 2] = HEX_DIGITS[(digest[i] >> 4) & 0xF];
+                hex[i * 2 + 1] = HEX_DIGITS[digest[i] & 0xF];
+            }
+            return new String(hex);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package fr.sedona.liferay.graphql.projection;
+
+import com.liferay.portal.kernel.dao.orm.ProjectionFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.ProjectionList;
+import graphql.schema.DataFetchingFieldSelectionSet;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+public final class EntityProjection {
+    private static final String PATH_SEPARATOR = "/";
+    private static final String INTROSPECTION_PREFIX = "__";
+
+    private final String primaryKeyField;
+    private final Map<String, String> propertyNames;
+    private final Map<String, String> foreignKeyFields;
+
+    private EntityProjection(Builder builder) {
+        this.primaryKeyField = builder.primaryKeyField;
+        this.propertyNames = Collections.unmodifiableMap(new HashMap<>(builder.propertyNames));
+        this.foreignKeyFields = Collections.unmodifiableMap(new HashMap<>(builder.foreignKeyFields));
+    }
+
+    public static Builder newEntityProjection(String primaryKeyField) {
+        return new Builder(primaryKeyField);
+    }
+
+    public String getPrimaryKeyField() {
+        return primaryKeyField;
+    }
+
+    public String getPrimaryKeyPropertyName() {
+        return propertyNames.get(primaryKeyField);
+    }
+
+    public List<String> getFields(DataFetchingFieldSelectionSet selectionSet) {
+        return getFields(selectionSet, null);
+    }
+
+    /**
+     * Returns the sorted fields to read for the selection under the given path (such as edges/node),
+     * or null when one of the selected fields needs the whole entity
+     */
+    public List<String> getFields(DataFetchingFieldSelectionSet selectionSet, String parentPath) {
+        if (selectionSet == null) {
+            return null;
+        }
+
+        String prefix = parentPath == null ? "" : parentPath + PATH_SEPARATOR;
+        Set<String> fields = new TreeSet<>();
+        fields.add(primaryKeyField);
+        for (String path : selectionSet.get().keySet()) {
+            if (!path.startsWith(prefix)) {
+                continue;
+            }
+
+            String field = path.substring(prefix.length());
+            if (field.isEmpty() || field.contains(PATH_SEPARATOR) || field.startsWith(INTROSPECTION_PREFIX)) {
+                continue;
+            }
+            if (propertyNames.containsKey(field)) {
+                fields.add(field);
+            } else if (foreignKeyFields.containsKey(field)) {
+                // The related entity is loaded by its own resolver, which only needs the foreign key
+                fields.add(foreignKeyFields.get(field));
+            } else {
+                return null;
+            }
+        }
+        return new ArrayList<>(fields);
+    }
+
+    public ProjectionList toProjectionList(List<String> fields) {
+        ProjectionList projectionList = ProjectionFactoryUtil.projectionList();
+        for (String propertyName : getPropertyNames(fields)) {
+            projectionList.add(ProjectionFactoryUtil.property(propertyName));
+        }
+        return projectionList;
+    }
+
+    public List<ProjectedRow> toRows(List<String> fields, List<Object> results) {
+        List<String> propertyNames = getPropertyNames(fields);
+        List<ProjectedRow> rows = new ArrayList<>(results.size());
+        for (Object result : results) {
+            // A single projected column is returned as a plain value instead of an array
+            Object[] values = result instanceof Object[] ? (Object[]) result : new Object[]{result};
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (String field : fields) {
+                row.put(field, values[propertyNames.indexOf(this.propertyNames.get(field))]);
+            }
+            rows.add(new ProjectedRow(row));
+        }
+        return rows;
+    }
+
+    private List<String> getPropertyNames(List<String> fields) {
+        // Fields such as id and primaryKey share the same column, which is only read once
+        return fields.stream()
+                .map(propertyNames::get)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    public static final class Builder {
+        private final String primaryKeyField;
+        private final Map<String, String> propertyNames = new HashMap<>();
+        private final Map<String, String> foreignKeyFields = new HashMap<>();
+
+        private Builder(String primaryKeyField) {
+            this.primaryKeyField = primaryKeyField;
+        }
+
+        public Builder property(String field) {
+            return property(field, field);
+        }
+
+        public Builder property(String field, String propertyName) {
+            propertyNames.put(field, propertyName);
+            return this;
+        }
+
+        public Builder relation(String field, String foreignKeyField) {
+            foreignKeyFields.put(field, foreignKeyField);
+            return this;
+        }
+
+        public EntityProjection build() {
+            if (!propertyNames.containsKey(primaryKeyField)) {
+                throw new IllegalStateException("The primary key field '" + primaryKeyField + "' is not a property");
+            }
+            foreignKeyFields.forEach((field, foreignKeyField) -> {
+                if (!propertyNames.containsKey(foreignKeyField)) {
+                    throw new IllegalStateException("The foreign key field '" + foreignKeyField + "' of '" + field
+                            + "' is not a property");
+                }
+            });
+            return new EntityProjection(this);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package fr.sedona.liferay.graphql.projection;
+
+import java.util.List;
+import java.util.Objects;
+
+public final class ProjectedKey {
+    private final long primaryKey;
+    private final List<String> fields;
+
+    public ProjectedKey(long primaryKey, List<String> fields) {
+        this.primaryKey = primaryKey;
+        this.fields = fields;
+    }
+
+    public long getPrimaryKey() {
+        return primaryKey;
+    }
+
+    public List<String> getFields() {
+        return fields;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ProjectedKey projectedKey = (ProjectedKey) o;
+        return primaryKey == projectedKey.primaryKey && fields.equals(projectedKey.fields);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(primaryKey, fields);
+    }
+
+    @Override
+    public String toString() {
+        return primaryKey + ":" + fields;
+    }
+}
@@ -0,0 +1,38 @@
+package fr.sedona.liferay.graphql.projection;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Lightweight view of an entity holding only the projected columns, keyed by their field name.
+ * Being a map, it is also read by the default property data fetchers.
+ */
+public final class ProjectedRow extends AbstractMap<String, Object> {
+    private final Map<String, Object> values;
+
+    public ProjectedRow(Map<String, Object> values) {
+        this.values = Collections.unmodifiableMap(values);
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return values.entrySet();
+    }
+
+    @Override
+    public Object get(Object field) {
+        return values.get(field);
+    }
+
+    @Override
+    public boolean containsKey(Object field) {
+        return values.containsKey(field);
+    }
+
+    public long getLong(String field) {
+        Object value = values.get(field);
+        return value instanceof Number ? ((Number) value).longValue() : 0;
+    }
+}
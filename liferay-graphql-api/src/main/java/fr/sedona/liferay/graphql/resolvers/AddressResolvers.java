@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.portal.kernel.model.Address;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -12,7 +13,11 @@ public interface AddressResolvers {
 
     DataFetcher<List<Address>> getAddressesDataFetcher();
 
-    DataFetcher<List<Address>> getAddressesForEntityDataFetcher();
+    DataFetcher<Connection<Address>> getAddressesConnectionDataFetcher();
+
+    DataFetcher<Long> getAddressesCountDataFetcher();
+
+    DataFetcher<CompletableFuture<List<Address>>> getAddressesForEntityDataFetcher();
 
     DataFetcher<CompletableFuture<Address>> getAddressDataFetcher();
 
@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.asset.kernel.model.AssetCategory;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -12,7 +13,11 @@ public interface AssetCategoryResolvers {
 
     DataFetcher<List<AssetCategory>> getAssetCategoriesDataFetcher();
 
-    DataFetcher<List<AssetCategory>> getAssetCategoriesForAssetDataFetcher();
+    DataFetcher<Connection<AssetCategory>> getAssetCategoriesConnectionDataFetcher();
+
+    DataFetcher<Long> getAssetCategoriesCountDataFetcher();
+
+    DataFetcher<CompletableFuture<List<AssetCategory>>> getAssetCategoriesForAssetDataFetcher();
 
     DataFetcher<CompletableFuture<AssetCategory>> getAssetCategoryDataFetcher();
 
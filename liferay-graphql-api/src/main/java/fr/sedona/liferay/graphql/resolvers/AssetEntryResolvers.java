@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.asset.kernel.model.AssetEntry;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -12,6 +13,12 @@ public interface AssetEntryResolvers {
 
     DataFetcher<List<AssetEntry>> getAssetEntriesDataFetcher();
 
+    DataFetcher<Connection<AssetEntry>> getAssetEntriesConnectionDataFetcher();
+
+    DataFetcher<Long> getAssetEntriesCountDataFetcher();
+
+    DataFetcher<CompletableFuture<Connection<AssetEntry>>> getSearchAssetEntriesDataFetcher();
+
     DataFetcher<List<AssetEntry>> getAssetEntriesWithCategoryDataFetcher();
 
     DataFetcher<List<AssetEntry>> getAssetEntriesWithTagDataFetcher();
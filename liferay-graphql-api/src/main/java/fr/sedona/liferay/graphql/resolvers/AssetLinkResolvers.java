@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.asset.kernel.model.AssetLink;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -12,6 +13,10 @@ public interface AssetLinkResolvers {
 
     DataFetcher<List<AssetLink>> getAssetLinksDataFetcher();
 
+    DataFetcher<Connection<AssetLink>> getAssetLinksConnectionDataFetcher();
+
+    DataFetcher<Long> getAssetLinksCountDataFetcher();
+
     DataFetcher<CompletableFuture<AssetLink>> getAssetLinkDataFetcher();
 
     DataFetcher<AssetLink> createAssetLinkDataFetcher();
@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.asset.kernel.model.AssetTag;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -12,7 +13,11 @@ public interface AssetTagResolvers {
 
     DataFetcher<List<AssetTag>> getAssetTagsDataFetcher();
 
-    DataFetcher<List<AssetTag>> getAssetTagsForAssetDataFetcher();
+    DataFetcher<Connection<AssetTag>> getAssetTagsConnectionDataFetcher();
+
+    DataFetcher<Long> getAssetTagsCountDataFetcher();
+
+    DataFetcher<CompletableFuture<List<AssetTag>>> getAssetTagsForAssetDataFetcher();
 
     DataFetcher<CompletableFuture<AssetTag>> getAssetTagDataFetcher();
 
@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.asset.kernel.model.AssetVocabulary;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -12,6 +13,10 @@ public interface AssetVocabularyResolvers {
 
     DataFetcher<List<AssetVocabulary>> getAssetVocabulariesDataFetcher();
 
+    DataFetcher<Connection<AssetVocabulary>> getAssetVocabulariesConnectionDataFetcher();
+
+    DataFetcher<Long> getAssetVocabulariesCountDataFetcher();
+
     DataFetcher<CompletableFuture<AssetVocabulary>> getAssetVocabularyDataFetcher();
 
     DataFetcher<AssetVocabulary> createAssetVocabularyDataFetcher();
@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.blogs.model.BlogsEntry;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -12,6 +13,12 @@ public interface BlogsEntryResolvers {
 
     DataFetcher<List<BlogsEntry>> getBlogsEntriesDataFetcher();
 
+    DataFetcher<Connection<BlogsEntry>> getBlogsEntriesConnectionDataFetcher();
+
+    DataFetcher<Long> getBlogsEntriesCountDataFetcher();
+
+    DataFetcher<CompletableFuture<Connection<BlogsEntry>>> getSearchBlogsEntriesDataFetcher();
+
     DataFetcher<CompletableFuture<BlogsEntry>> getBlogsEntryDataFetcher();
 
     DataFetcher<BlogsEntry> createBlogsEntryDataFetcher();
@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.portal.kernel.model.ClassName;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -12,6 +13,10 @@ public interface ClassNameResolvers {
 
     DataFetcher<List<ClassName>> getClassNamesDataFetcher();
 
+    DataFetcher<Connection<ClassName>> getClassNamesConnectionDataFetcher();
+
+    DataFetcher<Long> getClassNamesCountDataFetcher();
+
     DataFetcher<CompletableFuture<ClassName>> getClassNameDataFetcher();
 
     DataFetcher<ClassName> getClassNameByNameDataFetcher();
@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.portal.kernel.model.Company;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -12,6 +13,10 @@ public interface CompanyResolvers {
 
     DataFetcher<List<Company>> getCompaniesDataFetcher();
 
+    DataFetcher<Connection<Company>> getCompaniesConnectionDataFetcher();
+
+    DataFetcher<Long> getCompaniesCountDataFetcher();
+
     DataFetcher<CompletableFuture<Company>> getCompanyDataFetcher();
 
     DataFetcher<Company> getCompanyByWebIdDataFetcher();
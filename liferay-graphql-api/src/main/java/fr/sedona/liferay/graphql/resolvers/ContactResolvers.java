@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.portal.kernel.model.Contact;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -12,6 +13,10 @@ public interface ContactResolvers {
 
     DataFetcher<List<Contact>> getContactsDataFetcher();
 
+    DataFetcher<Connection<Contact>> getContactsConnectionDataFetcher();
+
+    DataFetcher<Long> getContactsCountDataFetcher();
+
     DataFetcher<CompletableFuture<Contact>> getContactDataFetcher();
 
     DataFetcher<Contact> createContactDataFetcher();
@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.dynamic.data.mapping.model.DDMContent;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -10,9 +11,13 @@ import java.util.concurrent.CompletableFuture;
 @ProviderType
 public interface DDMContentResolvers {
 
-    DataFetcher<List<DDMContent>> getDDMContentsDataFetcher();
+    DataFetcher<List<Object>> getDDMContentsDataFetcher();
 
-    DataFetcher<CompletableFuture<DDMContent>> getDDMContentDataFetcher();
+    DataFetcher<Connection<Object>> getDDMContentsConnectionDataFetcher();
+
+    DataFetcher<Long> getDDMContentsCountDataFetcher();
+
+    DataFetcher<CompletableFuture<Object>> getDDMContentDataFetcher();
 
     DataFetcher<DDMContent> createDDMContentDataFetcher();
 
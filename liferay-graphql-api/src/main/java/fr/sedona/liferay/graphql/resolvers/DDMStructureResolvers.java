@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.dynamic.data.mapping.model.DDMStructure;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -12,6 +13,10 @@ public interface DDMStructureResolvers {
 
     DataFetcher<List<DDMStructure>> getDDMStructuresDataFetcher();
 
+    DataFetcher<Connection<DDMStructure>> getDDMStructuresConnectionDataFetcher();
+
+    DataFetcher<Long> getDDMStructuresCountDataFetcher();
+
     DataFetcher<CompletableFuture<DDMStructure>> getDDMStructureDataFetcher();
 
     DataFetcher<DDMStructure> getDDMStructureByKeyDataFetcher();
@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.dynamic.data.mapping.model.DDMTemplate;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -12,6 +13,10 @@ public interface DDMTemplateResolvers {
 
     DataFetcher<List<DDMTemplate>> getDDMTemplatesDataFetcher();
 
+    DataFetcher<Connection<DDMTemplate>> getDDMTemplatesConnectionDataFetcher();
+
+    DataFetcher<Long> getDDMTemplatesCountDataFetcher();
+
     DataFetcher<CompletableFuture<DDMTemplate>> getDDMTemplateDataFetcher();
 
     DataFetcher<DDMTemplate> getDDMTemplateByKeyDataFetcher();
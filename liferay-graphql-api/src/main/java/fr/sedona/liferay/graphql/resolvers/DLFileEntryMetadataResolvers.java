@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.document.library.kernel.model.DLFileEntryMetadata;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -12,5 +13,9 @@ public interface DLFileEntryMetadataResolvers {
 
     DataFetcher<List<DLFileEntryMetadata>> getDLFileEntryMetadatasDataFetcher();
 
+    DataFetcher<Connection<DLFileEntryMetadata>> getDLFileEntryMetadatasConnectionDataFetcher();
+
+    DataFetcher<Long> getDLFileEntryMetadatasCountDataFetcher();
+
     DataFetcher<CompletableFuture<DLFileEntryMetadata>> getDLFileEntryMetadataDataFetcher();
 }
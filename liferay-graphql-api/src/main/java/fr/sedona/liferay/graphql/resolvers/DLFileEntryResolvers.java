@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.document.library.kernel.model.DLFileEntry;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -12,6 +13,12 @@ public interface DLFileEntryResolvers {
 
     DataFetcher<List<DLFileEntry>> getDLFileEntriesDataFetcher();
 
+    DataFetcher<Connection<DLFileEntry>> getDLFileEntriesConnectionDataFetcher();
+
+    DataFetcher<Long> getDLFileEntriesCountDataFetcher();
+
+    DataFetcher<CompletableFuture<Connection<DLFileEntry>>> getSearchDLFileEntriesDataFetcher();
+
     DataFetcher<CompletableFuture<DLFileEntry>> getDLFileEntryDataFetcher();
 
     DataFetcher<DLFileEntry> createDLFileEntryDataFetcher();
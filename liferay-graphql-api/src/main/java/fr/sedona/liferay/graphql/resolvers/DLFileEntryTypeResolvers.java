@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.document.library.kernel.model.DLFileEntryType;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -12,6 +13,10 @@ public interface DLFileEntryTypeResolvers {
 
     DataFetcher<List<DLFileEntryType>> getDLFileEntryTypesDataFetcher();
 
+    DataFetcher<Connection<DLFileEntryType>> getDLFileEntryTypesConnectionDataFetcher();
+
+    DataFetcher<Long> getDLFileEntryTypesCountDataFetcher();
+
     DataFetcher<List<DLFileEntryType>> getDLFileEntryTypesForFolderDataFetcher();
 
     DataFetcher<CompletableFuture<DLFileEntryType>> getDLFileEntryTypeDataFetcher();
@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.document.library.kernel.model.DLFileShortcut;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -12,6 +13,10 @@ public interface DLFileShortcutResolvers {
 
     DataFetcher<List<DLFileShortcut>> getDLFileShortcutsDataFetcher();
 
+    DataFetcher<Connection<DLFileShortcut>> getDLFileShortcutsConnectionDataFetcher();
+
+    DataFetcher<Long> getDLFileShortcutsCountDataFetcher();
+
     DataFetcher<CompletableFuture<DLFileShortcut>> getDLFileShortcutDataFetcher();
 
     DataFetcher<DLFileShortcut> createDLFileShortcutDataFetcher();
@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.document.library.kernel.model.DLFileVersion;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -12,5 +13,9 @@ public interface DLFileVersionResolvers {
 
     DataFetcher<List<DLFileVersion>> getDLFileVersionsDataFetcher();
 
+    DataFetcher<Connection<DLFileVersion>> getDLFileVersionsConnectionDataFetcher();
+
+    DataFetcher<Long> getDLFileVersionsCountDataFetcher();
+
     DataFetcher<CompletableFuture<DLFileVersion>> getDLFileVersionDataFetcher();
 }
@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.document.library.kernel.model.DLFolder;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -12,6 +13,10 @@ public interface DLFolderResolvers {
 
     DataFetcher<List<DLFolder>> getDLFoldersDataFetcher();
 
+    DataFetcher<Connection<DLFolder>> getDLFoldersConnectionDataFetcher();
+
+    DataFetcher<Long> getDLFoldersCountDataFetcher();
+
     DataFetcher<List<DLFolder>> getDLFoldersForTypeDataFetcher();
 
     DataFetcher<CompletableFuture<DLFolder>> getDLFolderDataFetcher();
@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.portal.kernel.model.EmailAddress;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -12,7 +13,11 @@ public interface EmailAddressResolvers {
 
     DataFetcher<List<EmailAddress>> getEmailAddressesDataFetcher();
 
-    DataFetcher<List<EmailAddress>> getEmailAddressesForEntityDataFetcher();
+    DataFetcher<Connection<EmailAddress>> getEmailAddressesConnectionDataFetcher();
+
+    DataFetcher<Long> getEmailAddressesCountDataFetcher();
+
+    DataFetcher<CompletableFuture<List<EmailAddress>>> getEmailAddressesForEntityDataFetcher();
 
     DataFetcher<CompletableFuture<EmailAddress>> getEmailAddressDataFetcher();
 
@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.expando.kernel.model.ExpandoColumn;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -12,6 +13,10 @@ public interface ExpandoColumnResolvers {
 
     DataFetcher<List<ExpandoColumn>> getExpandoColumnsDataFetcher();
 
+    DataFetcher<Connection<ExpandoColumn>> getExpandoColumnsConnectionDataFetcher();
+
+    DataFetcher<Long> getExpandoColumnsCountDataFetcher();
+
     DataFetcher<CompletableFuture<ExpandoColumn>> getExpandoColumnDataFetcher();
 
     DataFetcher<ExpandoColumn> createExpandoColumnDataFetcher();
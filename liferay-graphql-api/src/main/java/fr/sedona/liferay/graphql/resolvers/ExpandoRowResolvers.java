@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.expando.kernel.model.ExpandoRow;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -12,6 +13,10 @@ public interface ExpandoRowResolvers {
 
     DataFetcher<List<ExpandoRow>> getExpandoRowsDataFetcher();
 
+    DataFetcher<Connection<ExpandoRow>> getExpandoRowsConnectionDataFetcher();
+
+    DataFetcher<Long> getExpandoRowsCountDataFetcher();
+
     DataFetcher<CompletableFuture<ExpandoRow>> getExpandoRowDataFetcher();
 
     DataFetcher<ExpandoRow> createExpandoRowDataFetcher();
@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.expando.kernel.model.ExpandoTable;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -12,6 +13,10 @@ public interface ExpandoTableResolvers {
 
     DataFetcher<List<ExpandoTable>> getExpandoTablesDataFetcher();
 
+    DataFetcher<Connection<ExpandoTable>> getExpandoTablesConnectionDataFetcher();
+
+    DataFetcher<Long> getExpandoTablesCountDataFetcher();
+
     DataFetcher<CompletableFuture<ExpandoTable>> getExpandoTableDataFetcher();
 
     DataFetcher<ExpandoTable> createExpandoTableDataFetcher();
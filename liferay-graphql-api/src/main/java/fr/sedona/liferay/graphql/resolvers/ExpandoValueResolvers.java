@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.expando.kernel.model.ExpandoValue;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -12,6 +13,10 @@ public interface ExpandoValueResolvers {
 
     DataFetcher<List<ExpandoValue>> getExpandoValuesDataFetcher();
 
+    DataFetcher<Connection<ExpandoValue>> getExpandoValuesConnectionDataFetcher();
+
+    DataFetcher<Long> getExpandoValuesCountDataFetcher();
+
     DataFetcher<CompletableFuture<ExpandoValue>> getExpandoValueDataFetcher();
 
     DataFetcher<ExpandoValue> createExpandoValueForStringDataFetcher();
@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.portal.kernel.model.Group;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -12,6 +13,10 @@ public interface GroupResolvers {
 
     DataFetcher<List<Group>> getGroupsDataFetcher();
 
+    DataFetcher<Connection<Group>> getGroupsConnectionDataFetcher();
+
+    DataFetcher<Long> getGroupsCountDataFetcher();
+
     DataFetcher<CompletableFuture<Group>> getGroupDataFetcher();
 
     DataFetcher<Group> getGroupByKeyDataFetcher();
@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.journal.model.JournalArticle;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -10,9 +11,15 @@ import java.util.concurrent.CompletableFuture;
 @ProviderType
 public interface JournalArticleResolvers {
 
-    DataFetcher<List<JournalArticle>> getJournalArticlesDataFetcher();
+    DataFetcher<List<Object>> getJournalArticlesDataFetcher();
 
-    DataFetcher<CompletableFuture<JournalArticle>> getJournalArticleDataFetcher();
+    DataFetcher<Connection<Object>> getJournalArticlesConnectionDataFetcher();
+
+    DataFetcher<Long> getJournalArticlesCountDataFetcher();
+
+    DataFetcher<CompletableFuture<Connection<JournalArticle>>> getSearchJournalArticlesDataFetcher();
+
+    DataFetcher<CompletableFuture<Object>> getJournalArticleDataFetcher();
 
     DataFetcher<JournalArticle> createJournalArticleDataFetcher();
 
@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.journal.model.JournalFeed;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -12,6 +13,10 @@ public interface JournalFeedResolvers {
 
     DataFetcher<List<JournalFeed>> getJournalFeedsDataFetcher();
 
+    DataFetcher<Connection<JournalFeed>> getJournalFeedsConnectionDataFetcher();
+
+    DataFetcher<Long> getJournalFeedsCountDataFetcher();
+
     DataFetcher<CompletableFuture<JournalFeed>> getJournalFeedDataFetcher();
 
     DataFetcher<JournalFeed> createJournalFeedDataFetcher();
@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.journal.model.JournalFolder;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -12,6 +13,10 @@ public interface JournalFolderResolvers {
 
     DataFetcher<List<JournalFolder>> getJournalFoldersDataFetcher();
 
+    DataFetcher<Connection<JournalFolder>> getJournalFoldersConnectionDataFetcher();
+
+    DataFetcher<Long> getJournalFoldersCountDataFetcher();
+
     DataFetcher<CompletableFuture<JournalFolder>> getJournalFolderDataFetcher();
 
     DataFetcher<JournalFolder> createJournalFolderDataFetcher();
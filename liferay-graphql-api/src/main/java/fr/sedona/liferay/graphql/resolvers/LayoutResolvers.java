@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.portal.kernel.model.Layout;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -12,7 +13,11 @@ public interface LayoutResolvers {
 
     DataFetcher<List<Layout>> getLayoutsDataFetcher();
 
-    DataFetcher<List<Layout>> getLayoutsForGroupDataFetcher();
+    DataFetcher<Connection<Layout>> getLayoutsConnectionDataFetcher();
+
+    DataFetcher<Long> getLayoutsCountDataFetcher();
+
+    DataFetcher<CompletableFuture<List<Layout>>> getLayoutsForGroupDataFetcher();
 
     DataFetcher<CompletableFuture<Layout>> getLayoutDataFetcher();
 
@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.portal.kernel.model.ListType;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -12,6 +13,10 @@ public interface ListTypeResolvers {
 
     DataFetcher<List<ListType>> getListTypesDataFetcher();
 
+    DataFetcher<Connection<ListType>> getListTypesConnectionDataFetcher();
+
+    DataFetcher<Long> getListTypesCountDataFetcher();
+
     DataFetcher<List<ListType>> getListTypesByTypeDataFetcher();
 
     DataFetcher<CompletableFuture<ListType>> getListTypeDataFetcher();
@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.message.boards.kernel.model.MBCategory;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -12,6 +13,10 @@ public interface MBCategoryResolvers {
 
     DataFetcher<List<MBCategory>> getMBCategoriesDataFetcher();
 
+    DataFetcher<Connection<MBCategory>> getMBCategoriesConnectionDataFetcher();
+
+    DataFetcher<Long> getMBCategoriesCountDataFetcher();
+
     DataFetcher<CompletableFuture<MBCategory>> getMBCategoryDataFetcher();
 
     DataFetcher<MBCategory> createMBCategoryDataFetcher();
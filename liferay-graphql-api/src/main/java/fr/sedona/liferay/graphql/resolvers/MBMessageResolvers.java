@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.message.boards.kernel.model.MBMessage;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -12,6 +13,10 @@ public interface MBMessageResolvers {
 
     DataFetcher<List<MBMessage>> getMBMessagesDataFetcher();
 
+    DataFetcher<Connection<MBMessage>> getMBMessagesConnectionDataFetcher();
+
+    DataFetcher<Long> getMBMessagesCountDataFetcher();
+
     DataFetcher<CompletableFuture<MBMessage>> getMBMessageDataFetcher();
 
     DataFetcher<MBMessage> createMBMessageDataFetcher();
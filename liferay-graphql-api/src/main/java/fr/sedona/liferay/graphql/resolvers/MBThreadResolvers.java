@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.message.boards.kernel.model.MBThread;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -12,6 +13,10 @@ public interface MBThreadResolvers {
 
     DataFetcher<List<MBThread>> getMBThreadsDataFetcher();
 
+    DataFetcher<Connection<MBThread>> getMBThreadsConnectionDataFetcher();
+
+    DataFetcher<Long> getMBThreadsCountDataFetcher();
+
     DataFetcher<CompletableFuture<MBThread>> getMBThreadDataFetcher();
 
     DataFetcher<MBThread> createMBThreadDataFetcher();
@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.oauth2.provider.model.OAuth2Application;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -12,6 +13,10 @@ public interface OAuth2ApplicationResolvers {
 
     DataFetcher<List<OAuth2Application>> getOAuth2ApplicationsDataFetcher();
 
+    DataFetcher<Connection<OAuth2Application>> getOAuth2ApplicationsConnectionDataFetcher();
+
+    DataFetcher<Long> getOAuth2ApplicationsCountDataFetcher();
+
     DataFetcher<CompletableFuture<OAuth2Application>> getOAuth2ApplicationDataFetcher();
 
     DataFetcher<OAuth2Application> getOAuth2ApplicationForClientDataFetcher();
@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.oauth2.provider.model.OAuth2ApplicationScopeAliases;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -12,6 +13,10 @@ public interface OAuth2ApplicationScopeAliasesResolvers {
 
     DataFetcher<List<OAuth2ApplicationScopeAliases>> getOAuth2ApplicationScopeAliasesesDataFetcher();
 
+    DataFetcher<Connection<OAuth2ApplicationScopeAliases>> getOAuth2ApplicationScopeAliasesesConnectionDataFetcher();
+
+    DataFetcher<Long> getOAuth2ApplicationScopeAliasesesCountDataFetcher();
+
     DataFetcher<CompletableFuture<OAuth2ApplicationScopeAliases>> getOAuth2ApplicationScopeAliasesDataFetcher();
 
     DataFetcher<OAuth2ApplicationScopeAliases> createOAuth2ApplicationScopeAliasesDataFetcher();
@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.oauth2.provider.model.OAuth2Authorization;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -12,6 +13,10 @@ public interface OAuth2AuthorizationResolvers {
 
     DataFetcher<List<OAuth2Authorization>> getOAuth2AuthorizationsDataFetcher();
 
+    DataFetcher<Connection<OAuth2Authorization>> getOAuth2AuthorizationsConnectionDataFetcher();
+
+    DataFetcher<Long> getOAuth2AuthorizationsCountDataFetcher();
+
     DataFetcher<List<OAuth2Authorization>> getOAuth2AuthorizationsForGrantDataFetcher();
 
     DataFetcher<List<OAuth2Authorization>> getOAuth2AuthorizationsForUserDataFetcher();
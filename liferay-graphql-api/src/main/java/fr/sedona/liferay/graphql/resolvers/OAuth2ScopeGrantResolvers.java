@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.oauth2.provider.model.OAuth2ScopeGrant;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -12,6 +13,10 @@ public interface OAuth2ScopeGrantResolvers {
 
     DataFetcher<List<OAuth2ScopeGrant>> getOAuth2ScopeGrantsDataFetcher();
 
+    DataFetcher<Connection<OAuth2ScopeGrant>> getOAuth2ScopeGrantsConnectionDataFetcher();
+
+    DataFetcher<Long> getOAuth2ScopeGrantsCountDataFetcher();
+
     DataFetcher<List<OAuth2ScopeGrant>> getOAuth2ScopeGrantsForAuthorizationDataFetcher();
 
     DataFetcher<CompletableFuture<OAuth2ScopeGrant>> getOAuth2ScopeGrantDataFetcher();
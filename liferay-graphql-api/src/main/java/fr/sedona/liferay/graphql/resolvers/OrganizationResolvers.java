@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.portal.kernel.model.Organization;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -12,6 +13,10 @@ public interface OrganizationResolvers {
 
     DataFetcher<List<Organization>> getOrganizationsDataFetcher();
 
+    DataFetcher<Connection<Organization>> getOrganizationsConnectionDataFetcher();
+
+    DataFetcher<Long> getOrganizationsCountDataFetcher();
+
     DataFetcher<CompletableFuture<Organization>> getOrganizationDataFetcher();
 
     DataFetcher<Organization> getOrganizationByNameDataFetcher();
@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.portal.kernel.model.Phone;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -12,7 +13,11 @@ public interface PhoneResolvers {
 
     DataFetcher<List<Phone>> getPhonesDataFetcher();
 
-    DataFetcher<List<Phone>> getPhonesForEntityDataFetcher();
+    DataFetcher<Connection<Phone>> getPhonesConnectionDataFetcher();
+
+    DataFetcher<Long> getPhonesCountDataFetcher();
+
+    DataFetcher<CompletableFuture<List<Phone>>> getPhonesForEntityDataFetcher();
 
     DataFetcher<CompletableFuture<Phone>> getPhoneDataFetcher();
 
@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.ratings.kernel.model.RatingsEntry;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -12,6 +13,10 @@ public interface RatingsEntryResolvers {
 
     DataFetcher<List<RatingsEntry>> getRatingsEntriesDataFetcher();
 
+    DataFetcher<Connection<RatingsEntry>> getRatingsEntriesConnectionDataFetcher();
+
+    DataFetcher<Long> getRatingsEntriesCountDataFetcher();
+
     DataFetcher<CompletableFuture<RatingsEntry>> getRatingsEntryDataFetcher();
 
     DataFetcher<RatingsEntry> createRatingsEntryDataFetcher();
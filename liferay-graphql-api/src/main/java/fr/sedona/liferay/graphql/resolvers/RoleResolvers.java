@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.portal.kernel.model.Role;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -12,6 +13,10 @@ public interface RoleResolvers {
 
     DataFetcher<List<Role>> getRolesDataFetcher();
 
+    DataFetcher<Connection<Role>> getRolesConnectionDataFetcher();
+
+    DataFetcher<Long> getRolesCountDataFetcher();
+
     DataFetcher<CompletableFuture<Role>> getRoleDataFetcher();
 
     DataFetcher<Role> getRoleByNameDataFetcher();
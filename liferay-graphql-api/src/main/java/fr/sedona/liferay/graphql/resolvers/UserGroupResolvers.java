@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.portal.kernel.model.UserGroup;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -12,6 +13,10 @@ public interface UserGroupResolvers {
 
     DataFetcher<List<UserGroup>> getUserGroupsDataFetcher();
 
+    DataFetcher<Connection<UserGroup>> getUserGroupsConnectionDataFetcher();
+
+    DataFetcher<Long> getUserGroupsCountDataFetcher();
+
     DataFetcher<CompletableFuture<UserGroup>> getUserGroupDataFetcher();
 
     DataFetcher<UserGroup> getUserGroupByNameDataFetcher();
@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.portal.kernel.model.User;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -12,6 +13,10 @@ public interface UserResolvers {
 
     DataFetcher<List<User>> getUsersDataFetcher();
 
+    DataFetcher<Connection<User>> getUsersConnectionDataFetcher();
+
+    DataFetcher<Long> getUsersCountDataFetcher();
+
     DataFetcher<CompletableFuture<List<User>>> getBulkUsersDataFetcher();
 
     DataFetcher<CompletableFuture<User>> getUserDataFetcher();
@@ -2,6 +2,7 @@ package fr.sedona.liferay.graphql.resolvers;
 
 import aQute.bnd.annotation.ProviderType;
 import com.liferay.portal.kernel.model.Website;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 
 import java.util.List;
@@ -12,7 +13,11 @@ public interface WebsiteResolvers {
 
     DataFetcher<List<Website>> getWebsitesDataFetcher();
 
-    DataFetcher<List<Website>> getWebsitesForEntityDataFetcher();
+    DataFetcher<Connection<Website>> getWebsitesConnectionDataFetcher();
+
+    DataFetcher<Long> getWebsitesCountDataFetcher();
+
+    DataFetcher<CompletableFuture<List<Website>>> getWebsitesForEntityDataFetcher();
 
     DataFetcher<CompletableFuture<Website>> getWebsiteDataFetcher();
 
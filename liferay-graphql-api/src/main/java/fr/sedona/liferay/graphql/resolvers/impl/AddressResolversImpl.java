@@ -3,14 +3,23 @@ package fr.sedona.liferay.graphql.resolvers.impl;
 import com.liferay.portal.kernel.model.Address;
 import com.liferay.portal.kernel.service.AddressLocalService;
 import com.liferay.portal.kernel.service.ServiceContext;
+import fr.sedona.liferay.graphql.cache.CountCache;
 import fr.sedona.liferay.graphql.loaders.AddressBatchLoader;
+import fr.sedona.liferay.graphql.loaders.AddressesForEntityBatchLoader;
+import fr.sedona.liferay.graphql.loaders.EntityKey;
 import fr.sedona.liferay.graphql.resolvers.AddressResolvers;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
@@ -22,6 +31,7 @@ import java.util.concurrent.CompletableFuture;
 public class AddressResolversImpl implements AddressResolvers {
     private AddressLocalService addressLocalService;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setAddressLocalService(AddressLocalService addressLocalService) {
@@ -33,24 +43,68 @@ public class AddressResolversImpl implements AddressResolvers {
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
     public DataFetcher<List<Address>> getAddressesDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            if (FilterUtil.hasCriteria(environment)) {
+                return addressLocalService.dynamicQuery(
+                        FilterUtil.addCriteria(addressLocalService.dynamicQuery(), environment, "addressId"),
+                        start,
+                        end);
+            }
 
             return addressLocalService.getAddresses(start, end);
         };
     }
 
     @Override
-    public DataFetcher<List<Address>> getAddressesForEntityDataFetcher() {
+    public DataFetcher<Connection<Address>> getAddressesConnectionDataFetcher() {
         return environment -> {
-            long companyId = util.getLongArg(environment, "companyId");
-            String className = util.getStringArg(environment, "className");
-            long classPK = util.getLongArg(environment, "classPK");
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            return ConnectionUtil.getConnection(
+                    FilterUtil.addFilter(addressLocalService.dynamicQuery(), environment),
+                    "addressId",
+                    Address::getAddressId,
+                    first,
+                    after,
+                    addressLocalService::dynamicQuery,
+                    () -> countAddresses(environment));
+        };
+    }
+
+    @Override
+    public DataFetcher<Long> getAddressesCountDataFetcher() {
+        return environment -> countAddresses(environment);
+    }
+
+    private long countAddresses(DataFetchingEnvironment environment) {
+        return countCache.getCount(AddressBatchLoader.KEY, environment, () -> addressLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(addressLocalService.dynamicQuery(), environment)));
+    }
+
+    @Override
+    public DataFetcher<CompletableFuture<List<Address>>> getAddressesForEntityDataFetcher() {
+        return environment -> {
+            EntityKey entityKey = util.getEntityKey(environment);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+            if (entityKey == null) {
+                return CompletableFuture.completedFuture(Collections.emptyList());
+            }
 
-            return addressLocalService.getAddresses(companyId, className, classPK);
+            DataLoader<EntityKey, List<Address>> dataLoader = environment.getDataLoader(AddressesForEntityBatchLoader.KEY);
+            return dataLoader.load(entityKey)
+                    .thenApply(addresses -> BatchLoaderUtil.slice(addresses, start, end));
         };
     }
 
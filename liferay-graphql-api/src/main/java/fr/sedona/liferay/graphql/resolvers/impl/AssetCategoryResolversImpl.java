@@ -2,18 +2,26 @@ package fr.sedona.liferay.graphql.resolvers.impl;
 
 import com.liferay.asset.kernel.model.AssetCategory;
 import com.liferay.asset.kernel.model.AssetCategoryConstants;
+import com.liferay.asset.kernel.model.AssetEntry;
 import com.liferay.asset.kernel.service.AssetCategoryLocalService;
 import com.liferay.portal.kernel.service.ServiceContext;
+import fr.sedona.liferay.graphql.cache.CountCache;
+import fr.sedona.liferay.graphql.loaders.AssetCategoriesForAssetBatchLoader;
 import fr.sedona.liferay.graphql.loaders.AssetCategoryBatchLoader;
 import fr.sedona.liferay.graphql.resolvers.AssetCategoryResolvers;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
 import graphql.execution.ExecutionPath;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -27,6 +35,7 @@ import java.util.concurrent.CompletableFuture;
 public class AssetCategoryResolversImpl implements AssetCategoryResolvers {
     private AssetCategoryLocalService assetCategoryLocalService;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setAssetCategoryLocalService(AssetCategoryLocalService assetCategoryLocalService) {
@@ -38,27 +47,79 @@ public class AssetCategoryResolversImpl implements AssetCategoryResolvers {
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
     public DataFetcher<List<AssetCategory>> getAssetCategoriesDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            if (FilterUtil.hasCriteria(environment)) {
+                return assetCategoryLocalService.dynamicQuery(
+                        FilterUtil.addCriteria(assetCategoryLocalService.dynamicQuery(), environment, "categoryId"),
+                        start,
+                        end);
+            }
 
             return assetCategoryLocalService.getAssetCategories(start, end);
         };
     }
 
     @Override
-    public DataFetcher<List<AssetCategory>> getAssetCategoriesForAssetDataFetcher() {
+    public DataFetcher<Connection<AssetCategory>> getAssetCategoriesConnectionDataFetcher() {
         return environment -> {
-            long entryId = util.getLongArg(environment, "entryId");
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            return ConnectionUtil.getConnection(
+                    FilterUtil.addFilter(assetCategoryLocalService.dynamicQuery(), environment),
+                    "categoryId",
+                    AssetCategory::getCategoryId,
+                    first,
+                    after,
+                    assetCategoryLocalService::dynamicQuery,
+                    () -> countAssetCategories(environment));
+        };
+    }
 
-            return assetCategoryLocalService.getAssetEntryAssetCategories(entryId, start, end);
+    @Override
+    public DataFetcher<Long> getAssetCategoriesCountDataFetcher() {
+        return environment -> countAssetCategories(environment);
+    }
+
+    private long countAssetCategories(DataFetchingEnvironment environment) {
+        return countCache.getCount(AssetCategoryBatchLoader.KEY, environment, () -> assetCategoryLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(assetCategoryLocalService.dynamicQuery(), environment)));
+    }
+
+    @Override
+    public DataFetcher<CompletableFuture<List<AssetCategory>>> getAssetCategoriesForAssetDataFetcher() {
+        return environment -> {
+            long entryId = getEntryId(environment);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+            if (entryId <= 0) {
+                return CompletableFuture.completedFuture(Collections.emptyList());
+            }
+
+            DataLoader<Long, List<AssetCategory>> dataLoader = environment.getDataLoader(AssetCategoriesForAssetBatchLoader.KEY);
+            return dataLoader.load(entryId)
+                    .thenApply(assetCategories -> BatchLoaderUtil.slice(assetCategories, start, end));
         };
     }
 
+    private long getEntryId(DataFetchingEnvironment environment) {
+        Object source = environment.getSource();
+        if (source instanceof AssetEntry) {
+            return ((AssetEntry) source).getEntryId();
+        }
+        return util.getLongArg(environment, "entryId");
+    }
+
     @Override
     public DataFetcher<CompletableFuture<AssetCategory>> getAssetCategoryDataFetcher() {
         return environment -> {
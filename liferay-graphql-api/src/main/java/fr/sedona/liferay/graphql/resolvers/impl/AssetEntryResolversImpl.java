@@ -3,18 +3,33 @@ package fr.sedona.liferay.graphql.resolvers.impl;
 import com.liferay.asset.kernel.model.AssetEntry;
 import com.liferay.asset.kernel.model.AssetLink;
 import com.liferay.asset.kernel.service.AssetEntryLocalService;
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.ProjectionFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import com.liferay.portal.kernel.search.Document;
+import com.liferay.portal.kernel.search.Field;
+import fr.sedona.liferay.graphql.cache.CountCache;
 import fr.sedona.liferay.graphql.loaders.AssetEntryBatchLoader;
+import fr.sedona.liferay.graphql.loaders.EntityKey;
 import fr.sedona.liferay.graphql.resolvers.AssetEntryResolvers;
+import fr.sedona.liferay.graphql.search.EntitySearcher;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
 import graphql.execution.ExecutionPath;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 @Component(
         immediate = true,
@@ -23,34 +38,110 @@ import java.util.concurrent.CompletableFuture;
 @SuppressWarnings("squid:S1192")
 public class AssetEntryResolversImpl implements AssetEntryResolvers {
     private AssetEntryLocalService assetEntryLocalService;
+    private EntitySearcher entitySearcher;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setAssetEntryLocalService(AssetEntryLocalService assetEntryLocalService) {
         this.assetEntryLocalService = assetEntryLocalService;
     }
 
+    @Reference
+    public void setEntitySearcher(EntitySearcher entitySearcher) {
+        this.entitySearcher = entitySearcher;
+    }
+
     @Reference
     public void setUtil(GraphQLUtil util) {
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
     public DataFetcher<List<AssetEntry>> getAssetEntriesDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            if (FilterUtil.hasCriteria(environment)) {
+                return assetEntryLocalService.dynamicQuery(
+                        FilterUtil.addCriteria(assetEntryLocalService.dynamicQuery(), environment, "entryId"),
+                        start,
+                        end);
+            }
 
             return assetEntryLocalService.getAssetEntries(start, end);
         };
     }
 
+    @Override
+    public DataFetcher<Connection<AssetEntry>> getAssetEntriesConnectionDataFetcher() {
+        return environment -> {
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            return ConnectionUtil.getConnection(
+                    FilterUtil.addFilter(assetEntryLocalService.dynamicQuery(), environment),
+                    "entryId",
+                    AssetEntry::getEntryId,
+                    first,
+                    after,
+                    assetEntryLocalService::dynamicQuery,
+                    () -> countAssetEntries(environment));
+        };
+    }
+
+    @Override
+    public DataFetcher<Long> getAssetEntriesCountDataFetcher() {
+        return environment -> countAssetEntries(environment);
+    }
+
+    private long countAssetEntries(DataFetchingEnvironment environment) {
+        return countCache.getCount(AssetEntryBatchLoader.KEY, environment, () -> assetEntryLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(assetEntryLocalService.dynamicQuery(), environment)));
+    }
+
+    @Override
+    public DataFetcher<CompletableFuture<Connection<AssetEntry>>> getSearchAssetEntriesDataFetcher() {
+        return environment -> entitySearcher.searchAssets(environment, AssetEntryBatchLoader.KEY, this::getAssetEntryIds);
+    }
+
+    private List<Long> getAssetEntryIds(List<Document> documents) {
+        // The documents hold the class of the asset, which is mapped to its entry with a single query
+        DynamicQuery query = assetEntryLocalService.dynamicQuery();
+        query.setProjection(ProjectionFactoryUtil.projectionList()
+                .add(ProjectionFactoryUtil.property("entryId"))
+                .add(ProjectionFactoryUtil.property("classNameId"))
+                .add(ProjectionFactoryUtil.property("classPK")));
+        query.add(PropertyFactoryUtil.forName("classPK").in(documents.stream()
+                .map(document -> EntitySearcher.getLong(document, Field.ENTRY_CLASS_PK))
+                .filter(Objects::nonNull)
+                .toArray()));
+
+        Map<EntityKey, Long> entryIds = new HashMap<>();
+        for (Object[] row : assetEntryLocalService.<Object[]>dynamicQuery(query)) {
+            entryIds.put(new EntityKey((Long) row[1], (Long) row[2]), (Long) row[0]);
+        }
+        return documents.stream()
+                .map(document -> {
+                    Long classPK = EntitySearcher.getLong(document, Field.ENTRY_CLASS_PK);
+                    return classPK == null ? null
+                            : entryIds.get(new EntityKey(util.getClassNameId(document.get(Field.ENTRY_CLASS_NAME)), classPK));
+                })
+                .collect(Collectors.toList());
+    }
+
     @Override
     public DataFetcher<List<AssetEntry>> getAssetEntriesWithCategoryDataFetcher() {
         return environment -> {
             long categoryId = util.getLongArg(environment, "categoryId");
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
 
             return assetEntryLocalService.getAssetCategoryAssetEntries(categoryId, start, end);
         };
@@ -60,8 +151,8 @@ public class AssetEntryResolversImpl implements AssetEntryResolvers {
     public DataFetcher<List<AssetEntry>> getAssetEntriesWithTagDataFetcher() {
         return environment -> {
             long tagId = util.getLongArg(environment, "tagId");
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
 
             return assetEntryLocalService.getAssetTagAssetEntries(tagId, start, end);
         };
@@ -3,10 +3,15 @@ package fr.sedona.liferay.graphql.resolvers.impl;
 import com.liferay.asset.kernel.model.AssetLink;
 import com.liferay.asset.kernel.model.AssetLinkConstants;
 import com.liferay.asset.kernel.service.AssetLinkLocalService;
+import fr.sedona.liferay.graphql.cache.CountCache;
 import fr.sedona.liferay.graphql.loaders.AssetLinkBatchLoader;
 import fr.sedona.liferay.graphql.resolvers.AssetLinkResolvers;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -22,6 +27,7 @@ import java.util.concurrent.CompletableFuture;
 public class AssetLinkResolversImpl implements AssetLinkResolvers {
     private AssetLinkLocalService assetLinkLocalService;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setAssetLinkLocalService(AssetLinkLocalService assetLinkLocalService) {
@@ -33,16 +39,55 @@ public class AssetLinkResolversImpl implements AssetLinkResolvers {
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
     public DataFetcher<List<AssetLink>> getAssetLinksDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            if (FilterUtil.hasCriteria(environment)) {
+                return assetLinkLocalService.dynamicQuery(
+                        FilterUtil.addCriteria(assetLinkLocalService.dynamicQuery(), environment, "linkId"),
+                        start,
+                        end);
+            }
 
             return assetLinkLocalService.getAssetLinks(start, end);
         };
     }
 
+    @Override
+    public DataFetcher<Connection<AssetLink>> getAssetLinksConnectionDataFetcher() {
+        return environment -> {
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            return ConnectionUtil.getConnection(
+                    FilterUtil.addFilter(assetLinkLocalService.dynamicQuery(), environment),
+                    "linkId",
+                    AssetLink::getLinkId,
+                    first,
+                    after,
+                    assetLinkLocalService::dynamicQuery,
+                    () -> countAssetLinks(environment));
+        };
+    }
+
+    @Override
+    public DataFetcher<Long> getAssetLinksCountDataFetcher() {
+        return environment -> countAssetLinks(environment);
+    }
+
+    private long countAssetLinks(DataFetchingEnvironment environment) {
+        return countCache.getCount(AssetLinkBatchLoader.KEY, environment, () -> assetLinkLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(assetLinkLocalService.dynamicQuery(), environment)));
+    }
+
     @Override
     public DataFetcher<CompletableFuture<AssetLink>> getAssetLinkDataFetcher() {
         return environment -> {
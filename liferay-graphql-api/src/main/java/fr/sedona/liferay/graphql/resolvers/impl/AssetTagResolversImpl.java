@@ -1,16 +1,25 @@
 package fr.sedona.liferay.graphql.resolvers.impl;
 
+import com.liferay.asset.kernel.model.AssetEntry;
 import com.liferay.asset.kernel.model.AssetTag;
 import com.liferay.asset.kernel.service.AssetTagLocalService;
 import com.liferay.portal.kernel.service.ServiceContext;
+import fr.sedona.liferay.graphql.cache.CountCache;
 import fr.sedona.liferay.graphql.loaders.AssetTagBatchLoader;
+import fr.sedona.liferay.graphql.loaders.AssetTagsForAssetBatchLoader;
 import fr.sedona.liferay.graphql.resolvers.AssetTagResolvers;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
@@ -22,6 +31,7 @@ import java.util.concurrent.CompletableFuture;
 public class AssetTagResolversImpl implements AssetTagResolvers {
     private AssetTagLocalService assetTagLocalService;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setAssetTagLocalService(AssetTagLocalService assetTagLocalService) {
@@ -33,27 +43,79 @@ public class AssetTagResolversImpl implements AssetTagResolvers {
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
     public DataFetcher<List<AssetTag>> getAssetTagsDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            if (FilterUtil.hasCriteria(environment)) {
+                return assetTagLocalService.dynamicQuery(
+                        FilterUtil.addCriteria(assetTagLocalService.dynamicQuery(), environment, "tagId"),
+                        start,
+                        end);
+            }
 
             return assetTagLocalService.getAssetTags(start, end);
         };
     }
 
     @Override
-    public DataFetcher<List<AssetTag>> getAssetTagsForAssetDataFetcher() {
+    public DataFetcher<Connection<AssetTag>> getAssetTagsConnectionDataFetcher() {
         return environment -> {
-            long entryId = util.getLongArg(environment, "entryId");
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            return ConnectionUtil.getConnection(
+                    FilterUtil.addFilter(assetTagLocalService.dynamicQuery(), environment),
+                    "tagId",
+                    AssetTag::getTagId,
+                    first,
+                    after,
+                    assetTagLocalService::dynamicQuery,
+                    () -> countAssetTags(environment));
+        };
+    }
+
+    @Override
+    public DataFetcher<Long> getAssetTagsCountDataFetcher() {
+        return environment -> countAssetTags(environment);
+    }
 
-            return assetTagLocalService.getAssetEntryAssetTags(entryId, start, end);
+    private long countAssetTags(DataFetchingEnvironment environment) {
+        return countCache.getCount(AssetTagBatchLoader.KEY, environment, () -> assetTagLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(assetTagLocalService.dynamicQuery(), environment)));
+    }
+
+    @Override
+    public DataFetcher<CompletableFuture<List<AssetTag>>> getAssetTagsForAssetDataFetcher() {
+        return environment -> {
+            long entryId = getEntryId(environment);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+            if (entryId <= 0) {
+                return CompletableFuture.completedFuture(Collections.emptyList());
+            }
+
+            DataLoader<Long, List<AssetTag>> dataLoader = environment.getDataLoader(AssetTagsForAssetBatchLoader.KEY);
+            return dataLoader.load(entryId)
+                    .thenApply(assetTags -> BatchLoaderUtil.slice(assetTags, start, end));
         };
     }
 
+    private long getEntryId(DataFetchingEnvironment environment) {
+        Object source = environment.getSource();
+        if (source instanceof AssetEntry) {
+            return ((AssetEntry) source).getEntryId();
+        }
+        return util.getLongArg(environment, "entryId");
+    }
+
     @Override
     public DataFetcher<CompletableFuture<AssetTag>> getAssetTagDataFetcher() {
         return environment -> {
@@ -3,9 +3,13 @@ package fr.sedona.liferay.graphql.resolvers.impl;
 import com.liferay.asset.kernel.model.AssetVocabulary;
 import com.liferay.asset.kernel.service.AssetVocabularyLocalService;
 import com.liferay.portal.kernel.service.ServiceContext;
+import fr.sedona.liferay.graphql.cache.CountCache;
 import fr.sedona.liferay.graphql.loaders.AssetVocabularyBatchLoader;
 import fr.sedona.liferay.graphql.resolvers.AssetVocabularyResolvers;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
@@ -25,6 +29,7 @@ import java.util.concurrent.CompletableFuture;
 public class AssetVocabularyResolversImpl implements AssetVocabularyResolvers {
     private AssetVocabularyLocalService assetVocabularyLocalService;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setAssetVocabularyLocalService(AssetVocabularyLocalService assetVocabularyLocalService) {
@@ -36,16 +41,55 @@ public class AssetVocabularyResolversImpl implements AssetVocabularyResolvers {
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
     public DataFetcher<List<AssetVocabulary>> getAssetVocabulariesDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            if (FilterUtil.hasCriteria(environment)) {
+                return assetVocabularyLocalService.dynamicQuery(
+                        FilterUtil.addCriteria(assetVocabularyLocalService.dynamicQuery(), environment, "vocabularyId"),
+                        start,
+                        end);
+            }
 
             return assetVocabularyLocalService.getAssetVocabularies(start, end);
         };
     }
 
+    @Override
+    public DataFetcher<Connection<AssetVocabulary>> getAssetVocabulariesConnectionDataFetcher() {
+        return environment -> {
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            return ConnectionUtil.getConnection(
+                    FilterUtil.addFilter(assetVocabularyLocalService.dynamicQuery(), environment),
+                    "vocabularyId",
+                    AssetVocabulary::getVocabularyId,
+                    first,
+                    after,
+                    assetVocabularyLocalService::dynamicQuery,
+                    () -> countAssetVocabularies(environment));
+        };
+    }
+
+    @Override
+    public DataFetcher<Long> getAssetVocabulariesCountDataFetcher() {
+        return environment -> countAssetVocabularies(environment);
+    }
+
+    private long countAssetVocabularies(DataFetchingEnvironment environment) {
+        return countCache.getCount(AssetVocabularyBatchLoader.KEY, environment, () -> assetVocabularyLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(assetVocabularyLocalService.dynamicQuery(), environment)));
+    }
+
     @Override
     public DataFetcher<CompletableFuture<AssetVocabulary>> getAssetVocabularyDataFetcher() {
         return environment -> {
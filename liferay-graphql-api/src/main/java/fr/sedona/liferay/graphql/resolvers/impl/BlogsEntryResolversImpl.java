@@ -3,10 +3,16 @@ package fr.sedona.liferay.graphql.resolvers.impl;
 import com.liferay.blogs.model.BlogsEntry;
 import com.liferay.blogs.service.BlogsEntryLocalService;
 import com.liferay.portal.kernel.service.ServiceContext;
+import fr.sedona.liferay.graphql.cache.CountCache;
 import fr.sedona.liferay.graphql.loaders.BlogsEntryBatchLoader;
 import fr.sedona.liferay.graphql.resolvers.BlogsEntryResolvers;
+import fr.sedona.liferay.graphql.search.EntitySearcher;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,28 +27,79 @@ import java.util.concurrent.CompletableFuture;
 @SuppressWarnings("squid:S1192")
 public class BlogsEntryResolversImpl implements BlogsEntryResolvers {
     private BlogsEntryLocalService blogsEntryLocalService;
+    private EntitySearcher entitySearcher;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setBlogsEntryLocalService(BlogsEntryLocalService blogsEntryLocalService) {
         this.blogsEntryLocalService = blogsEntryLocalService;
     }
 
+    @Reference
+    public void setEntitySearcher(EntitySearcher entitySearcher) {
+        this.entitySearcher = entitySearcher;
+    }
+
     @Reference
     public void setUtil(GraphQLUtil util) {
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
     public DataFetcher<List<BlogsEntry>> getBlogsEntriesDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            if (FilterUtil.hasCriteria(environment)) {
+                return blogsEntryLocalService.dynamicQuery(
+                        FilterUtil.addCriteria(blogsEntryLocalService.dynamicQuery(), environment, "entryId"),
+                        start,
+                        end);
+            }
 
             return blogsEntryLocalService.getBlogsEntries(start, end);
         };
     }
 
+    @Override
+    public DataFetcher<Connection<BlogsEntry>> getBlogsEntriesConnectionDataFetcher() {
+        return environment -> {
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            return ConnectionUtil.getConnection(
+                    FilterUtil.addFilter(blogsEntryLocalService.dynamicQuery(), environment),
+                    "entryId",
+                    BlogsEntry::getEntryId,
+                    first,
+                    after,
+                    blogsEntryLocalService::dynamicQuery,
+                    () -> countBlogsEntries(environment));
+        };
+    }
+
+    @Override
+    public DataFetcher<Long> getBlogsEntriesCountDataFetcher() {
+        return environment -> countBlogsEntries(environment);
+    }
+
+    private long countBlogsEntries(DataFetchingEnvironment environment) {
+        return countCache.getCount(BlogsEntryBatchLoader.KEY, environment, () -> blogsEntryLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(blogsEntryLocalService.dynamicQuery(), environment)));
+    }
+
+    @Override
+    public DataFetcher<CompletableFuture<Connection<BlogsEntry>>> getSearchBlogsEntriesDataFetcher() {
+        return environment -> entitySearcher.search(environment, BlogsEntry.class.getName(), BlogsEntryBatchLoader.KEY);
+    }
+
     @Override
     public DataFetcher<CompletableFuture<BlogsEntry>> getBlogsEntryDataFetcher() {
         return environment -> {
@@ -2,10 +2,15 @@ package fr.sedona.liferay.graphql.resolvers.impl;
 
 import com.liferay.portal.kernel.model.ClassName;
 import com.liferay.portal.kernel.service.ClassNameLocalService;
+import fr.sedona.liferay.graphql.cache.CountCache;
 import fr.sedona.liferay.graphql.loaders.ClassNameBatchLoader;
 import fr.sedona.liferay.graphql.resolvers.ClassNameResolvers;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,6 +26,7 @@ import java.util.concurrent.CompletableFuture;
 public class ClassNameResolversImpl implements ClassNameResolvers {
     private ClassNameLocalService classnameLocalService;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setClassNameLocalService(ClassNameLocalService classnameLocalService) {
@@ -32,16 +38,55 @@ public class ClassNameResolversImpl implements ClassNameResolvers {
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
     public DataFetcher<List<ClassName>> getClassNamesDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            if (FilterUtil.hasCriteria(environment)) {
+                return classnameLocalService.dynamicQuery(
+                        FilterUtil.addCriteria(classnameLocalService.dynamicQuery(), environment, "classNameId"),
+                        start,
+                        end);
+            }
 
             return classnameLocalService.getClassNames(start, end);
         };
     }
 
+    @Override
+    public DataFetcher<Connection<ClassName>> getClassNamesConnectionDataFetcher() {
+        return environment -> {
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            return ConnectionUtil.getConnection(
+                    FilterUtil.addFilter(classnameLocalService.dynamicQuery(), environment),
+                    "classNameId",
+                    ClassName::getClassNameId,
+                    first,
+                    after,
+                    classnameLocalService::dynamicQuery,
+                    () -> countClassNames(environment));
+        };
+    }
+
+    @Override
+    public DataFetcher<Long> getClassNamesCountDataFetcher() {
+        return environment -> countClassNames(environment);
+    }
+
+    private long countClassNames(DataFetchingEnvironment environment) {
+        return countCache.getCount(ClassNameBatchLoader.KEY, environment, () -> classnameLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(classnameLocalService.dynamicQuery(), environment)));
+    }
+
     @Override
     public DataFetcher<CompletableFuture<ClassName>> getClassNameDataFetcher() {
         return environment -> {
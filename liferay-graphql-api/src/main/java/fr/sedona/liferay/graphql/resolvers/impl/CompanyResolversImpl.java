@@ -2,9 +2,13 @@ package fr.sedona.liferay.graphql.resolvers.impl;
 
 import com.liferay.portal.kernel.model.Company;
 import com.liferay.portal.kernel.service.CompanyLocalService;
+import fr.sedona.liferay.graphql.cache.CountCache;
 import fr.sedona.liferay.graphql.loaders.CompanyBatchLoader;
 import fr.sedona.liferay.graphql.resolvers.CompanyResolvers;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
@@ -22,6 +26,7 @@ import java.util.concurrent.CompletableFuture;
 public class CompanyResolversImpl implements CompanyResolvers {
     private CompanyLocalService companyLocalService;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setCompanyLocalService(CompanyLocalService companyLocalService) {
@@ -33,16 +38,55 @@ public class CompanyResolversImpl implements CompanyResolvers {
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
     public DataFetcher<List<Company>> getCompaniesDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            if (FilterUtil.hasCriteria(environment)) {
+                return companyLocalService.dynamicQuery(
+                        FilterUtil.addCriteria(companyLocalService.dynamicQuery(), environment, "companyId"),
+                        start,
+                        end);
+            }
 
             return companyLocalService.getCompanies(start, end);
         };
     }
 
+    @Override
+    public DataFetcher<Connection<Company>> getCompaniesConnectionDataFetcher() {
+        return environment -> {
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            return ConnectionUtil.getConnection(
+                    FilterUtil.addFilter(companyLocalService.dynamicQuery(), environment),
+                    "companyId",
+                    Company::getCompanyId,
+                    first,
+                    after,
+                    companyLocalService::dynamicQuery,
+                    () -> countCompanies(environment));
+        };
+    }
+
+    @Override
+    public DataFetcher<Long> getCompaniesCountDataFetcher() {
+        return environment -> countCompanies(environment);
+    }
+
+    private long countCompanies(DataFetchingEnvironment environment) {
+        return countCache.getCount(CompanyBatchLoader.KEY, environment, () -> companyLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(companyLocalService.dynamicQuery(), environment)));
+    }
+
     @Override
     public DataFetcher<CompletableFuture<Company>> getCompanyDataFetcher() {
         return environment -> {
@@ -2,9 +2,13 @@ package fr.sedona.liferay.graphql.resolvers.impl;
 
 import com.liferay.portal.kernel.model.Contact;
 import com.liferay.portal.kernel.service.ContactLocalService;
+import fr.sedona.liferay.graphql.cache.CountCache;
 import fr.sedona.liferay.graphql.loaders.ContactBatchLoader;
 import fr.sedona.liferay.graphql.resolvers.ContactResolvers;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
@@ -22,6 +26,7 @@ import java.util.concurrent.CompletableFuture;
 public class ContactResolversImpl implements ContactResolvers {
     private ContactLocalService contactLocalService;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setContactLocalService(ContactLocalService contactLocalService) {
@@ -33,16 +38,55 @@ public class ContactResolversImpl implements ContactResolvers {
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
     public DataFetcher<List<Contact>> getContactsDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            if (FilterUtil.hasCriteria(environment)) {
+                return contactLocalService.dynamicQuery(
+                        FilterUtil.addCriteria(contactLocalService.dynamicQuery(), environment, "contactId"),
+                        start,
+                        end);
+            }
 
             return contactLocalService.getContacts(start, end);
         };
     }
 
+    @Override
+    public DataFetcher<Connection<Contact>> getContactsConnectionDataFetcher() {
+        return environment -> {
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            return ConnectionUtil.getConnection(
+                    FilterUtil.addFilter(contactLocalService.dynamicQuery(), environment),
+                    "contactId",
+                    Contact::getContactId,
+                    first,
+                    after,
+                    contactLocalService::dynamicQuery,
+                    () -> countContacts(environment));
+        };
+    }
+
+    @Override
+    public DataFetcher<Long> getContactsCountDataFetcher() {
+        return environment -> countContacts(environment);
+    }
+
+    private long countContacts(DataFetchingEnvironment environment) {
+        return countCache.getCount(ContactBatchLoader.KEY, environment, () -> contactLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(contactLocalService.dynamicQuery(), environment)));
+    }
+
     @Override
     public DataFetcher<CompletableFuture<Contact>> getContactDataFetcher() {
         return environment -> {
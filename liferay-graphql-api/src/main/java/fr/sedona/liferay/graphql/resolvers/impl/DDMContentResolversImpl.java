@@ -2,15 +2,25 @@ package fr.sedona.liferay.graphql.resolvers.impl;
 
 import com.liferay.dynamic.data.mapping.model.DDMContent;
 import com.liferay.dynamic.data.mapping.service.DDMContentLocalService;
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
 import com.liferay.portal.kernel.service.ServiceContext;
+import fr.sedona.liferay.graphql.cache.CountCache;
 import fr.sedona.liferay.graphql.loaders.DDMContentBatchLoader;
+import fr.sedona.liferay.graphql.loaders.DDMContentProjectedBatchLoader;
+import fr.sedona.liferay.graphql.projection.ProjectedKey;
+import fr.sedona.liferay.graphql.projection.ProjectedRow;
 import fr.sedona.liferay.graphql.resolvers.DDMContentResolvers;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
@@ -22,6 +32,7 @@ import java.util.concurrent.CompletableFuture;
 public class DDMContentResolversImpl implements DDMContentResolvers {
     private DDMContentLocalService ddmContentLocalService;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setDDMContentLocalService(DDMContentLocalService ddmContentLocalService) {
@@ -33,25 +44,95 @@ public class DDMContentResolversImpl implements DDMContentResolvers {
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
-    public DataFetcher<List<DDMContent>> getDDMContentsDataFetcher() {
+    public DataFetcher<List<Object>> getDDMContentsDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            List<String> fields = DDMContentProjectedBatchLoader.PROJECTION.getFields(environment.getSelectionSet());
+            if (fields == null) {
+                if (FilterUtil.hasCriteria(environment)) {
+                    return Collections.unmodifiableList(ddmContentLocalService.dynamicQuery(
+                            FilterUtil.addCriteria(ddmContentLocalService.dynamicQuery(), environment, "contentId"),
+                            start,
+                            end));
+                }
+
+                return Collections.unmodifiableList(ddmContentLocalService.getDDMContents(start, end));
+            }
 
-            return ddmContentLocalService.getDDMContents(start, end);
+            DynamicQuery query = ddmContentLocalService.dynamicQuery();
+            query.setProjection(DDMContentProjectedBatchLoader.PROJECTION.toProjectionList(fields));
+            FilterUtil.addCriteria(query, environment, "contentId");
+            return Collections.unmodifiableList(DDMContentProjectedBatchLoader.PROJECTION.toRows(fields,
+                    ddmContentLocalService.dynamicQuery(query, start, end)));
         };
     }
 
     @Override
-    public DataFetcher<CompletableFuture<DDMContent>> getDDMContentDataFetcher() {
+    public DataFetcher<Connection<Object>> getDDMContentsConnectionDataFetcher() {
+        return environment -> {
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            List<String> fields = DDMContentProjectedBatchLoader.PROJECTION.getFields(environment.getSelectionSet(),
+                    "edges/node");
+            if (fields == null) {
+                return ConnectionUtil.getConnection(
+                        FilterUtil.addFilter(ddmContentLocalService.dynamicQuery(), environment),
+                        "contentId",
+                        entity -> ((DDMContent) entity).getContentId(),
+                        first,
+                        after,
+                        ddmContentLocalService::dynamicQuery,
+                        () -> countDDMContents(environment));
+            }
+
+            DynamicQuery query = FilterUtil.addFilter(ddmContentLocalService.dynamicQuery(), environment);
+            query.setProjection(DDMContentProjectedBatchLoader.PROJECTION.toProjectionList(fields));
+            return ConnectionUtil.getConnection(
+                    query,
+                    "contentId",
+                    row -> ((ProjectedRow) row).getLong("contentId"),
+                    first,
+                    after,
+                    (rangeQuery, start, end) -> Collections.unmodifiableList(DDMContentProjectedBatchLoader.PROJECTION
+                            .toRows(fields, ddmContentLocalService.dynamicQuery(rangeQuery, start, end))),
+                    () -> countDDMContents(environment));
+        };
+    }
+
+    @Override
+    public DataFetcher<Long> getDDMContentsCountDataFetcher() {
+        return environment -> countDDMContents(environment);
+    }
+
+    private long countDDMContents(DataFetchingEnvironment environment) {
+        return countCache.getCount(DDMContentBatchLoader.KEY, environment, () -> ddmContentLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(ddmContentLocalService.dynamicQuery(), environment)));
+    }
+
+    @Override
+    public DataFetcher<CompletableFuture<Object>> getDDMContentDataFetcher() {
         return environment -> {
             long contentId = util.getLongArg(environment, "contentId");
             if (contentId <= 0) {
                 return null;
             }
 
-            DataLoader<Long, DDMContent> dataLoader = environment.getDataLoader(DDMContentBatchLoader.KEY);
+            List<String> fields = DDMContentProjectedBatchLoader.PROJECTION.getFields(environment.getSelectionSet());
+            if (fields != null) {
+                DataLoader<ProjectedKey, Object> dataLoader = environment.getDataLoader(DDMContentProjectedBatchLoader.KEY);
+                return dataLoader.load(new ProjectedKey(contentId, fields));
+            }
+
+            DataLoader<Long, Object> dataLoader = environment.getDataLoader(DDMContentBatchLoader.KEY);
             return dataLoader.load(contentId);
         };
     }
@@ -10,10 +10,14 @@ import com.liferay.portal.kernel.dao.orm.DynamicQuery;
 import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
 import com.liferay.portal.kernel.service.ServiceContext;
+import fr.sedona.liferay.graphql.cache.CountCache;
 import fr.sedona.liferay.graphql.loaders.DDMStructureBatchLoader;
 import fr.sedona.liferay.graphql.resolvers.DDMStructureResolvers;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
 import graphql.execution.ExecutionPath;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
@@ -33,6 +37,7 @@ import java.util.concurrent.CompletableFuture;
 public class DDMStructureResolversImpl implements DDMStructureResolvers {
     private DDMStructureLocalService ddmStructureLocalService;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setDDMStructureLocalService(DDMStructureLocalService ddmstructureLocalService) {
@@ -44,16 +49,55 @@ public class DDMStructureResolversImpl implements DDMStructureResolvers {
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
     public DataFetcher<List<DDMStructure>> getDDMStructuresDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            if (FilterUtil.hasCriteria(environment)) {
+                return ddmStructureLocalService.dynamicQuery(
+                        FilterUtil.addCriteria(ddmStructureLocalService.dynamicQuery(), environment, "structureId"),
+                        start,
+                        end);
+            }
 
             return ddmStructureLocalService.getDDMStructures(start, end);
         };
     }
 
+    @Override
+    public DataFetcher<Connection<DDMStructure>> getDDMStructuresConnectionDataFetcher() {
+        return environment -> {
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            return ConnectionUtil.getConnection(
+                    FilterUtil.addFilter(ddmStructureLocalService.dynamicQuery(), environment),
+                    "structureId",
+                    DDMStructure::getStructureId,
+                    first,
+                    after,
+                    ddmStructureLocalService::dynamicQuery,
+                    () -> countDDMStructures(environment));
+        };
+    }
+
+    @Override
+    public DataFetcher<Long> getDDMStructuresCountDataFetcher() {
+        return environment -> countDDMStructures(environment);
+    }
+
+    private long countDDMStructures(DataFetchingEnvironment environment) {
+        return countCache.getCount(DDMStructureBatchLoader.KEY, environment, () -> ddmStructureLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(ddmStructureLocalService.dynamicQuery(), environment)));
+    }
+
     @Override
     public DataFetcher<CompletableFuture<DDMStructure>> getDDMStructureDataFetcher() {
         return environment -> {
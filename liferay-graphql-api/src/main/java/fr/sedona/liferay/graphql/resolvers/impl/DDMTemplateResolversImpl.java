@@ -7,10 +7,15 @@ import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
 import com.liferay.portal.kernel.service.ServiceContext;
 import com.liferay.portal.kernel.template.TemplateConstants;
+import fr.sedona.liferay.graphql.cache.CountCache;
 import fr.sedona.liferay.graphql.loaders.DDMTemplateBatchLoader;
 import fr.sedona.liferay.graphql.resolvers.DDMTemplateResolvers;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -28,6 +33,7 @@ import java.util.concurrent.CompletableFuture;
 public class DDMTemplateResolversImpl implements DDMTemplateResolvers {
     private DDMTemplateLocalService ddmTemplateLocalService;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setDDMTemplateLocalService(DDMTemplateLocalService ddmTemplateLocalService) {
@@ -39,16 +45,55 @@ public class DDMTemplateResolversImpl implements DDMTemplateResolvers {
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
     public DataFetcher<List<DDMTemplate>> getDDMTemplatesDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            if (FilterUtil.hasCriteria(environment)) {
+                return ddmTemplateLocalService.dynamicQuery(
+                        FilterUtil.addCriteria(ddmTemplateLocalService.dynamicQuery(), environment, "templateId"),
+                        start,
+                        end);
+            }
 
             return ddmTemplateLocalService.getDDMTemplates(start, end);
         };
     }
 
+    @Override
+    public DataFetcher<Connection<DDMTemplate>> getDDMTemplatesConnectionDataFetcher() {
+        return environment -> {
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            return ConnectionUtil.getConnection(
+                    FilterUtil.addFilter(ddmTemplateLocalService.dynamicQuery(), environment),
+                    "templateId",
+                    DDMTemplate::getTemplateId,
+                    first,
+                    after,
+                    ddmTemplateLocalService::dynamicQuery,
+                    () -> countDDMTemplates(environment));
+        };
+    }
+
+    @Override
+    public DataFetcher<Long> getDDMTemplatesCountDataFetcher() {
+        return environment -> countDDMTemplates(environment);
+    }
+
+    private long countDDMTemplates(DataFetchingEnvironment environment) {
+        return countCache.getCount(DDMTemplateBatchLoader.KEY, environment, () -> ddmTemplateLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(ddmTemplateLocalService.dynamicQuery(), environment)));
+    }
+
     @Override
     public DataFetcher<CompletableFuture<DDMTemplate>> getDDMTemplateDataFetcher() {
         return environment -> {
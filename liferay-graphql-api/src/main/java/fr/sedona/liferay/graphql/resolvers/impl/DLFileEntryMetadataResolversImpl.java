@@ -2,10 +2,15 @@ package fr.sedona.liferay.graphql.resolvers.impl;
 
 import com.liferay.document.library.kernel.model.DLFileEntryMetadata;
 import com.liferay.document.library.kernel.service.DLFileEntryMetadataLocalService;
+import fr.sedona.liferay.graphql.cache.CountCache;
 import fr.sedona.liferay.graphql.loaders.DLFileEntryMetadataBatchLoader;
 import fr.sedona.liferay.graphql.resolvers.DLFileEntryMetadataResolvers;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,6 +26,7 @@ import java.util.concurrent.CompletableFuture;
 public class DLFileEntryMetadataResolversImpl implements DLFileEntryMetadataResolvers {
     private DLFileEntryMetadataLocalService dlFileEntryMetadataLocalService;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setDLFileEntryMetadataLocalService(DLFileEntryMetadataLocalService dlFileEntryMetadataLocalService) {
@@ -32,16 +38,55 @@ public class DLFileEntryMetadataResolversImpl implements DLFileEntryMetadataReso
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
     public DataFetcher<List<DLFileEntryMetadata>> getDLFileEntryMetadatasDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            if (FilterUtil.hasCriteria(environment)) {
+                return dlFileEntryMetadataLocalService.dynamicQuery(
+                        FilterUtil.addCriteria(dlFileEntryMetadataLocalService.dynamicQuery(), environment, "fileEntryMetadataId"),
+                        start,
+                        end);
+            }
 
             return dlFileEntryMetadataLocalService.getDLFileEntryMetadatas(start, end);
         };
     }
 
+    @Override
+    public DataFetcher<Connection<DLFileEntryMetadata>> getDLFileEntryMetadatasConnectionDataFetcher() {
+        return environment -> {
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            return ConnectionUtil.getConnection(
+                    FilterUtil.addFilter(dlFileEntryMetadataLocalService.dynamicQuery(), environment),
+                    "fileEntryMetadataId",
+                    DLFileEntryMetadata::getFileEntryMetadataId,
+                    first,
+                    after,
+                    dlFileEntryMetadataLocalService::dynamicQuery,
+                    () -> countDLFileEntryMetadatas(environment));
+        };
+    }
+
+    @Override
+    public DataFetcher<Long> getDLFileEntryMetadatasCountDataFetcher() {
+        return environment -> countDLFileEntryMetadatas(environment);
+    }
+
+    private long countDLFileEntryMetadatas(DataFetchingEnvironment environment) {
+        return countCache.getCount(DLFileEntryMetadataBatchLoader.KEY, environment, () -> dlFileEntryMetadataLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(dlFileEntryMetadataLocalService.dynamicQuery(), environment)));
+    }
+
     @Override
     public DataFetcher<CompletableFuture<DLFileEntryMetadata>> getDLFileEntryMetadataDataFetcher() {
         return environment -> {
@@ -6,9 +6,14 @@ import com.liferay.document.library.kernel.model.DLFolderConstants;
 import com.liferay.document.library.kernel.service.DLFileEntryLocalService;
 import com.liferay.dynamic.data.mapping.kernel.DDMFormValues;
 import com.liferay.portal.kernel.service.ServiceContext;
+import fr.sedona.liferay.graphql.cache.CountCache;
 import fr.sedona.liferay.graphql.loaders.DLFileEntryBatchLoader;
 import fr.sedona.liferay.graphql.resolvers.DLFileEntryResolvers;
+import fr.sedona.liferay.graphql.search.EntitySearcher;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
@@ -28,28 +33,79 @@ import java.util.concurrent.CompletableFuture;
 @SuppressWarnings("squid:S1192")
 public class DLFileEntryResolversImpl implements DLFileEntryResolvers {
     private DLFileEntryLocalService dlFileEntryLocalService;
+    private EntitySearcher entitySearcher;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setDLFileEntryLocalService(DLFileEntryLocalService dlFileEntryLocalService) {
         this.dlFileEntryLocalService = dlFileEntryLocalService;
     }
 
+    @Reference
+    public void setEntitySearcher(EntitySearcher entitySearcher) {
+        this.entitySearcher = entitySearcher;
+    }
+
     @Reference
     public void setUtil(GraphQLUtil util) {
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
     public DataFetcher<List<DLFileEntry>> getDLFileEntriesDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            if (FilterUtil.hasCriteria(environment)) {
+                return dlFileEntryLocalService.dynamicQuery(
+                        FilterUtil.addCriteria(dlFileEntryLocalService.dynamicQuery(), environment, "fileEntryId"),
+                        start,
+                        end);
+            }
 
             return dlFileEntryLocalService.getDLFileEntries(start, end);
         };
     }
 
+    @Override
+    public DataFetcher<Connection<DLFileEntry>> getDLFileEntriesConnectionDataFetcher() {
+        return environment -> {
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            return ConnectionUtil.getConnection(
+                    FilterUtil.addFilter(dlFileEntryLocalService.dynamicQuery(), environment),
+                    "fileEntryId",
+                    DLFileEntry::getFileEntryId,
+                    first,
+                    after,
+                    dlFileEntryLocalService::dynamicQuery,
+                    () -> countDLFileEntries(environment));
+        };
+    }
+
+    @Override
+    public DataFetcher<Long> getDLFileEntriesCountDataFetcher() {
+        return environment -> countDLFileEntries(environment);
+    }
+
+    private long countDLFileEntries(DataFetchingEnvironment environment) {
+        return countCache.getCount(DLFileEntryBatchLoader.KEY, environment, () -> dlFileEntryLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(dlFileEntryLocalService.dynamicQuery(), environment)));
+    }
+
+    @Override
+    public DataFetcher<CompletableFuture<Connection<DLFileEntry>>> getSearchDLFileEntriesDataFetcher() {
+        return environment -> entitySearcher.search(environment, DLFileEntry.class.getName(), DLFileEntryBatchLoader.KEY);
+    }
+
     @Override
     public DataFetcher<CompletableFuture<DLFileEntry>> getDLFileEntryDataFetcher() {
         return environment -> {
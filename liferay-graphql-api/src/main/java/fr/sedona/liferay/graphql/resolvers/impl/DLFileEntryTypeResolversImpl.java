@@ -3,9 +3,13 @@ package fr.sedona.liferay.graphql.resolvers.impl;
 import com.liferay.document.library.kernel.model.DLFileEntryType;
 import com.liferay.document.library.kernel.service.DLFileEntryTypeLocalService;
 import com.liferay.portal.kernel.service.ServiceContext;
+import fr.sedona.liferay.graphql.cache.CountCache;
 import fr.sedona.liferay.graphql.loaders.DLFileEntryTypeBatchLoader;
 import fr.sedona.liferay.graphql.resolvers.DLFileEntryTypeResolvers;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
@@ -25,6 +29,7 @@ import java.util.concurrent.CompletableFuture;
 public class DLFileEntryTypeResolversImpl implements DLFileEntryTypeResolvers {
     private DLFileEntryTypeLocalService dlFileEntryTypeLocalService;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setDLFileEntryTypeLocalService(DLFileEntryTypeLocalService dlFileEntryTypeLocalService) {
@@ -36,22 +41,61 @@ public class DLFileEntryTypeResolversImpl implements DLFileEntryTypeResolvers {
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
     public DataFetcher<List<DLFileEntryType>> getDLFileEntryTypesDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            if (FilterUtil.hasCriteria(environment)) {
+                return dlFileEntryTypeLocalService.dynamicQuery(
+                        FilterUtil.addCriteria(dlFileEntryTypeLocalService.dynamicQuery(), environment, "fileEntryTypeId"),
+                        start,
+                        end);
+            }
 
             return dlFileEntryTypeLocalService.getDLFileEntryTypes(start, end);
         };
     }
 
+    @Override
+    public DataFetcher<Connection<DLFileEntryType>> getDLFileEntryTypesConnectionDataFetcher() {
+        return environment -> {
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            return ConnectionUtil.getConnection(
+                    FilterUtil.addFilter(dlFileEntryTypeLocalService.dynamicQuery(), environment),
+                    "fileEntryTypeId",
+                    DLFileEntryType::getFileEntryTypeId,
+                    first,
+                    after,
+                    dlFileEntryTypeLocalService::dynamicQuery,
+                    () -> countDLFileEntryTypes(environment));
+        };
+    }
+
+    @Override
+    public DataFetcher<Long> getDLFileEntryTypesCountDataFetcher() {
+        return environment -> countDLFileEntryTypes(environment);
+    }
+
+    private long countDLFileEntryTypes(DataFetchingEnvironment environment) {
+        return countCache.getCount(DLFileEntryTypeBatchLoader.KEY, environment, () -> dlFileEntryTypeLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(dlFileEntryTypeLocalService.dynamicQuery(), environment)));
+    }
+
     @Override
     public DataFetcher<List<DLFileEntryType>> getDLFileEntryTypesForFolderDataFetcher() {
         return environment -> {
             long folderId = util.getLongArg(environment, "folderId");
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
 
             return dlFileEntryTypeLocalService.getDLFolderDLFileEntryTypes(folderId, start, end);
         };
@@ -4,10 +4,15 @@ import com.liferay.document.library.kernel.model.DLFileShortcut;
 import com.liferay.document.library.kernel.model.DLFolderConstants;
 import com.liferay.document.library.kernel.service.DLFileShortcutLocalService;
 import com.liferay.portal.kernel.service.ServiceContext;
+import fr.sedona.liferay.graphql.cache.CountCache;
 import fr.sedona.liferay.graphql.loaders.DLFileShortcutBatchLoader;
 import fr.sedona.liferay.graphql.resolvers.DLFileShortcutResolvers;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -23,6 +28,7 @@ import java.util.concurrent.CompletableFuture;
 public class DLFileShortcutResolversImpl implements DLFileShortcutResolvers {
     private DLFileShortcutLocalService dlFileShortcutLocalService;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setDLFileShortcutLocalService(DLFileShortcutLocalService dlFileShortcutLocalService) {
@@ -34,16 +40,55 @@ public class DLFileShortcutResolversImpl implements DLFileShortcutResolvers {
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
     public DataFetcher<List<DLFileShortcut>> getDLFileShortcutsDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            if (FilterUtil.hasCriteria(environment)) {
+                return dlFileShortcutLocalService.dynamicQuery(
+                        FilterUtil.addCriteria(dlFileShortcutLocalService.dynamicQuery(), environment, "fileShortcutId"),
+                        start,
+                        end);
+            }
 
             return dlFileShortcutLocalService.getDLFileShortcuts(start, end);
         };
     }
 
+    @Override
+    public DataFetcher<Connection<DLFileShortcut>> getDLFileShortcutsConnectionDataFetcher() {
+        return environment -> {
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            return ConnectionUtil.getConnection(
+                    FilterUtil.addFilter(dlFileShortcutLocalService.dynamicQuery(), environment),
+                    "fileShortcutId",
+                    DLFileShortcut::getFileShortcutId,
+                    first,
+                    after,
+                    dlFileShortcutLocalService::dynamicQuery,
+                    () -> countDLFileShortcuts(environment));
+        };
+    }
+
+    @Override
+    public DataFetcher<Long> getDLFileShortcutsCountDataFetcher() {
+        return environment -> countDLFileShortcuts(environment);
+    }
+
+    private long countDLFileShortcuts(DataFetchingEnvironment environment) {
+        return countCache.getCount(DLFileShortcutBatchLoader.KEY, environment, () -> dlFileShortcutLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(dlFileShortcutLocalService.dynamicQuery(), environment)));
+    }
+
     @Override
     public DataFetcher<CompletableFuture<DLFileShortcut>> getDLFileShortcutDataFetcher() {
         return environment -> {
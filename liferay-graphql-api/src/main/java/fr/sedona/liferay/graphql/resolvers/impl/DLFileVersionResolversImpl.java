@@ -2,9 +2,13 @@ package fr.sedona.liferay.graphql.resolvers.impl;
 
 import com.liferay.document.library.kernel.model.DLFileVersion;
 import com.liferay.document.library.kernel.service.DLFileVersionLocalService;
+import fr.sedona.liferay.graphql.cache.CountCache;
 import fr.sedona.liferay.graphql.loaders.DLFileVersionBatchLoader;
 import fr.sedona.liferay.graphql.resolvers.DLFileVersionResolvers;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
@@ -22,6 +26,7 @@ import java.util.concurrent.CompletableFuture;
 public class DLFileVersionResolversImpl implements DLFileVersionResolvers {
     private DLFileVersionLocalService dlFileVersionLocalService;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setDLFileVersionLocalService(DLFileVersionLocalService dlFileVersionLocalService) {
@@ -33,16 +38,55 @@ public class DLFileVersionResolversImpl implements DLFileVersionResolvers {
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
     public DataFetcher<List<DLFileVersion>> getDLFileVersionsDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            if (FilterUtil.hasCriteria(environment)) {
+                return dlFileVersionLocalService.dynamicQuery(
+                        FilterUtil.addCriteria(dlFileVersionLocalService.dynamicQuery(), environment, "fileVersionId"),
+                        start,
+                        end);
+            }
 
             return dlFileVersionLocalService.getDLFileVersions(start, end);
         };
     }
 
+    @Override
+    public DataFetcher<Connection<DLFileVersion>> getDLFileVersionsConnectionDataFetcher() {
+        return environment -> {
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            return ConnectionUtil.getConnection(
+                    FilterUtil.addFilter(dlFileVersionLocalService.dynamicQuery(), environment),
+                    "fileVersionId",
+                    DLFileVersion::getFileVersionId,
+                    first,
+                    after,
+                    dlFileVersionLocalService::dynamicQuery,
+                    () -> countDLFileVersions(environment));
+        };
+    }
+
+    @Override
+    public DataFetcher<Long> getDLFileVersionsCountDataFetcher() {
+        return environment -> countDLFileVersions(environment);
+    }
+
+    private long countDLFileVersions(DataFetchingEnvironment environment) {
+        return countCache.getCount(DLFileVersionBatchLoader.KEY, environment, () -> dlFileVersionLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(dlFileVersionLocalService.dynamicQuery(), environment)));
+    }
+
     @Override
     public DataFetcher<CompletableFuture<DLFileVersion>> getDLFileVersionDataFetcher() {
         return environment -> {
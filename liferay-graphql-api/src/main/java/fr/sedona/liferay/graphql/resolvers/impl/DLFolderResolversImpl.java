@@ -4,10 +4,14 @@ import com.liferay.document.library.kernel.model.DLFolder;
 import com.liferay.document.library.kernel.model.DLFolderConstants;
 import com.liferay.document.library.kernel.service.DLFolderLocalService;
 import com.liferay.portal.kernel.service.ServiceContext;
+import fr.sedona.liferay.graphql.cache.CountCache;
 import fr.sedona.liferay.graphql.loaders.DLFolderBatchLoader;
 import fr.sedona.liferay.graphql.resolvers.DLFolderResolvers;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
 import graphql.execution.ExecutionPath;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
@@ -27,6 +31,7 @@ import java.util.stream.Collectors;
 public class DLFolderResolversImpl implements DLFolderResolvers {
     private DLFolderLocalService dlFolderLocalService;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setDLFolderLocalService(DLFolderLocalService dlFolderLocalService) {
@@ -38,22 +43,61 @@ public class DLFolderResolversImpl implements DLFolderResolvers {
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
     public DataFetcher<List<DLFolder>> getDLFoldersDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            if (FilterUtil.hasCriteria(environment)) {
+                return dlFolderLocalService.dynamicQuery(
+                        FilterUtil.addCriteria(dlFolderLocalService.dynamicQuery(), environment, "folderId"),
+                        start,
+                        end);
+            }
 
             return dlFolderLocalService.getDLFolders(start, end);
         };
     }
 
+    @Override
+    public DataFetcher<Connection<DLFolder>> getDLFoldersConnectionDataFetcher() {
+        return environment -> {
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            return ConnectionUtil.getConnection(
+                    FilterUtil.addFilter(dlFolderLocalService.dynamicQuery(), environment),
+                    "folderId",
+                    DLFolder::getFolderId,
+                    first,
+                    after,
+                    dlFolderLocalService::dynamicQuery,
+                    () -> countDLFolders(environment));
+        };
+    }
+
+    @Override
+    public DataFetcher<Long> getDLFoldersCountDataFetcher() {
+        return environment -> countDLFolders(environment);
+    }
+
+    private long countDLFolders(DataFetchingEnvironment environment) {
+        return countCache.getCount(DLFolderBatchLoader.KEY, environment, () -> dlFolderLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(dlFolderLocalService.dynamicQuery(), environment)));
+    }
+
     @Override
     public DataFetcher<List<DLFolder>> getDLFoldersForTypeDataFetcher() {
         return environment -> {
             long fileEntryTypeId = util.getLongArg(environment, "fileEntryTypeId");
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
 
             return dlFolderLocalService.getDLFileEntryTypeDLFolders(fileEntryTypeId, start, end);
         };
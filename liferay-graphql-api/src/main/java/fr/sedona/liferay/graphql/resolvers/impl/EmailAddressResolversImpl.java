@@ -3,14 +3,23 @@ package fr.sedona.liferay.graphql.resolvers.impl;
 import com.liferay.portal.kernel.model.EmailAddress;
 import com.liferay.portal.kernel.service.EmailAddressLocalService;
 import com.liferay.portal.kernel.service.ServiceContext;
+import fr.sedona.liferay.graphql.cache.CountCache;
 import fr.sedona.liferay.graphql.loaders.EmailAddressBatchLoader;
+import fr.sedona.liferay.graphql.loaders.EmailAddressesForEntityBatchLoader;
+import fr.sedona.liferay.graphql.loaders.EntityKey;
 import fr.sedona.liferay.graphql.resolvers.EmailAddressResolvers;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
@@ -22,6 +31,7 @@ import java.util.concurrent.CompletableFuture;
 public class EmailAddressResolversImpl implements EmailAddressResolvers {
     private EmailAddressLocalService emailaddressLocalService;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setEmailAddressLocalService(EmailAddressLocalService emailaddressLocalService) {
@@ -33,24 +43,68 @@ public class EmailAddressResolversImpl implements EmailAddressResolvers {
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
     public DataFetcher<List<EmailAddress>> getEmailAddressesDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            if (FilterUtil.hasCriteria(environment)) {
+                return emailaddressLocalService.dynamicQuery(
+                        FilterUtil.addCriteria(emailaddressLocalService.dynamicQuery(), environment, "emailAddressId"),
+                        start,
+                        end);
+            }
 
             return emailaddressLocalService.getEmailAddresses(start, end);
         };
     }
 
     @Override
-    public DataFetcher<List<EmailAddress>> getEmailAddressesForEntityDataFetcher() {
+    public DataFetcher<Connection<EmailAddress>> getEmailAddressesConnectionDataFetcher() {
         return environment -> {
-            long companyId = util.getLongArg(environment, "companyId");
-            String className = util.getStringArg(environment, "className");
-            long classPK = util.getLongArg(environment, "classPK");
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            return ConnectionUtil.getConnection(
+                    FilterUtil.addFilter(emailaddressLocalService.dynamicQuery(), environment),
+                    "emailAddressId",
+                    EmailAddress::getEmailAddressId,
+                    first,
+                    after,
+                    emailaddressLocalService::dynamicQuery,
+                    () -> countEmailAddresses(environment));
+        };
+    }
+
+    @Override
+    public DataFetcher<Long> getEmailAddressesCountDataFetcher() {
+        return environment -> countEmailAddresses(environment);
+    }
+
+    private long countEmailAddresses(DataFetchingEnvironment environment) {
+        return countCache.getCount(EmailAddressBatchLoader.KEY, environment, () -> emailaddressLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(emailaddressLocalService.dynamicQuery(), environment)));
+    }
+
+    @Override
+    public DataFetcher<CompletableFuture<List<EmailAddress>>> getEmailAddressesForEntityDataFetcher() {
+        return environment -> {
+            EntityKey entityKey = util.getEntityKey(environment);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+            if (entityKey == null) {
+                return CompletableFuture.completedFuture(Collections.emptyList());
+            }
 
-            return emailaddressLocalService.getEmailAddresses(companyId, className, classPK);
+            DataLoader<EntityKey, List<EmailAddress>> dataLoader = environment.getDataLoader(EmailAddressesForEntityBatchLoader.KEY);
+            return dataLoader.load(entityKey)
+                    .thenApply(emailAddresses -> BatchLoaderUtil.slice(emailAddresses, start, end));
         };
     }
 
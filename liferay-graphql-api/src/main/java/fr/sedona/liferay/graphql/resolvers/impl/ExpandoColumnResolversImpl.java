@@ -3,9 +3,13 @@ package fr.sedona.liferay.graphql.resolvers.impl;
 import com.liferay.expando.kernel.model.ExpandoColumn;
 import com.liferay.expando.kernel.model.ExpandoColumnConstants;
 import com.liferay.expando.kernel.service.ExpandoColumnLocalService;
+import fr.sedona.liferay.graphql.cache.CountCache;
 import fr.sedona.liferay.graphql.loaders.ExpandoColumnBatchLoader;
 import fr.sedona.liferay.graphql.resolvers.ExpandoColumnResolvers;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
@@ -23,6 +27,7 @@ import java.util.concurrent.CompletableFuture;
 public class ExpandoColumnResolversImpl implements ExpandoColumnResolvers {
     private ExpandoColumnLocalService expandoColumnLocalService;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setExpandoColumnLocalService(ExpandoColumnLocalService expandoColumnLocalService) {
@@ -34,16 +39,55 @@ public class ExpandoColumnResolversImpl implements ExpandoColumnResolvers {
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
     public DataFetcher<List<ExpandoColumn>> getExpandoColumnsDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            if (FilterUtil.hasCriteria(environment)) {
+                return expandoColumnLocalService.dynamicQuery(
+                        FilterUtil.addCriteria(expandoColumnLocalService.dynamicQuery(), environment, "columnId"),
+                        start,
+                        end);
+            }
 
             return expandoColumnLocalService.getExpandoColumns(start, end);
         };
     }
 
+    @Override
+    public DataFetcher<Connection<ExpandoColumn>> getExpandoColumnsConnectionDataFetcher() {
+        return environment -> {
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            return ConnectionUtil.getConnection(
+                    FilterUtil.addFilter(expandoColumnLocalService.dynamicQuery(), environment),
+                    "columnId",
+                    ExpandoColumn::getColumnId,
+                    first,
+                    after,
+                    expandoColumnLocalService::dynamicQuery,
+                    () -> countExpandoColumns(environment));
+        };
+    }
+
+    @Override
+    public DataFetcher<Long> getExpandoColumnsCountDataFetcher() {
+        return environment -> countExpandoColumns(environment);
+    }
+
+    private long countExpandoColumns(DataFetchingEnvironment environment) {
+        return countCache.getCount(ExpandoColumnBatchLoader.KEY, environment, () -> expandoColumnLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(expandoColumnLocalService.dynamicQuery(), environment)));
+    }
+
     @Override
     public DataFetcher<CompletableFuture<ExpandoColumn>> getExpandoColumnDataFetcher() {
         return environment -> {
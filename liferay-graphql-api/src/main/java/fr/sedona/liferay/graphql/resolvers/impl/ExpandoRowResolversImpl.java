@@ -2,9 +2,13 @@ package fr.sedona.liferay.graphql.resolvers.impl;
 
 import com.liferay.expando.kernel.model.ExpandoRow;
 import com.liferay.expando.kernel.service.ExpandoRowLocalService;
+import fr.sedona.liferay.graphql.cache.CountCache;
 import fr.sedona.liferay.graphql.loaders.ExpandoRowBatchLoader;
 import fr.sedona.liferay.graphql.resolvers.ExpandoRowResolvers;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
@@ -22,6 +26,7 @@ import java.util.concurrent.CompletableFuture;
 public class ExpandoRowResolversImpl implements ExpandoRowResolvers {
     private ExpandoRowLocalService expandoRowLocalService;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setExpandoRowLocalService(ExpandoRowLocalService expandoRowLocalService) {
@@ -33,16 +38,55 @@ public class ExpandoRowResolversImpl implements ExpandoRowResolvers {
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
     public DataFetcher<List<ExpandoRow>> getExpandoRowsDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            if (FilterUtil.hasCriteria(environment)) {
+                return expandoRowLocalService.dynamicQuery(
+                        FilterUtil.addCriteria(expandoRowLocalService.dynamicQuery(), environment, "rowId"),
+                        start,
+                        end);
+            }
 
             return expandoRowLocalService.getExpandoRows(start, end);
         };
     }
 
+    @Override
+    public DataFetcher<Connection<ExpandoRow>> getExpandoRowsConnectionDataFetcher() {
+        return environment -> {
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            return ConnectionUtil.getConnection(
+                    FilterUtil.addFilter(expandoRowLocalService.dynamicQuery(), environment),
+                    "rowId",
+                    ExpandoRow::getRowId,
+                    first,
+                    after,
+                    expandoRowLocalService::dynamicQuery,
+                    () -> countExpandoRows(environment));
+        };
+    }
+
+    @Override
+    public DataFetcher<Long> getExpandoRowsCountDataFetcher() {
+        return environment -> countExpandoRows(environment);
+    }
+
+    private long countExpandoRows(DataFetchingEnvironment environment) {
+        return countCache.getCount(ExpandoRowBatchLoader.KEY, environment, () -> expandoRowLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(expandoRowLocalService.dynamicQuery(), environment)));
+    }
+
     @Override
     public DataFetcher<CompletableFuture<ExpandoRow>> getExpandoRowDataFetcher() {
         return environment -> {
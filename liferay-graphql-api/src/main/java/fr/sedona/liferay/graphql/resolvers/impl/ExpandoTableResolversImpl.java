@@ -2,9 +2,13 @@ package fr.sedona.liferay.graphql.resolvers.impl;
 
 import com.liferay.expando.kernel.model.ExpandoTable;
 import com.liferay.expando.kernel.service.ExpandoTableLocalService;
+import fr.sedona.liferay.graphql.cache.CountCache;
 import fr.sedona.liferay.graphql.loaders.ExpandoTableBatchLoader;
 import fr.sedona.liferay.graphql.resolvers.ExpandoTableResolvers;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
@@ -22,6 +26,7 @@ import java.util.concurrent.CompletableFuture;
 public class ExpandoTableResolversImpl implements ExpandoTableResolvers {
     private ExpandoTableLocalService expandoTableLocalService;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setExpandoTableLocalService(ExpandoTableLocalService expandoTableLocalService) {
@@ -33,16 +38,55 @@ public class ExpandoTableResolversImpl implements ExpandoTableResolvers {
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
     public DataFetcher<List<ExpandoTable>> getExpandoTablesDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            if (FilterUtil.hasCriteria(environment)) {
+                return expandoTableLocalService.dynamicQuery(
+                        FilterUtil.addCriteria(expandoTableLocalService.dynamicQuery(), environment, "tableId"),
+                        start,
+                        end);
+            }
 
             return expandoTableLocalService.getExpandoTables(start, end);
         };
     }
 
+    @Override
+    public DataFetcher<Connection<ExpandoTable>> getExpandoTablesConnectionDataFetcher() {
+        return environment -> {
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            return ConnectionUtil.getConnection(
+                    FilterUtil.addFilter(expandoTableLocalService.dynamicQuery(), environment),
+                    "tableId",
+                    ExpandoTable::getTableId,
+                    first,
+                    after,
+                    expandoTableLocalService::dynamicQuery,
+                    () -> countExpandoTables(environment));
+        };
+    }
+
+    @Override
+    public DataFetcher<Long> getExpandoTablesCountDataFetcher() {
+        return environment -> countExpandoTables(environment);
+    }
+
+    private long countExpandoTables(DataFetchingEnvironment environment) {
+        return countCache.getCount(ExpandoTableBatchLoader.KEY, environment, () -> expandoTableLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(expandoTableLocalService.dynamicQuery(), environment)));
+    }
+
     @Override
     public DataFetcher<CompletableFuture<ExpandoTable>> getExpandoTableDataFetcher() {
         return environment -> {
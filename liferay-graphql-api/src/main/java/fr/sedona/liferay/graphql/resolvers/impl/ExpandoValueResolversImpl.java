@@ -2,10 +2,15 @@ package fr.sedona.liferay.graphql.resolvers.impl;
 
 import com.liferay.expando.kernel.model.ExpandoValue;
 import com.liferay.expando.kernel.service.ExpandoValueLocalService;
+import fr.sedona.liferay.graphql.cache.CountCache;
 import fr.sedona.liferay.graphql.loaders.ExpandoValueBatchLoader;
 import fr.sedona.liferay.graphql.resolvers.ExpandoValueResolvers;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,6 +26,7 @@ import java.util.concurrent.CompletableFuture;
 public class ExpandoValueResolversImpl implements ExpandoValueResolvers {
     private ExpandoValueLocalService expandoValueLocalService;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setExpandoValueLocalService(ExpandoValueLocalService expandoValueLocalService) {
@@ -32,16 +38,55 @@ public class ExpandoValueResolversImpl implements ExpandoValueResolvers {
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
     public DataFetcher<List<ExpandoValue>> getExpandoValuesDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            if (FilterUtil.hasCriteria(environment)) {
+                return expandoValueLocalService.dynamicQuery(
+                        FilterUtil.addCriteria(expandoValueLocalService.dynamicQuery(), environment, "valueId"),
+                        start,
+                        end);
+            }
 
             return expandoValueLocalService.getExpandoValues(start, end);
         };
     }
 
+    @Override
+    public DataFetcher<Connection<ExpandoValue>> getExpandoValuesConnectionDataFetcher() {
+        return environment -> {
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            return ConnectionUtil.getConnection(
+                    FilterUtil.addFilter(expandoValueLocalService.dynamicQuery(), environment),
+                    "valueId",
+                    ExpandoValue::getValueId,
+                    first,
+                    after,
+                    expandoValueLocalService::dynamicQuery,
+                    () -> countExpandoValues(environment));
+        };
+    }
+
+    @Override
+    public DataFetcher<Long> getExpandoValuesCountDataFetcher() {
+        return environment -> countExpandoValues(environment);
+    }
+
+    private long countExpandoValues(DataFetchingEnvironment environment) {
+        return countCache.getCount(ExpandoValueBatchLoader.KEY, environment, () -> expandoValueLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(expandoValueLocalService.dynamicQuery(), environment)));
+    }
+
     @Override
     public DataFetcher<CompletableFuture<ExpandoValue>> getExpandoValueDataFetcher() {
         return environment -> {
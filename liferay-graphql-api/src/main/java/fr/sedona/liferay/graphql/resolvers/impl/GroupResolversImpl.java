@@ -4,10 +4,14 @@ import com.liferay.portal.kernel.model.Group;
 import com.liferay.portal.kernel.model.GroupConstants;
 import com.liferay.portal.kernel.service.GroupLocalService;
 import com.liferay.portal.kernel.service.ServiceContext;
+import fr.sedona.liferay.graphql.cache.CountCache;
 import fr.sedona.liferay.graphql.loaders.GroupBatchLoader;
 import fr.sedona.liferay.graphql.resolvers.GroupResolvers;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
 import graphql.execution.ExecutionPath;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
@@ -27,6 +31,7 @@ import java.util.concurrent.CompletableFuture;
 public class GroupResolversImpl implements GroupResolvers {
     private GroupLocalService groupLocalService;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setGroupLocalService(GroupLocalService groupLocalService) {
@@ -38,16 +43,55 @@ public class GroupResolversImpl implements GroupResolvers {
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
     public DataFetcher<List<Group>> getGroupsDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            if (FilterUtil.hasCriteria(environment)) {
+                return groupLocalService.dynamicQuery(
+                        FilterUtil.addCriteria(groupLocalService.dynamicQuery(), environment, "groupId"),
+                        start,
+                        end);
+            }
 
             return groupLocalService.getGroups(start, end);
         };
     }
 
+    @Override
+    public DataFetcher<Connection<Group>> getGroupsConnectionDataFetcher() {
+        return environment -> {
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            return ConnectionUtil.getConnection(
+                    FilterUtil.addFilter(groupLocalService.dynamicQuery(), environment),
+                    "groupId",
+                    Group::getGroupId,
+                    first,
+                    after,
+                    groupLocalService::dynamicQuery,
+                    () -> countGroups(environment));
+        };
+    }
+
+    @Override
+    public DataFetcher<Long> getGroupsCountDataFetcher() {
+        return environment -> countGroups(environment);
+    }
+
+    private long countGroups(DataFetchingEnvironment environment) {
+        return countCache.getCount(GroupBatchLoader.KEY, environment, () -> groupLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(groupLocalService.dynamicQuery(), environment)));
+    }
+
     @Override
     public DataFetcher<CompletableFuture<Group>> getGroupDataFetcher() {
         return environment -> {
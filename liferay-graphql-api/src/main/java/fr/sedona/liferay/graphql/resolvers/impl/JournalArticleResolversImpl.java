@@ -3,19 +3,39 @@ package fr.sedona.liferay.graphql.resolvers.impl;
 import com.liferay.journal.model.JournalArticle;
 import com.liferay.journal.model.JournalArticleConstants;
 import com.liferay.journal.service.JournalArticleLocalService;
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.OrderFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.ProjectionFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import com.liferay.portal.kernel.search.Document;
+import com.liferay.portal.kernel.search.Field;
 import com.liferay.portal.kernel.service.ServiceContext;
+import com.liferay.portal.kernel.workflow.WorkflowConstants;
+import fr.sedona.liferay.graphql.cache.CountCache;
 import fr.sedona.liferay.graphql.loaders.JournalArticleBatchLoader;
+import fr.sedona.liferay.graphql.loaders.JournalArticleProjectedBatchLoader;
+import fr.sedona.liferay.graphql.projection.ProjectedKey;
+import fr.sedona.liferay.graphql.projection.ProjectedRow;
 import fr.sedona.liferay.graphql.resolvers.JournalArticleResolvers;
+import fr.sedona.liferay.graphql.search.EntitySearcher;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 @Component(
         immediate = true,
@@ -24,37 +44,149 @@ import java.util.concurrent.CompletableFuture;
 @SuppressWarnings("squid:S1192")
 public class JournalArticleResolversImpl implements JournalArticleResolvers {
     private JournalArticleLocalService journalArticleLocalService;
+    private EntitySearcher entitySearcher;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setJournalArticleLocalService(JournalArticleLocalService journalArticleLocalService) {
         this.journalArticleLocalService = journalArticleLocalService;
     }
 
+    @Reference
+    public void setEntitySearcher(EntitySearcher entitySearcher) {
+        this.entitySearcher = entitySearcher;
+    }
+
     @Reference
     public void setUtil(GraphQLUtil util) {
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
-    public DataFetcher<List<JournalArticle>> getJournalArticlesDataFetcher() {
+    public DataFetcher<List<Object>> getJournalArticlesDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            List<String> fields = JournalArticleProjectedBatchLoader.PROJECTION.getFields(environment.getSelectionSet());
+            if (fields == null) {
+                if (FilterUtil.hasCriteria(environment)) {
+                    return Collections.unmodifiableList(journalArticleLocalService.dynamicQuery(
+                            FilterUtil.addCriteria(journalArticleLocalService.dynamicQuery(), environment, "id"),
+                            start,
+                            end));
+                }
+
+                return Collections.unmodifiableList(journalArticleLocalService.getJournalArticles(start, end));
+            }
 
-            return journalArticleLocalService.getJournalArticles(start, end);
+            DynamicQuery query = journalArticleLocalService.dynamicQuery();
+            query.setProjection(JournalArticleProjectedBatchLoader.PROJECTION.toProjectionList(fields));
+            if (FilterUtil.hasCriteria(environment)) {
+                FilterUtil.addCriteria(query, environment, "id");
+            } else {
+                // Same order as the entity finder, so that both return the same page
+                query.addOrder(OrderFactoryUtil.asc("articleId"));
+                query.addOrder(OrderFactoryUtil.desc("version"));
+            }
+            return Collections.unmodifiableList(JournalArticleProjectedBatchLoader.PROJECTION.toRows(fields,
+                    journalArticleLocalService.dynamicQuery(query, start, end)));
         };
     }
 
     @Override
-    public DataFetcher<CompletableFuture<JournalArticle>> getJournalArticleDataFetcher() {
+    public DataFetcher<Connection<Object>> getJournalArticlesConnectionDataFetcher() {
+        return environment -> {
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            List<String> fields = JournalArticleProjectedBatchLoader.PROJECTION.getFields(environment.getSelectionSet(),
+                    "edges/node");
+            if (fields == null) {
+                return ConnectionUtil.getConnection(
+                        FilterUtil.addFilter(journalArticleLocalService.dynamicQuery(), environment),
+                        "id",
+                        entity -> ((JournalArticle) entity).getId(),
+                        first,
+                        after,
+                        journalArticleLocalService::dynamicQuery,
+                        () -> countJournalArticles(environment));
+            }
+
+            DynamicQuery query = FilterUtil.addFilter(journalArticleLocalService.dynamicQuery(), environment);
+            query.setProjection(JournalArticleProjectedBatchLoader.PROJECTION.toProjectionList(fields));
+            return ConnectionUtil.getConnection(
+                    query,
+                    "id",
+                    row -> ((ProjectedRow) row).getLong("id"),
+                    first,
+                    after,
+                    (rangeQuery, start, end) -> Collections.unmodifiableList(JournalArticleProjectedBatchLoader.PROJECTION
+                            .toRows(fields, journalArticleLocalService.dynamicQuery(rangeQuery, start, end))),
+                    () -> countJournalArticles(environment));
+        };
+    }
+
+    @Override
+    public DataFetcher<Long> getJournalArticlesCountDataFetcher() {
+        return environment -> countJournalArticles(environment);
+    }
+
+    private long countJournalArticles(DataFetchingEnvironment environment) {
+        return countCache.getCount(JournalArticleBatchLoader.KEY, environment, () -> journalArticleLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(journalArticleLocalService.dynamicQuery(), environment)));
+    }
+
+    @Override
+    public DataFetcher<CompletableFuture<Connection<JournalArticle>>> getSearchJournalArticlesDataFetcher() {
+        return environment -> entitySearcher.search(environment, JournalArticle.class.getName(), JournalArticleBatchLoader.KEY,
+                this::getLatestArticleIds);
+    }
+
+    private List<Long> getLatestArticleIds(List<Document> documents) {
+        // The documents hold the resource of the article, indexed with its latest approved version
+        List<Long> resourcePrimKeys = documents.stream()
+                .map(document -> EntitySearcher.getLong(document, Field.ENTRY_CLASS_PK))
+                .collect(Collectors.toList());
+        DynamicQuery query = journalArticleLocalService.dynamicQuery();
+        query.setProjection(ProjectionFactoryUtil.projectionList()
+                .add(ProjectionFactoryUtil.groupProperty("resourcePrimKey"))
+                .add(ProjectionFactoryUtil.max("id")));
+        query.add(PropertyFactoryUtil.forName("resourcePrimKey").in(resourcePrimKeys.stream()
+                .filter(Objects::nonNull)
+                .toArray()));
+        query.add(PropertyFactoryUtil.forName("status").eq(WorkflowConstants.STATUS_APPROVED));
+
+        Map<Long, Long> ids = new HashMap<>();
+        for (Object[] row : journalArticleLocalService.<Object[]>dynamicQuery(query)) {
+            ids.put((Long) row[0], (Long) row[1]);
+        }
+        return resourcePrimKeys.stream()
+                .map(ids::get)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public DataFetcher<CompletableFuture<Object>> getJournalArticleDataFetcher() {
         return environment -> {
             long id = util.getLongArg(environment, "id");
             if (id <= 0) {
                 return null;
             }
 
-            DataLoader<Long, JournalArticle> dataLoader = environment.getDataLoader(JournalArticleBatchLoader.KEY);
+            List<String> fields = JournalArticleProjectedBatchLoader.PROJECTION.getFields(environment.getSelectionSet());
+            if (fields != null) {
+                DataLoader<ProjectedKey, Object> dataLoader = environment.getDataLoader(JournalArticleProjectedBatchLoader.KEY);
+                return dataLoader.load(new ProjectedKey(id, fields));
+            }
+
+            DataLoader<Long, Object> dataLoader = environment.getDataLoader(JournalArticleBatchLoader.KEY);
             return dataLoader.load(id);
         };
     }
@@ -3,10 +3,15 @@ package fr.sedona.liferay.graphql.resolvers.impl;
 import com.liferay.journal.model.JournalFeed;
 import com.liferay.journal.service.JournalFeedLocalService;
 import com.liferay.portal.kernel.service.ServiceContext;
+import fr.sedona.liferay.graphql.cache.CountCache;
 import fr.sedona.liferay.graphql.loaders.JournalFeedBatchLoader;
 import fr.sedona.liferay.graphql.resolvers.JournalFeedResolvers;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -22,6 +27,7 @@ import java.util.concurrent.CompletableFuture;
 public class JournalFeedResolversImpl implements JournalFeedResolvers {
     private JournalFeedLocalService journalFeedLocalService;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setJournalFeedLocalService(JournalFeedLocalService journalFeedLocalService) {
@@ -33,16 +39,55 @@ public class JournalFeedResolversImpl implements JournalFeedResolvers {
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
     public DataFetcher<List<JournalFeed>> getJournalFeedsDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            if (FilterUtil.hasCriteria(environment)) {
+                return journalFeedLocalService.dynamicQuery(
+                        FilterUtil.addCriteria(journalFeedLocalService.dynamicQuery(), environment, "id"),
+                        start,
+                        end);
+            }
 
             return journalFeedLocalService.getJournalFeeds(start, end);
         };
     }
 
+    @Override
+    public DataFetcher<Connection<JournalFeed>> getJournalFeedsConnectionDataFetcher() {
+        return environment -> {
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            return ConnectionUtil.getConnection(
+                    FilterUtil.addFilter(journalFeedLocalService.dynamicQuery(), environment),
+                    "id",
+                    JournalFeed::getId,
+                    first,
+                    after,
+                    journalFeedLocalService::dynamicQuery,
+                    () -> countJournalFeeds(environment));
+        };
+    }
+
+    @Override
+    public DataFetcher<Long> getJournalFeedsCountDataFetcher() {
+        return environment -> countJournalFeeds(environment);
+    }
+
+    private long countJournalFeeds(DataFetchingEnvironment environment) {
+        return countCache.getCount(JournalFeedBatchLoader.KEY, environment, () -> journalFeedLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(journalFeedLocalService.dynamicQuery(), environment)));
+    }
+
     @Override
     public DataFetcher<CompletableFuture<JournalFeed>> getJournalFeedDataFetcher() {
         return environment -> {
@@ -4,10 +4,14 @@ import com.liferay.journal.model.JournalFolder;
 import com.liferay.journal.model.JournalFolderConstants;
 import com.liferay.journal.service.JournalFolderLocalService;
 import com.liferay.portal.kernel.service.ServiceContext;
+import fr.sedona.liferay.graphql.cache.CountCache;
 import fr.sedona.liferay.graphql.loaders.JournalFolderBatchLoader;
 import fr.sedona.liferay.graphql.resolvers.JournalFolderResolvers;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
 import graphql.execution.ExecutionPath;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
@@ -25,6 +29,7 @@ import java.util.concurrent.CompletableFuture;
 public class JournalFolderResolversImpl implements JournalFolderResolvers {
     private JournalFolderLocalService journalFolderLocalService;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setJournalFolderLocalService(JournalFolderLocalService journalFolderLocalService) {
@@ -36,16 +41,55 @@ public class JournalFolderResolversImpl implements JournalFolderResolvers {
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
     public DataFetcher<List<JournalFolder>> getJournalFoldersDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            if (FilterUtil.hasCriteria(environment)) {
+                return journalFolderLocalService.dynamicQuery(
+                        FilterUtil.addCriteria(journalFolderLocalService.dynamicQuery(), environment, "folderId"),
+                        start,
+                        end);
+            }
 
             return journalFolderLocalService.getJournalFolders(start, end);
         };
     }
 
+    @Override
+    public DataFetcher<Connection<JournalFolder>> getJournalFoldersConnectionDataFetcher() {
+        return environment -> {
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            return ConnectionUtil.getConnection(
+                    FilterUtil.addFilter(journalFolderLocalService.dynamicQuery(), environment),
+                    "folderId",
+                    JournalFolder::getFolderId,
+                    first,
+                    after,
+                    journalFolderLocalService::dynamicQuery,
+                    () -> countJournalFolders(environment));
+        };
+    }
+
+    @Override
+    public DataFetcher<Long> getJournalFoldersCountDataFetcher() {
+        return environment -> countJournalFolders(environment);
+    }
+
+    private long countJournalFolders(DataFetchingEnvironment environment) {
+        return countCache.getCount(JournalFolderBatchLoader.KEY, environment, () -> journalFolderLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(journalFolderLocalService.dynamicQuery(), environment)));
+    }
+
     @Override
     public DataFetcher<CompletableFuture<JournalFolder>> getJournalFolderDataFetcher() {
         return environment -> {
@@ -1,20 +1,30 @@
 package fr.sedona.liferay.graphql.resolvers.impl;
 
+import com.liferay.portal.kernel.model.Group;
 import com.liferay.portal.kernel.model.Layout;
 import com.liferay.portal.kernel.service.LayoutLocalService;
 import com.liferay.portal.kernel.service.ServiceContext;
+import fr.sedona.liferay.graphql.cache.CountCache;
 import fr.sedona.liferay.graphql.loaders.LayoutBatchLoader;
+import fr.sedona.liferay.graphql.loaders.LayoutsForGroupBatchLoader;
 import fr.sedona.liferay.graphql.resolvers.LayoutResolvers;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 @Component(
         immediate = true,
@@ -24,6 +34,7 @@ import java.util.concurrent.CompletableFuture;
 public class LayoutResolversImpl implements LayoutResolvers {
     private LayoutLocalService layoutLocalService;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setLayoutLocalService(LayoutLocalService layoutLocalService) {
@@ -35,26 +46,82 @@ public class LayoutResolversImpl implements LayoutResolvers {
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
     public DataFetcher<List<Layout>> getLayoutsDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            if (FilterUtil.hasCriteria(environment)) {
+                return layoutLocalService.dynamicQuery(
+                        FilterUtil.addCriteria(layoutLocalService.dynamicQuery(), environment, "plid"),
+                        start,
+                        end);
+            }
 
             return layoutLocalService.getLayouts(start, end);
         };
     }
 
     @Override
-    public DataFetcher<List<Layout>> getLayoutsForGroupDataFetcher() {
+    public DataFetcher<Connection<Layout>> getLayoutsConnectionDataFetcher() {
         return environment -> {
-            long groupId = util.getLongArg(environment, "groupId");
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            return ConnectionUtil.getConnection(
+                    FilterUtil.addFilter(layoutLocalService.dynamicQuery(), environment),
+                    "plid",
+                    Layout::getPlid,
+                    first,
+                    after,
+                    layoutLocalService::dynamicQuery,
+                    () -> countLayouts(environment));
+        };
+    }
+
+    @Override
+    public DataFetcher<Long> getLayoutsCountDataFetcher() {
+        return environment -> countLayouts(environment);
+    }
+
+    private long countLayouts(DataFetchingEnvironment environment) {
+        return countCache.getCount(LayoutBatchLoader.KEY, environment, () -> layoutLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(layoutLocalService.dynamicQuery(), environment)));
+    }
+
+    @Override
+    public DataFetcher<CompletableFuture<List<Layout>>> getLayoutsForGroupDataFetcher() {
+        return environment -> {
+            long groupId = getGroupId(environment);
             boolean privateLayout = util.getBooleanArg(environment, "privateLayout");
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+            if (groupId <= 0) {
+                return CompletableFuture.completedFuture(Collections.emptyList());
+            }
 
-            return layoutLocalService.getLayouts(groupId, privateLayout);
+            DataLoader<Long, List<Layout>> dataLoader = environment.getDataLoader(LayoutsForGroupBatchLoader.KEY);
+            return dataLoader.load(groupId)
+                    .thenApply(layouts -> BatchLoaderUtil.slice(layouts.stream()
+                            .filter(layout -> layout.isPrivateLayout() == privateLayout)
+                            .collect(Collectors.toList()), start, end));
         };
     }
 
+    private long getGroupId(DataFetchingEnvironment environment) {
+        Object source = environment.getSource();
+        if (source instanceof Group) {
+            return ((Group) source).getGroupId();
+        }
+        return util.getLongArg(environment, "groupId");
+    }
+
     @Override
     public DataFetcher<CompletableFuture<Layout>> getLayoutDataFetcher() {
         return environment -> {
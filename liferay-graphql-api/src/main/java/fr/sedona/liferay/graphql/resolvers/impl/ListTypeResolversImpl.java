@@ -3,10 +3,14 @@ package fr.sedona.liferay.graphql.resolvers.impl;
 import com.liferay.portal.kernel.model.Contact;
 import com.liferay.portal.kernel.model.ListType;
 import com.liferay.portal.kernel.service.ListTypeLocalService;
+import fr.sedona.liferay.graphql.cache.CountCache;
 import fr.sedona.liferay.graphql.loaders.ListTypeBatchLoader;
 import fr.sedona.liferay.graphql.resolvers.ListTypeResolvers;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
 import graphql.execution.ExecutionPath;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
@@ -24,6 +28,7 @@ import java.util.concurrent.CompletableFuture;
 public class ListTypeResolversImpl implements ListTypeResolvers {
     private ListTypeLocalService listtypeLocalService;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setListTypeLocalService(ListTypeLocalService listtypeLocalService) {
@@ -35,16 +40,55 @@ public class ListTypeResolversImpl implements ListTypeResolvers {
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
     public DataFetcher<List<ListType>> getListTypesDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            if (FilterUtil.hasCriteria(environment)) {
+                return listtypeLocalService.dynamicQuery(
+                        FilterUtil.addCriteria(listtypeLocalService.dynamicQuery(), environment, "listTypeId"),
+                        start,
+                        end);
+            }
 
             return listtypeLocalService.getListTypes(start, end);
         };
     }
 
+    @Override
+    public DataFetcher<Connection<ListType>> getListTypesConnectionDataFetcher() {
+        return environment -> {
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            return ConnectionUtil.getConnection(
+                    FilterUtil.addFilter(listtypeLocalService.dynamicQuery(), environment),
+                    "listTypeId",
+                    ListType::getListTypeId,
+                    first,
+                    after,
+                    listtypeLocalService::dynamicQuery,
+                    () -> countListTypes(environment));
+        };
+    }
+
+    @Override
+    public DataFetcher<Long> getListTypesCountDataFetcher() {
+        return environment -> countListTypes(environment);
+    }
+
+    private long countListTypes(DataFetchingEnvironment environment) {
+        return countCache.getCount(ListTypeBatchLoader.KEY, environment, () -> listtypeLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(listtypeLocalService.dynamicQuery(), environment)));
+    }
+
     @Override
     public DataFetcher<List<ListType>> getListTypesByTypeDataFetcher() {
         return environment -> {
@@ -4,10 +4,14 @@ import com.liferay.message.boards.kernel.model.MBCategory;
 import com.liferay.message.boards.kernel.model.MBCategoryConstants;
 import com.liferay.message.boards.kernel.service.MBCategoryLocalService;
 import com.liferay.portal.kernel.service.ServiceContext;
+import fr.sedona.liferay.graphql.cache.CountCache;
 import fr.sedona.liferay.graphql.loaders.MBCategoryBatchLoader;
 import fr.sedona.liferay.graphql.resolvers.MBCategoryResolvers;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
 import graphql.execution.ExecutionPath;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
@@ -25,6 +29,7 @@ import java.util.concurrent.CompletableFuture;
 public class MBCategoryResolversImpl implements MBCategoryResolvers {
     private MBCategoryLocalService mbCategoryLocalService;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setMBCategoryLocalService(MBCategoryLocalService mbCategoryLocalService) {
@@ -36,16 +41,55 @@ public class MBCategoryResolversImpl implements MBCategoryResolvers {
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
     public DataFetcher<List<MBCategory>> getMBCategoriesDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            if (FilterUtil.hasCriteria(environment)) {
+                return mbCategoryLocalService.dynamicQuery(
+                        FilterUtil.addCriteria(mbCategoryLocalService.dynamicQuery(), environment, "categoryId"),
+                        start,
+                        end);
+            }
 
             return mbCategoryLocalService.getMBCategories(start, end);
         };
     }
 
+    @Override
+    public DataFetcher<Connection<MBCategory>> getMBCategoriesConnectionDataFetcher() {
+        return environment -> {
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            return ConnectionUtil.getConnection(
+                    FilterUtil.addFilter(mbCategoryLocalService.dynamicQuery(), environment),
+                    "categoryId",
+                    MBCategory::getCategoryId,
+                    first,
+                    after,
+                    mbCategoryLocalService::dynamicQuery,
+                    () -> countMBCategories(environment));
+        };
+    }
+
+    @Override
+    public DataFetcher<Long> getMBCategoriesCountDataFetcher() {
+        return environment -> countMBCategories(environment);
+    }
+
+    private long countMBCategories(DataFetchingEnvironment environment) {
+        return countCache.getCount(MBCategoryBatchLoader.KEY, environment, () -> mbCategoryLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(mbCategoryLocalService.dynamicQuery(), environment)));
+    }
+
     @Override
     public DataFetcher<CompletableFuture<MBCategory>> getMBCategoryDataFetcher() {
         return environment -> {
@@ -4,10 +4,14 @@ import com.liferay.message.boards.kernel.model.MBMessage;
 import com.liferay.message.boards.kernel.model.MBThread;
 import com.liferay.message.boards.kernel.service.MBMessageLocalService;
 import com.liferay.portal.kernel.service.ServiceContext;
+import fr.sedona.liferay.graphql.cache.CountCache;
 import fr.sedona.liferay.graphql.loaders.MBMessageBatchLoader;
 import fr.sedona.liferay.graphql.resolvers.MBMessageResolvers;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
 import graphql.execution.ExecutionPath;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
@@ -25,6 +29,7 @@ import java.util.concurrent.CompletableFuture;
 public class MBMessageResolversImpl implements MBMessageResolvers {
     private MBMessageLocalService mbMessageLocalService;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setMBMessageLocalService(MBMessageLocalService mbMessageLocalService) {
@@ -36,16 +41,55 @@ public class MBMessageResolversImpl implements MBMessageResolvers {
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
     public DataFetcher<List<MBMessage>> getMBMessagesDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            if (FilterUtil.hasCriteria(environment)) {
+                return mbMessageLocalService.dynamicQuery(
+                        FilterUtil.addCriteria(mbMessageLocalService.dynamicQuery(), environment, "messageId"),
+                        start,
+                        end);
+            }
 
             return mbMessageLocalService.getMBMessages(start, end);
         };
     }
 
+    @Override
+    public DataFetcher<Connection<MBMessage>> getMBMessagesConnectionDataFetcher() {
+        return environment -> {
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            return ConnectionUtil.getConnection(
+                    FilterUtil.addFilter(mbMessageLocalService.dynamicQuery(), environment),
+                    "messageId",
+                    MBMessage::getMessageId,
+                    first,
+                    after,
+                    mbMessageLocalService::dynamicQuery,
+                    () -> countMBMessages(environment));
+        };
+    }
+
+    @Override
+    public DataFetcher<Long> getMBMessagesCountDataFetcher() {
+        return environment -> countMBMessages(environment);
+    }
+
+    private long countMBMessages(DataFetchingEnvironment environment) {
+        return countCache.getCount(MBMessageBatchLoader.KEY, environment, () -> mbMessageLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(mbMessageLocalService.dynamicQuery(), environment)));
+    }
+
     @Override
     public DataFetcher<CompletableFuture<MBMessage>> getMBMessageDataFetcher() {
         return environment -> {
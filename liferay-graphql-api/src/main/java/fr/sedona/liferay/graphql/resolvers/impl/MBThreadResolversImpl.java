@@ -4,9 +4,13 @@ import com.liferay.message.boards.kernel.model.MBMessage;
 import com.liferay.message.boards.kernel.model.MBThread;
 import com.liferay.message.boards.kernel.service.MBThreadLocalService;
 import com.liferay.portal.kernel.service.ServiceContext;
+import fr.sedona.liferay.graphql.cache.CountCache;
 import fr.sedona.liferay.graphql.loaders.MBThreadBatchLoader;
 import fr.sedona.liferay.graphql.resolvers.MBThreadResolvers;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
@@ -24,6 +28,7 @@ import java.util.concurrent.CompletableFuture;
 public class MBThreadResolversImpl implements MBThreadResolvers {
     private MBThreadLocalService mbThreadLocalService;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setMBThreadLocalService(MBThreadLocalService mbThreadLocalService) {
@@ -35,16 +40,55 @@ public class MBThreadResolversImpl implements MBThreadResolvers {
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
     public DataFetcher<List<MBThread>> getMBThreadsDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            if (FilterUtil.hasCriteria(environment)) {
+                return mbThreadLocalService.dynamicQuery(
+                        FilterUtil.addCriteria(mbThreadLocalService.dynamicQuery(), environment, "threadId"),
+                        start,
+                        end);
+            }
 
             return mbThreadLocalService.getMBThreads(start, end);
         };
     }
 
+    @Override
+    public DataFetcher<Connection<MBThread>> getMBThreadsConnectionDataFetcher() {
+        return environment -> {
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            return ConnectionUtil.getConnection(
+                    FilterUtil.addFilter(mbThreadLocalService.dynamicQuery(), environment),
+                    "threadId",
+                    MBThread::getThreadId,
+                    first,
+                    after,
+                    mbThreadLocalService::dynamicQuery,
+                    () -> countMBThreads(environment));
+        };
+    }
+
+    @Override
+    public DataFetcher<Long> getMBThreadsCountDataFetcher() {
+        return environment -> countMBThreads(environment);
+    }
+
+    private long countMBThreads(DataFetchingEnvironment environment) {
+        return countCache.getCount(MBThreadBatchLoader.KEY, environment, () -> mbThreadLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(mbThreadLocalService.dynamicQuery(), environment)));
+    }
+
     @Override
     public DataFetcher<CompletableFuture<MBThread>> getMBThreadDataFetcher() {
         return environment -> {
@@ -4,9 +4,13 @@ import com.liferay.oauth2.provider.constants.GrantType;
 import com.liferay.oauth2.provider.model.OAuth2Application;
 import com.liferay.oauth2.provider.service.OAuth2ApplicationLocalService;
 import com.liferay.portal.kernel.service.ServiceContext;
+import fr.sedona.liferay.graphql.cache.CountCache;
 import fr.sedona.liferay.graphql.loaders.OAuth2ApplicationBatchLoader;
 import fr.sedona.liferay.graphql.resolvers.OAuth2ApplicationResolvers;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
@@ -25,6 +29,7 @@ import java.util.concurrent.CompletableFuture;
 public class OAuth2ApplicationResolversImpl implements OAuth2ApplicationResolvers {
     private OAuth2ApplicationLocalService oAuth2ApplicationLocalService;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setOAuth2ApplicationLocalService(OAuth2ApplicationLocalService oAuth2ApplicationLocalService) {
@@ -36,16 +41,55 @@ public class OAuth2ApplicationResolversImpl implements OAuth2ApplicationResolver
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
     public DataFetcher<List<OAuth2Application>> getOAuth2ApplicationsDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            if (FilterUtil.hasCriteria(environment)) {
+                return oAuth2ApplicationLocalService.dynamicQuery(
+                        FilterUtil.addCriteria(oAuth2ApplicationLocalService.dynamicQuery(), environment, "oAuth2ApplicationId"),
+                        start,
+                        end);
+            }
 
             return oAuth2ApplicationLocalService.getOAuth2Applications(start, end);
         };
     }
 
+    @Override
+    public DataFetcher<Connection<OAuth2Application>> getOAuth2ApplicationsConnectionDataFetcher() {
+        return environment -> {
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            return ConnectionUtil.getConnection(
+                    FilterUtil.addFilter(oAuth2ApplicationLocalService.dynamicQuery(), environment),
+                    "oAuth2ApplicationId",
+                    OAuth2Application::getOAuth2ApplicationId,
+                    first,
+                    after,
+                    oAuth2ApplicationLocalService::dynamicQuery,
+                    () -> countOAuth2Applications(environment));
+        };
+    }
+
+    @Override
+    public DataFetcher<Long> getOAuth2ApplicationsCountDataFetcher() {
+        return environment -> countOAuth2Applications(environment);
+    }
+
+    private long countOAuth2Applications(DataFetchingEnvironment environment) {
+        return countCache.getCount(OAuth2ApplicationBatchLoader.KEY, environment, () -> oAuth2ApplicationLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(oAuth2ApplicationLocalService.dynamicQuery(), environment)));
+    }
+
     @Override
     public DataFetcher<CompletableFuture<OAuth2Application>> getOAuth2ApplicationDataFetcher() {
         return environment -> {
@@ -2,9 +2,13 @@ package fr.sedona.liferay.graphql.resolvers.impl;
 
 import com.liferay.oauth2.provider.model.OAuth2ApplicationScopeAliases;
 import com.liferay.oauth2.provider.service.OAuth2ApplicationScopeAliasesLocalService;
+import fr.sedona.liferay.graphql.cache.CountCache;
 import fr.sedona.liferay.graphql.loaders.OAuth2ApplicationScopeAliasesBatchLoader;
 import fr.sedona.liferay.graphql.resolvers.OAuth2ApplicationScopeAliasesResolvers;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
@@ -23,6 +27,7 @@ import java.util.concurrent.CompletableFuture;
 public class OAuth2ApplicationScopeAliasesResolversImpl implements OAuth2ApplicationScopeAliasesResolvers {
     private OAuth2ApplicationScopeAliasesLocalService oAuth2ApplicationScopeAliasesLocalService;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setOAuth2ApplicationScopeAliasesLocalService(OAuth2ApplicationScopeAliasesLocalService oAuth2ApplicationScopeAliasesLocalService) {
@@ -34,16 +39,55 @@ public class OAuth2ApplicationScopeAliasesResolversImpl implements OAuth2Applica
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
     public DataFetcher<List<OAuth2ApplicationScopeAliases>> getOAuth2ApplicationScopeAliasesesDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            if (FilterUtil.hasCriteria(environment)) {
+                return oAuth2ApplicationScopeAliasesLocalService.dynamicQuery(
+                        FilterUtil.addCriteria(oAuth2ApplicationScopeAliasesLocalService.dynamicQuery(), environment, "oAuth2ApplicationScopeAliasesId"),
+                        start,
+                        end);
+            }
 
             return oAuth2ApplicationScopeAliasesLocalService.getOAuth2ApplicationScopeAliaseses(start, end);
         };
     }
 
+    @Override
+    public DataFetcher<Connection<OAuth2ApplicationScopeAliases>> getOAuth2ApplicationScopeAliasesesConnectionDataFetcher() {
+        return environment -> {
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            return ConnectionUtil.getConnection(
+                    FilterUtil.addFilter(oAuth2ApplicationScopeAliasesLocalService.dynamicQuery(), environment),
+                    "oAuth2ApplicationScopeAliasesId",
+                    OAuth2ApplicationScopeAliases::getOAuth2ApplicationScopeAliasesId,
+                    first,
+                    after,
+                    oAuth2ApplicationScopeAliasesLocalService::dynamicQuery,
+                    () -> countOAuth2ApplicationScopeAliaseses(environment));
+        };
+    }
+
+    @Override
+    public DataFetcher<Long> getOAuth2ApplicationScopeAliasesesCountDataFetcher() {
+        return environment -> countOAuth2ApplicationScopeAliaseses(environment);
+    }
+
+    private long countOAuth2ApplicationScopeAliaseses(DataFetchingEnvironment environment) {
+        return countCache.getCount(OAuth2ApplicationScopeAliasesBatchLoader.KEY, environment, () -> oAuth2ApplicationScopeAliasesLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(oAuth2ApplicationScopeAliasesLocalService.dynamicQuery(), environment)));
+    }
+
     @Override
     public DataFetcher<CompletableFuture<OAuth2ApplicationScopeAliases>> getOAuth2ApplicationScopeAliasesDataFetcher() {
         return environment -> {
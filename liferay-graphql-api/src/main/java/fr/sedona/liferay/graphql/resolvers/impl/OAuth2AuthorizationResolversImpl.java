@@ -2,10 +2,15 @@ package fr.sedona.liferay.graphql.resolvers.impl;
 
 import com.liferay.oauth2.provider.model.OAuth2Authorization;
 import com.liferay.oauth2.provider.service.OAuth2AuthorizationLocalService;
+import fr.sedona.liferay.graphql.cache.CountCache;
 import fr.sedona.liferay.graphql.loaders.OAuth2AuthorizationBatchLoader;
 import fr.sedona.liferay.graphql.resolvers.OAuth2AuthorizationResolvers;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -22,6 +27,7 @@ import java.util.concurrent.CompletableFuture;
 public class OAuth2AuthorizationResolversImpl implements OAuth2AuthorizationResolvers {
     private OAuth2AuthorizationLocalService oAuth2AuthorizationLocalService;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setOAuth2AuthorizationLocalService(OAuth2AuthorizationLocalService oAuth2AuthorizationLocalService) {
@@ -33,22 +39,61 @@ public class OAuth2AuthorizationResolversImpl implements OAuth2AuthorizationReso
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
     public DataFetcher<List<OAuth2Authorization>> getOAuth2AuthorizationsDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            if (FilterUtil.hasCriteria(environment)) {
+                return oAuth2AuthorizationLocalService.dynamicQuery(
+                        FilterUtil.addCriteria(oAuth2AuthorizationLocalService.dynamicQuery(), environment, "oAuth2AuthorizationId"),
+                        start,
+                        end);
+            }
 
             return oAuth2AuthorizationLocalService.getOAuth2Authorizations(start, end);
         };
     }
 
+    @Override
+    public DataFetcher<Connection<OAuth2Authorization>> getOAuth2AuthorizationsConnectionDataFetcher() {
+        return environment -> {
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            return ConnectionUtil.getConnection(
+                    FilterUtil.addFilter(oAuth2AuthorizationLocalService.dynamicQuery(), environment),
+                    "oAuth2AuthorizationId",
+                    OAuth2Authorization::getOAuth2AuthorizationId,
+                    first,
+                    after,
+                    oAuth2AuthorizationLocalService::dynamicQuery,
+                    () -> countOAuth2Authorizations(environment));
+        };
+    }
+
+    @Override
+    public DataFetcher<Long> getOAuth2AuthorizationsCountDataFetcher() {
+        return environment -> countOAuth2Authorizations(environment);
+    }
+
+    private long countOAuth2Authorizations(DataFetchingEnvironment environment) {
+        return countCache.getCount(OAuth2AuthorizationBatchLoader.KEY, environment, () -> oAuth2AuthorizationLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(oAuth2AuthorizationLocalService.dynamicQuery(), environment)));
+    }
+
     @Override
     public DataFetcher<List<OAuth2Authorization>> getOAuth2AuthorizationsForGrantDataFetcher() {
         return environment -> {
             long oAuth2ScopeGrantId = util.getLongArg(environment, "oAuth2ScopeGrantId");
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
 
             return oAuth2AuthorizationLocalService.getOAuth2ScopeGrantOAuth2Authorizations(oAuth2ScopeGrantId, start, end);
         };
@@ -58,8 +103,8 @@ public class OAuth2AuthorizationResolversImpl implements OAuth2AuthorizationReso
     public DataFetcher<List<OAuth2Authorization>> getOAuth2AuthorizationsForUserDataFetcher() {
         return environment -> {
             long userId = util.getLongArg(environment, "userId");
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
 
             return oAuth2AuthorizationLocalService.getUserOAuth2Authorizations(userId, start, end, null);
         };
@@ -2,10 +2,15 @@ package fr.sedona.liferay.graphql.resolvers.impl;
 
 import com.liferay.oauth2.provider.model.OAuth2ScopeGrant;
 import com.liferay.oauth2.provider.service.OAuth2ScopeGrantLocalService;
+import fr.sedona.liferay.graphql.cache.CountCache;
 import fr.sedona.liferay.graphql.loaders.OAuth2ScopeGrantBatchLoader;
 import fr.sedona.liferay.graphql.resolvers.OAuth2ScopeGrantResolvers;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -21,6 +26,7 @@ import java.util.concurrent.CompletableFuture;
 public class OAuth2ScopeGrantResolversImpl implements OAuth2ScopeGrantResolvers {
     private OAuth2ScopeGrantLocalService oAuth2ScopeGrantLocalService;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setOAuth2ScopeGrantLocalService(OAuth2ScopeGrantLocalService oAuth2ScopeGrantLocalService) {
@@ -32,22 +38,61 @@ public class OAuth2ScopeGrantResolversImpl implements OAuth2ScopeGrantResolvers
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
     public DataFetcher<List<OAuth2ScopeGrant>> getOAuth2ScopeGrantsDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            if (FilterUtil.hasCriteria(environment)) {
+                return oAuth2ScopeGrantLocalService.dynamicQuery(
+                        FilterUtil.addCriteria(oAuth2ScopeGrantLocalService.dynamicQuery(), environment, "oAuth2ScopeGrantId"),
+                        start,
+                        end);
+            }
 
             return oAuth2ScopeGrantLocalService.getOAuth2ScopeGrants(start, end);
         };
     }
 
+    @Override
+    public DataFetcher<Connection<OAuth2ScopeGrant>> getOAuth2ScopeGrantsConnectionDataFetcher() {
+        return environment -> {
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            return ConnectionUtil.getConnection(
+                    FilterUtil.addFilter(oAuth2ScopeGrantLocalService.dynamicQuery(), environment),
+                    "oAuth2ScopeGrantId",
+                    OAuth2ScopeGrant::getOAuth2ScopeGrantId,
+                    first,
+                    after,
+                    oAuth2ScopeGrantLocalService::dynamicQuery,
+                    () -> countOAuth2ScopeGrants(environment));
+        };
+    }
+
+    @Override
+    public DataFetcher<Long> getOAuth2ScopeGrantsCountDataFetcher() {
+        return environment -> countOAuth2ScopeGrants(environment);
+    }
+
+    private long countOAuth2ScopeGrants(DataFetchingEnvironment environment) {
+        return countCache.getCount(OAuth2ScopeGrantBatchLoader.KEY, environment, () -> oAuth2ScopeGrantLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(oAuth2ScopeGrantLocalService.dynamicQuery(), environment)));
+    }
+
     @Override
     public DataFetcher<List<OAuth2ScopeGrant>> getOAuth2ScopeGrantsForAuthorizationDataFetcher() {
         return environment -> {
             long oAuth2AuthorizationId = util.getLongArg(environment, "oAuth2AuthorizationId");
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
 
             return oAuth2ScopeGrantLocalService.getOAuth2AuthorizationOAuth2ScopeGrants(oAuth2AuthorizationId, start, end);
         };
@@ -4,10 +4,14 @@ import com.liferay.portal.kernel.model.Organization;
 import com.liferay.portal.kernel.model.OrganizationConstants;
 import com.liferay.portal.kernel.service.OrganizationLocalService;
 import com.liferay.portal.kernel.service.ServiceContext;
+import fr.sedona.liferay.graphql.cache.CountCache;
 import fr.sedona.liferay.graphql.loaders.OrganizationBatchLoader;
 import fr.sedona.liferay.graphql.resolvers.OrganizationResolvers;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
 import graphql.execution.ExecutionPath;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
@@ -25,6 +29,7 @@ import java.util.concurrent.CompletableFuture;
 public class OrganizationResolversImpl implements OrganizationResolvers {
     private OrganizationLocalService organizationLocalService;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setOrganizationLocalService(OrganizationLocalService organizationLocalService) {
@@ -36,16 +41,55 @@ public class OrganizationResolversImpl implements OrganizationResolvers {
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
     public DataFetcher<List<Organization>> getOrganizationsDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            if (FilterUtil.hasCriteria(environment)) {
+                return organizationLocalService.dynamicQuery(
+                        FilterUtil.addCriteria(organizationLocalService.dynamicQuery(), environment, "organizationId"),
+                        start,
+                        end);
+            }
 
             return organizationLocalService.getOrganizations(start, end);
         };
     }
 
+    @Override
+    public DataFetcher<Connection<Organization>> getOrganizationsConnectionDataFetcher() {
+        return environment -> {
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            return ConnectionUtil.getConnection(
+                    FilterUtil.addFilter(organizationLocalService.dynamicQuery(), environment),
+                    "organizationId",
+                    Organization::getOrganizationId,
+                    first,
+                    after,
+                    organizationLocalService::dynamicQuery,
+                    () -> countOrganizations(environment));
+        };
+    }
+
+    @Override
+    public DataFetcher<Long> getOrganizationsCountDataFetcher() {
+        return environment -> countOrganizations(environment);
+    }
+
+    private long countOrganizations(DataFetchingEnvironment environment) {
+        return countCache.getCount(OrganizationBatchLoader.KEY, environment, () -> organizationLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(organizationLocalService.dynamicQuery(), environment)));
+    }
+
     @Override
     public DataFetcher<CompletableFuture<Organization>> getOrganizationDataFetcher() {
         return environment -> {
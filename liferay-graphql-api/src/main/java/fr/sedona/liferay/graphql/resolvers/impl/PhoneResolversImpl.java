@@ -3,14 +3,23 @@ package fr.sedona.liferay.graphql.resolvers.impl;
 import com.liferay.portal.kernel.model.Phone;
 import com.liferay.portal.kernel.service.PhoneLocalService;
 import com.liferay.portal.kernel.service.ServiceContext;
+import fr.sedona.liferay.graphql.cache.CountCache;
+import fr.sedona.liferay.graphql.loaders.EntityKey;
 import fr.sedona.liferay.graphql.loaders.PhoneBatchLoader;
+import fr.sedona.liferay.graphql.loaders.PhonesForEntityBatchLoader;
 import fr.sedona.liferay.graphql.resolvers.PhoneResolvers;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
@@ -22,6 +31,7 @@ import java.util.concurrent.CompletableFuture;
 public class PhoneResolversImpl implements PhoneResolvers {
     private PhoneLocalService phoneLocalService;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setPhoneLocalService(PhoneLocalService phoneLocalService) {
@@ -33,24 +43,68 @@ public class PhoneResolversImpl implements PhoneResolvers {
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
     public DataFetcher<List<Phone>> getPhonesDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            if (FilterUtil.hasCriteria(environment)) {
+                return phoneLocalService.dynamicQuery(
+                        FilterUtil.addCriteria(phoneLocalService.dynamicQuery(), environment, "phoneId"),
+                        start,
+                        end);
+            }
 
             return phoneLocalService.getPhones(start, end);
         };
     }
 
     @Override
-    public DataFetcher<List<Phone>> getPhonesForEntityDataFetcher() {
+    public DataFetcher<Connection<Phone>> getPhonesConnectionDataFetcher() {
         return environment -> {
-            long companyId = util.getLongArg(environment, "companyId");
-            String className = util.getStringArg(environment, "className");
-            long classPK = util.getLongArg(environment, "classPK");
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            return ConnectionUtil.getConnection(
+                    FilterUtil.addFilter(phoneLocalService.dynamicQuery(), environment),
+                    "phoneId",
+                    Phone::getPhoneId,
+                    first,
+                    after,
+                    phoneLocalService::dynamicQuery,
+                    () -> countPhones(environment));
+        };
+    }
+
+    @Override
+    public DataFetcher<Long> getPhonesCountDataFetcher() {
+        return environment -> countPhones(environment);
+    }
+
+    private long countPhones(DataFetchingEnvironment environment) {
+        return countCache.getCount(PhoneBatchLoader.KEY, environment, () -> phoneLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(phoneLocalService.dynamicQuery(), environment)));
+    }
+
+    @Override
+    public DataFetcher<CompletableFuture<List<Phone>>> getPhonesForEntityDataFetcher() {
+        return environment -> {
+            EntityKey entityKey = util.getEntityKey(environment);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+            if (entityKey == null) {
+                return CompletableFuture.completedFuture(Collections.emptyList());
+            }
 
-            return phoneLocalService.getPhones(companyId, className, classPK);
+            DataLoader<EntityKey, List<Phone>> dataLoader = environment.getDataLoader(PhonesForEntityBatchLoader.KEY);
+            return dataLoader.load(entityKey)
+                    .thenApply(phones -> BatchLoaderUtil.slice(phones, start, end));
         };
     }
 
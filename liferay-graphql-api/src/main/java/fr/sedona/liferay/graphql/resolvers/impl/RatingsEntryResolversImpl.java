@@ -3,10 +3,15 @@ package fr.sedona.liferay.graphql.resolvers.impl;
 import com.liferay.portal.kernel.service.ServiceContext;
 import com.liferay.ratings.kernel.model.RatingsEntry;
 import com.liferay.ratings.kernel.service.RatingsEntryLocalService;
+import fr.sedona.liferay.graphql.cache.CountCache;
 import fr.sedona.liferay.graphql.loaders.RatingsEntryBatchLoader;
 import fr.sedona.liferay.graphql.resolvers.RatingsEntryResolvers;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -22,6 +27,7 @@ import java.util.concurrent.CompletableFuture;
 public class RatingsEntryResolversImpl implements RatingsEntryResolvers {
     private RatingsEntryLocalService ratingsEntryLocalService;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setRatingsEntryLocalService(RatingsEntryLocalService ratingsEntryLocalService) {
@@ -33,16 +39,55 @@ public class RatingsEntryResolversImpl implements RatingsEntryResolvers {
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
     public DataFetcher<List<RatingsEntry>> getRatingsEntriesDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            if (FilterUtil.hasCriteria(environment)) {
+                return ratingsEntryLocalService.dynamicQuery(
+                        FilterUtil.addCriteria(ratingsEntryLocalService.dynamicQuery(), environment, "entryId"),
+                        start,
+                        end);
+            }
 
             return ratingsEntryLocalService.getRatingsEntries(start, end);
         };
     }
 
+    @Override
+    public DataFetcher<Connection<RatingsEntry>> getRatingsEntriesConnectionDataFetcher() {
+        return environment -> {
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            return ConnectionUtil.getConnection(
+                    FilterUtil.addFilter(ratingsEntryLocalService.dynamicQuery(), environment),
+                    "entryId",
+                    RatingsEntry::getEntryId,
+                    first,
+                    after,
+                    ratingsEntryLocalService::dynamicQuery,
+                    () -> countRatingsEntries(environment));
+        };
+    }
+
+    @Override
+    public DataFetcher<Long> getRatingsEntriesCountDataFetcher() {
+        return environment -> countRatingsEntries(environment);
+    }
+
+    private long countRatingsEntries(DataFetchingEnvironment environment) {
+        return countCache.getCount(RatingsEntryBatchLoader.KEY, environment, () -> ratingsEntryLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(ratingsEntryLocalService.dynamicQuery(), environment)));
+    }
+
     @Override
     public DataFetcher<CompletableFuture<RatingsEntry>> getRatingsEntryDataFetcher() {
         return environment -> {
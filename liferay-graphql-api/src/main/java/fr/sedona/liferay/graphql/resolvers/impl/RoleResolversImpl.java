@@ -3,10 +3,15 @@ package fr.sedona.liferay.graphql.resolvers.impl;
 import com.liferay.portal.kernel.model.Role;
 import com.liferay.portal.kernel.service.RoleLocalService;
 import com.liferay.portal.kernel.service.ServiceContext;
+import fr.sedona.liferay.graphql.cache.CountCache;
 import fr.sedona.liferay.graphql.loaders.RoleBatchLoader;
 import fr.sedona.liferay.graphql.resolvers.RoleResolvers;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -24,6 +29,7 @@ import java.util.concurrent.CompletableFuture;
 public class RoleResolversImpl implements RoleResolvers {
     private RoleLocalService roleLocalService;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setRoleLocalService(RoleLocalService roleLocalService) {
@@ -35,16 +41,55 @@ public class RoleResolversImpl implements RoleResolvers {
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
     public DataFetcher<List<Role>> getRolesDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            if (FilterUtil.hasCriteria(environment)) {
+                return roleLocalService.dynamicQuery(
+                        FilterUtil.addCriteria(roleLocalService.dynamicQuery(), environment, "roleId"),
+                        start,
+                        end);
+            }
 
             return roleLocalService.getRoles(start, end);
         };
     }
 
+    @Override
+    public DataFetcher<Connection<Role>> getRolesConnectionDataFetcher() {
+        return environment -> {
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            return ConnectionUtil.getConnection(
+                    FilterUtil.addFilter(roleLocalService.dynamicQuery(), environment),
+                    "roleId",
+                    Role::getRoleId,
+                    first,
+                    after,
+                    roleLocalService::dynamicQuery,
+                    () -> countRoles(environment));
+        };
+    }
+
+    @Override
+    public DataFetcher<Long> getRolesCountDataFetcher() {
+        return environment -> countRoles(environment);
+    }
+
+    private long countRoles(DataFetchingEnvironment environment) {
+        return countCache.getCount(RoleBatchLoader.KEY, environment, () -> roleLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(roleLocalService.dynamicQuery(), environment)));
+    }
+
     @Override
     public DataFetcher<CompletableFuture<Role>> getRoleDataFetcher() {
         return environment -> {
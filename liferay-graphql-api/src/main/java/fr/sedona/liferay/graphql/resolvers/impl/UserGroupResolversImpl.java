@@ -3,10 +3,14 @@ package fr.sedona.liferay.graphql.resolvers.impl;
 import com.liferay.portal.kernel.model.UserGroup;
 import com.liferay.portal.kernel.service.ServiceContext;
 import com.liferay.portal.kernel.service.UserGroupLocalService;
+import fr.sedona.liferay.graphql.cache.CountCache;
 import fr.sedona.liferay.graphql.loaders.UserGroupBatchLoader;
 import fr.sedona.liferay.graphql.resolvers.UserGroupResolvers;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
 import graphql.execution.ExecutionPath;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
@@ -24,6 +28,7 @@ import java.util.concurrent.CompletableFuture;
 public class UserGroupResolversImpl implements UserGroupResolvers {
     private UserGroupLocalService usergroupLocalService;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setUserGroupLocalService(UserGroupLocalService usergroupLocalService) {
@@ -35,16 +40,55 @@ public class UserGroupResolversImpl implements UserGroupResolvers {
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
     public DataFetcher<List<UserGroup>> getUserGroupsDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            if (FilterUtil.hasCriteria(environment)) {
+                return usergroupLocalService.dynamicQuery(
+                        FilterUtil.addCriteria(usergroupLocalService.dynamicQuery(), environment, "userGroupId"),
+                        start,
+                        end);
+            }
 
             return usergroupLocalService.getUserGroups(start, end);
         };
     }
 
+    @Override
+    public DataFetcher<Connection<UserGroup>> getUserGroupsConnectionDataFetcher() {
+        return environment -> {
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            return ConnectionUtil.getConnection(
+                    FilterUtil.addFilter(usergroupLocalService.dynamicQuery(), environment),
+                    "userGroupId",
+                    UserGroup::getUserGroupId,
+                    first,
+                    after,
+                    usergroupLocalService::dynamicQuery,
+                    () -> countUserGroups(environment));
+        };
+    }
+
+    @Override
+    public DataFetcher<Long> getUserGroupsCountDataFetcher() {
+        return environment -> countUserGroups(environment);
+    }
+
+    private long countUserGroups(DataFetchingEnvironment environment) {
+        return countCache.getCount(UserGroupBatchLoader.KEY, environment, () -> usergroupLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(usergroupLocalService.dynamicQuery(), environment)));
+    }
+
     @Override
     public DataFetcher<CompletableFuture<UserGroup>> getUserGroupDataFetcher() {
         return environment -> {
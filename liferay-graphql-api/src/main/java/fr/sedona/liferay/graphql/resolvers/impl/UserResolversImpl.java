@@ -4,9 +4,13 @@ import com.liferay.portal.kernel.model.Group;
 import com.liferay.portal.kernel.model.User;
 import com.liferay.portal.kernel.service.ServiceContext;
 import com.liferay.portal.kernel.service.UserLocalService;
+import fr.sedona.liferay.graphql.cache.CountCache;
 import fr.sedona.liferay.graphql.loaders.UserBatchLoader;
 import fr.sedona.liferay.graphql.resolvers.UserResolvers;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
@@ -27,6 +31,7 @@ import java.util.stream.Collectors;
 public class UserResolversImpl implements UserResolvers {
     private UserLocalService userLocalService;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setUserLocalService(UserLocalService userLocalService) {
@@ -38,16 +43,55 @@ public class UserResolversImpl implements UserResolvers {
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
     public DataFetcher<List<User>> getUsersDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            if (FilterUtil.hasCriteria(environment)) {
+                return userLocalService.dynamicQuery(
+                        FilterUtil.addCriteria(userLocalService.dynamicQuery(), environment, "userId"),
+                        start,
+                        end);
+            }
 
             return userLocalService.getUsers(start, end);
         };
     }
 
+    @Override
+    public DataFetcher<Connection<User>> getUsersConnectionDataFetcher() {
+        return environment -> {
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            return ConnectionUtil.getConnection(
+                    FilterUtil.addFilter(userLocalService.dynamicQuery(), environment),
+                    "userId",
+                    User::getUserId,
+                    first,
+                    after,
+                    userLocalService::dynamicQuery,
+                    () -> countUsers(environment));
+        };
+    }
+
+    @Override
+    public DataFetcher<Long> getUsersCountDataFetcher() {
+        return environment -> countUsers(environment);
+    }
+
+    private long countUsers(DataFetchingEnvironment environment) {
+        return countCache.getCount(UserBatchLoader.KEY, environment, () -> userLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(userLocalService.dynamicQuery(), environment)));
+    }
+
     @Override
     public DataFetcher<CompletableFuture<List<User>>> getBulkUsersDataFetcher() {
         return environment -> {
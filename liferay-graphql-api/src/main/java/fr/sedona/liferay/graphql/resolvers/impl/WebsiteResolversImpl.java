@@ -3,14 +3,23 @@ package fr.sedona.liferay.graphql.resolvers.impl;
 import com.liferay.portal.kernel.model.Website;
 import com.liferay.portal.kernel.service.ServiceContext;
 import com.liferay.portal.kernel.service.WebsiteLocalService;
+import fr.sedona.liferay.graphql.cache.CountCache;
+import fr.sedona.liferay.graphql.loaders.EntityKey;
 import fr.sedona.liferay.graphql.loaders.WebsiteBatchLoader;
+import fr.sedona.liferay.graphql.loaders.WebsitesForEntityBatchLoader;
 import fr.sedona.liferay.graphql.resolvers.WebsiteResolvers;
+import fr.sedona.liferay.graphql.util.BatchLoaderUtil;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.FilterUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
+import graphql.relay.Connection;
 import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
 import org.dataloader.DataLoader;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
@@ -22,6 +31,7 @@ import java.util.concurrent.CompletableFuture;
 public class WebsiteResolversImpl implements WebsiteResolvers {
     private WebsiteLocalService websiteLocalService;
     private GraphQLUtil util;
+    private CountCache countCache;
 
     @Reference(unbind = "-")
     public void setWebsiteLocalService(WebsiteLocalService websiteLocalService) {
@@ -33,24 +43,68 @@ public class WebsiteResolversImpl implements WebsiteResolvers {
         this.util = util;
     }
 
+    @Reference
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
     @Override
     public DataFetcher<List<Website>> getWebsitesDataFetcher() {
         return environment -> {
-            int start = util.getIntArg(environment, "start", 0);
-            int end = util.getIntArg(environment, "end", 10);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+
+            if (FilterUtil.hasCriteria(environment)) {
+                return websiteLocalService.dynamicQuery(
+                        FilterUtil.addCriteria(websiteLocalService.dynamicQuery(), environment, "websiteId"),
+                        start,
+                        end);
+            }
 
             return websiteLocalService.getWebsites(start, end);
         };
     }
 
     @Override
-    public DataFetcher<List<Website>> getWebsitesForEntityDataFetcher() {
+    public DataFetcher<Connection<Website>> getWebsitesConnectionDataFetcher() {
         return environment -> {
-            long companyId = util.getLongArg(environment, "companyId");
-            String className = util.getStringArg(environment, "className");
-            long classPK = util.getLongArg(environment, "classPK");
+            int first = util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE);
+            String after = util.getStringArg(environment, "after", null);
+
+            return ConnectionUtil.getConnection(
+                    FilterUtil.addFilter(websiteLocalService.dynamicQuery(), environment),
+                    "websiteId",
+                    Website::getWebsiteId,
+                    first,
+                    after,
+                    websiteLocalService::dynamicQuery,
+                    () -> countWebsites(environment));
+        };
+    }
+
+    @Override
+    public DataFetcher<Long> getWebsitesCountDataFetcher() {
+        return environment -> countWebsites(environment);
+    }
+
+    private long countWebsites(DataFetchingEnvironment environment) {
+        return countCache.getCount(WebsiteBatchLoader.KEY, environment, () -> websiteLocalService.dynamicQueryCount(
+                FilterUtil.addFilter(websiteLocalService.dynamicQuery(), environment)));
+    }
+
+    @Override
+    public DataFetcher<CompletableFuture<List<Website>>> getWebsitesForEntityDataFetcher() {
+        return environment -> {
+            EntityKey entityKey = util.getEntityKey(environment);
+            int start = Math.max(0, util.getIntArg(environment, "start", 0));
+            int end = Math.max(start, util.getIntArg(environment, "end", 10));
+            if (entityKey == null) {
+                return CompletableFuture.completedFuture(Collections.emptyList());
+            }
 
-            return websiteLocalService.getWebsites(companyId, className, classPK);
+            DataLoader<EntityKey, List<Website>> dataLoader = environment.getDataLoader(WebsitesForEntityBatchLoader.KEY);
+            return dataLoader.load(entityKey)
+                    .thenApply(websites -> BatchLoaderUtil.slice(websites, start, end));
         };
     }
 
@@ -0,0 +1,210 @@
+package fr.sedona.liferay.graphql.search;
+
+import com.liferay.portal.kernel.search.BooleanClause;
+import com.liferay.portal.kernel.search.BooleanClauseOccur;
+import com.liferay.portal.kernel.search.Document;
+import com.liferay.portal.kernel.search.FacetedSearcher;
+import com.liferay.portal.kernel.search.Field;
+import com.liferay.portal.kernel.search.Hits;
+import com.liferay.portal.kernel.search.Indexer;
+import com.liferay.portal.kernel.search.IndexerRegistry;
+import com.liferay.portal.kernel.search.Query;
+import com.liferay.portal.kernel.search.SearchContext;
+import com.liferay.portal.kernel.search.SearchEngineHelperUtil;
+import com.liferay.portal.kernel.search.SearchException;
+import com.liferay.portal.kernel.search.Sort;
+import com.liferay.portal.kernel.search.generic.BooleanClauseImpl;
+import com.liferay.portal.kernel.search.generic.TermQueryImpl;
+import com.liferay.portal.kernel.security.auth.CompanyThreadLocal;
+import com.liferay.portal.kernel.security.auth.PrincipalThreadLocal;
+import com.liferay.portal.kernel.util.PortalUtil;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.CountedConnection;
+import fr.sedona.liferay.graphql.util.GraphQLUtil;
+import graphql.GraphQLException;
+import graphql.relay.Connection;
+import graphql.relay.ConnectionCursor;
+import graphql.relay.DefaultEdge;
+import graphql.relay.DefaultPageInfo;
+import graphql.relay.Edge;
+import graphql.schema.DataFetchingEnvironment;
+import org.dataloader.DataLoader;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component(
+        immediate = true,
+        service = EntitySearcher.class
+)
+public class EntitySearcher {
+    private static final String ARGUMENT_FIELD = "field";
+    private static final String ARGUMENT_VALUE = "value";
+    private static final String ARGUMENT_REVERSE = "reverse";
+
+    private IndexerRegistry indexerRegistry;
+    private GraphQLUtil util;
+
+    @Reference(unbind = "-")
+    public void setIndexerRegistry(IndexerRegistry indexerRegistry) {
+        this.indexerRegistry = indexerRegistry;
+    }
+
+    @Reference
+    public void setUtil(GraphQLUtil util) {
+        this.util = util;
+    }
+
+    public <T> CompletableFuture<Connection<T>> search(DataFetchingEnvironment environment,
+                                                       String className,
+                                                       String loaderKey) throws SearchException {
+        return search(environment, className, loaderKey, EntitySearcher::getEntryClassPKs);
+    }
+
+    public <T> CompletableFuture<Connection<T>> search(DataFetchingEnvironment environment,
+                                                       String className,
+                                                       String loaderKey,
+                                                       Function<List<Document>, List<Long>> keysMapper) throws SearchException {
+        return search(environment, indexerRegistry.nullSafeGetIndexer(className), null, loaderKey, keysMapper);
+    }
+
+    // The documents of every asset type, such as those searched by the search portlet
+    public <T> CompletableFuture<Connection<T>> searchAssets(DataFetchingEnvironment environment,
+                                                             String loaderKey,
+                                                             Function<List<Document>, List<Long>> keysMapper) throws SearchException {
+        return search(environment, FacetedSearcher.getInstance(), SearchEngineHelperUtil.getEntryClassNames(),
+                loaderKey, keysMapper);
+    }
+
+    public static Long getLong(Document document, String name) {
+        try {
+            return Long.valueOf(document.get(name));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Searches the index for a page of documents, then loads their entities through the given batch loader.
+     * The keys mapper returns the key of the entity of each document, or null when it no longer exists.
+     */
+    private <T> CompletableFuture<Connection<T>> search(DataFetchingEnvironment environment,
+                                                        Indexer<?> indexer,
+                                                        String[] entryClassNames,
+                                                        String loaderKey,
+                                                        Function<List<Document>, List<Long>> keysMapper) throws SearchException {
+        int pageSize = ConnectionUtil.getPageSize(util.getIntArg(environment, "first", ConnectionUtil.DEFAULT_PAGE_SIZE));
+        String after = util.getStringArg(environment, "after", null);
+        int start = after == null || after.isEmpty() ? 0 : ConnectionUtil.decodeOffsetCursor(after) + 1;
+
+        SearchContext searchContext = getSearchContext(environment, start, start + pageSize);
+        if (entryClassNames != null) {
+            searchContext.setEntryClassNames(entryClassNames);
+        }
+        Hits hits = indexer.search(searchContext);
+        List<Document> documents = hits.toList();
+        List<Long> keys = documents.isEmpty() ? Collections.emptyList() : keysMapper.apply(documents);
+
+        // Documents whose entity is gone are skipped, the offsets of the others stay those of the index
+        List<Long> loadedKeys = new ArrayList<>(keys.size());
+        List<Integer> offsets = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            Long key = keys.get(i);
+            if (key != null && key > 0) {
+                loadedKeys.add(key);
+                offsets.add(start + i);
+            }
+        }
+
+        boolean hasPreviousPage = start > 0;
+        int totalCount = hits.getLength();
+        boolean hasNextPage = totalCount > start + documents.size();
+        DataLoader<Long, T> dataLoader = environment.getDataLoader(loaderKey);
+        return dataLoader.loadMany(loadedKeys)
+                .<Connection<T>>thenApply(entities -> {
+                    List<Edge<T>> edges = new ArrayList<>(entities.size());
+                    for (int i = 0; i < entities.size(); i++) {
+                        if (entities.get(i) != null) {
+                            edges.add(new DefaultEdge<>(entities.get(i), ConnectionUtil.encodeOffsetCursor(offsets.get(i))));
+                        }
+                    }
+
+                    ConnectionCursor startCursor = edges.isEmpty() ? null : edges.get(0).getCursor();
+                    ConnectionCursor endCursor = edges.isEmpty() ? null : edges.get(edges.size() - 1).getCursor();
+                    // The index already counted the hits, including the ones whose entity is gone
+                    return new CountedConnection<>(edges,
+                            new DefaultPageInfo(startCursor, endCursor, hasPreviousPage, hasNextPage),
+                            () -> totalCount);
+                });
+    }
+
+    private SearchContext getSearchContext(DataFetchingEnvironment environment, int start, int end) {
+        SearchContext searchContext = new SearchContext();
+        Long companyId = CompanyThreadLocal.getCompanyId();
+        searchContext.setCompanyId(companyId == null || companyId <= 0 ? PortalUtil.getDefaultCompanyId() : companyId);
+        if (PrincipalThreadLocal.getUserId() > 0) {
+            // Lets the indexers filter out the documents the user is not allowed to see
+            searchContext.setUserId(PrincipalThreadLocal.getUserId());
+        }
+        long groupId = util.getLongArg(environment, "groupId", 0);
+        if (groupId > 0) {
+            searchContext.setGroupIds(new long[]{groupId});
+        }
+        searchContext.setKeywords(util.getStringArg(environment, "keywords", ""));
+        searchContext.setBooleanClauses(getFilterClauses(environment));
+        searchContext.setSorts(getSorts(environment));
+        searchContext.setStart(start);
+        searchContext.setEnd(end);
+
+        // The entities are loaded from the database, only their keys are read from the index
+        searchContext.getQueryConfig().setSelectedFieldNames(Field.ENTRY_CLASS_NAME, Field.ENTRY_CLASS_PK);
+        return searchContext;
+    }
+
+    @SuppressWarnings("unchecked")
+    private BooleanClause<Query>[] getFilterClauses(DataFetchingEnvironment environment) {
+        List<Map<String, Object>> filters = environment.getArgument("filters");
+        if (filters == null) {
+            return new BooleanClause[0];
+        }
+
+        return filters.stream()
+                .map(filter -> new BooleanClauseImpl<Query>(
+                        new TermQueryImpl(getString(filter, ARGUMENT_FIELD), getString(filter, ARGUMENT_VALUE)),
+                        BooleanClauseOccur.MUST))
+                .toArray(BooleanClause[]::new);
+    }
+
+    private Sort[] getSorts(DataFetchingEnvironment environment) {
+        List<Map<String, Object>> sorts = environment.getArgument("sort");
+        if (sorts == null) {
+            // Sorted by relevance
+            return new Sort[0];
+        }
+
+        return sorts.stream()
+                .map(sort -> new Sort(getString(sort, ARGUMENT_FIELD), Boolean.TRUE.equals(sort.get(ARGUMENT_REVERSE))))
+                .toArray(Sort[]::new);
+    }
+
+    private static String getString(Map<String, Object> input, String name) {
+        Object value = input.get(name);
+        if (value == null || value.toString().isEmpty()) {
+            throw new GraphQLException("Missing '" + name + "' in search argument " + input);
+        }
+        return value.toString();
+    }
+
+    private static List<Long> getEntryClassPKs(List<Document> documents) {
+        return documents.stream()
+                .map(document -> getLong(document, Field.ENTRY_CLASS_PK))
+                .collect(Collectors.toList());
+    }
+}
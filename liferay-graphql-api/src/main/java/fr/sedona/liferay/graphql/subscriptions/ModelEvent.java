@@ -0,0 +1,46 @@
+package fr.sedona.liferay.graphql.subscriptions;
+
+import java.util.concurrent.CompletableFuture;
+
+public class ModelEvent {
+    private final ModelEventType type;
+    private final long primaryKey;
+    private final Long groupId;
+    private final Long companyId;
+    private final CompletableFuture<Object> entity;
+
+    public ModelEvent(ModelEventType type,
+                      long primaryKey,
+                      Long groupId,
+                      Long companyId,
+                      CompletableFuture<Object> entity) {
+        this.type = type;
+        this.primaryKey = primaryKey;
+        this.groupId = groupId;
+        this.companyId = companyId;
+        this.entity = entity;
+    }
+
+    public ModelEventType getType() {
+        return type;
+    }
+
+    public long getPrimaryKey() {
+        return primaryKey;
+    }
+
+    public Long getGroupId() {
+        return groupId;
+    }
+
+    public Long getCompanyId() {
+        return companyId;
+    }
+
+    /**
+     * Loaded once per event and shared by all the subscribers
+     */
+    public CompletableFuture<Object> getEntity() {
+        return entity;
+    }
+}
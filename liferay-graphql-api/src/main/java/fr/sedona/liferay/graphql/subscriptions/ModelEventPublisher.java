@@ -0,0 +1,177 @@
+package fr.sedona.liferay.graphql.subscriptions;
+
+import com.liferay.portal.configuration.metatype.bnd.util.ConfigurableUtil;
+import com.liferay.portal.kernel.cluster.ClusterExecutorUtil;
+import com.liferay.portal.kernel.cluster.ClusterRequest;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.model.BaseModel;
+import com.liferay.portal.kernel.util.MethodHandler;
+import com.liferay.portal.kernel.util.MethodKey;
+import fr.sedona.liferay.graphql.cache.EntityCacheInvalidator;
+import fr.sedona.liferay.graphql.configuration.SubscriptionConfiguration;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.util.DataLoaderRegistryFactory;
+import graphql.schema.DataFetcher;
+import org.dataloader.DataLoaderRegistry;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ConfigurationPolicy;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
+import org.osgi.service.component.annotations.Reference;
+import org.reactivestreams.Publisher;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+
+@Component(
+        immediate = true,
+        configurationPid = "fr.sedona.liferay.graphql.configuration.SubscriptionConfiguration",
+        configurationPolicy = ConfigurationPolicy.OPTIONAL,
+        service = ModelEventPublisher.class
+)
+public class ModelEventPublisher {
+    private static final Log LOGGER = LogFactoryUtil.getLog(ModelEventPublisher.class);
+    private static final MethodKey PUBLISH_LOCALLY_METHOD_KEY = new MethodKey(
+            ModelEventPublisher.class, "publishLocally", String.class, ModelEventType.class, long.class,
+            Long.class, Long.class, BaseModel.class);
+    private static final String ATTRIBUTE_GROUP_ID = "groupId";
+    private static final String ATTRIBUTE_COMPANY_ID = "companyId";
+    private final Map<String, Set<ModelEventSubscription>> subscriptions = new ConcurrentHashMap<>();
+    private static volatile ModelEventPublisher localPublisher;
+    private volatile int maximumPendingEvents;
+
+    @Reference
+    private DataLoaderRegistryFactory dataLoaderRegistryFactory;
+
+    @Reference
+    private BatchLoaderExecutor batchLoaderExecutor;
+
+    @Activate
+    @Modified
+    public void activateComponent(Map<String, Object> properties) {
+        configure(ConfigurableUtil.createConfigurable(SubscriptionConfiguration.class, properties));
+        localPublisher = this;
+    }
+
+    @Deactivate
+    public void deactivateComponent() {
+        localPublisher = null;
+    }
+
+    void configure(SubscriptionConfiguration configuration) {
+        maximumPendingEvents = configuration.maximumPendingEvents();
+    }
+
+    public DataFetcher<Publisher<ModelEvent>> subscriptionDataFetcher(String key) {
+        return environment -> {
+            DataLoaderRegistry dataLoaderRegistry = environment.getExecutionContext().getDataLoaderRegistry();
+            // The registry lives as long as the subscription, its request scoped lists would be stale by the next event
+            return new ModelEventSubscription(this, key,
+                    environment.getArgument(ATTRIBUTE_GROUP_ID),
+                    environment.getArgument(ATTRIBUTE_COMPANY_ID),
+                    maximumPendingEvents,
+                    batchLoaderExecutor::executeDetached,
+                    () -> dataLoaderRegistryFactory.clearRequestScopedCaches(dataLoaderRegistry));
+        };
+    }
+
+    void register(ModelEventSubscription subscription) {
+        subscriptions.computeIfAbsent(subscription.getKey(), key -> ConcurrentHashMap.newKeySet())
+                .add(subscription);
+    }
+
+    void unregister(ModelEventSubscription subscription) {
+        Set<ModelEventSubscription> keySubscriptions = subscriptions.get(subscription.getKey());
+        if (keySubscriptions != null) {
+            keySubscriptions.remove(subscription);
+        }
+    }
+
+    public void publish(String key, ModelEventType type, long primaryKey, BaseModel<?> model) {
+        Map<String, Object> attributes = model.getModelAttributes();
+        Long groupId = toLong(attributes.get(ATTRIBUTE_GROUP_ID));
+        Long companyId = toLong(attributes.get(ATTRIBUTE_COMPANY_ID));
+        // A removed entity cannot be loaded anymore, so its last state is sent instead
+        BaseModel<?> removedModel = type == ModelEventType.REMOVE ? model : null;
+        publish(key, type, primaryKey, groupId, companyId, removedModel, false);
+
+        // The subscribers connected to the other nodes get the event too
+        if (!ClusterExecutorUtil.isEnabled()) {
+            return;
+        }
+
+        try {
+            // Only the ids are sent for a created or updated entity, each node loads it if it has subscribers
+            MethodHandler methodHandler = new MethodHandler(PUBLISH_LOCALLY_METHOD_KEY,
+                    key, type, primaryKey, groupId, companyId, removedModel);
+            ClusterRequest clusterRequest = ClusterRequest.createMulticastRequest(methodHandler, true);
+            clusterRequest.setFireAndForget(true);
+            ClusterExecutorUtil.execute(clusterRequest);
+        } catch (Exception e) {
+            LOGGER.warn("Could not broadcast " + type + " event of '" + key + "' with id " + primaryKey
+                    + " to the cluster", e);
+        }
+    }
+
+    // Invoked through the cluster executor on the other nodes
+    public static void publishLocally(String key,
+                                      ModelEventType type,
+                                      long primaryKey,
+                                      Long groupId,
+                                      Long companyId,
+                                      BaseModel<?> removedModel) {
+        ModelEventPublisher publisher = localPublisher;
+        if (publisher != null) {
+            publisher.publish(key, type, primaryKey, groupId, companyId, removedModel, true);
+        }
+    }
+
+    private void publish(String key,
+                         ModelEventType type,
+                         long primaryKey,
+                         Long groupId,
+                         Long companyId,
+                         BaseModel<?> removedModel,
+                         boolean remote) {
+        Set<ModelEventSubscription> keySubscriptions = subscriptions.get(key);
+        if (keySubscriptions == null || keySubscriptions.isEmpty()) {
+            return;
+        }
+
+        List<ModelEventSubscription> acceptingSubscriptions = keySubscriptions.stream()
+                .filter(subscription -> subscription.accepts(groupId, companyId))
+                .collect(Collectors.toList());
+        if (acceptingSubscriptions.isEmpty()) {
+            return;
+        }
+
+        try {
+            // The committing thread only enqueues the event, it is loaded and delivered by the batch loader threads
+            batchLoaderExecutor.executeDetached(() -> {
+                if (remote && removedModel == null) {
+                    // The eviction broadcast by the writing node may not have been received yet
+                    EntityCacheInvalidator.evictLocally(key, primaryKey);
+                }
+                // The entity is fetched once through its batch loader, whatever the number of subscribers
+                CompletableFuture<Object> entity = removedModel == null
+                        ? dataLoaderRegistryFactory.load(key, primaryKey).toCompletableFuture()
+                        : CompletableFuture.completedFuture(removedModel);
+                ModelEvent event = new ModelEvent(type, primaryKey, groupId, companyId, entity);
+                acceptingSubscriptions.forEach(subscription -> subscription.offer(event));
+            });
+        } catch (RejectedExecutionException e) {
+            LOGGER.warn("Dropping " + type + " event of '" + key + "' with id " + primaryKey + ": " + e.getMessage());
+        }
+    }
+
+    private Long toLong(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : null;
+    }
+}
@@ -0,0 +1,139 @@
+package fr.sedona.liferay.graphql.subscriptions;
+
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+class ModelEventSubscription implements Publisher<ModelEvent>, Subscription {
+    private static final Log LOGGER = LogFactoryUtil.getLog(ModelEventSubscription.class);
+
+    private final ModelEventPublisher modelEventPublisher;
+    private final String key;
+    private final Long groupId;
+    private final Long companyId;
+    private final int maximumPendingEvents;
+    private final Executor deliveryExecutor;
+    private final Runnable beforeEvent;
+    private final Deque<ModelEvent> pendingEvents = new ArrayDeque<>();
+    private Subscriber<? super ModelEvent> subscriber;
+    private long demand;
+    private boolean cancelled;
+    private boolean draining;
+
+    ModelEventSubscription(ModelEventPublisher modelEventPublisher,
+                           String key,
+                           Long groupId,
+                           Long companyId,
+                           int maximumPendingEvents,
+                           Executor deliveryExecutor,
+                           Runnable beforeEvent) {
+        this.modelEventPublisher = modelEventPublisher;
+        this.key = key;
+        this.groupId = groupId;
+        this.companyId = companyId;
+        this.maximumPendingEvents = Math.max(1, maximumPendingEvents);
+        this.deliveryExecutor = deliveryExecutor;
+        this.beforeEvent = beforeEvent;
+    }
+
+    String getKey() {
+        return key;
+    }
+
+    boolean accepts(Long eventGroupId, Long eventCompanyId) {
+        return (groupId == null || groupId.equals(eventGroupId))
+                && (companyId == null || companyId.equals(eventCompanyId));
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super ModelEvent> subscriber) {
+        synchronized (this) {
+            if (this.subscriber != null) {
+                throw new IllegalStateException("A GraphQL subscription only accepts one subscriber");
+            }
+            this.subscriber = subscriber;
+        }
+        subscriber.onSubscribe(this);
+        modelEventPublisher.register(this);
+    }
+
+    void offer(ModelEvent event) {
+        synchronized (this) {
+            if (cancelled) {
+                return;
+            }
+            if (pendingEvents.size() >= maximumPendingEvents) {
+                // A slow client must not make the server hold an unbounded number of entities
+                pendingEvents.pollFirst();
+                LOGGER.warn("Dropping the oldest pending '" + key + "' event of a slow GraphQL subscriber");
+            }
+            pendingEvents.addLast(event);
+        }
+        drain();
+    }
+
+    @Override
+    public void request(long n) {
+        if (n <= 0) {
+            cancel();
+            subscriber.onError(new IllegalArgumentException("Requested events must be positive, got " + n));
+            return;
+        }
+
+        synchronized (this) {
+            demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+        }
+        drain();
+    }
+
+    @Override
+    public void cancel() {
+        synchronized (this) {
+            cancelled = true;
+            pendingEvents.clear();
+        }
+        modelEventPublisher.unregister(this);
+    }
+
+    private void drain() {
+        synchronized (this) {
+            if (draining || cancelled || demand == 0 || pendingEvents.isEmpty()) {
+                return;
+            }
+            draining = true;
+        }
+
+        try {
+            // Only one task delivers the events, so that the subscriber receives them in order
+            deliveryExecutor.execute(this::deliver);
+        } catch (RejectedExecutionException e) {
+            synchronized (this) {
+                draining = false;
+            }
+            LOGGER.warn("Delaying the pending '" + key + "' events until the next one: " + e.getMessage());
+        }
+    }
+
+    private void deliver() {
+        while (true) {
+            ModelEvent event;
+            synchronized (this) {
+                if (cancelled || demand == 0 || pendingEvents.isEmpty()) {
+                    draining = false;
+                    return;
+                }
+                event = pendingEvents.pollFirst();
+                demand--;
+            }
+            beforeEvent.run();
+            subscriber.onNext(event);
+        }
+    }
+}
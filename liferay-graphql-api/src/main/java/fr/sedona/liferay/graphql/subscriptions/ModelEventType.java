@@ -0,0 +1,7 @@
+package fr.sedona.liferay.graphql.subscriptions;
+
+public enum ModelEventType {
+    CREATE,
+    UPDATE,
+    REMOVE
+}
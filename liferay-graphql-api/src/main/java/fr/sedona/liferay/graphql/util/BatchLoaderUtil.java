@@ -0,0 +1,46 @@
+package fr.sedona.liferay.graphql.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+public final class BatchLoaderUtil {
+
+    private BatchLoaderUtil() {
+    }
+
+    public static <T> List<T> orderByKeys(List<Long> keys, List<T> results, ToLongFunction<T> keyMapper) {
+        if (keys == null || keys.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, T> resultsByKey = new HashMap<>(Math.max(16, results.size() * 4 / 3 + 1));
+        for (T result : results) {
+            if (result != null) {
+                resultsByKey.put(keyMapper.applyAsLong(result), result);
+            }
+        }
+
+        List<T> orderedResults = new ArrayList<>(keys.size());
+        for (Long key : keys) {
+            orderedResults.add(key == null ? null : resultsByKey.get(key));
+        }
+        return orderedResults;
+    }
+
+    public static <T> List<T> slice(List<T> list, int start, int end) {
+        if (list == null) {
+            return new ArrayList<>();
+        }
+        // Same convention as the local services: negative bounds mean all the elements
+        if (start < 0 || end < 0) {
+            return list;
+        }
+
+        int fromIndex = Math.min(start, list.size());
+        int toIndex = Math.max(fromIndex, Math.min(end, list.size()));
+        return list.subList(fromIndex, toIndex);
+    }
+}
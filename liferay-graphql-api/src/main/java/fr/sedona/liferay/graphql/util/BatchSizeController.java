@@ -0,0 +1,52 @@
+package fr.sedona.liferay.graphql.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BatchSizeController {
+    private final int minimumBatchSize;
+    private final int maximumBatchSize;
+    private final long targetLatencyNanos;
+    private final boolean adaptive;
+    private final AtomicInteger maxBatchSize;
+
+    public BatchSizeController(int batchSize) {
+        this.minimumBatchSize = batchSize;
+        this.maximumBatchSize = batchSize;
+        this.targetLatencyNanos = 0;
+        this.adaptive = false;
+        this.maxBatchSize = new AtomicInteger(batchSize);
+    }
+
+    public BatchSizeController(int initialBatchSize, int minimumBatchSize, int maximumBatchSize, long targetLatencyMillis) {
+        this.minimumBatchSize = Math.min(minimumBatchSize, maximumBatchSize);
+        this.maximumBatchSize = maximumBatchSize;
+        this.targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos(targetLatencyMillis);
+        this.adaptive = true;
+        this.maxBatchSize = new AtomicInteger(
+                Math.max(this.minimumBatchSize, Math.min(initialBatchSize, maximumBatchSize)));
+    }
+
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize.get();
+    }
+
+    public void record(int batchSize, long elapsedNanos) {
+        if (!adaptive) {
+            return;
+        }
+
+        if (elapsedNanos > targetLatencyNanos) {
+            maxBatchSize.updateAndGet(current -> Math.max(minimumBatchSize, current / 2));
+        } else {
+            // Only a full batch tells that a larger one would have been used
+            maxBatchSize.updateAndGet(current -> batchSize >= current
+                    ? Math.min(maximumBatchSize, current * 2)
+                    : current);
+        }
+    }
+}
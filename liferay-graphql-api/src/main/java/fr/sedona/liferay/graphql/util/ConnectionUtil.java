@@ -0,0 +1,111 @@
+package fr.sedona.liferay.graphql.util;
+
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.OrderFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import graphql.GraphQLException;
+import graphql.relay.Connection;
+import graphql.relay.ConnectionCursor;
+import graphql.relay.DefaultConnectionCursor;
+import graphql.relay.DefaultEdge;
+import graphql.relay.DefaultPageInfo;
+import graphql.relay.Edge;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+public final class ConnectionUtil {
+    public static final int DEFAULT_PAGE_SIZE = 10;
+    public static final int MAX_PAGE_SIZE = 1000;
+    private static final String CURSOR_PREFIX = "keyset:";
+    private static final String OFFSET_CURSOR_PREFIX = "offset:";
+
+    private ConnectionUtil() {
+    }
+
+    @FunctionalInterface
+    public interface RangeQuery<T> {
+        List<T> execute(DynamicQuery query, int start, int end);
+    }
+
+    public static <T> Connection<T> getConnection(DynamicQuery query,
+                                                  String primaryKeyName,
+                                                  ToLongFunction<T> primaryKeyMapper,
+                                                  int first,
+                                                  String after,
+                                                  RangeQuery<T> rangeQuery,
+                                                  LongSupplier totalCounter) {
+        int pageSize = getPageSize(first);
+        boolean hasPreviousPage = after != null && !after.isEmpty();
+        if (hasPreviousPage) {
+            query.add(PropertyFactoryUtil.forName(primaryKeyName)
+                    .gt(decodeCursor(after)));
+        }
+        query.addOrder(OrderFactoryUtil.asc(primaryKeyName));
+
+        // One more row than requested tells whether a next page exists, without a count query
+        List<T> results = rangeQuery.execute(query, 0, pageSize + 1);
+        boolean hasNextPage = results.size() > pageSize;
+        if (hasNextPage) {
+            results = results.subList(0, pageSize);
+        }
+
+        List<Edge<T>> edges = new ArrayList<>(results.size());
+        for (T result : results) {
+            edges.add(new DefaultEdge<>(result, encodeCursor(primaryKeyMapper.applyAsLong(result))));
+        }
+
+        ConnectionCursor startCursor = edges.isEmpty() ? null : edges.get(0).getCursor();
+        ConnectionCursor endCursor = edges.isEmpty() ? null : edges.get(edges.size() - 1).getCursor();
+        return new CountedConnection<>(edges,
+                new DefaultPageInfo(startCursor, endCursor, hasPreviousPage, hasNextPage),
+                totalCounter);
+    }
+
+    public static int getPageSize(int first) {
+        return first <= 0 ? DEFAULT_PAGE_SIZE : Math.min(first, MAX_PAGE_SIZE);
+    }
+
+    public static ConnectionCursor encodeCursor(long primaryKey) {
+        return encodeCursor(CURSOR_PREFIX, primaryKey);
+    }
+
+    public static long decodeCursor(String cursor) {
+        return decodeCursor(CURSOR_PREFIX, cursor);
+    }
+
+    // Search results have no stable key order, so their cursors hold the offset of the hit instead
+    public static ConnectionCursor encodeOffsetCursor(int offset) {
+        return encodeCursor(OFFSET_CURSOR_PREFIX, offset);
+    }
+
+    public static int decodeOffsetCursor(String cursor) {
+        long offset = decodeCursor(OFFSET_CURSOR_PREFIX, cursor);
+        if (offset < 0 || offset > Integer.MAX_VALUE) {
+            throw new GraphQLException("Invalid cursor " + cursor);
+        }
+        return (int) offset;
+    }
+
+    private static ConnectionCursor encodeCursor(String prefix, long value) {
+        String cursor = Base64.getEncoder()
+                .encodeToString((prefix + value).getBytes(StandardCharsets.UTF_8));
+        return new DefaultConnectionCursor(cursor);
+    }
+
+    private static long decodeCursor(String prefix, String cursor) {
+        try {
+            String decodedCursor = new String(Base64.getDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decodedCursor.startsWith(prefix)) {
+                throw new GraphQLException("Invalid cursor " + cursor);
+            }
+            return Long.parseLong(decodedCursor.substring(prefix.length()));
+        } catch (IllegalArgumentException e) {
+            throw new GraphQLException("Invalid cursor " + cursor, e);
+        }
+    }
+}
@@ -2,14 +2,23 @@ package fr.sedona.liferay.graphql.util;
 
 public class Constants {
     public static final String MEDIA_TYPE_GRAPHQL = "application/graphql";
+    public static final String MEDIA_TYPE_MULTIPART_MIXED = "multipart/mixed";
+    public static final String MEDIA_TYPE_EVENT_STREAM = "text/event-stream";
     public static final String ENDPOINT_SCHEMA = "/schema";
     public static final String ENDPOINT_API = "/api";
+    public static final String ENDPOINT_SUBSCRIPTIONS = "/subscriptions";
 
     public static final String SCHEMA_FILE = "/liferay-schema.graphql";
 
     public static final String PARAM_QUERY = "query";
     public static final String PARAM_OPERATION_NAME = "operationName";
     public static final String PARAM_VARIABLES = "variables";
+    public static final String PARAM_EXTENSIONS = "extensions";
+
+    public static final String HEADER_TRACING = "X-GraphQL-Tracing";
+    public static final String CONTEXT_TRACING = "tracing";
+    public static final String CONTEXT_ACCESS_TOKEN = "accessToken";
+    public static final String CONTEXT_COST_BUDGET = "costBudget";
 
     private Constants() {
         // Do nothing
@@ -0,0 +1,25 @@
+package fr.sedona.liferay.graphql.util;
+
+import graphql.relay.DefaultConnection;
+import graphql.relay.Edge;
+import graphql.relay.PageInfo;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Connection whose total count is only computed when the totalCount field is selected,
+ * the default property data fetcher calling {@link #getTotalCount()} for it.
+ */
+public class CountedConnection<T> extends DefaultConnection<T> {
+    private final LongSupplier totalCounter;
+
+    public CountedConnection(List<Edge<T>> edges, PageInfo pageInfo, LongSupplier totalCounter) {
+        super(edges, pageInfo);
+        this.totalCounter = totalCounter;
+    }
+
+    public long getTotalCount() {
+        return totalCounter.getAsLong();
+    }
+}
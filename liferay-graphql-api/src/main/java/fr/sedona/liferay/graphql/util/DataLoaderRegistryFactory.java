@@ -0,0 +1,410 @@
+package fr.sedona.liferay.graphql.util;
+
+import com.liferay.portal.configuration.metatype.bnd.util.ConfigurableUtil;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import fr.sedona.liferay.graphql.cache.EntityCache;
+import fr.sedona.liferay.graphql.configuration.DataLoaderConfiguration;
+import fr.sedona.liferay.graphql.loaders.*;
+import org.dataloader.*;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ConfigurationPolicy;
+import org.osgi.service.component.annotations.Modified;
+import org.osgi.service.component.annotations.Reference;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+@Component(
+        immediate = true,
+        configurationPid = "fr.sedona.liferay.graphql.configuration.DataLoaderConfiguration",
+        configurationPolicy = ConfigurationPolicy.OPTIONAL,
+        service = DataLoaderRegistryFactory.class
+)
+public class DataLoaderRegistryFactory {
+    private static final Log LOGGER = LogFactoryUtil.getLog(DataLoaderRegistryFactory.class);
+    private final Map<String, BatchLoader> batchLoaders = new LinkedHashMap<>();
+    private final Map<String, CacheMap> crossRequestCacheMaps = new LinkedHashMap<>();
+    private volatile Map<String, BatchSizeController> batchSizeControllers = Collections.emptyMap();
+
+    @Reference
+    private EntityCache entityCache;
+
+    @Reference
+    private AddressesForEntityBatchLoader addressesForEntityBatchLoader;
+
+    @Reference
+    private EmailAddressesForEntityBatchLoader emailAddressesForEntityBatchLoader;
+
+    @Reference
+    private PhonesForEntityBatchLoader phonesForEntityBatchLoader;
+
+    @Reference
+    private WebsitesForEntityBatchLoader websitesForEntityBatchLoader;
+
+    @Reference
+    private LayoutsForGroupBatchLoader layoutsForGroupBatchLoader;
+
+    @Reference
+    private AssetCategoriesForAssetBatchLoader assetCategoriesForAssetBatchLoader;
+
+    @Reference
+    private AssetTagsForAssetBatchLoader assetTagsForAssetBatchLoader;
+
+    @Reference
+    private JournalArticleProjectedBatchLoader journalArticleProjectedBatchLoader;
+
+    @Reference
+    private DDMContentProjectedBatchLoader ddmContentProjectedBatchLoader;
+
+    @Reference
+    private AssetCategoryBatchLoader assetCategoryBatchLoader;
+
+    @Reference
+    private AssetEntryBatchLoader assetEntryBatchLoader;
+
+    @Reference
+    private AssetLinkBatchLoader assetLinkBatchLoader;
+
+    @Reference
+    private AssetTagBatchLoader assetTagBatchLoader;
+
+    @Reference
+    private AssetVocabularyBatchLoader assetVocabularyBatchLoader;
+
+    @Reference
+    private BlogsEntryBatchLoader blogsEntryBatchLoader;
+
+    @Reference
+    private DLFileEntryBatchLoader dlFileEntryBatchLoader;
+
+    @Reference
+    private DLFileEntryMetadataBatchLoader dlFileEntryMetadataBatchLoader;
+
+    @Reference
+    private DLFileEntryTypeBatchLoader dlFileEntryTypeBatchLoader;
+
+    @Reference
+    private DLFileShortcutBatchLoader dlFileShortcutBatchLoader;
+
+    @Reference
+    private DLFileVersionBatchLoader dlFileVersionBatchLoader;
+
+    @Reference
+    private DLFolderBatchLoader dlFolderBatchLoader;
+
+    @Reference
+    private DDMContentBatchLoader ddmContentBatchLoader;
+
+    @Reference
+    private DDMStructureBatchLoader ddmStructureBatchLoader;
+
+    @Reference
+    private DDMTemplateBatchLoader ddmTemplateBatchLoader;
+
+    @Reference
+    private ExpandoColumnBatchLoader expandoColumnBatchLoader;
+
+    @Reference
+    private ExpandoRowBatchLoader expandoRowBatchLoader;
+
+    @Reference
+    private ExpandoTableBatchLoader expandoTableBatchLoader;
+
+    @Reference
+    private ExpandoValueBatchLoader expandoValueBatchLoader;
+
+    @Reference
+    private JournalArticleBatchLoader journalArticleBatchLoader;
+
+    @Reference
+    private JournalFeedBatchLoader journalFeedBatchLoader;
+
+    @Reference
+    private JournalFolderBatchLoader journalFolderBatchLoader;
+
+    @Reference
+    private MBCategoryBatchLoader mbCategoryBatchLoader;
+
+    @Reference
+    private MBMessageBatchLoader mbMessageBatchLoader;
+
+    @Reference
+    private MBThreadBatchLoader mbThreadBatchLoader;
+
+    @Reference
+    private OAuth2ApplicationBatchLoader oAuth2ApplicationBatchLoader;
+
+    @Reference
+    private OAuth2ApplicationScopeAliasesBatchLoader oAuth2ApplicationScopeAliasesBatchLoader;
+
+    @Reference
+    private OAuth2AuthorizationBatchLoader oAuth2AuthorizationBatchLoader;
+
+    @Reference
+    private OAuth2ScopeGrantBatchLoader oAuth2ScopeGrantBatchLoader;
+
+    @Reference
+    private AddressBatchLoader addressBatchLoader;
+
+    @Reference
+    private ClassNameBatchLoader classnameBatchLoader;
+
+    @Reference
+    private CompanyBatchLoader companyBatchLoader;
+
+    @Reference
+    private ContactBatchLoader contactBatchLoader;
+
+    @Reference
+    private EmailAddressBatchLoader emailaddressBatchLoader;
+
+    @Reference
+    private GroupBatchLoader groupBatchLoader;
+
+    @Reference
+    private LayoutBatchLoader layoutBatchLoader;
+
+    @Reference
+    private ListTypeBatchLoader listTypeBatchLoader;
+
+    @Reference
+    private OrganizationBatchLoader organizationBatchLoader;
+
+    @Reference
+    private PhoneBatchLoader phoneBatchLoader;
+
+    @Reference
+    private RoleBatchLoader roleBatchLoader;
+
+    @Reference
+    private UserBatchLoader userBatchLoader;
+
+    @Reference
+    private UserGroupBatchLoader userGroupBatchLoader;
+
+    @Reference
+    private WebsiteBatchLoader websiteBatchLoader;
+
+    @Reference
+    private RatingsEntryBatchLoader ratingsEntryBatchLoader;
+
+
+    @Activate
+    public void activeComponent(Map<String, Object> properties) {
+        activeComponent(ConfigurableUtil.createConfigurable(DataLoaderConfiguration.class, properties));
+    }
+
+    void activeComponent(DataLoaderConfiguration configuration) {
+        registerLoaders();
+        registerToManyLoaders();
+        registerProjectedLoaders();
+        configure(configuration);
+    }
+
+    @Modified
+    public void modifiedComponent(Map<String, Object> properties) {
+        configure(ConfigurableUtil.createConfigurable(DataLoaderConfiguration.class, properties));
+    }
+
+    void configure(DataLoaderConfiguration configuration) {
+        int inListLimit = Math.max(1, configuration.inListLimit());
+        Map<String, Integer> configuredBatchSizes = parseBatchSizes(configuration.maxBatchSizes());
+
+        Map<String, BatchSizeController> controllers = new HashMap<>();
+        for (String key : batchLoaders.keySet()) {
+            int batchSize = configuredBatchSizes.getOrDefault(key, configuration.defaultMaxBatchSize());
+            batchSize = Math.max(1, Math.min(batchSize, inListLimit));
+            if (configuration.adaptiveBatchSize()) {
+                controllers.put(key, new BatchSizeController(batchSize,
+                        Math.max(1, configuration.minAdaptiveBatchSize()),
+                        inListLimit,
+                        configuration.targetLatencyMillis()));
+            } else {
+                controllers.put(key, new BatchSizeController(batchSize));
+            }
+        }
+        batchSizeControllers = controllers;
+    }
+
+    private Map<String, Integer> parseBatchSizes(String[] maxBatchSizes) {
+        Map<String, Integer> batchSizes = new HashMap<>();
+        if (maxBatchSizes == null) {
+            return batchSizes;
+        }
+
+        for (String maxBatchSize : maxBatchSizes) {
+            int separatorIndex = maxBatchSize.indexOf('=');
+            if (separatorIndex <= 0) {
+                continue;
+            }
+
+            String key = maxBatchSize.substring(0, separatorIndex).trim();
+            try {
+                batchSizes.put(key, Integer.parseInt(maxBatchSize.substring(separatorIndex + 1).trim()));
+            } catch (NumberFormatException e) {
+                LOGGER.warn("Ignoring invalid batch size for loader '" + key + "': " + maxBatchSize);
+            }
+        }
+        return batchSizes;
+    }
+
+    public int getMaxBatchSize(String key) {
+        BatchSizeController controller = batchSizeControllers.get(key);
+        return controller == null ? 0 : controller.getMaxBatchSize();
+    }
+
+    private void registerLoaders() {
+        register(AssetCategoryBatchLoader.KEY, assetCategoryBatchLoader);
+
+        register(AssetEntryBatchLoader.KEY, assetEntryBatchLoader);
+
+        register(AssetLinkBatchLoader.KEY, assetLinkBatchLoader);
+
+        register(AssetTagBatchLoader.KEY, assetTagBatchLoader);
+
+        register(AssetVocabularyBatchLoader.KEY, assetVocabularyBatchLoader);
+
+        register(BlogsEntryBatchLoader.KEY, blogsEntryBatchLoader);
+
+        register(DLFileEntryBatchLoader.KEY, dlFileEntryBatchLoader);
+
+        register(DLFileEntryMetadataBatchLoader.KEY, dlFileEntryMetadataBatchLoader);
+
+        register(DLFileEntryTypeBatchLoader.KEY, dlFileEntryTypeBatchLoader);
+
+        register(DLFileShortcutBatchLoader.KEY, dlFileShortcutBatchLoader);
+
+        register(DLFileVersionBatchLoader.KEY, dlFileVersionBatchLoader);
+
+        register(DLFolderBatchLoader.KEY, dlFolderBatchLoader);
+
+        register(DDMContentBatchLoader.KEY, ddmContentBatchLoader);
+
+        register(DDMStructureBatchLoader.KEY, ddmStructureBatchLoader);
+
+        register(DDMTemplateBatchLoader.KEY, ddmTemplateBatchLoader);
+
+        register(ExpandoColumnBatchLoader.KEY, expandoColumnBatchLoader);
+
+        register(ExpandoRowBatchLoader.KEY, expandoRowBatchLoader);
+
+        register(ExpandoTableBatchLoader.KEY, expandoTableBatchLoader);
+
+        register(ExpandoValueBatchLoader.KEY, expandoValueBatchLoader);
+
+        register(JournalArticleBatchLoader.KEY, journalArticleBatchLoader);
+
+        register(JournalFeedBatchLoader.KEY, journalFeedBatchLoader);
+
+        register(JournalFolderBatchLoader.KEY, journalFolderBatchLoader);
+
+        register(MBCategoryBatchLoader.KEY, mbCategoryBatchLoader);
+
+        register(MBMessageBatchLoader.KEY, mbMessageBatchLoader);
+
+        register(MBThreadBatchLoader.KEY, mbThreadBatchLoader);
+
+        register(OAuth2ApplicationBatchLoader.KEY, oAuth2ApplicationBatchLoader);
+
+        register(OAuth2ApplicationScopeAliasesBatchLoader.KEY, oAuth2ApplicationScopeAliasesBatchLoader);
+
+        register(OAuth2AuthorizationBatchLoader.KEY, oAuth2AuthorizationBatchLoader);
+
+        register(OAuth2ScopeGrantBatchLoader.KEY, oAuth2ScopeGrantBatchLoader);
+
+        register(AddressBatchLoader.KEY, addressBatchLoader);
+
+        register(ClassNameBatchLoader.KEY, classnameBatchLoader);
+
+        register(CompanyBatchLoader.KEY, companyBatchLoader);
+
+        register(ContactBatchLoader.KEY, contactBatchLoader);
+
+        register(EmailAddressBatchLoader.KEY, emailaddressBatchLoader);
+
+        register(GroupBatchLoader.KEY, groupBatchLoader);
+
+        register(LayoutBatchLoader.KEY, layoutBatchLoader);
+
+        register(ListTypeBatchLoader.KEY, listTypeBatchLoader);
+
+        register(OrganizationBatchLoader.KEY, organizationBatchLoader);
+
+        register(PhoneBatchLoader.KEY, phoneBatchLoader);
+
+        register(RoleBatchLoader.KEY, roleBatchLoader);
+
+        register(UserBatchLoader.KEY, userBatchLoader);
+
+        register(UserGroupBatchLoader.KEY, userGroupBatchLoader);
+
+        register(WebsiteBatchLoader.KEY, websiteBatchLoader);
+
+        register(RatingsEntryBatchLoader.KEY, ratingsEntryBatchLoader);
+
+    }
+
+    private void registerToManyLoaders() {
+        registerRequestScoped(AddressesForEntityBatchLoader.KEY, addressesForEntityBatchLoader);
+        registerRequestScoped(EmailAddressesForEntityBatchLoader.KEY, emailAddressesForEntityBatchLoader);
+        registerRequestScoped(PhonesForEntityBatchLoader.KEY, phonesForEntityBatchLoader);
+        registerRequestScoped(WebsitesForEntityBatchLoader.KEY, websitesForEntityBatchLoader);
+        registerRequestScoped(LayoutsForGroupBatchLoader.KEY, layoutsForGroupBatchLoader);
+        registerRequestScoped(AssetCategoriesForAssetBatchLoader.KEY, assetCategoriesForAssetBatchLoader);
+        registerRequestScoped(AssetTagsForAssetBatchLoader.KEY, assetTagsForAssetBatchLoader);
+    }
+
+    private void registerProjectedLoaders() {
+        // Row views are not entities, so they are never shared with the other requests
+        registerRequestScoped(JournalArticleProjectedBatchLoader.KEY, journalArticleProjectedBatchLoader);
+        registerRequestScoped(DDMContentProjectedBatchLoader.KEY, ddmContentProjectedBatchLoader);
+    }
+
+    private void registerRequestScoped(String key, BatchLoader batchLoader) {
+        batchLoaders.put(key, batchLoader);
+    }
+
+    private void register(String key, BatchLoader batchLoader) {
+        batchLoaders.put(key, batchLoader);
+        crossRequestCacheMaps.put(key, entityCache.getCacheMap(key));
+    }
+
+    public DataLoaderRegistry newDataLoaderRegistry() {
+        return newDataLoaderRegistry(true);
+    }
+
+    public DataLoaderRegistry newDataLoaderRegistry(boolean crossRequestCaching) {
+        DataLoaderRegistry registry = new DataLoaderRegistry();
+        Map<String, BatchSizeController> controllers = batchSizeControllers;
+        batchLoaders.forEach((key, batchLoader) -> {
+            BatchSizeController controller = controllers.get(key);
+            DataLoaderOptions loaderOptions = DataLoaderOptions.newOptions()
+                    .setMaxBatchSize(controller.getMaxBatchSize());
+            if (crossRequestCaching && crossRequestCacheMaps.containsKey(key)) {
+                loaderOptions.setCacheMap(crossRequestCacheMaps.get(key));
+            }
+
+            BatchLoader loader = controller.isAdaptive() ? new TimedBatchLoader(batchLoader, controller) : batchLoader;
+            registry.register(key, DataLoader.newDataLoader(loader, loaderOptions));
+        });
+        return registry;
+    }
+
+    public CompletionStage<Object> load(String key, long primaryKey) {
+        BatchLoader<Long, Object> batchLoader = batchLoaders.get(key);
+        return batchLoader.load(Collections.singletonList(primaryKey))
+                .thenApply(results -> results.isEmpty() ? null : results.get(0));
+    }
+
+    public void clearRequestScopedCaches(DataLoaderRegistry registry) {
+        // The cross-request caches are kept up to date by the model listeners
+        batchLoaders.keySet().stream()
+                .filter(key -> !crossRequestCacheMaps.containsKey(key))
+                .forEach(key -> registry.getDataLoader(key).clearAll());
+    }
+}
@@ -0,0 +1,102 @@
+package fr.sedona.liferay.graphql.util;
+
+import fr.sedona.liferay.graphql.instrumentation.DeferredExecutionResult;
+import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
+import graphql.GraphQL;
+import graphql.GraphQLError;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public class DeferUtil {
+
+    private DeferUtil() {
+        // Do nothing
+    }
+
+    public static Publisher<DeferredExecutionResult> getDeferredResults(ExecutionResult executionResult) {
+        Map<Object, Object> extensions = executionResult.getExtensions();
+        if (extensions == null || !(extensions.get(GraphQL.DEFERRED_RESULTS) instanceof Publisher)) {
+            return null;
+        }
+        return (Publisher<DeferredExecutionResult>) extensions.get(GraphQL.DEFERRED_RESULTS);
+    }
+
+    public static ExecutionResult withoutDeferredResults(ExecutionResult executionResult) {
+        if (getDeferredResults(executionResult) == null) {
+            return executionResult;
+        }
+
+        Map<Object, Object> extensions = new LinkedHashMap<>(executionResult.getExtensions());
+        extensions.remove(GraphQL.DEFERRED_RESULTS);
+        return new ExecutionResultImpl(executionResult.getData(), executionResult.getErrors(),
+                extensions.isEmpty() ? null : extensions);
+    }
+
+    public static CompletableFuture<ExecutionResult> mergeDeferredResults(ExecutionResult executionResult) {
+        Publisher<DeferredExecutionResult> deferredResults = getDeferredResults(executionResult);
+        if (deferredResults == null) {
+            return CompletableFuture.completedFuture(executionResult);
+        }
+
+        ExecutionResult initialResult = withoutDeferredResults(executionResult);
+        Object data = initialResult.getData();
+        List<GraphQLError> errors = new ArrayList<>(initialResult.getErrors());
+        CompletableFuture<ExecutionResult> mergedResult = new CompletableFuture<>();
+        deferredResults.subscribe(new Subscriber<DeferredExecutionResult>() {
+            private Subscription subscription;
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(DeferredExecutionResult deferredResult) {
+                setValue(data, deferredResult.getPath(), deferredResult.getData());
+                errors.addAll(deferredResult.getErrors());
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                mergedResult.completeExceptionally(t);
+            }
+
+            @Override
+            public void onComplete() {
+                mergedResult.complete(new ExecutionResultImpl(data, errors, initialResult.getExtensions()));
+            }
+        });
+        return mergedResult;
+    }
+
+    private static void setValue(Object data, List<Object> path, Object value) {
+        if (path == null || path.isEmpty()) {
+            return;
+        }
+
+        // The deferred field is put back into its parent object, unless the parent itself resolved to null
+        Object parent = data;
+        for (Object segment : path.subList(0, path.size() - 1)) {
+            if (parent instanceof Map) {
+                parent = ((Map<?, ?>) parent).get(segment);
+            } else if (parent instanceof List && segment instanceof Integer) {
+                parent = ((List<?>) parent).get((Integer) segment);
+            } else {
+                return;
+            }
+        }
+        if (parent instanceof Map) {
+            ((Map<Object, Object>) parent).put(path.get(path.size() - 1), value);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package fr.sedona.liferay.graphql.util;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
+import graphql.GraphQLError;
+
+import javax.ws.rs.core.StreamingOutput;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+public class ExecutionResultStreamingOutput implements StreamingOutput {
+    private final List<ExecutionResult> executionResults;
+    private final boolean batch;
+    private final ObjectMapper objectMapper;
+    private final boolean gzip;
+
+    public ExecutionResultStreamingOutput(ExecutionResult executionResult, ObjectMapper objectMapper, boolean gzip) {
+        this(Collections.singletonList(executionResult), false, objectMapper, gzip);
+    }
+
+    public ExecutionResultStreamingOutput(List<ExecutionResult> executionResults, ObjectMapper objectMapper, boolean gzip) {
+        this(executionResults, true, objectMapper, gzip);
+    }
+
+    private ExecutionResultStreamingOutput(List<ExecutionResult> executionResults,
+                                           boolean batch,
+                                           ObjectMapper objectMapper,
+                                           boolean gzip) {
+        this.executionResults = executionResults;
+        this.batch = batch;
+        this.objectMapper = objectMapper;
+        this.gzip = gzip;
+    }
+
+    @Override
+    public void write(OutputStream output) throws IOException {
+        GZIPOutputStream gzipOutput = gzip ? new GZIPOutputStream(output) : null;
+        JsonGenerator generator = objectMapper.getFactory()
+                .createGenerator(gzipOutput == null ? output : gzipOutput, JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        // Batched requests are answered with an array holding the result of each operation
+        if (batch) {
+            generator.writeStartArray();
+        }
+        for (ExecutionResult executionResult : executionResults) {
+            writeExecutionResult(generator, executionResult);
+        }
+        if (batch) {
+            generator.writeEndArray();
+        }
+        generator.close();
+
+        if (gzipOutput != null) {
+            gzipOutput.finish();
+        }
+    }
+
+    private void writeExecutionResult(JsonGenerator generator, ExecutionResult executionResult) throws IOException {
+        // Same layout as ExecutionResult.toSpecification(), written field by field instead of being copied
+        generator.writeStartObject();
+        if (!(executionResult instanceof ExecutionResultImpl) || ((ExecutionResultImpl) executionResult).isDataPresent()) {
+            generator.writeFieldName("data");
+            writeValue(generator, executionResult.getData());
+        }
+
+        List<GraphQLError> errors = executionResult.getErrors();
+        if (errors != null && !errors.isEmpty()) {
+            generator.writeArrayFieldStart("errors");
+            for (GraphQLError error : errors) {
+                generator.writeObject(error.toSpecification());
+            }
+            generator.writeEndArray();
+        }
+
+        if (executionResult.getExtensions() != null) {
+            generator.writeFieldName("extensions");
+            generator.writeObject(executionResult.getExtensions());
+        }
+        generator.writeEndObject();
+    }
+
+    private void writeValue(JsonGenerator generator, Object value) throws IOException {
+        if (value instanceof Map) {
+            generator.writeStartObject();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                generator.writeFieldName(String.valueOf(entry.getKey()));
+                writeValue(generator, entry.getValue());
+            }
+            generator.writeEndObject();
+        } else if (value instanceof List) {
+            generator.writeStartArray();
+            for (Object item : (List<?>) value) {
+                writeValue(generator, item);
+            }
+            generator.writeEndArray();
+        } else {
+            generator.writeObject(value);
+        }
+    }
+}
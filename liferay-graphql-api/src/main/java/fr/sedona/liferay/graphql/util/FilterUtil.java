@@ -0,0 +1,141 @@
+package fr.sedona.liferay.graphql.util;
+
+import com.liferay.portal.kernel.dao.orm.Criterion;
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.OrderFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.RestrictionsFactoryUtil;
+import graphql.GraphQLException;
+import graphql.schema.DataFetchingEnvironment;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+public final class FilterUtil {
+    private static final String ARGUMENT_FILTER = "filter";
+    private static final String ARGUMENT_ORDER_BY = "orderBy";
+    private static final String ARGUMENT_FIELD = "field";
+    private static final String ARGUMENT_REVERSE = "reverse";
+
+    private FilterUtil() {
+    }
+
+    public static boolean hasCriteria(DataFetchingEnvironment environment) {
+        return environment.getArgument(ARGUMENT_FILTER) != null || environment.getArgument(ARGUMENT_ORDER_BY) != null;
+    }
+
+    /**
+     * Adds the restrictions of the filter argument, such as {groupId: {eq: 20143}, status: {in: [0, 2]}},
+     * so that the rows are filtered by the database
+     */
+    @SuppressWarnings("unchecked")
+    public static DynamicQuery addFilter(DynamicQuery query, DataFetchingEnvironment environment) {
+        Map<String, Object> filter = environment.getArgument(ARGUMENT_FILTER);
+        if (filter == null) {
+            return query;
+        }
+
+        filter.forEach((propertyName, operators) -> {
+            if (operators == null) {
+                return;
+            }
+
+            ((Map<String, Object>) operators).forEach((operator, value) -> {
+                if (value != null) {
+                    query.add(getCriterion(propertyName, operator, value));
+                }
+            });
+        });
+        return query;
+    }
+
+    /**
+     * Adds the restrictions of the filter argument and the orders of the orderBy argument.
+     * The primary key comes last so that the pages of equal rows never overlap.
+     */
+    public static DynamicQuery addCriteria(DynamicQuery query, DataFetchingEnvironment environment,
+                                           String primaryKeyName) {
+        addFilter(query, environment);
+        List<Map<String, Object>> orderBy = environment.getArgument(ARGUMENT_ORDER_BY);
+        if (orderBy != null) {
+            for (Map<String, Object> order : orderBy) {
+                String propertyName = String.valueOf(order.get(ARGUMENT_FIELD));
+                query.addOrder(Boolean.TRUE.equals(order.get(ARGUMENT_REVERSE))
+                        ? OrderFactoryUtil.desc(propertyName)
+                        : OrderFactoryUtil.asc(propertyName));
+            }
+        }
+        query.addOrder(OrderFactoryUtil.asc(primaryKeyName));
+        return query;
+    }
+
+    /**
+     * Returns the filter argument with its columns, operators and in values sorted,
+     * so that equivalent filters share the same key
+     */
+    @SuppressWarnings("unchecked")
+    public static String getFilterKey(DataFetchingEnvironment environment) {
+        Map<String, Object> filter = environment.getArgument(ARGUMENT_FILTER);
+        if (filter == null) {
+            return "";
+        }
+
+        Map<String, Object> normalizedFilter = new TreeMap<>();
+        filter.forEach((propertyName, operators) -> {
+            if (operators == null) {
+                return;
+            }
+
+            Map<String, Object> normalizedOperators = new TreeMap<>();
+            ((Map<String, Object>) operators).forEach((operator, value) -> {
+                if (value != null) {
+                    normalizedOperators.put(operator, getNormalizedValue(value));
+                }
+            });
+            if (!normalizedOperators.isEmpty()) {
+                normalizedFilter.put(propertyName, normalizedOperators);
+            }
+        });
+        return normalizedFilter.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object getNormalizedValue(Object value) {
+        if (value instanceof Date) {
+            return ((Date) value).getTime();
+        }
+        if (value instanceof Collection) {
+            return new TreeSet<>((Collection<Object>) value);
+        }
+        return value;
+    }
+
+    private static Criterion getCriterion(String propertyName, String operator, Object value) {
+        switch (operator) {
+            case "eq":
+                return RestrictionsFactoryUtil.eq(propertyName, value);
+            case "in":
+                Collection<?> values = (Collection<?>) value;
+                if (values.isEmpty()) {
+                    // Hibernate renders an empty in as invalid SQL, while it should match nothing
+                    return RestrictionsFactoryUtil.sqlRestriction("1 = 0");
+                }
+                return RestrictionsFactoryUtil.in(propertyName, values);
+            case "gt":
+                return RestrictionsFactoryUtil.gt(propertyName, value);
+            case "gte":
+                return RestrictionsFactoryUtil.ge(propertyName, value);
+            case "lt":
+                return RestrictionsFactoryUtil.lt(propertyName, value);
+            case "lte":
+                return RestrictionsFactoryUtil.le(propertyName, value);
+            case "like":
+                return RestrictionsFactoryUtil.like(propertyName, value);
+            default:
+                throw new GraphQLException("Unknown filter operator '" + operator + "' on " + propertyName);
+        }
+    }
+}
@@ -9,19 +9,30 @@ import com.liferay.dynamic.data.mapping.util.DDM;
 import com.liferay.message.boards.kernel.model.MBMessage;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.model.ClassedModel;
+import com.liferay.portal.kernel.model.Contact;
 import com.liferay.portal.kernel.model.User;
 import com.liferay.portal.kernel.service.ClassNameLocalService;
 import com.liferay.portal.kernel.service.UserLocalService;
 import com.liferay.portal.kernel.util.LocaleUtil;
 import com.liferay.portal.kernel.util.PortalUtil;
+import fr.sedona.liferay.graphql.loaders.EntityKey;
+import fr.sedona.liferay.graphql.projection.ProjectedRow;
 import graphql.GraphQLException;
 import graphql.schema.DataFetchingEnvironment;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 
 import java.io.IOException;
+import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
 import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Component(
@@ -31,6 +42,15 @@ import java.util.stream.Collectors;
 public class GraphQLUtil {
     private static final Log LOGGER = LogFactoryUtil.getLog(GraphQLUtil.class);
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final MethodType ID_GETTER_TYPE = MethodType.methodType(long.class, Object.class);
+    private static final MethodHandle MISSING_ID_GETTER = MethodHandles.constant(long.class, 0L);
+    // Keyed by class through ClassValue, so that the getters of an undeployed bundle do not keep its class loader
+    private static final ClassValue<Map<String, MethodHandle>> ID_GETTERS = new ClassValue<Map<String, MethodHandle>>() {
+        @Override
+        protected Map<String, MethodHandle> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
     private ClassNameLocalService classNameLocalService;
     private UserLocalService userLocalService;
     private DDM ddm;
@@ -209,6 +229,29 @@ public class GraphQLUtil {
         return classNameLocalService.getClassNameId(className);
     }
 
+    public EntityKey getEntityKey(DataFetchingEnvironment environment) {
+        Object source = environment.getSource();
+        if (source instanceof User) {
+            // The addresses, phones, etc. of a user are attached to its contact
+            return new EntityKey(getClassNameId(Contact.class.getName()), ((User) source).getContactId());
+        }
+
+        if (source instanceof ClassedModel) {
+            ClassedModel model = (ClassedModel) source;
+            Serializable primaryKey = model.getPrimaryKeyObj();
+            if (primaryKey instanceof Long) {
+                return new EntityKey(getClassNameId(model.getModelClassName()), (Long) primaryKey);
+            }
+        }
+
+        String className = getStringArg(environment, "className");
+        long classPK = getLongArg(environment, "classPK");
+        if (className == null || className.isEmpty() || classPK <= 0) {
+            return null;
+        }
+        return new EntityKey(getClassNameId(className), classPK);
+    }
+
     public User getDefaultUser() {
         return getDefaultUser(PortalUtil.getDefaultCompanyId());
     }
@@ -236,12 +279,37 @@ public class GraphQLUtil {
     }
 
     public long getEntityIdFromSource(Object source, String methodName) throws Exception {
+        if (source instanceof ProjectedRow) {
+            // Getters such as getCompanyId are projected under the companyId field
+            return ((ProjectedRow) source).getLong(Character.toLowerCase(methodName.charAt(3)) + methodName.substring(4));
+        }
+
+        Class<?> sourceClass = source.getClass();
+        MethodHandle idGetter = ID_GETTERS.get(sourceClass)
+                .computeIfAbsent(methodName, name -> findIdGetter(sourceClass, name));
+        if (idGetter == MISSING_ID_GETTER) {
+            throw new NoSuchMethodException(sourceClass.getName() + "." + methodName + "()");
+        }
+
         try {
-            Method getIdMethod = source.getClass().getMethod(methodName);
-            return (long) getIdMethod.invoke(source);
-        } catch (Exception e) {
-            LOGGER.warn("Could not find method with name '" + methodName + "' in class " + source.getClass().getName());
+            return (long) idGetter.invokeExact(source);
+        } catch (Exception | Error e) {
             throw e;
+        } catch (Throwable t) {
+            throw new UndeclaredThrowableException(t);
+        }
+    }
+
+    private static MethodHandle findIdGetter(Class<?> sourceClass, String methodName) {
+        try {
+            Method method = sourceClass.getMethod(methodName);
+            return MethodHandles.publicLookup()
+                    .unreflect(method)
+                    .asType(ID_GETTER_TYPE);
+        } catch (ReflectiveOperationException | WrongMethodTypeException e) {
+            // Cached as well, so that the lookup is not repeated for every entity of the class
+            LOGGER.warn("Could not find method with name '" + methodName + "' in class " + sourceClass.getName());
+            return MISSING_ID_GETTER;
         }
     }
 }
@@ -0,0 +1,54 @@
+package fr.sedona.liferay.graphql.util;
+
+import graphql.language.Definition;
+import graphql.language.Document;
+import graphql.language.Field;
+import graphql.language.FragmentDefinition;
+import graphql.language.OperationDefinition;
+import graphql.parser.Parser;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+public final class IntrospectionUtil {
+    // __typename is a regular meta field, selected by most client queries
+    private static final Pattern INTROSPECTION_FIELD_PATTERN = Pattern.compile("\\b__(schema|type)\\b");
+
+    private IntrospectionUtil() {
+    }
+
+    /**
+     * Cheap check, done on every query before parsing it
+     */
+    public static boolean mayBeIntrospectionQuery(String query) {
+        return query != null && INTROSPECTION_FIELD_PATTERN.matcher(query).find();
+    }
+
+    public static boolean isIntrospectionQuery(String query) {
+        Document document;
+        try {
+            document = new Parser().parseDocument(query);
+        } catch (RuntimeException e) {
+            return false;
+        }
+
+        // Only queries selecting nothing but introspection fields at the root are cached, their fragments can only
+        // apply to the introspection types
+        List<Definition> definitions = document.getDefinitions();
+        return definitions.stream().anyMatch(definition -> definition instanceof OperationDefinition)
+                && definitions.stream().allMatch(definition -> definition instanceof FragmentDefinition
+                || isIntrospectionOperation(definition));
+    }
+
+    private static boolean isIntrospectionOperation(Definition definition) {
+        if (!(definition instanceof OperationDefinition)) {
+            return false;
+        }
+
+        OperationDefinition operation = (OperationDefinition) definition;
+        return operation.getOperation() == OperationDefinition.Operation.QUERY
+                && operation.getSelectionSet().getSelections().stream()
+                .allMatch(selection -> selection instanceof Field
+                        && ((Field) selection).getName().startsWith("__"));
+    }
+}
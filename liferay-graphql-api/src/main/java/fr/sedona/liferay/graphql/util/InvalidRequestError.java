@@ -0,0 +1,34 @@
+package fr.sedona.liferay.graphql.util;
+
+import graphql.ErrorType;
+import graphql.GraphQLError;
+import graphql.language.SourceLocation;
+
+import java.util.List;
+
+/**
+ * Error of a request whose body is not a valid GraphQL request, such as a scalar body or variables that are not an
+ * object
+ */
+public class InvalidRequestError implements GraphQLError {
+    private final String message;
+
+    public InvalidRequestError(String message) {
+        this.message = message;
+    }
+
+    @Override
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public List<SourceLocation> getLocations() {
+        return null;
+    }
+
+    @Override
+    public ErrorType getErrorType() {
+        return ErrorType.ValidationError;
+    }
+}
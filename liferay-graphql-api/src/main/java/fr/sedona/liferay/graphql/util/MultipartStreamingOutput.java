@@ -0,0 +1,130 @@
+package fr.sedona.liferay.graphql.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.sedona.liferay.graphql.instrumentation.DeferredExecutionResult;
+import graphql.ExecutionResult;
+import graphql.GraphQLError;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import javax.ws.rs.core.StreamingOutput;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.stream.Collectors;
+
+public class MultipartStreamingOutput implements StreamingOutput {
+    public static final String MEDIA_TYPE = Constants.MEDIA_TYPE_MULTIPART_MIXED + ";boundary=\"-\";deferSpec=20220824";
+    private static final String PART_HEADER = "\r\n---\r\nContent-Type: application/json; charset=utf-8\r\n\r\n";
+    private static final String END_BOUNDARY = "\r\n-----\r\n";
+    private static final Object COMPLETE = new Object();
+
+    private final ExecutionResult initialResult;
+    private final Publisher<DeferredExecutionResult> deferredResults;
+    private final ObjectMapper objectMapper;
+
+    public MultipartStreamingOutput(ExecutionResult executionResult, ObjectMapper objectMapper) {
+        this.initialResult = DeferUtil.withoutDeferredResults(executionResult);
+        this.deferredResults = DeferUtil.getDeferredResults(executionResult);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void write(OutputStream output) throws IOException {
+        Map<String, Object> initialPart = new LinkedHashMap<>(initialResult.toSpecification());
+        initialPart.put("hasNext", deferredResults != null);
+        writePart(output, initialPart);
+        if (deferredResults == null) {
+            output.write(END_BOUNDARY.getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+
+        // Each deferred field is sent as soon as it is resolved, the container thread waiting for the next one
+        BlockingQueue<Object> events = new LinkedBlockingQueue<>();
+        Subscription[] subscription = new Subscription[1];
+        deferredResults.subscribe(new Subscriber<DeferredExecutionResult>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                subscription[0] = s;
+                s.request(1);
+            }
+
+            @Override
+            public void onNext(DeferredExecutionResult deferredResult) {
+                events.add(deferredResult);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                events.add(t);
+            }
+
+            @Override
+            public void onComplete() {
+                events.add(COMPLETE);
+            }
+        });
+
+        try {
+            while (true) {
+                Object event = events.take();
+                if (event == COMPLETE) {
+                    writePart(output, Collections.singletonMap("hasNext", false));
+                    break;
+                }
+                if (event instanceof Throwable) {
+                    throw new IOException("Could not resolve deferred GraphQL fields", (Throwable) event);
+                }
+
+                writePart(output, toIncrementalPart((DeferredExecutionResult) event));
+                subscription[0].request(1);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for deferred GraphQL fields", e);
+        } catch (IOException e) {
+            // The client went away: the remaining deferred fields are not resolved
+            subscription[0].cancel();
+            throw e;
+        }
+        output.write(END_BOUNDARY.getBytes(StandardCharsets.UTF_8));
+        output.flush();
+    }
+
+    private Map<String, Object> toIncrementalPart(DeferredExecutionResult deferredResult) {
+        // The data of an incremental payload is the object holding the deferred field
+        List<Object> path = deferredResult.getPath();
+        Map<String, Object> incremental = new LinkedHashMap<>();
+        incremental.put("data", Collections.singletonMap(path.get(path.size() - 1), deferredResult.getData()));
+        incremental.put("path", path.subList(0, path.size() - 1));
+        List<GraphQLError> errors = deferredResult.getErrors();
+        if (errors != null && !errors.isEmpty()) {
+            incremental.put("errors", errors.stream()
+                    .map(GraphQLError::toSpecification)
+                    .collect(Collectors.toList()));
+        }
+
+        Map<String, Object> part = new LinkedHashMap<>();
+        part.put("incremental", Collections.singletonList(incremental));
+        part.put("hasNext", true);
+        return part;
+    }
+
+    private void writePart(OutputStream output, Map<String, Object> part) throws IOException {
+        output.write(PART_HEADER.getBytes(StandardCharsets.UTF_8));
+        JsonGenerator generator = objectMapper.getFactory()
+                .createGenerator(output)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.writeObject(part);
+        generator.close();
+        output.flush();
+    }
+}
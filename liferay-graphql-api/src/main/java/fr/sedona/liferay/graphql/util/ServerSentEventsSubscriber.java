@@ -0,0 +1,174 @@
+package fr.sedona.liferay.graphql.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import graphql.ExecutionResult;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import javax.ws.rs.sse.OutboundSseEvent;
+import javax.ws.rs.sse.Sse;
+import javax.ws.rs.sse.SseEventSink;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Sends the results of a GraphQL subscription as Server-Sent Events, as the publisher emits them.
+ * <p>
+ * The events are written asynchronously by the event sink, from the threads of the publisher and of the heartbeat
+ * scheduler: no container thread waits for the events of a subscription.
+ */
+public class ServerSentEventsSubscriber implements Subscriber<ExecutionResult> {
+    private static final Log LOGGER = LogFactoryUtil.getLog(ServerSentEventsSubscriber.class);
+    private static final String EVENT_NEXT = "next";
+    private static final String EVENT_COMPLETE = "complete";
+
+    private final SseEventSink eventSink;
+    private final Sse sse;
+    private final ObjectMapper objectMapper;
+    private final Runnable onClose;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile Subscription subscription;
+    private volatile ScheduledFuture<?> heartbeat;
+
+    /**
+     * @param onClose called once, when the stream is closed because the subscription ended or the client went away
+     */
+    public ServerSentEventsSubscriber(SseEventSink eventSink, Sse sse, ObjectMapper objectMapper, Runnable onClose) {
+        this.eventSink = eventSink;
+        this.sse = sse;
+        this.objectMapper = objectMapper;
+        this.onClose = onClose;
+    }
+
+    /**
+     * Streams the events of a subscription, or the single result of queries, mutations and invalid subscriptions
+     *
+     * @param heartbeatSeconds interval of the comments keeping the proxies from closing an idle stream, and detecting
+     *                         the clients that went away (0 to disable)
+     */
+    public void stream(ExecutionResult executionResult,
+                       ScheduledExecutorService heartbeatScheduler,
+                       long heartbeatSeconds) {
+        Object data = executionResult.getData();
+        if (!(data instanceof Publisher)) {
+            sendNextEvent(executionResult)
+                    .thenCompose(ignored -> send(newEvent(EVENT_COMPLETE, "")))
+                    .whenComplete((ignored, throwable) -> close());
+            return;
+        }
+
+        if (heartbeatSeconds > 0) {
+            heartbeat = heartbeatScheduler.scheduleAtFixedRate(this::sendHeartbeat,
+                    heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+        }
+        ((Publisher<ExecutionResult>) data).subscribe(this);
+    }
+
+    /**
+     * Closes the stream and cancels the subscription, the model events are no longer sent to this client
+     */
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+
+        ScheduledFuture<?> currentHeartbeat = heartbeat;
+        if (currentHeartbeat != null) {
+            currentHeartbeat.cancel(false);
+        }
+        Subscription currentSubscription = subscription;
+        if (currentSubscription != null) {
+            currentSubscription.cancel();
+        }
+        eventSink.close();
+        onClose.run();
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+        subscription = s;
+        if (closed.get()) {
+            s.cancel();
+            return;
+        }
+        s.request(1);
+    }
+
+    @Override
+    public void onNext(ExecutionResult eventResult) {
+        // The next event is only requested once this one is written, so a slow client does not pile up events
+        sendNextEvent(eventResult)
+                .whenComplete((ignored, throwable) -> {
+                    if (throwable != null) {
+                        close();
+                    } else {
+                        subscription.request(1);
+                    }
+                });
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        LOGGER.warn("Could not resolve GraphQL subscription event", t);
+        close();
+    }
+
+    @Override
+    public void onComplete() {
+        send(newEvent(EVENT_COMPLETE, ""))
+                .whenComplete((ignored, throwable) -> close());
+    }
+
+    private void sendHeartbeat() {
+        send(sse.newEventBuilder().comment("").build())
+                .whenComplete((ignored, throwable) -> {
+                    if (throwable != null) {
+                        close();
+                    }
+                });
+    }
+
+    private CompletionStage<?> sendNextEvent(ExecutionResult eventResult) {
+        try {
+            // The JSON payload has no line breaks, so it always fits in a single data line
+            return send(newEvent(EVENT_NEXT, objectMapper.writeValueAsString(eventResult.toSpecification())));
+        } catch (JsonProcessingException e) {
+            return failed(e);
+        }
+    }
+
+    private OutboundSseEvent newEvent(String name, String data) {
+        return sse.newEventBuilder()
+                .name(name)
+                .data(data)
+                .build();
+    }
+
+    private CompletionStage<?> send(OutboundSseEvent event) {
+        if (closed.get() || eventSink.isClosed()) {
+            close();
+            return failed(new IllegalStateException("GraphQL subscription stream is closed"));
+        }
+
+        try {
+            // Fails when the client went away: the stream is then closed by the caller
+            return eventSink.send(event);
+        } catch (RuntimeException e) {
+            return failed(e);
+        }
+    }
+
+    private static CompletionStage<?> failed(Throwable throwable) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        future.completeExceptionally(throwable);
+        return future;
+    }
+}
@@ -0,0 +1,27 @@
+package fr.sedona.liferay.graphql.util;
+
+import org.dataloader.BatchLoader;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+public class TimedBatchLoader<K, V> implements BatchLoader<K, V> {
+    private final BatchLoader<K, V> delegate;
+    private final BatchSizeController batchSizeController;
+
+    public TimedBatchLoader(BatchLoader<K, V> delegate, BatchSizeController batchSizeController) {
+        this.delegate = delegate;
+        this.batchSizeController = batchSizeController;
+    }
+
+    @Override
+    public CompletionStage<List<V>> load(List<K> keys) {
+        long start = System.nanoTime();
+        return delegate.load(keys)
+                .whenComplete((results, throwable) -> {
+                    if (throwable == null && keys != null) {
+                        batchSizeController.record(keys.size(), System.nanoTime() - start);
+                    }
+                });
+    }
+}
@@ -1,31 +1,72 @@
 package fr.sedona.liferay.graphql;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.liferay.portal.kernel.security.permission.PermissionChecker;
+import com.liferay.portal.kernel.security.permission.PermissionThreadLocal;
+import fr.sedona.liferay.graphql.configuration.GraphQLEndpointConfiguration;
 import fr.sedona.liferay.graphql.engine.GraphQLEngine;
+import fr.sedona.liferay.graphql.instrumentation.DeferredExecutionResult;
+import fr.sedona.liferay.graphql.persisted.PersistedQuery;
+import fr.sedona.liferay.graphql.persisted.PersistedQueryException;
+import fr.sedona.liferay.graphql.persisted.PersistedQueryStore;
 import fr.sedona.liferay.graphql.util.Constants;
+import fr.sedona.liferay.graphql.util.MultipartStreamingOutput;
+import graphql.ExecutionInput;
 import graphql.ExecutionResult;
 import graphql.ExecutionResultImpl;
+import graphql.GraphQL;
 import graphql.InvalidSyntaxError;
+import graphql.execution.reactive.SingleSubscriberPublisher;
 import graphql.language.SourceLocation;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
+import javax.servlet.http.HttpServletResponse;
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.ServiceUnavailableException;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.TimeoutHandler;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import javax.ws.rs.sse.OutboundSseEvent;
+import javax.ws.rs.sse.Sse;
+import javax.ws.rs.sse.SseEventSink;
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.*;
+import static org.powermock.api.mockito.PowerMockito.mockStatic;
 import static org.valid4j.matchers.http.HttpResponseMatchers.hasEntity;
 import static org.valid4j.matchers.http.HttpResponseMatchers.hasStatus;
 
@@ -33,6 +74,9 @@ import static org.valid4j.matchers.http.HttpResponseMatchers.hasStatus;
  * Test suite for {@link GraphQLEndpoint}
  */
 @RunWith(PowerMockRunner.class)
+@PrepareForTest(
+        PermissionThreadLocal.class
+)
 public class GraphQLEndpointTest {
     private String query;
     private String operationName;
@@ -40,6 +84,7 @@ public class GraphQLEndpointTest {
     private String jsonVarsAsString;
     private ExpectedResult expectedOkResult;
     private InvalidSyntaxError invalidSyntaxError;
+    private ObjectMapper objectMapper;
 
     private class ExpectedResult {
         private String status;
@@ -59,9 +104,15 @@ public class GraphQLEndpointTest {
     @Mock
     private GraphQLEngine graphQLEngine;
 
+    @Mock
+    private PersistedQueryStore persistedQueryStore;
+
+    @Mock
+    private PermissionChecker permissionChecker;
+
     @Before
     public void setUp() throws Exception {
-        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper = new ObjectMapper();
 
         query = "{ testQuery { status } }";
         operationName = "testQuery";
@@ -70,6 +121,17 @@ public class GraphQLEndpointTest {
 
         expectedOkResult = new ExpectedResult("OK!");
         invalidSyntaxError = new InvalidSyntaxError(new SourceLocation(1, 0), "Invalid Syntax");
+
+        when(persistedQueryStore.resolve(anyString(), anyMap()))
+                .thenAnswer(invocation -> new PersistedQuery(null, (String) invocation.getArguments()[0], false));
+        when(persistedQueryStore.getCacheControl())
+                .thenReturn("public, max-age=60");
+
+        mockStatic(PermissionThreadLocal.class);
+        when(PermissionThreadLocal.getPermissionChecker())
+                .thenReturn(permissionChecker);
+        when(permissionChecker.isSignedIn())
+                .thenReturn(false);
     }
 
     private String getSchema() {
@@ -79,6 +141,36 @@ public class GraphQLEndpointTest {
                 .collect(Collectors.joining("\n"));
     }
 
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] getOutputBytes(Response response) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try {
+            ((StreamingOutput) response.getEntity()).write(output);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.toByteArray();
+    }
+
+    private String getOutput(Response response) {
+        return new String(getOutputBytes(response), StandardCharsets.UTF_8);
+    }
+
+    private Response getResponse(Consumer<AsyncResponse> request) {
+        AsyncResponse asyncResponse = mock(AsyncResponse.class);
+        request.accept(asyncResponse);
+        ArgumentCaptor<Response> response = ArgumentCaptor.forClass(Response.class);
+        verify(asyncResponse, times(1)).resume(response.capture());
+        return response.getValue();
+    }
+
     @Test
     public void getGraphQLSchema_should_return_ok_with_schema() {
         // Given
@@ -87,12 +179,31 @@ public class GraphQLEndpointTest {
         // When / Then
         when(graphQLEngine.getSchema())
                 .thenReturn(getSchema());
+        when(graphQLEngine.getSchemaHash())
+                .thenReturn("schema-hash");
 
         // Asserts
-        Response response = graphQLEndpoint.getGraphQLSchema();
+        Response response = graphQLEndpoint.getGraphQLSchema(null);
         assertThat(response, hasStatus(Response.Status.OK));
         assertThat(response, hasEntity());
         assertEquals(response.getEntity(), getSchema());
+        assertEquals("\"schema-hash\"", response.getHeaderString(HttpHeaders.ETAG));
+    }
+
+    @Test
+    public void getGraphQLSchema_with_matching_etag_should_return_not_modified() {
+        // Given
+        // Nothing
+
+        // When / Then
+        when(graphQLEngine.getSchemaHash())
+                .thenReturn("schema-hash");
+
+        // Asserts
+        Response response = graphQLEndpoint.getGraphQLSchema("\"schema-hash\"");
+        assertThat(response, hasStatus(Response.Status.NOT_MODIFIED));
+        assertFalse(response.hasEntity());
+        verify(graphQLEngine, never()).getSchema();
     }
 
     @Test
@@ -102,16 +213,17 @@ public class GraphQLEndpointTest {
         Map expectedOutput = expectedExecutionResult.toSpecification();
 
         // When / Then
-        when(graphQLEngine.executeQuery(query, operationName, jsonVars))
-                .thenReturn(expectedExecutionResult);
+        when(graphQLEngine.executeQueryAsync(eq(query), eq(operationName), eq(jsonVars), anyMap()))
+                .thenReturn(CompletableFuture.completedFuture(expectedExecutionResult));
 
         // Asserts
-        Response response = graphQLEndpoint.getGraphQLRequest(query, operationName, jsonVarsAsString);
+        Response response = getResponse(asyncResponse -> graphQLEndpoint
+                .getGraphQLRequest(query, operationName, jsonVarsAsString, null, null, null, null, null, null, asyncResponse));
         verify(graphQLEngine, times(1))
-                .executeQuery(query, operationName, jsonVars);
+                .executeQueryAsync(eq(query), eq(operationName), eq(jsonVars), anyMap());
         assertThat(response, hasStatus(Response.Status.OK));
         assertThat(response, hasEntity());
-        assertEquals(response.getEntity(), expectedOutput);
+        assertEquals(toJson(expectedOutput), getOutput(response));
     }
 
     @Test
@@ -121,16 +233,17 @@ public class GraphQLEndpointTest {
         Map expectedOutput = expectedExecutionResult.toSpecification();
 
         // When / Then
-        when(graphQLEngine.executeQuery(query, null, jsonVars))
-                .thenReturn(expectedExecutionResult);
+        when(graphQLEngine.executeQueryAsync(eq(query), eq(null), eq(jsonVars), anyMap()))
+                .thenReturn(CompletableFuture.completedFuture(expectedExecutionResult));
 
         // Asserts
-        Response response = graphQLEndpoint.getGraphQLRequest(query, null, jsonVarsAsString);
+        Response response = getResponse(asyncResponse -> graphQLEndpoint
+                .getGraphQLRequest(query, null, jsonVarsAsString, null, null, null, null, null, null, asyncResponse));
         verify(graphQLEngine, times(1))
-                .executeQuery(query, null, jsonVars);
+                .executeQueryAsync(eq(query), eq(null), eq(jsonVars), anyMap());
         assertThat(response, hasStatus(Response.Status.OK));
         assertThat(response, hasEntity());
-        assertEquals(response.getEntity(), expectedOutput);
+        assertEquals(toJson(expectedOutput), getOutput(response));
     }
 
     @Test
@@ -140,16 +253,17 @@ public class GraphQLEndpointTest {
         Map expectedOutput = expectedExecutionResult.toSpecification();
 
         // When / Then
-        when(graphQLEngine.executeQuery(eq(query), eq(operationName), anyMap()))
-                .thenReturn(expectedExecutionResult);
+        when(graphQLEngine.executeQueryAsync(eq(query), eq(operationName), anyMap(), anyMap()))
+                .thenReturn(CompletableFuture.completedFuture(expectedExecutionResult));
 
         // Asserts
-        Response response = graphQLEndpoint.getGraphQLRequest(query, operationName, null);
+        Response response = getResponse(asyncResponse -> graphQLEndpoint
+                .getGraphQLRequest(query, operationName, null, null, null, null, null, null, null, asyncResponse));
         verify(graphQLEngine, times(1))
-                .executeQuery(eq(query), eq(operationName), anyMap());
+                .executeQueryAsync(eq(query), eq(operationName), anyMap(), anyMap());
         assertThat(response, hasStatus(Response.Status.OK));
         assertThat(response, hasEntity());
-        assertEquals(response.getEntity(), expectedOutput);
+        assertEquals(toJson(expectedOutput), getOutput(response));
     }
 
     @Test
@@ -159,16 +273,17 @@ public class GraphQLEndpointTest {
         Map expectedOutput = expectedExecutionResult.toSpecification();
 
         // When / Then
-        when(graphQLEngine.executeQuery(eq(query), eq(null), anyMap()))
-                .thenReturn(expectedExecutionResult);
+        when(graphQLEngine.executeQueryAsync(eq(query), eq(null), anyMap(), anyMap()))
+                .thenReturn(CompletableFuture.completedFuture(expectedExecutionResult));
 
         // Asserts
-        Response response = graphQLEndpoint.getGraphQLRequest(query, null, null);
+        Response response = getResponse(asyncResponse -> graphQLEndpoint
+                .getGraphQLRequest(query, null, null, null, null, null, null, null, null, asyncResponse));
         verify(graphQLEngine, times(1))
-                .executeQuery(eq(query), eq(null), anyMap());
+                .executeQueryAsync(eq(query), eq(null), anyMap(), anyMap());
         assertThat(response, hasStatus(Response.Status.OK));
         assertThat(response, hasEntity());
-        assertEquals(response.getEntity(), expectedOutput);
+        assertEquals(toJson(expectedOutput), getOutput(response));
     }
 
     @Test
@@ -178,16 +293,17 @@ public class GraphQLEndpointTest {
         Map expectedOutput = expectedExecutionResult.toSpecification();
 
         // When / Then
-        when(graphQLEngine.executeQuery(eq(""), eq(null), anyMap()))
-                .thenReturn(expectedExecutionResult);
+        when(graphQLEngine.executeQueryAsync(eq(""), eq(null), anyMap(), anyMap()))
+                .thenReturn(CompletableFuture.completedFuture(expectedExecutionResult));
 
         // Asserts
-        Response response = graphQLEndpoint.getGraphQLRequest(null, null, null);
+        Response response = getResponse(asyncResponse -> graphQLEndpoint
+                .getGraphQLRequest(null, null, null, null, null, null, null, null, null, asyncResponse));
         verify(graphQLEngine, times(1))
-                .executeQuery(eq(""), eq(null), anyMap());
+                .executeQueryAsync(eq(""), eq(null), anyMap(), anyMap());
         assertThat(response, hasStatus(Response.Status.OK));
         assertThat(response, hasEntity());
-        assertEquals(response.getEntity(), expectedOutput);
+        assertEquals(toJson(expectedOutput), getOutput(response));
     }
 
     @Test
@@ -202,16 +318,17 @@ public class GraphQLEndpointTest {
         Map expectedOutput = expectedExecutionResult.toSpecification();
 
         // When / Then
-        when(graphQLEngine.executeQuery(query, operationName, jsonVars))
-                .thenReturn(expectedExecutionResult);
+        when(graphQLEngine.executeQueryAsync(eq(query), eq(operationName), eq(jsonVars), anyMap()))
+                .thenReturn(CompletableFuture.completedFuture(expectedExecutionResult));
 
         // Asserts
-        Response response = graphQLEndpoint.postGraphQLRequestAsJson(body);
+        Response response = getResponse(asyncResponse -> graphQLEndpoint
+                .postGraphQLRequestAsJson(body, null, null, null, null, asyncResponse));
         verify(graphQLEngine, times(1))
-                .executeQuery(query, operationName, jsonVars);
+                .executeQueryAsync(eq(query), eq(operationName), eq(jsonVars), anyMap());
         assertThat(response, hasStatus(Response.Status.OK));
         assertThat(response, hasEntity());
-        assertEquals(response.getEntity(), expectedOutput);
+        assertEquals(toJson(expectedOutput), getOutput(response));
     }
 
     @Test
@@ -225,16 +342,17 @@ public class GraphQLEndpointTest {
         Map expectedOutput = expectedExecutionResult.toSpecification();
 
         // When / Then
-        when(graphQLEngine.executeQuery(query, null, jsonVars))
-                .thenReturn(expectedExecutionResult);
+        when(graphQLEngine.executeQueryAsync(eq(query), eq(null), eq(jsonVars), anyMap()))
+                .thenReturn(CompletableFuture.completedFuture(expectedExecutionResult));
 
         // Asserts
-        Response response = graphQLEndpoint.postGraphQLRequestAsJson(body);
+        Response response = getResponse(asyncResponse -> graphQLEndpoint
+                .postGraphQLRequestAsJson(body, null, null, null, null, asyncResponse));
         verify(graphQLEngine, times(1))
-                .executeQuery(query, null, jsonVars);
+                .executeQueryAsync(eq(query), eq(null), eq(jsonVars), anyMap());
         assertThat(response, hasStatus(Response.Status.OK));
         assertThat(response, hasEntity());
-        assertEquals(response.getEntity(), expectedOutput);
+        assertEquals(toJson(expectedOutput), getOutput(response));
     }
 
     @Test
@@ -248,16 +366,17 @@ public class GraphQLEndpointTest {
         Map expectedOutput = expectedExecutionResult.toSpecification();
 
         // When / Then
-        when(graphQLEngine.executeQuery(eq(query), eq(operationName), anyMap()))
-                .thenReturn(expectedExecutionResult);
+        when(graphQLEngine.executeQueryAsync(eq(query), eq(operationName), anyMap(), anyMap()))
+                .thenReturn(CompletableFuture.completedFuture(expectedExecutionResult));
 
         // Asserts
-        Response response = graphQLEndpoint.postGraphQLRequestAsJson(body);
+        Response response = getResponse(asyncResponse -> graphQLEndpoint
+                .postGraphQLRequestAsJson(body, null, null, null, null, asyncResponse));
         verify(graphQLEngine, times(1))
-                .executeQuery(eq(query), eq(operationName), anyMap());
+                .executeQueryAsync(eq(query), eq(operationName), anyMap(), anyMap());
         assertThat(response, hasStatus(Response.Status.OK));
         assertThat(response, hasEntity());
-        assertEquals(response.getEntity(), expectedOutput);
+        assertEquals(toJson(expectedOutput), getOutput(response));
     }
 
     @Test
@@ -270,16 +389,17 @@ public class GraphQLEndpointTest {
         Map expectedOutput = expectedExecutionResult.toSpecification();
 
         // When / Then
-        when(graphQLEngine.executeQuery(eq(query), eq(null), anyMap()))
-                .thenReturn(expectedExecutionResult);
+        when(graphQLEngine.executeQueryAsync(eq(query), eq(null), anyMap(), anyMap()))
+                .thenReturn(CompletableFuture.completedFuture(expectedExecutionResult));
 
         // Asserts
-        Response response = graphQLEndpoint.postGraphQLRequestAsJson(body);
+        Response response = getResponse(asyncResponse -> graphQLEndpoint
+                .postGraphQLRequestAsJson(body, null, null, null, null, asyncResponse));
         verify(graphQLEngine, times(1))
-                .executeQuery(eq(query), eq(null), anyMap());
+                .executeQueryAsync(eq(query), eq(null), anyMap(), anyMap());
         assertThat(response, hasStatus(Response.Status.OK));
         assertThat(response, hasEntity());
-        assertEquals(response.getEntity(), expectedOutput);
+        assertEquals(toJson(expectedOutput), getOutput(response));
     }
 
     @Test
@@ -289,16 +409,17 @@ public class GraphQLEndpointTest {
         Map expectedOutput = expectedExecutionResult.toSpecification();
 
         // When / Then
-        when(graphQLEngine.executeQuery(eq(""), eq(null), anyMap()))
-                .thenReturn(expectedExecutionResult);
+        when(graphQLEngine.executeQueryAsync(eq(""), eq(null), anyMap(), anyMap()))
+                .thenReturn(CompletableFuture.completedFuture(expectedExecutionResult));
 
         // Asserts
-        Response response = graphQLEndpoint.postGraphQLRequestAsJson(new HashMap<>());
+        Response response = getResponse(asyncResponse -> graphQLEndpoint
+                .postGraphQLRequestAsJson(new HashMap<>(), null, null, null, null, asyncResponse));
         verify(graphQLEngine, times(1))
-                .executeQuery(eq(""), eq(null), anyMap());
+                .executeQueryAsync(eq(""), eq(null), anyMap(), anyMap());
         assertThat(response, hasStatus(Response.Status.OK));
         assertThat(response, hasEntity());
-        assertEquals(response.getEntity(), expectedOutput);
+        assertEquals(toJson(expectedOutput), getOutput(response));
     }
 
     @Test
@@ -308,16 +429,17 @@ public class GraphQLEndpointTest {
         Map expectedOutput = expectedExecutionResult.toSpecification();
 
         // When / Then
-        when(graphQLEngine.executeQuery(eq(query)))
-                .thenReturn(expectedExecutionResult);
+        when(graphQLEngine.executeQueryAsync(eq(query), eq(null), anyMap(), anyMap()))
+                .thenReturn(CompletableFuture.completedFuture(expectedExecutionResult));
 
         // Asserts
-        Response response = graphQLEndpoint.postGraphQLRequestAsGraphQLQuery(query);
+        Response response = getResponse(asyncResponse -> graphQLEndpoint
+                .postGraphQLRequestAsGraphQLQuery(query, null, null, null, null, asyncResponse));
         verify(graphQLEngine, times(1))
-                .executeQuery(eq(query));
+                .executeQueryAsync(eq(query), eq(null), anyMap(), anyMap());
         assertThat(response, hasStatus(Response.Status.OK));
         assertThat(response, hasEntity());
-        assertEquals(response.getEntity(), expectedOutput);
+        assertEquals(toJson(expectedOutput), getOutput(response));
     }
 
     @Test
@@ -327,15 +449,529 @@ public class GraphQLEndpointTest {
         Map expectedOutput = expectedExecutionResult.toSpecification();
 
         // When / Then
-        when(graphQLEngine.executeQuery(eq("")))
-                .thenReturn(expectedExecutionResult);
+        when(graphQLEngine.executeQueryAsync(eq(""), eq(null), anyMap(), anyMap()))
+                .thenReturn(CompletableFuture.completedFuture(expectedExecutionResult));
 
         // Asserts
-        Response response = graphQLEndpoint.postGraphQLRequestAsGraphQLQuery(null);
+        Response response = getResponse(asyncResponse -> graphQLEndpoint
+                .postGraphQLRequestAsGraphQLQuery(null, null, null, null, null, asyncResponse));
         verify(graphQLEngine, times(1))
-                .executeQuery(eq(""));
+                .executeQueryAsync(eq(""), eq(null), anyMap(), anyMap());
         assertThat(response, hasStatus(Response.Status.OK));
         assertThat(response, hasEntity());
-        assertEquals(response.getEntity(), expectedOutput);
+        assertEquals(toJson(expectedOutput), getOutput(response));
+    }
+
+    @Test
+    public void getGraphQLRequest_with_persisted_query_should_return_cacheable_data() {
+        // Given
+        String extensions = "{\"persistedQuery\":{\"version\":1,\"sha256Hash\":\"abc\"}}";
+        ExecutionResult expectedExecutionResult = new ExecutionResultImpl(expectedOkResult, null);
+        Map expectedOutput = expectedExecutionResult.toSpecification();
+
+        // When / Then
+        when(persistedQueryStore.resolve(eq(""), anyMap()))
+                .thenReturn(new PersistedQuery("abc", query, true));
+        when(graphQLEngine.executeQueryAsync(eq(query), eq(null), anyMap(), anyMap()))
+                .thenReturn(CompletableFuture.completedFuture(expectedExecutionResult));
+
+        // Asserts
+        Response response = getResponse(asyncResponse -> graphQLEndpoint
+                .getGraphQLRequest(null, null, null, extensions, null, null, null, null, null, asyncResponse));
+        verify(graphQLEngine, times(1))
+                .executeQueryAsync(eq(query), eq(null), anyMap(), anyMap());
+        assertThat(response, hasStatus(Response.Status.OK));
+        assertEquals(toJson(expectedOutput), getOutput(response));
+        assertNotNull(response.getHeaderString(HttpHeaders.ETAG));
+        assertEquals("public, max-age=60", response.getHeaderString(HttpHeaders.CACHE_CONTROL));
+    }
+
+    @Test
+    public void getGraphQLRequest_with_persisted_query_and_signed_in_user_should_return_private_data() {
+        // Given
+        String extensions = "{\"persistedQuery\":{\"version\":1,\"sha256Hash\":\"abc\"}}";
+        ExecutionResult expectedExecutionResult = new ExecutionResultImpl(expectedOkResult, null);
+
+        // When / Then
+        when(permissionChecker.isSignedIn())
+                .thenReturn(true);
+        when(persistedQueryStore.resolve(eq(""), anyMap()))
+                .thenReturn(new PersistedQuery("abc", query, true));
+        when(graphQLEngine.executeQueryAsync(eq(query), eq(null), anyMap(), anyMap()))
+                .thenReturn(CompletableFuture.completedFuture(expectedExecutionResult));
+
+        // Asserts
+        Response response = getResponse(asyncResponse -> graphQLEndpoint
+                .getGraphQLRequest(null, null, null, extensions, null, null, null, null, null, asyncResponse));
+        assertThat(response, hasStatus(Response.Status.OK));
+        assertEquals("private, max-age=60", response.getHeaderString(HttpHeaders.CACHE_CONTROL));
+    }
+
+    @Test
+    public void getGraphQLRequest_with_matching_etag_should_return_not_modified() {
+        // Given
+        String extensions = "{\"persistedQuery\":{\"version\":1,\"sha256Hash\":\"abc\"}}";
+        ExecutionResult expectedExecutionResult = new ExecutionResultImpl(expectedOkResult, null);
+
+        // When / Then
+        when(persistedQueryStore.resolve(eq(""), anyMap()))
+                .thenReturn(new PersistedQuery("abc", query, true));
+        when(graphQLEngine.executeQueryAsync(eq(query), eq(null), anyMap(), anyMap()))
+                .thenReturn(CompletableFuture.completedFuture(expectedExecutionResult));
+        String entityTag = getResponse(asyncResponse -> graphQLEndpoint
+                .getGraphQLRequest(null, null, null, extensions, null, null, null, null, null, asyncResponse))
+                .getHeaderString(HttpHeaders.ETAG);
+
+        // Asserts
+        Response response = getResponse(asyncResponse -> graphQLEndpoint
+                .getGraphQLRequest(null, null, null, extensions, entityTag, null, null, null, null, asyncResponse));
+        assertThat(response, hasStatus(Response.Status.NOT_MODIFIED));
+        assertEquals(entityTag, response.getHeaderString(HttpHeaders.ETAG));
+    }
+
+    @Test
+    public void getGraphQLRequest_with_persisted_mutation_should_not_be_cacheable() {
+        // Given
+        String extensions = "{\"persistedQuery\":{\"version\":1,\"sha256Hash\":\"abc\"}}";
+        ExecutionResult expectedExecutionResult = new ExecutionResultImpl(expectedOkResult, null);
+
+        // When / Then
+        when(persistedQueryStore.resolve(eq(""), anyMap()))
+                .thenReturn(new PersistedQuery("abc", query, false));
+        when(graphQLEngine.executeQueryAsync(eq(query), eq(null), anyMap(), anyMap()))
+                .thenReturn(CompletableFuture.completedFuture(expectedExecutionResult));
+
+        // Asserts
+        Response response = getResponse(asyncResponse -> graphQLEndpoint
+                .getGraphQLRequest(null, null, null, extensions, null, null, null, null, null, asyncResponse));
+        assertThat(response, hasStatus(Response.Status.OK));
+        assertNull(response.getHeaderString(HttpHeaders.ETAG));
+        assertNull(response.getHeaderString(HttpHeaders.CACHE_CONTROL));
+    }
+
+    @Test
+    public void getGraphQLRequest_with_invalid_extensions_should_return_bad_request() {
+        // Given
+        // Nothing
+
+        // When / Then
+        // Nothing
+
+        // Asserts
+        Response response = getResponse(asyncResponse -> graphQLEndpoint
+                .getGraphQLRequest(query, null, null, "{invalid", null, null, null, null, null, asyncResponse));
+        verify(graphQLEngine, never())
+                .executeQueryAsync(anyString(), anyString(), anyMap(), anyMap());
+        assertThat(response, hasStatus(Response.Status.BAD_REQUEST));
+    }
+
+    @Test
+    public void postGraphQLRequestAsJson_with_scalar_body_should_return_bad_request_with_errors() throws Exception {
+        // Given
+        Object body = "{ testQuery { status } }";
+
+        // When / Then
+        // Nothing
+
+        // Asserts
+        Response response = getResponse(asyncResponse -> graphQLEndpoint
+                .postGraphQLRequestAsJson(body, null, null, null, null, asyncResponse));
+        verify(graphQLEngine, never())
+                .executeQueryAsync(anyString(), anyString(), anyMap(), anyMap());
+        assertThat(response, hasStatus(Response.Status.BAD_REQUEST));
+        Map output = objectMapper.readValue(getOutput(response), Map.class);
+        assertEquals("The request body is not an object",
+                ((Map) ((List) output.get("errors")).get(0)).get("message"));
+    }
+
+    @Test
+    public void postGraphQLRequestAsJson_with_invalid_extensions_should_return_bad_request_with_errors() throws Exception {
+        // Given
+        Map<String, Object> body = new HashMap<>();
+        body.put(Constants.PARAM_QUERY, query);
+        body.put(Constants.PARAM_EXTENSIONS, "persistedQuery");
+
+        // When / Then
+        // Nothing
+
+        // Asserts
+        Response response = getResponse(asyncResponse -> graphQLEndpoint
+                .postGraphQLRequestAsJson(body, null, null, null, null, asyncResponse));
+        verify(graphQLEngine, never())
+                .executeQueryAsync(anyString(), anyString(), anyMap(), anyMap());
+        assertThat(response, hasStatus(Response.Status.BAD_REQUEST));
+        Map output = objectMapper.readValue(getOutput(response), Map.class);
+        assertEquals("The 'extensions' parameter has an invalid type",
+                ((Map) ((List) output.get("errors")).get(0)).get("message"));
+    }
+
+    @Test
+    public void postGraphQLRequestAsJson_with_batch_and_invalid_variables_should_return_bad_request() {
+        // Given
+        Map<String, Object> operation = new HashMap<>();
+        operation.put(Constants.PARAM_QUERY, query);
+        operation.put(Constants.PARAM_VARIABLES, Arrays.asList(1, 2));
+
+        // When / Then
+        // Nothing
+
+        // Asserts
+        Response response = getResponse(asyncResponse -> graphQLEndpoint
+                .postGraphQLRequestAsJson(Collections.singletonList(operation), null, null, null, null, asyncResponse));
+        verify(graphQLEngine, never())
+                .executeQueriesAsync(anyList());
+        assertThat(response, hasStatus(Response.Status.BAD_REQUEST));
+    }
+
+    @Test
+    public void postGraphQLRequestAsJson_with_unknown_persisted_query_should_return_ok_with_errors() throws Exception {
+        // Given
+        Map<String, Object> body = new HashMap<>();
+        body.put(Constants.PARAM_EXTENSIONS, Collections.singletonMap("persistedQuery",
+                Collections.singletonMap("sha256Hash", "abc")));
+
+        // When / Then
+        when(persistedQueryStore.resolve(anyString(), anyMap()))
+                .thenThrow(new PersistedQueryException(PersistedQueryException.PERSISTED_QUERY_NOT_FOUND,
+                        "PersistedQueryNotFound"));
+
+        // Asserts
+        Response response = getResponse(asyncResponse -> graphQLEndpoint
+                .postGraphQLRequestAsJson(body, null, null, null, null, asyncResponse));
+        verify(graphQLEngine, never())
+                .executeQueryAsync(anyString(), anyString(), anyMap(), anyMap());
+        assertThat(response, hasStatus(Response.Status.OK));
+        Map<String, Object> output = objectMapper.readValue(getOutput(response), Map.class);
+        List<Map<String, Object>> errors = (List<Map<String, Object>>) output.get("errors");
+        assertEquals("PersistedQueryNotFound", errors.get(0).get("message"));
+        assertEquals(Collections.singletonMap("code", PersistedQueryException.PERSISTED_QUERY_NOT_FOUND),
+                errors.get(0).get("extensions"));
+    }
+
+    @Test
+    public void postGraphQLRequestAsJson_with_headers_should_pass_them_in_context() {
+        // Given
+        Map<String, Object> body = new HashMap<>();
+        body.put(Constants.PARAM_QUERY, query);
+        ExecutionResult expectedExecutionResult = new ExecutionResultImpl(expectedOkResult, null);
+        ArgumentCaptor<Map> context = ArgumentCaptor.forClass(Map.class);
+
+        // When / Then
+        when(graphQLEngine.executeQueryAsync(eq(query), eq(null), anyMap(), anyMap()))
+                .thenReturn(CompletableFuture.completedFuture(expectedExecutionResult));
+
+        // Asserts
+        Response response = getResponse(asyncResponse -> graphQLEndpoint
+                .postGraphQLRequestAsJson(body, "true", "Bearer token", null, null, asyncResponse));
+        verify(graphQLEngine, times(1))
+                .executeQueryAsync(eq(query), eq(null), anyMap(), context.capture());
+        assertThat(response, hasStatus(Response.Status.OK));
+        assertEquals(Boolean.TRUE, context.getValue().get(Constants.CONTEXT_TRACING));
+        assertEquals("token", context.getValue().get(Constants.CONTEXT_ACCESS_TOKEN));
+    }
+
+    @Test
+    public void postGraphQLRequestAsJson_with_gzip_enabled_should_compress_output() throws Exception {
+        // Given
+        Map<String, Object> body = new HashMap<>();
+        body.put(Constants.PARAM_QUERY, query);
+        ExecutionResult expectedExecutionResult = new ExecutionResultImpl(expectedOkResult, null);
+        GraphQLEndpointConfiguration configuration = mock(GraphQLEndpointConfiguration.class);
+        when(configuration.gzipEnabled())
+                .thenReturn(true);
+        graphQLEndpoint.configure(configuration);
+
+        // When / Then
+        when(graphQLEngine.executeQueryAsync(eq(query), eq(null), anyMap(), anyMap()))
+                .thenReturn(CompletableFuture.completedFuture(expectedExecutionResult));
+
+        // Asserts
+        Response response = getResponse(asyncResponse -> graphQLEndpoint
+                .postGraphQLRequestAsJson(body, null, null, "gzip, deflate", null, asyncResponse));
+        assertThat(response, hasStatus(Response.Status.OK));
+        assertEquals("gzip", response.getHeaderString(HttpHeaders.CONTENT_ENCODING));
+        GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(getOutputBytes(response)));
+        assertEquals(toJson(expectedExecutionResult.toSpecification()),
+                new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)).readLine());
+    }
+
+    @Test
+    public void postGraphQLRequestAsJson_should_resume_when_execution_completes() {
+        // Given
+        Map<String, Object> body = new HashMap<>();
+        body.put(Constants.PARAM_QUERY, query);
+        ExecutionResult expectedExecutionResult = new ExecutionResultImpl(expectedOkResult, null);
+        CompletableFuture<ExecutionResult> execution = new CompletableFuture<>();
+        AsyncResponse asyncResponse = mock(AsyncResponse.class);
+
+        // When / Then
+        when(graphQLEngine.executeQueryAsync(eq(query), eq(null), anyMap(), anyMap()))
+                .thenReturn(execution);
+
+        // Asserts
+        graphQLEndpoint.postGraphQLRequestAsJson(body, null, null, null, null, asyncResponse);
+        verify(asyncResponse, never()).resume(any(Response.class));
+        execution.complete(expectedExecutionResult);
+        ArgumentCaptor<Response> response = ArgumentCaptor.forClass(Response.class);
+        verify(asyncResponse, times(1)).resume(response.capture());
+        assertEquals(toJson(expectedExecutionResult.toSpecification()), getOutput(response.getValue()));
+    }
+
+    @Test
+    public void postGraphQLRequestAsJson_with_timeout_should_return_service_unavailable() {
+        // Given
+        Map<String, Object> body = new HashMap<>();
+        body.put(Constants.PARAM_QUERY, query);
+        GraphQLEndpointConfiguration configuration = mock(GraphQLEndpointConfiguration.class);
+        when(configuration.requestTimeoutMillis())
+                .thenReturn(1000L);
+        graphQLEndpoint.configure(configuration);
+        AsyncResponse asyncResponse = mock(AsyncResponse.class);
+
+        // When / Then
+        when(graphQLEngine.executeQueryAsync(eq(query), eq(null), anyMap(), anyMap()))
+                .thenReturn(new CompletableFuture<>());
+
+        // Asserts
+        graphQLEndpoint.postGraphQLRequestAsJson(body, null, null, null, null, asyncResponse);
+        verify(asyncResponse, times(1)).setTimeout(1000L, TimeUnit.MILLISECONDS);
+        ArgumentCaptor<TimeoutHandler> timeoutHandler = ArgumentCaptor.forClass(TimeoutHandler.class);
+        verify(asyncResponse, times(1)).setTimeoutHandler(timeoutHandler.capture());
+        timeoutHandler.getValue().handleTimeout(asyncResponse);
+        ArgumentCaptor<Response> response = ArgumentCaptor.forClass(Response.class);
+        verify(asyncResponse, times(1)).resume(response.capture());
+        assertThat(response.getValue(), hasStatus(Response.Status.SERVICE_UNAVAILABLE));
+    }
+
+    @Test
+    public void postGraphQLRequestAsJson_with_failed_execution_should_resume_with_exception() {
+        // Given
+        Map<String, Object> body = new HashMap<>();
+        body.put(Constants.PARAM_QUERY, query);
+        CompletableFuture<ExecutionResult> execution = new CompletableFuture<>();
+        execution.completeExceptionally(new IllegalStateException("Failure"));
+        AsyncResponse asyncResponse = mock(AsyncResponse.class);
+
+        // When / Then
+        when(graphQLEngine.executeQueryAsync(eq(query), eq(null), anyMap(), anyMap()))
+                .thenReturn(execution);
+
+        // Asserts
+        graphQLEndpoint.postGraphQLRequestAsJson(body, null, null, null, null, asyncResponse);
+        verify(asyncResponse, times(1)).resume(any(Throwable.class));
+        verify(asyncResponse, never()).resume(any(Response.class));
+    }
+
+    private void configureMaximumBatchOperations(int maximumBatchOperations) {
+        GraphQLEndpointConfiguration configuration = mock(GraphQLEndpointConfiguration.class);
+        when(configuration.maximumBatchOperations())
+                .thenReturn(maximumBatchOperations);
+        graphQLEndpoint.configure(configuration);
+    }
+
+    @Test
+    public void postGraphQLRequestAsJson_with_batch_should_execute_operations_together() throws Exception {
+        // Given
+        configureMaximumBatchOperations(20);
+        Map<String, Object> firstOperation = new HashMap<>();
+        firstOperation.put(Constants.PARAM_QUERY, query);
+        firstOperation.put(Constants.PARAM_OPERATION_NAME, operationName);
+        Map<String, Object> secondOperation = new HashMap<>();
+        secondOperation.put(Constants.PARAM_QUERY, "{ me { name } }");
+        secondOperation.put(Constants.PARAM_VARIABLES, jsonVars);
+        ExecutionResult firstResult = new ExecutionResultImpl(expectedOkResult, null);
+        ExecutionResult secondResult = new ExecutionResultImpl(null, Collections.singletonList(invalidSyntaxError));
+        ArgumentCaptor<List> executionInputs = ArgumentCaptor.forClass(List.class);
+
+        // When / Then
+        when(graphQLEngine.executeQueriesAsync(anyList()))
+                .thenReturn(CompletableFuture.completedFuture(Arrays.asList(firstResult, secondResult)));
+
+        // Asserts
+        Response response = getResponse(asyncResponse -> graphQLEndpoint
+                .postGraphQLRequestAsJson(Arrays.asList(firstOperation, secondOperation), null, null, null, null, asyncResponse));
+        verify(graphQLEngine, times(1))
+                .executeQueriesAsync(executionInputs.capture());
+        verify(graphQLEngine, never())
+                .executeQueryAsync(anyString(), anyString(), anyMap(), anyMap());
+        List<ExecutionInput> inputs = executionInputs.getValue();
+        assertEquals(2, inputs.size());
+        assertEquals(query, inputs.get(0).getQuery());
+        assertEquals(operationName, inputs.get(0).getOperationName());
+        assertEquals("{ me { name } }", inputs.get(1).getQuery());
+        assertThat(response, hasStatus(Response.Status.OK));
+        assertEquals(toJson(Arrays.asList(firstResult.toSpecification(), secondResult.toSpecification())),
+                getOutput(response));
+    }
+
+    @Test
+    public void postGraphQLRequestAsJson_with_batch_and_unknown_persisted_query_should_keep_its_place() throws Exception {
+        // Given
+        configureMaximumBatchOperations(20);
+        Map<String, Object> persistedOperation = new HashMap<>();
+        persistedOperation.put(Constants.PARAM_EXTENSIONS, Collections.singletonMap("persistedQuery",
+                Collections.singletonMap("sha256Hash", "abc")));
+        Map<String, Object> operation = new HashMap<>();
+        operation.put(Constants.PARAM_QUERY, query);
+        ExecutionResult executionResult = new ExecutionResultImpl(expectedOkResult, null);
+
+        // When / Then
+        when(persistedQueryStore.resolve(eq(""), anyMap()))
+                .thenThrow(new PersistedQueryException(PersistedQueryException.PERSISTED_QUERY_NOT_FOUND,
+                        "PersistedQueryNotFound"));
+        when(graphQLEngine.executeQueriesAsync(anyList()))
+                .thenReturn(CompletableFuture.completedFuture(Collections.singletonList(executionResult)));
+
+        // Asserts
+        Response response = getResponse(asyncResponse -> graphQLEndpoint
+                .postGraphQLRequestAsJson(Arrays.asList(persistedOperation, operation), null, null, null, null, asyncResponse));
+        List<Map<String, Object>> output = objectMapper.readValue(getOutput(response), List.class);
+        assertEquals(2, output.size());
+        List<Map<String, Object>> errors = (List<Map<String, Object>>) output.get(0).get("errors");
+        assertEquals("PersistedQueryNotFound", errors.get(0).get("message"));
+        assertEquals(toJson(executionResult.toSpecification()), toJson(output.get(1)));
+    }
+
+    @Test
+    public void postGraphQLRequestAsJson_with_too_many_operations_should_return_bad_request() {
+        // Given
+        configureMaximumBatchOperations(1);
+        Map<String, Object> operation = new HashMap<>();
+        operation.put(Constants.PARAM_QUERY, query);
+
+        // When / Then
+        Response response = getResponse(asyncResponse -> graphQLEndpoint
+                .postGraphQLRequestAsJson(Arrays.asList(operation, operation), null, null, null, null, asyncResponse));
+
+        // Asserts
+        verify(graphQLEngine, never())
+                .executeQueriesAsync(anyList());
+        assertThat(response, hasStatus(Response.Status.BAD_REQUEST));
+    }
+
+    private ExecutionResult newDeferredExecutionResult() {
+        SingleSubscriberPublisher<DeferredExecutionResult> publisher = new SingleSubscriberPublisher<>();
+        publisher.offer(new DeferredExecutionResult(Arrays.asList("testQuery", "status"),
+                new ExecutionResultImpl("OK!", null)));
+        publisher.noMoreData();
+        Map<Object, Object> extensions = new HashMap<>();
+        extensions.put(GraphQL.DEFERRED_RESULTS, publisher);
+        return new ExecutionResultImpl(Collections.singletonMap("testQuery", new HashMap<>()), null, extensions);
+    }
+
+    @Test
+    public void postGraphQLRequestAsJson_with_defer_and_multipart_accepted_should_stream_parts() {
+        // Given
+        Map<String, Object> body = new HashMap<>();
+        body.put(Constants.PARAM_QUERY, "{ testQuery { status @defer } }");
+
+        // When / Then
+        when(graphQLEngine.executeQueryAsync(anyString(), anyString(), anyMap(), anyMap()))
+                .thenReturn(CompletableFuture.completedFuture(newDeferredExecutionResult()));
+
+        // Asserts
+        Response response = getResponse(asyncResponse -> graphQLEndpoint
+                .postGraphQLRequestAsJson(body, null, null, "gzip", "multipart/mixed, application/json", asyncResponse));
+        assertThat(response, hasStatus(Response.Status.OK));
+        assertEquals(MediaType.valueOf(MultipartStreamingOutput.MEDIA_TYPE), response.getMediaType());
+        assertNull(response.getHeaderString(HttpHeaders.CONTENT_ENCODING));
+        String output = getOutput(response);
+        assertTrue(output.contains("{\"data\":{\"testQuery\":{}},\"hasNext\":true}"));
+        assertTrue(output.contains("{\"incremental\":[{\"data\":{\"status\":\"OK!\"},\"path\":[\"testQuery\"]}],\"hasNext\":true}"));
+        assertTrue(output.endsWith("{\"hasNext\":false}\r\n-----\r\n"));
+    }
+
+    @Test
+    public void postGraphQLRequestAsJson_with_defer_and_json_accepted_should_merge_deferred_fields() {
+        // Given
+        Map<String, Object> body = new HashMap<>();
+        body.put(Constants.PARAM_QUERY, "{ testQuery { status @defer } }");
+
+        // When / Then
+        when(graphQLEngine.executeQueryAsync(anyString(), anyString(), anyMap(), anyMap()))
+                .thenReturn(CompletableFuture.completedFuture(newDeferredExecutionResult()));
+
+        // Asserts
+        Response response = getResponse(asyncResponse -> graphQLEndpoint
+                .postGraphQLRequestAsJson(body, null, null, null, "application/json", asyncResponse));
+        assertThat(response, hasStatus(Response.Status.OK));
+        assertEquals("{\"data\":{\"testQuery\":{\"status\":\"OK!\"}}}", getOutput(response));
+    }
+
+    private void subscribe(String subscription, String jsonVars, SseEventSink eventSink) {
+        Sse sse = mock(Sse.class);
+        when(sse.newEventBuilder())
+                .thenAnswer(invocation -> mock(OutboundSseEvent.Builder.class, RETURNS_DEEP_STUBS));
+        graphQLEndpoint.getGraphQLSubscription(subscription, null, jsonVars, null, null,
+                mock(HttpServletResponse.class), eventSink, sse);
+    }
+
+    @Test
+    public void getGraphQLSubscription_should_send_server_sent_events() {
+        // Given
+        String subscription = "subscription { userChanged(companyId: 20116) { type primaryKey } }";
+        SingleSubscriberPublisher<ExecutionResult> events = new SingleSubscriberPublisher<>();
+        events.offer(new ExecutionResultImpl(Collections.singletonMap("userChanged",
+                Collections.singletonMap("primaryKey", 20160L)), null));
+        events.noMoreData();
+        SseEventSink eventSink = mock(SseEventSink.class);
+        when(eventSink.send(any(OutboundSseEvent.class)))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(null));
+
+        // When / Then
+        when(graphQLEngine.executeQueryAsync(eq(subscription), eq(null), anyMap(), anyMap()))
+                .thenReturn(CompletableFuture.completedFuture(new ExecutionResultImpl(events, null)));
+
+        // Asserts
+        subscribe(subscription, null, eventSink);
+        // The next event, then the complete event
+        verify(eventSink, times(2)).send(any(OutboundSseEvent.class));
+        verify(eventSink, times(1)).close();
+    }
+
+    @Test
+    public void getGraphQLSubscription_with_invalid_vars_should_return_bad_request() {
+        // Given
+        String invalidJsonVars = "{ invalid json";
+
+        // When / Then
+        // Nothing
+
+        // Asserts
+        try {
+            subscribe(query, invalidJsonVars, mock(SseEventSink.class));
+            fail();
+        } catch (BadRequestException e) {
+            assertThat(e.getResponse(), hasStatus(Response.Status.BAD_REQUEST));
+        }
+        verify(graphQLEngine, never()).executeQueryAsync(anyString(), anyString(), anyMap(), anyMap());
+    }
+
+    @Test
+    public void getGraphQLSubscription_over_maximum_subscriptions_should_return_service_unavailable() {
+        // Given
+        GraphQLEndpointConfiguration configuration = mock(GraphQLEndpointConfiguration.class);
+        when(configuration.maximumSubscriptions())
+                .thenReturn(1);
+        graphQLEndpoint.configure(configuration);
+        String subscription = "subscription { userChanged(companyId: 20116) { type primaryKey } }";
+        SseEventSink eventSink = mock(SseEventSink.class);
+
+        // When / Then
+        when(graphQLEngine.executeQueryAsync(eq(subscription), eq(null), anyMap(), anyMap()))
+                .thenReturn(CompletableFuture.completedFuture(
+                        new ExecutionResultImpl(new SingleSubscriberPublisher<ExecutionResult>(), null)));
+        subscribe(subscription, null, eventSink);
+
+        // Asserts
+        try {
+            subscribe(subscription, null, mock(SseEventSink.class));
+            fail();
+        } catch (ServiceUnavailableException e) {
+            assertThat(e.getResponse(), hasStatus(Response.Status.SERVICE_UNAVAILABLE));
+            assertEquals("5", e.getResponse().getHeaderString(HttpHeaders.RETRY_AFTER));
+        }
+        verify(graphQLEngine, times(1)).executeQueryAsync(eq(subscription), eq(null), anyMap(), anyMap());
+        verify(eventSink, never()).close();
     }
 }
@@ -0,0 +1,86 @@
+package fr.sedona.liferay.graphql.cache;
+
+import fr.sedona.liferay.graphql.loaders.GroupBatchLoader;
+import fr.sedona.liferay.graphql.loaders.UserBatchLoader;
+import graphql.schema.DataFetchingEnvironment;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test suite for {@link CountCache}
+ */
+public class CountCacheTest {
+    private CountCache countCache;
+    private DataFetchingEnvironment environment;
+    private AtomicInteger countQueries;
+
+    @Before
+    public void setUp() {
+        countCache = new CountCache();
+        environment = mock(DataFetchingEnvironment.class);
+        countQueries = new AtomicInteger();
+    }
+
+    private long count() {
+        return 100L + countQueries.incrementAndGet();
+    }
+
+    @Test
+    public void getCount_should_only_count_once_per_filter() {
+        // When
+        long firstCount = countCache.getCount(UserBatchLoader.KEY, environment, this::count);
+        long secondCount = countCache.getCount(UserBatchLoader.KEY, environment, this::count);
+
+        // Then
+        assertEquals(101L, firstCount);
+        assertEquals(101L, secondCount);
+        assertEquals(1, countQueries.get());
+        assertEquals(1L, countCache.getStatistics(UserBatchLoader.KEY).hitCount());
+    }
+
+    @Test
+    public void getCount_should_count_each_filter() {
+        // Given
+        countCache.getCount(UserBatchLoader.KEY, environment, this::count);
+        when(environment.getArgument("filter"))
+                .thenReturn(Collections.singletonMap("groupId", Collections.singletonMap("eq", 20143L)));
+
+        // When
+        long filteredCount = countCache.getCount(UserBatchLoader.KEY, environment, this::count);
+
+        // Then
+        assertEquals(102L, filteredCount);
+        assertEquals(2, countQueries.get());
+    }
+
+    @Test
+    public void evictAll_should_only_evict_counts_of_the_type() {
+        // Given
+        countCache.getCount(UserBatchLoader.KEY, environment, this::count);
+        countCache.getCount(GroupBatchLoader.KEY, environment, this::count);
+
+        // When
+        countCache.evictAll(UserBatchLoader.KEY);
+
+        // Then
+        assertEquals(103L, countCache.getCount(UserBatchLoader.KEY, environment, this::count));
+        assertEquals(102L, countCache.getCount(GroupBatchLoader.KEY, environment, this::count));
+        assertEquals(3, countQueries.get());
+    }
+
+    @Test
+    public void evictAll_with_unknown_key_should_do_nothing() {
+        // When
+        countCache.evictAll("unknown");
+
+        // Then
+        assertEquals(0L, countCache.getStatistics("unknown").requestCount());
+    }
+}
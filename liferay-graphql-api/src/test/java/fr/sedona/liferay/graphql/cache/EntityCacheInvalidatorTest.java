@@ -0,0 +1,116 @@
+package fr.sedona.liferay.graphql.cache;
+
+import com.liferay.portal.kernel.cluster.ClusterExecutorUtil;
+import com.liferay.portal.kernel.cluster.ClusterRequest;
+import fr.sedona.liferay.graphql.loaders.UserBatchLoader;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.core.classloader.annotations.SuppressStaticInitializationFor;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.powermock.api.mockito.PowerMockito.mockStatic;
+import static org.powermock.api.mockito.PowerMockito.verifyStatic;
+
+/**
+ * Test suite for {@link EntityCacheInvalidator}
+ */
+@RunWith(PowerMockRunner.class)
+@PrepareForTest(
+        ClusterExecutorUtil.class
+)
+@SuppressStaticInitializationFor("com.liferay.portal.kernel.cluster.ClusterExecutorUtil")
+public class EntityCacheInvalidatorTest {
+    @InjectMocks
+    EntityCacheInvalidator entityCacheInvalidator = new EntityCacheInvalidator();
+
+    @Spy
+    private EntityCache entityCache = new EntityCache();
+
+    @Spy
+    private CountCache countCache = new CountCache();
+
+    @Before
+    public void setUp() {
+        mockStatic(ClusterExecutorUtil.class);
+        entityCacheInvalidator.activateComponent();
+    }
+
+    @After
+    public void tearDown() {
+        entityCacheInvalidator.deactivateComponent();
+    }
+
+    @Test
+    public void invalidate_should_evict_local_entry() {
+        // Given
+        entityCache.getCacheMap(UserBatchLoader.KEY).set(123L, new Object());
+        when(ClusterExecutorUtil.isEnabled())
+                .thenReturn(false);
+
+        // When
+        entityCacheInvalidator.invalidate(UserBatchLoader.KEY, 123L);
+
+        // Then
+        assertFalse(entityCache.getCacheMap(UserBatchLoader.KEY).containsKey(123L));
+        verify(countCache).evictAll(UserBatchLoader.KEY);
+        verifyStatic(org.mockito.Mockito.never());
+        ClusterExecutorUtil.execute(any(ClusterRequest.class));
+    }
+
+    @Test
+    public void invalidate_should_broadcast_eviction_when_cluster_enabled() {
+        // Given
+        ArgumentCaptor<ClusterRequest> captor = ArgumentCaptor.forClass(ClusterRequest.class);
+        when(ClusterExecutorUtil.isEnabled())
+                .thenReturn(true);
+
+        // When
+        entityCacheInvalidator.invalidate(UserBatchLoader.KEY, 123L);
+
+        // Then
+        verifyStatic();
+        ClusterExecutorUtil.execute(captor.capture());
+
+        // Asserts
+        ClusterRequest clusterRequest = captor.getValue();
+        assertTrue(clusterRequest.isFireAndForget());
+        assertTrue(clusterRequest.isSkipLocal());
+        assertTrue(clusterRequest.isMulticast());
+    }
+
+    @Test
+    public void evictLocally_should_evict_entry_of_active_component() {
+        // Given
+        entityCache.getCacheMap(UserBatchLoader.KEY).set(123L, new Object());
+
+        // When
+        EntityCacheInvalidator.evictLocally(UserBatchLoader.KEY, 123L);
+
+        // Then
+        assertFalse(entityCache.getCacheMap(UserBatchLoader.KEY).containsKey(123L));
+        verify(countCache).evictAll(UserBatchLoader.KEY);
+    }
+
+    @Test
+    public void evictLocally_should_do_nothing_when_component_is_inactive() {
+        // Given
+        entityCache.getCacheMap(UserBatchLoader.KEY).set(123L, new Object());
+        entityCacheInvalidator.deactivateComponent();
+
+        // When
+        EntityCacheInvalidator.evictLocally(UserBatchLoader.KEY, 123L);
+
+        // Then
+        assertTrue(entityCache.getCacheMap(UserBatchLoader.KEY).containsKey(123L));
+    }
+}
@@ -0,0 +1,147 @@
+package fr.sedona.liferay.graphql.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import fr.sedona.liferay.graphql.loaders.ClassNameBatchLoader;
+import fr.sedona.liferay.graphql.loaders.GroupBatchLoader;
+import fr.sedona.liferay.graphql.loaders.JournalArticleBatchLoader;
+import fr.sedona.liferay.graphql.loaders.UserBatchLoader;
+import org.dataloader.CacheMap;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test suite for {@link EntityCache}
+ */
+public class EntityCacheTest {
+    private EntityCache entityCache;
+
+    @Before
+    public void setUp() {
+        entityCache = new EntityCache();
+    }
+
+    @Test
+    public void getCacheMap_should_return_stored_value() {
+        // Given
+        Object expectedResult = new Object();
+        CacheMap<Long, Object> cacheMap = entityCache.getCacheMap(UserBatchLoader.KEY);
+
+        // When / Then
+        cacheMap.set(1L, expectedResult);
+
+        // Asserts
+        assertTrue(cacheMap.containsKey(1L));
+        assertSame(expectedResult, cacheMap.get(1L));
+    }
+
+    @Test
+    public void getCacheMap_should_not_share_values_between_partitions() {
+        // Given
+        CacheMap<Long, Object> userCacheMap = entityCache.getCacheMap(UserBatchLoader.KEY);
+        CacheMap<Long, Object> groupCacheMap = entityCache.getCacheMap(GroupBatchLoader.KEY);
+
+        // When / Then
+        userCacheMap.set(123L, new Object());
+
+        // Asserts
+        assertTrue(userCacheMap.containsKey(123L));
+        assertFalse(groupCacheMap.containsKey(123L));
+        assertNull(groupCacheMap.get(123L));
+    }
+
+    @Test
+    public void getCacheMap_should_return_views_on_the_same_partition() {
+        // Given
+        Object expectedResult = new Object();
+        CacheMap<Long, Object> firstCacheMap = entityCache.getCacheMap(UserBatchLoader.KEY);
+        CacheMap<Long, Object> secondCacheMap = entityCache.getCacheMap(UserBatchLoader.KEY);
+
+        // When / Then
+        firstCacheMap.set(1L, expectedResult);
+
+        // Asserts
+        assertSame(expectedResult, secondCacheMap.get(1L));
+    }
+
+    @Test
+    public void evict_should_only_remove_value_from_its_partition() {
+        // Given
+        CacheMap<Long, Object> userCacheMap = entityCache.getCacheMap(UserBatchLoader.KEY);
+        CacheMap<Long, Object> groupCacheMap = entityCache.getCacheMap(GroupBatchLoader.KEY);
+        userCacheMap.set(1L, new Object());
+        groupCacheMap.set(1L, new Object());
+
+        // When / Then
+        entityCache.evict(UserBatchLoader.KEY, 1L);
+
+        // Asserts
+        assertFalse(userCacheMap.containsKey(1L));
+        assertTrue(groupCacheMap.containsKey(1L));
+    }
+
+    @Test
+    public void evict_on_unknown_partition_should_do_nothing() {
+        // Given
+        // Nothing
+
+        // When / Then
+        entityCache.evict("unknown", 1L);
+
+        // Asserts
+        assertEquals(CacheStats.empty(), entityCache.getStatistics("unknown"));
+    }
+
+    @Test
+    public void getStatistics_should_be_recorded_per_partition() {
+        // Given
+        CacheMap<Long, Object> userCacheMap = entityCache.getCacheMap(UserBatchLoader.KEY);
+        CacheMap<Long, Object> groupCacheMap = entityCache.getCacheMap(GroupBatchLoader.KEY);
+        userCacheMap.set(1L, new Object());
+
+        // When / Then
+        userCacheMap.get(1L);
+        userCacheMap.get(2L);
+        groupCacheMap.get(1L);
+
+        // Asserts
+        CacheStats userStatistics = entityCache.getStatistics(UserBatchLoader.KEY);
+        assertEquals(1, userStatistics.hitCount());
+        assertEquals(1, userStatistics.missCount());
+
+        CacheStats groupStatistics = entityCache.getStatistics(GroupBatchLoader.KEY);
+        assertEquals(0, groupStatistics.hitCount());
+        assertEquals(1, groupStatistics.missCount());
+
+        assertEquals(2, entityCache.getStatistics().size());
+    }
+
+    @Test
+    public void containsKey_should_not_be_recorded_in_statistics() {
+        // Given
+        CacheMap<Long, Object> cacheMap = entityCache.getCacheMap(UserBatchLoader.KEY);
+
+        // When / Then
+        cacheMap.containsKey(1L);
+
+        // Asserts
+        assertEquals(0, entityCache.getStatistics(UserBatchLoader.KEY).requestCount());
+    }
+
+    @Test
+    public void getMaximumSize_should_return_partition_budget() {
+        // Given
+        // Nothing
+
+        // When / Then
+        long classNameMaximumSize = entityCache.getMaximumSize(ClassNameBatchLoader.KEY);
+        long journalArticleMaximumSize = entityCache.getMaximumSize(JournalArticleBatchLoader.KEY);
+        long defaultMaximumSize = entityCache.getMaximumSize("unknown");
+
+        // Asserts
+        assertEquals(2_000L, classNameMaximumSize);
+        assertEquals(20_000L, journalArticleMaximumSize);
+        assertEquals(EntityCache.DEFAULT_MAXIMUM_SIZE, defaultMaximumSize);
+    }
+}
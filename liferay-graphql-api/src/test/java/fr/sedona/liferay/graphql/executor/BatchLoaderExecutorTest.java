@@ -0,0 +1,234 @@
+package fr.sedona.liferay.graphql.executor;
+
+import fr.sedona.liferay.graphql.configuration.BatchLoaderExecutorConfiguration;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test suite for {@link BatchLoaderExecutor}
+ */
+public class BatchLoaderExecutorTest {
+    private BatchLoaderExecutor batchLoaderExecutor;
+    private int corePoolSize;
+    private int maximumPoolSize;
+    private int queueCapacity;
+    private boolean virtualThreads;
+
+    @Before
+    public void setUp() {
+        batchLoaderExecutor = new BatchLoaderExecutor();
+        corePoolSize = 8;
+        maximumPoolSize = 32;
+        queueCapacity = 1000;
+        virtualThreads = false;
+    }
+
+    @After
+    public void tearDown() {
+        batchLoaderExecutor.deactivateComponent();
+    }
+
+    @Test
+    public void execute_should_run_task_on_named_thread() throws Exception {
+        // Given
+        batchLoaderExecutor.configure(newConfiguration());
+
+        // When
+        String threadName = CompletableFuture
+                .supplyAsync(() -> Thread.currentThread().getName(), batchLoaderExecutor)
+                .get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertTrue(threadName.startsWith("graphql-batch-loader-"));
+        assertFalse(batchLoaderExecutor.isVirtualThreads());
+    }
+
+    @Test
+    public void execute_should_run_on_caller_thread_when_saturated() throws Exception {
+        // Given
+        corePoolSize = 1;
+        maximumPoolSize = 1;
+        queueCapacity = 1;
+        batchLoaderExecutor.configure(newConfiguration());
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        batchLoaderExecutor.execute(() -> {
+            started.countDown();
+            await(release);
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        batchLoaderExecutor.execute(() -> await(release));
+
+        // When
+        Thread[] runner = new Thread[1];
+        batchLoaderExecutor.execute(() -> runner[0] = Thread.currentThread());
+        release.countDown();
+
+        // Then
+        assertSame(Thread.currentThread(), runner[0]);
+        assertEquals(1L, batchLoaderExecutor.getRejectedCount());
+    }
+
+    @Test
+    public void executeDetached_should_reject_when_saturated() throws Exception {
+        // Given
+        corePoolSize = 1;
+        maximumPoolSize = 1;
+        queueCapacity = 1;
+        batchLoaderExecutor.configure(newConfiguration());
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        batchLoaderExecutor.execute(() -> {
+            started.countDown();
+            await(release);
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        batchLoaderExecutor.execute(() -> await(release));
+
+        // When
+        Thread[] runner = new Thread[1];
+        boolean rejected = false;
+        try {
+            batchLoaderExecutor.executeDetached(() -> runner[0] = Thread.currentThread());
+        } catch (RejectedExecutionException e) {
+            rejected = true;
+        }
+        release.countDown();
+
+        // Then
+        assertTrue(rejected);
+        assertNull(runner[0]);
+        assertEquals(1L, batchLoaderExecutor.getRejectedCount());
+    }
+
+    @Test
+    public void metrics_should_report_pool_state() throws Exception {
+        // Given
+        corePoolSize = 1;
+        maximumPoolSize = 1;
+        batchLoaderExecutor.configure(newConfiguration());
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // When
+        batchLoaderExecutor.execute(() -> {
+            started.countDown();
+            await(release);
+        });
+        batchLoaderExecutor.execute(() -> {
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // Then
+        assertEquals(1, batchLoaderExecutor.getActiveCount());
+        assertEquals(1, batchLoaderExecutor.getQueueSize());
+        assertEquals(1, batchLoaderExecutor.getPoolSize());
+        release.countDown();
+    }
+
+    @Test
+    public void configure_should_fall_back_to_thread_pool_without_virtual_threads() {
+        // Given
+        virtualThreads = true;
+        boolean virtualThreadsAvailable;
+        try {
+            java.util.concurrent.Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            virtualThreadsAvailable = true;
+        } catch (NoSuchMethodException e) {
+            virtualThreadsAvailable = false;
+        }
+
+        // When
+        batchLoaderExecutor.configure(newConfiguration());
+
+        // Then
+        assertEquals(virtualThreadsAvailable, batchLoaderExecutor.isVirtualThreads());
+    }
+
+    @Test
+    public void execute_should_not_reject_tasks_submitted_while_reconfiguring() throws Exception {
+        // Given
+        batchLoaderExecutor.configure(newConfiguration());
+
+        int taskCount = 10000;
+        CountDownLatch completed = new CountDownLatch(taskCount);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread submitter = new Thread(() -> {
+            try {
+                for (int i = 0; i < taskCount; i++) {
+                    batchLoaderExecutor.execute(completed::countDown);
+                }
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+
+        // When
+        submitter.start();
+        while (submitter.isAlive()) {
+            batchLoaderExecutor.configure(newConfiguration());
+        }
+        submitter.join();
+
+        // Then
+        assertNull(failure.get());
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+        assertEquals(0L, batchLoaderExecutor.getRejectedCount());
+    }
+
+    @Test(expected = RejectedExecutionException.class)
+    public void execute_should_reject_when_inactive() {
+        // When / Then
+        batchLoaderExecutor.execute(() -> {
+        });
+    }
+
+    private BatchLoaderExecutorConfiguration newConfiguration() {
+        return new BatchLoaderExecutorConfiguration() {
+            @Override
+            public int corePoolSize() {
+                return corePoolSize;
+            }
+
+            @Override
+            public int maximumPoolSize() {
+                return maximumPoolSize;
+            }
+
+            @Override
+            public int queueCapacity() {
+                return queueCapacity;
+            }
+
+            @Override
+            public long keepAliveSeconds() {
+                return 60;
+            }
+
+            @Override
+            public boolean virtualThreads() {
+                return virtualThreads;
+            }
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
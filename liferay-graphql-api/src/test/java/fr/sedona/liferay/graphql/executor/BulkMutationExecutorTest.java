@@ -0,0 +1,158 @@
+package fr.sedona.liferay.graphql.executor;
+
+import com.liferay.portal.kernel.transaction.TransactionConfig;
+import com.liferay.portal.kernel.transaction.TransactionInvoker;
+import com.liferay.portal.kernel.transaction.TransactionInvokerUtil;
+import fr.sedona.liferay.graphql.configuration.BulkMutationConfiguration;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.GraphQLError;
+import graphql.schema.DataFetcher;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import graphql.schema.idl.TypeRuntimeWiring;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test suite for {@link BulkMutationExecutor}
+ */
+@RunWith(PowerMockRunner.class)
+public class BulkMutationExecutorTest {
+    private static final String SCHEMA = "type Query { item: String }\n"
+            + "type Mutation { createItems(inputs: [ItemInput!]!): [String] }\n"
+            + "input ItemInput { name: String }\n";
+    private static final String MUTATION = "mutation { createItems(inputs: ["
+            + "{name: \"a\"}, {name: \"b\"}, {name: \"fail\"}, {name: \"d\"}, {name: \"e\"}"
+            + "]) }";
+
+    private BulkMutationExecutor bulkMutationExecutor;
+    private GraphQL graphQL;
+    private List<String> pending;
+    private List<String> committed;
+    private int transactionCount;
+
+    @Mock
+    private BulkMutationConfiguration configuration;
+
+    @Before
+    public void setUp() {
+        when(configuration.chunkSize())
+                .thenReturn(2);
+        bulkMutationExecutor = new BulkMutationExecutor();
+        bulkMutationExecutor.configure(configuration);
+
+        pending = new ArrayList<>();
+        committed = new ArrayList<>();
+        new TransactionInvokerUtil().setTransactionInvoker(new TransactionInvoker() {
+            @Override
+            public <T> T invoke(TransactionConfig transactionConfig, Callable<T> callable) throws Throwable {
+                transactionCount++;
+                pending.clear();
+                T result = callable.call();
+                committed.addAll(pending);
+                return result;
+            }
+        });
+
+        DataFetcher<String> createItemDataFetcher = environment -> {
+            String name = environment.getArgument("name");
+            if ("fail".equals(name)) {
+                throw new IllegalArgumentException("Invalid name");
+            }
+            pending.add(name);
+            return name;
+        };
+        RuntimeWiring wiring = RuntimeWiring.newRuntimeWiring()
+                .type(TypeRuntimeWiring.newTypeWiring("Mutation")
+                        .dataFetcher("createItems", bulkMutationExecutor.bulkDataFetcher(createItemDataFetcher)))
+                .build();
+        GraphQLSchema schema = new SchemaGenerator()
+                .makeExecutableSchema(new SchemaParser().parse(SCHEMA), wiring);
+        graphQL = GraphQL.newGraphQL(schema)
+                .build();
+    }
+
+    private List<String> getItems(ExecutionResult executionResult) {
+        return ((Map<String, List<String>>) executionResult.getData()).get("createItems");
+    }
+
+    private List<List<Object>> getErrorPaths(ExecutionResult executionResult) {
+        return executionResult.getErrors().stream()
+                .map(GraphQLError::getPath)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void execute_without_failure_should_commit_one_transaction_per_chunk() {
+        // When
+        ExecutionResult executionResult = graphQL.execute(
+                "mutation { createItems(inputs: [{name: \"a\"}, {name: \"b\"}, {name: \"c\"}]) }");
+
+        // Then
+        assertTrue(executionResult.getErrors().isEmpty());
+        assertEquals(Arrays.asList("a", "b", "c"), getItems(executionResult));
+        assertEquals(Arrays.asList("a", "b", "c"), committed);
+        assertEquals(2, transactionCount);
+    }
+
+    @Test
+    public void execute_with_empty_inputs_should_not_open_transaction() {
+        // When
+        ExecutionResult executionResult = graphQL.execute("mutation { createItems(inputs: []) }");
+
+        // Then
+        assertTrue(executionResult.getErrors().isEmpty());
+        assertEquals(Collections.emptyList(), getItems(executionResult));
+        assertEquals(0, transactionCount);
+    }
+
+    @Test
+    public void execute_with_failure_should_roll_back_chunk_and_cancel_next_ones() {
+        // When
+        ExecutionResult executionResult = graphQL.execute(MUTATION);
+
+        // Then
+        assertEquals(Arrays.asList("a", "b", null, null, null), getItems(executionResult));
+        assertEquals(Arrays.asList("a", "b"), committed);
+        assertEquals(Arrays.asList(
+                Arrays.asList("createItems", 2),
+                Arrays.asList("createItems", 3),
+                Arrays.asList("createItems", 4)),
+                getErrorPaths(executionResult));
+        assertEquals("Input 2: Invalid name", executionResult.getErrors().get(0).getMessage());
+    }
+
+    @Test
+    public void execute_with_failure_and_continue_on_error_should_replay_chunk_without_failed_input() {
+        // Given
+        when(configuration.continueOnError())
+                .thenReturn(true);
+
+        // When
+        ExecutionResult executionResult = graphQL.execute(MUTATION);
+
+        // Then
+        assertEquals(Arrays.asList("a", "b", null, "d", "e"), getItems(executionResult));
+        assertEquals(Arrays.asList("a", "b", "d", "e"), committed);
+        assertEquals(Collections.singletonList(Arrays.asList("createItems", 2)), getErrorPaths(executionResult));
+        assertEquals(4, transactionCount);
+    }
+}
@@ -0,0 +1,67 @@
+package fr.sedona.liferay.graphql.fetchers;
+
+import com.liferay.portal.kernel.model.User;
+import fr.sedona.liferay.graphql.projection.ProjectedRow;
+import graphql.language.Field;
+import graphql.schema.DataFetchingEnvironment;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test suite for {@link GetterDataFetcher}
+ */
+@RunWith(PowerMockRunner.class)
+public class GetterDataFetcherTest {
+
+    @Test
+    public void get_should_return_value_of_getter() {
+        // Given
+        User user = mock(User.class);
+        when(user.getScreenName())
+                .thenReturn("test");
+        DataFetchingEnvironment environment = mock(DataFetchingEnvironment.class);
+        when(environment.getSource())
+                .thenReturn(user);
+
+        // When
+        Object value = GetterDataFetcher.of(User.class, User::getScreenName).get(environment);
+
+        // Then
+        assertEquals("test", value);
+    }
+
+    @Test
+    public void get_without_source_should_return_null() {
+        // Given
+        DataFetchingEnvironment environment = mock(DataFetchingEnvironment.class);
+
+        // When
+        Object value = GetterDataFetcher.of(User.class, User::getScreenName).get(environment);
+
+        // Then
+        assertNull(value);
+    }
+
+    @Test
+    public void get_with_projected_row_should_return_value_of_field() {
+        // Given
+        DataFetchingEnvironment environment = mock(DataFetchingEnvironment.class);
+        when(environment.getSource())
+                .thenReturn(new ProjectedRow(Collections.singletonMap("screenName", "test")));
+        when(environment.getField())
+                .thenReturn(new Field("screenName"));
+
+        // When
+        Object value = GetterDataFetcher.of(User.class, User::getScreenName).get(environment);
+
+        // Then
+        assertEquals("test", value);
+    }
+}
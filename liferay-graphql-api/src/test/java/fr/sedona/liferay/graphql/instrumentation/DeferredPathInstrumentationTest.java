@@ -0,0 +1,117 @@
+package fr.sedona.liferay.graphql.instrumentation;
+
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test suite for {@link DeferredPathInstrumentation}
+ */
+@RunWith(PowerMockRunner.class)
+public class DeferredPathInstrumentationTest {
+    private static final String SCHEMA = "type Query { users: [User] }\n"
+            + "type User { userId: Long screenName: String }\n";
+
+    private GraphQL graphQL;
+
+    @Before
+    public void setUp() {
+        RuntimeWiring wiring = RuntimeWiring.newRuntimeWiring()
+                .type("Query", typeWiring -> typeWiring
+                        .dataFetcher("users", environment -> Arrays.asList(20160L, 20161L)))
+                .type("User", typeWiring -> typeWiring
+                        .dataFetcher("userId", environment -> environment.getSource())
+                        .dataFetcher("screenName", environment -> CompletableFuture.supplyAsync(
+                                () -> "user" + environment.getSource())))
+                .build();
+        GraphQLSchema schema = new SchemaGenerator()
+                .makeExecutableSchema(new SchemaParser().parse(SCHEMA), wiring);
+        graphQL = GraphQL.newGraphQL(schema)
+                .instrumentation(new DeferredPathInstrumentation())
+                .build();
+    }
+
+    private List<DeferredExecutionResult> getDeferredResults(ExecutionResult executionResult) {
+        List<DeferredExecutionResult> deferredResults = Collections.synchronizedList(new ArrayList<>());
+        CompletableFuture<Void> completion = new CompletableFuture<>();
+        ((Publisher<DeferredExecutionResult>) executionResult.getExtensions().get(GraphQL.DEFERRED_RESULTS))
+                .subscribe(new Subscriber<DeferredExecutionResult>() {
+                    private Subscription subscription;
+
+                    @Override
+                    public void onSubscribe(Subscription subscription) {
+                        this.subscription = subscription;
+                        subscription.request(1);
+                    }
+
+                    @Override
+                    public void onNext(DeferredExecutionResult deferredResult) {
+                        deferredResults.add(deferredResult);
+                        subscription.request(1);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        completion.completeExceptionally(t);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        completion.complete(null);
+                    }
+                });
+        completion.join();
+        return deferredResults;
+    }
+
+    @Test
+    public void execute_with_defer_should_publish_path_of_each_deferred_field() {
+        // When
+        ExecutionResult executionResult = graphQL.execute("{ users { userId screenName @defer } }");
+
+        // Then
+        assertTrue(executionResult.getErrors().isEmpty());
+        assertEquals(Arrays.asList(
+                Collections.singletonMap("userId", 20160L),
+                Collections.singletonMap("userId", 20161L)),
+                ((Map<String, Object>) executionResult.getData()).get("users"));
+
+        List<DeferredExecutionResult> deferredResults = getDeferredResults(executionResult);
+        assertEquals(2, deferredResults.size());
+        assertEquals(Arrays.asList("users", 0, "screenName"), deferredResults.get(0).getPath());
+        assertEquals("user20160", deferredResults.get(0).getData());
+        assertEquals(Arrays.asList("users", 1, "screenName"), deferredResults.get(1).getPath());
+        assertEquals("user20161", deferredResults.get(1).getData());
+    }
+
+    @Test
+    public void execute_without_defer_should_not_add_extensions() {
+        // When
+        ExecutionResult executionResult = graphQL.execute("{ users { userId screenName } }");
+
+        // Then
+        assertTrue(executionResult.getErrors().isEmpty());
+        assertNull(executionResult.getExtensions());
+    }
+}
@@ -0,0 +1,315 @@
+package fr.sedona.liferay.graphql.instrumentation;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.liferay.oauth2.provider.model.OAuth2Application;
+import com.liferay.oauth2.provider.model.OAuth2Authorization;
+import com.liferay.oauth2.provider.service.OAuth2ApplicationLocalService;
+import com.liferay.oauth2.provider.service.OAuth2AuthorizationLocalService;
+import fr.sedona.liferay.graphql.configuration.QueryCostConfiguration;
+import fr.sedona.liferay.graphql.util.Constants;
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.schema.DataFetcher;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import graphql.schema.idl.TypeRuntimeWiring;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test suite for {@link QueryCostInstrumentation}
+ */
+@RunWith(PowerMockRunner.class)
+public class QueryCostInstrumentationTest {
+    private static final String SCHEMA = "type Query {\n"
+            + "  users(start: Int, end: Int): [User]\n"
+            + "  user(userId: Long!): User\n"
+            + "  usersConnection(first: Int, after: String): UserConnection\n"
+            + "  usersCount: Long\n"
+            + "}\n"
+            + "type User {\n"
+            + "  userId: Long\n"
+            + "  company: Company\n"
+            + "  addresses: [Address]\n"
+            + "}\n"
+            + "type Company {\n"
+            + "  companyId: Long\n"
+            + "  users(start: Int, end: Int): [User]\n"
+            + "}\n"
+            + "type Address {\n"
+            + "  addressId: Long\n"
+            + "}\n"
+            + "type UserConnection {\n"
+            + "  edges: [UserEdge]\n"
+            + "  totalCount: Long\n"
+            + "}\n"
+            + "type UserEdge {\n"
+            + "  node: User\n"
+            + "  cursor: String\n"
+            + "}\n";
+
+    private GraphQL graphQL;
+    private AtomicInteger fetchCount;
+
+    @InjectMocks
+    private QueryCostInstrumentation instrumentation = new QueryCostInstrumentation();
+
+    @Mock
+    private QueryCostConfiguration configuration;
+
+    @Mock
+    private OAuth2AuthorizationLocalService oAuth2AuthorizationLocalService;
+
+    @Mock
+    private OAuth2ApplicationLocalService oAuth2ApplicationLocalService;
+
+    @Before
+    public void setUp() {
+        when(configuration.enabled())
+                .thenReturn(true);
+        when(configuration.maximumDepth())
+                .thenReturn(5);
+        when(configuration.maximumCost())
+                .thenReturn(1000L);
+        when(configuration.clientMaximumCosts())
+                .thenReturn(new String[0]);
+        when(configuration.defaultListSize())
+                .thenReturn(10);
+        when(configuration.expectedBatchSize())
+                .thenReturn(100);
+        instrumentation.configure(configuration);
+
+        fetchCount = new AtomicInteger();
+        DataFetcher<Object> dataFetcher = environment -> {
+            fetchCount.incrementAndGet();
+            return null;
+        };
+        RuntimeWiring wiring = RuntimeWiring.newRuntimeWiring()
+                .type(TypeRuntimeWiring.newTypeWiring("Query")
+                        .dataFetcher("users", dataFetcher)
+                        .dataFetcher("user", dataFetcher)
+                        .dataFetcher("usersConnection", dataFetcher)
+                        .dataFetcher("usersCount", dataFetcher))
+                .build();
+        GraphQLSchema schema = new SchemaGenerator()
+                .makeExecutableSchema(new SchemaParser().parse(SCHEMA), wiring);
+        // Same preparsed document cache as the engine, whose hits skip the validation
+        Cache<String, PreparsedDocumentEntry> cache = Caffeine.newBuilder()
+                .build();
+        graphQL = GraphQL.newGraphQL(schema)
+                .instrumentation(instrumentation)
+                .preparsedDocumentProvider(cache::get)
+                .build();
+    }
+
+    private ExecutionResult execute(String query) {
+        return execute(query, new HashMap<>());
+    }
+
+    private ExecutionResult execute(String query, Map<String, Object> context) {
+        return execute(query, Collections.emptyMap(), context);
+    }
+
+    private ExecutionResult execute(String query, Map<String, Object> variables, Map<String, Object> context) {
+        return graphQL.execute(ExecutionInput.newExecutionInput()
+                .query(query)
+                .variables(variables)
+                .context(context)
+                .build());
+    }
+
+    private Map<String, Object> getCost(ExecutionResult executionResult) {
+        return (Map<String, Object>) executionResult.getExtensions().get("cost");
+    }
+
+    @Test
+    public void execute_with_plain_properties_should_cost_the_requested_rows() {
+        // When
+        ExecutionResult executionResult = execute("{ users(start: 0, end: 50) { userId } }");
+
+        // Then
+        assertTrue(executionResult.getErrors().isEmpty());
+        assertEquals(50L, getCost(executionResult).get("requestedQueryCost"));
+        assertEquals(2, getCost(executionResult).get("depth"));
+    }
+
+    @Test
+    public void execute_with_loader_backed_fields_should_cost_the_expected_batches() {
+        // When
+        ExecutionResult executionResult = execute("{ users(end: 250) { company { companyId } addresses { addressId } } }");
+
+        // Then
+        // 250 users, 3 batches of companies, 3 batches of addresses reading 2500 addresses
+        assertEquals(Collections.singletonList("Query cost 2756 exceeds the maximum cost 1000"),
+                executionResult.getErrors().stream()
+                        .map(error -> error.getMessage())
+                        .collect(java.util.stream.Collectors.toList()));
+    }
+
+    @Test
+    public void execute_without_range_should_use_default_list_size() {
+        // When
+        ExecutionResult executionResult = execute("{ users { company { companyId } } }");
+
+        // Then
+        assertEquals(11L, getCost(executionResult).get("requestedQueryCost"));
+    }
+
+    @Test
+    public void execute_with_connection_should_cost_the_requested_page() {
+        // When
+        ExecutionResult executionResult = execute("{ usersConnection(first: 20) { edges { cursor node { company { companyId } } } } }");
+
+        // Then
+        assertEquals(21L, getCost(executionResult).get("requestedQueryCost"));
+    }
+
+    @Test
+    public void execute_with_counts_should_cost_one_query_each() {
+        // When
+        ExecutionResult executionResult = execute("{ usersCount usersConnection(first: 20) { totalCount edges { cursor } } }");
+
+        // Then
+        assertEquals(22L, getCost(executionResult).get("requestedQueryCost"));
+    }
+
+    @Test
+    public void execute_over_budget_should_not_call_any_fetcher() {
+        // When
+        ExecutionResult executionResult = execute("{ users(end: 100000) { userId } }");
+
+        // Then
+        assertEquals(1, executionResult.getErrors().size());
+        assertNull(executionResult.getData());
+        assertEquals(0, fetchCount.get());
+    }
+
+    @Test
+    public void execute_with_negative_range_should_not_call_any_fetcher() {
+        // When
+        ExecutionResult executionResult = execute("{ users(start: -1, end: -1) { userId } }");
+
+        // Then
+        // Liferay reads every row when the bounds are negative
+        assertEquals(Collections.singletonList("Query cost " + Long.MAX_VALUE + " exceeds the maximum cost 1000"),
+                executionResult.getErrors().stream()
+                        .map(error -> error.getMessage())
+                        .collect(java.util.stream.Collectors.toList()));
+        assertEquals(0, fetchCount.get());
+    }
+
+    @Test
+    public void execute_cached_query_over_budget_should_not_call_any_fetcher() {
+        // Given
+        String query = "query users($end: Int) { users(end: $end) { userId } }";
+        execute(query, Collections.singletonMap("end", 10), new HashMap<>());
+        ExecutionResult cachedResult = execute(query, Collections.singletonMap("end", 20), new HashMap<>());
+
+        // When
+        ExecutionResult executionResult = execute(query, Collections.singletonMap("end", 100000), new HashMap<>());
+
+        // Then
+        assertTrue(cachedResult.getErrors().isEmpty());
+        assertEquals(20L, getCost(cachedResult).get("requestedQueryCost"));
+        assertEquals("Query cost 100000 exceeds the maximum cost 1000", executionResult.getErrors().get(0).getMessage());
+        assertEquals(2, fetchCount.get());
+    }
+
+    @Test
+    public void execute_batch_over_budget_should_not_call_the_fetchers_of_the_last_operation() {
+        // Given
+        QueryCostBudget budget = new QueryCostBudget();
+        Map<String, Object> context = new HashMap<>();
+        context.put(Constants.CONTEXT_COST_BUDGET, budget);
+        ExecutionResult firstResult = execute("{ users(end: 600) { userId } }", context);
+
+        // When
+        ExecutionResult executionResult = execute("{ users(end: 600) { userId } }", context);
+
+        // Then
+        assertTrue(firstResult.getErrors().isEmpty());
+        assertEquals("Batch cost 1200 exceeds the maximum cost 1000", executionResult.getErrors().get(0).getMessage());
+        assertEquals(600L, budget.getSpentCost());
+        assertEquals(1, fetchCount.get());
+    }
+
+    @Test
+    public void execute_over_depth_should_not_call_any_fetcher() {
+        // When
+        ExecutionResult executionResult = execute("{ user(userId: 1) { company { users { company { users { userId } } } } } }");
+
+        // Then
+        assertEquals("Query depth 6 exceeds the maximum depth 5", executionResult.getErrors().get(0).getMessage());
+        assertEquals(0, fetchCount.get());
+    }
+
+    @Test
+    public void execute_with_client_budget_should_use_it() {
+        // Given
+        when(configuration.clientMaximumCosts())
+                .thenReturn(new String[]{"trusted-client=1000000"});
+        instrumentation.configure(configuration);
+        OAuth2Authorization authorization = mock(OAuth2Authorization.class);
+        when(authorization.getOAuth2ApplicationId())
+                .thenReturn(1L);
+        when(oAuth2AuthorizationLocalService.fetchOAuth2AuthorizationByAccessTokenContent("token"))
+                .thenReturn(authorization);
+        OAuth2Application application = mock(OAuth2Application.class);
+        when(application.getClientId())
+                .thenReturn("trusted-client");
+        when(oAuth2ApplicationLocalService.fetchOAuth2Application(1L))
+                .thenReturn(application);
+        Map<String, Object> context = new HashMap<>();
+        context.put(Constants.CONTEXT_ACCESS_TOKEN, "token");
+
+        // When
+        ExecutionResult executionResult = execute("{ users(end: 100000) { userId } }", context);
+
+        // Then
+        assertTrue(executionResult.getErrors().isEmpty());
+        assertEquals(1000000L, getCost(executionResult).get("maximumCost"));
+        assertEquals(1, fetchCount.get());
+    }
+
+    @Test
+    public void execute_when_disabled_should_not_analyze_query() {
+        // Given
+        when(configuration.enabled())
+                .thenReturn(false);
+
+        // When
+        ExecutionResult executionResult = execute("{ users(end: 100000) { userId } }");
+
+        // Then
+        assertTrue(executionResult.getErrors().isEmpty());
+        assertNull(executionResult.getExtensions());
+    }
+
+    @Test
+    public void execute_with_introspection_should_be_free() {
+        // When
+        ExecutionResult executionResult = execute("{ __schema { types { name fields { name type { name } } } } }");
+
+        // Then
+        assertTrue(executionResult.getErrors().isEmpty());
+        assertEquals(0L, getCost(executionResult).get("requestedQueryCost"));
+    }
+}
@@ -0,0 +1,213 @@
+package fr.sedona.liferay.graphql.instrumentation;
+
+import fr.sedona.liferay.graphql.configuration.TracingConfiguration;
+import fr.sedona.liferay.graphql.fetchers.GetterDataFetcher;
+import fr.sedona.liferay.graphql.util.Constants;
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
+import graphql.GraphQL;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.parameters.InstrumentationCreateStateParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import graphql.schema.idl.TypeRuntimeWiring;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test suite for {@link SampledTracingInstrumentation}
+ */
+@RunWith(PowerMockRunner.class)
+public class SampledTracingInstrumentationTest {
+    private SampledTracingInstrumentation instrumentation;
+
+    @Mock
+    private TracingConfiguration configuration;
+
+    @Before
+    public void setUp() {
+        when(configuration.headerEnabled())
+                .thenReturn(true);
+        when(configuration.sampleRate())
+                .thenReturn(0d);
+        when(configuration.includeInResponse())
+                .thenReturn(true);
+        instrumentation = new SampledTracingInstrumentation();
+        instrumentation.configure(configuration);
+    }
+
+    private ExecutionInput getExecutionInput(boolean tracing) {
+        Map<String, Object> context = new HashMap<>();
+        context.put(Constants.CONTEXT_TRACING, tracing);
+        return ExecutionInput.newExecutionInput()
+                .query("{ users { userId } }")
+                .context(context)
+                .build();
+    }
+
+    private InstrumentationState createState(boolean tracing) {
+        return instrumentation.createState(new InstrumentationCreateStateParameters(null, getExecutionInput(tracing)));
+    }
+
+    private ExecutionResult instrumentExecutionResult(InstrumentationState state) throws Exception {
+        ExecutionResult executionResult = new ExecutionResultImpl(Collections.singletonMap("users", null), null);
+        return instrumentation.instrumentExecutionResult(executionResult,
+                new InstrumentationExecutionParameters(getExecutionInput(state != null), null, state))
+                .get();
+    }
+
+    @Test
+    public void createState_without_tracing_requested_should_return_null() {
+        // When
+        InstrumentationState state = createState(false);
+
+        // Then
+        assertNull(state);
+    }
+
+    @Test
+    public void createState_with_tracing_requested_should_return_state() {
+        // When
+        InstrumentationState state = createState(true);
+
+        // Then
+        assertNotNull(state);
+    }
+
+    @Test
+    public void createState_with_header_disabled_should_return_null() {
+        // Given
+        when(configuration.headerEnabled())
+                .thenReturn(false);
+
+        // When
+        InstrumentationState state = createState(true);
+
+        // Then
+        assertNull(state);
+    }
+
+    @Test
+    public void createState_with_full_sample_rate_should_return_state() {
+        // Given
+        when(configuration.sampleRate())
+                .thenReturn(1d);
+
+        // When
+        InstrumentationState state = createState(false);
+
+        // Then
+        assertNotNull(state);
+    }
+
+    @Test
+    public void instrumentExecutionResult_without_state_should_not_add_tracing() throws Exception {
+        // When
+        ExecutionResult executionResult = instrumentExecutionResult(null);
+
+        // Then
+        assertNull(executionResult.getExtensions());
+    }
+
+    @Test
+    public void instrumentExecutionResult_with_state_should_add_tracing() throws Exception {
+        // When
+        ExecutionResult executionResult = instrumentExecutionResult(createState(true));
+
+        // Then
+        assertNotNull(executionResult.getExtensions().get("tracing"));
+    }
+
+    @Test
+    public void instrumentExecutionResult_excluded_from_response_should_remove_tracing() throws Exception {
+        // Given
+        when(configuration.includeInResponse())
+                .thenReturn(false);
+        when(configuration.logTraces())
+                .thenReturn(true);
+
+        // When
+        ExecutionResult executionResult = instrumentExecutionResult(createState(true));
+
+        // Then
+        assertNull(executionResult.getExtensions());
+        assertEquals(Collections.singletonMap("users", null), executionResult.getData());
+    }
+
+    private List<String> getTracedFieldNames(ExecutionResult executionResult) {
+        Map<String, Object> tracing = (Map<String, Object>) executionResult.getExtensions().get("tracing");
+        Map<String, Object> execution = (Map<String, Object>) tracing.get("execution");
+        return ((List<Map<String, Object>>) execution.get("resolvers")).stream()
+                .map(resolver -> (String) resolver.get("fieldName"))
+                .collect(Collectors.toList());
+    }
+
+    private ExecutionResult executeWithGetterFetcher() {
+        RuntimeWiring wiring = RuntimeWiring.newRuntimeWiring()
+                .type(TypeRuntimeWiring.newTypeWiring("Query")
+                        .dataFetcher("user", environment -> new TestUser()))
+                .type(TypeRuntimeWiring.newTypeWiring("User")
+                        .dataFetcher("userId", GetterDataFetcher.of(TestUser.class, TestUser::getUserId)))
+                .build();
+        GraphQLSchema schema = new SchemaGenerator().makeExecutableSchema(
+                new SchemaParser().parse("type Query { user: User } type User { userId: Long screenName: String }"),
+                wiring);
+        return GraphQL.newGraphQL(schema)
+                .instrumentation(instrumentation)
+                .build()
+                .execute(ExecutionInput.newExecutionInput()
+                        .query("{ user { userId screenName } }")
+                        .context(Collections.singletonMap(Constants.CONTEXT_TRACING, true))
+                        .build());
+    }
+
+    @Test
+    public void execute_with_getter_fetcher_should_not_trace_it() {
+        // When
+        ExecutionResult executionResult = executeWithGetterFetcher();
+
+        // Then
+        assertTrue(executionResult.getErrors().isEmpty());
+        assertEquals(Arrays.asList("user", "screenName"), getTracedFieldNames(executionResult));
+    }
+
+    @Test
+    public void execute_with_trivial_fields_traced_should_trace_getter_fetcher() {
+        // Given
+        when(configuration.traceTrivialFields())
+                .thenReturn(true);
+
+        // When
+        ExecutionResult executionResult = executeWithGetterFetcher();
+
+        // Then
+        assertEquals(Arrays.asList("user", "userId", "screenName"), getTracedFieldNames(executionResult));
+    }
+
+    public static class TestUser {
+        public long getUserId() {
+            return 123L;
+        }
+
+        public String getScreenName() {
+            return "test";
+        }
+    }
+}
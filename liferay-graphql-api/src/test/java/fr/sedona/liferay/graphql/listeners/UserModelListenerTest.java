@@ -0,0 +1,97 @@
+package fr.sedona.liferay.graphql.listeners;
+
+import com.liferay.portal.kernel.model.User;
+import com.liferay.portal.kernel.transaction.TransactionCommitCallbackUtil;
+import fr.sedona.liferay.graphql.cache.EntityCacheInvalidator;
+import fr.sedona.liferay.graphql.loaders.UserBatchLoader;
+import fr.sedona.liferay.graphql.subscriptions.ModelEventPublisher;
+import fr.sedona.liferay.graphql.subscriptions.ModelEventType;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import java.util.concurrent.Callable;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.powermock.api.mockito.PowerMockito.mockStatic;
+import static org.powermock.api.mockito.PowerMockito.verifyStatic;
+
+/**
+ * Test suite for {@link UserModelListener}
+ */
+@RunWith(PowerMockRunner.class)
+@PrepareForTest(
+        TransactionCommitCallbackUtil.class
+)
+public class UserModelListenerTest {
+    private UserModelListener userModelListener;
+
+    @Mock
+    private EntityCacheInvalidator entityCacheInvalidator;
+
+    @Mock
+    private ModelEventPublisher modelEventPublisher;
+
+    @Mock
+    private User user;
+
+    @Before
+    public void setUp() {
+        mockStatic(TransactionCommitCallbackUtil.class);
+        userModelListener = new UserModelListener();
+        userModelListener.setEntityCacheInvalidator(entityCacheInvalidator);
+        userModelListener.setModelEventPublisher(modelEventPublisher);
+        when(user.getUserId())
+                .thenReturn(123L);
+    }
+
+    @Test
+    public void onAfterUpdate_should_invalidate_after_commit() throws Exception {
+        // When
+        userModelListener.onAfterUpdate(user);
+
+        // Then
+        verify(entityCacheInvalidator, never()).invalidate(anyString(), anyLong());
+        verify(modelEventPublisher, never()).publish(anyString(), any(ModelEventType.class), anyLong(), any(User.class));
+        runCommitCallback();
+        verify(entityCacheInvalidator).invalidate(UserBatchLoader.KEY, 123L);
+        verify(modelEventPublisher).publish(UserBatchLoader.KEY, ModelEventType.UPDATE, 123L, user);
+    }
+
+    @Test
+    public void onAfterCreate_should_invalidate_after_commit() throws Exception {
+        // When
+        userModelListener.onAfterCreate(user);
+
+        // Then
+        runCommitCallback();
+        verify(entityCacheInvalidator).invalidate(UserBatchLoader.KEY, 123L);
+        verify(modelEventPublisher).publish(UserBatchLoader.KEY, ModelEventType.CREATE, 123L, user);
+    }
+
+    @Test
+    public void onAfterRemove_should_invalidate_after_commit() throws Exception {
+        // When
+        userModelListener.onAfterRemove(user);
+
+        // Then
+        runCommitCallback();
+        verify(entityCacheInvalidator).invalidate(UserBatchLoader.KEY, 123L);
+        verify(modelEventPublisher).publish(UserBatchLoader.KEY, ModelEventType.REMOVE, 123L, user);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runCommitCallback() throws Exception {
+        ArgumentCaptor<Callable> captor = ArgumentCaptor.forClass(Callable.class);
+        verifyStatic();
+        TransactionCommitCallbackUtil.registerCallback(captor.capture());
+        captor.getValue().call();
+    }
+}
@@ -6,6 +6,7 @@ import com.liferay.portal.kernel.dao.orm.Property;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
 import com.liferay.portal.kernel.model.Address;
 import com.liferay.portal.kernel.service.AddressLocalService;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -44,8 +45,16 @@ public class AddressBatchLoaderTest {
     @Mock
     private AddressLocalService localService;
 
+    @Mock
+    private BatchLoaderExecutor batchLoaderExecutor;
+
     @Before
     public void setUp() {
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArguments()[0]).run();
+            return null;
+        }).when(batchLoaderExecutor).execute(any(Runnable.class));
+
         DynamicQuery returnedQuery = mock(DynamicQuery.class);
         mockStatic(DynamicQueryFactoryUtil.class);
         when(DynamicQueryFactoryUtil.forClass(any()))
@@ -66,7 +75,7 @@ public class AddressBatchLoaderTest {
         IntStream.rangeClosed(1, 3)
                 .forEach(value -> {
                     Address entity = mock(Address.class);
-                    entity.setAddressId(value);
+                    when(entity.getAddressId()).thenReturn((long) value);
                     expectedResults.add(entity);
                 });
 
@@ -144,4 +153,27 @@ public class AddressBatchLoaderTest {
         assertNotNull(results);
         assertEquals(expectedResults, results);
     }
+
+    @Test
+    public void load_should_return_results_in_key_order_with_nulls_for_missing_keys() throws ExecutionException, InterruptedException {
+        // Given
+        List<Long> ids = Arrays.asList(3L, 1L, 4L, 2L);
+
+        List<Object> databaseResults = new ArrayList<>();
+        IntStream.rangeClosed(1, 3)
+                .forEach(value -> {
+                    Address entity = mock(Address.class);
+                    when(entity.getAddressId()).thenReturn((long) value);
+                    databaseResults.add(entity);
+                });
+
+        // When / Then
+        when(localService.dynamicQuery(any(DynamicQuery.class)))
+                .thenReturn(databaseResults);
+
+        // Asserts
+        List<Address> results = batchLoader.load(ids).toCompletableFuture().get();
+        assertNotNull(results);
+        assertEquals(Arrays.asList(databaseResults.get(2), databaseResults.get(0), null, databaseResults.get(1)), results);
+    }
 }
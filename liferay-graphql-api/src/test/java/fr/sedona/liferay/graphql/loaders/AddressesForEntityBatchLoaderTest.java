@@ -0,0 +1,115 @@
+package fr.sedona.liferay.graphql.loaders;
+
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.OrderFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.Property;
+import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import com.liferay.portal.kernel.model.Address;
+import com.liferay.portal.kernel.service.AddressLocalService;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+import static org.powermock.api.mockito.PowerMockito.mockStatic;
+
+/**
+ * Test suite for {@link AddressesForEntityBatchLoader}
+ */
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({
+        DynamicQueryFactoryUtil.class,
+        OrderFactoryUtil.class,
+        PropertyFactoryUtil.class
+})
+public class AddressesForEntityBatchLoaderTest {
+    private static final long CONTACT_CLASS_NAME_ID = 10L;
+    private static final long ORGANIZATION_CLASS_NAME_ID = 20L;
+
+    @InjectMocks
+    AddressesForEntityBatchLoader batchLoader = new AddressesForEntityBatchLoader();
+
+    @Mock
+    private AddressLocalService localService;
+
+    @Mock
+    private BatchLoaderExecutor batchLoaderExecutor;
+
+    @Before
+    public void setUp() {
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArguments()[0]).run();
+            return null;
+        }).when(batchLoaderExecutor).execute(any(Runnable.class));
+
+        DynamicQuery returnedQuery = mock(DynamicQuery.class);
+        mockStatic(DynamicQueryFactoryUtil.class);
+        when(DynamicQueryFactoryUtil.forClass(any()))
+                .thenReturn(returnedQuery);
+
+        Property returnedProperty = mock(Property.class);
+        mockStatic(PropertyFactoryUtil.class);
+        when(PropertyFactoryUtil.forName(anyString()))
+                .thenReturn(returnedProperty);
+
+        mockStatic(OrderFactoryUtil.class);
+    }
+
+    private Address newAddress(long classNameId, long classPK) {
+        Address entity = mock(Address.class);
+        when(entity.getClassNameId()).thenReturn(classNameId);
+        when(entity.getClassPK()).thenReturn(classPK);
+        return entity;
+    }
+
+    @Test
+    public void load_should_group_results_by_entity() throws ExecutionException, InterruptedException {
+        // Given
+        EntityKey firstKey = new EntityKey(CONTACT_CLASS_NAME_ID, 1L);
+        EntityKey secondKey = new EntityKey(ORGANIZATION_CLASS_NAME_ID, 2L);
+        EntityKey missingKey = new EntityKey(CONTACT_CLASS_NAME_ID, 3L);
+        List<EntityKey> keys = Arrays.asList(secondKey, missingKey, firstKey);
+
+        Address first = newAddress(CONTACT_CLASS_NAME_ID, 1L);
+        Address second = newAddress(ORGANIZATION_CLASS_NAME_ID, 2L);
+        Address third = newAddress(CONTACT_CLASS_NAME_ID, 1L);
+        List<Object> databaseResults = new ArrayList<>(Arrays.asList(first, second, third));
+
+        // When / Then
+        when(localService.dynamicQuery(any(DynamicQuery.class)))
+                .thenReturn(databaseResults);
+
+        // Asserts
+        List<List<Address>> results = batchLoader.load(keys).toCompletableFuture().get();
+        assertNotNull(results);
+        assertEquals(3, results.size());
+        assertEquals(Collections.singletonList(second), results.get(0));
+        assertEquals(Collections.emptyList(), results.get(1));
+        assertEquals(Arrays.asList(first, third), results.get(2));
+        verify(localService, times(1)).dynamicQuery(any(DynamicQuery.class));
+    }
+
+    @Test
+    public void load_with_empty_list_arg_should_return_an_empty_list() throws ExecutionException, InterruptedException {
+        // When / Then
+        List<List<Address>> results = batchLoader.load(Collections.emptyList()).toCompletableFuture().get();
+
+        // Asserts
+        assertNotNull(results);
+        assertTrue(results.isEmpty());
+        verify(localService, never()).dynamicQuery(any(DynamicQuery.class));
+    }
+}
@@ -0,0 +1,88 @@
+package fr.sedona.liferay.graphql.loaders;
+
+import com.liferay.asset.kernel.model.AssetCategory;
+import com.liferay.asset.kernel.service.AssetCategoryLocalService;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for {@link AssetCategoriesForAssetBatchLoader}
+ */
+@RunWith(PowerMockRunner.class)
+public class AssetCategoriesForAssetBatchLoaderTest {
+
+    @InjectMocks
+    AssetCategoriesForAssetBatchLoader batchLoader = new AssetCategoriesForAssetBatchLoader();
+
+    @Mock
+    private AssetCategoryLocalService localService;
+
+    @Mock
+    private BatchLoaderExecutor batchLoaderExecutor;
+
+    @Before
+    public void setUp() {
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArguments()[0]).run();
+            return null;
+        }).when(batchLoaderExecutor).execute(any(Runnable.class));
+    }
+
+    @Test
+    public void load_should_return_categories_of_each_entry() throws ExecutionException, InterruptedException {
+        // Given
+        List<Long> keys = Arrays.asList(2L, 1L);
+        List<AssetCategory> firstEntryResults = Arrays.asList(mock(AssetCategory.class), mock(AssetCategory.class));
+        List<AssetCategory> secondEntryResults = Collections.singletonList(mock(AssetCategory.class));
+
+        // When / Then
+        when(localService.getAssetEntryAssetCategories(1L))
+                .thenReturn(firstEntryResults);
+        when(localService.getAssetEntryAssetCategories(2L))
+                .thenReturn(secondEntryResults);
+
+        // Asserts
+        List<List<AssetCategory>> results = batchLoader.load(keys).toCompletableFuture().get();
+        assertNotNull(results);
+        assertEquals(Arrays.asList(secondEntryResults, firstEntryResults), results);
+    }
+
+    @Test
+    public void load_should_submit_one_task_per_entry() throws ExecutionException, InterruptedException {
+        // Given
+        List<Long> keys = Arrays.asList(1L, 2L, 3L);
+
+        // When / Then
+        when(localService.getAssetEntryAssetCategories(anyLong()))
+                .thenReturn(Collections.emptyList());
+
+        // Asserts
+        List<List<AssetCategory>> results = batchLoader.load(keys).toCompletableFuture().get();
+        assertEquals(3, results.size());
+        verify(batchLoaderExecutor, times(3)).execute(any(Runnable.class));
+        verify(localService, times(3)).getAssetEntryAssetCategories(anyLong());
+    }
+
+    @Test
+    public void load_with_empty_list_arg_should_return_an_empty_list() throws ExecutionException, InterruptedException {
+        // When / Then
+        List<List<AssetCategory>> results = batchLoader.load(Collections.emptyList()).toCompletableFuture().get();
+
+        // Asserts
+        assertNotNull(results);
+        assertTrue(results.isEmpty());
+    }
+}
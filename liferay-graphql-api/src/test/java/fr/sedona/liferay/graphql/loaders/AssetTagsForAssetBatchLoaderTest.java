@@ -0,0 +1,88 @@
+package fr.sedona.liferay.graphql.loaders;
+
+import com.liferay.asset.kernel.model.AssetTag;
+import com.liferay.asset.kernel.service.AssetTagLocalService;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for {@link AssetTagsForAssetBatchLoader}
+ */
+@RunWith(PowerMockRunner.class)
+public class AssetTagsForAssetBatchLoaderTest {
+
+    @InjectMocks
+    AssetTagsForAssetBatchLoader batchLoader = new AssetTagsForAssetBatchLoader();
+
+    @Mock
+    private AssetTagLocalService localService;
+
+    @Mock
+    private BatchLoaderExecutor batchLoaderExecutor;
+
+    @Before
+    public void setUp() {
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArguments()[0]).run();
+            return null;
+        }).when(batchLoaderExecutor).execute(any(Runnable.class));
+    }
+
+    @Test
+    public void load_should_return_tags_of_each_entry() throws ExecutionException, InterruptedException {
+        // Given
+        List<Long> keys = Arrays.asList(2L, 1L);
+        List<AssetTag> firstEntryResults = Arrays.asList(mock(AssetTag.class), mock(AssetTag.class));
+        List<AssetTag> secondEntryResults = Collections.singletonList(mock(AssetTag.class));
+
+        // When / Then
+        when(localService.getAssetEntryAssetTags(1L))
+                .thenReturn(firstEntryResults);
+        when(localService.getAssetEntryAssetTags(2L))
+                .thenReturn(secondEntryResults);
+
+        // Asserts
+        List<List<AssetTag>> results = batchLoader.load(keys).toCompletableFuture().get();
+        assertNotNull(results);
+        assertEquals(Arrays.asList(secondEntryResults, firstEntryResults), results);
+    }
+
+    @Test
+    public void load_should_submit_one_task_per_entry() throws ExecutionException, InterruptedException {
+        // Given
+        List<Long> keys = Arrays.asList(1L, 2L, 3L);
+
+        // When / Then
+        when(localService.getAssetEntryAssetTags(anyLong()))
+                .thenReturn(Collections.emptyList());
+
+        // Asserts
+        List<List<AssetTag>> results = batchLoader.load(keys).toCompletableFuture().get();
+        assertEquals(3, results.size());
+        verify(batchLoaderExecutor, times(3)).execute(any(Runnable.class));
+        verify(localService, times(3)).getAssetEntryAssetTags(anyLong());
+    }
+
+    @Test
+    public void load_with_empty_list_arg_should_return_an_empty_list() throws ExecutionException, InterruptedException {
+        // When / Then
+        List<List<AssetTag>> results = batchLoader.load(Collections.emptyList()).toCompletableFuture().get();
+
+        // Asserts
+        assertNotNull(results);
+        assertTrue(results.isEmpty());
+    }
+}
@@ -0,0 +1,162 @@
+package fr.sedona.liferay.graphql.loaders;
+
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.Projection;
+import com.liferay.portal.kernel.dao.orm.ProjectionFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.ProjectionList;
+import com.liferay.portal.kernel.dao.orm.Property;
+import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import com.liferay.portal.kernel.model.User;
+import fr.sedona.liferay.graphql.cache.EntityCache;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.projection.EntityProjection;
+import fr.sedona.liferay.graphql.projection.ProjectedKey;
+import fr.sedona.liferay.graphql.projection.ProjectedRow;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.powermock.api.mockito.PowerMockito.mockStatic;
+
+/**
+ * Test suite for {@link ProjectedBatchLoader}
+ */
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({
+        ProjectionFactoryUtil.class,
+        PropertyFactoryUtil.class
+})
+public class ProjectedBatchLoaderTest {
+    private static final EntityProjection PROJECTION = EntityProjection.newEntityProjection("userId")
+            .property("screenName")
+            .property("userId")
+            .build();
+    private static final List<String> FIELDS = Arrays.asList("screenName", "userId");
+
+    private TestProjectedBatchLoader batchLoader;
+    private BatchLoaderExecutor batchLoaderExecutor;
+    private EntityCache entityCache;
+
+    @Before
+    public void setUp() {
+        batchLoaderExecutor = mock(BatchLoaderExecutor.class);
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArguments()[0]).run();
+            return null;
+        }).when(batchLoaderExecutor).execute(any(Runnable.class));
+        entityCache = new EntityCache();
+
+        batchLoader = new TestProjectedBatchLoader();
+        batchLoader.batchLoaderExecutor = batchLoaderExecutor;
+        batchLoader.entityCache = entityCache;
+
+        mockStatic(ProjectionFactoryUtil.class);
+        when(ProjectionFactoryUtil.projectionList())
+                .thenReturn(mock(ProjectionList.class));
+        when(ProjectionFactoryUtil.property(anyString()))
+                .thenReturn(mock(Projection.class));
+
+        mockStatic(PropertyFactoryUtil.class);
+        when(PropertyFactoryUtil.forName(anyString()))
+                .thenReturn(mock(Property.class));
+    }
+
+    @Test
+    public void load_should_return_rows_in_the_order_of_the_keys() throws ExecutionException, InterruptedException {
+        // Given
+        List<ProjectedKey> keys = Arrays.asList(new ProjectedKey(2L, FIELDS), new ProjectedKey(1L, FIELDS));
+        batchLoader.results = Arrays.asList(new Object[]{"first", 1L}, new Object[]{"second", 2L});
+
+        // When
+        List<Object> results = batchLoader.load(keys)
+                .toCompletableFuture()
+                .get();
+
+        // Then
+        assertEquals(2, results.size());
+        assertEquals("second", ((ProjectedRow) results.get(0)).get("screenName"));
+        assertEquals("first", ((ProjectedRow) results.get(1)).get("screenName"));
+        assertEquals(1, batchLoader.queries);
+    }
+
+    @Test
+    public void load_with_cached_entity_should_not_query_it() throws ExecutionException, InterruptedException {
+        // Given
+        User user = mock(User.class);
+        entityCache.getCacheMap(UserBatchLoader.KEY).set(1L, CompletableFuture.completedFuture(user));
+        List<ProjectedKey> keys = Collections.singletonList(new ProjectedKey(1L, FIELDS));
+
+        // When
+        List<Object> results = batchLoader.load(keys)
+                .toCompletableFuture()
+                .get();
+
+        // Then
+        assertEquals(Collections.singletonList(user), results);
+        assertEquals(0, batchLoader.queries);
+    }
+
+    @Test
+    public void load_with_unknown_key_should_return_null() throws ExecutionException, InterruptedException {
+        // Given
+        List<ProjectedKey> keys = Collections.singletonList(new ProjectedKey(3L, FIELDS));
+        batchLoader.results = Collections.emptyList();
+
+        // When
+        List<Object> results = batchLoader.load(keys)
+                .toCompletableFuture()
+                .get();
+
+        // Then
+        assertEquals(1, results.size());
+        assertNull(results.get(0));
+    }
+
+    @Test
+    public void load_with_empty_list_arg_should_return_an_empty_object_list() throws ExecutionException, InterruptedException {
+        // Given
+        List<ProjectedKey> keys = Collections.emptyList();
+
+        // When
+        List<Object> results = batchLoader.load(keys)
+                .toCompletableFuture()
+                .get();
+
+        // Then
+        assertTrue(results.isEmpty());
+        assertEquals(0, batchLoader.queries);
+    }
+
+    private static class TestProjectedBatchLoader extends ProjectedBatchLoader {
+        private List<Object> results = new ArrayList<>();
+        private int queries;
+
+        TestProjectedBatchLoader() {
+            super(UserBatchLoader.KEY, PROJECTION);
+        }
+
+        @Override
+        protected DynamicQuery newDynamicQuery() {
+            return mock(DynamicQuery.class);
+        }
+
+        @Override
+        protected List<Object> dynamicQuery(DynamicQuery query) {
+            queries++;
+            return results;
+        }
+    }
+}
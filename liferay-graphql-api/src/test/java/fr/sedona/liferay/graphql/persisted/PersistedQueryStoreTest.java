@@ -0,0 +1,164 @@
+package fr.sedona.liferay.graphql.persisted;
+
+import fr.sedona.liferay.graphql.configuration.PersistedQueryConfiguration;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test suite for {@link PersistedQueryStore}
+ */
+@RunWith(PowerMockRunner.class)
+public class PersistedQueryStoreTest {
+    private static final String QUERY = "{ users { userId } }";
+    private static final String MUTATION = "mutation { deleteUser(userId: 1) { userId } }";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private PersistedQueryStore store;
+
+    @Mock
+    private PersistedQueryConfiguration configuration;
+
+    @Before
+    public void setUp() {
+        when(configuration.enabled())
+                .thenReturn(true);
+        when(configuration.maximumSize())
+                .thenReturn(100L);
+        when(configuration.allowListFile())
+                .thenReturn("");
+        store = new PersistedQueryStore();
+        store.configure(configuration);
+    }
+
+    private Map<String, Object> extensions(String hash) {
+        return Collections.singletonMap("persistedQuery", Collections.singletonMap("sha256Hash", hash));
+    }
+
+    @Test
+    public void resolve_without_extension_should_return_the_query() {
+        // When
+        PersistedQuery persistedQuery = store.resolve(QUERY, null);
+
+        // Then
+        assertEquals(QUERY, persistedQuery.getQuery());
+        assertFalse(persistedQuery.isPersisted());
+    }
+
+    @Test
+    public void resolve_with_unknown_hash_should_throw_not_found() {
+        try {
+            // When
+            store.resolve(null, extensions(PersistedQueryStore.sha256(QUERY)));
+            fail();
+        } catch (PersistedQueryException e) {
+            // Then
+            assertEquals(PersistedQueryException.PERSISTED_QUERY_NOT_FOUND, e.getCode());
+        }
+    }
+
+    @Test
+    public void resolve_with_registered_hash_should_return_the_stored_query() {
+        // Given
+        String hash = PersistedQueryStore.sha256(QUERY);
+        PersistedQuery registeredQuery = store.resolve(QUERY, extensions(hash));
+
+        // When
+        PersistedQuery persistedQuery = store.resolve(null, extensions(hash));
+
+        // Then
+        assertSame(registeredQuery, persistedQuery);
+        assertEquals(QUERY, persistedQuery.getQuery());
+        assertTrue(persistedQuery.isPersisted());
+        assertTrue(persistedQuery.isReadOnly());
+    }
+
+    @Test
+    public void resolve_with_mismatching_hash_should_throw_mismatch() {
+        try {
+            // When
+            store.resolve(QUERY, extensions(PersistedQueryStore.sha256(MUTATION)));
+            fail();
+        } catch (PersistedQueryException e) {
+            // Then
+            assertEquals(PersistedQueryException.PERSISTED_QUERY_HASH_MISMATCH, e.getCode());
+        }
+    }
+
+    @Test
+    public void resolve_with_mutation_should_not_be_read_only() {
+        // When
+        PersistedQuery persistedQuery = store.resolve(MUTATION, extensions(PersistedQueryStore.sha256(MUTATION)));
+
+        // Then
+        assertFalse(persistedQuery.isReadOnly());
+    }
+
+    @Test
+    public void resolve_when_disabled_should_throw_not_supported_for_hash_only_requests() {
+        // Given
+        when(configuration.enabled())
+                .thenReturn(false);
+
+        try {
+            // When
+            store.resolve(null, extensions(PersistedQueryStore.sha256(QUERY)));
+            fail();
+        } catch (PersistedQueryException e) {
+            // Then
+            assertEquals(PersistedQueryException.PERSISTED_QUERY_NOT_SUPPORTED, e.getCode());
+        }
+    }
+
+    @Test
+    public void resolve_in_allow_list_mode_should_only_accept_listed_queries() throws Exception {
+        // Given
+        File allowList = temporaryFolder.newFile("allow-list.json");
+        String hash = PersistedQueryStore.sha256(QUERY);
+        Files.write(allowList.toPath(),
+                ("{\"" + hash + "\": \"" + QUERY + "\"}").getBytes(StandardCharsets.UTF_8));
+        when(configuration.allowListOnly())
+                .thenReturn(true);
+        when(configuration.allowListFile())
+                .thenReturn(allowList.getAbsolutePath());
+        store.configure(configuration);
+
+        // When
+        PersistedQuery byHash = store.resolve(null, extensions(hash));
+        PersistedQuery byQuery = store.resolve(QUERY, null);
+
+        // Then
+        assertEquals(QUERY, byHash.getQuery());
+        assertSame(byHash, byQuery);
+        try {
+            store.resolve(MUTATION, extensions(PersistedQueryStore.sha256(MUTATION)));
+            fail();
+        } catch (PersistedQueryException e) {
+            assertEquals(PersistedQueryException.PERSISTED_QUERY_NOT_ALLOWED, e.getCode());
+        }
+    }
+
+    @Test
+    public void sha256_should_return_lowercase_hex_digest() {
+        // When
+        String hash = PersistedQueryStore.sha256("abc");
+
+        // Then
+        assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad", hash);
+    }
+}
@@ -0,0 +1,161 @@
+package fr.sedona.liferay.graphql.projection;
+
+import com.liferay.portal.kernel.dao.orm.Projection;
+import com.liferay.portal.kernel.dao.orm.ProjectionFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.ProjectionList;
+import graphql.language.Field;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.powermock.api.mockito.PowerMockito.mockStatic;
+import static org.powermock.api.mockito.PowerMockito.verifyStatic;
+
+/**
+ * Test suite for {@link EntityProjection}
+ */
+@RunWith(PowerMockRunner.class)
+@PrepareForTest(ProjectionFactoryUtil.class)
+public class EntityProjectionTest {
+    private static final EntityProjection PROJECTION = EntityProjection.newEntityProjection("userId")
+            .property("companyId")
+            .property("primaryKey", "userId")
+            .property("screenName")
+            .property("userId")
+            .relation("company", "companyId")
+            .build();
+
+    private DataFetchingFieldSelectionSet getSelectionSet(String... paths) {
+        Map<String, List<Field>> fields = new LinkedHashMap<>();
+        for (String path : paths) {
+            fields.put(path, Collections.singletonList(new Field(path)));
+        }
+        DataFetchingFieldSelectionSet selectionSet = mock(DataFetchingFieldSelectionSet.class);
+        when(selectionSet.get())
+                .thenReturn(fields);
+        return selectionSet;
+    }
+
+    @Test
+    public void getFields_should_return_sorted_fields_with_primary_key() {
+        // Given
+        DataFetchingFieldSelectionSet selectionSet = getSelectionSet("screenName", "__typename");
+
+        // When
+        List<String> fields = PROJECTION.getFields(selectionSet);
+
+        // Then
+        assertEquals(Arrays.asList("screenName", "userId"), fields);
+    }
+
+    @Test
+    public void getFields_with_relation_should_return_foreign_key() {
+        // Given
+        DataFetchingFieldSelectionSet selectionSet = getSelectionSet("company", "company/name");
+
+        // When
+        List<String> fields = PROJECTION.getFields(selectionSet);
+
+        // Then
+        assertEquals(Arrays.asList("companyId", "userId"), fields);
+    }
+
+    @Test
+    public void getFields_with_unprojectable_field_should_return_null() {
+        // Given
+        DataFetchingFieldSelectionSet selectionSet = getSelectionSet("screenName", "fullName");
+
+        // When
+        List<String> fields = PROJECTION.getFields(selectionSet);
+
+        // Then
+        assertNull(fields);
+    }
+
+    @Test
+    public void getFields_without_selection_set_should_return_null() {
+        // Given
+        // Nothing
+
+        // When
+        List<String> fields = PROJECTION.getFields(null);
+
+        // Then
+        assertNull(fields);
+    }
+
+    @Test
+    public void getFields_with_parent_path_should_only_return_its_fields() {
+        // Given
+        DataFetchingFieldSelectionSet selectionSet = getSelectionSet("edges", "edges/cursor", "edges/node",
+                "edges/node/screenName", "pageInfo", "pageInfo/hasNextPage");
+
+        // When
+        List<String> fields = PROJECTION.getFields(selectionSet, "edges/node");
+
+        // Then
+        assertEquals(Arrays.asList("screenName", "userId"), fields);
+    }
+
+    @Test
+    public void toProjectionList_should_read_each_column_once() {
+        // Given
+        ProjectionList projectionList = mock(ProjectionList.class);
+        mockStatic(ProjectionFactoryUtil.class);
+        when(ProjectionFactoryUtil.projectionList())
+                .thenReturn(projectionList);
+        when(ProjectionFactoryUtil.property(anyString()))
+                .thenReturn(mock(Projection.class));
+
+        // When
+        ProjectionList result = PROJECTION.toProjectionList(Arrays.asList("primaryKey", "screenName", "userId"));
+
+        // Then
+        assertEquals(projectionList, result);
+        verify(projectionList, times(2)).add(any(Projection.class));
+        verifyStatic(times(1));
+        ProjectionFactoryUtil.property("userId");
+    }
+
+    @Test
+    public void toRows_should_map_columns_to_fields() {
+        // Given
+        List<String> fields = Arrays.asList("primaryKey", "screenName", "userId");
+        List<Object> results = Collections.singletonList(new Object[]{20156L, "test"});
+
+        // When
+        List<ProjectedRow> rows = PROJECTION.toRows(fields, results);
+
+        // Then
+        assertEquals(1, rows.size());
+        assertEquals(20156L, rows.get(0).get("primaryKey"));
+        assertEquals("test", rows.get(0).get("screenName"));
+        assertEquals(20156L, rows.get(0).getLong("userId"));
+    }
+
+    @Test
+    public void toRows_with_single_column_should_map_plain_values() {
+        // Given
+        List<String> fields = Collections.singletonList("userId");
+        List<Object> results = Arrays.asList(20156L, 20157L);
+
+        // When
+        List<ProjectedRow> rows = PROJECTION.toRows(fields, results);
+
+        // Then
+        assertEquals(2, rows.size());
+        assertEquals(20156L, rows.get(0).getLong("userId"));
+        assertEquals(20157L, rows.get(1).getLong("userId"));
+    }
+}
@@ -6,6 +6,8 @@ import com.liferay.portal.kernel.model.Address;
 import com.liferay.portal.kernel.service.AddressLocalService;
 import com.liferay.portal.kernel.service.ServiceContext;
 import fr.sedona.liferay.graphql.loaders.AddressBatchLoader;
+import fr.sedona.liferay.graphql.loaders.AddressesForEntityBatchLoader;
+import fr.sedona.liferay.graphql.loaders.EntityKey;
 import fr.sedona.liferay.graphql.resolvers.AddressResolvers;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
 import graphql.execution.ExecutionContext;
@@ -253,6 +255,89 @@ public class AddressResolversImplTest {
         assertEquals(expectedResults, results);
     }
 
+    @Test
+    public void getAddressesForEntityDataFetcher_should_return_the_entity_addresses() throws Exception {
+        // Given
+        EntityKey entityKey = new EntityKey(USER_ID, CLASS_PK);
+        List<Address> expectedResults = new ArrayList<>();
+        expectedResults.add(mock(Address.class));
+        expectedResults.add(mock(Address.class));
+        DataLoader<EntityKey, List<Address>> listDataLoader = mock(DataLoader.class);
+        doReturn(listDataLoader)
+                .when(mockEnvironment)
+                .getDataLoader(AddressesForEntityBatchLoader.KEY);
+
+        // When / Then
+        when(graphQLUtil.getEntityKey(mockEnvironment))
+                .thenReturn(entityKey);
+        when(graphQLUtil.getIntArg(eq(mockEnvironment), eq("start"), anyInt()))
+                .thenReturn(0);
+        when(graphQLUtil.getIntArg(eq(mockEnvironment), eq("end"), anyInt()))
+                .thenReturn(10);
+        when(listDataLoader.load(entityKey))
+                .thenReturn(CompletableFuture.supplyAsync(() -> expectedResults));
+
+        // Asserts
+        CompletableFuture<List<Address>> asyncResults = resolvers.getAddressesForEntityDataFetcher()
+                .get(mockEnvironment);
+        assertNotNull(asyncResults);
+
+        List<Address> results = asyncResults.get();
+        assertNotNull(results);
+        assertEquals(expectedResults, results);
+    }
+
+    @Test
+    public void getAddressesForEntityDataFetcher_should_return_the_requested_slice() throws Exception {
+        // Given
+        EntityKey entityKey = new EntityKey(USER_ID, CLASS_PK);
+        List<Address> entityAddresses = IntStream.rangeClosed(1, 5)
+                .mapToObj(i -> mock(Address.class))
+                .collect(Collectors.toList());
+        DataLoader<EntityKey, List<Address>> listDataLoader = mock(DataLoader.class);
+        doReturn(listDataLoader)
+                .when(mockEnvironment)
+                .getDataLoader(AddressesForEntityBatchLoader.KEY);
+
+        // When / Then
+        when(graphQLUtil.getEntityKey(mockEnvironment))
+                .thenReturn(entityKey);
+        when(graphQLUtil.getIntArg(eq(mockEnvironment), eq("start"), anyInt()))
+                .thenReturn(1);
+        when(graphQLUtil.getIntArg(eq(mockEnvironment), eq("end"), anyInt()))
+                .thenReturn(3);
+        when(listDataLoader.load(entityKey))
+                .thenReturn(CompletableFuture.supplyAsync(() -> entityAddresses));
+
+        // Asserts
+        CompletableFuture<List<Address>> asyncResults = resolvers.getAddressesForEntityDataFetcher()
+                .get(mockEnvironment);
+        assertNotNull(asyncResults);
+
+        List<Address> results = asyncResults.get();
+        assertNotNull(results);
+        assertEquals(entityAddresses.subList(1, 3), results);
+    }
+
+    @Test
+    public void getAddressesForEntityDataFetcher_no_entity_should_return_an_empty_list() throws Exception {
+        // Given
+        // Nothing
+
+        // When / Then
+        when(graphQLUtil.getEntityKey(mockEnvironment))
+                .thenReturn(null);
+
+        // Asserts
+        CompletableFuture<List<Address>> asyncResults = resolvers.getAddressesForEntityDataFetcher()
+                .get(mockEnvironment);
+        assertNotNull(asyncResults);
+
+        List<Address> results = asyncResults.get();
+        assertNotNull(results);
+        assertTrue(results.isEmpty());
+    }
+
     @Test
     public void getAddressDataFetcher_should_return_the_searched_object() throws Exception {
         // Given
@@ -2,10 +2,12 @@ package fr.sedona.liferay.graphql.resolvers.impl;
 
 import com.liferay.asset.kernel.exception.NoSuchCategoryException;
 import com.liferay.asset.kernel.model.AssetCategory;
+import com.liferay.asset.kernel.model.AssetEntry;
 import com.liferay.asset.kernel.service.AssetCategoryLocalService;
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.service.ServiceContext;
 import com.liferay.portal.kernel.util.LocaleUtil;
+import fr.sedona.liferay.graphql.loaders.AssetCategoriesForAssetBatchLoader;
 import fr.sedona.liferay.graphql.loaders.AssetCategoryBatchLoader;
 import fr.sedona.liferay.graphql.resolvers.AssetCategoryResolvers;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
@@ -243,6 +245,59 @@ public class AssetCategoryResolversImplTest {
         assertEquals(expectedResults, results);
     }
 
+    @Test
+    public void getAssetCategoriesForAssetDataFetcher_should_return_the_requested_slice() throws Exception {
+        // Given
+        AssetEntry assetEntry = mock(AssetEntry.class);
+        List<AssetCategory> entryCategories = IntStream.rangeClosed(1, 5)
+                .mapToObj(i -> mock(AssetCategory.class))
+                .collect(Collectors.toList());
+        DataLoader<Long, List<AssetCategory>> listDataLoader = mock(DataLoader.class);
+        doReturn(listDataLoader)
+                .when(mockEnvironment)
+                .getDataLoader(AssetCategoriesForAssetBatchLoader.KEY);
+
+        // When / Then
+        when(assetEntry.getEntryId())
+                .thenReturn(7L);
+        when(mockEnvironment.getSource())
+                .thenReturn(assetEntry);
+        when(graphQLUtil.getIntArg(eq(mockEnvironment), eq("start"), anyInt()))
+                .thenReturn(1);
+        when(graphQLUtil.getIntArg(eq(mockEnvironment), eq("end"), anyInt()))
+                .thenReturn(3);
+        when(listDataLoader.load(7L))
+                .thenReturn(CompletableFuture.supplyAsync(() -> entryCategories));
+
+        // Asserts
+        CompletableFuture<List<AssetCategory>> asyncResults = resolvers.getAssetCategoriesForAssetDataFetcher()
+                .get(mockEnvironment);
+        assertNotNull(asyncResults);
+
+        List<AssetCategory> results = asyncResults.get();
+        assertNotNull(results);
+        assertEquals(entryCategories.subList(1, 3), results);
+    }
+
+    @Test
+    public void getAssetCategoriesForAssetDataFetcher_no_entry_should_return_an_empty_list() throws Exception {
+        // Given
+        // Nothing
+
+        // When / Then
+        when(graphQLUtil.getLongArg(mockEnvironment, "entryId"))
+                .thenReturn(0L);
+
+        // Asserts
+        CompletableFuture<List<AssetCategory>> asyncResults = resolvers.getAssetCategoriesForAssetDataFetcher()
+                .get(mockEnvironment);
+        assertNotNull(asyncResults);
+
+        List<AssetCategory> results = asyncResults.get();
+        assertNotNull(results);
+        assertTrue(results.isEmpty());
+    }
+
     @Test
     public void getAssetCategoryDataFetcher_should_return_the_searched_object() throws Exception {
         // Given
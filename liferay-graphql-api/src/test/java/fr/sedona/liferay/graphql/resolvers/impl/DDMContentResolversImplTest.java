@@ -145,7 +145,7 @@ public class DDMContentResolversImplTest {
                 .thenReturn(expectedResults);
 
         // Asserts
-        List<DDMContent> results = resolvers.getDDMContentsDataFetcher()
+        List<Object> results = resolvers.getDDMContentsDataFetcher()
                 .get(environment);
         assertNotNull(results);
         assertEquals(expectedResults, results);
@@ -174,7 +174,7 @@ public class DDMContentResolversImplTest {
                 .thenReturn(expectedResults);
 
         // Asserts
-        List<DDMContent> results = resolvers.getDDMContentsDataFetcher()
+        List<Object> results = resolvers.getDDMContentsDataFetcher()
                 .get(environment);
         assertNotNull(results);
         assertEquals(expectedResults, results);
@@ -202,7 +202,7 @@ public class DDMContentResolversImplTest {
                 .thenReturn(expectedResults);
 
         // Asserts
-        List<DDMContent> results = resolvers.getDDMContentsDataFetcher()
+        List<Object> results = resolvers.getDDMContentsDataFetcher()
                 .get(environment);
         assertNotNull(results);
         assertEquals(expectedResults, results);
@@ -224,7 +224,7 @@ public class DDMContentResolversImplTest {
                 .thenReturn(expectedResults);
 
         // Asserts
-        List<DDMContent> results = resolvers.getDDMContentsDataFetcher()
+        List<Object> results = resolvers.getDDMContentsDataFetcher()
                 .get(environment);
         assertNotNull(results);
         assertEquals(expectedResults, results);
@@ -244,11 +244,11 @@ public class DDMContentResolversImplTest {
                 .thenReturn(CompletableFuture.supplyAsync(() -> expectedResult));
 
         // Asserts
-        CompletableFuture<DDMContent> asyncResult = resolvers.getDDMContentDataFetcher()
+        CompletableFuture<Object> asyncResult = resolvers.getDDMContentDataFetcher()
                 .get(mockEnvironment);
         assertNotNull(asyncResult);
 
-        DDMContent result = asyncResult.get();
+        Object result = asyncResult.get();
         assertNotNull(result);
         assertEquals(expectedResult, result);
     }
@@ -263,7 +263,7 @@ public class DDMContentResolversImplTest {
                 .thenReturn(0L);
 
         // Asserts
-        CompletableFuture<DDMContent> asyncResult = resolvers.getDDMContentDataFetcher()
+        CompletableFuture<Object> asyncResult = resolvers.getDDMContentDataFetcher()
                 .get(mockEnvironment);
         assertNull(asyncResult);
     }
@@ -281,11 +281,11 @@ public class DDMContentResolversImplTest {
                 .thenReturn(CompletableFuture.supplyAsync(() -> null));
 
         // Asserts
-        CompletableFuture<DDMContent> asyncResult = resolvers.getDDMContentDataFetcher()
+        CompletableFuture<Object> asyncResult = resolvers.getDDMContentDataFetcher()
                 .get(mockEnvironment);
         assertNotNull(asyncResult);
 
-        DDMContent result = asyncResult.get();
+        Object result = asyncResult.get();
         assertNull(result);
     }
 
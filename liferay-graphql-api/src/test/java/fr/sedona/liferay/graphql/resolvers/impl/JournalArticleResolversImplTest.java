@@ -224,7 +224,7 @@ public class JournalArticleResolversImplTest {
                 .thenReturn(expectedResults);
 
         // Asserts
-        List<JournalArticle> results = resolvers.getJournalArticlesDataFetcher()
+        List<Object> results = resolvers.getJournalArticlesDataFetcher()
                 .get(environment);
         assertNotNull(results);
         assertEquals(expectedResults, results);
@@ -253,7 +253,7 @@ public class JournalArticleResolversImplTest {
                 .thenReturn(expectedResults);
 
         // Asserts
-        List<JournalArticle> results = resolvers.getJournalArticlesDataFetcher()
+        List<Object> results = resolvers.getJournalArticlesDataFetcher()
                 .get(environment);
         assertNotNull(results);
         assertEquals(expectedResults, results);
@@ -281,7 +281,7 @@ public class JournalArticleResolversImplTest {
                 .thenReturn(expectedResults);
 
         // Asserts
-        List<JournalArticle> results = resolvers.getJournalArticlesDataFetcher()
+        List<Object> results = resolvers.getJournalArticlesDataFetcher()
                 .get(environment);
         assertNotNull(results);
         assertEquals(expectedResults, results);
@@ -303,7 +303,7 @@ public class JournalArticleResolversImplTest {
                 .thenReturn(expectedResults);
 
         // Asserts
-        List<JournalArticle> results = resolvers.getJournalArticlesDataFetcher()
+        List<Object> results = resolvers.getJournalArticlesDataFetcher()
                 .get(environment);
         assertNotNull(results);
         assertEquals(expectedResults, results);
@@ -323,11 +323,11 @@ public class JournalArticleResolversImplTest {
                 .thenReturn(CompletableFuture.supplyAsync(() -> expectedResult));
 
         // Asserts
-        CompletableFuture<JournalArticle> asyncResult = resolvers.getJournalArticleDataFetcher()
+        CompletableFuture<Object> asyncResult = resolvers.getJournalArticleDataFetcher()
                 .get(mockEnvironment);
         assertNotNull(asyncResult);
 
-        JournalArticle result = asyncResult.get();
+        Object result = asyncResult.get();
         assertNotNull(result);
         assertEquals(expectedResult, result);
     }
@@ -342,7 +342,7 @@ public class JournalArticleResolversImplTest {
                 .thenReturn(0L);
 
         // Asserts
-        CompletableFuture<JournalArticle> asyncResult = resolvers.getJournalArticleDataFetcher()
+        CompletableFuture<Object> asyncResult = resolvers.getJournalArticleDataFetcher()
                 .get(mockEnvironment);
         assertNull(asyncResult);
     }
@@ -360,11 +360,11 @@ public class JournalArticleResolversImplTest {
                 .thenReturn(CompletableFuture.supplyAsync(() -> null));
 
         // Asserts
-        CompletableFuture<JournalArticle> asyncResult = resolvers.getJournalArticleDataFetcher()
+        CompletableFuture<Object> asyncResult = resolvers.getJournalArticleDataFetcher()
                 .get(mockEnvironment);
         assertNotNull(asyncResult);
 
-        JournalArticle result = asyncResult.get();
+        Object result = asyncResult.get();
         assertNull(result);
     }
 
@@ -2,11 +2,13 @@ package fr.sedona.liferay.graphql.resolvers.impl;
 
 import com.liferay.portal.kernel.exception.NoSuchLayoutException;
 import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.model.Group;
 import com.liferay.portal.kernel.model.Layout;
 import com.liferay.portal.kernel.service.LayoutLocalService;
 import com.liferay.portal.kernel.service.ServiceContext;
 import com.liferay.portal.kernel.util.LocaleUtil;
 import fr.sedona.liferay.graphql.loaders.LayoutBatchLoader;
+import fr.sedona.liferay.graphql.loaders.LayoutsForGroupBatchLoader;
 import fr.sedona.liferay.graphql.resolvers.LayoutResolvers;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
 import graphql.execution.ExecutionContext;
@@ -280,6 +282,63 @@ public class LayoutResolversImplTest {
         assertEquals(expectedResults, results);
     }
 
+    @Test
+    public void getLayoutsForGroupDataFetcher_should_return_the_group_layouts() throws Exception {
+        // Given
+        Group group = mock(Group.class);
+        Layout publicLayout = mock(Layout.class);
+        Layout privateLayout = mock(Layout.class);
+        List<Layout> groupLayouts = Arrays.asList(publicLayout, privateLayout);
+        DataLoader<Long, List<Layout>> listDataLoader = mock(DataLoader.class);
+        doReturn(listDataLoader)
+                .when(mockEnvironment)
+                .getDataLoader(LayoutsForGroupBatchLoader.KEY);
+
+        // When / Then
+        when(group.getGroupId())
+                .thenReturn(7L);
+        when(privateLayout.isPrivateLayout())
+                .thenReturn(true);
+        when(mockEnvironment.getSource())
+                .thenReturn(group);
+        when(graphQLUtil.getBooleanArg(mockEnvironment, "privateLayout"))
+                .thenReturn(true);
+        when(graphQLUtil.getIntArg(eq(mockEnvironment), eq("start"), anyInt()))
+                .thenReturn(0);
+        when(graphQLUtil.getIntArg(eq(mockEnvironment), eq("end"), anyInt()))
+                .thenReturn(10);
+        when(listDataLoader.load(7L))
+                .thenReturn(CompletableFuture.supplyAsync(() -> groupLayouts));
+
+        // Asserts
+        CompletableFuture<List<Layout>> asyncResults = resolvers.getLayoutsForGroupDataFetcher()
+                .get(mockEnvironment);
+        assertNotNull(asyncResults);
+
+        List<Layout> results = asyncResults.get();
+        assertNotNull(results);
+        assertEquals(Collections.singletonList(privateLayout), results);
+    }
+
+    @Test
+    public void getLayoutsForGroupDataFetcher_no_group_should_return_an_empty_list() throws Exception {
+        // Given
+        // Nothing
+
+        // When / Then
+        when(graphQLUtil.getLongArg(mockEnvironment, "groupId"))
+                .thenReturn(0L);
+
+        // Asserts
+        CompletableFuture<List<Layout>> asyncResults = resolvers.getLayoutsForGroupDataFetcher()
+                .get(mockEnvironment);
+        assertNotNull(asyncResults);
+
+        List<Layout> results = asyncResults.get();
+        assertNotNull(results);
+        assertTrue(results.isEmpty());
+    }
+
     @Test
     public void getLayoutDataFetcher_should_return_the_searched_object() throws Exception {
         // Given
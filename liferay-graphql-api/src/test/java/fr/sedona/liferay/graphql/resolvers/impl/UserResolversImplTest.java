@@ -1,5 +1,7 @@
 package fr.sedona.liferay.graphql.resolvers.impl;
 
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.OrderFactoryUtil;
 import com.liferay.portal.kernel.exception.NoSuchUserException;
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.model.User;
@@ -8,10 +10,12 @@ import com.liferay.portal.kernel.service.UserLocalService;
 import com.liferay.portal.kernel.util.LocaleUtil;
 import fr.sedona.liferay.graphql.loaders.UserBatchLoader;
 import fr.sedona.liferay.graphql.resolvers.UserResolvers;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
 import fr.sedona.liferay.graphql.util.GraphQLUtil;
 import graphql.execution.ExecutionContext;
 import graphql.execution.ExecutionContextBuilder;
 import graphql.execution.ExecutionId;
+import graphql.relay.Connection;
 import graphql.schema.DataFetchingEnvironment;
 import graphql.schema.DataFetchingEnvironmentImpl;
 import org.dataloader.DataLoader;
@@ -20,6 +24,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
 import java.util.*;
@@ -30,11 +35,15 @@ import java.util.stream.IntStream;
 import static org.junit.Assert.*;
 import static org.mockito.Matchers.*;
 import static org.mockito.Mockito.*;
+import static org.powermock.api.mockito.PowerMockito.mockStatic;
 
 /**
  * Test suite for {@link UserResolversImpl}
  */
 @RunWith(PowerMockRunner.class)
+@PrepareForTest(
+        OrderFactoryUtil.class
+)
 public class UserResolversImplTest {
     private static final long DEFAULT_CREATOR_ID = 456456L;
     private static final long CREATOR_ID = 987L;
@@ -341,6 +350,63 @@ public class UserResolversImplTest {
         assertEquals(expectedResults, results);
     }
 
+    @Test
+    public void getUsersDataFetcher_with_negative_range_args_should_not_read_all_objects() throws Exception {
+        // Given
+        Map<String, Object> arguments = new HashMap<>();
+        arguments.put("start", -1);
+        arguments.put("end", -1);
+        DataFetchingEnvironment environment = getTestEnvironment(arguments);
+
+        List<User> expectedResults = new ArrayList<>();
+
+        // When / Then
+        useSimpleGraphQLUtil();
+        when(localService.getUsers(0, 0))
+                .thenReturn(expectedResults);
+
+        // Asserts
+        List<User> results = resolvers.getUsersDataFetcher()
+                .get(environment);
+        assertEquals(expectedResults, results);
+        verify(localService, never()).getUsers(-1, -1);
+    }
+
+    @Test
+    public void getUsersConnectionDataFetcher_should_return_the_first_page() throws Exception {
+        // Given
+        Map<String, Object> arguments = new HashMap<>();
+        arguments.put("first", 2);
+        DataFetchingEnvironment environment = getTestEnvironment(arguments);
+
+        DynamicQuery query = mock(DynamicQuery.class);
+        List<User> availableObjects = new ArrayList<>();
+        IntStream.rangeClosed(1, 3)
+                .forEach(value -> {
+                    User entity = mock(User.class);
+                    when(entity.getUserId()).thenReturn((long) value);
+                    availableObjects.add(entity);
+                });
+
+        // When / Then
+        useSimpleGraphQLUtil();
+        mockStatic(OrderFactoryUtil.class);
+        when(localService.dynamicQuery())
+                .thenReturn(query);
+        when(localService.dynamicQuery(query, 0, 3))
+                .thenReturn((List) availableObjects);
+
+        // Asserts
+        Connection<User> connection = resolvers.getUsersConnectionDataFetcher()
+                .get(environment);
+        assertNotNull(connection);
+        assertEquals(2, connection.getEdges().size());
+        assertEquals(availableObjects.get(0), connection.getEdges().get(0).getNode());
+        assertEquals(availableObjects.get(1), connection.getEdges().get(1).getNode());
+        assertEquals(ConnectionUtil.encodeCursor(2L).getValue(), connection.getPageInfo().getEndCursor().getValue());
+        assertTrue(connection.getPageInfo().isHasNextPage());
+    }
+
     @Test
     public void getUserDataFetcher_should_return_the_searched_object() throws Exception {
         // Given
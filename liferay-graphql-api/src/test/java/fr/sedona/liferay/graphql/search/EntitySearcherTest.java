@@ -0,0 +1,242 @@
+package fr.sedona.liferay.graphql.search;
+
+import com.liferay.portal.kernel.search.Document;
+import com.liferay.portal.kernel.search.Field;
+import com.liferay.portal.kernel.search.Hits;
+import com.liferay.portal.kernel.search.HitsImpl;
+import com.liferay.portal.kernel.search.Indexer;
+import com.liferay.portal.kernel.search.IndexerRegistry;
+import com.liferay.portal.kernel.search.SearchContext;
+import com.liferay.portal.kernel.util.PortalUtil;
+import com.liferay.portal.kernel.util.Props;
+import com.liferay.portal.kernel.util.PropsUtil;
+import fr.sedona.liferay.graphql.util.ConnectionUtil;
+import fr.sedona.liferay.graphql.util.GraphQLUtil;
+import graphql.relay.Connection;
+import graphql.schema.DataFetchingEnvironment;
+import org.dataloader.DataLoader;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+import static org.powermock.api.mockito.PowerMockito.mockStatic;
+
+/**
+ * Test suite for {@link EntitySearcher}
+ */
+@RunWith(PowerMockRunner.class)
+@PrepareForTest(PortalUtil.class)
+public class EntitySearcherTest {
+    private static final String CLASS_NAME = "com.liferay.blogs.model.BlogsEntry";
+    private static final String LOADER_KEY = "blogsEntry";
+    private static final long COMPANY_ID = 20116L;
+
+    private EntitySearcher entitySearcher;
+    private Indexer<Object> indexer;
+    private DataFetchingEnvironment environment;
+    private Map<String, Object> arguments;
+    private Map<Long, Object> entities;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        // The search context reads its defaults from the portal properties
+        PropsUtil.setProps(mock(Props.class));
+        mockStatic(PortalUtil.class);
+        when(PortalUtil.getDefaultCompanyId())
+                .thenReturn(COMPANY_ID);
+
+        indexer = mock(Indexer.class);
+        IndexerRegistry indexerRegistry = mock(IndexerRegistry.class);
+        when(indexerRegistry.nullSafeGetIndexer(CLASS_NAME))
+                .thenReturn((Indexer) indexer);
+
+        entitySearcher = new EntitySearcher();
+        entitySearcher.setIndexerRegistry(indexerRegistry);
+        entitySearcher.setUtil(new GraphQLUtil());
+
+        entities = new HashMap<>();
+        DataLoader<Long, Object> dataLoader = new DataLoader<>(keys -> CompletableFuture.completedFuture(keys.stream()
+                .map(entities::get)
+                .collect(Collectors.toList())));
+        arguments = new HashMap<>();
+        environment = mock(DataFetchingEnvironment.class);
+        when(environment.getArgument(any()))
+                .thenAnswer(invocation -> arguments.get(invocation.getArguments()[0]));
+        doReturn(dataLoader)
+                .when(environment)
+                .getDataLoader(LOADER_KEY);
+    }
+
+    private Hits getHits(int length, long... entryClassPKs) {
+        Document[] documents = new Document[entryClassPKs.length];
+        for (int i = 0; i < entryClassPKs.length; i++) {
+            documents[i] = mock(Document.class);
+            when(documents[i].get(Field.ENTRY_CLASS_NAME))
+                    .thenReturn(CLASS_NAME);
+            when(documents[i].get(Field.ENTRY_CLASS_PK))
+                    .thenReturn(String.valueOf(entryClassPKs[i]));
+        }
+        Hits hits = new HitsImpl();
+        hits.setDocs(documents);
+        hits.setLength(length);
+        return hits;
+    }
+
+    private Connection<Object> search() throws Exception {
+        CompletableFuture<Connection<Object>> asyncResult = entitySearcher.search(environment, CLASS_NAME, LOADER_KEY);
+        environment.getDataLoader(LOADER_KEY).dispatch();
+        return asyncResult.get();
+    }
+
+    private SearchContext getSearchContext() throws Exception {
+        ArgumentCaptor<SearchContext> searchContext = ArgumentCaptor.forClass(SearchContext.class);
+        verify(indexer).search(searchContext.capture());
+        return searchContext.getValue();
+    }
+
+    @Test
+    public void search_should_load_the_entities_of_the_documents_in_index_order() throws Exception {
+        // Given
+        Object firstEntity = new Object();
+        Object secondEntity = new Object();
+        entities.put(3L, firstEntity);
+        entities.put(1L, secondEntity);
+        arguments.put("first", 2);
+        arguments.put("groupId", 20143L);
+        arguments.put("keywords", "liferay");
+        Hits hits = getHits(5, 3L, 1L);
+        when(indexer.search(any(SearchContext.class)))
+                .thenReturn(hits);
+
+        // When
+        Connection<Object> connection = search();
+
+        // Then
+        assertEquals(2, connection.getEdges().size());
+        assertSame(firstEntity, connection.getEdges().get(0).getNode());
+        assertSame(secondEntity, connection.getEdges().get(1).getNode());
+        assertEquals(0, ConnectionUtil.decodeOffsetCursor(connection.getEdges().get(0).getCursor().getValue()));
+        assertEquals(1, ConnectionUtil.decodeOffsetCursor(connection.getPageInfo().getEndCursor().getValue()));
+        assertFalse(connection.getPageInfo().isHasPreviousPage());
+        assertTrue(connection.getPageInfo().isHasNextPage());
+
+        // Asserts
+        SearchContext searchContext = getSearchContext();
+        assertEquals(COMPANY_ID, searchContext.getCompanyId());
+        assertArrayEquals(new long[]{20143L}, searchContext.getGroupIds());
+        assertEquals("liferay", searchContext.getKeywords());
+        assertEquals(0, searchContext.getStart());
+        assertEquals(2, searchContext.getEnd());
+        assertArrayEquals(new String[]{Field.ENTRY_CLASS_NAME, Field.ENTRY_CLASS_PK},
+                searchContext.getQueryConfig().getSelectedFieldNames());
+    }
+
+    @Test
+    public void search_with_after_cursor_should_start_after_its_offset() throws Exception {
+        // Given
+        entities.put(7L, new Object());
+        arguments.put("first", 2);
+        arguments.put("after", ConnectionUtil.encodeOffsetCursor(9).getValue());
+        Hits hits = getHits(11, 7L);
+        when(indexer.search(any(SearchContext.class)))
+                .thenReturn(hits);
+
+        // When
+        Connection<Object> connection = search();
+
+        // Then
+        assertEquals(1, connection.getEdges().size());
+        assertEquals(10, ConnectionUtil.decodeOffsetCursor(connection.getEdges().get(0).getCursor().getValue()));
+        assertTrue(connection.getPageInfo().isHasPreviousPage());
+        assertFalse(connection.getPageInfo().isHasNextPage());
+
+        // Asserts
+        SearchContext searchContext = getSearchContext();
+        assertEquals(10, searchContext.getStart());
+        assertEquals(12, searchContext.getEnd());
+    }
+
+    @Test
+    public void search_should_skip_documents_without_entity() throws Exception {
+        // Given
+        Object entity = new Object();
+        entities.put(2L, entity);
+        Hits hits = getHits(2, 1L, 2L);
+        when(indexer.search(any(SearchContext.class)))
+                .thenReturn(hits);
+
+        // When
+        Connection<Object> connection = search();
+
+        // Then
+        assertEquals(1, connection.getEdges().size());
+        assertSame(entity, connection.getEdges().get(0).getNode());
+        assertEquals(1, ConnectionUtil.decodeOffsetCursor(connection.getEdges().get(0).getCursor().getValue()));
+    }
+
+    @Test
+    public void search_with_filters_and_sort_should_add_them_to_search_context() throws Exception {
+        // Given
+        Map<String, Object> filter = new HashMap<>();
+        filter.put("field", "ddmStructureKey");
+        filter.put("value", "NEWS");
+        Map<String, Object> sort = new HashMap<>();
+        sort.put("field", "modified_sortable");
+        sort.put("reverse", true);
+        arguments.put("filters", Collections.singletonList(filter));
+        arguments.put("sort", Collections.singletonList(sort));
+        Hits hits = getHits(0);
+        when(indexer.search(any(SearchContext.class)))
+                .thenReturn(hits);
+
+        // When
+        Connection<Object> connection = search();
+
+        // Then
+        assertTrue(connection.getEdges().isEmpty());
+        assertNull(connection.getPageInfo().getEndCursor());
+
+        // Asserts
+        SearchContext searchContext = getSearchContext();
+        assertEquals(1, searchContext.getBooleanClauses().length);
+        assertEquals(1, searchContext.getSorts().length);
+        assertEquals("modified_sortable", searchContext.getSorts()[0].getFieldName());
+        assertTrue(searchContext.getSorts()[0].isReverse());
+    }
+
+    @Test
+    public void search_with_keys_mapper_should_load_mapped_keys() throws Exception {
+        // Given
+        Object entity = new Object();
+        entities.put(42L, entity);
+        Hits hits = getHits(1, 3L);
+        when(indexer.search(any(SearchContext.class)))
+                .thenReturn(hits);
+
+        // When
+        CompletableFuture<Connection<Object>> asyncResult = entitySearcher.search(environment, CLASS_NAME, LOADER_KEY,
+                documents -> Arrays.asList(42L));
+        environment.getDataLoader(LOADER_KEY).dispatch();
+        List<Object> nodes = asyncResult.get().getEdges().stream()
+                .map(edge -> edge.getNode())
+                .collect(Collectors.toList());
+
+        // Then
+        assertEquals(Collections.singletonList(entity), nodes);
+    }
+}
@@ -0,0 +1,355 @@
+package fr.sedona.liferay.graphql.subscriptions;
+
+import com.liferay.portal.kernel.cluster.ClusterExecutorUtil;
+import com.liferay.portal.kernel.cluster.ClusterRequest;
+import com.liferay.portal.kernel.model.User;
+import com.liferay.portal.kernel.util.MethodHandler;
+import fr.sedona.liferay.graphql.configuration.SubscriptionConfiguration;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.loaders.UserBatchLoader;
+import fr.sedona.liferay.graphql.util.DataLoaderRegistryFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.core.classloader.annotations.SuppressStaticInitializationFor;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.powermock.api.mockito.PowerMockito.mockStatic;
+import static org.powermock.api.mockito.PowerMockito.verifyStatic;
+
+/**
+ * Test suite for {@link ModelEventPublisher}
+ */
+@RunWith(PowerMockRunner.class)
+@PrepareForTest(
+        ClusterExecutorUtil.class
+)
+@SuppressStaticInitializationFor("com.liferay.portal.kernel.cluster.ClusterExecutorUtil")
+public class ModelEventPublisherTest {
+    private static final long COMPANY_ID = 20116L;
+    private static final long GROUP_ID = 20143L;
+
+    @InjectMocks
+    ModelEventPublisher modelEventPublisher = new ModelEventPublisher();
+
+    @Mock
+    private DataLoaderRegistryFactory dataLoaderRegistryFactory;
+
+    @Mock
+    private BatchLoaderExecutor batchLoaderExecutor;
+
+    @Mock
+    private User user;
+
+    private class TestSubscriber implements Subscriber<ModelEvent> {
+        private final List<ModelEvent> events = new ArrayList<>();
+        private final long initialDemand;
+        private Subscription subscription;
+
+        TestSubscriber(long initialDemand) {
+            this.initialDemand = initialDemand;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            if (initialDemand > 0) {
+                subscription.request(initialDemand);
+            }
+        }
+
+        @Override
+        public void onNext(ModelEvent event) {
+            events.add(event);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            throw new IllegalStateException(t);
+        }
+
+        @Override
+        public void onComplete() {
+            // Model events never complete
+        }
+    }
+
+    @Before
+    public void setUp() {
+        SubscriptionConfiguration configuration = mock(SubscriptionConfiguration.class);
+        when(configuration.maximumPendingEvents())
+                .thenReturn(2);
+        modelEventPublisher.configure(configuration);
+
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("companyId", COMPANY_ID);
+        attributes.put("groupId", GROUP_ID);
+        when(user.getModelAttributes())
+                .thenReturn(attributes);
+
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArguments()[0]).run();
+            return null;
+        }).when(batchLoaderExecutor).executeDetached(any(Runnable.class));
+
+        mockStatic(ClusterExecutorUtil.class);
+        when(ClusterExecutorUtil.isEnabled())
+                .thenReturn(false);
+    }
+
+    @After
+    public void tearDown() {
+        modelEventPublisher.deactivateComponent();
+    }
+
+    private TestSubscriber subscribe(Long groupId, Long companyId, long initialDemand) {
+        TestSubscriber subscriber = new TestSubscriber(initialDemand);
+        new ModelEventSubscription(modelEventPublisher, UserBatchLoader.KEY, groupId, companyId, 2,
+                batchLoaderExecutor::executeDetached, () -> {
+        }).subscribe(subscriber);
+        return subscriber;
+    }
+
+    @Test
+    public void publish_should_load_entity_once_for_all_accepting_subscriptions() {
+        // Given
+        TestSubscriber companySubscriber = subscribe(null, COMPANY_ID, Long.MAX_VALUE);
+        TestSubscriber groupSubscriber = subscribe(GROUP_ID, COMPANY_ID, Long.MAX_VALUE);
+        TestSubscriber otherGroupSubscriber = subscribe(GROUP_ID + 1, null, Long.MAX_VALUE);
+        Object loadedUser = new Object();
+        when(dataLoaderRegistryFactory.load(UserBatchLoader.KEY, 123L))
+                .thenReturn(CompletableFuture.completedFuture(loadedUser));
+
+        // When
+        modelEventPublisher.publish(UserBatchLoader.KEY, ModelEventType.UPDATE, 123L, user);
+
+        // Then
+        verify(dataLoaderRegistryFactory, times(1)).load(UserBatchLoader.KEY, 123L);
+        assertEquals(1, companySubscriber.events.size());
+        assertEquals(1, groupSubscriber.events.size());
+        assertTrue(otherGroupSubscriber.events.isEmpty());
+        assertSame(companySubscriber.events.get(0), groupSubscriber.events.get(0));
+        assertEquals(ModelEventType.UPDATE, companySubscriber.events.get(0).getType());
+        assertEquals(123L, companySubscriber.events.get(0).getPrimaryKey());
+        assertSame(loadedUser, companySubscriber.events.get(0).getEntity().join());
+    }
+
+    @Test
+    public void publish_remove_should_send_removed_model_without_loading() {
+        // Given
+        TestSubscriber subscriber = subscribe(null, null, Long.MAX_VALUE);
+
+        // When
+        modelEventPublisher.publish(UserBatchLoader.KEY, ModelEventType.REMOVE, 123L, user);
+
+        // Then
+        verify(dataLoaderRegistryFactory, never()).load(anyString(), anyLong());
+        assertEquals(1, subscriber.events.size());
+        assertSame(user, subscriber.events.get(0).getEntity().join());
+    }
+
+    @Test
+    public void publish_without_demand_should_keep_latest_pending_events() {
+        // Given
+        TestSubscriber subscriber = subscribe(null, null, 0);
+
+        // When
+        modelEventPublisher.publish(UserBatchLoader.KEY, ModelEventType.REMOVE, 1L, user);
+        modelEventPublisher.publish(UserBatchLoader.KEY, ModelEventType.REMOVE, 2L, user);
+        modelEventPublisher.publish(UserBatchLoader.KEY, ModelEventType.REMOVE, 3L, user);
+
+        // Then
+        assertTrue(subscriber.events.isEmpty());
+        subscriber.subscription.request(10);
+        assertEquals(2, subscriber.events.size());
+        assertEquals(2L, subscriber.events.get(0).getPrimaryKey());
+        assertEquals(3L, subscriber.events.get(1).getPrimaryKey());
+    }
+
+    @Test
+    public void publish_after_cancel_should_not_send_events() {
+        // Given
+        TestSubscriber subscriber = subscribe(null, null, Long.MAX_VALUE);
+        subscriber.subscription.cancel();
+
+        // When
+        modelEventPublisher.publish(UserBatchLoader.KEY, ModelEventType.UPDATE, 123L, user);
+
+        // Then
+        verify(dataLoaderRegistryFactory, never()).load(anyString(), anyLong());
+        assertEquals(Arrays.asList(), subscriber.events);
+    }
+
+    @Test
+    public void publish_should_only_enqueue_event_on_committing_thread() {
+        // Given
+        TestSubscriber subscriber = subscribe(null, null, Long.MAX_VALUE);
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        doNothing().when(batchLoaderExecutor).executeDetached(captor.capture());
+        when(dataLoaderRegistryFactory.load(UserBatchLoader.KEY, 123L))
+                .thenReturn(CompletableFuture.completedFuture(user));
+
+        // When
+        modelEventPublisher.publish(UserBatchLoader.KEY, ModelEventType.UPDATE, 123L, user);
+
+        // Then
+        verify(dataLoaderRegistryFactory, never()).load(anyString(), anyLong());
+        assertTrue(subscriber.events.isEmpty());
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArguments()[0]).run();
+            return null;
+        }).when(batchLoaderExecutor).executeDetached(any(Runnable.class));
+        captor.getValue().run();
+        assertEquals(1, subscriber.events.size());
+    }
+
+    @Test
+    public void publish_should_drop_event_when_executor_is_saturated() {
+        // Given
+        TestSubscriber subscriber = subscribe(null, null, Long.MAX_VALUE);
+        doThrow(new RejectedExecutionException("Batch loader executor is saturated"))
+                .when(batchLoaderExecutor).executeDetached(any(Runnable.class));
+
+        // When
+        modelEventPublisher.publish(UserBatchLoader.KEY, ModelEventType.UPDATE, 123L, user);
+
+        // Then
+        verify(dataLoaderRegistryFactory, never()).load(anyString(), anyLong());
+        assertTrue(subscriber.events.isEmpty());
+    }
+
+    @Test
+    public void publish_without_subscription_should_not_enqueue_event() {
+        // When
+        modelEventPublisher.publish(UserBatchLoader.KEY, ModelEventType.UPDATE, 123L, user);
+
+        // Then
+        verify(batchLoaderExecutor, never()).executeDetached(any(Runnable.class));
+    }
+
+    @Test
+    public void publish_should_broadcast_event_when_cluster_enabled() {
+        // Given
+        ArgumentCaptor<ClusterRequest> captor = ArgumentCaptor.forClass(ClusterRequest.class);
+        when(ClusterExecutorUtil.isEnabled())
+                .thenReturn(true);
+
+        // When
+        modelEventPublisher.publish(UserBatchLoader.KEY, ModelEventType.REMOVE, 123L, user);
+
+        // Then
+        verifyStatic();
+        ClusterExecutorUtil.execute(captor.capture());
+
+        // Asserts
+        ClusterRequest clusterRequest = captor.getValue();
+        assertTrue(clusterRequest.isFireAndForget());
+        assertTrue(clusterRequest.isSkipLocal());
+        assertTrue(clusterRequest.isMulticast());
+    }
+
+    @Test
+    public void publish_update_should_broadcast_ids_without_model() {
+        // Given
+        ArgumentCaptor<ClusterRequest> captor = ArgumentCaptor.forClass(ClusterRequest.class);
+        when(ClusterExecutorUtil.isEnabled())
+                .thenReturn(true);
+
+        // When
+        modelEventPublisher.publish(UserBatchLoader.KEY, ModelEventType.UPDATE, 123L, user);
+
+        // Then
+        verifyStatic();
+        ClusterExecutorUtil.execute(captor.capture());
+
+        // Asserts
+        MethodHandler methodHandler = (MethodHandler) captor.getValue().getPayload();
+        assertArrayEquals(
+                new Object[]{UserBatchLoader.KEY, ModelEventType.UPDATE, 123L, GROUP_ID, COMPANY_ID, null},
+                methodHandler.getArguments());
+    }
+
+    @Test
+    public void publishLocally_should_load_updated_entity_on_this_node() {
+        // Given
+        modelEventPublisher.activateComponent(new HashMap<>());
+        TestSubscriber subscriber = subscribe(GROUP_ID, null, Long.MAX_VALUE);
+        Object loadedUser = new Object();
+        when(dataLoaderRegistryFactory.load(UserBatchLoader.KEY, 123L))
+                .thenReturn(CompletableFuture.completedFuture(loadedUser));
+
+        // When
+        ModelEventPublisher.publishLocally(UserBatchLoader.KEY, ModelEventType.UPDATE, 123L, GROUP_ID, COMPANY_ID, null);
+
+        // Then
+        verify(dataLoaderRegistryFactory, times(1)).load(UserBatchLoader.KEY, 123L);
+        assertEquals(1, subscriber.events.size());
+        assertEquals(ModelEventType.UPDATE, subscriber.events.get(0).getType());
+        assertSame(loadedUser, subscriber.events.get(0).getEntity().join());
+        verifyStatic(never());
+        ClusterExecutorUtil.execute(any(ClusterRequest.class));
+    }
+
+    @Test
+    public void publishLocally_remove_should_send_received_model_without_loading() {
+        // Given
+        modelEventPublisher.activateComponent(new HashMap<>());
+        TestSubscriber subscriber = subscribe(GROUP_ID, null, Long.MAX_VALUE);
+
+        // When
+        ModelEventPublisher.publishLocally(UserBatchLoader.KEY, ModelEventType.REMOVE, 123L, GROUP_ID, COMPANY_ID, user);
+
+        // Then
+        verify(dataLoaderRegistryFactory, never()).load(anyString(), anyLong());
+        assertEquals(1, subscriber.events.size());
+        assertSame(user, subscriber.events.get(0).getEntity().join());
+    }
+
+    @Test
+    public void publishLocally_without_accepting_subscription_should_not_load_entity() {
+        // Given
+        modelEventPublisher.activateComponent(new HashMap<>());
+        subscribe(GROUP_ID + 1, null, Long.MAX_VALUE);
+
+        // When
+        ModelEventPublisher.publishLocally(UserBatchLoader.KEY, ModelEventType.UPDATE, 123L, GROUP_ID, COMPANY_ID, null);
+
+        // Then
+        verify(batchLoaderExecutor, never()).executeDetached(any(Runnable.class));
+        verify(dataLoaderRegistryFactory, never()).load(anyString(), anyLong());
+    }
+
+    @Test
+    public void publishLocally_should_do_nothing_when_component_is_inactive() {
+        // Given
+        TestSubscriber subscriber = subscribe(null, null, Long.MAX_VALUE);
+
+        // When
+        ModelEventPublisher.publishLocally(UserBatchLoader.KEY, ModelEventType.UPDATE, 123L, GROUP_ID, COMPANY_ID, null);
+
+        // Then
+        assertTrue(subscriber.events.isEmpty());
+    }
+}
@@ -0,0 +1,113 @@
+package fr.sedona.liferay.graphql.util;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test suite for {@link BatchLoaderUtil}
+ */
+public class BatchLoaderUtilTest {
+
+    @Test
+    public void orderByKeys_should_return_results_in_key_order() {
+        // Given
+        List<Long> keys = Arrays.asList(3L, 1L, 2L);
+        List<Long> results = Arrays.asList(1L, 2L, 3L);
+
+        // When
+        List<Long> orderedResults = BatchLoaderUtil.orderByKeys(keys, results, Long::longValue);
+
+        // Then
+        assertEquals(Arrays.asList(3L, 1L, 2L), orderedResults);
+    }
+
+    @Test
+    public void orderByKeys_should_return_null_for_missing_keys() {
+        // Given
+        List<Long> keys = Arrays.asList(1L, 4L, 2L, null);
+        List<Long> results = Arrays.asList(2L, 1L);
+
+        // When
+        List<Long> orderedResults = BatchLoaderUtil.orderByKeys(keys, results, Long::longValue);
+
+        // Then
+        assertEquals(Arrays.asList(1L, null, 2L, null), orderedResults);
+    }
+
+    @Test
+    public void orderByKeys_should_return_same_result_for_duplicate_keys() {
+        // Given
+        List<Long> keys = Arrays.asList(1L, 1L);
+        List<Long> results = Collections.singletonList(1L);
+
+        // When
+        List<Long> orderedResults = BatchLoaderUtil.orderByKeys(keys, results, Long::longValue);
+
+        // Then
+        assertEquals(Arrays.asList(1L, 1L), orderedResults);
+    }
+
+    @Test
+    public void orderByKeys_should_ignore_null_results() {
+        // Given
+        List<Long> keys = Collections.singletonList(1L);
+        List<Long> results = Arrays.asList(null, 1L);
+
+        // When
+        List<Long> orderedResults = BatchLoaderUtil.orderByKeys(keys, results, Long::longValue);
+
+        // Then
+        assertEquals(Collections.singletonList(1L), orderedResults);
+    }
+
+    @Test
+    public void orderByKeys_with_null_keys_should_return_an_empty_list() {
+        // When
+        List<Long> orderedResults = BatchLoaderUtil.orderByKeys(null, Collections.emptyList(), Long::longValue);
+
+        // Then
+        assertTrue(orderedResults.isEmpty());
+    }
+
+    @Test
+    public void slice_should_return_elements_between_bounds() {
+        // When
+        List<Long> slicedResults = BatchLoaderUtil.slice(Arrays.asList(1L, 2L, 3L, 4L), 1, 3);
+
+        // Then
+        assertEquals(Arrays.asList(2L, 3L), slicedResults);
+    }
+
+    @Test
+    public void slice_with_bounds_out_of_range_should_be_truncated() {
+        // When
+        List<Long> slicedResults = BatchLoaderUtil.slice(Arrays.asList(1L, 2L), 1, 10);
+
+        // Then
+        assertEquals(Collections.singletonList(2L), slicedResults);
+    }
+
+    @Test
+    public void slice_with_negative_bounds_should_return_all_elements() {
+        // When
+        List<Long> slicedResults = BatchLoaderUtil.slice(Arrays.asList(1L, 2L), -1, -1);
+
+        // Then
+        assertEquals(Arrays.asList(1L, 2L), slicedResults);
+    }
+
+    @Test
+    public void slice_with_null_list_should_return_an_empty_list() {
+        // When
+        List<Long> slicedResults = BatchLoaderUtil.slice(null, 0, 10);
+
+        // Then
+        assertTrue(slicedResults.isEmpty());
+    }
+}
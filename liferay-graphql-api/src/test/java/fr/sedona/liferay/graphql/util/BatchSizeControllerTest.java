@@ -0,0 +1,67 @@
+package fr.sedona.liferay.graphql.util;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test suite for {@link BatchSizeController}
+ */
+public class BatchSizeControllerTest {
+
+    @Test
+    public void record_with_fixed_batch_size_should_not_change_batch_size() {
+        // Given
+        BatchSizeController controller = new BatchSizeController(100);
+
+        // When
+        controller.record(100, 0);
+
+        // Then
+        assertFalse(controller.isAdaptive());
+        assertEquals(100, controller.getMaxBatchSize());
+    }
+
+    @Test
+    public void record_with_fast_full_batch_should_grow_batch_size_up_to_maximum() {
+        // Given
+        BatchSizeController controller = new BatchSizeController(400, 10, 1000, 50);
+
+        // When
+        controller.record(400, TimeUnit.MILLISECONDS.toNanos(5));
+        controller.record(800, TimeUnit.MILLISECONDS.toNanos(5));
+
+        // Then
+        assertTrue(controller.isAdaptive());
+        assertEquals(1000, controller.getMaxBatchSize());
+    }
+
+    @Test
+    public void record_with_fast_partial_batch_should_keep_batch_size() {
+        // Given
+        BatchSizeController controller = new BatchSizeController(100, 10, 1000, 50);
+
+        // When
+        controller.record(20, TimeUnit.MILLISECONDS.toNanos(5));
+
+        // Then
+        assertEquals(100, controller.getMaxBatchSize());
+    }
+
+    @Test
+    public void record_with_slow_batch_should_shrink_batch_size_down_to_minimum() {
+        // Given
+        BatchSizeController controller = new BatchSizeController(30, 10, 1000, 50);
+
+        // When
+        controller.record(30, TimeUnit.MILLISECONDS.toNanos(200));
+        controller.record(15, TimeUnit.MILLISECONDS.toNanos(200));
+
+        // Then
+        assertEquals(10, controller.getMaxBatchSize());
+    }
+}
@@ -0,0 +1,187 @@
+package fr.sedona.liferay.graphql.util;
+
+import com.liferay.portal.kernel.dao.orm.Criterion;
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.OrderFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.Property;
+import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import graphql.GraphQLException;
+import graphql.relay.Connection;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+import static org.powermock.api.mockito.PowerMockito.mockStatic;
+
+/**
+ * Test suite for {@link ConnectionUtil}
+ */
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({
+        OrderFactoryUtil.class,
+        PropertyFactoryUtil.class
+})
+public class ConnectionUtilTest {
+    private static final String PRIMARY_KEY_NAME = "userId";
+    private DynamicQuery query;
+    private Property property;
+    private List<Integer> requestedEnds;
+
+    @Before
+    public void setUp() {
+        query = mock(DynamicQuery.class);
+        property = mock(Property.class);
+        requestedEnds = new ArrayList<>();
+
+        mockStatic(PropertyFactoryUtil.class);
+        when(PropertyFactoryUtil.forName(PRIMARY_KEY_NAME))
+                .thenReturn(property);
+        mockStatic(OrderFactoryUtil.class);
+    }
+
+    private ConnectionUtil.RangeQuery<Long> rangeQuery(List<Long> rows) {
+        return (dynamicQuery, start, end) -> {
+            requestedEnds.add(end);
+            return rows.subList(start, Math.min(end, rows.size()));
+        };
+    }
+
+    private List<Long> rows(long from, long to) {
+        return LongStream.rangeClosed(from, to)
+                .boxed()
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void getConnection_should_return_the_first_page() {
+        // Given
+        List<Long> rows = rows(1L, 5L);
+
+        // When
+        Connection<Long> connection = ConnectionUtil.getConnection(query, PRIMARY_KEY_NAME, Long::longValue,
+                3, null, rangeQuery(rows), () -> 0L);
+
+        // Then
+        assertEquals(3, connection.getEdges().size());
+        assertEquals(Arrays.asList(1L, 2L, 3L), connection.getEdges().stream()
+                .map(edge -> edge.getNode())
+                .collect(Collectors.toList()));
+        assertTrue(connection.getPageInfo().isHasNextPage());
+        assertFalse(connection.getPageInfo().isHasPreviousPage());
+        assertEquals(ConnectionUtil.encodeCursor(1L).getValue(), connection.getPageInfo().getStartCursor().getValue());
+        assertEquals(ConnectionUtil.encodeCursor(3L).getValue(), connection.getPageInfo().getEndCursor().getValue());
+        assertEquals(Collections.singletonList(4), requestedEnds);
+        verify(query, never()).add(any(Criterion.class));
+    }
+
+    @Test
+    public void getConnection_with_after_cursor_should_filter_on_primary_key() {
+        // Given
+        String after = ConnectionUtil.encodeCursor(3L).getValue();
+        Criterion criterion = mock(Criterion.class);
+        when(property.gt(3L))
+                .thenReturn(criterion);
+
+        // When
+        Connection<Long> connection = ConnectionUtil.getConnection(query, PRIMARY_KEY_NAME, Long::longValue,
+                3, after, rangeQuery(rows(4L, 5L)), () -> 0L);
+
+        // Then
+        assertEquals(2, connection.getEdges().size());
+        assertFalse(connection.getPageInfo().isHasNextPage());
+        assertTrue(connection.getPageInfo().isHasPreviousPage());
+        verify(query, times(1)).add(criterion);
+    }
+
+    @Test
+    public void getConnection_without_results_should_return_an_empty_page() {
+        // When
+        Connection<Long> connection = ConnectionUtil.getConnection(query, PRIMARY_KEY_NAME, Long::longValue,
+                3, null, rangeQuery(Collections.emptyList()), () -> 0L);
+
+        // Then
+        assertTrue(connection.getEdges().isEmpty());
+        assertNull(connection.getPageInfo().getStartCursor());
+        assertNull(connection.getPageInfo().getEndCursor());
+        assertFalse(connection.getPageInfo().isHasNextPage());
+    }
+
+    @Test
+    public void getConnection_should_only_count_when_totalCount_is_read() {
+        // Given
+        AtomicInteger countQueries = new AtomicInteger();
+
+        // When
+        Connection<Long> connection = ConnectionUtil.getConnection(query, PRIMARY_KEY_NAME, Long::longValue,
+                3, null, rangeQuery(rows(1L, 5L)), () -> {
+                    countQueries.incrementAndGet();
+                    return 5L;
+                });
+
+        // Then
+        assertEquals(0, countQueries.get());
+        assertEquals(5L, ((CountedConnection<Long>) connection).getTotalCount());
+        assertEquals(1, countQueries.get());
+    }
+
+    @Test
+    public void getConnection_with_invalid_size_should_use_default_page_size() {
+        // When
+        ConnectionUtil.getConnection(query, PRIMARY_KEY_NAME, Long::longValue,
+                0, null, rangeQuery(Collections.emptyList()), () -> 0L);
+        ConnectionUtil.getConnection(query, PRIMARY_KEY_NAME, Long::longValue,
+                Integer.MAX_VALUE, null, rangeQuery(Collections.emptyList()), () -> 0L);
+
+        // Then
+        assertEquals(Arrays.asList(ConnectionUtil.DEFAULT_PAGE_SIZE + 1, ConnectionUtil.MAX_PAGE_SIZE + 1),
+                requestedEnds);
+    }
+
+    @Test
+    public void decodeCursor_should_return_encoded_primary_key() {
+        // When
+        long primaryKey = ConnectionUtil.decodeCursor(ConnectionUtil.encodeCursor(123456789L).getValue());
+
+        // Then
+        assertEquals(123456789L, primaryKey);
+    }
+
+    @Test(expected = GraphQLException.class)
+    public void decodeCursor_with_invalid_cursor_should_throw_exception() {
+        // When
+        ConnectionUtil.decodeCursor("not a cursor");
+    }
+
+    @Test(expected = GraphQLException.class)
+    public void decodeCursor_with_foreign_cursor_should_throw_exception() {
+        // When
+        ConnectionUtil.decodeCursor("c2ltcGxlLWN1cnNvcjA=");
+    }
+
+    @Test
+    public void decodeOffsetCursor_should_return_encoded_offset() {
+        // When
+        int offset = ConnectionUtil.decodeOffsetCursor(ConnectionUtil.encodeOffsetCursor(42).getValue());
+
+        // Then
+        assertEquals(42, offset);
+    }
+
+    @Test(expected = GraphQLException.class)
+    public void decodeOffsetCursor_with_keyset_cursor_should_throw_exception() {
+        // When
+        ConnectionUtil.decodeOffsetCursor(ConnectionUtil.encodeCursor(42L).getValue());
+    }
+}
@@ -0,0 +1,388 @@
+package fr.sedona.liferay.graphql.util;
+
+import fr.sedona.liferay.graphql.cache.EntityCache;
+import fr.sedona.liferay.graphql.configuration.DataLoaderConfiguration;
+import fr.sedona.liferay.graphql.loaders.*;
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for {@link DataLoaderRegistryFactory}
+ */
+@RunWith(PowerMockRunner.class)
+public class DataLoaderRegistryFactoryTest {
+
+    @InjectMocks
+    DataLoaderRegistryFactory registryFactory = new DataLoaderRegistryFactory();
+
+    @Spy
+    private EntityCache entityCache = new EntityCache();
+
+    @Mock
+    private AssetCategoryBatchLoader assetCategoryBatchLoader;
+
+    @Mock
+    private AssetEntryBatchLoader assetEntryBatchLoader;
+
+    @Mock
+    private AssetLinkBatchLoader assetLinkBatchLoader;
+
+    @Mock
+    private AssetTagBatchLoader assetTagBatchLoader;
+
+    @Mock
+    private AssetVocabularyBatchLoader assetVocabularyBatchLoader;
+
+    @Mock
+    private BlogsEntryBatchLoader blogsEntryBatchLoader;
+
+    @Mock
+    private DLFileEntryBatchLoader dlFileEntryBatchLoader;
+
+    @Mock
+    private DLFileEntryMetadataBatchLoader dlFileEntryMetadataBatchLoader;
+
+    @Mock
+    private DLFileEntryTypeBatchLoader dlFileEntryTypeBatchLoader;
+
+    @Mock
+    private DLFileShortcutBatchLoader dlFileShortcutBatchLoader;
+
+    @Mock
+    private DLFileVersionBatchLoader dlFileVersionBatchLoader;
+
+    @Mock
+    private DLFolderBatchLoader dlFolderBatchLoader;
+
+    @Mock
+    private DDMContentBatchLoader ddmContentBatchLoader;
+
+    @Mock
+    private DDMStructureBatchLoader ddmStructureBatchLoader;
+
+    @Mock
+    private DDMTemplateBatchLoader ddmTemplateBatchLoader;
+
+    @Mock
+    private ExpandoColumnBatchLoader expandoColumnBatchLoader;
+
+    @Mock
+    private ExpandoRowBatchLoader expandoRowBatchLoader;
+
+    @Mock
+    private ExpandoTableBatchLoader expandoTableBatchLoader;
+
+    @Mock
+    private ExpandoValueBatchLoader expandoValueBatchLoader;
+
+    @Mock
+    private JournalArticleBatchLoader journalArticleBatchLoader;
+
+    @Mock
+    private JournalFeedBatchLoader journalFeedBatchLoader;
+
+    @Mock
+    private JournalFolderBatchLoader journalFolderBatchLoader;
+
+    @Mock
+    private MBCategoryBatchLoader mbCategoryBatchLoader;
+
+    @Mock
+    private MBMessageBatchLoader mbMessageBatchLoader;
+
+    @Mock
+    private MBThreadBatchLoader mbThreadBatchLoader;
+
+    @Mock
+    private OAuth2ApplicationBatchLoader oAuth2ApplicationBatchLoader;
+
+    @Mock
+    private OAuth2ApplicationScopeAliasesBatchLoader oAuth2ApplicationScopeAliasesBatchLoader;
+
+    @Mock
+    private OAuth2AuthorizationBatchLoader oAuth2AuthorizationBatchLoader;
+
+    @Mock
+    private OAuth2ScopeGrantBatchLoader oAuth2ScopeGrantBatchLoader;
+
+    @Mock
+    private AddressBatchLoader addressBatchLoader;
+
+    @Mock
+    private ClassNameBatchLoader classnameBatchLoader;
+
+    @Mock
+    private CompanyBatchLoader companyBatchLoader;
+
+    @Mock
+    private ContactBatchLoader contactBatchLoader;
+
+    @Mock
+    private EmailAddressBatchLoader emailaddressBatchLoader;
+
+    @Mock
+    private GroupBatchLoader groupBatchLoader;
+
+    @Mock
+    private LayoutBatchLoader layoutBatchLoader;
+
+    @Mock
+    private ListTypeBatchLoader listTypeBatchLoader;
+
+    @Mock
+    private OrganizationBatchLoader organizationBatchLoader;
+
+    @Mock
+    private PhoneBatchLoader phoneBatchLoader;
+
+    @Mock
+    private RoleBatchLoader roleBatchLoader;
+
+    @Mock
+    private UserBatchLoader userBatchLoader;
+
+    @Mock
+    private UserGroupBatchLoader userGroupBatchLoader;
+
+    @Mock
+    private WebsiteBatchLoader websiteBatchLoader;
+
+    @Mock
+    private RatingsEntryBatchLoader ratingsEntryBatchLoader;
+
+    @Mock
+    private AddressesForEntityBatchLoader addressesForEntityBatchLoader;
+
+    @Mock
+    private EmailAddressesForEntityBatchLoader emailAddressesForEntityBatchLoader;
+
+    @Mock
+    private PhonesForEntityBatchLoader phonesForEntityBatchLoader;
+
+    @Mock
+    private WebsitesForEntityBatchLoader websitesForEntityBatchLoader;
+
+    @Mock
+    private LayoutsForGroupBatchLoader layoutsForGroupBatchLoader;
+
+    @Mock
+    private AssetCategoriesForAssetBatchLoader assetCategoriesForAssetBatchLoader;
+
+    @Mock
+    private AssetTagsForAssetBatchLoader assetTagsForAssetBatchLoader;
+
+    @Mock
+    private JournalArticleProjectedBatchLoader journalArticleProjectedBatchLoader;
+
+    @Mock
+    private DDMContentProjectedBatchLoader ddmContentProjectedBatchLoader;
+
+    @Mock
+    private DataLoaderConfiguration configuration;
+
+    @Before
+    public void setUp() {
+        when(configuration.defaultMaxBatchSize())
+                .thenReturn(100);
+        when(configuration.maxBatchSizes())
+                .thenReturn(new String[]{"user=500", "group=5000", "role=invalid"});
+        when(configuration.inListLimit())
+                .thenReturn(1000);
+        when(configuration.minAdaptiveBatchSize())
+                .thenReturn(10);
+        when(configuration.targetLatencyMillis())
+                .thenReturn(50L);
+        registryFactory.activeComponent(configuration);
+    }
+
+    @Test
+    public void newDataLoaderRegistry_should_register_all_loaders() {
+        // Given
+        // Nothing
+
+        // When / Then
+        DataLoaderRegistry registry = registryFactory.newDataLoaderRegistry();
+
+        // Asserts
+        assertNotNull(registry);
+        assertEquals(53, registry.getKeys().size());
+        assertNotNull(registry.getDataLoader(UserBatchLoader.KEY));
+        assertNotNull(registry.getDataLoader(JournalArticleBatchLoader.KEY));
+        assertNotNull(registry.getDataLoader(AddressesForEntityBatchLoader.KEY));
+        assertNotNull(registry.getDataLoader(AssetTagsForAssetBatchLoader.KEY));
+        assertNotNull(registry.getDataLoader(JournalArticleProjectedBatchLoader.KEY));
+    }
+
+    @Test
+    public void newDataLoaderRegistry_should_return_a_new_registry_for_each_call() {
+        // Given
+        // Nothing
+
+        // When / Then
+        DataLoaderRegistry firstRegistry = registryFactory.newDataLoaderRegistry();
+        DataLoaderRegistry secondRegistry = registryFactory.newDataLoaderRegistry();
+
+        // Asserts
+        assertNotSame(firstRegistry, secondRegistry);
+        assertNotSame(firstRegistry.getDataLoader(UserBatchLoader.KEY), secondRegistry.getDataLoader(UserBatchLoader.KEY));
+    }
+
+    @Test
+    public void newDataLoaderRegistry_should_share_cross_request_cache() {
+        // Given
+        Object expectedResult = new Object();
+        DataLoaderRegistry firstRegistry = registryFactory.newDataLoaderRegistry();
+        DataLoader<Long, Object> firstDataLoader = firstRegistry.getDataLoader(UserBatchLoader.KEY);
+        firstDataLoader.prime(1L, expectedResult);
+
+        // When / Then
+        DataLoaderRegistry secondRegistry = registryFactory.newDataLoaderRegistry();
+        DataLoader<Long, Object> secondDataLoader = secondRegistry.getDataLoader(UserBatchLoader.KEY);
+        CompletableFuture<Object> result = secondDataLoader.load(1L);
+
+        // Asserts
+        assertTrue(result.isDone());
+        assertSame(expectedResult, result.join());
+    }
+
+    @Test
+    public void newDataLoaderRegistry_should_not_share_cache_between_entity_types() {
+        // Given
+        DataLoaderRegistry firstRegistry = registryFactory.newDataLoaderRegistry();
+        DataLoader<Long, Object> userDataLoader = firstRegistry.getDataLoader(UserBatchLoader.KEY);
+        userDataLoader.prime(123L, new Object());
+
+        // When / Then
+        DataLoaderRegistry secondRegistry = registryFactory.newDataLoaderRegistry();
+        DataLoader<Long, Object> groupDataLoader = secondRegistry.getDataLoader(GroupBatchLoader.KEY);
+        CompletableFuture<Object> result = groupDataLoader.load(123L);
+
+        // Asserts
+        assertFalse(result.isDone());
+    }
+
+    @Test
+    public void newDataLoaderRegistry_without_cross_request_caching_should_not_share_cache() {
+        // Given
+        DataLoaderRegistry firstRegistry = registryFactory.newDataLoaderRegistry(false);
+        DataLoader<Long, Object> firstDataLoader = firstRegistry.getDataLoader(UserBatchLoader.KEY);
+        firstDataLoader.prime(2L, new Object());
+
+        // When / Then
+        DataLoaderRegistry secondRegistry = registryFactory.newDataLoaderRegistry(false);
+        DataLoader<Long, Object> secondDataLoader = secondRegistry.getDataLoader(UserBatchLoader.KEY);
+        CompletableFuture<Object> result = secondDataLoader.load(2L);
+
+        // Asserts
+        assertFalse(result.isDone());
+    }
+
+    @Test
+    public void configure_should_apply_batch_size_per_loader() {
+        // Given
+        // Nothing
+
+        // When / Then
+        // Configured in setUp
+
+        // Asserts
+        assertEquals(500, registryFactory.getMaxBatchSize(UserBatchLoader.KEY));
+        assertEquals(100, registryFactory.getMaxBatchSize(RoleBatchLoader.KEY));
+        assertEquals(100, registryFactory.getMaxBatchSize(CompanyBatchLoader.KEY));
+    }
+
+    @Test
+    public void configure_should_cap_batch_size_to_in_list_limit() {
+        // Given
+        // Nothing
+
+        // When / Then
+        // Configured in setUp
+
+        // Asserts
+        assertEquals(1000, registryFactory.getMaxBatchSize(GroupBatchLoader.KEY));
+    }
+
+    @Test
+    public void newDataLoaderRegistry_should_split_keys_in_batches_of_configured_size() {
+        // Given
+        when(configuration.maxBatchSizes())
+                .thenReturn(new String[]{"user=2"});
+        registryFactory.configure(configuration);
+        when(userBatchLoader.load(anyListOf(Long.class)))
+                .thenAnswer(invocation -> {
+                    List<Long> keys = (List<Long>) invocation.getArguments()[0];
+                    return CompletableFuture.completedFuture(keys);
+                });
+
+        // When / Then
+        DataLoaderRegistry registry = registryFactory.newDataLoaderRegistry(false);
+        DataLoader<Long, Object> dataLoader = registry.getDataLoader(UserBatchLoader.KEY);
+        dataLoader.loadMany(Arrays.asList(1L, 2L, 3L));
+        dataLoader.dispatch();
+
+        // Asserts
+        verify(userBatchLoader).load(Arrays.asList(1L, 2L));
+        verify(userBatchLoader).load(Collections.singletonList(3L));
+    }
+
+    @Test
+    public void newDataLoaderRegistry_with_adaptive_batch_size_should_grow_fast_full_batches() {
+        // Given
+        when(configuration.maxBatchSizes())
+                .thenReturn(new String[]{"user=2"});
+        when(configuration.adaptiveBatchSize())
+                .thenReturn(true);
+        when(configuration.minAdaptiveBatchSize())
+                .thenReturn(1);
+        when(configuration.targetLatencyMillis())
+                .thenReturn(60_000L);
+        registryFactory.configure(configuration);
+        when(userBatchLoader.load(anyListOf(Long.class)))
+                .thenAnswer(invocation -> {
+                    List<Long> keys = (List<Long>) invocation.getArguments()[0];
+                    return CompletableFuture.completedFuture(keys);
+                });
+
+        // When / Then
+        DataLoaderRegistry registry = registryFactory.newDataLoaderRegistry(false);
+        DataLoader<Long, Object> dataLoader = registry.getDataLoader(UserBatchLoader.KEY);
+        dataLoader.loadMany(Arrays.asList(1L, 2L));
+        dataLoader.dispatch();
+
+        // Asserts
+        assertEquals(4, registryFactory.getMaxBatchSize(UserBatchLoader.KEY));
+    }
+
+    @Test
+    public void newDataLoaderRegistry_should_not_share_cache_for_list_loaders() {
+        // Given
+        DataLoaderRegistry firstRegistry = registryFactory.newDataLoaderRegistry();
+        DataLoader<Long, Object> firstDataLoader = firstRegistry.getDataLoader(LayoutsForGroupBatchLoader.KEY);
+        firstDataLoader.prime(3L, Collections.emptyList());
+
+        // When / Then
+        DataLoaderRegistry secondRegistry = registryFactory.newDataLoaderRegistry();
+        DataLoader<Long, Object> secondDataLoader = secondRegistry.getDataLoader(LayoutsForGroupBatchLoader.KEY);
+        CompletableFuture<Object> result = secondDataLoader.load(3L);
+
+        // Asserts
+        assertFalse(result.isDone());
+    }
+}
@@ -0,0 +1,82 @@
+package fr.sedona.liferay.graphql.util;
+
+import fr.sedona.liferay.graphql.instrumentation.DeferredExecutionResult;
+import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
+import graphql.GraphQL;
+import graphql.execution.reactive.SingleSubscriberPublisher;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Test suite for {@link DeferUtil}
+ */
+@RunWith(PowerMockRunner.class)
+public class DeferUtilTest {
+    private Map<String, Object> data;
+
+    @Before
+    public void setUp() {
+        Map<String, Object> firstUser = new LinkedHashMap<>();
+        firstUser.put("userId", 20160L);
+        Map<String, Object> secondUser = new LinkedHashMap<>();
+        secondUser.put("userId", 20161L);
+        data = new LinkedHashMap<>();
+        data.put("users", Arrays.asList(firstUser, secondUser));
+    }
+
+    private ExecutionResult newDeferredExecutionResult(DeferredExecutionResult... deferredResults) {
+        SingleSubscriberPublisher<DeferredExecutionResult> publisher = new SingleSubscriberPublisher<>();
+        for (DeferredExecutionResult deferredResult : deferredResults) {
+            publisher.offer(deferredResult);
+        }
+        publisher.noMoreData();
+        Map<Object, Object> extensions = new LinkedHashMap<>();
+        extensions.put(GraphQL.DEFERRED_RESULTS, publisher);
+        return new ExecutionResultImpl(data, null, extensions);
+    }
+
+    @Test
+    public void mergeDeferredResults_should_put_deferred_fields_back_in_data() {
+        // Given
+        ExecutionResult executionResult = newDeferredExecutionResult(
+                new DeferredExecutionResult(Arrays.asList("users", 1, "screenName"), new ExecutionResultImpl("user20161", null)),
+                new DeferredExecutionResult(Arrays.asList("users", 0, "screenName"), new ExecutionResultImpl("user20160", null)));
+
+        // When
+        ExecutionResult mergedResult = DeferUtil.mergeDeferredResults(executionResult).join();
+
+        // Then
+        Map<String, Object> firstUser = new LinkedHashMap<>();
+        firstUser.put("userId", 20160L);
+        firstUser.put("screenName", "user20160");
+        Map<String, Object> secondUser = new LinkedHashMap<>();
+        secondUser.put("userId", 20161L);
+        secondUser.put("screenName", "user20161");
+        assertEquals(Collections.singletonMap("users", Arrays.asList(firstUser, secondUser)), mergedResult.getData());
+        assertNull(mergedResult.getExtensions());
+    }
+
+    @Test
+    public void mergeDeferredResults_without_deferred_results_should_return_same_result() {
+        // Given
+        ExecutionResult executionResult = new ExecutionResultImpl(data, null);
+
+        // When
+        ExecutionResult mergedResult = DeferUtil.mergeDeferredResults(executionResult).join();
+
+        // Then
+        assertSame(executionResult, mergedResult);
+    }
+}
@@ -0,0 +1,112 @@
+package fr.sedona.liferay.graphql.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
+import graphql.InvalidSyntaxError;
+import graphql.language.SourceLocation;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test suite for {@link ExecutionResultStreamingOutput}
+ */
+@RunWith(PowerMockRunner.class)
+public class ExecutionResultStreamingOutputTest {
+    private ObjectMapper objectMapper;
+    private Map<String, Object> data;
+
+    @Before
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+
+        Map<String, Object> user = new LinkedHashMap<>();
+        user.put("userId", 20160L);
+        user.put("screenName", "test");
+        user.put("active", true);
+        user.put("company", null);
+        data = new LinkedHashMap<>();
+        data.put("users", Arrays.asList(user, Collections.emptyMap()));
+    }
+
+    private byte[] write(ExecutionResult executionResult, boolean gzip) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new ExecutionResultStreamingOutput(executionResult, objectMapper, gzip).write(output);
+        return output.toByteArray();
+    }
+
+    @Test
+    public void write_should_output_specification() throws IOException {
+        // Given
+        Map<Object, Object> extensions = Collections.singletonMap("cost", Collections.singletonMap("depth", 2));
+        ExecutionResult executionResult = new ExecutionResultImpl(data, null, extensions);
+
+        // When
+        byte[] output = write(executionResult, false);
+
+        // Then
+        assertEquals(objectMapper.writeValueAsString(executionResult.toSpecification()),
+                new String(output, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void write_with_errors_should_output_specification() throws IOException {
+        // Given
+        ExecutionResult executionResult = new ExecutionResultImpl(null,
+                Collections.singletonList(new InvalidSyntaxError(new SourceLocation(1, 0), "Invalid Syntax")));
+
+        // When
+        byte[] output = write(executionResult, false);
+
+        // Then
+        assertEquals(objectMapper.writeValueAsString(executionResult.toSpecification()),
+                new String(output, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void write_with_gzip_should_compress_specification() throws IOException {
+        // Given
+        ExecutionResult executionResult = new ExecutionResultImpl(data, null);
+
+        // When
+        byte[] output = write(executionResult, true);
+
+        // Then
+        Map<String, Object> specification = objectMapper.readValue(
+                new GZIPInputStream(new ByteArrayInputStream(output)), Map.class);
+        assertEquals(objectMapper.readValue(objectMapper.writeValueAsString(executionResult.toSpecification()), Map.class),
+                specification);
+    }
+
+    @Test
+    public void write_with_batch_should_output_array_of_specifications() throws IOException {
+        // Given
+        ExecutionResult executionResult = new ExecutionResultImpl(data, null);
+        ExecutionResult errorResult = new ExecutionResultImpl(null,
+                Collections.singletonList(new InvalidSyntaxError(new SourceLocation(1, 0), "Invalid Syntax")));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        new ExecutionResultStreamingOutput(Arrays.asList(executionResult, errorResult), objectMapper, false)
+                .write(output);
+
+        // Then
+        assertEquals(objectMapper.writeValueAsString(Arrays.asList(
+                executionResult.toSpecification(), errorResult.toSpecification())),
+                new String(output.toByteArray(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,194 @@
+package fr.sedona.liferay.graphql.util;
+
+import com.liferay.portal.kernel.dao.orm.Criterion;
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.Order;
+import com.liferay.portal.kernel.dao.orm.OrderFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.RestrictionsFactoryUtil;
+import graphql.schema.DataFetchingEnvironment;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+import static org.powermock.api.mockito.PowerMockito.mockStatic;
+
+/**
+ * Test suite for {@link FilterUtil}
+ */
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({
+        OrderFactoryUtil.class,
+        RestrictionsFactoryUtil.class
+})
+public class FilterUtilTest {
+    private static final String PRIMARY_KEY_NAME = "entryId";
+    private DynamicQuery query;
+    private DataFetchingEnvironment environment;
+    private Map<String, Object> arguments;
+
+    @Before
+    public void setUp() {
+        query = mock(DynamicQuery.class);
+        arguments = new HashMap<>();
+        environment = mock(DataFetchingEnvironment.class);
+        when(environment.getArgument(any()))
+                .thenAnswer(invocation -> arguments.get(invocation.getArguments()[0]));
+
+        mockStatic(RestrictionsFactoryUtil.class);
+        mockStatic(OrderFactoryUtil.class);
+    }
+
+    private Map<String, Object> operators(String operator, Object value) {
+        Map<String, Object> operators = new LinkedHashMap<>();
+        operators.put(operator, value);
+        return operators;
+    }
+
+    @Test
+    public void hasCriteria_without_filter_nor_orderBy_should_return_false() {
+        // When
+        boolean result = FilterUtil.hasCriteria(environment);
+
+        // Then
+        assertFalse(result);
+    }
+
+    @Test
+    public void hasCriteria_with_orderBy_should_return_true() {
+        // Given
+        arguments.put("orderBy", Collections.emptyList());
+
+        // When
+        boolean result = FilterUtil.hasCriteria(environment);
+
+        // Then
+        assertTrue(result);
+    }
+
+    @Test
+    public void addFilter_should_add_one_restriction_per_operator() {
+        // Given
+        Date modifiedDate = new Date();
+        List<Integer> statuses = Arrays.asList(0, 2);
+        Map<String, Object> modifiedDateOperators = operators("gte", modifiedDate);
+        modifiedDateOperators.put("lt", null);
+        Map<String, Object> filter = new LinkedHashMap<>();
+        filter.put("groupId", operators("eq", 20143L));
+        filter.put("status", operators("in", statuses));
+        filter.put("modifiedDate", modifiedDateOperators);
+        filter.put("userId", null);
+        arguments.put("filter", filter);
+        Criterion groupIdCriterion = mock(Criterion.class);
+        Criterion statusCriterion = mock(Criterion.class);
+        Criterion modifiedDateCriterion = mock(Criterion.class);
+        when(RestrictionsFactoryUtil.eq("groupId", 20143L))
+                .thenReturn(groupIdCriterion);
+        when(RestrictionsFactoryUtil.in("status", statuses))
+                .thenReturn(statusCriterion);
+        when(RestrictionsFactoryUtil.ge("modifiedDate", modifiedDate))
+                .thenReturn(modifiedDateCriterion);
+
+        // When
+        DynamicQuery result = FilterUtil.addFilter(query, environment);
+
+        // Then
+        assertSame(query, result);
+        verify(query, times(1)).add(groupIdCriterion);
+        verify(query, times(1)).add(statusCriterion);
+        verify(query, times(1)).add(modifiedDateCriterion);
+        verify(query, times(3)).add(any(Criterion.class));
+    }
+
+    @Test
+    public void addFilter_with_empty_in_should_match_nothing() {
+        // Given
+        arguments.put("filter", Collections.singletonMap("status", operators("in", Collections.emptyList())));
+        Criterion criterion = mock(Criterion.class);
+        when(RestrictionsFactoryUtil.sqlRestriction("1 = 0"))
+                .thenReturn(criterion);
+
+        // When
+        FilterUtil.addFilter(query, environment);
+
+        // Then
+        verify(query, times(1)).add(criterion);
+    }
+
+    @Test
+    public void getFilterKey_should_be_the_same_for_equivalent_filters() {
+        // Given
+        Map<String, Object> statusOperators = operators("in", Arrays.asList(2, 0, 2));
+        statusOperators.put("eq", null);
+        Map<String, Object> filter = new LinkedHashMap<>();
+        filter.put("status", statusOperators);
+        filter.put("groupId", operators("eq", 20143L));
+        filter.put("userId", null);
+        arguments.put("filter", filter);
+        String key = FilterUtil.getFilterKey(environment);
+        Map<String, Object> equivalentFilter = new LinkedHashMap<>();
+        equivalentFilter.put("groupId", operators("eq", 20143L));
+        equivalentFilter.put("status", operators("in", Arrays.asList(0, 2)));
+        arguments.put("filter", equivalentFilter);
+
+        // When
+        String equivalentKey = FilterUtil.getFilterKey(environment);
+
+        // Then
+        assertEquals(key, equivalentKey);
+        assertEquals("{groupId={eq=20143}, status={in=[0, 2]}}", key);
+    }
+
+    @Test
+    public void getFilterKey_without_filter_should_return_empty_key() {
+        // When
+        String key = FilterUtil.getFilterKey(environment);
+
+        // Then
+        assertEquals("", key);
+    }
+
+    @Test
+    public void addCriteria_should_order_by_the_primary_key_last() {
+        // Given
+        Map<String, Object> modifiedDateOrder = new HashMap<>();
+        modifiedDateOrder.put("field", "modifiedDate");
+        modifiedDateOrder.put("reverse", true);
+        Map<String, Object> groupIdOrder = new HashMap<>();
+        groupIdOrder.put("field", "groupId");
+        arguments.put("orderBy", Arrays.asList(modifiedDateOrder, groupIdOrder));
+        Order modifiedDateDesc = mock(Order.class);
+        Order groupIdAsc = mock(Order.class);
+        Order primaryKeyAsc = mock(Order.class);
+        when(OrderFactoryUtil.desc("modifiedDate"))
+                .thenReturn(modifiedDateDesc);
+        when(OrderFactoryUtil.asc("groupId"))
+                .thenReturn(groupIdAsc);
+        when(OrderFactoryUtil.asc(PRIMARY_KEY_NAME))
+                .thenReturn(primaryKeyAsc);
+
+        // When
+        DynamicQuery result = FilterUtil.addCriteria(query, environment, PRIMARY_KEY_NAME);
+
+        // Then
+        assertSame(query, result);
+        InOrder inOrder = inOrder(query);
+        inOrder.verify(query).addOrder(modifiedDateDesc);
+        inOrder.verify(query).addOrder(groupIdAsc);
+        inOrder.verify(query).addOrder(primaryKeyAsc);
+        verify(query, never()).add(any(Criterion.class));
+    }
+}
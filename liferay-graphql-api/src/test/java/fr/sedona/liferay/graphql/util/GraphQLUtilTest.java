@@ -1,6 +1,12 @@
 package fr.sedona.liferay.graphql.util;
 
+import com.liferay.portal.kernel.model.Contact;
+import com.liferay.portal.kernel.model.Organization;
+import com.liferay.portal.kernel.model.User;
+import com.liferay.portal.kernel.service.ClassNameLocalService;
 import com.liferay.portal.kernel.util.LocaleUtil;
+import fr.sedona.liferay.graphql.loaders.EntityKey;
+import fr.sedona.liferay.graphql.projection.ProjectedRow;
 import graphql.execution.ExecutionContext;
 import graphql.execution.ExecutionContextBuilder;
 import graphql.execution.ExecutionId;
@@ -10,12 +16,14 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
+import org.mockito.Mock;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
 import java.util.*;
 
 import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.powermock.api.mockito.PowerMockito.mockStatic;
 
@@ -46,6 +54,9 @@ public class GraphQLUtilTest {
     @InjectMocks
     GraphQLUtil graphQLUtil = new GraphQLUtil();
 
+    @Mock
+    private ClassNameLocalService classNameLocalService;
+
     @Before
     public void setUp() {
         argumentName = "testName";
@@ -69,8 +80,12 @@ public class GraphQLUtilTest {
     }
 
     private DataFetchingEnvironment getTestEnvironment(Map<String, Object> arguments) {
+        return getTestEnvironment(null, arguments);
+    }
+
+    private DataFetchingEnvironment getTestEnvironment(Object source, Map<String, Object> arguments) {
         return new DataFetchingEnvironmentImpl(
-                null,
+                source,
                 arguments,
                 null,
                 null,
@@ -530,4 +545,150 @@ public class GraphQLUtilTest {
         Date value = graphQLUtil.getDateArg(environment, argumentName);
         assertNull(value);
     }
+
+    @Test
+    public void getEntityKey_with_user_source_should_return_contact_key() {
+        // Given
+        User user = mock(User.class);
+        DataFetchingEnvironment environment = getTestEnvironment(user, null);
+
+        // When / Then
+        when(user.getContactId()).thenReturn(456L);
+        when(classNameLocalService.getClassNameId(Contact.class.getName()))
+                .thenReturn(123L);
+
+        // Asserts
+        EntityKey value = graphQLUtil.getEntityKey(environment);
+        assertEquals(new EntityKey(123L, 456L), value);
+    }
+
+    @Test
+    public void getEntityKey_with_model_source_should_return_model_key() {
+        // Given
+        Organization organization = mock(Organization.class);
+        DataFetchingEnvironment environment = getTestEnvironment(organization, null);
+
+        // When / Then
+        when(organization.getPrimaryKeyObj()).thenReturn(456L);
+        when(organization.getModelClassName()).thenReturn(Organization.class.getName());
+        when(classNameLocalService.getClassNameId(Organization.class.getName()))
+                .thenReturn(123L);
+
+        // Asserts
+        EntityKey value = graphQLUtil.getEntityKey(environment);
+        assertEquals(new EntityKey(123L, 456L), value);
+    }
+
+    @Test
+    public void getEntityKey_without_source_should_return_key_from_args() {
+        // Given
+        Map<String, Object> arguments = new HashMap<>();
+        arguments.put("className", Organization.class.getName());
+        arguments.put("classPK", 456L);
+        DataFetchingEnvironment environment = getTestEnvironment(arguments);
+
+        // When / Then
+        when(classNameLocalService.getClassNameId(Organization.class.getName()))
+                .thenReturn(123L);
+
+        // Asserts
+        EntityKey value = graphQLUtil.getEntityKey(environment);
+        assertEquals(new EntityKey(123L, 456L), value);
+    }
+
+    @Test
+    public void getEntityKey_without_source_and_no_args_should_return_null() {
+        // Given
+        DataFetchingEnvironment environment = getTestEnvironment(null);
+
+        // When / Then
+        // Nothing
+
+        // Asserts
+        EntityKey value = graphQLUtil.getEntityKey(environment);
+        assertNull(value);
+    }
+
+    @Test
+    public void getEntityIdFromSource_should_return_value_of_getter() throws Exception {
+        // Given
+        TestEntity source = new TestEntity();
+
+        // When / Then
+        // Nothing
+
+        // Asserts
+        assertEquals(456L, graphQLUtil.getEntityIdFromSource(source, "getEntityId"));
+        assertEquals(456L, graphQLUtil.getEntityIdFromSource(new TestEntity(), "getEntityId"));
+    }
+
+    @Test
+    public void getEntityIdFromSource_with_int_getter_should_return_value_as_long() throws Exception {
+        // Given
+        TestEntity source = new TestEntity();
+
+        // When / Then
+        // Nothing
+
+        // Asserts
+        assertEquals(7L, graphQLUtil.getEntityIdFromSource(source, "getTypeId"));
+    }
+
+    @Test
+    public void getEntityIdFromSource_with_unknown_method_should_throw_each_time() {
+        // Given
+        TestEntity source = new TestEntity();
+
+        // When / Then
+        for (int i = 0; i < 2; i++) {
+            try {
+                graphQLUtil.getEntityIdFromSource(source, "getUnknownId");
+                fail();
+            } catch (Exception e) {
+                // Asserts
+                assertTrue(e instanceof NoSuchMethodException);
+            }
+        }
+    }
+
+    @Test
+    public void getEntityIdFromSource_with_non_numeric_getter_should_throw() {
+        // Given
+        TestEntity source = new TestEntity();
+
+        // When / Then
+        try {
+            graphQLUtil.getEntityIdFromSource(source, "getName");
+            fail();
+        } catch (Exception e) {
+            // Asserts
+            assertTrue(e instanceof NoSuchMethodException);
+        }
+    }
+
+    @Test
+    public void getEntityIdFromSource_with_projected_row_should_return_value_of_field() throws Exception {
+        // Given
+        ProjectedRow source = new ProjectedRow(Collections.singletonMap("companyId", 20116L));
+
+        // When / Then
+        // Nothing
+
+        // Asserts
+        assertEquals(20116L, graphQLUtil.getEntityIdFromSource(source, "getCompanyId"));
+    }
+
+    public static class TestEntity {
+        public long getEntityId() {
+            return 456L;
+        }
+
+        public int getTypeId() {
+            return 7;
+        }
+
+        public String getName() {
+            return "name";
+        }
+    }
 }
@@ -0,0 +1,101 @@
+package fr.sedona.liferay.graphql.util;
+
+import graphql.introspection.IntrospectionQuery;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test suite for {@link IntrospectionUtil}
+ */
+public class IntrospectionUtilTest {
+
+    @Test
+    public void isIntrospectionQuery_with_canonical_query_should_return_true() {
+        // Given
+        String query = IntrospectionQuery.INTROSPECTION_QUERY;
+
+        // When
+        boolean mayBeIntrospectionQuery = IntrospectionUtil.mayBeIntrospectionQuery(query);
+        boolean introspectionQuery = IntrospectionUtil.isIntrospectionQuery(query);
+
+        // Then
+        assertTrue(mayBeIntrospectionQuery);
+        assertTrue(introspectionQuery);
+    }
+
+    @Test
+    public void isIntrospectionQuery_with_type_query_should_return_true() {
+        // Given
+        String query = "{ __type(name: \"User\") { name fields { name } } }";
+
+        // When
+        boolean mayBeIntrospectionQuery = IntrospectionUtil.mayBeIntrospectionQuery(query);
+        boolean introspectionQuery = IntrospectionUtil.isIntrospectionQuery(query);
+
+        // Then
+        assertTrue(mayBeIntrospectionQuery);
+        assertTrue(introspectionQuery);
+    }
+
+    @Test
+    public void mayBeIntrospectionQuery_with_typename_only_should_return_false() {
+        // Given
+        String query = "{ users(start: 0, end: 10) { __typename userId } }";
+
+        // When
+        boolean mayBeIntrospectionQuery = IntrospectionUtil.mayBeIntrospectionQuery(query);
+
+        // Then
+        assertFalse(mayBeIntrospectionQuery);
+    }
+
+    @Test
+    public void isIntrospectionQuery_with_data_fields_at_root_should_return_false() {
+        // Given
+        String query = "{ __schema { queryType { name } } users(start: 0, end: 10) { userId } }";
+
+        // When
+        boolean introspectionQuery = IntrospectionUtil.isIntrospectionQuery(query);
+
+        // Then
+        assertFalse(introspectionQuery);
+    }
+
+    @Test
+    public void isIntrospectionQuery_with_root_fragment_spread_should_return_false() {
+        // Given
+        String query = "{ ...Root } fragment Root on Query { __schema { queryType { name } } users { userId } }";
+
+        // When
+        boolean introspectionQuery = IntrospectionUtil.isIntrospectionQuery(query);
+
+        // Then
+        assertFalse(introspectionQuery);
+    }
+
+    @Test
+    public void isIntrospectionQuery_with_fragments_only_should_return_false() {
+        // Given
+        String query = "fragment TypeRef on __Type { name }";
+
+        // When
+        boolean introspectionQuery = IntrospectionUtil.isIntrospectionQuery(query);
+
+        // Then
+        assertFalse(introspectionQuery);
+    }
+
+    @Test
+    public void isIntrospectionQuery_with_invalid_query_should_return_false() {
+        // Given
+        String query = "{ __schema { ";
+
+        // When
+        boolean introspectionQuery = IntrospectionUtil.isIntrospectionQuery(query);
+
+        // Then
+        assertFalse(introspectionQuery);
+    }
+}
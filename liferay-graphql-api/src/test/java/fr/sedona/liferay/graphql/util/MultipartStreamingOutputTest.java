@@ -0,0 +1,54 @@
+package fr.sedona.liferay.graphql.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.sedona.liferay.graphql.instrumentation.DeferredExecutionResult;
+import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
+import graphql.GraphQL;
+import graphql.execution.reactive.SingleSubscriberPublisher;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test suite for {@link MultipartStreamingOutput}
+ */
+@RunWith(PowerMockRunner.class)
+public class MultipartStreamingOutputTest {
+    private static final String PART_HEADER = "\r\n---\r\nContent-Type: application/json; charset=utf-8\r\n\r\n";
+
+    @Test
+    public void write_should_output_initial_result_then_each_deferred_field() throws IOException {
+        // Given
+        SingleSubscriberPublisher<DeferredExecutionResult> publisher = new SingleSubscriberPublisher<>();
+        publisher.offer(new DeferredExecutionResult(Arrays.asList("users", 0, "screenName"),
+                new ExecutionResultImpl("user20160", null)));
+        publisher.noMoreData();
+        Map<Object, Object> extensions = new LinkedHashMap<>();
+        extensions.put(GraphQL.DEFERRED_RESULTS, publisher);
+        ExecutionResult executionResult = new ExecutionResultImpl(Collections.singletonMap("users",
+                Collections.singletonList(Collections.singletonMap("userId", 20160L))), null, extensions);
+
+        // When
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new MultipartStreamingOutput(executionResult, new ObjectMapper()).write(output);
+
+        // Then
+        assertEquals(PART_HEADER + "{\"data\":{\"users\":[{\"userId\":20160}]},\"hasNext\":true}"
+                        + PART_HEADER + "{\"incremental\":[{\"data\":{\"screenName\":\"user20160\"},"
+                        + "\"path\":[\"users\",0]}],\"hasNext\":true}"
+                        + PART_HEADER + "{\"hasNext\":false}"
+                        + "\r\n-----\r\n",
+                new String(output.toByteArray(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,175 @@
+package fr.sedona.liferay.graphql.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
+import graphql.execution.reactive.SingleSubscriberPublisher;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import javax.ws.rs.sse.OutboundSseEvent;
+import javax.ws.rs.sse.Sse;
+import javax.ws.rs.sse.SseEventSink;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for {@link ServerSentEventsSubscriber}
+ */
+@RunWith(PowerMockRunner.class)
+public class ServerSentEventsSubscriberTest {
+    private Map<OutboundSseEvent, String> builtEvents;
+    private List<String> sentEvents;
+    private AtomicInteger closeCount;
+
+    @Mock
+    private SseEventSink eventSink;
+
+    @Mock
+    private Sse sse;
+
+    @Mock
+    private ScheduledExecutorService heartbeatScheduler;
+
+    @Before
+    public void setUp() {
+        builtEvents = new HashMap<>();
+        sentEvents = new ArrayList<>();
+        closeCount = new AtomicInteger();
+
+        when(sse.newEventBuilder())
+                .thenAnswer(invocation -> newEventBuilder());
+        when(eventSink.send(any(OutboundSseEvent.class)))
+                .thenAnswer(invocation -> {
+                    sentEvents.add(builtEvents.get(invocation.getArguments()[0]));
+                    return CompletableFuture.completedFuture(null);
+                });
+    }
+
+    // Records the fields set on each event, one "field: value" line per field
+    private OutboundSseEvent.Builder newEventBuilder() {
+        StringBuilder event = new StringBuilder();
+        return mock(OutboundSseEvent.Builder.class, invocation -> {
+            if ("build".equals(invocation.getMethod().getName())) {
+                OutboundSseEvent outboundEvent = mock(OutboundSseEvent.class);
+                builtEvents.put(outboundEvent, event.toString());
+                return outboundEvent;
+            }
+
+            Object[] arguments = invocation.getArguments();
+            event.append(invocation.getMethod().getName())
+                    .append(": ")
+                    .append(arguments[arguments.length - 1])
+                    .append("\n");
+            return invocation.getMock();
+        });
+    }
+
+    private ServerSentEventsSubscriber newSubscriber() {
+        return new ServerSentEventsSubscriber(eventSink, sse, new ObjectMapper(), closeCount::incrementAndGet);
+    }
+
+    private ExecutionResult newEventResult(long primaryKey) {
+        return new ExecutionResultImpl(Collections.singletonMap("userChanged",
+                Collections.singletonMap("primaryKey", primaryKey)), null);
+    }
+
+    @Test
+    public void stream_should_send_each_event_then_complete() {
+        // Given
+        SingleSubscriberPublisher<ExecutionResult> publisher = new SingleSubscriberPublisher<>();
+        publisher.offer(newEventResult(20160L));
+        publisher.offer(newEventResult(20161L));
+        publisher.noMoreData();
+
+        // When
+        newSubscriber().stream(new ExecutionResultImpl(publisher, null), heartbeatScheduler, 0);
+
+        // Then
+        assertEquals(Arrays.asList(
+                "name: next\ndata: {\"data\":{\"userChanged\":{\"primaryKey\":20160}}}\n",
+                "name: next\ndata: {\"data\":{\"userChanged\":{\"primaryKey\":20161}}}\n",
+                "name: complete\ndata: \n"),
+                sentEvents);
+        verify(eventSink, times(1)).close();
+        assertEquals(1, closeCount.get());
+    }
+
+    @Test
+    public void stream_without_publisher_should_send_single_event() {
+        // Given
+        ExecutionResult executionResult = new ExecutionResultImpl(Collections.singletonMap("status", "OK!"), null);
+
+        // When
+        newSubscriber().stream(executionResult, heartbeatScheduler, 15);
+
+        // Then
+        assertEquals(Arrays.asList(
+                "name: next\ndata: {\"data\":{\"status\":\"OK!\"}}\n",
+                "name: complete\ndata: \n"),
+                sentEvents);
+        verify(heartbeatScheduler, never())
+                .scheduleAtFixedRate(any(Runnable.class), anyLong(), anyLong(), any(TimeUnit.class));
+        assertEquals(1, closeCount.get());
+    }
+
+    @Test
+    public void stream_when_client_went_away_should_cancel_subscription() {
+        // Given
+        CompletableFuture<Object> failedSend = new CompletableFuture<>();
+        failedSend.completeExceptionally(new IOException("Broken pipe"));
+        doReturn(failedSend)
+                .when(eventSink).send(any(OutboundSseEvent.class));
+        SingleSubscriberPublisher<ExecutionResult> publisher = new SingleSubscriberPublisher<>();
+        publisher.offer(newEventResult(20160L));
+
+        // When
+        newSubscriber().stream(new ExecutionResultImpl(publisher, null), heartbeatScheduler, 0);
+        publisher.offer(newEventResult(20161L));
+
+        // Then
+        verify(eventSink, times(1)).send(any(OutboundSseEvent.class));
+        verify(eventSink, times(1)).close();
+        assertEquals(1, closeCount.get());
+    }
+
+    @Test
+    public void stream_with_heartbeat_should_stop_it_when_closed() {
+        // Given
+        ScheduledFuture heartbeat = mock(ScheduledFuture.class);
+        doReturn(heartbeat)
+                .when(heartbeatScheduler)
+                .scheduleAtFixedRate(any(Runnable.class), eq(15L), eq(15L), eq(TimeUnit.SECONDS));
+        SingleSubscriberPublisher<ExecutionResult> publisher = new SingleSubscriberPublisher<>();
+        ServerSentEventsSubscriber subscriber = newSubscriber();
+
+        // When
+        subscriber.stream(new ExecutionResultImpl(publisher, null), heartbeatScheduler, 15);
+        subscriber.close();
+        subscriber.close();
+
+        // Then
+        verify(heartbeat, times(1)).cancel(false);
+        verify(eventSink, times(1)).close();
+        assertEquals(1, closeCount.get());
+    }
+}
@@ -0,0 +1,79 @@
+package fr.sedona.liferay.graphql.benchmarks;
+
+import fr.sedona.liferay.graphql.benchmarks.fixture.EngineFixture;
+import fr.sedona.liferay.graphql.loaders.UserBatchLoader;
+import org.dataloader.DataLoader;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dispatch of the user data loader of a new registry, as built for each request, loading a fixed number of users at
+ * various maximum batch sizes. The cold benchmark empties the cross-request entity cache before each invocation, so
+ * that every user goes through the batch loader; the warm one only reads the cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataLoaderDispatchBenchmark {
+    private static final int USER_COUNT = 10_000;
+    private static final int LOADED_USER_COUNT = 1_000;
+
+    @Param({"1", "10", "100", "1000"})
+    private int maxBatchSize;
+
+    private EngineFixture fixture;
+    private List<Long> userIds;
+
+    @Setup
+    public void setUp() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("defaultMaxBatchSize", String.valueOf(maxBatchSize));
+        properties.put("inListLimit", String.valueOf(LOADED_USER_COUNT));
+        fixture = new EngineFixture(USER_COUNT, properties);
+
+        userIds = new ArrayList<>();
+        for (int i = 0; i < LOADED_USER_COUNT; i++) {
+            userIds.add(EngineFixture.FIRST_USER_ID + i);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        fixture.tearDown();
+    }
+
+    @State(Scope.Thread)
+    public static class ColdEntityCache {
+
+        @Setup(Level.Invocation)
+        public void evictUsers(DataLoaderDispatchBenchmark benchmark) {
+            benchmark.fixture.getEntityCache().evictAll(UserBatchLoader.KEY);
+        }
+    }
+
+    @Benchmark
+    public List<Object> coldDispatch(ColdEntityCache coldEntityCache) {
+        return dispatch();
+    }
+
+    @Benchmark
+    public List<Object> warmDispatch() {
+        return dispatch();
+    }
+
+    private List<Object> dispatch() {
+        DataLoader<Long, Object> dataLoader = fixture.getDataLoaderRegistryFactory()
+                .newDataLoaderRegistry()
+                .getDataLoader(UserBatchLoader.KEY);
+        dataLoader.loadMany(userIds);
+        return dataLoader.dispatchAndJoin();
+    }
+}
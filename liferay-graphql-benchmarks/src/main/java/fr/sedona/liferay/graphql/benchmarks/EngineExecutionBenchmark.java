@@ -0,0 +1,82 @@
+package fr.sedona.liferay.graphql.benchmarks;
+
+import fr.sedona.liferay.graphql.benchmarks.fixture.EngineFixture;
+import fr.sedona.liferay.graphql.engine.impl.GraphQLEngineImpl;
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full execution of typical queries through {@link GraphQLEngineImpl}: a page of users with their company, a single
+ * user, and a batch of single user operations sharing their data loaders. The companies are loaded through the
+ * cross-request entity cache, which is warm after the first invocation as on a running portal.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EngineExecutionBenchmark {
+    private static final int USER_COUNT = 10_000;
+    private static final int BATCHED_OPERATION_COUNT = 10;
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private EngineFixture fixture;
+    private GraphQLEngineImpl engine;
+    private Map<String, Object> pageVariables;
+    private Map<String, Object> userVariables;
+    private List<ExecutionInput> batchedInputs;
+
+    @Setup
+    public void setUp() {
+        fixture = new EngineFixture(USER_COUNT);
+        engine = fixture.getEngine();
+
+        pageVariables = new HashMap<>();
+        pageVariables.put("start", 0);
+        pageVariables.put("end", pageSize);
+
+        userVariables = Collections.singletonMap("userId", EngineFixture.FIRST_USER_ID);
+
+        batchedInputs = new ArrayList<>();
+        for (int i = 0; i < BATCHED_OPERATION_COUNT; i++) {
+            batchedInputs.add(ExecutionInput.newExecutionInput()
+                    .query(Queries.USER_BY_ID)
+                    .variables(Collections.singletonMap("userId", EngineFixture.FIRST_USER_ID + i))
+                    .context(new HashMap<String, Object>())
+                    .build());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        fixture.tearDown();
+    }
+
+    @Benchmark
+    public ExecutionResult usersWithCompany() {
+        return engine.executeQuery(Queries.USERS_WITH_COMPANY, null, pageVariables);
+    }
+
+    @Benchmark
+    public ExecutionResult userById() {
+        return engine.executeQuery(Queries.USER_BY_ID, null, userVariables);
+    }
+
+    @Benchmark
+    public List<ExecutionResult> batchedUsersById() {
+        return engine.executeQueriesAsync(batchedInputs)
+                .toCompletableFuture()
+                .join();
+    }
+}
@@ -0,0 +1,67 @@
+package fr.sedona.liferay.graphql.benchmarks;
+
+import fr.sedona.liferay.graphql.projection.ProjectedRow;
+import fr.sedona.liferay.graphql.util.GraphQLUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link GraphQLUtil#getEntityIdFromSource(Object, String)}, called by every relation field to read the id of
+ * the related entity from its parent, for entities and projected rows
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityIdBenchmark {
+    private GraphQLUtil util;
+    private Entity entity;
+    private ProjectedRow projectedRow;
+
+    @Setup
+    public void setUp() {
+        util = new GraphQLUtil();
+        entity = new Entity(20_100L, 30_000L);
+
+        Map<String, Object> values = new HashMap<>();
+        values.put("companyId", 20_100L);
+        values.put("userId", 30_000L);
+        projectedRow = new ProjectedRow(values);
+    }
+
+    @Benchmark
+    public long fromEntity() throws Exception {
+        return util.getEntityIdFromSource(entity, "getCompanyId");
+    }
+
+    @Benchmark
+    public long fromProjectedRow() throws Exception {
+        return util.getEntityIdFromSource(projectedRow, "getCompanyId");
+    }
+
+    /**
+     * Plain model class, as the *Impl classes of the portal
+     */
+    public static class Entity {
+        private final long companyId;
+        private final long userId;
+
+        public Entity(long companyId, long userId) {
+            this.companyId = companyId;
+            this.userId = userId;
+        }
+
+        public long getCompanyId() {
+            return companyId;
+        }
+
+        public long getUserId() {
+            return userId;
+        }
+    }
+}
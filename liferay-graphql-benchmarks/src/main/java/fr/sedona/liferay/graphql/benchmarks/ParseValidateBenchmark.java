@@ -0,0 +1,97 @@
+package fr.sedona.liferay.graphql.benchmarks;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import fr.sedona.liferay.graphql.benchmarks.fixture.EngineFixture;
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.execution.instrumentation.dataloader.DataLoaderDispatcherInstrumentation;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.language.Document;
+import graphql.parser.Parser;
+import graphql.schema.GraphQLSchema;
+import graphql.validation.ValidationError;
+import graphql.validation.Validator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of parsing and validating a typical query against the Liferay schema, alone and as part of a small execution
+ * with and without the preparsed document cache of the engine
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParseValidateBenchmark {
+    private EngineFixture fixture;
+    private GraphQLSchema schema;
+    private GraphQL uncachedGraphQL;
+    private GraphQL cachedGraphQL;
+    private Map<String, Object> variables;
+
+    @Setup
+    public void setUp() {
+        fixture = new EngineFixture(100);
+        schema = fixture.getGraphQLSchema();
+
+        uncachedGraphQL = GraphQL.newGraphQL(schema)
+                .instrumentation(new DataLoaderDispatcherInstrumentation())
+                .build();
+        // Same cache as the engine
+        Cache<String, PreparsedDocumentEntry> cache = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(5, TimeUnit.MINUTES)
+                .build();
+        cachedGraphQL = GraphQL.newGraphQL(schema)
+                .preparsedDocumentProvider(cache::get)
+                .instrumentation(new DataLoaderDispatcherInstrumentation())
+                .build();
+
+        // A single user, so that the execution weighs as little as possible next to the parsing and validation
+        variables = new HashMap<>();
+        variables.put("start", 0);
+        variables.put("end", 1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        fixture.tearDown();
+    }
+
+    @Benchmark
+    public Document parse() {
+        return new Parser().parseDocument(Queries.USERS_WITH_COMPANY);
+    }
+
+    @Benchmark
+    public List<ValidationError> parseAndValidate() {
+        Document document = new Parser().parseDocument(Queries.USERS_WITH_COMPANY);
+        return new Validator().validateDocument(schema, document);
+    }
+
+    @Benchmark
+    public ExecutionResult executeWithoutPreparsedCache() {
+        return uncachedGraphQL.execute(newExecutionInput());
+    }
+
+    @Benchmark
+    public ExecutionResult executeWithPreparsedCache() {
+        return cachedGraphQL.execute(newExecutionInput());
+    }
+
+    private ExecutionInput newExecutionInput() {
+        return ExecutionInput.newExecutionInput()
+                .query(Queries.USERS_WITH_COMPANY)
+                .variables(variables)
+                .dataLoaderRegistry(fixture.getDataLoaderRegistryFactory().newDataLoaderRegistry())
+                .build();
+    }
+}
@@ -0,0 +1,39 @@
+package fr.sedona.liferay.graphql.benchmarks;
+
+/**
+ * Queries shared by the benchmarks, only selecting the users and companies served by the engine fixture
+ */
+final class Queries {
+    static final String USERS_WITH_COMPANY = "query usersWithCompany($start: Int, $end: Int) {\n"
+            + "  users(start: $start, end: $end) {\n"
+            + "    userId\n"
+            + "    screenName\n"
+            + "    emailAddress\n"
+            + "    firstName\n"
+            + "    lastName\n"
+            + "    createDate\n"
+            + "    status\n"
+            + "    company {\n"
+            + "      companyId\n"
+            + "      webId\n"
+            + "      mx\n"
+            + "    }\n"
+            + "  }\n"
+            + "}";
+
+    static final String USER_BY_ID = "query userById($userId: Long) {\n"
+            + "  user(userId: $userId) {\n"
+            + "    userId\n"
+            + "    screenName\n"
+            + "    emailAddress\n"
+            + "    company {\n"
+            + "      companyId\n"
+            + "      webId\n"
+            + "    }\n"
+            + "  }\n"
+            + "}";
+
+    private Queries() {
+        // Do nothing
+    }
+}
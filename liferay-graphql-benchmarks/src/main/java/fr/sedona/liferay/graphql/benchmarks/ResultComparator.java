@@ -0,0 +1,94 @@
+package fr.sedona.liferay.graphql.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files, such as the one of the target branch and the one of a change, and exits with
+ * the status 1 when a benchmark got slower than the threshold.
+ * <p>
+ * Usage: {@code ResultComparator <baseline.json> <current.json> [threshold percentage, 10 by default]}
+ */
+public class ResultComparator {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final double DEFAULT_THRESHOLD_PERCENTAGE = 10;
+    private static final String MODE_THROUGHPUT = "thrpt";
+
+    private ResultComparator() {
+        // Do nothing
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: ResultComparator <baseline.json> <current.json> [threshold percentage]");
+            System.exit(2);
+            return;
+        }
+
+        double threshold = (args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENTAGE) / 100;
+        Map<String, JsonNode> baseline = readResults(new File(args[0]));
+        Map<String, JsonNode> current = readResults(new File(args[1]));
+
+        int regressionCount = 0;
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode baselineResult = baseline.get(entry.getKey());
+            if (baselineResult == null) {
+                System.out.println(String.format("NEW        %s", entry.getKey()));
+                continue;
+            }
+
+            double baselineScore = getScore(baselineResult);
+            double currentScore = getScore(entry.getValue());
+            double change = baselineScore == 0 ? 0 : (currentScore - baselineScore) / baselineScore;
+            // Throughputs should grow while the other modes measure times, which should shrink
+            double slowdown = MODE_THROUGHPUT.equals(entry.getValue().path("mode").asText()) ? -change : change;
+            boolean regression = slowdown > threshold;
+            if (regression) {
+                regressionCount++;
+            }
+
+            System.out.println(String.format("%-10s %s: %.3f -> %.3f %s (%+.1f%%)",
+                    regression ? "REGRESSION" : "OK",
+                    entry.getKey(),
+                    baselineScore,
+                    currentScore,
+                    entry.getValue().path("primaryMetric").path("scoreUnit").asText(),
+                    change * 100));
+        }
+
+        if (regressionCount > 0) {
+            System.out.println(regressionCount + " benchmark(s) slower than the " + (threshold * 100) + "% threshold");
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, JsonNode> readResults(File file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : OBJECT_MAPPER.readTree(file)) {
+            results.put(getKey(result), result);
+        }
+        return results;
+    }
+
+    // The same benchmark is run once per combination of its parameters
+    private static String getKey(JsonNode result) {
+        Map<String, String> params = new TreeMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = result.path("params").fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            params.put(field.getKey(), field.getValue().asText());
+        }
+        return result.path("benchmark").asText() + (params.isEmpty() ? "" : params.toString());
+    }
+
+    private static double getScore(JsonNode result) {
+        return result.path("primaryMetric").path("score").asDouble();
+    }
+}
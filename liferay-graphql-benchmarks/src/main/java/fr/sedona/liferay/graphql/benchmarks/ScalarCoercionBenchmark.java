@@ -0,0 +1,81 @@
+package fr.sedona.liferay.graphql.benchmarks;
+
+import fr.sedona.liferay.graphql.scalars.DateScalar;
+import fr.sedona.liferay.graphql.scalars.LocalizedStringScalar;
+import graphql.language.StringValue;
+import graphql.schema.Coercing;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the coercions of the custom scalars, run for every Date and LocalizedString value of the responses and
+ * arguments
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScalarCoercionBenchmark {
+    private Coercing<?, ?> dateCoercing;
+    private Coercing<?, ?> localizedStringCoercing;
+    private Date date;
+    private String dateString;
+    private StringValue dateLiteral;
+    private Map<Locale, String> localizedMap;
+    private String localizedString;
+    private StringValue localizedLiteral;
+
+    @Setup
+    public void setUp() {
+        dateCoercing = DateScalar.INSTANCE.getCoercing();
+        localizedStringCoercing = LocalizedStringScalar.INSTANCE.getCoercing();
+
+        date = new Date(1_500_000_000_000L);
+        dateString = date.toInstant().toString();
+        dateLiteral = new StringValue(dateString);
+
+        localizedMap = new HashMap<>();
+        localizedMap.put(Locale.US, "Title");
+        localizedMap.put(Locale.FRANCE, "Titre");
+        localizedMap.put(new Locale("es", "ES"), "Título");
+        localizedString = "{\"en_US\":\"Title\",\"fr_FR\":\"Titre\",\"es_ES\":\"Título\"}";
+        localizedLiteral = new StringValue(localizedString);
+    }
+
+    @Benchmark
+    public Object serializeDate() {
+        return dateCoercing.serialize(date);
+    }
+
+    @Benchmark
+    public Object parseDateValue() {
+        return dateCoercing.parseValue(dateString);
+    }
+
+    @Benchmark
+    public Object parseDateLiteral() {
+        return dateCoercing.parseLiteral(dateLiteral);
+    }
+
+    @Benchmark
+    public Object serializeLocalizedString() {
+        return localizedStringCoercing.serialize(localizedMap);
+    }
+
+    @Benchmark
+    public Object parseLocalizedStringValue() {
+        return localizedStringCoercing.parseValue(localizedString);
+    }
+
+    @Benchmark
+    public Object parseLocalizedStringLiteral() {
+        return localizedStringCoercing.parseLiteral(localizedLiteral);
+    }
+}
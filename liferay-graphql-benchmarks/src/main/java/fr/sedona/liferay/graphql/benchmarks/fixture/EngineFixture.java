@@ -0,0 +1,257 @@
+package fr.sedona.liferay.graphql.benchmarks.fixture;
+
+import com.liferay.portal.kernel.model.Company;
+import com.liferay.portal.kernel.model.User;
+import com.liferay.portal.kernel.service.CompanyLocalService;
+import com.liferay.portal.kernel.service.UserLocalService;
+import fr.sedona.liferay.graphql.cache.CountCache;
+import fr.sedona.liferay.graphql.cache.EntityCache;
+import fr.sedona.liferay.graphql.engine.impl.GraphQLEngineImpl;
+import fr.sedona.liferay.graphql.executor.BatchLoaderExecutor;
+import fr.sedona.liferay.graphql.executor.BulkMutationExecutor;
+import fr.sedona.liferay.graphql.instrumentation.QueryCostInstrumentation;
+import fr.sedona.liferay.graphql.instrumentation.SampledTracingInstrumentation;
+import fr.sedona.liferay.graphql.loaders.CompanyBatchLoader;
+import fr.sedona.liferay.graphql.loaders.UserBatchLoader;
+import fr.sedona.liferay.graphql.resolvers.CompanyResolvers;
+import fr.sedona.liferay.graphql.resolvers.UserResolvers;
+import fr.sedona.liferay.graphql.resolvers.impl.CompanyResolversImpl;
+import fr.sedona.liferay.graphql.resolvers.impl.UserResolversImpl;
+import fr.sedona.liferay.graphql.subscriptions.ModelEventPublisher;
+import fr.sedona.liferay.graphql.util.DataLoaderRegistryFactory;
+import fr.sedona.liferay.graphql.util.GraphQLUtil;
+import graphql.GraphQL;
+import graphql.schema.DataFetcher;
+import graphql.schema.GraphQLSchema;
+import org.dataloader.BatchLoader;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Wires a {@link GraphQLEngineImpl} outside of any OSGi container, the way the declarative services would.
+ * <p>
+ * Users and companies are served by the real resolvers and batch loaders, on top of in-memory local services. The
+ * resolvers of the other models are stubs whose data fetchers throw, so the benchmarked queries must only select users
+ * and companies.
+ */
+public class EngineFixture {
+    public static final long FIRST_COMPANY_ID = 20_100L;
+    public static final long FIRST_USER_ID = 30_000L;
+    public static final int COMPANY_COUNT = 10;
+
+    private final BatchLoaderExecutor batchLoaderExecutor;
+    private final EntityCache entityCache;
+    private final DataLoaderRegistryFactory dataLoaderRegistryFactory;
+    private final GraphQLEngineImpl engine;
+    private final UserLocalService userLocalService;
+    private final CompanyLocalService companyLocalService;
+    private final Map<Class<?>, Object> resolvers = new HashMap<>();
+
+    public EngineFixture(int userCount) {
+        this(userCount, Collections.emptyMap());
+    }
+
+    /**
+     * @param dataLoaderProperties the DataLoaderConfiguration properties, such as defaultMaxBatchSize
+     */
+    public EngineFixture(int userCount, Map<String, Object> dataLoaderProperties) {
+        InMemoryOrm.install();
+        companyLocalService = InMemoryLocalService.newLocalService(
+                CompanyLocalService.class, Company.class, newCompanies());
+        userLocalService = InMemoryLocalService.newLocalService(
+                UserLocalService.class, User.class, newUsers(userCount));
+
+        batchLoaderExecutor = new BatchLoaderExecutor();
+        batchLoaderExecutor.activateComponent(new HashMap<>());
+        entityCache = new EntityCache();
+
+        GraphQLUtil util = new GraphQLUtil();
+        CountCache countCache = new CountCache();
+
+        UserResolversImpl userResolvers = new UserResolversImpl();
+        userResolvers.setUserLocalService(userLocalService);
+        userResolvers.setUtil(util);
+        userResolvers.setCountCache(countCache);
+        resolvers.put(UserResolvers.class, userResolvers);
+
+        CompanyResolversImpl companyResolvers = new CompanyResolversImpl();
+        companyResolvers.setCompanyLocalService(companyLocalService);
+        companyResolvers.setUtil(util);
+        companyResolvers.setCountCache(countCache);
+        resolvers.put(CompanyResolvers.class, companyResolvers);
+
+        dataLoaderRegistryFactory = new DataLoaderRegistryFactory();
+        inject(dataLoaderRegistryFactory, this::newDataLoaderRegistryFactoryReference);
+        dataLoaderRegistryFactory.activeComponent(new HashMap<>(dataLoaderProperties));
+
+        engine = new GraphQLEngineImpl();
+        inject(engine, this::newEngineReference);
+        engine.activateComponent();
+    }
+
+    public GraphQLEngineImpl getEngine() {
+        return engine;
+    }
+
+    public GraphQLSchema getGraphQLSchema() {
+        return ((GraphQL) readField(engine, "graphQL")).getGraphQLSchema();
+    }
+
+    public DataLoaderRegistryFactory getDataLoaderRegistryFactory() {
+        return dataLoaderRegistryFactory;
+    }
+
+    public EntityCache getEntityCache() {
+        return entityCache;
+    }
+
+    public void tearDown() {
+        batchLoaderExecutor.deactivateComponent();
+    }
+
+    private static List<Company> newCompanies() {
+        List<Company> companies = new ArrayList<>();
+        for (int i = 0; i < COMPANY_COUNT; i++) {
+            Map<String, Object> attributes = new HashMap<>();
+            attributes.put("companyId", FIRST_COMPANY_ID + i);
+            attributes.put("webId", "company" + i + ".test");
+            attributes.put("mx", "company" + i + ".test");
+            attributes.put("active", true);
+            companies.add(InMemoryModels.newModel(Company.class, attributes));
+        }
+        return companies;
+    }
+
+    private static List<User> newUsers(int userCount) {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < userCount; i++) {
+            Map<String, Object> attributes = new HashMap<>();
+            attributes.put("userId", FIRST_USER_ID + i);
+            attributes.put("companyId", FIRST_COMPANY_ID + i % COMPANY_COUNT);
+            attributes.put("screenName", "user" + i);
+            attributes.put("emailAddress", "user" + i + "@company" + (i % COMPANY_COUNT) + ".test");
+            attributes.put("firstName", "First" + i);
+            attributes.put("lastName", "Last" + i);
+            attributes.put("createDate", new Date(1_500_000_000_000L + i * 60_000L));
+            attributes.put("status", 0);
+            users.add(InMemoryModels.newModel(User.class, attributes));
+        }
+        return users;
+    }
+
+    private Object newDataLoaderRegistryFactoryReference(Class<?> type) {
+        if (type == EntityCache.class) {
+            return entityCache;
+        }
+        if (!BatchLoader.class.isAssignableFrom(type)) {
+            return null;
+        }
+
+        Object batchLoader = newInstance(type);
+        if (batchLoader instanceof UserBatchLoader) {
+            ((UserBatchLoader) batchLoader).setUserLocalService(userLocalService);
+            ((UserBatchLoader) batchLoader).setBatchLoaderExecutor(batchLoaderExecutor);
+        } else if (batchLoader instanceof CompanyBatchLoader) {
+            ((CompanyBatchLoader) batchLoader).setCompanyLocalService(companyLocalService);
+            ((CompanyBatchLoader) batchLoader).setBatchLoaderExecutor(batchLoaderExecutor);
+        }
+        return batchLoader;
+    }
+
+    private Object newEngineReference(Class<?> type) {
+        if (type == DataLoaderRegistryFactory.class) {
+            return dataLoaderRegistryFactory;
+        }
+        if (type == SampledTracingInstrumentation.class) {
+            SampledTracingInstrumentation tracingInstrumentation = new SampledTracingInstrumentation();
+            tracingInstrumentation.activateComponent(new HashMap<>());
+            return tracingInstrumentation;
+        }
+        if (type == QueryCostInstrumentation.class) {
+            QueryCostInstrumentation queryCostInstrumentation = new QueryCostInstrumentation();
+            queryCostInstrumentation.activateComponent(new HashMap<>());
+            return queryCostInstrumentation;
+        }
+        if (type == BulkMutationExecutor.class) {
+            BulkMutationExecutor bulkMutationExecutor = new BulkMutationExecutor();
+            bulkMutationExecutor.activateComponent(new HashMap<>());
+            return bulkMutationExecutor;
+        }
+        if (type == ModelEventPublisher.class) {
+            ModelEventPublisher modelEventPublisher = new ModelEventPublisher();
+            inject(modelEventPublisher, this::newEngineReference);
+            modelEventPublisher.activateComponent(new HashMap<>());
+            return modelEventPublisher;
+        }
+        if (type.isInterface() && type.getSimpleName().endsWith("Resolvers")) {
+            return resolvers.computeIfAbsent(type, EngineFixture::newStubResolvers);
+        }
+        return null;
+    }
+
+    private static Object newStubResolvers(Class<?> resolversClass) {
+        return Proxy.newProxyInstance(
+                resolversClass.getClassLoader(),
+                new Class<?>[]{resolversClass},
+                (proxy, method, args) -> {
+                    if (DataFetcher.class.isAssignableFrom(method.getReturnType())) {
+                        return (DataFetcher<Object>) environment -> {
+                            throw new UnsupportedOperationException(resolversClass.getSimpleName() + "."
+                                    + method.getName() + " is not benchmarked");
+                        };
+                    }
+                    if ("toString".equals(method.getName()) && args == null) {
+                        return resolversClass.getSimpleName() + " stub";
+                    }
+                    return InMemoryModels.defaultValue(method.getReturnType());
+                });
+    }
+
+    // Sets the references left null by the constructor, as the service component runtime does
+    private static void inject(Object component, Function<Class<?>, Object> references) {
+        for (Field field : component.getClass().getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) || field.getType().isPrimitive()) {
+                continue;
+            }
+
+            field.setAccessible(true);
+            try {
+                if (field.get(component) == null) {
+                    Object reference = references.apply(field.getType());
+                    if (reference != null) {
+                        field.set(component, reference);
+                    }
+                }
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Could not inject " + field, e);
+            }
+        }
+    }
+
+    private static Object readField(Object component, String fieldName) {
+        try {
+            Field field = component.getClass().getDeclaredField(fieldName);
+            field.setAccessible(true);
+            return field.get(component);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not read " + fieldName, e);
+        }
+    }
+
+    private static Object newInstance(Class<?> type) {
+        try {
+            return type.getConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not instantiate " + type.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package fr.sedona.liferay.graphql.benchmarks.fixture;
+
+import com.liferay.portal.kernel.dao.orm.Criterion;
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.Order;
+import com.liferay.portal.kernel.dao.orm.Projection;
+import com.liferay.portal.kernel.dao.orm.Session;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Dynamic query only recording its criteria, the in-memory local services matching their models against them
+ */
+public class InMemoryDynamicQuery implements DynamicQuery {
+    private final Class<?> modelClass;
+    private final List<Predicate<Object>> predicates = new ArrayList<>();
+
+    public InMemoryDynamicQuery(Class<?> modelClass) {
+        this.modelClass = modelClass;
+    }
+
+    public Class<?> getModelClass() {
+        return modelClass;
+    }
+
+    public boolean matches(Object model) {
+        for (Predicate<Object> predicate : predicates) {
+            if (!predicate.test(model)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public DynamicQuery add(Criterion criterion) {
+        if (!(criterion instanceof InMemoryCriterion)) {
+            throw new UnsupportedOperationException("Unsupported criterion: " + criterion);
+        }
+        predicates.add(((InMemoryCriterion) criterion).getPredicate());
+        return this;
+    }
+
+    @Override
+    public DynamicQuery addOrder(Order order) {
+        // The models are always returned in their insertion order
+        return this;
+    }
+
+    @Override
+    public void compile(Session session) {
+        // Do nothing
+    }
+
+    @Override
+    public List list() {
+        throw new UnsupportedOperationException("In-memory queries are run by the in-memory local services");
+    }
+
+    @Override
+    public List list(boolean unmodifiable) {
+        return list();
+    }
+
+    @Override
+    public void setLimit(int start, int end) {
+        // Do nothing
+    }
+
+    @Override
+    public DynamicQuery setProjection(Projection projection) {
+        throw new UnsupportedOperationException("Projections are not supported in memory");
+    }
+
+    @Override
+    public DynamicQuery setProjection(Projection projection, boolean useColumnAlias) {
+        return setProjection(projection);
+    }
+
+    static class InMemoryCriterion implements Criterion {
+        private final Predicate<Object> predicate;
+
+        InMemoryCriterion(Predicate<Object> predicate) {
+            this.predicate = predicate;
+        }
+
+        Predicate<Object> getPredicate() {
+            return predicate;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package fr.sedona.liferay.graphql.benchmarks.fixture;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Local service backed by a list of models, implementing the methods the resolvers and batch loaders of the benchmarks
+ * call: dynamicQuery, dynamicQueryCount and the paginated getters such as getUsers(start, end). Any other method throws.
+ */
+public class InMemoryLocalService<T> implements InvocationHandler {
+    private final Class<?> serviceClass;
+    private final Class<T> modelClass;
+    private final List<T> models;
+
+    private InMemoryLocalService(Class<?> serviceClass, Class<T> modelClass, List<T> models) {
+        this.serviceClass = serviceClass;
+        this.modelClass = modelClass;
+        this.models = models;
+    }
+
+    public static <S, T> S newLocalService(Class<S> serviceClass, Class<T> modelClass, List<T> models) {
+        return serviceClass.cast(Proxy.newProxyInstance(
+                serviceClass.getClassLoader(),
+                new Class<?>[]{serviceClass},
+                new InMemoryLocalService<>(serviceClass, modelClass, models)));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        String methodName = method.getName();
+        int argCount = args == null ? 0 : args.length;
+        if ("equals".equals(methodName) && argCount == 1) {
+            return proxy == args[0];
+        }
+        if ("hashCode".equals(methodName) && argCount == 0) {
+            return System.identityHashCode(proxy);
+        }
+        if ("toString".equals(methodName) && argCount == 0) {
+            return serviceClass.getSimpleName() + "[" + models.size() + "]";
+        }
+
+        if ("dynamicQuery".equals(methodName)) {
+            if (argCount == 0) {
+                return new InMemoryDynamicQuery(modelClass);
+            }
+            List<T> results = query((InMemoryDynamicQuery) args[0]);
+            // The order by comparator of the 4 arguments variant is ignored, as for the orders of the query
+            return argCount >= 3 ? range(results, (int) args[1], (int) args[2]) : results;
+        }
+        if ("dynamicQueryCount".equals(methodName)) {
+            return (long) query((InMemoryDynamicQuery) args[0]).size();
+        }
+        if (methodName.startsWith("get") && argCount == 2
+                && method.getParameterTypes()[0] == int.class && method.getParameterTypes()[1] == int.class) {
+            return range(models, (int) args[0], (int) args[1]);
+        }
+        if (methodName.startsWith("get") && methodName.endsWith("sCount") && argCount == 0) {
+            return models.size();
+        }
+
+        throw new UnsupportedOperationException(serviceClass.getSimpleName() + "." + methodName
+                + " is not supported in memory");
+    }
+
+    private List<T> query(InMemoryDynamicQuery query) {
+        return models.stream()
+                .filter(query::matches)
+                .collect(Collectors.toList());
+    }
+
+    private static <T> List<T> range(List<T> models, int start, int end) {
+        // QueryUtil.ALL_POS, as the local services
+        if (start < 0 || end < 0) {
+            return models;
+        }
+        int size = models.size();
+        return models.subList(Math.min(start, size), Math.min(Math.max(start, end), size));
+    }
+}
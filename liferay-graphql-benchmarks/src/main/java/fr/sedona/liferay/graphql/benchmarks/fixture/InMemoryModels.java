@@ -0,0 +1,92 @@
+package fr.sedona.liferay.graphql.benchmarks.fixture;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+
+/**
+ * Liferay models backed by a map of attributes, the getters of the model interface reading the attribute of the same
+ * name (getScreenName reads screenName)
+ */
+public final class InMemoryModels {
+
+    private InMemoryModels() {
+        // Do nothing
+    }
+
+    public static <T> T newModel(Class<T> modelClass, Map<String, Object> attributes) {
+        return modelClass.cast(Proxy.newProxyInstance(
+                modelClass.getClassLoader(),
+                new Class<?>[]{modelClass},
+                new ModelHandler(attributes)));
+    }
+
+    public static Object getAttribute(Object model, String name) {
+        if (!Proxy.isProxyClass(model.getClass())) {
+            throw new IllegalArgumentException("Not an in-memory model: " + model);
+        }
+
+        InvocationHandler handler = Proxy.getInvocationHandler(model);
+        if (!(handler instanceof ModelHandler)) {
+            throw new IllegalArgumentException("Not an in-memory model: " + model);
+        }
+        return ((ModelHandler) handler).attributes.get(name);
+    }
+
+    static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) {
+            return null;
+        }
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == char.class) {
+            return '\0';
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == short.class) {
+            return (short) 0;
+        }
+        if (type == byte.class) {
+            return (byte) 0;
+        }
+        if (type == double.class) {
+            return 0d;
+        }
+        return 0f;
+    }
+
+    private static class ModelHandler implements InvocationHandler {
+        private final Map<String, Object> attributes;
+
+        ModelHandler(Map<String, Object> attributes) {
+            this.attributes = attributes;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            String methodName = method.getName();
+            if ("equals".equals(methodName) && args != null && args.length == 1) {
+                return proxy == args[0];
+            }
+            if ("hashCode".equals(methodName) && args == null) {
+                return System.identityHashCode(proxy);
+            }
+            if ("toString".equals(methodName) && args == null) {
+                return attributes.toString();
+            }
+
+            Object value = null;
+            if (args == null && methodName.startsWith("get") && methodName.length() > 3) {
+                value = attributes.get(Character.toLowerCase(methodName.charAt(3)) + methodName.substring(4));
+            }
+            return value == null ? defaultValue(method.getReturnType()) : value;
+        }
+    }
+}
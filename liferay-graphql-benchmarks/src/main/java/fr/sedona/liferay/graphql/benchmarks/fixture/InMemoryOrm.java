@@ -0,0 +1,95 @@
+package fr.sedona.liferay.graphql.benchmarks.fixture;
+
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.DynamicQueryFactory;
+import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.Property;
+import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Replaces the portal implementations behind {@link DynamicQueryFactoryUtil} and {@link PropertyFactoryUtil}, so that
+ * the batch loaders build {@link InMemoryDynamicQuery} instances. Only the eq and in criteria are supported.
+ */
+public final class InMemoryOrm {
+
+    private InMemoryOrm() {
+        // Do nothing
+    }
+
+    public static void install() {
+        new DynamicQueryFactoryUtil().setDynamicQueryFactory(new InMemoryDynamicQueryFactory());
+        new PropertyFactoryUtil().setPropertyFactory(InMemoryOrm::newProperty);
+    }
+
+    private static Property newProperty(String name) {
+        return (Property) Proxy.newProxyInstance(
+                Property.class.getClassLoader(),
+                new Class<?>[]{Property.class},
+                (proxy, method, args) -> {
+                    String methodName = method.getName();
+                    if ("toString".equals(methodName) && args == null) {
+                        return name;
+                    }
+                    if (args != null && args.length == 1 && !(args[0] instanceof DynamicQuery)) {
+                        if ("eq".equals(methodName)) {
+                            return newCriterion(name, Collections.singleton(args[0]));
+                        }
+                        if ("in".equals(methodName)) {
+                            return newCriterion(name, toSet(args[0]));
+                        }
+                    }
+                    throw new UnsupportedOperationException("Property." + methodName + " is not supported in memory");
+                });
+    }
+
+    private static InMemoryDynamicQuery.InMemoryCriterion newCriterion(String name, Set<?> values) {
+        return new InMemoryDynamicQuery.InMemoryCriterion(
+                model -> values.contains(InMemoryModels.getAttribute(model, name)));
+    }
+
+    private static Set<?> toSet(Object values) {
+        if (values instanceof long[]) {
+            return Arrays.stream((long[]) values)
+                    .boxed()
+                    .collect(Collectors.toSet());
+        }
+        if (values instanceof Collection) {
+            return new HashSet<>((Collection<?>) values);
+        }
+        if (values instanceof Object[]) {
+            return new HashSet<>(Arrays.asList((Object[]) values));
+        }
+        throw new UnsupportedOperationException("Unsupported values: " + values);
+    }
+
+    private static class InMemoryDynamicQueryFactory implements DynamicQueryFactory {
+
+        @Override
+        public DynamicQuery forClass(Class<?> clazz) {
+            return new InMemoryDynamicQuery(clazz);
+        }
+
+        @Override
+        public DynamicQuery forClass(Class<?> clazz, ClassLoader classLoader) {
+            return forClass(clazz);
+        }
+
+        @Override
+        public DynamicQuery forClass(Class<?> clazz, String alias) {
+            return forClass(clazz);
+        }
+
+        @Override
+        public DynamicQuery forClass(Class<?> clazz, String alias, ClassLoader classLoader) {
+            return forClass(clazz);
+        }
+    }
+}
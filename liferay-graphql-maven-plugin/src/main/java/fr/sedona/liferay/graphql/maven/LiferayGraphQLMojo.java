@@ -31,6 +31,9 @@ public class LiferayGraphQLMojo extends AbstractMojo {
     @Parameter
     private String outputBatchLoaderDir;
 
+    @Parameter
+    private String outputModelListenerDir;
+
     @Parameter
     private String outputRegistryDir;
 
@@ -64,8 +67,12 @@ public class LiferayGraphQLMojo extends AbstractMojo {
             throw new MojoFailureException("No output directory is specified for BatchLoader");
         }
 
+        if (isInvalidParameter(outputModelListenerDir)) {
+            throw new MojoFailureException("No output directory is specified for ModelListener");
+        }
+
         if (isInvalidParameter(outputRegistryDir)) {
-            throw new MojoFailureException("No output directory is specified for GraphQLRegistry");
+            throw new MojoFailureException("No output directory is specified for DataLoaderRegistryFactory");
         }
 
         if (isInvalidParameter(outputEngineImplDir)) {
@@ -108,7 +115,8 @@ public class LiferayGraphQLMojo extends AbstractMojo {
                         outputResolversDir,
                         outputResolversImplDir,
                         outputResolversImplTestDir,
-                        outputBatchLoaderDir);
+                        outputBatchLoaderDir,
+                        outputModelListenerDir);
             } catch (ClassNotFoundException e) {
                 throw new MojoExecutionException("Could not introspect service or model class " + importableClassService, e);
             }
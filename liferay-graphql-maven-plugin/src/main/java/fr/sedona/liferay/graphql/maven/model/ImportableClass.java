@@ -10,6 +10,7 @@ import org.apache.maven.plugin.logging.Log;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Properties;
@@ -32,15 +33,32 @@ public class ImportableClass {
     private String classNamePlural;
     private String classNamePluralLower;
     private String serviceName;
+    private String primaryKeyName;
+    private String primaryKeyGetter;
+    private boolean projected;
+    private boolean searchable;
+    private List<String> projectionOrder;
+    private List<ImportableRelation> toManyRelations;
+    private String fetchedClassName;
+    private String getOneReturnType;
+    private String resolversImports;
+    private String resolversImplImports;
+    private String resolversImplJavaImports;
+    private String searchMethodDeclaration;
+    private String searchMethodImplementation;
+    private String searchFieldDeclaration;
+    private String searchReference;
     private String outputResolversDir;
     private String outputResolversImplDir;
     private String outputResolversImplTestDir;
     private String outputBatchLoaderDir;
+    private String outputModelListenerDir;
     private String resolversPackagePath;
     private String batchLoaderPackagePath;
     private String getAllMethodName;
     private Method getAllMethod;
     private String getAllMethodLambda;
+    private String getConnectionMethodLambda;
     private String getOneMethodName;
     private boolean getOneByLongId;
     private String getOneParamName;
@@ -73,7 +91,8 @@ public class ImportableClass {
                            String outputResolversDir,
                            String outputResolversImplDir,
                            String outputResolversImplTestDir,
-                           String outputBatchLoaderDir)
+                           String outputBatchLoaderDir,
+                           String outputModelListenerDir)
             throws ClassNotFoundException {
         this.log = log;
         this.fqClassName = fqClassName;
@@ -82,9 +101,13 @@ public class ImportableClass {
         this.outputResolversImplDir = outputResolversImplDir;
         this.outputResolversImplTestDir = outputResolversImplTestDir;
         this.outputBatchLoaderDir = outputBatchLoaderDir;
+        this.outputModelListenerDir = outputModelListenerDir;
 
         prepareInfo();
         prepareLookupInfo(properties);
+        prepareProjectionInfo(properties);
+        prepareSearchInfo(properties);
+        prepareToManyInfo(properties);
         introspectAndPrepare();
         prepareTestClass();
     }
@@ -121,6 +144,13 @@ public class ImportableClass {
                         Constants.PROPS_LIFERAY_OVERWRITE_PREFIX + fqClassName,
                         Boolean.FALSE.toString()));
 
+        primaryKeyName = properties.getProperty(
+                Constants.PROPS_LIFERAY_PRIMARY_KEY_PREFIX + fqClassName,
+                className.substring(0, 1).toLowerCase() + className.substring(1) + "Id");
+        primaryKeyGetter = Constants.METHOD_GET
+                + primaryKeyName.substring(0, 1).toUpperCase()
+                + primaryKeyName.substring(1);
+
         fqModelClassName = properties.getProperty(
                 Constants.PROPS_LIFERAY_MODEL_PREFIX + fqClassName);
         if (fqModelClassName == null || fqModelClassName.isEmpty()) {
@@ -144,10 +174,128 @@ public class ImportableClass {
                 Constants.METHOD_DELETE + className);
     }
 
+    private void prepareProjectionInfo(Properties properties) {
+        projected = Boolean.parseBoolean(
+                properties.getProperty(
+                        Constants.PROPS_LIFERAY_PROJECTION_PREFIX + fqClassName,
+                        Boolean.FALSE.toString()));
+        projectionOrder = Arrays.stream(properties.getProperty(
+                Constants.PROPS_LIFERAY_PROJECTION_ORDER_PREFIX + fqClassName, "").split(","))
+                .map(String::trim)
+                .filter(order -> !order.isEmpty())
+                .collect(Collectors.toList());
+
+        if (!projected) {
+            fetchedClassName = className;
+            getOneReturnType = className;
+            resolversImports = "";
+            resolversImplImports = "";
+            resolversImplJavaImports = "";
+            return;
+        }
+
+        // The query fetchers of a projected model return row views when only columns are selected
+        log.info("Generating projected query fetchers, backed by " + className + "ProjectedBatchLoader");
+        fetchedClassName = "Object";
+        getOneReturnType = "CompletableFuture<Object>";
+        resolversImports = "import java.util.concurrent.CompletableFuture;\n";
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("import com.liferay.portal.kernel.dao.orm.DynamicQuery;\n");
+        if (!projectionOrder.isEmpty()) {
+            sb.append("import com.liferay.portal.kernel.dao.orm.OrderFactoryUtil;\n");
+        }
+        sb.append("import ");
+        sb.append(batchLoaderPackagePath);
+        sb.append(".");
+        sb.append(className);
+        sb.append("ProjectedBatchLoader;\n");
+        sb.append("import fr.sedona.liferay.graphql.projection.ProjectedKey;\n");
+        sb.append("import fr.sedona.liferay.graphql.projection.ProjectedRow;\n");
+        sb.append("import org.dataloader.DataLoader;\n");
+        resolversImplImports = sb.toString();
+        resolversImplJavaImports = "import java.util.Collections;\nimport java.util.concurrent.CompletableFuture;\n";
+    }
+
+    private void prepareSearchInfo(Properties properties) {
+        searchable = Boolean.parseBoolean(
+                properties.getProperty(
+                        Constants.PROPS_LIFERAY_SEARCH_PREFIX + fqClassName,
+                        Boolean.FALSE.toString()));
+        if (!searchable) {
+            searchMethodDeclaration = "";
+            searchMethodImplementation = "";
+            searchFieldDeclaration = "";
+            searchReference = "";
+            return;
+        }
+
+        log.info("Generating search query, backed by the indexer of " + fqClassName);
+        if (!resolversImports.contains("CompletableFuture")) {
+            resolversImports += "import java.util.concurrent.CompletableFuture;\n";
+            resolversImplJavaImports += "import java.util.concurrent.CompletableFuture;\n";
+        }
+        resolversImplImports += "import fr.sedona.liferay.graphql.search.EntitySearcher;\n";
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("    DataFetcher<CompletableFuture<Connection<");
+        sb.append(className);
+        sb.append(">>> getSearch");
+        sb.append(classNamePlural);
+        sb.append("DataFetcher();\n");
+        sb.append("\n");
+        searchMethodDeclaration = sb.toString();
+
+        sb = new StringBuilder();
+        sb.append("    @Override\n");
+        sb.append("    public DataFetcher<CompletableFuture<Connection<");
+        sb.append(className);
+        sb.append(">>> getSearch");
+        sb.append(classNamePlural);
+        sb.append("DataFetcher() {\n");
+        sb.append("        return environment -> entitySearcher.search(environment, ");
+        sb.append(className);
+        sb.append(".class.getName(), ");
+        sb.append(className);
+        sb.append("BatchLoader.KEY);\n");
+        sb.append("    }\n");
+        sb.append("\n");
+        searchMethodImplementation = sb.toString();
+
+        searchFieldDeclaration = "    private EntitySearcher entitySearcher;\n";
+
+        sb = new StringBuilder();
+        sb.append("    @Reference\n");
+        sb.append("    public void setEntitySearcher(EntitySearcher entitySearcher) {\n");
+        sb.append("        this.entitySearcher = entitySearcher;\n");
+        sb.append("    }\n");
+        sb.append("\n");
+        searchReference = sb.toString();
+    }
+
+    private void prepareToManyInfo(Properties properties) {
+        // Relations separated by commas, except the ones between the parentheses of their arguments
+        toManyRelations = new ArrayList<>();
+        for (String value : properties.getProperty(
+                Constants.PROPS_LIFERAY_TO_MANY_PREFIX + fqClassName, "").split(",(?![^(]*\\))")) {
+            if (value.trim().isEmpty()) {
+                continue;
+            }
+
+            ImportableRelation relation = ImportableRelation.parse(value);
+            if (relation == null) {
+                log.warn("Ignoring invalid to-many relation of " + fqClassName + ": " + value);
+            } else {
+                toManyRelations.add(relation);
+            }
+        }
+    }
+
     private void introspectAndPrepare() throws ClassNotFoundException {
         objectClass = Class.forName(fqModelClassName);
         serviceClass = Class.forName(fqServiceName);
         introspectGetAllMethod(serviceClass);
+        generateGetConnectionMethodLambda();
         introspectGetOneMethod(serviceClass);
         introspectCreateMethod(serviceClass);
         introspectUpdateMethod(serviceClass);
@@ -173,9 +321,26 @@ public class ImportableClass {
     }
 
     private void generateGetAllMethodLambda() {
+        if (projected) {
+            generateProjectedGetAllMethodLambda();
+            return;
+        }
+
         StringBuilder sb = new StringBuilder();
-        sb.append("            int start = util.getIntArg(environment, \"start\", 0);\n");
-        sb.append("            int end = util.getIntArg(environment, \"end\", 10);\n");
+        appendRangeArguments(sb);
+        sb.append("\n");
+        sb.append("            if (FilterUtil.hasCriteria(environment)) {\n");
+        sb.append("                return ");
+        sb.append(serviceName);
+        sb.append(".dynamicQuery(\n");
+        sb.append("                        FilterUtil.addCriteria(");
+        sb.append(serviceName);
+        sb.append(".dynamicQuery(), environment, \"");
+        sb.append(primaryKeyName);
+        sb.append("\"),\n");
+        sb.append("                        start,\n");
+        sb.append("                        end);\n");
+        sb.append("            }\n");
         sb.append("\n");
         sb.append("            return ");
         sb.append(serviceName);
@@ -185,6 +350,157 @@ public class ImportableClass {
         getAllMethodLambda = sb.toString();
     }
 
+    private void appendRangeArguments(StringBuilder sb) {
+        // Negative bounds are QueryUtil.ALL_POS for Liferay, which would read every row of the table
+        sb.append("            int start = Math.max(0, util.getIntArg(environment, \"start\", 0));\n");
+        sb.append("            int end = Math.max(start, util.getIntArg(environment, \"end\", 10));\n");
+    }
+
+    private void generateProjectedGetAllMethodLambda() {
+        String projectionName = className + "ProjectedBatchLoader.PROJECTION";
+        StringBuilder sb = new StringBuilder();
+        appendRangeArguments(sb);
+        sb.append("\n");
+        sb.append("            List<String> fields = ");
+        sb.append(projectionName);
+        sb.append(".getFields(environment.getSelectionSet());\n");
+        sb.append("            if (fields == null) {\n");
+        sb.append("                if (FilterUtil.hasCriteria(environment)) {\n");
+        sb.append("                    return Collections.unmodifiableList(");
+        sb.append(serviceName);
+        sb.append(".dynamicQuery(\n");
+        sb.append("                            FilterUtil.addCriteria(");
+        sb.append(serviceName);
+        sb.append(".dynamicQuery(), environment, \"");
+        sb.append(primaryKeyName);
+        sb.append("\"),\n");
+        sb.append("                            start,\n");
+        sb.append("                            end));\n");
+        sb.append("                }\n");
+        sb.append("\n");
+        sb.append("                return Collections.unmodifiableList(");
+        sb.append(serviceName);
+        sb.append(".");
+        sb.append(getAllMethod.getName());
+        sb.append("(start, end));\n");
+        sb.append("            }\n");
+        sb.append("\n");
+        sb.append("            DynamicQuery query = ");
+        sb.append(serviceName);
+        sb.append(".dynamicQuery();\n");
+        sb.append("            query.setProjection(");
+        sb.append(projectionName);
+        sb.append(".toProjectionList(fields));\n");
+        if (projectionOrder.isEmpty()) {
+            sb.append("            FilterUtil.addCriteria(query, environment, \"");
+            sb.append(primaryKeyName);
+            sb.append("\");\n");
+        } else {
+            sb.append("            if (FilterUtil.hasCriteria(environment)) {\n");
+            sb.append("                FilterUtil.addCriteria(query, environment, \"");
+            sb.append(primaryKeyName);
+            sb.append("\");\n");
+            sb.append("            } else {\n");
+            sb.append("                // Same order as the entity finder, so that both return the same page\n");
+            for (String order : projectionOrder) {
+                String[] orderParts = order.split("\\s+");
+                sb.append("                query.addOrder(OrderFactoryUtil.");
+                sb.append(orderParts.length > 1 && "desc".equalsIgnoreCase(orderParts[1]) ? "desc" : "asc");
+                sb.append("(\"");
+                sb.append(orderParts[0]);
+                sb.append("\"));\n");
+            }
+            sb.append("            }\n");
+        }
+        sb.append("            return Collections.unmodifiableList(");
+        sb.append(projectionName);
+        sb.append(".toRows(fields,\n");
+        sb.append("                    ");
+        sb.append(serviceName);
+        sb.append(".dynamicQuery(query, start, end)));");
+        getAllMethodLambda = sb.toString();
+    }
+
+    private void generateGetConnectionMethodLambda() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("            int first = util.getIntArg(environment, \"first\", ConnectionUtil.DEFAULT_PAGE_SIZE);\n");
+        sb.append("            String after = util.getStringArg(environment, \"after\", null);\n");
+        sb.append("\n");
+        if (!projected) {
+            appendGetConnection(sb, "", className + "::" + primaryKeyGetter, serviceName + "::dynamicQuery");
+            getConnectionMethodLambda = sb.toString();
+            return;
+        }
+
+        String projectionName = className + "ProjectedBatchLoader.PROJECTION";
+        sb.append("            List<String> fields = ");
+        sb.append(projectionName);
+        sb.append(".getFields(environment.getSelectionSet(),\n");
+        sb.append("                    \"edges/node\");\n");
+        sb.append("            if (fields == null) {\n");
+        appendGetConnection(sb, "    ",
+                "entity -> ((" + className + ") entity)." + primaryKeyGetter + "()",
+                serviceName + "::dynamicQuery");
+        sb.append("\n");
+        sb.append("            }\n");
+        sb.append("\n");
+        sb.append("            DynamicQuery query = FilterUtil.addFilter(");
+        sb.append(serviceName);
+        sb.append(".dynamicQuery(), environment);\n");
+        sb.append("            query.setProjection(");
+        sb.append(projectionName);
+        sb.append(".toProjectionList(fields));\n");
+        sb.append("            return ConnectionUtil.getConnection(\n");
+        sb.append("                    query,\n");
+        sb.append("                    \"");
+        sb.append(primaryKeyName);
+        sb.append("\",\n");
+        sb.append("                    row -> ((ProjectedRow) row).getLong(\"");
+        sb.append(primaryKeyName);
+        sb.append("\"),\n");
+        sb.append("                    first,\n");
+        sb.append("                    after,\n");
+        sb.append("                    (rangeQuery, start, end) -> Collections.unmodifiableList(");
+        sb.append(projectionName);
+        sb.append("\n");
+        sb.append("                            .toRows(fields, ");
+        sb.append(serviceName);
+        sb.append(".dynamicQuery(rangeQuery, start, end))),\n");
+        sb.append("                    () -> count");
+        sb.append(classNamePlural);
+        sb.append("(environment));");
+        getConnectionMethodLambda = sb.toString();
+    }
+
+    private void appendGetConnection(StringBuilder sb, String indent, String cursorGetter, String rangeFetcher) {
+        sb.append(indent);
+        sb.append("            return ConnectionUtil.getConnection(\n");
+        sb.append(indent);
+        sb.append("                    FilterUtil.addFilter(");
+        sb.append(serviceName);
+        sb.append(".dynamicQuery(), environment),\n");
+        sb.append(indent);
+        sb.append("                    \"");
+        sb.append(primaryKeyName);
+        sb.append("\",\n");
+        sb.append(indent);
+        sb.append("                    ");
+        sb.append(cursorGetter);
+        sb.append(",\n");
+        sb.append(indent);
+        sb.append("                    first,\n");
+        sb.append(indent);
+        sb.append("                    after,\n");
+        sb.append(indent);
+        sb.append("                    ");
+        sb.append(rangeFetcher);
+        sb.append(",\n");
+        sb.append(indent);
+        sb.append("                    () -> count");
+        sb.append(classNamePlural);
+        sb.append("(environment));");
+    }
+
     private void introspectGetOneMethod(Class serviceClass) {
         log.info("Introspecting getOne method with signature " + fqClassName + " " + getOneMethodName + "(long/String)");
         Predicate<Method> predicate = method -> method.getName().startsWith(getOneMethodName)
@@ -212,6 +528,10 @@ public class ImportableClass {
         } else {
             getOneParamName = getOneMethod.getParameters()[0].getName();
         }
+        if (projected) {
+            generateProjectedGetOneMethodLambda();
+            return;
+        }
         StringBuilder sb = new StringBuilder();
         if (getOneByLongId) {
             sb.append("            long ");
@@ -240,6 +560,42 @@ public class ImportableClass {
         getOneMethodLambda = sb.toString();
     }
 
+    private void generateProjectedGetOneMethodLambda() {
+        // The row views are loaded by primary key, through the projected batch loader
+        String projectedLoaderName = className + "ProjectedBatchLoader";
+        StringBuilder sb = new StringBuilder();
+        sb.append("            long ");
+        sb.append(primaryKeyName);
+        sb.append(" = util.getLongArg(environment, \"");
+        sb.append(primaryKeyName);
+        sb.append("\");\n");
+        sb.append("            if (");
+        sb.append(primaryKeyName);
+        sb.append(" <= 0) {\n");
+        sb.append("                return null;\n");
+        sb.append("            }\n");
+        sb.append("\n");
+        sb.append("            List<String> fields = ");
+        sb.append(projectedLoaderName);
+        sb.append(".PROJECTION.getFields(environment.getSelectionSet());\n");
+        sb.append("            if (fields != null) {\n");
+        sb.append("                DataLoader<ProjectedKey, Object> dataLoader = environment.getDataLoader(");
+        sb.append(projectedLoaderName);
+        sb.append(".KEY);\n");
+        sb.append("                return dataLoader.load(new ProjectedKey(");
+        sb.append(primaryKeyName);
+        sb.append(", fields));\n");
+        sb.append("            }\n");
+        sb.append("\n");
+        sb.append("            DataLoader<Long, Object> dataLoader = environment.getDataLoader(");
+        sb.append(className);
+        sb.append("BatchLoader.KEY);\n");
+        sb.append("            return dataLoader.load(");
+        sb.append(primaryKeyName);
+        sb.append(");");
+        getOneMethodLambda = sb.toString();
+    }
+
     private void introspectCreateMethod(Class serviceClass) {
         log.info("Introspecting create method with signature: " + fqClassName + " " + createMethodName + "(...)");
         Predicate<Method> predicate = method -> method.getName().startsWith(createMethodName)
@@ -580,5 +936,11 @@ public class ImportableClass {
                 outputBatchLoaderDir + "/" + className + "BatchLoader.java",
                 overwriteIfFileExists,
                 log);
+        log.info("Generating source file from template: ModelListener.java");
+        HandlebarsUtil.generateFromTemplate("ModelListener.java",
+                handlebarsCtx,
+                outputModelListenerDir + "/" + className + "ModelListener.java",
+                overwriteIfFileExists,
+                log);
     }
 }
@@ -0,0 +1,40 @@
+package fr.sedona.liferay.graphql.maven.model;
+
+import lombok.Data;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@Data
+public class ImportableRelation {
+    // <field>:<child model name>:<loader name>(<argument>: <type>, ...), the arguments being optional
+    private static final Pattern RELATION_PATTERN = Pattern.compile("(\\w+):(\\w+):(\\w+)(?:\\((.*)\\))?");
+
+    private String fieldName;
+    private String childClassName;
+    private String loaderName;
+    private List<String> arguments;
+
+    public static ImportableRelation parse(String value) {
+        Matcher matcher = RELATION_PATTERN.matcher(value.trim());
+        if (!matcher.matches()) {
+            return null;
+        }
+
+        ImportableRelation relation = new ImportableRelation();
+        relation.fieldName = matcher.group(1);
+        relation.childClassName = matcher.group(2);
+        relation.loaderName = matcher.group(3);
+        relation.arguments = matcher.group(4) == null
+                ? Collections.emptyList()
+                : Arrays.stream(matcher.group(4).split(","))
+                .map(String::trim)
+                .filter(argument -> !argument.isEmpty())
+                .collect(Collectors.toList());
+        return relation;
+    }
+}
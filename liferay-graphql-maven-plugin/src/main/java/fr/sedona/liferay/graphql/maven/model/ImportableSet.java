@@ -15,6 +15,11 @@ import java.util.*;
 
 @Data
 public class ImportableSet {
+    // Columns covered by the indexes of the Liferay tables, on which the list queries can be filtered and sorted
+    private static final List<String> FILTER_ATTRIBUTES = Arrays.asList(
+            "classNameId", "classPK", "companyId", "createDate", "groupId", "modifiedDate", "status", "userId", "uuid");
+    private static final List<Class> FILTER_TYPES = Arrays.asList(int.class, long.class, Date.class, String.class);
+
     private Log log;
     private boolean overwriteIfSchemaExists;
     private List<String> ignoredAttributes;
@@ -24,12 +29,21 @@ public class ImportableSet {
     private String outputSchemaDir;
     private String registryReferences;
     private String registryRegisterLoaders;
+    private String registryProjectedReferences;
+    private String registryRegisterProjectedLoaders;
+    private String registryToManyReferences;
+    private String registryRegisterToManyLoaders;
     private String engineImports;
+    private String engineModelImports;
     private String engineReferences;
+    private String enginePropertyWirings;
     private String engineQueries;
     private String engineMutations;
+    private String engineSubscriptions;
+    private String engineToManyWirings;
     private String schemaQueries;
     private String schemaMutations;
+    private String schemaSubscriptions;
     private String schemaTypes;
 
     public ImportableSet(Log log,
@@ -46,6 +60,7 @@ public class ImportableSet {
         this.outputSchemaDir = outputSchemaDir;
 
         prepareIgnoredAttributes(properties);
+        prepareToManyRelations();
         prepareRegistryInfo();
         prepareEngineInfo();
         prepareSchemaInfo();
@@ -67,9 +82,25 @@ public class ImportableSet {
         }
     }
 
+    private void prepareToManyRelations() {
+        // The children must be generated models, so that their resolvers expose the relation data fetcher
+        for (ImportableClass clazz : classes) {
+            clazz.getToManyRelations().removeIf(relation -> {
+                if (findClass(relation.getChildClassName()) != null) {
+                    return false;
+                }
+                log.warn("Ignoring to-many relation " + relation.getFieldName() + " of " + clazz.getFqClassName()
+                        + ": " + relation.getChildClassName() + " is not a generated model");
+                return true;
+            });
+        }
+    }
+
     private void prepareRegistryInfo() {
         prepareRegistryReferences();
         prepareRegistryRegisterLoaders();
+        prepareRegistryProjectedLoaders();
+        prepareRegistryToManyLoaders();
     }
 
     private void prepareRegistryReferences() {
@@ -109,11 +140,81 @@ public class ImportableSet {
         registryRegisterLoaders = registerLoaderSb.toString();
     }
 
+    private void prepareRegistryProjectedLoaders() {
+        // The projected batch loaders are written by hand, with the columns their projection selects
+        StringBuilder referencesSb = new StringBuilder();
+        StringBuilder registerLoaderSb = new StringBuilder();
+        for (ImportableClass clazz : classes) {
+            if (!clazz.isProjected()) {
+                continue;
+            }
+
+            referencesSb.append("    @Reference\n");
+            referencesSb.append("    private ");
+            referencesSb.append(clazz.getClassName());
+            referencesSb.append("ProjectedBatchLoader ");
+            referencesSb.append(clazz.getClassNameLower());
+            referencesSb.append("ProjectedBatchLoader;\n");
+            referencesSb.append("\n");
+
+            if (registerLoaderSb.length() > 0) {
+                registerLoaderSb.append("\n");
+            }
+
+            registerLoaderSb.append("        registerRequestScoped(");
+            registerLoaderSb.append(clazz.getClassName());
+            registerLoaderSb.append("ProjectedBatchLoader.KEY, ");
+            registerLoaderSb.append(clazz.getClassNameLower());
+            registerLoaderSb.append("ProjectedBatchLoader);");
+        }
+        registryProjectedReferences = referencesSb.toString();
+        registryRegisterProjectedLoaders = registerLoaderSb.toString();
+    }
+
+    private void prepareRegistryToManyLoaders() {
+        // The to-many batch loaders are written by hand, a loader being shared by all the parents of its children
+        Set<String> loaderNames = new LinkedHashSet<>();
+        for (ImportableClass clazz : classes) {
+            for (ImportableRelation relation : clazz.getToManyRelations()) {
+                loaderNames.add(relation.getLoaderName());
+            }
+        }
+
+        StringBuilder referencesSb = new StringBuilder();
+        StringBuilder registerLoaderSb = new StringBuilder();
+        for (String loaderName : loaderNames) {
+            String loaderNameLower = loaderName.substring(0, 1).toLowerCase() + loaderName.substring(1);
+            referencesSb.append("    @Reference\n");
+            referencesSb.append("    private ");
+            referencesSb.append(loaderName);
+            referencesSb.append("BatchLoader ");
+            referencesSb.append(loaderNameLower);
+            referencesSb.append("BatchLoader;\n");
+            referencesSb.append("\n");
+
+            if (registerLoaderSb.length() > 0) {
+                registerLoaderSb.append("\n");
+            }
+
+            registerLoaderSb.append("        registerRequestScoped(");
+            registerLoaderSb.append(loaderName);
+            registerLoaderSb.append("BatchLoader.KEY, ");
+            registerLoaderSb.append(loaderNameLower);
+            registerLoaderSb.append("BatchLoader);");
+        }
+        registryToManyReferences = referencesSb.toString();
+        registryRegisterToManyLoaders = registerLoaderSb.toString();
+    }
+
     private void prepareEngineInfo() {
         prepareEngineImports();
+        prepareEngineModelImports();
         prepareEngineReferences();
+        prepareEnginePropertyWirings();
         prepareEngineQueries();
         prepareEngineMutations();
+        prepareEngineSubscriptions();
+        prepareEngineToManyWirings();
     }
 
     private void prepareEngineImports() {
@@ -128,6 +229,16 @@ public class ImportableSet {
         engineImports = importsSb.toString();
     }
 
+    private void prepareEngineModelImports() {
+        StringBuilder importsSb = new StringBuilder();
+        for (ImportableClass clazz : classes) {
+            importsSb.append("import ");
+            importsSb.append(clazz.getFqClassName());
+            importsSb.append(";\n");
+        }
+        engineModelImports = importsSb.toString();
+    }
+
     private void prepareEngineReferences() {
         StringBuilder referencesSb = new StringBuilder();
         for (int i = 0; i < classes.size(); i++) {
@@ -148,6 +259,79 @@ public class ImportableSet {
         engineReferences = referencesSb.toString();
     }
 
+    private void prepareEnginePropertyWirings() {
+        StringBuilder wiringsSb = new StringBuilder();
+        for (ImportableClass clazz : classes) {
+            Map<String, Method> propertyGetters = new LinkedHashMap<>();
+            getTypeAttributes(clazz.getObjectClass()).forEach((attributeName, method) -> {
+                if (isPropertyType(method.getReturnType())) {
+                    propertyGetters.put(attributeName, method);
+                }
+            });
+            if (propertyGetters.isEmpty()) {
+                continue;
+            }
+
+            if (wiringsSb.length() > 0) {
+                wiringsSb.append(",\n");
+            }
+
+            wiringsSb.append("                TypeRuntimeWiring.newTypeWiring(\"");
+            wiringsSb.append(clazz.getClassName());
+            wiringsSb.append("\")\n");
+            propertyGetters.forEach((attributeName, method) -> {
+                wiringsSb.append("                        .dataFetcher(\"");
+                wiringsSb.append(attributeName);
+                wiringsSb.append("\", GetterDataFetcher.of(");
+                wiringsSb.append(clazz.getClassName());
+                wiringsSb.append(".class, ");
+                wiringsSb.append(clazz.getClassName());
+                wiringsSb.append("::");
+                wiringsSb.append(method.getName());
+                wiringsSb.append("))\n");
+            });
+            wiringsSb.append("                        .build()");
+        }
+        enginePropertyWirings = wiringsSb.toString();
+    }
+
+    private boolean isPropertyType(Class type) {
+        // Scalars of the schema, including Date and the localized Map values
+        return GraphQLType.fromClass(type) != null || type == Date.class || type == Map.class;
+    }
+
+    private void prepareEngineToManyWirings() {
+        StringBuilder wiringsSb = new StringBuilder();
+        for (ImportableClass clazz : classes) {
+            if (clazz.getToManyRelations().isEmpty()) {
+                continue;
+            }
+
+            wiringsSb.append("                .type(TypeRuntimeWiring.newTypeWiring(\"");
+            wiringsSb.append(clazz.getClassName());
+            wiringsSb.append("\")\n");
+            for (ImportableRelation relation : clazz.getToManyRelations()) {
+                ImportableClass childClass = findClass(relation.getChildClassName());
+                wiringsSb.append("                        .dataFetcher(\"");
+                wiringsSb.append(relation.getFieldName());
+                wiringsSb.append("\", ");
+                wiringsSb.append(childClass.getClassNameLower());
+                wiringsSb.append("Resolvers.get");
+                wiringsSb.append(relation.getLoaderName());
+                wiringsSb.append("DataFetcher())\n");
+            }
+            wiringsSb.append("                )\n");
+        }
+        engineToManyWirings = wiringsSb.toString();
+    }
+
+    private ImportableClass findClass(String className) {
+        return classes.stream()
+                .filter(clazz -> clazz.getClassName().equals(className))
+                .findFirst()
+                .orElse(null);
+    }
+
     private void prepareEngineQueries() {
         StringBuilder queriesSb = new StringBuilder();
         for (int i = 0; i < classes.size(); i++) {
@@ -169,6 +353,29 @@ public class ImportableSet {
             queriesSb.append(clazz.getClassNamePlural());
             queriesSb.append("DataFetcher())\n");
             queriesSb.append("                        .dataFetcher(\"");
+            queriesSb.append(clazz.getClassNamePluralLower());
+            queriesSb.append("Connection\", ");
+            queriesSb.append(resolversName);
+            queriesSb.append(".get");
+            queriesSb.append(clazz.getClassNamePlural());
+            queriesSb.append("ConnectionDataFetcher())\n");
+            queriesSb.append("                        .dataFetcher(\"");
+            queriesSb.append(clazz.getClassNamePluralLower());
+            queriesSb.append("Count\", ");
+            queriesSb.append(resolversName);
+            queriesSb.append(".get");
+            queriesSb.append(clazz.getClassNamePlural());
+            queriesSb.append("CountDataFetcher())\n");
+            if (clazz.isSearchable()) {
+                queriesSb.append("                        .dataFetcher(\"search");
+                queriesSb.append(clazz.getClassNamePlural());
+                queriesSb.append("\", ");
+                queriesSb.append(resolversName);
+                queriesSb.append(".getSearch");
+                queriesSb.append(clazz.getClassNamePlural());
+                queriesSb.append("DataFetcher())\n");
+            }
+            queriesSb.append("                        .dataFetcher(\"");
             queriesSb.append(clazz.getClassNameLower());
             queriesSb.append("\", ");
             queriesSb.append(resolversName);
@@ -216,6 +423,9 @@ public class ImportableSet {
             mutationsSb.append(".delete");
             mutationsSb.append(clazz.getClassName());
             mutationsSb.append("DataFetcher())\n");
+            appendEngineBulkMutation("create", clazz, resolversName, mutationsSb);
+            appendEngineBulkMutation("update", clazz, resolversName, mutationsSb);
+            appendEngineBulkMutation("delete", clazz, resolversName, mutationsSb);
             mutationsSb.append("                        // END -- Mutation resolvers for class ");
             mutationsSb.append(clazz.getFqClassName());
             mutationsSb.append("\n");
@@ -223,9 +433,47 @@ public class ImportableSet {
         engineMutations = mutationsSb.toString();
     }
 
+    private void appendEngineBulkMutation(String operation, ImportableClass clazz, String resolversName,
+                                          StringBuilder mutationsSb) {
+        mutationsSb.append("                        .dataFetcher(\"");
+        mutationsSb.append(operation);
+        mutationsSb.append(clazz.getClassNamePlural());
+        mutationsSb.append("\", bulkMutationExecutor.bulkDataFetcher(");
+        mutationsSb.append(resolversName);
+        mutationsSb.append(".");
+        mutationsSb.append(operation);
+        mutationsSb.append(clazz.getClassName());
+        mutationsSb.append("DataFetcher()))\n");
+    }
+
+    private void prepareEngineSubscriptions() {
+        StringBuilder subscriptionsSb = new StringBuilder();
+        for (int i = 0; i < classes.size(); i++) {
+            ImportableClass clazz = classes.get(i);
+
+            if (i != 0) {
+                subscriptionsSb.append("\n");
+            }
+
+            subscriptionsSb.append("                        // START -- Subscription resolvers for class ");
+            subscriptionsSb.append(clazz.getFqClassName());
+            subscriptionsSb.append("\n");
+            subscriptionsSb.append("                        .dataFetcher(\"");
+            subscriptionsSb.append(clazz.getClassNameLower());
+            subscriptionsSb.append("Changed\", modelEventPublisher.subscriptionDataFetcher(");
+            subscriptionsSb.append(clazz.getClassName());
+            subscriptionsSb.append("BatchLoader.KEY))\n");
+            subscriptionsSb.append("                        // END -- Subscription resolvers for class ");
+            subscriptionsSb.append(clazz.getFqClassName());
+            subscriptionsSb.append("\n");
+        }
+        engineSubscriptions = subscriptionsSb.toString();
+    }
+
     private void prepareSchemaInfo() {
         prepareSchemaQueries();
         prepareSchemaMutations();
+        prepareSchemaSubscriptions();
         prepareSchemaTypes();
     }
 
@@ -247,12 +495,59 @@ public class ImportableSet {
             queriesSb.append(clazz.getClassNamePluralLower());
             queriesSb.append("(\n");
             queriesSb.append("        start: Int,\n");
-            queriesSb.append("        end: Int\n");
+            queriesSb.append("        end: Int,\n");
+            queriesSb.append("        filter: ");
+            queriesSb.append(clazz.getClassName());
+            queriesSb.append("FilterInput,\n");
+            queriesSb.append("        orderBy: [");
+            queriesSb.append(clazz.getClassName());
+            queriesSb.append("OrderByInput!]\n");
             queriesSb.append("    ): [");
             queriesSb.append(clazz.getClassName());
             queriesSb.append("]\n");
             queriesSb.append("\n");
 
+            // Queries: get page
+            queriesSb.append("    ");
+            queriesSb.append(clazz.getClassNamePluralLower());
+            queriesSb.append("Connection(\n");
+            queriesSb.append("        first: Int,\n");
+            queriesSb.append("        after: String,\n");
+            queriesSb.append("        filter: ");
+            queriesSb.append(clazz.getClassName());
+            queriesSb.append("FilterInput\n");
+            queriesSb.append("    ): ");
+            queriesSb.append(clazz.getClassName());
+            queriesSb.append("Connection\n");
+            queriesSb.append("\n");
+
+            // Queries: count
+            queriesSb.append("    ");
+            queriesSb.append(clazz.getClassNamePluralLower());
+            queriesSb.append("Count(\n");
+            queriesSb.append("        filter: ");
+            queriesSb.append(clazz.getClassName());
+            queriesSb.append("FilterInput\n");
+            queriesSb.append("    ): Long\n");
+            queriesSb.append("\n");
+
+            // Queries: search
+            if (clazz.isSearchable()) {
+                queriesSb.append("    search");
+                queriesSb.append(clazz.getClassNamePlural());
+                queriesSb.append("(\n");
+                queriesSb.append("        groupId: Long,\n");
+                queriesSb.append("        keywords: String,\n");
+                queriesSb.append("        filters: [SearchFilterInput!],\n");
+                queriesSb.append("        sort: [SearchSortInput!],\n");
+                queriesSb.append("        first: Int,\n");
+                queriesSb.append("        after: String\n");
+                queriesSb.append("    ): ");
+                queriesSb.append(clazz.getClassName());
+                queriesSb.append("Connection\n");
+                queriesSb.append("\n");
+            }
+
             // Queries: get one
             queriesSb.append("    ");
             queriesSb.append(clazz.getClassNameLower());
@@ -318,6 +613,14 @@ public class ImportableSet {
             mutationsSb.append("    ): ");
             mutationsSb.append(clazz.getClassName());
             mutationsSb.append("\n");
+            mutationsSb.append("\n");
+
+            // Mutations: bulk
+            appendSchemaBulkMutation("create", "Create", clazz, mutationsSb);
+            mutationsSb.append("\n");
+            appendSchemaBulkMutation("update", "Update", clazz, mutationsSb);
+            mutationsSb.append("\n");
+            appendSchemaBulkMutation("delete", "Delete", clazz, mutationsSb);
 
             mutationsSb.append("    # END -- Mutations for class ");
             mutationsSb.append(clazz.getFqClassName());
@@ -326,6 +629,48 @@ public class ImportableSet {
         schemaMutations = mutationsSb.toString();
     }
 
+    private void prepareSchemaSubscriptions() {
+        StringBuilder subscriptionsSb = new StringBuilder();
+        for (int i = 0; i < classes.size(); i++) {
+            ImportableClass clazz = classes.get(i);
+
+            if (i != 0) {
+                subscriptionsSb.append("\n");
+            }
+
+            subscriptionsSb.append("    # START -- Subscriptions for class ");
+            subscriptionsSb.append(clazz.getFqClassName());
+            subscriptionsSb.append("\n");
+            subscriptionsSb.append("    ");
+            subscriptionsSb.append(clazz.getClassNameLower());
+            subscriptionsSb.append("Changed(\n");
+            subscriptionsSb.append("        groupId: Long,\n");
+            subscriptionsSb.append("        companyId: Long\n");
+            subscriptionsSb.append("    ): ");
+            subscriptionsSb.append(clazz.getClassName());
+            subscriptionsSb.append("Event\n");
+            subscriptionsSb.append("    # END -- Subscriptions for class ");
+            subscriptionsSb.append(clazz.getFqClassName());
+            subscriptionsSb.append("\n");
+        }
+        schemaSubscriptions = subscriptionsSb.toString();
+    }
+
+    private void appendSchemaBulkMutation(String operation, String inputSuffix, ImportableClass clazz,
+                                          StringBuilder mutationsSb) {
+        mutationsSb.append("    ");
+        mutationsSb.append(operation);
+        mutationsSb.append(clazz.getClassNamePlural());
+        mutationsSb.append("(\n");
+        mutationsSb.append("        inputs: [");
+        mutationsSb.append(clazz.getClassName());
+        mutationsSb.append(inputSuffix);
+        mutationsSb.append("Input!]!\n");
+        mutationsSb.append("    ): [");
+        mutationsSb.append(clazz.getClassName());
+        mutationsSb.append("]\n");
+    }
+
     private void prepareSchemaTypes() {
         StringBuilder typesSb = new StringBuilder();
         for (int i = 0; i < classes.size(); i++) {
@@ -344,6 +689,96 @@ public class ImportableSet {
             typesSb.append(clazz.getClassName());
             typesSb.append(" {\n");
             processTypeAttributes(clazz.getObjectClass(), typesSb);
+            processToManyRelations(clazz, typesSb);
+            typesSb.append("}\n");
+
+            // Types: connection
+            typesSb.append("\n");
+            typesSb.append("type ");
+            typesSb.append(clazz.getClassName());
+            typesSb.append("Connection {\n");
+            typesSb.append("    edges: [");
+            typesSb.append(clazz.getClassName());
+            typesSb.append("Edge]\n");
+            typesSb.append("    pageInfo: PageInfo\n");
+            typesSb.append("    totalCount: Long\n");
+            typesSb.append("}\n");
+            typesSb.append("\n");
+            typesSb.append("type ");
+            typesSb.append(clazz.getClassName());
+            typesSb.append("Edge {\n");
+            typesSb.append("    node: ");
+            typesSb.append(clazz.getClassName());
+            typesSb.append("\n");
+            typesSb.append("    cursor: String\n");
+            typesSb.append("}\n");
+
+            // Types: bulk mutation inputs
+            typesSb.append("\n");
+            typesSb.append("input ");
+            typesSb.append(clazz.getClassName());
+            typesSb.append("CreateInput {\n");
+            processInputFields(clazz.getCreateMethod(), typesSb);
+            typesSb.append("}\n");
+            typesSb.append("\n");
+            typesSb.append("input ");
+            typesSb.append(clazz.getClassName());
+            typesSb.append("UpdateInput {\n");
+            processInputFields(clazz.getUpdateMethod(), typesSb);
+            typesSb.append("}\n");
+            typesSb.append("\n");
+            typesSb.append("input ");
+            typesSb.append(clazz.getClassName());
+            typesSb.append("DeleteInput {\n");
+            typesSb.append("    ");
+            typesSb.append(clazz.getClassNameLower());
+            typesSb.append("Id: Long\n");
+            typesSb.append("}\n");
+
+            // Types: filter and order inputs
+            Map<String, Method> filterAttributes = getFilterAttributes(clazz);
+            typesSb.append("\n");
+            typesSb.append("input ");
+            typesSb.append(clazz.getClassName());
+            typesSb.append("FilterInput {\n");
+            filterAttributes.forEach((attributeName, method) -> {
+                typesSb.append("    ");
+                typesSb.append(attributeName);
+                typesSb.append(": ");
+                typesSb.append(getType(method.getReturnType()));
+                typesSb.append("FilterInput\n");
+            });
+            typesSb.append("}\n");
+            typesSb.append("\n");
+            typesSb.append("input ");
+            typesSb.append(clazz.getClassName());
+            typesSb.append("OrderByInput {\n");
+            typesSb.append("    field: ");
+            typesSb.append(clazz.getClassName());
+            typesSb.append("OrderField!\n");
+            typesSb.append("    reverse: Boolean\n");
+            typesSb.append("}\n");
+            typesSb.append("\n");
+            typesSb.append("enum ");
+            typesSb.append(clazz.getClassName());
+            typesSb.append("OrderField {\n");
+            filterAttributes.keySet().forEach(attributeName -> {
+                typesSb.append("    ");
+                typesSb.append(attributeName);
+                typesSb.append("\n");
+            });
+            typesSb.append("}\n");
+
+            // Types: subscription events
+            typesSb.append("\n");
+            typesSb.append("type ");
+            typesSb.append(clazz.getClassName());
+            typesSb.append("Event {\n");
+            typesSb.append("    type: ModelEventType!\n");
+            typesSb.append("    primaryKey: Long!\n");
+            typesSb.append("    entity: ");
+            typesSb.append(clazz.getClassName());
+            typesSb.append("\n");
             typesSb.append("}\n");
 
             typesSb.append("# END -- Type for class ");
@@ -371,6 +806,20 @@ public class ImportableSet {
         }
     }
 
+    private void processInputFields(Method method, StringBuilder sb) {
+        if (method == null) {
+            return;
+        }
+
+        for (Parameter param : method.getParameters()) {
+            sb.append("    ");
+            sb.append(param.getName());
+            sb.append(": ");
+            sb.append(getType(param.getType()));
+            sb.append("\n");
+        }
+    }
+
     private String getType(Class clazz) {
         GraphQLType type = GraphQLType.fromClass(clazz);
         if (type != null) {
@@ -381,7 +830,47 @@ public class ImportableSet {
     }
 
     private void processTypeAttributes(Class objectClass, StringBuilder sb) {
-        Set<String> processedAttributes = new HashSet<>();
+        getTypeAttributes(objectClass).forEach((attributeName, method) -> {
+            sb.append("    ");
+            sb.append(attributeName);
+            sb.append(": ");
+            sb.append(getType(method.getReturnType()));
+            sb.append("\n");
+        });
+    }
+
+    private void processToManyRelations(ImportableClass clazz, StringBuilder sb) {
+        // The children are loaded for a whole batch of parents, then sliced, like the other lists
+        for (ImportableRelation relation : clazz.getToManyRelations()) {
+            sb.append("    ");
+            sb.append(relation.getFieldName());
+            sb.append("(\n");
+            for (String argument : relation.getArguments()) {
+                sb.append("        ");
+                sb.append(argument);
+                sb.append(",\n");
+            }
+            sb.append("        start: Int,\n");
+            sb.append("        end: Int\n");
+            sb.append("    ): [");
+            sb.append(relation.getChildClassName());
+            sb.append("]\n");
+        }
+    }
+
+    private Map<String, Method> getFilterAttributes(ImportableClass clazz) {
+        Map<String, Method> attributes = new LinkedHashMap<>();
+        getTypeAttributes(clazz.getObjectClass()).forEach((attributeName, method) -> {
+            if ((attributeName.equals(clazz.getPrimaryKeyName()) || FILTER_ATTRIBUTES.contains(attributeName))
+                    && FILTER_TYPES.contains(method.getReturnType())) {
+                attributes.put(attributeName, method);
+            }
+        });
+        return attributes;
+    }
+
+    private Map<String, Method> getTypeAttributes(Class objectClass) {
+        Map<String, Method> attributes = new LinkedHashMap<>();
         Arrays.stream(objectClass.getDeclaredMethods())
                 .distinct()
                 .filter(method -> (method.getName().startsWith(Constants.METHOD_GET)
@@ -389,19 +878,8 @@ public class ImportableSet {
                         && method.getParameterCount() == 0
                         && !ignoredAttributes.contains(getAttributeName(method)))
                 .sorted(Comparator.comparing(Method::getName))
-                .forEach(method -> {
-                    String attributeName = getAttributeName(method);
-                    if (processedAttributes.contains(attributeName)) {
-                        return;
-                    }
-
-                    sb.append("    ");
-                    sb.append(attributeName);
-                    sb.append(": ");
-                    sb.append(getType(method.getReturnType()));
-                    sb.append("\n");
-                    processedAttributes.add(attributeName);
-                });
+                .forEach(method -> attributes.putIfAbsent(getAttributeName(method), method));
+        return attributes;
     }
 
     private String getAttributeName(Method method) {
@@ -425,10 +903,10 @@ public class ImportableSet {
                 .resolver(FieldValueResolver.INSTANCE)
                 .build();
 
-        log.info("Generating source file from template: GraphQLRegistry.java");
-        HandlebarsUtil.generateFromTemplate("GraphQLRegistry.java",
+        log.info("Generating source file from template: DataLoaderRegistryFactory.java");
+        HandlebarsUtil.generateFromTemplate("DataLoaderRegistryFactory.java",
                 handlebarsCtx,
-                outputRegistryDir + "/" + "GraphQLRegistry.java",
+                outputRegistryDir + "/" + "DataLoaderRegistryFactory.java",
                 overwriteIfSchemaExists,
                 log);
         log.info("Generating source file from template: GraphQLEngineImpl.java");
@@ -6,11 +6,16 @@ public class Constants {
     public static final String PROPS_LIFERAY_OVERWRITE_PREFIX = "liferay.overwrite.";
     public static final String PROPS_LIFERAY_SERVICE_PREFIX = "liferay.service.";
     public static final String PROPS_LIFERAY_MODEL_PREFIX = "liferay.model.";
+    public static final String PROPS_LIFERAY_PRIMARY_KEY_PREFIX = "liferay.primary-key.";
     public static final String PROPS_LIFERAY_METHOD_CREATE_PREFIX = "liferay.method.create.";
     public static final String PROPS_LIFERAY_METHOD_READ_PREFIX = "liferay.method.read.";
     public static final String PROPS_LIFERAY_METHOD_READ_ALL_PREFIX = "liferay.method.read-all.";
     public static final String PROPS_LIFERAY_METHOD_UPDATE_PREFIX = "liferay.method.update.";
     public static final String PROPS_LIFERAY_METHOD_DELETE_PREFIX = "liferay.method.delete.";
+    public static final String PROPS_LIFERAY_PROJECTION_PREFIX = "liferay.projection.";
+    public static final String PROPS_LIFERAY_PROJECTION_ORDER_PREFIX = "liferay.projection-order.";
+    public static final String PROPS_LIFERAY_SEARCH_PREFIX = "liferay.search.";
+    public static final String PROPS_LIFERAY_TO_MANY_PREFIX = "liferay.to-many.";
 
     public static final String METHOD_GET = "get";
     public static final String METHOD_IS = "is";